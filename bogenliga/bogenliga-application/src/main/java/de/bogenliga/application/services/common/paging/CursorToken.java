@@ -0,0 +1,86 @@
+package de.bogenliga.application.services.common.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import de.bogenliga.application.common.component.paging.PageRequest;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+
+/**
+ * I convert the key of the last entity of a page to an opaque cursor token and back.
+ * <p>
+ * The client requests the next page with the cursor of the previous page, e.g.
+ * "GET /v1/match?limit=100&amp;cursor=NDI". The token is the url safe Base64 encoding of the key values.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see PageDTO
+ */
+public final class CursorToken {
+
+    private static final String KEY_SEPARATOR = ",";
+    private static final String ERROR_INVALID_CURSOR = "The cursor '%s' is invalid";
+
+
+    private CursorToken() {
+        // utility class
+    }
+
+
+    /**
+     * @param key of the last entity of a page
+     *
+     * @return cursor token or null, if the key is empty
+     */
+    public static String encode(final List<Long> key) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+
+        final String value = key.stream().map(String::valueOf).collect(Collectors.joining(KEY_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * @param cursor token of the previous page or null for the first page
+     *
+     * @return key of the last entity of the previous page
+     *
+     * @throws BusinessException if the cursor is not a valid token
+     */
+    public static List<Long> decode(final String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final List<Long> key = new ArrayList<>();
+
+            for (final String keyValue : value.split(KEY_SEPARATOR)) {
+                key.add(Long.valueOf(keyValue));
+            }
+            return key;
+
+        } catch (final IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR, String.format(ERROR_INVALID_CURSOR, cursor),
+                    e);
+        }
+    }
+
+
+    /**
+     * @param cursor token of the previous page or null for the first page
+     * @param limit  maximum number of entities of the page
+     * @param fields field names of the business entity to select or null to select all fields
+     *
+     * @return request of the page
+     */
+    public static PageRequest toPageRequest(final String cursor, final int limit, final List<String> fields) {
+        return new PageRequest(decode(cursor), limit, fields);
+    }
+}
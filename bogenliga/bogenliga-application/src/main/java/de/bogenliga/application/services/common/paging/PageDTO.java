@@ -0,0 +1,54 @@
+package de.bogenliga.application.services.common.paging;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.service.types.DataTransferObject;
+
+/**
+ * I contain a page of a list endpoint and the cursor to request the next page.
+ * <p>
+ * The cursor is null for the last page.
+ *
+ * @param <T> type of the entries
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see CursorToken
+ */
+public class PageDTO<T> implements DataTransferObject {
+    private static final long serialVersionUID = -1563920157735213096L;
+
+    private final List<T> content;
+    private final String nextCursor;
+
+
+    public PageDTO(final List<T> content, final String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+
+    /**
+     * @param page   of data objects
+     * @param mapper to convert a data object to the data transfer object
+     * @param <D>    type of the data objects
+     * @param <T>    type of the data transfer objects
+     *
+     * @return page with the converted entries and the cursor of the next page
+     */
+    public static <D, T> PageDTO<T> of(final Page<D> page, final Function<? super D, T> mapper) {
+        final List<T> content = page.getContent().stream().map(mapper).collect(Collectors.toList());
+        return new PageDTO<>(content, CursorToken.encode(page.getNextKey()));
+    }
+
+
+    public List<T> getContent() {
+        return content;
+    }
+
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
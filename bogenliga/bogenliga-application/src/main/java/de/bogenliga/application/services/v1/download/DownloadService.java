@@ -1,16 +1,13 @@
 package de.bogenliga.application.services.v1.download;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -20,14 +17,18 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import de.bogenliga.application.business.bogenkontrollliste.api.BogenkontrolllisteComponent;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.business.meldezettel.api.MeldezettelComponent;
 import de.bogenliga.application.business.schusszettel.api.SchusszettelComponent;
 import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
 import de.bogenliga.application.business.lizenz.api.LizenzComponent;
+import de.bogenliga.application.business.reportdata.api.ReportDataComponent;
+import de.bogenliga.application.business.reportdata.api.types.ReportVersionDO;
 import de.bogenliga.application.business.rueckennummern.api.RueckennummernComponent;
-import de.bogenliga.application.common.errorhandling.ErrorCode;
-import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.common.cache.DocumentCache;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.validation.Preconditions;
 import de.bogenliga.application.services.v1.setzliste.service.SetzlisteService;
@@ -56,6 +57,9 @@ public class DownloadService implements ServiceFacade {
 
     private final String PRECONDITION_WETTKAMPFID = "WettkampfID cannot be negative";
 
+    // the clients may store the documents, but have to revalidate them with the entity tag
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     /*
      * Business components
      *
@@ -67,6 +71,8 @@ public class DownloadService implements ServiceFacade {
     private final MeldezettelComponent meldezettelComponent;
     private final BogenkontrolllisteComponent bogenkontrolllisteComponent;
     private final RueckennummernComponent rueckennummernComponent;
+    private final ReportDataComponent reportDataComponent;
+    private final DocumentCache documentCache;
 
 
     /**
@@ -77,23 +83,30 @@ public class DownloadService implements ServiceFacade {
                            final SchusszettelComponent schusszettelComponent,
                            final MeldezettelComponent meldezettelComponent,
                            final BogenkontrolllisteComponent bogenkontrolllisteComponent,
-                           final RueckennummernComponent rueckennummernComponent) {
+                           final RueckennummernComponent rueckennummernComponent,
+                           final ReportDataComponent reportDataComponent,
+                           final DocumentCache documentCache) {
         this.lizenzComponent = lizenzComponent;
         this.setzlisteComponent = setzlisteComponent;
         this.schusszettelComponent = schusszettelComponent;
         this.meldezettelComponent = meldezettelComponent;
         this.bogenkontrolllisteComponent = bogenkontrolllisteComponent;
         this.rueckennummernComponent = rueckennummernComponent;
+        this.reportDataComponent = reportDataComponent;
+        this.documentCache = documentCache;
     }
   
     /**
      * returns the Setzliste as pdf file for client download
      * <p>
+     * Missing matches of the Setzliste are generated before the version stamp of the document is determined.
+     *
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param webRequest   to check the entity tag and the last modification of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/setzliste?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -101,25 +114,28 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadSetzlistePdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadSetzlistePdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                               final WebRequest webRequest) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
+        // the version stamp has to include the matches, which are generated for a new Wettkampftag
         SetzlisteService setzlisteService = new SetzlisteService(setzlisteComponent);
         setzlisteService.generateSetzliste(wettkampfid);
 
-        final byte[] fileBloB = setzlisteComponent.getPDFasByteArray(wettkampfid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedResponse(webRequest, "setzliste/" + wettkampfid,
+                reportDataComponent.findSetzlisteVersion(wettkampfid),
+                () -> setzlisteComponent.preparePDF(wettkampfid));
     }
 
     /**
      * returns the Schusszettel as pdf file for client download
      * <p>
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param webRequest   to check the entity tag and the last modification of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/schusszettel?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -127,12 +143,13 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadSchusszettelPdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadSchusszettelPdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                                  final WebRequest webRequest) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        final byte[] fileBloB = schusszettelComponent.getAllSchusszettelPDFasByteArray(wettkampfid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedResponse(webRequest, "schusszettel/" + wettkampfid,
+                reportDataComponent.findSchusszettelVersion(wettkampfid),
+                () -> schusszettelComponent.prepareAllSchusszettelPDF(wettkampfid));
     }
 
     /**
@@ -140,7 +157,7 @@ public class DownloadService implements ServiceFacade {
      * Usage:
      * <pre>{@code Request: GET pdf/schusszettel_matches/{matchId1}/{matchId2}}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -148,22 +165,21 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadSchusszettelFilledPdf(@PathVariable("matchId1") Long matchId1,
+    ResponseEntity<StreamingResponseBody> downloadSchusszettelFilledPdf(@PathVariable("matchId1") Long matchId1,
                                                                       @PathVariable("matchId2") Long matchId2) {
 
-        final byte[] fileBloB = schusszettelComponent.getFilledSchusszettelPDFasByteArray(matchId1, matchId2);
-
-        return generateInputStream(fileBloB);
+        return generateStreamingResponse(schusszettelComponent.prepareFilledSchusszettelPDF(matchId1, matchId2));
     }
 
     /**
      * returns the Meldezettel as pdf file for client download
      * <p>
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param webRequest   to check the entity tag and the last modification of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/meldezettel?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -171,22 +187,24 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadMeldezettelPdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadMeldezettelPdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                                 final WebRequest webRequest) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        final byte[] fileBloB = meldezettelComponent.getMeldezettelPDFasByteArray(wettkampfid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedResponse(webRequest, "meldezettel/" + wettkampfid,
+                reportDataComponent.findMeldezettelVersion(wettkampfid),
+                () -> meldezettelComponent.prepareMeldezettelPDF(wettkampfid));
     }
 
     /**
      * returns the bogenkontrollliste as pdf file for client download
      * <p>
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param webRequest   to check the entity tag and the last modification of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/bogenkontrollliste?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -194,12 +212,13 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadbogenkontrolllistePdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadbogenkontrolllistePdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                                        final WebRequest webRequest) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        final byte[] fileBloB = bogenkontrolllisteComponent.getBogenkontrolllistePDFasByteArray(wettkampfid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedResponse(webRequest, "bogenkontrollliste/" + wettkampfid,
+                reportDataComponent.findBogenkontrolllisteVersion(wettkampfid),
+                () -> bogenkontrolllisteComponent.prepareBogenkontrolllistePDF(wettkampfid));
     }
 
 
@@ -207,10 +226,11 @@ public class DownloadService implements ServiceFacade {
      * return the Rueckennummern of a mannschaft as pdf file for client download
      *
      * @param mannschaftid from GET-request: ID of the mannschaft
+     * @param webRequest   to check the entity tag and the last modification of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/rueckennummern?mannschaftid=x}</pre>
      *
-     * @return pdf as InputStreamRessource
+     * @return pdf as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -218,12 +238,12 @@ public class DownloadService implements ServiceFacade {
                     produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadRueckennummernPdf(@RequestParam("mannschaftid") final long mannschaftid) {
+    ResponseEntity<StreamingResponseBody> downloadRueckennummernPdf(@RequestParam("mannschaftid") final long mannschaftid,
+                                                                    final WebRequest webRequest) {
 
-
-        final byte[] fileBloB = rueckennummernComponent.getMannschaftsRueckennummernPDFasByteArray(mannschaftid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedResponse(webRequest, "rueckennummern/" + mannschaftid,
+                reportDataComponent.findMannschaftVersion(mannschaftid),
+                () -> rueckennummernComponent.prepareMannschaftsRueckennummernPDF(mannschaftid));
     }
 
 
@@ -235,7 +255,7 @@ public class DownloadService implements ServiceFacade {
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/rueckennummer/?mannschaftid=x&dsbmitgliedid=y}</pre>
      *
-     * @return pdf as InputStreamRessource
+     * @return pdf as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -243,55 +263,102 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadRueckennummerPdf(@RequestParam("mannschaftid") final long mannschaftid,
+    ResponseEntity<StreamingResponseBody> downloadRueckennummerPdf(@RequestParam("mannschaftid") final long mannschaftid,
                                                                  @RequestParam("dsbmitgliedid") final long dsbmitgliedid) {
 
-        final byte[] fileBloB = rueckennummernComponent.getRueckennummerPDFasByteArray(mannschaftid,dsbmitgliedid);
+        return generateStreamingResponse(rueckennummernComponent.prepareRueckennummerPDF(mannschaftid, dsbmitgliedid));
+    }
 
-        return generateInputStream(fileBloB);
+    /**
+     * streams the pdf file to the client
+     * <p>
+     * The data of the document is loaded before the response is returned, so a missing or invalid document is
+     * rejected with an error status. Only the writing of the document is streamed: the component writes the document
+     * page by page to the response body, so the document is not buffered in memory. The length is unknown in advance
+     * and the response is sent with chunked transfer encoding.
+     *
+     * @param pdf writes the prepared pdf file to the output stream of the response
+     *
+     * @return PDF as StreamingResponseBody
+     */
+    private ResponseEntity<StreamingResponseBody> generateStreamingResponse(final DocumentWriter pdf) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(pdf::writeTo);
     }
 
+
     /**
-     * generates a pdf file as InputStreamResource from fileBloB
-     * @param fileBloB bytearray from file that the pdf is based on
+     * returns the cached pdf file or generates and caches the pdf file
+     * <p>
+     * The entity tag of the response is the content address of the document id and the version stamp of its data.
+     * If the client has already downloaded the current version, the response is "304 Not Modified" without a body.
+     * A document, which is not cached, is prepared before the response is returned, so errors of its data are not
+     * hidden behind a "200 OK". It is streamed to the client and cached after it has been written completely.
+     *
+     * @param webRequest to check the entity tag and the last modification of the client
+     * @param documentId id of the document, e.g. "setzliste/30"
+     * @param version    stamp of the current data of the document
+     * @param pdf        loads the data of the document and returns the writer of the document
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody or "304 Not Modified"
      */
-    private ResponseEntity<InputStreamResource> generateInputStream(byte[] fileBloB) {
-        final Resource resource = new InputStreamResource(new ByteArrayInputStream(fileBloB));
-        try {
-            InputStream is = new ByteArrayInputStream(fileBloB);
-            long r = resource.contentLength();
+    private ResponseEntity<StreamingResponseBody> generateCachedResponse(final WebRequest webRequest,
+                                                                         final String documentId,
+                                                                         final ReportVersionDO version,
+                                                                         final Supplier<DocumentWriter> pdf) {
+        final String stamp = version.getStamp();
+        final String eTag = "\"" + DocumentCache.address(documentId, stamp) + "\"";
+
+        // sets the ETag and Last-Modified headers of the response
+        if (webRequest.checkNotModified(eTag, version.getLastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        final byte[] cached = documentCache.get(documentId, stamp);
+
+        if (cached != null) {
             return ResponseEntity.ok()
-                    .contentLength(r)
-                    .body(new InputStreamResource(is));
-        } catch (final IOException e) {
-            LOG.error("Error: ", e);
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "PDF download failed", e);
+                    .cacheControl(CACHE_CONTROL)
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .contentLength(cached.length)
+                    .body(outputStream -> outputStream.write(cached));
         }
+
+        final DocumentWriter document = pdf.get();
+
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(outputStream -> {
+                    final DocumentCache.Capture capture = documentCache.capture(documentId, stamp, outputStream);
+                    document.writeTo(capture);
+                    capture.commit();
+                });
     }
+
+
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
             path = "pdf/schuetzenlizenz/{dsbMitgliedId}/{teamId}",
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_WETTKAMPF)
-    public ResponseEntity<InputStreamResource> downloadLizenz(@PathVariable("dsbMitgliedId") final long dsbMitgliedID,
+    public ResponseEntity<StreamingResponseBody> downloadLizenz(@PathVariable("dsbMitgliedId") final long dsbMitgliedID,
     @PathVariable("teamId") final long teamID) {
         LOG.debug("dsbMitgliedID: " + dsbMitgliedID);
         LOG.debug("teamID: " + teamID);
-        final byte[] fileBloB = lizenzComponent.getLizenzPDFasByteArray(dsbMitgliedID, teamID);
-
-        return generateInputStream(fileBloB);
+        return generateStreamingResponse(lizenzComponent.prepareLizenzPDF(dsbMitgliedID, teamID));
     }
 
     /**
      * return the Lizenzen of a mannschaft as pdf file for client download
      *
      * @param mannschaftid from GET-request: ID of the mannschaft
+     * @param webRequest   to check the entity tag and the last modification of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/lizenzen/?mannschaftid=x}</pre>
      *
-     * @return pdf as InputStreamRessource
+     * @return pdf as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @RequestMapping(method = RequestMethod.GET,
@@ -299,11 +366,11 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadLizenzenPdf(@RequestParam("mannschaftid") final long mannschaftid) {
-
-
-        final byte[] fileBloB = lizenzComponent.getMannschaftsLizenzenPDFasByteArray(mannschaftid);
+    ResponseEntity<StreamingResponseBody> downloadLizenzenPdf(@RequestParam("mannschaftid") final long mannschaftid,
+                                                              final WebRequest webRequest) {
 
-        return generateInputStream(fileBloB);
+        return generateCachedResponse(webRequest, "lizenzen/" + mannschaftid,
+                reportDataComponent.findMannschaftVersion(mannschaftid),
+                () -> lizenzComponent.prepareMannschaftsLizenzenPDF(mannschaftid));
     }
 }
@@ -22,17 +22,14 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
-import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
-import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
-import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
-import de.bogenliga.application.business.user.api.UserComponent;
-import de.bogenliga.application.business.user.api.types.UserDO;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
 import de.bogenliga.application.services.v1.dsbmannschaft.mapper.DsbMannschaftDTOMapper;
 import de.bogenliga.application.services.v1.dsbmannschaft.model.DsbMannschaftDTO;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
@@ -73,23 +70,21 @@ public class DsbMannschaftService implements ServiceFacade {
      * dependency injection with {@link Autowired}
      */
     private final DsbMannschaftComponent dsbMannschaftComponent;
-    private final DsbMitgliedComponent dsbMitgliedComponent;
-    private final UserComponent userComponent;
+    private final UserOwnershipResolver userOwnershipResolver;
 
 
     /**
      * Constructor with dependency injection
      *
      * @param dsbMannschaftComponent to handle the database CRUD requests
+     * @param userOwnershipResolver to check the permissions for the Verein of the user
      */
     @Autowired
     public DsbMannschaftService(final DsbMannschaftComponent dsbMannschaftComponent,
-                                final DsbMitgliedComponent dsbMitgliedComponent,
-                                final UserComponent userComponent,
+                                final UserOwnershipResolver userOwnershipResolver,
                                 final JwtTokenProvider jwtTokenProvider) {
         this.dsbMannschaftComponent = dsbMannschaftComponent;
-        this.dsbMitgliedComponent = dsbMitgliedComponent;
-        this.userComponent = userComponent;
+        this.userOwnershipResolver = userOwnershipResolver;
         this.jwtTokenProvider = jwtTokenProvider;
     }
     /**
@@ -389,30 +384,7 @@ public class DsbMannschaftService implements ServiceFacade {
      * @return Does the User have searched permission
      */
     boolean hasSpecificPermission(UserPermission toTest, Long vereinsId) {
-        //default value is: not allowed
-        boolean result = false;
-        //get the current http request from thread
-        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-        if (requestAttributes != null) {
-            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            final HttpServletRequest request = servletRequestAttributes.getRequest();
-            //if a request is present:
-            if(request != null) {
-                //parse the Webtoken and get the UserPermissions of the current User
-                final String jwt = JwtTokenProvider.resolveToken(request);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
-
-                //check if the current Users vereinsId equals the given vereinsId and if the User has
-                //the required Permission (if the permission is specifi
-                Long UserId = jwtTokenProvider.getUserId(jwt);
-                UserDO userDO = this.userComponent.findById(UserId);
-                DsbMitgliedDO dsbMitgliedDO = this.dsbMitgliedComponent.findById(userDO.getDsb_mitglied_id());
-                if((dsbMitgliedDO.getVereinsId() == vereinsId) && userPermissions.contains(toTest)) {
-                    result = true;
-                }
-            }
-        }
-        return result;
+        return userOwnershipResolver.hasSpecificPermission(toTest, OwnershipType.VEREIN, vereinsId);
     }
 
 }
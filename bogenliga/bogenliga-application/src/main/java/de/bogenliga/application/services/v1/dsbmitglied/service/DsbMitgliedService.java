@@ -16,20 +16,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
-import de.bogenliga.application.business.user.api.UserComponent;
-import de.bogenliga.application.business.user.api.types.UserDO;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.paging.CursorToken;
+import de.bogenliga.application.services.common.paging.PageDTO;
 import de.bogenliga.application.services.v1.dsbmitglied.mapper.DsbMitgliedDTOMapper;
 import de.bogenliga.application.services.v1.dsbmitglied.model.DsbMitgliedDTO;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
@@ -75,20 +79,21 @@ public class DsbMitgliedService implements ServiceFacade {
 
     private final JwtTokenProvider jwtTokenProvider;
 
-    private final UserComponent userComponent;
+    private final UserOwnershipResolver userOwnershipResolver;
 
     /**
      * Constructor with dependency injection
      *
      * @param dsbMitgliedComponent to handle the database CRUD requests
+     * @param userOwnershipResolver to check the permissions for the Verein of the user
      */
     @Autowired
     public DsbMitgliedService(final DsbMitgliedComponent dsbMitgliedComponent,
                               final JwtTokenProvider jwtTokenProvider,
-                              final UserComponent userComponent) {
+                              final UserOwnershipResolver userOwnershipResolver) {
         this.dsbMitgliedComponent = dsbMitgliedComponent;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userComponent = userComponent;
+        this.userOwnershipResolver = userOwnershipResolver;
     }
 
 
@@ -122,6 +127,33 @@ public class DsbMitgliedService implements ServiceFacade {
         return dsbMitgliedDOList.stream().map(DsbMitgliedDTOMapper.toDTO).collect(Collectors.toList());
     }
 
+
+    /**
+     * I return a page of all dsbmitglied entries ordered by their id.
+     * <p>
+     * The request with the "limit" parameter uses a keyset pagination. The next page is requested with the
+     * "nextCursor" of the previous page. The optional "fields" are the field names of the business entity to select.
+     * <p>
+     * Usage:
+     * <pre>{@code Request: GET /v1/dsbmitglied?limit=100&cursor=NDI&fields=dsbMitgliedVorname}</pre>
+     *
+     * @param limit  maximum number of entries of the page
+     * @param cursor of the previous page or null for the first page
+     * @param fields to select or null to select all fields
+     *
+     * @return page of {@link DsbMitgliedDTO} as JSON
+     */
+    @RequestMapping(method = RequestMethod.GET,
+            params = "limit",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DSBMITGLIEDER)
+    public PageDTO<DsbMitgliedDTO> findAll(@RequestParam("limit") final int limit,
+                                           @RequestParam(value = "cursor", required = false) final String cursor,
+                                           @RequestParam(value = "fields", required = false) final List<String> fields) {
+        final PageRequest pageRequest = CursorToken.toPageRequest(cursor, limit, fields);
+        return PageDTO.of(dsbMitgliedComponent.pageAll(pageRequest), DsbMitgliedDTOMapper.toDTO);
+    }
+
     @RequestMapping(value = "/team/{id}", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DSBMITGLIEDER)
     public List<DsbMitgliedDTO> findAllByTeamId(@PathVariable("id") final long id) {
@@ -361,30 +393,7 @@ public class DsbMitgliedService implements ServiceFacade {
      * @return Does the User have searched permission
      */
     boolean hasSpecificPermission(UserPermission toTest, Long vereinsId) {
-        //default value is: not allowed
-        boolean result = false;
-        //get the current http request from thread
-        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-        if (requestAttributes != null) {
-            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            final HttpServletRequest request = servletRequestAttributes.getRequest();
-            //if a request is present:
-            if(request != null) {
-                //parse the Webtoken and get the UserPermissions of the current User
-                final String jwt = JwtTokenProvider.resolveToken(request);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
-
-                //check if the current Users vereinsId equals the given vereinsId and if the User has
-                //the required Permission (if the permission is specifi
-                Long UserId = jwtTokenProvider.getUserId(jwt);
-                UserDO userDO = this.userComponent.findById(UserId);
-                DsbMitgliedDO dsbMitgliedDO = this.dsbMitgliedComponent.findById(userDO.getDsb_mitglied_id());
-                if((dsbMitgliedDO.getVereinsId() == vereinsId) && userPermissions.contains(toTest)) {
-                    result = true;
-                }
-            }
-        }
-        return result;
+        return userOwnershipResolver.hasSpecificPermission(toTest, OwnershipType.VEREIN, vereinsId);
     }
 
 }
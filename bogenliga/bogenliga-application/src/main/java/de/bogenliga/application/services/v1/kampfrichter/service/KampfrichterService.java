@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -23,9 +24,12 @@ import de.bogenliga.application.business.kampfrichter.api.KampfrichterComponent;
 import de.bogenliga.application.business.kampfrichter.api.types.KampfrichterDO;
 import de.bogenliga.application.business.user.api.UserComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.paging.CursorToken;
+import de.bogenliga.application.services.common.paging.PageDTO;
 import de.bogenliga.application.services.v1.kampfrichter.model.KampfrichterDTO;
 import de.bogenliga.application.services.v1.kampfrichter.mapper.KampfrichterDTOMapper;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
@@ -82,6 +86,33 @@ public class KampfrichterService implements ServiceFacade {
     }
 
 
+    /**
+     * I return a page of all kampfrichter entries ordered by the user id and the wettkampf id.
+     * <p>
+     * The request with the "limit" parameter uses a keyset pagination. The next page is requested with the
+     * "nextCursor" of the previous page. The optional "fields" are the field names of the business entity to select.
+     * <p>
+     * Usage:
+     * <pre>{@code Request: GET /v1/kampfrichter?limit=100&cursor=NDI&fields=kampfrichterLeitend}</pre>
+     *
+     * @param limit  maximum number of entries of the page
+     * @param cursor of the previous page or null for the first page
+     * @param fields to select or null to select all fields
+     *
+     * @return page of {@link KampfrichterDTO} as JSON
+     */
+    @RequestMapping(method = RequestMethod.GET,
+            params = "limit",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PageDTO<KampfrichterDTO> findAll(@RequestParam("limit") final int limit,
+                                            @RequestParam(value = "cursor", required = false) final String cursor,
+                                            @RequestParam(value = "fields", required = false) final List<String> fields) {
+        final PageRequest pageRequest = CursorToken.toPageRequest(cursor, limit, fields);
+        return PageDTO.of(kampfrichterComponent.pageAll(pageRequest), KampfrichterDTOMapper.toDTO);
+    }
+
+
     @RequestMapping(method = RequestMethod.POST,
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
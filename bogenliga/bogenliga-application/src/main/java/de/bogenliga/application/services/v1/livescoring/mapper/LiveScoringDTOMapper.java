@@ -0,0 +1,23 @@
+package de.bogenliga.application.services.v1.livescoring.mapper;
+
+import java.util.function.Function;
+import de.bogenliga.application.services.v1.livescoring.model.LiveScoringTabletSessionDTO;
+import de.bogenliga.application.services.v1.tabletsession.model.TabletSessionDTO;
+
+/**
+ * I map the changes of a Wettkampf to the events of the live scoring.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class LiveScoringDTOMapper {
+    private LiveScoringDTOMapper() {
+    }
+
+
+    /**
+     * Map {@link TabletSessionDTO} to {@link LiveScoringTabletSessionDTO} without the access token
+     */
+    public static final Function<TabletSessionDTO, LiveScoringTabletSessionDTO> toTabletSessionDTO =
+            tabDTO -> new LiveScoringTabletSessionDTO(tabDTO.getWettkampfId(), tabDTO.getScheibennummer(),
+                    tabDTO.getSatznummer(), tabDTO.getMatchId(), tabDTO.getOtherMatchId(), tabDTO.isActive());
+}
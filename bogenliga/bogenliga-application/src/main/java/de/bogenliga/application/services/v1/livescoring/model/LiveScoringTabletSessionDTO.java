@@ -0,0 +1,96 @@
+package de.bogenliga.application.services.v1.livescoring.model;
+
+import de.bogenliga.application.common.service.types.DataTransferObject;
+
+/**
+ * I am the state of a tablet, which is sent to the spectators of a Wettkampf.
+ * <p>
+ * I do not contain the access token of the tablet, because the live scoring stream is public.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class LiveScoringTabletSessionDTO implements DataTransferObject {
+    private static final long serialVersionUID = 6072516387524960411L;
+
+    private Long wettkampfId;
+    private Long scheibennummer;
+    private Long satznummer;
+    private Long matchId;
+    private Long otherMatchId;
+    private boolean active;
+
+
+    public LiveScoringTabletSessionDTO(final Long wettkampfId, final Long scheibennummer, final Long satznummer,
+                                       final Long matchId, final Long otherMatchId, final boolean active) {
+        this.wettkampfId = wettkampfId;
+        this.scheibennummer = scheibennummer;
+        this.satznummer = satznummer;
+        this.matchId = matchId;
+        this.otherMatchId = otherMatchId;
+        this.active = active;
+    }
+
+
+    public LiveScoringTabletSessionDTO() {
+    }
+
+
+    public Long getWettkampfId() {
+        return wettkampfId;
+    }
+
+
+    public void setWettkampfId(final Long wettkampfId) {
+        this.wettkampfId = wettkampfId;
+    }
+
+
+    public Long getScheibennummer() {
+        return scheibennummer;
+    }
+
+
+    public void setScheibennummer(final Long scheibennummer) {
+        this.scheibennummer = scheibennummer;
+    }
+
+
+    public Long getSatznummer() {
+        return satznummer;
+    }
+
+
+    public void setSatznummer(final Long satznummer) {
+        this.satznummer = satznummer;
+    }
+
+
+    public Long getMatchId() {
+        return matchId;
+    }
+
+
+    public void setMatchId(final Long matchId) {
+        this.matchId = matchId;
+    }
+
+
+    public Long getOtherMatchId() {
+        return otherMatchId;
+    }
+
+
+    public void setOtherMatchId(final Long otherMatchId) {
+        this.otherMatchId = otherMatchId;
+    }
+
+
+    public boolean isActive() {
+        return active;
+    }
+
+
+    public void setActive(final boolean active) {
+        this.active = active;
+    }
+}
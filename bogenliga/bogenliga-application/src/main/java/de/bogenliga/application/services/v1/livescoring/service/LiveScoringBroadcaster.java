@@ -0,0 +1,204 @@
+package de.bogenliga.application.services.v1.livescoring.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.services.v1.livescoring.mapper.LiveScoringDTOMapper;
+import de.bogenliga.application.services.v1.livescoring.model.LiveScoringTabletSessionDTO;
+import de.bogenliga.application.services.v1.match.model.MatchDTO;
+import de.bogenliga.application.services.v1.tabletsession.model.TabletSessionDTO;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWorkSynchronization;
+
+/**
+ * I send the changes of a Wettkampf to all subscribed clients as server-sent events.
+ * <p>
+ * The tablets and spectators subscribe once per Wettkampf instead of polling the match and tablet session
+ * resources. Changes are sent after the commit of the current unit of work, so the clients never receive changes,
+ * which are rolled back. The events are sent in order by a single dispatcher thread, so a slow client never blocks the
+ * request, which has changed the Wettkampf. If the bounded queue of the dispatcher is full, the event is dropped and
+ * the clients have to reload the current state.
+ * <p>
+ * Events:
+ * <ul>
+ * <li>{@value #EVENT_MATCH}: the saved matches with their passen</li>
+ * <li>{@value #EVENT_TABLET_SESSION}: the updated tablet session as {@link LiveScoringTabletSessionDTO} without the
+ * access token of the tablet</li>
+ * </ul>
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class LiveScoringBroadcaster {
+
+    public static final String EVENT_MATCH = "match";
+    public static final String EVENT_TABLET_SESSION = "tabletsession";
+
+    private static final Logger LOG = LoggerFactory.getLogger(LiveScoringBroadcaster.class);
+
+    // the clients reconnect automatically after the timeout
+    private static final long TIMEOUT = 30L * 60L * 1000L;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executorService;
+    private final Map<Long, Set<SseEmitter>> emittersByWettkampfId = new ConcurrentHashMap<>();
+
+
+    @Autowired
+    public LiveScoringBroadcaster(final ObjectMapper objectMapper) {
+        this(objectMapper, createExecutorService());
+    }
+
+
+    LiveScoringBroadcaster(final ObjectMapper objectMapper, final ExecutorService executorService) {
+        this.objectMapper = objectMapper;
+        this.executorService = executorService;
+    }
+
+
+    /**
+     * I subscribe a client to the changes of the Wettkampf.
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return emitter of the events, which is removed on completion, timeout or error
+     */
+    public SseEmitter subscribe(final long wettkampfId) {
+        final SseEmitter emitter = createEmitter();
+
+        emittersByWettkampfId.compute(wettkampfId, (id, emitters) -> {
+            final Set<SseEmitter> subscribed = emitters == null ? new CopyOnWriteArraySet<>() : emitters;
+            subscribed.add(emitter);
+            return subscribed;
+        });
+
+        final Runnable unsubscribe = () -> unsubscribe(wettkampfId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        LOG.debug("Subscribed to live scoring of Wettkampf '{}'", wettkampfId);
+        return emitter;
+    }
+
+
+    /**
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return number of subscribed clients
+     */
+    public int getSubscriberCount(final long wettkampfId) {
+        final Set<SseEmitter> emitters = emittersByWettkampfId.get(wettkampfId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+
+    public void publishMatches(final long wettkampfId, final List<MatchDTO> matchDTOs) {
+        publish(wettkampfId, EVENT_MATCH, matchDTOs);
+    }
+
+
+    public void publishTabletSession(final long wettkampfId, final TabletSessionDTO tabletSessionDTO) {
+        // the stream is public, the access token must not be sent
+        publish(wettkampfId, EVENT_TABLET_SESSION, LiveScoringDTOMapper.toTabletSessionDTO.apply(tabletSessionDTO));
+    }
+
+
+    /**
+     * Stop the dispatcher thread on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(TIMEOUT);
+    }
+
+
+    private void publish(final long wettkampfId, final String eventName, final Object payload) {
+        UnitOfWorkSynchronization.afterCommit(() -> dispatch(wettkampfId, eventName, payload));
+    }
+
+
+    private void dispatch(final long wettkampfId, final String eventName, final Object payload) {
+        try {
+            executorService.execute(() -> send(wettkampfId, eventName, payload));
+        } catch (final RejectedExecutionException e) {
+            LOG.warn("Drop '{}' event of Wettkampf '{}', the live scoring queue is full", eventName, wettkampfId);
+        }
+    }
+
+
+    private void send(final long wettkampfId, final String eventName, final Object payload) {
+        final Set<SseEmitter> emitters = emittersByWettkampfId.get(wettkampfId);
+
+        if (emitters == null) {
+            return;
+        }
+
+        // serialize the payload once for all clients
+        final String data = toJson(payload);
+
+        for (final SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(data));
+            } catch (final IOException | IllegalStateException e) {
+                LOG.debug("Remove disconnected live scoring client of Wettkampf '{}': {}", wettkampfId,
+                        e.getMessage());
+                unsubscribe(wettkampfId, emitter);
+                // release the async request of the client
+                emitter.completeWithError(e);
+            }
+        }
+
+        LOG.debug("Sent '{}' event to {} clients of Wettkampf '{}'", eventName, emitters.size(), wettkampfId);
+    }
+
+
+    private String toJson(final Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (final JsonProcessingException e) {
+            throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, "Live scoring event could not be serialized", e);
+        }
+    }
+
+
+    private void unsubscribe(final long wettkampfId, final SseEmitter emitter) {
+        emittersByWettkampfId.computeIfPresent(wettkampfId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+
+    private static ExecutorService createExecutorService() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "live-scoring-dispatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,68 @@
+package de.bogenliga.application.services.v1.livescoring.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import de.bogenliga.application.common.service.ServiceFacade;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * I am the REST resource of the live scoring.
+ * <p>
+ * Clients subscribe to a Wettkampf and receive the saved matches and updated tablet sessions as server-sent events.
+ * The current state is loaded once with the match and tablet session resources.
+ * <p>
+ * The browser {@code EventSource} cannot send the {@code Authorization} header, so the stream is public like the other
+ * resources for spectators, see {@code WebSecurityConfiguration}. Spectators connect without a token:
+ * <pre>{@code new EventSource("/v1/livescoring/" + wettkampfId)}</pre>
+ * Therefore the events must only contain data for spectators: the saved matches with their passen and the state of
+ * the tablets without their access tokens, see {@link LiveScoringBroadcaster}.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see LiveScoringBroadcaster
+ */
+@RestController
+@CrossOrigin
+@RequestMapping("v1/livescoring")
+public class LiveScoringService implements ServiceFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(LiveScoringService.class);
+
+    private static final String PRECONDITION_MSG_WETTKAMPF_ID = "Wettkampf ID must not be negative";
+
+    private final LiveScoringBroadcaster liveScoringBroadcaster;
+
+
+    @Autowired
+    public LiveScoringService(final LiveScoringBroadcaster liveScoringBroadcaster) {
+        this.liveScoringBroadcaster = liveScoringBroadcaster;
+    }
+
+
+    /**
+     * I subscribe to the changes of a Wettkampf.
+     * <p>
+     * Usage:
+     * <pre>{@code Request: GET /v1/livescoring/<wettkampfId>}</pre>
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return stream of server-sent events
+     */
+    @RequestMapping(value = "{wettkampfId}",
+            method = RequestMethod.GET,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable("wettkampfId") final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        LOG.debug("Receive 'subscribe' request with wettkampfId '{}'", wettkampfId);
+
+        return liveScoringBroadcaster.subscribe(wettkampfId);
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -26,9 +27,12 @@ import de.bogenliga.application.business.mannschaftsmitglied.api.Mannschaftsmitg
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.user.api.UserComponent;
 import de.bogenliga.application.business.user.api.types.UserDO;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.paging.CursorToken;
+import de.bogenliga.application.services.common.paging.PageDTO;
 import de.bogenliga.application.services.v1.mannschaftsmitglied.mapper.MannschaftsMitgliedDTOMapper;
 import de.bogenliga.application.services.v1.mannschaftsmitglied.model.MannschaftsMitgliedDTO;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
@@ -88,6 +92,33 @@ public class MannschaftsMitgliedService implements ServiceFacade {
     }
 
 
+    /**
+     * I return a page of all mannschaftsmitglied entries ordered by their id.
+     * <p>
+     * The request with the "limit" parameter uses a keyset pagination. The next page is requested with the
+     * "nextCursor" of the previous page. The optional "fields" are the field names of the business entity to select.
+     * <p>
+     * Usage:
+     * <pre>{@code Request: GET /v1/mannschaftsmitglied?limit=100&cursor=NDI&fields=dsbMitgliedId}</pre>
+     *
+     * @param limit  maximum number of entries of the page
+     * @param cursor of the previous page or null for the first page
+     * @param fields to select or null to select all fields
+     *
+     * @return page of {@link MannschaftsMitgliedDTO} as JSON
+     */
+    @RequestMapping(method = RequestMethod.GET,
+            params = "limit",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PageDTO<MannschaftsMitgliedDTO> findAll(@RequestParam("limit") final int limit,
+                                                   @RequestParam(value = "cursor", required = false) final String cursor,
+                                                   @RequestParam(value = "fields", required = false) final List<String> fields) {
+        final PageRequest pageRequest = CursorToken.toPageRequest(cursor, limit, fields);
+        return PageDTO.of(mannschaftsMitgliedComponent.pageAll(pageRequest), MannschaftsMitgliedDTOMapper.toDTO);
+    }
+
+
     @RequestMapping(value = "{teamId}",
             method = RequestMethod.GET,
             produces = MediaType.APPLICATION_JSON_VALUE)
@@ -4,20 +4,21 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.Principal;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.naming.NoPermissionException;
 import javax.servlet.http.HttpServletRequest;
-import de.bogenliga.application.business.user.api.UserComponent;
-import de.bogenliga.application.business.user.api.types.UserDO;
-import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
-import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
-import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.component.paging.PageRequest;
+import de.bogenliga.application.services.common.paging.CursorToken;
+import de.bogenliga.application.services.common.paging.PageDTO;
+import de.bogenliga.application.services.v1.livescoring.service.LiveScoringBroadcaster;
 import de.bogenliga.application.services.v1.veranstaltung.model.VeranstaltungDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +34,7 @@ import de.bogenliga.application.business.mannschaftsmitglied.api.Mannschaftsmitg
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.match.api.types.MatchGridDO;
 import de.bogenliga.application.business.match.impl.business.MatchComponentImpl;
 import de.bogenliga.application.business.passe.api.PasseComponent;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
@@ -42,6 +44,8 @@ import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampftyp.api.WettkampfTypComponent;
 import de.bogenliga.application.business.wettkampftyp.api.types.WettkampfTypDO;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.service.types.DataTransferObject;
@@ -55,9 +59,12 @@ import de.bogenliga.application.services.v1.wettkampf.model.WettkampfDTO;
 import de.bogenliga.application.services.v1.wettkampftyp.mapper.WettkampfTypDTOMapper;
 import de.bogenliga.application.services.v1.wettkampftyp.model.WettkampfTypDTO;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 
 /**
  * @author Dominik Halle, HSRT MKI SS19 - SWT2
@@ -100,6 +107,8 @@ public class MatchService implements ServiceFacade {
     private static final String SERVICE_SAVE_MATCHES = "saveMatches";
     private static final String SERVICE_CREATE = "create";
     private static final String SERVICE_NEXT = "next";
+    private static final String SERVICE_PAIR = "pair";
+    private static final String SERVICE_PAIR_TO_FOLLOW = "pairToFollow";
     private static final String SERVICE_UPDATE = "update";
 
     private static final String CHECKED_PARAM_MATCH_ID = "Match ID";
@@ -116,16 +125,16 @@ public class MatchService implements ServiceFacade {
     private final DsbMannschaftComponent mannschaftComponent;
     private final VereinComponent vereinComponent;
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserComponent userComponent;
-    private final VeranstaltungComponent veranstaltungsComponent;
+    private final UserOwnershipResolver userOwnershipResolver;
+    private final LiveScoringBroadcaster liveScoringBroadcaster;
 
 
     /**
      * Constructor with dependency injection
      * @param matchComponent to handle the database CRUD requests
      * @param jwtTokenProvider
-     * @param userComponent
-     * @param veranstaltungsComponent
+     * @param userOwnershipResolver to check the permissions for the Wettkaempfe and Veranstaltungen of the user
+     * @param liveScoringBroadcaster to send the saved matches to the subscribed clients
      */
     @Autowired
     public MatchService(final MatchComponent matchComponent,
@@ -136,8 +145,8 @@ public class MatchService implements ServiceFacade {
                         final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
                         final WettkampfTypComponent wettkampftypComponent,
                         JwtTokenProvider jwtTokenProvider,
-                        UserComponent userComponent,
-                        VeranstaltungComponent veranstaltungsComponent) {
+                        UserOwnershipResolver userOwnershipResolver,
+                        final LiveScoringBroadcaster liveScoringBroadcaster) {
         this.matchComponent = matchComponent;
         this.passeComponent = passeComponent;
         this.vereinComponent = vereinComponent;
@@ -146,8 +155,8 @@ public class MatchService implements ServiceFacade {
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
         this.wettkampfTypComponent = wettkampftypComponent;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userComponent = userComponent;
-        this.veranstaltungsComponent = veranstaltungsComponent;
+        this.userOwnershipResolver = userOwnershipResolver;
+        this.liveScoringBroadcaster = liveScoringBroadcaster;
     }
 
 
@@ -161,6 +170,33 @@ public class MatchService implements ServiceFacade {
     }
 
 
+    /**
+     * I return a page of all matches ordered by their id.
+     * <p>
+     * The request with the "limit" parameter uses a keyset pagination. The next page is requested with the
+     * "nextCursor" of the previous page. The optional "fields" are the field names of the business entity to select.
+     * <p>
+     * Usage:
+     * <pre>{@code Request: GET /v1/match?limit=100&cursor=NDI&fields=wettkampfId}</pre>
+     *
+     * @param limit  maximum number of entries of the page
+     * @param cursor of the previous page or null for the first page
+     * @param fields to select or null to select all fields
+     *
+     * @return page of {@link MatchDTO} as JSON
+     */
+    @RequestMapping(method = RequestMethod.GET,
+            params = "limit",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PageDTO<MatchDTO> findAll(@RequestParam("limit") final int limit,
+                                     @RequestParam(value = "cursor", required = false) final String cursor,
+                                     @RequestParam(value = "fields", required = false) final List<String> fields) {
+        final PageRequest pageRequest = CursorToken.toPageRequest(cursor, limit, fields);
+        return PageDTO.of(matchComponent.pageAll(pageRequest), MatchDTOMapper.toDTO);
+    }
+
+
     @RequestMapping(value = "{id}",
             method = RequestMethod.GET,
             produces = MediaType.APPLICATION_JSON_VALUE)
@@ -201,6 +237,7 @@ public class MatchService implements ServiceFacade {
             method = RequestMethod.GET,
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_WETTKAMPF)
+    @UnitOfWork
     public List<MatchDTO> findMatchesByIds(@PathVariable("matchId1") Long matchId1,
                                            @PathVariable("matchId2") Long matchId2) {
         this.checkMatchId(matchId1);
@@ -278,20 +315,29 @@ public class MatchService implements ServiceFacade {
             method = RequestMethod.GET,
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_WETTKAMPF)
-
+    @UnitOfWork
     public List<MatchDTO> findInklNameby(@PathVariable("id") Long wettkampfid) {
 
         this.checkMatchId(wettkampfid);
 
         List<MatchDO> wettkampfMatches = matchComponent.findByWettkampfId(wettkampfid);
 
+        // load all mannschaften of the wettkampf with one query, their names are filled with the vereine
+        final Map<Long, DsbMannschaftDO> mannschaften = mannschaftComponent.findByIds(wettkampfMatches.stream()
+                .map(MatchDO::getMannschaftId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(DsbMannschaftDO::getId, Function.identity(), (first, second) -> first));
+
         final List<MatchDTO> matchDTOs = new ArrayList<>();
 
         for( MatchDO einmatch: wettkampfMatches) {
             MatchDTO matchDTO = MatchDTOMapper.toDTO.apply(einmatch);
-            DsbMannschaftDO mannschaftDO = mannschaftComponent.findById(matchDTO.getMannschaftId());
-            VereinDO vereinDO = vereinComponent.findById(mannschaftDO.getVereinId());
-            matchDTO.setMannschaftName(vereinDO.getName() + '-' + mannschaftDO.getNummer());
+            DsbMannschaftDO mannschaftDO = mannschaften.get(matchDTO.getMannschaftId());
+            if (mannschaftDO == null) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                        String.format("No result for Mannschaft ID '%s'", matchDTO.getMannschaftId()));
+            }
+            matchDTO.setMannschaftName(getMannschaftName(mannschaftDO));
             matchDTOs.add(matchDTO);
         }
 
@@ -299,9 +345,28 @@ public class MatchService implements ServiceFacade {
     }
 
 
+    /**
+     * The name of a mannschaft is filled as "Verein_Name Mannschaft_Nummer" and shown as "Verein_Name-Mannschaft_Nummer",
+     * a mannschaft without verein is shown without a name
+     */
+    private static String getMannschaftName(DsbMannschaftDO mannschaftDO) {
+        final String name = mannschaftDO.getName();
+        final String nummer = " " + mannschaftDO.getNummer();
+
+        if (name == null) {
+            return "";
+        } else if (name.endsWith(nummer)) {
+            return name.substring(0, name.length() - nummer.length()) + '-' + mannschaftDO.getNummer();
+        } else {
+            return name;
+        }
+    }
+
+
     /**
      * Save the two edited matches from the findMatchesByIds service.
      * Also save the passe objects in case there are some.
+     * Both matches and all passe objects are saved in one transaction.
      *
      * @param matchDTOs
      *
@@ -312,6 +377,7 @@ public class MatchService implements ServiceFacade {
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresOnePermissions(perm = {UserPermission.CAN_MODIFY_WETTKAMPF, UserPermission.CAN_MODIFY_MY_WETTKAMPF,UserPermission.CAN_MODIFY_MY_VERANSTALTUNG})
+    @UnitOfWork
     public List<MatchDTO> saveMatches(@RequestBody final List<MatchDTO> matchDTOs, final Principal principal) throws NoPermissionException {
         if(this.hasPermission(UserPermission.CAN_MODIFY_WETTKAMPF) ||
                 this.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,matchDTOs.get(0).getWettkampfId())){
@@ -347,22 +413,29 @@ public class MatchService implements ServiceFacade {
 
         final long userId = UserProvider.getCurrentUserId(principal);
 
-        saveMatch(matchDTO1, userId);
-        saveMatch(matchDTO2, userId);
+        matchComponent.updateAll(Arrays.asList(MatchDTOMapper.toDO.apply(matchDTO1),
+                MatchDTOMapper.toDO.apply(matchDTO2)), userId);
+
+        final List<PasseDO> passeDOs = new ArrayList<>();
+        passeDOs.addAll(getPassen(matchDTO1));
+        passeDOs.addAll(getPassen(matchDTO2));
+
+        updateEingesetzt(passeDOs, userId);
+        passeComponent.createOrUpdate(passeDOs, userId);
+
+        // the clients receive the matches after the commit of the unit of work
+        liveScoringBroadcaster.publishMatches(matchDTO1.getWettkampfId(), matchDTOs);
 
         return matchDTOs;
     }
 
 
     /**
-     * Save a single match, also creates/updates related passe objects.
+     * Maps the passen of a single match. New passen without complete primary key are skipped.
      * @param matchDTO
-     * @param userId
+     * @return passen to create or update
      */
-    private void saveMatch(MatchDTO matchDTO, Long userId) throws NoPermissionException {
-
-        MatchDO matchDO = MatchDTOMapper.toDO.apply(matchDTO);
-        matchComponent.update(matchDO, userId);
+    private List<PasseDO> getPassen(MatchDTO matchDTO) {
         List<MannschaftsmitgliedDO> mannschaftsmitgliedDOS =
                 mannschaftsmitgliedComponent.findAllSchuetzeInTeam(matchDTO.getMannschaftId());
 
@@ -374,52 +447,57 @@ public class MatchService implements ServiceFacade {
         Preconditions.checkArgument(mannschaftsmitgliedDOS.size() >= 3,
                 String.format(ERR_SIZE_TEMPLATE, SERVICE_SAVE_MATCHES, "mannschaftsmitgliedDOS", 3));
 
+        List<PasseDO> passeDOs = new ArrayList<>();
         for (PasseDTO passeDTO : matchDTO.getPassen()) {
-            createOrUpdatePasse(passeDTO, userId, mannschaftsmitgliedDOS);
+            checkPreconditions(passeDTO, passeConditionErrors);
+            passeDTO.setDsbMitgliedId(getMemberIdFor(passeDTO, mannschaftsmitgliedDOS));
+            Preconditions.checkArgument(passeDTO.getDsbMitgliedId() != null,
+                    String.format(ERR_NOT_NULL_TEMPLATE, "getPassen", "dsbMitgliedId"));
+
+            PasseDO passeDO = PasseDTOMapper.toDO.apply(passeDTO);
+            // erst prüfen ob alle relevanten Parameter befüllt sind pk-passe!!
+            if (passeDO.getId() != null || hasPrimaryKey(passeDO)) {
+                passeDOs.add(passeDO);
+            } else {
+                LOG.debug("Skipping passe without primary key");
+            }
         }
+        return passeDOs;
+    }
+
+
+    private static boolean hasPrimaryKey(PasseDO passeDO) {
+        return passeDO.getPasseDsbMitgliedId() != null &&
+                passeDO.getPasseMannschaftId() != null &&
+                passeDO.getPasseWettkampfId() != null &&
+                passeDO.getPasseMatchNr() != null &&
+                passeDO.getPasseLfdnr() != null;
     }
 
 
     /**
-     * Checks whether the given passe object already exists.
-     * If so, just update it, if not, create it.
-     * @param passeDTO
+     * Counts the wettkampf for every schuetze, whose first passe in the wettkampf is created.
+     * Runs before the passen are created and checks every schuetze only once.
+     * @param passeDOs
      * @param userId
-     * @param mannschaftsmitgliedDOS
      */
-    private void createOrUpdatePasse(PasseDTO passeDTO, Long userId,
-                                     List<MannschaftsmitgliedDO> mannschaftsmitgliedDOS) throws NoPermissionException {
+    private void updateEingesetzt(List<PasseDO> passeDOs, Long userId) {
+        final Set<Long> checkedMitgliedIds = new HashSet<>();
 
-        checkPreconditions(passeDTO, passeConditionErrors);
-        passeDTO.setDsbMitgliedId(getMemberIdFor(passeDTO, mannschaftsmitgliedDOS));
-        Preconditions.checkArgument(passeDTO.getDsbMitgliedId() != null,
-                String.format(ERR_NOT_NULL_TEMPLATE, "createOrUpdatePasse", "dsbMitgliedId"));
+        for (PasseDO passeDO : passeDOs) {
+            if (passeDO.getId() == null && checkedMitgliedIds.add(passeDO.getPasseDsbMitgliedId())) {
+                List<PasseDO> passen = passeComponent.findByWettkampfIdAndMitgliedId(passeDO.getPasseWettkampfId(),
+                        passeDO.getPasseDsbMitgliedId());
+                if (passen.isEmpty()) {
+                    MannschaftsmitgliedDO mitglied = mannschaftsmitgliedComponent.findByMemberAndTeamId(
+                            passeDO.getPasseMannschaftId(), passeDO.getPasseDsbMitgliedId());
 
-        PasseDO passeDO = PasseDTOMapper.toDO.apply(passeDTO);
-        if (passeExists(passeDO)) {
-            LOG.debug("updatePasse: " + passeDO.getId().toString());
+                    mitglied.setDsbMitgliedEingesetzt(mitglied.getDsbMitgliedEingesetzt() + 1);
 
-            passeComponent.update(passeDO, userId);
-        } else {
-            LOG.debug("Trying to create passe");
-            // erst prüfen ob alle relevanten Parameter befüllt sind pk-passe!!
-            if(passeDO.getPasseDsbMitgliedId()!=null &&
-                    passeDO.getPasseMannschaftId()!= null &&
-                    passeDO.getPasseWettkampfId()!= null&&
-                    passeDO.getPasseMatchNr() !=null &&
-                    passeDO.getPasseLfdnr() !=null) {
-                List<PasseDO> passen=passeComponent.findByWettkampfIdAndMitgliedId(passeDO.getPasseWettkampfId(),passeDO.getPasseDsbMitgliedId());
-                if(passen.isEmpty()){
-                    MannschaftsmitgliedDO mitglied=mannschaftsmitgliedComponent.findByMemberAndTeamId(passeDO.getPasseMannschaftId(),passeDO.getPasseDsbMitgliedId());
-
-                    mitglied.setDsbMitgliedEingesetzt(mitglied.getDsbMitgliedEingesetzt()+1);
-
-                    mannschaftsmitgliedComponent.update(mitglied,userId);
+                    mannschaftsmitgliedComponent.update(mitglied, userId);
                 }
-                passeComponent.create(passeDO, userId);
             }
         }
-
     }
 
 
@@ -496,31 +574,11 @@ public class MatchService implements ServiceFacade {
 
         Preconditions.checkNotNull(matchId,
                 String.format(ERR_NOT_NULL_TEMPLATE, SERVICE_NEXT, CHECKED_PARAM_MATCH_ID));
-        MatchDO matchDO = matchComponent.findById(matchId);
-        if(this.hasPermission(UserPermission.CAN_MODIFY_WETTKAMPF) ||
-                this.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,matchDO.getWettkampfId())){
+        MatchGridDO matchGrid = this.getMatchGrid(matchId, SERVICE_PAIR);
 
-        }else{
-            throw new NoPermissionException();
-        }
-        this.log(MatchDTOMapper.toDTO.apply(matchDO), SERVICE_CREATE);
-
-        List<MatchDO> wettkampfMatches = matchComponent.findByWettkampfId(matchDO.getWettkampfId());
-        Long scheibeNr = matchDO.getScheibenNummer();
         // Scheibennummern: [(1,2),(3,4),(5,6),(7,8)]
-        // Die gruppierten Nummern bilden eine Begegnung aus 2 Matches, die hier ermittelt werden
-        // ist das gegebene match an Scheibe nr 2 -> andere Scheibe ist nr 1, und andersherum, daher das überprüfen auf gerade/ungerade
-        Long otherScheibeNr = scheibeNr % 2 == 0 ? scheibeNr - 1 : scheibeNr + 1;
-        return wettkampfMatches
-                .stream()
-                .filter(mDO -> mDO.getNr() == matchDO.getNr())
-                .filter(mDO -> (
-                        scheibeNr.equals(mDO.getScheibenNummer())
-                                || otherScheibeNr.equals(mDO.getScheibenNummer())
-                ))
-                .sorted(Comparator.comparing(MatchDO::getScheibenNummer))
-                .map(MatchDO::getId)
-                .collect(Collectors.toList());
+        // Die gruppierten Nummern bilden eine Begegnung aus 2 Matches, die im Grid des Wettkampfs nachgeschlagen werden
+        return matchGrid.getBegegnungMatchIds(matchGrid.getNr(matchId), matchGrid.getScheibenNummer(matchId));
     }
 
     /**
@@ -538,45 +596,27 @@ public class MatchService implements ServiceFacade {
     public List<Long> pairToFollow(@PathVariable final Long matchId) throws NoPermissionException {
         Preconditions.checkNotNull(matchId,
                 String.format(ERR_NOT_NULL_TEMPLATE, SERVICE_NEXT, CHECKED_PARAM_MATCH_ID));
-        MatchDO matchDO = matchComponent.findById(matchId);
-        if(this.hasPermission(UserPermission.CAN_MODIFY_WETTKAMPF) ||
-                this.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,matchDO.getWettkampfId())){
+        MatchGridDO matchGrid = this.getMatchGrid(matchId, SERVICE_PAIR_TO_FOLLOW);
+        long matchNr = matchGrid.getNr(matchId);
+        long scheibeNr = matchGrid.getScheibenNummer(matchId);
 
-        }else{
-            throw new NoPermissionException();
-        }
-        this.log(MatchDTOMapper.toDTO.apply(matchDO), SERVICE_CREATE);
-        Long scheibeNr = 0L;
-        if(matchDO.getScheibenNummer() <7 ){
+        if(scheibeNr <7 ){
             //wir suchen im gleichen Match die nächste Scheiben-Paarung (+2)
-            scheibeNr = matchDO.getScheibenNummer() +2;
+            scheibeNr = scheibeNr +2;
         }
-        else if(matchDO.getScheibenNummer() >=7 && matchDO.getNr() <7){
+        else if(matchNr <7){
             //wir sind noch nicht am Ende des Wettkampfs angekommen
             scheibeNr = 1L;
-            matchDO.setNr(matchDO.getNr()+1);
+            matchNr = matchNr + 1;
         }
         else {
             //Ende - wir geben null zurück
             return null;
         }
 
-        List<MatchDO> wettkampfMatches = matchComponent.findByWettkampfId(matchDO.getWettkampfId());
         // Scheibennummern: [(1,2),(3,4),(5,6),(7,8)]
-        // Die gruppierten Nummern bilden eine Begegnung aus 2 Matches, die hier ermittelt werden
-        // ist das gegebene match an Scheibe nr 2 -> andere Scheibe ist nr 1, und andersherum, daher das überprüfen auf gerade/ungerade
-        final Long ersteScheibe = scheibeNr;
-        final Long otherScheibeNr = scheibeNr % 2 == 0 ? scheibeNr - 1 : scheibeNr + 1;
-        return wettkampfMatches
-                .stream()
-                .filter(mDO -> mDO.getNr() == matchDO.getNr())
-                .filter(mDO -> (
-                        ersteScheibe.equals(mDO.getScheibenNummer())
-                                || otherScheibeNr.equals(mDO.getScheibenNummer())
-                ))
-                .sorted(Comparator.comparing(MatchDO::getScheibenNummer))
-                .map(MatchDO::getId)
-                .collect(Collectors.toList());
+        // Die gruppierten Nummern bilden eine Begegnung aus 2 Matches, die im Grid des Wettkampfs nachgeschlagen werden
+        return matchGrid.getBegegnungMatchIds(matchNr, scheibeNr);
     }
 
 
@@ -595,31 +635,33 @@ public class MatchService implements ServiceFacade {
     public List<Long> next(@PathVariable final Long matchId) throws NoPermissionException {
         Preconditions.checkNotNull(matchId,
                 String.format(ERR_NOT_NULL_TEMPLATE, SERVICE_NEXT, CHECKED_PARAM_MATCH_ID));
-        MatchDO matchDO = matchComponent.findById(matchId);
+        MatchGridDO matchGrid = this.getMatchGrid(matchId, SERVICE_NEXT);
+
+        // Scheibennummern: [(1,2),(3,4),(5,6),(7,8)]
+        // Die gruppierten Nummern bilden eine Begegnung aus 2 Matches, die im Grid des Wettkampfs nachgeschlagen werden
+        return matchGrid.getBegegnungMatchIds(matchGrid.getNr(matchId) + 1, matchGrid.getScheibenNummer(matchId));
+    }
+
+
+    /**
+     * Returns the cached match grid of the Wettkampf of the given match and checks the permission for the Wettkampf.
+     *
+     * @param matchId
+     * @param fromService: name of the service
+     *
+     * @return grid of all matches of the Wettkampf
+     */
+    private MatchGridDO getMatchGrid(Long matchId, String fromService) throws NoPermissionException {
+        MatchGridDO matchGrid = matchComponent.findMatchGridByMatchId(matchId);
         if(this.hasPermission(UserPermission.CAN_MODIFY_WETTKAMPF) ||
-                this.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,matchDO.getWettkampfId())){
+                this.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,matchGrid.getWettkampfId())){
 
         }else{
             throw new NoPermissionException();
         }
-        this.log(MatchDTOMapper.toDTO.apply(matchDO), SERVICE_CREATE);
-
-        List<MatchDO> wettkampfMatches = matchComponent.findByWettkampfId(matchDO.getWettkampfId());
-        Long scheibeNr = matchDO.getScheibenNummer();
-        // Scheibennummern: [(1,2),(3,4),(5,6),(7,8)]
-        // Die gruppierten Nummern bilden eine Begegnung aus 2 Matches, die hier ermittelt werden
-        // ist das gegebene match an Scheibe nr 2 -> andere Scheibe ist nr 1, und andersherum, daher das überprüfen auf gerade/ungerade
-        Long otherScheibeNr = scheibeNr % 2 == 0 ? scheibeNr - 1 : scheibeNr + 1;
-        return wettkampfMatches
-                .stream()
-                .filter(mDO -> mDO.getNr() == matchDO.getNr() + 1)
-                .filter(mDO -> (
-                        scheibeNr.equals(mDO.getScheibenNummer())
-                                || otherScheibeNr.equals(mDO.getScheibenNummer())
-                ))
-                .sorted(Comparator.comparing(MatchDO::getScheibenNummer))
-                .map(MatchDO::getId)
-                .collect(Collectors.toList());
+        LOG.debug("Receive '{}' request for match with ID '{}' of Wettkampf '{}'",
+                fromService, matchId, matchGrid.getWettkampfId());
+        return matchGrid;
     }
 
 
@@ -666,6 +708,7 @@ public class MatchService implements ServiceFacade {
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresOnePermissions(perm = {UserPermission.CAN_MODIFY_WETTKAMPF, UserPermission.CAN_MODIFY_MY_WETTKAMPF, UserPermission.CAN_MODIFY_MY_WETTKAMPF,UserPermission.CAN_MODIFY_MY_VERANSTALTUNG})
+    @UnitOfWork
     public VeranstaltungDTO createInitialMatchesWT0(@RequestBody final VeranstaltungDTO veranstaltungDTO, final Principal principal) {
         Preconditions.checkNotNull(principal,
                 String.format(ERR_NOT_NULL_TEMPLATE, SERVICE_CREATE, CHECKED_PARAM_PRINCIPAL));
@@ -798,17 +841,6 @@ public class MatchService implements ServiceFacade {
     }
 
 
-    private boolean passeExists(PasseDO passeDO) {
-        boolean exists = false;
-        if (passeDO.getId() != null) { // Is passeDO id already null
-            // If no, check if it actually exists in DB
-            PasseDO queriedPasseDO = passeComponent.findById(passeDO.getId());
-            exists = queriedPasseDO != null;
-        }
-        return exists;
-    }
-
-
     /**
      * Logs received data when request arrives
      *
@@ -864,66 +896,24 @@ public class MatchService implements ServiceFacade {
      * @return Does the User have searched permission
      */
     boolean hasSpecificPermissionWettkampf(UserPermission toTest, Long wettkampfid) {
-        //default value is: not allowed
-        boolean result = false;
-        //get the current http request from thread
-        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-        if (requestAttributes != null) {
-            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            final HttpServletRequest request = servletRequestAttributes.getRequest();
-            //if a request is present:
-            if(request != null) {
-                //parse the Webtoken and get the UserPermissions of the current User
-                final String jwt = JwtTokenProvider.resolveToken(request);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
-
-                //check if the current Users vereinsId equals the given vereinsId and if the User has
-                //the required Permission (if the permission is specifi
-                Long UserId = jwtTokenProvider.getUserId(jwt);
-                UserDO userDO = this.userComponent.findById(UserId);
-                ArrayList<Integer> temp = new ArrayList<>();
-                for(WettkampfDO wettkampfDO :this.wettkampfComponent.findByAusrichter(UserId)){
-                    if(wettkampfDO.getId() ==wettkampfid){
-                        result = true;
-                    }
-                }
-
-            }
-        }
-        return result;
+        return userOwnershipResolver.hasSpecificPermission(toTest, OwnershipType.WETTKAMPF, wettkampfid);
     }
-    boolean hasSpecificPermissionLiga(UserPermission toTest, Long wettkampfid) {
-        //default value is: not allowed
-        boolean result = false;
-        //get the current http request from thread
-        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-        if (requestAttributes != null) {
-            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            final HttpServletRequest request = servletRequestAttributes.getRequest();
-            //if a request is present:
-            if(request != null) {
-                //parse the Webtoken and get the UserPermissions of the current User
-                final String jwt = JwtTokenProvider.resolveToken(request);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
 
-                //check if the current Users vereinsId equals the given vereinsId and if the User has
-                //the required Permission (if the permission is specifi
-                Long UserId = jwtTokenProvider.getUserId(jwt);
-                UserDO userDO = this.userComponent.findById(UserId);
-                ArrayList<Integer> temp = new ArrayList<>();
-                for(VeranstaltungDO veranstaltungDO :this.veranstaltungsComponent.findByLigaleiterId(UserId)){
-                    if(veranstaltungDO.getVeranstaltungID() == wettkampfid){
-                        result = true;
-                    }
-                }
-
-            }
-        }
-        return result;
+    /**
+     * method to check, if the user is the Ligaleiter of the Veranstaltung of the Wettkampf
+     * @param toTest The permission whose existence is getting checked
+     * @return Does the User have searched permission
+     */
+    boolean hasSpecificPermissionLiga(UserPermission toTest, Long wettkampfid) {
+        return userOwnershipResolver.hasSpecificPermission(toTest, OwnershipType.VERANSTALTUNG_WETTKAMPF, wettkampfid);
     }
+
+    /**
+     * method to check, if the user is the Ausrichter of the Wettkampf or the Ligaleiter of its Veranstaltung and
+     * has the matching "MY_*" permission
+     */
     boolean hasSpecificPermission(UserPermission wettkampfPerm, UserPermission ligaPerm,long wettkampfid){
-        long ligaid = 0;
-        return this.hasSpecificPermissionWettkampf(wettkampfPerm,wettkampfid)|| this.hasSpecificPermissionLiga(ligaPerm,ligaid);
+        return this.hasSpecificPermissionWettkampf(wettkampfPerm,wettkampfid)|| this.hasSpecificPermissionLiga(ligaPerm,wettkampfid);
     }
 
 
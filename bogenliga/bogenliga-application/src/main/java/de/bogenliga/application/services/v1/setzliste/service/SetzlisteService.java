@@ -1,9 +1,12 @@
 package de.bogenliga.application.services.v1.setzliste.service;
 
+import java.security.Principal;
 import java.util.ArrayList;
 import java.util.List;
 
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
+import de.bogenliga.application.springconfiguration.security.permissions.RequiresOwnership;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
 import org.slf4j.Logger;
@@ -18,9 +21,11 @@ import org.springframework.web.bind.annotation.RestController;
 import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.common.service.ServiceFacade;
+import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
 import de.bogenliga.application.services.v1.match.mapper.MatchDTOMapper;
 import de.bogenliga.application.services.v1.match.model.MatchDTO;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 
 /**
  * This is a rest resource that generates the matches.
@@ -80,4 +85,36 @@ public class SetzlisteService implements ServiceFacade {
         }
         return matchDTOList;
     }
+
+
+    /**
+     * Creates the matches of all Wettkampftage and the tablet sessions of a Veranstaltung in one transaction.
+     * A Ligaleiter can only generate the Veranstaltung, which is led by the Ligaleiter.
+     * The Wettkampftage without a known Setzliste are skipped and generated by a later call.
+     * @param veranstaltungid id of the selected Veranstaltung
+     * @param principal authenticated user
+     * @return ArrayList of the created MatchDTOs
+     */
+    @RequestMapping(method = RequestMethod.POST,
+            path = "/generate/veranstaltung")
+    @RequiresOnePermissions(perm = {UserPermission.CAN_MODIFY_WETTKAMPF, UserPermission.CAN_MODIFY_MY_VERANSTALTUNG})
+    @RequiresOwnership(value = UserPermission.CAN_MODIFY_MY_VERANSTALTUNG, type = OwnershipType.VERANSTALTUNG,
+            unless = UserPermission.CAN_MODIFY_WETTKAMPF, parameter = 0)
+    @UnitOfWork
+    public @ResponseBody
+    List<MatchDTO> generateVeranstaltung(@RequestParam("veranstaltungid") final long veranstaltungid,
+                                         final Principal principal) {
+        Preconditions.checkArgument(veranstaltungid > 0, "veranstaltungid needs to be higher than 0");
+
+        final long userId = UserProvider.getCurrentUserId(principal);
+
+        List<MatchDO> matchDOList = this.setzlisteComponent.generateMatchesByVeranstaltung(veranstaltungid, userId);
+        LOG.debug("{} Matches der Veranstaltung {} erstellt", matchDOList.size(), veranstaltungid);
+
+        ArrayList<MatchDTO> matchDTOList = new ArrayList<>();
+        for (MatchDO matchDO : matchDOList) {
+            matchDTOList.add(MatchDTOMapper.toDTO.apply(matchDO));
+        }
+        return matchDTOList;
+    }
 }
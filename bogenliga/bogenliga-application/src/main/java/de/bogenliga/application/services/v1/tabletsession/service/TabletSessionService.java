@@ -13,13 +13,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import de.bogenliga.application.business.match.api.MatchComponent;
-import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.match.api.types.MatchGridDO;
 import de.bogenliga.application.business.tabletsession.api.TabletSessionComponent;
 import de.bogenliga.application.business.tabletsession.api.types.TabletSessionDO;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
+import de.bogenliga.application.services.common.paging.CursorToken;
+import de.bogenliga.application.services.common.paging.PageDTO;
+import de.bogenliga.application.services.v1.livescoring.service.LiveScoringBroadcaster;
 import de.bogenliga.application.services.v1.tabletsession.mapper.TabletSessionDTOMapper;
 import de.bogenliga.application.services.v1.tabletsession.model.TabletSessionDTO;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
@@ -39,17 +44,22 @@ public class TabletSessionService implements ServiceFacade {
 
     private final MatchComponent matchComponent;
 
+    private final LiveScoringBroadcaster liveScoringBroadcaster;
+
 
     /**
      * Constructor with dependency injection
      *
      * @param tabletSessionComponent to handle the database CRUD requests
+     * @param liveScoringBroadcaster to send the updated tablet sessions to the subscribed clients
      */
     @Autowired
     public TabletSessionService(final TabletSessionComponent tabletSessionComponent,
-                                final MatchComponent matchComponent) {
+                                final MatchComponent matchComponent,
+                                final LiveScoringBroadcaster liveScoringBroadcaster) {
         this.tabletSessionComponent = tabletSessionComponent;
         this.matchComponent = matchComponent;
+        this.liveScoringBroadcaster = liveScoringBroadcaster;
     }
     @RequestMapping(method = RequestMethod.GET,
             produces = MediaType.APPLICATION_JSON_VALUE)
@@ -60,6 +70,33 @@ public class TabletSessionService implements ServiceFacade {
     }
 
 
+    /**
+     * I return a page of all tablet sessions ordered by the wettkampf id and the scheibennummer.
+     * <p>
+     * The request with the "limit" parameter uses a keyset pagination. The next page is requested with the
+     * "nextCursor" of the previous page. The optional "fields" are the field names of the business entity to select.
+     * <p>
+     * Usage:
+     * <pre>{@code Request: GET /v1/tabletsession?limit=100&cursor=NDI&fields=matchId}</pre>
+     *
+     * @param limit  maximum number of entries of the page
+     * @param cursor of the previous page or null for the first page
+     * @param fields to select or null to select all fields
+     *
+     * @return page of {@link TabletSessionDTO} as JSON
+     */
+    @RequestMapping(method = RequestMethod.GET,
+            params = "limit",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_WETTKAMPF)
+    public PageDTO<TabletSessionDTO> findAll(@RequestParam("limit") final int limit,
+                                             @RequestParam(value = "cursor", required = false) final String cursor,
+                                             @RequestParam(value = "fields", required = false) final List<String> fields) {
+        final PageRequest pageRequest = CursorToken.toPageRequest(cursor, limit, fields);
+        return PageDTO.of(tabletSessionComponent.pageAll(pageRequest), TabletSessionDTOMapper.toDTO);
+    }
+
+
 
     @RequestMapping(value = "/{wettkampfId}/{scheibenNr}",
             method = RequestMethod.GET,
@@ -104,23 +141,30 @@ public class TabletSessionService implements ServiceFacade {
     }
 
 
+    /**
+     * Sets the ids of both matches of the current Begegnung at the scheibe of the tablet session.
+     * The matches are looked up in the cached match grid of the Wettkampf.
+     *
+     * @param tsDTO tablet session
+     */
     private void addMatchIds(TabletSessionDTO tsDTO) {
-        List<MatchDO> relatedMatches = tabletSessionComponent.getRelatedMatches(
-                TabletSessionDTOMapper.toDO.apply(tsDTO),
-                matchComponent
-        );
-        if (relatedMatches.size() == 2) {
-            MatchDO first;
-            MatchDO second;
-            first = relatedMatches.get(0);
-            second = relatedMatches.get(1);
-            if (first.getScheibenNummer().equals(tsDTO.getScheibennummer())) {
-                tsDTO.setMatchId(first.getId());
-                tsDTO.setOtherMatchId(second.getId());
-            } else {
-                tsDTO.setMatchId(second.getId());
-                tsDTO.setOtherMatchId(first.getId());
-            }
+        MatchGridDO matchGrid;
+        Long matchNr;
+        if (tsDTO.getMatchId() != null) {
+            matchGrid = matchComponent.findMatchGridByMatchId(tsDTO.getMatchId());
+            matchNr = matchGrid.getNr(tsDTO.getMatchId());
+        } else {
+            matchGrid = matchComponent.findMatchGridByWettkampfId(tsDTO.getWettkampfId());
+            matchNr = 1L;
+        }
+
+        Long scheibenNr = tsDTO.getScheibennummer();
+
+        Long matchId = matchGrid.getMatchId(matchNr, scheibenNr);
+        Long otherMatchId = matchGrid.getMatchId(matchNr, MatchGridDO.getOtherScheibenNummer(scheibenNr));
+        if (matchId != null && otherMatchId != null) {
+            tsDTO.setMatchId(matchId);
+            tsDTO.setOtherMatchId(otherMatchId);
         }
     }
 
@@ -137,6 +181,7 @@ public class TabletSessionService implements ServiceFacade {
         this.log(tabletSessionDTO, "update");
         TabletSessionDTO tabDTO = TabletSessionDTOMapper.toDTO.apply(tabletSessionDO);
         this.addMatchIds(tabDTO);
+        liveScoringBroadcaster.publishTabletSession(tabDTO.getWettkampfId(), tabDTO);
         return tabDTO;
     }
 
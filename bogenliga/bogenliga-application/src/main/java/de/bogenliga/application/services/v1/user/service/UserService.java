@@ -175,6 +175,22 @@ public class UserService implements ServiceFacade {
     }
 
 
+    /**
+     * I sign out the user. The token of the request is revoked and is not accepted anymore.
+     *
+     * @param requestWithHeader with the token of the user
+     */
+    @RequestMapping(
+            method = RequestMethod.POST,
+            value = "/signout")
+    public void logout(final HttpServletRequest requestWithHeader) {
+        final String jwt = JwtTokenProvider.resolveToken(requestWithHeader);
+        Preconditions.checkNotNullOrEmpty(jwt, "Token must not be null or empty");
+
+        jwtTokenProvider.revokeToken(jwtTokenProvider.getAuthenticationContext(jwt));
+    }
+
+
     /**
      * Returns the user profile for a given id.
      *
@@ -19,10 +19,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
-import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
-import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
-import de.bogenliga.application.business.user.api.UserComponent;
-import de.bogenliga.application.business.user.api.types.UserDO;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.common.service.ServiceFacade;
@@ -31,6 +27,8 @@ import de.bogenliga.application.common.validation.Preconditions;
 import de.bogenliga.application.services.v1.vereine.mapper.VereineDTOMapper;
 import de.bogenliga.application.services.v1.vereine.model.VereineDTO;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
@@ -57,23 +55,22 @@ public class VereineService implements ServiceFacade {
     private final VereinComponent vereinComponent;
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final DsbMitgliedComponent dsbMitgliedComponent;
-    private final UserComponent userComponent;
+    private final UserOwnershipResolver userOwnershipResolver;
 
 
     /**
      * Constructor with dependency injection
      *
      * @param vereinComponent to handle the database CRUD requests
+     * @param userOwnershipResolver to check the permissions for the Verein of the user
      */
 
     @Autowired
     public VereineService(final VereinComponent vereinComponent, final JwtTokenProvider jwtTokenProvider,
-                          final DsbMitgliedComponent dsbMitgliedComponent, final UserComponent userComponent) {
+                          final UserOwnershipResolver userOwnershipResolver) {
         this.vereinComponent = vereinComponent;
-        this.userComponent = userComponent;
         this.jwtTokenProvider = jwtTokenProvider;
-        this.dsbMitgliedComponent = dsbMitgliedComponent;
+        this.userOwnershipResolver = userOwnershipResolver;
     }
 
 
@@ -221,30 +218,7 @@ public class VereineService implements ServiceFacade {
      * @return Does the User have searched permission
      */
     boolean hasSpecificPermission(UserPermission toTest, Long vereinsId) {
-        //default value is: not allowed
-        boolean result = false;
-        //get the current http request from thread
-        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-        if (requestAttributes != null) {
-            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            final HttpServletRequest request = servletRequestAttributes.getRequest();
-            //if a request is present:
-            if (request != null) {
-                //parse the Webtoken and get the UserPermissions of the current User
-                final String jwt = JwtTokenProvider.resolveToken(request);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
-
-                //check if the current Users vereinsId equals the given vereinsId and if the User has
-                //the required Permission (if the permission is specifi
-                Long UserId = jwtTokenProvider.getUserId(jwt);
-                UserDO userDO = this.userComponent.findById(UserId);
-                DsbMitgliedDO dsbMitgliedDO = this.dsbMitgliedComponent.findById(userDO.getDsb_mitglied_id());
-                if ((dsbMitgliedDO.getVereinsId() == vereinsId) && userPermissions.contains(toTest)) {
-                    result = true;
-                }
-            }
-        }
-        return result;
+        return userOwnershipResolver.hasSpecificPermission(toTest, OwnershipType.VEREIN, vereinsId);
     }
 
 
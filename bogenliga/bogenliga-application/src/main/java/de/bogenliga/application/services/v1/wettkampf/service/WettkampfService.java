@@ -1,12 +1,9 @@
 package de.bogenliga.application.services.v1.wettkampf.service;
 
 import java.security.Principal;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 import javax.naming.NoPermissionException;
-import javax.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,22 +13,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-import de.bogenliga.application.business.user.api.UserComponent;
-import de.bogenliga.application.business.user.api.types.UserDO;
-import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.paging.CursorToken;
+import de.bogenliga.application.services.common.paging.PageDTO;
 import de.bogenliga.application.services.v1.wettkampf.mapper.WettkampfDTOMapper;
 import de.bogenliga.application.services.v1.wettkampf.model.WettkampfDTO;
-import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
+import de.bogenliga.application.springconfiguration.security.permissions.RequiresOwnership;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
 
@@ -61,25 +57,17 @@ public class WettkampfService implements ServiceFacade {
     private static final Logger LOG = LoggerFactory.getLogger(WettkampfService.class);
 
     private final WettkampfComponent wettkampfComponent;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserComponent userComponent;
 
 
     /**
      * Constructor with dependency injection
      *
      * @param wettkampfComponent to handle the database CRUD requests
-     * @param jwtTokenProvider
-     * @param userComponent
      */
 
     @Autowired
-    public WettkampfService(final WettkampfComponent wettkampfComponent,
-                            JwtTokenProvider jwtTokenProvider,
-                            UserComponent userComponent) {
+    public WettkampfService(final WettkampfComponent wettkampfComponent) {
         this.wettkampfComponent = wettkampfComponent;
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.userComponent = userComponent;
     }
 
 
@@ -97,6 +85,33 @@ public class WettkampfService implements ServiceFacade {
     }
 
 
+    /**
+     * I return a page of all Wettkaempfe ordered by their id.
+     * <p>
+     * The request with the "limit" parameter uses a keyset pagination. The next page is requested with the
+     * "nextCursor" of the previous page. The optional "fields" are the field names of the business entity to select.
+     * <p>
+     * Usage:
+     * <pre>{@code Request: GET /v1/wettkampf?limit=100&cursor=NDI&fields=datum}</pre>
+     *
+     * @param limit  maximum number of entries of the page
+     * @param cursor of the previous page or null for the first page
+     * @param fields to select or null to select all fields
+     *
+     * @return page of {@link WettkampfDTO} as JSON
+     */
+    @RequestMapping(method = RequestMethod.GET,
+            params = "limit",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PageDTO<WettkampfDTO> findAll(@RequestParam("limit") final int limit,
+                                         @RequestParam(value = "cursor", required = false) final String cursor,
+                                         @RequestParam(value = "fields", required = false) final List<String> fields) {
+        final PageRequest pageRequest = CursorToken.toPageRequest(cursor, limit, fields);
+        return PageDTO.of(wettkampfComponent.pageAll(pageRequest), WettkampfDTOMapper.toDTO);
+    }
+
+
     /**
      * findByID-Method gives back a specific Wettkampf according to a single Wettkampf_ID
      *
@@ -193,6 +208,8 @@ public class WettkampfService implements ServiceFacade {
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresOnePermissions(perm = {UserPermission.CAN_MODIFY_WETTKAMPF, UserPermission.CAN_MODIFY_MY_WETTKAMPF})
+    @RequiresOwnership(value = UserPermission.CAN_MODIFY_MY_WETTKAMPF, type = OwnershipType.WETTKAMPF,
+            unless = UserPermission.CAN_MODIFY_WETTKAMPF, property = "id")
     public WettkampfDTO update(@RequestBody final WettkampfDTO wettkampfDTO,
                                final Principal principal) throws NoPermissionException {
         checkPreconditions(wettkampfDTO);
@@ -211,12 +228,6 @@ public class WettkampfService implements ServiceFacade {
                 wettkampfDTO.getWettkampfTag(),
                 wettkampfDTO.getWettkampfBeginn(),
                 wettkampfDTO.getWettkampfTypId());
-        if (this.hasPermission(UserPermission.CAN_MODIFY_WETTKAMPF) || this.hasSpecificPermission(
-                UserPermission.CAN_MODIFY_MY_WETTKAMPF, wettkampfDTO.getId())) {
-
-        } else {
-            throw new NoPermissionException();
-        }
         final WettkampfDO newWettkampfDO = WettkampfDTOMapper.toDO.apply(wettkampfDTO);
         final long userId = UserProvider.getCurrentUserId(principal);
 
@@ -270,73 +281,4 @@ public class WettkampfService implements ServiceFacade {
     }
 
 
-    /**
-     * method to check, if a user has a general permission
-     *
-     * @param toTest The permission whose existence is getting checked
-     *
-     * @return Does the User have the searched permission
-     */
-    boolean hasPermission(UserPermission toTest) {
-        //default value is: not allowed
-        boolean result = false;
-        //get the current http request from thread
-        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-        if (requestAttributes != null) {
-            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            final HttpServletRequest request = servletRequestAttributes.getRequest();
-            //if a request is present:
-            if (request != null) {
-                //parse the Webtoken and get the UserPermissions of the current User
-                final String jwt = JwtTokenProvider.resolveToken(request);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
-
-                //check if the resolved Permissions
-                //contain the required Permission for the task.
-                if (userPermissions.contains(toTest)) {
-                    result = true;
-                }
-            }
-        }
-        return result;
-    }
-
-
-    /**
-     * method to check, if a user has a Specific permission with the matching parameters
-     *
-     * @param toTest The permission whose existence is getting checked
-     *
-     * @return Does the User have searched permission
-     */
-    boolean hasSpecificPermission(UserPermission toTest, Long wettkampfID) {
-        //default value is: not allowed
-        boolean result = false;
-        //get the current http request from thread
-        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-        if (requestAttributes != null) {
-            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
-            final HttpServletRequest request = servletRequestAttributes.getRequest();
-            //if a request is present:
-            if (request != null) {
-                //parse the Webtoken and get the UserPermissions of the current User
-                final String jwt = JwtTokenProvider.resolveToken(request);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
-
-                //check if the current Users vereinsId equals the given vereinsId and if the User has
-                //the required Permission (if the permission is specifi
-                Long UserId = jwtTokenProvider.getUserId(jwt);
-                UserDO userDO = this.userComponent.findById(UserId);
-                ArrayList<Integer> temp = new ArrayList<>();
-                for (WettkampfDO wettkampfDO : this.wettkampfComponent.findByAusrichter(UserId)) {
-                    if (wettkampfDO.getId().equals(wettkampfID)) {
-                        result = true;
-                        break;
-                    }
-                }
-
-            }
-        }
-        return result;
-    }
 }
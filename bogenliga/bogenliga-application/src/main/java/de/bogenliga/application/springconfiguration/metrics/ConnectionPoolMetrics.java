@@ -0,0 +1,94 @@
+package de.bogenliga.application.springconfiguration.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.database.tx.ConnectionPool;
+import de.bogenliga.application.common.database.tx.PostgresqlTransactionManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * I publish the state of the database {@link ConnectionPool} as Spring Boot Actuator metrics.
+ * <p>
+ * The metrics are available at the actuator endpoint {@code /actuator/metrics/bogenliga.db.pool.*}
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "bogenliga.db.pool.";
+
+    private final PostgresqlTransactionManager transactionManager;
+
+
+    @Autowired
+    public ConnectionPoolMetrics(final PostgresqlTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        // the pool is resolved by each gauge, the metrics do not create the pool before the first connection
+        Gauge.builder(PREFIX + "active", this, metrics -> metrics.read(ConnectionPool::getActiveConnections))
+                .description("Connections currently borrowed from the pool")
+                .register(registry);
+        Gauge.builder(PREFIX + "idle", this, metrics -> metrics.read(ConnectionPool::getIdleConnections))
+                .description("Open connections waiting in the pool")
+                .register(registry);
+        Gauge.builder(PREFIX + "pending", this, metrics -> metrics.read(ConnectionPool::getPendingThreads))
+                .description("Threads waiting for a connection")
+                .register(registry);
+        Gauge.builder(PREFIX + "max", this, metrics -> metrics.read(ConnectionPool::getMaxSize))
+                .description("Maximum number of connections")
+                .register(registry);
+        TimeGauge.builder(PREFIX + "wait.total", this, TimeUnit.MILLISECONDS,
+                metrics -> metrics.read(ConnectionPool::getTotalWaitTimeMillis))
+                .description("Accumulated time spent waiting for a connection")
+                .register(registry);
+        TimeGauge.builder(PREFIX + "wait.max", this, TimeUnit.MILLISECONDS,
+                metrics -> metrics.read(ConnectionPool::getMaxWaitTimeMillis))
+                .description("Longest time spent waiting for a connection")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "borrowed", this, metrics -> metrics.read(ConnectionPool::getBorrowCount))
+                .description("Successful borrow operations")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "timeouts", this, metrics -> metrics.read(ConnectionPool::getTimeoutCount))
+                .description("Borrow operations which failed with the connection timeout")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "created", this, metrics -> metrics.read(ConnectionPool::getCreatedCount))
+                .description("Physical connections opened by the pool")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "evicted", this, metrics -> metrics.read(ConnectionPool::getEvictedCount))
+                .description("Idle connections closed by the idle eviction")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "leaks", this, metrics -> metrics.read(ConnectionPool::getLeakCount))
+                .description("Connections reported as possible leak")
+                .register(registry);
+    }
+
+
+    /**
+     * I read a value of the connection pool when the metric is published.
+     *
+     * @param value of the pool
+     *
+     * @return the value or NaN, if the pool is not created yet or the data source is no {@link ConnectionPool}
+     */
+    private double read(final ToDoubleFunction<ConnectionPool> value) {
+        final DataSource dataSource = transactionManager.getCreatedDataSource();
+
+        if (!(dataSource instanceof ConnectionPool)) {
+            return Double.NaN;
+        }
+
+        return value.applyAsDouble((ConnectionPool) dataSource);
+    }
+}
@@ -0,0 +1,64 @@
+package de.bogenliga.application.springconfiguration.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * I publish the state of the entity caches of the {@link EntityCacheManager} as Spring Boot Actuator metrics.
+ * <p>
+ * The metrics are available at the actuator endpoint {@code /actuator/metrics/bogenliga.entity.cache.*} and are
+ * tagged with the name of the cache, e.g. {@code ?tag=cache:regionen}
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class EntityCacheMetrics implements MeterBinder {
+
+    private static final String PREFIX = "bogenliga.entity.cache.";
+    private static final String TAG_CACHE = "cache";
+
+    private final EntityCacheManager entityCacheManager;
+
+
+    @Autowired
+    public EntityCacheMetrics(final EntityCacheManager entityCacheManager) {
+        this.entityCacheManager = entityCacheManager;
+    }
+
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        // the caches are created by the business components, maybe after the registry is bound
+        entityCacheManager.addListener(cache -> bindTo(registry, cache));
+    }
+
+
+    private static void bindTo(final MeterRegistry registry, final EntityCache<?, ?> cache) {
+        Gauge.builder(PREFIX + "size", cache, EntityCache::size)
+                .tag(TAG_CACHE, cache.getName())
+                .description("Cached entities")
+                .register(registry);
+        Gauge.builder(PREFIX + "max", cache, EntityCache::getMaxSize)
+                .tag(TAG_CACHE, cache.getName())
+                .description("Maximum number of cached entities")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "hits", cache, EntityCache::getHitCount)
+                .tag(TAG_CACHE, cache.getName())
+                .description("Requests with cached entities")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "misses", cache, EntityCache::getMissCount)
+                .tag(TAG_CACHE, cache.getName())
+                .description("Requests which had to load the entities")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "evictions", cache, EntityCache::getEvictionCount)
+                .tag(TAG_CACHE, cache.getName())
+                .description("Least recently used entities removed from the cache")
+                .register(registry);
+    }
+}
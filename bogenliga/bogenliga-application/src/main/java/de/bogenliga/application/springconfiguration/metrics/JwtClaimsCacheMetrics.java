@@ -0,0 +1,50 @@
+package de.bogenliga.application.springconfiguration.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtClaimsCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * I publish the state of the {@link JwtClaimsCache} as Spring Boot Actuator metrics.
+ * <p>
+ * The metrics are available at the actuator endpoint {@code /actuator/metrics/bogenliga.jwt.cache.*}
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class JwtClaimsCacheMetrics implements MeterBinder {
+
+    private static final String PREFIX = "bogenliga.jwt.cache.";
+
+    private final JwtClaimsCache jwtClaimsCache;
+
+
+    @Autowired
+    public JwtClaimsCacheMetrics(final JwtClaimsCache jwtClaimsCache) {
+        this.jwtClaimsCache = jwtClaimsCache;
+    }
+
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(PREFIX + "size", jwtClaimsCache, JwtClaimsCache::size)
+                .description("Verified tokens in the cache")
+                .register(registry);
+        Gauge.builder(PREFIX + "max", jwtClaimsCache, JwtClaimsCache::getMaxSize)
+                .description("Maximum number of verified tokens in the cache")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "hits", jwtClaimsCache, JwtClaimsCache::getHitCount)
+                .description("Requests with a cached token")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "misses", jwtClaimsCache, JwtClaimsCache::getMissCount)
+                .description("Requests with a token which had to be verified")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "evictions", jwtClaimsCache, JwtClaimsCache::getEvictionCount)
+                .description("Tokens removed by size or time to live")
+                .register(registry);
+    }
+}
@@ -0,0 +1,92 @@
+package de.bogenliga.application.springconfiguration.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.database.tracing.SqlStatement;
+import de.bogenliga.application.common.database.tracing.SqlTracer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * I publish the latency, the rows and the errors of the sql statements traced by the {@link SqlTracer} as Spring Boot
+ * Actuator metrics.
+ * <p>
+ * The metrics are available at the actuator endpoint {@code /actuator/metrics/bogenliga.db.statement.*} and are
+ * tagged with the data access object, the operation and the id of the statement template, e.g.
+ * {@code ?tag=dao:UserDAO&tag=operation:select}. The id is logged with the slow queries.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class SqlStatementMetrics implements MeterBinder {
+
+    private static final String PREFIX = "bogenliga.db.statement.";
+
+    private final SqlTracer sqlTracer;
+
+
+    @Autowired
+    public SqlStatementMetrics(final SqlTracer sqlTracer) {
+        this.sqlTracer = sqlTracer;
+    }
+
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        // the meters are registered once per statement template and not for each execution
+        final Map<SqlStatement, StatementMeters> meters = new ConcurrentHashMap<>();
+
+        sqlTracer.addListener((statement, durationNanos, rows, failed) ->
+                meters.computeIfAbsent(statement, key -> new StatementMeters(registry, key))
+                        .record(durationNanos, rows, failed));
+    }
+
+
+    /**
+     * I am the meters of a statement template.
+     */
+    private static final class StatementMeters {
+        private final Timer duration;
+        private final DistributionSummary rows;
+        private final Counter errors;
+
+
+        private StatementMeters(final MeterRegistry registry, final SqlStatement statement) {
+            final String[] tags = {
+                    "dao", statement.getDao(),
+                    "operation", statement.getOperation(),
+                    "statement", statement.getId()};
+
+            duration = Timer.builder(PREFIX + "duration")
+                    .tags(tags)
+                    .description("Duration of the executions including the mapping of the result")
+                    .publishPercentileHistogram()
+                    .register(registry);
+            rows = DistributionSummary.builder(PREFIX + "rows")
+                    .tags(tags)
+                    .description("Selected or modified rows per execution")
+                    .register(registry);
+            errors = Counter.builder(PREFIX + "errors")
+                    .tags(tags)
+                    .description("Executions which failed with a database error")
+                    .register(registry);
+        }
+
+
+        private void record(final long durationNanos, final int rowCount, final boolean failed) {
+            duration.record(durationNanos, TimeUnit.NANOSECONDS);
+
+            if (failed) {
+                errors.increment();
+            } else {
+                rows.record(rowCount);
+            }
+        }
+    }
+}
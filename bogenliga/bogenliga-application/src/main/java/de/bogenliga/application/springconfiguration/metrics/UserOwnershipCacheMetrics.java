@@ -0,0 +1,47 @@
+package de.bogenliga.application.springconfiguration.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * I publish the state of the cache of the {@link UserOwnershipResolver} as Spring Boot Actuator metrics.
+ * <p>
+ * The metrics are available at the actuator endpoint {@code /actuator/metrics/bogenliga.ownership.cache.*}
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class UserOwnershipCacheMetrics implements MeterBinder {
+
+    private static final String PREFIX = "bogenliga.ownership.cache.";
+
+    private final UserOwnershipResolver userOwnershipResolver;
+
+
+    @Autowired
+    public UserOwnershipCacheMetrics(final UserOwnershipResolver userOwnershipResolver) {
+        this.userOwnershipResolver = userOwnershipResolver;
+    }
+
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(PREFIX + "size", userOwnershipResolver, UserOwnershipResolver::size)
+                .description("Users with cached ownerships")
+                .register(registry);
+        Gauge.builder(PREFIX + "max", userOwnershipResolver, UserOwnershipResolver::getMaxSize)
+                .description("Maximum number of users with cached ownerships")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "hits", userOwnershipResolver, UserOwnershipResolver::getHitCount)
+                .description("Permission checks with cached ownerships")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "misses", userOwnershipResolver, UserOwnershipResolver::getMissCount)
+                .description("Permission checks which had to load the ownerships")
+                .register(registry);
+    }
+}
@@ -84,7 +84,11 @@ public class WebSecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.GET, "/v1/wettkampf/byMannschaftsId/{id}")
                 .and()
                 .ignoring()
-                .antMatchers(HttpMethod.GET, "/v1/veranstaltung/{id}");
+                .antMatchers(HttpMethod.GET, "/v1/veranstaltung/{id}")
+                // the EventSource of the spectators cannot send the json web token
+                .and()
+                .ignoring()
+                .antMatchers(HttpMethod.GET, "/v1/livescoring/{wettkampfId}");
     }
 
 
@@ -0,0 +1,171 @@
+package de.bogenliga.application.springconfiguration.security.jsonwebtoken;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+
+/**
+ * I contain the verified content of a JSON Web Token.
+ * <p>
+ * The {@link JwtTokenFilter} verifies and parses the token once per request and stores me as request attribute.
+ * The {@link JwtTokenProvider}, the permission aspects and the services read the user information from me instead of
+ * verifying and parsing the token again.
+ * <p>
+ * I am immutable, except for the refreshed token, which replaces my token. The refreshed token is shared by all
+ * requests with my token within the grace period, so a token is refreshed only once.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public final class JwtAuthenticationContext {
+
+    /**
+     * Name of the request attribute
+     */
+    public static final String REQUEST_ATTRIBUTE = JwtAuthenticationContext.class.getName();
+
+    private final String token;
+    private final Long id;
+    private final Long version;
+    private final String email;
+    private final Set<UserPermission> permissions;
+    private final int refreshCounter;
+    private final Date expiration;
+    private final String tokenId;
+    private final Date issuedAt;
+
+    // guarded by this
+    private String refreshedToken;
+    private long refreshedAt;
+
+
+    JwtAuthenticationContext(final String token, final Long id, final Long version, final String email,
+                             final Set<UserPermission> permissions, final int refreshCounter,
+                             final Date expiration) {
+        this(token, id, version, email, permissions, refreshCounter, expiration, null, null);
+    }
+
+
+    JwtAuthenticationContext(final String token, final Long id, final Long version, final String email,
+                             final Set<UserPermission> permissions, final int refreshCounter,
+                             final Date expiration, final String tokenId, final Date issuedAt) {
+        this.token = token;
+        this.id = id;
+        this.version = version;
+        this.email = email;
+        this.permissions = permissions == null || permissions.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(permissions));
+        this.refreshCounter = refreshCounter;
+        this.expiration = expiration == null ? null : new Date(expiration.getTime());
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt == null ? null : new Date(issuedAt.getTime());
+    }
+
+
+    public String getToken() {
+        return token;
+    }
+
+
+    /**
+     * @return user id or null, if the token contains no user information
+     */
+    public Long getId() {
+        return id;
+    }
+
+
+    /**
+     * @return user version or null, if the token contains no user information
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+
+    public String getEmail() {
+        return email;
+    }
+
+
+    /**
+     * @return unmodifiable set of the user permissions
+     */
+    public Set<UserPermission> getPermissions() {
+        return permissions;
+    }
+
+
+    public boolean hasPermission(final UserPermission permission) {
+        return permissions.contains(permission);
+    }
+
+
+    public boolean hasUserInfo() {
+        return id != null && version != null;
+    }
+
+
+    public int getRefreshCounter() {
+        return refreshCounter;
+    }
+
+
+    /**
+     * @return expiration date or null, if the token does not expire
+     */
+    public Date getExpiration() {
+        return expiration == null ? null : new Date(expiration.getTime());
+    }
+
+
+    /**
+     * @return unique id of the token or null, if the token was issued without id
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+
+    /**
+     * @return issue date or null, if the token contains no issue date
+     */
+    public Date getIssuedAt() {
+        return issuedAt == null ? null : new Date(issuedAt.getTime());
+    }
+
+
+    /**
+     * I return the token, which replaces my token.
+     * <p>
+     * The token is created only once within the grace period, even if the client sends concurrent requests with my
+     * token.
+     *
+     * @param now          current time in milliseconds
+     * @param gracePeriod  in milliseconds, in which the refreshed token is returned again
+     * @param tokenFactory to create the refreshed token
+     *
+     * @return refreshed token
+     */
+    synchronized String getRefreshedToken(final long now, final long gracePeriod,
+                                          final Supplier<String> tokenFactory) {
+        if (refreshedToken == null || now - refreshedAt >= gracePeriod) {
+            refreshedToken = tokenFactory.get();
+            refreshedAt = now;
+        }
+        return refreshedToken;
+    }
+
+
+    /**
+     * @param token to compare with
+     *
+     * @return true, if I was created from the given token
+     */
+    boolean isFor(final String token) {
+        return this.token != null && this.token.equals(token);
+    }
+}
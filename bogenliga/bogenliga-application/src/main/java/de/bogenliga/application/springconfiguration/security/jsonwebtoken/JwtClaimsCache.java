@@ -0,0 +1,237 @@
+package de.bogenliga.application.springconfiguration.security.jsonwebtoken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.user.api.types.UserRolesChangedEvent;
+import de.bogenliga.application.common.configuration.SecurityJsonWebTokenConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+
+/**
+ * I cache the verified content of JSON Web Tokens.
+ * <p>
+ * The tablets send the same token with every request. I keep the {@link JwtAuthenticationContext} of a verified
+ * token, so the signature of a known token has not to be verified again.
+ * <p>
+ * The entries are stored with the SHA-256 digest of the token as key. An entry is removed
+ * <ul>
+ * <li>if the token expires,</li>
+ * <li>if the entry is older than the configured time to live,</li>
+ * <li>if the cache is full and the entry is the least recently used one or</li>
+ * <li>if the roles of the user are changed.</li>
+ * </ul>
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JwtClaimsCache.class);
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final int maxSize;
+    private final long timeToLive;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+
+    @Autowired
+    public JwtClaimsCache(final SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration) {
+        this(securityJsonWebTokenConfiguration, Clock.systemUTC());
+    }
+
+
+    JwtClaimsCache(final SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration, final Clock clock) {
+        this.maxSize = securityJsonWebTokenConfiguration.getCacheSize();
+        this.timeToLive = securityJsonWebTokenConfiguration.getCacheTtl();
+        this.clock = clock;
+        // access order -> least recently used entry first
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                final boolean full = size() > maxSize;
+                if (full) {
+                    evictionCount.incrementAndGet();
+                }
+                return full;
+            }
+        };
+    }
+
+
+    /**
+     * I return the cached content of the token.
+     *
+     * @param token JSON Web Token
+     *
+     * @return verified content of the token or null, if the token is unknown or the entry is expired
+     */
+    public JwtAuthenticationContext get(final String token) {
+        if (token == null) {
+            return null;
+        }
+
+        final String key = digest(token);
+        final long now = clock.millis();
+
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+
+            if (entry != null) {
+                if (entry.isValid(now) && entry.context.isFor(token)) {
+                    hitCount.incrementAndGet();
+                    return entry.context;
+                }
+
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+
+    /**
+     * I store the verified content of a token.
+     *
+     * @param context of a verified token
+     */
+    public void put(final JwtAuthenticationContext context) {
+        final long now = clock.millis();
+        final Date expiration = context.getExpiration();
+
+        long validUntil = now + timeToLive;
+        if (expiration != null) {
+            validUntil = Math.min(validUntil, expiration.getTime());
+        }
+
+        if (validUntil <= now) {
+            return;
+        }
+
+        final String key = digest(context.getToken());
+
+        synchronized (entries) {
+            entries.put(key, new Entry(context, validUntil));
+        }
+    }
+
+
+    /**
+     * I remove all cached tokens of the user.
+     *
+     * @param userId of the user
+     */
+    public void invalidateUser(final Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        int removed = 0;
+
+        synchronized (entries) {
+            final Iterator<Entry> iterator = entries.values().iterator();
+
+            while (iterator.hasNext()) {
+                if (userId.equals(iterator.next().context.getId())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+
+        LOG.debug("Removed {} cached tokens of user {}", removed, userId);
+    }
+
+
+    /**
+     * I remove all cached tokens.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+
+    @EventListener
+    public void onUserRolesChanged(final UserRolesChangedEvent event) {
+        event.getUserIds().forEach(this::invalidateUser);
+    }
+
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+
+    private static String digest(final String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, "Could not create digest of the JWT", e);
+        }
+    }
+
+
+    private static final class Entry {
+        private final JwtAuthenticationContext context;
+        private final long validUntil;
+
+
+        private Entry(final JwtAuthenticationContext context, final long validUntil) {
+            this.context = context;
+            this.validUntil = validUntil;
+        }
+
+
+        private boolean isValid(final long now) {
+            return now < validUntil;
+        }
+    }
+}
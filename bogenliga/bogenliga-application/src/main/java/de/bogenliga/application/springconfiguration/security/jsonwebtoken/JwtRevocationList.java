@@ -0,0 +1,175 @@
+package de.bogenliga.application.springconfiguration.security.jsonwebtoken;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.user.api.types.UserAccessChangedEvent;
+import de.bogenliga.application.business.user.api.types.UserRolesChangedEvent;
+
+/**
+ * I hold the revoked JSON Web Tokens.
+ * <p>
+ * A token is revoked
+ * <ul>
+ * <li>if it was issued for an older version of the user, e.g. before the password was changed or the user was
+ * deactivated,</li>
+ * <li>if it was issued before the roles of the user were changed or</li>
+ * <li>if it was revoked explicitly, e.g. by the sign out of the user.</li>
+ * </ul>
+ * The check needs no database request and takes constant time, so I am asked for every request.
+ * <p>
+ * I hold the revocations only in memory of this application instance. They are lost after a restart and are not
+ * shared with other instances.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class JwtRevocationList {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JwtRevocationList.class);
+
+    private final Clock clock;
+    // user id -> minimum user version and minimum issue time of the valid tokens
+    private final Map<Long, UserRevocation> users = new ConcurrentHashMap<>();
+    // token id -> expiration time of the token in milliseconds
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+
+
+    public JwtRevocationList() {
+        this(Clock.systemUTC());
+    }
+
+
+    JwtRevocationList(final Clock clock) {
+        this.clock = clock;
+    }
+
+
+    /**
+     * @param context of a verified token
+     *
+     * @return true, if the token must not be accepted anymore
+     */
+    public boolean isRevoked(final JwtAuthenticationContext context) {
+        if (context.getTokenId() != null && tokens.containsKey(context.getTokenId())) {
+            return true;
+        }
+
+        final UserRevocation userRevocation = context.getId() == null ? null : users.get(context.getId());
+
+        return userRevocation != null && userRevocation.isRevoked(context);
+    }
+
+
+    /**
+     * I revoke a single token until it expires.
+     *
+     * @param context of the token to revoke
+     */
+    public void revokeToken(final JwtAuthenticationContext context) {
+        if (context.getTokenId() == null) {
+            // tokens without id are issued before the tokens got an id, revoke all tokens of the user instead
+            revokeTokensIssuedBefore(context.getId(), clock.millis());
+            return;
+        }
+
+        final long now = clock.millis();
+        final Date expiration = context.getExpiration();
+
+        // the tokens without expiration date are kept until the restart
+        tokens.put(context.getTokenId(), expiration == null ? Long.MAX_VALUE : expiration.getTime());
+        tokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+
+    /**
+     * I revoke all tokens, which were issued for a user version older than the given version.
+     *
+     * @param userId  of the user
+     * @param version minimum user version of the valid tokens
+     */
+    public void revokeTokensBeforeVersion(final Long userId, final Long version) {
+        if (userId == null || version == null) {
+            return;
+        }
+
+        users.merge(userId, new UserRevocation(version, Long.MIN_VALUE), UserRevocation::merge);
+        LOG.debug("Revoked the tokens of user {} before version {}", userId, version);
+    }
+
+
+    /**
+     * I revoke all tokens of the user, which were issued before the given time.
+     *
+     * @param userId of the user
+     * @param time   in milliseconds
+     */
+    public void revokeTokensIssuedBefore(final Long userId, final long time) {
+        if (userId == null) {
+            return;
+        }
+
+        // the issue time of a token has a precision of seconds
+        final long issuedBefore = time / 1000 * 1000;
+
+        users.merge(userId, new UserRevocation(Long.MIN_VALUE, issuedBefore), UserRevocation::merge);
+        LOG.debug("Revoked the tokens of user {} issued before {}", userId, issuedBefore);
+    }
+
+
+    @EventListener
+    public void onUserAccessChanged(final UserAccessChangedEvent event) {
+        revokeTokensBeforeVersion(event.getUserId(), event.getVersion());
+    }
+
+
+    /**
+     * The permissions are stored in the token, so the tokens with the old roles are revoked.
+     * The version of the user is not changed by a role change.
+     */
+    @EventListener
+    public void onUserRolesChanged(final UserRolesChangedEvent event) {
+        final long now = clock.millis();
+        event.getUserIds().forEach(userId -> revokeTokensIssuedBefore(userId, now));
+    }
+
+
+    public int getRevokedTokenCount() {
+        return tokens.size();
+    }
+
+
+    /**
+     * I am the revocation of all older tokens of a user.
+     */
+    private static final class UserRevocation {
+        private final long minimumVersion;
+        private final long issuedBefore;
+
+
+        private UserRevocation(final long minimumVersion, final long issuedBefore) {
+            this.minimumVersion = minimumVersion;
+            this.issuedBefore = issuedBefore;
+        }
+
+
+        private boolean isRevoked(final JwtAuthenticationContext context) {
+            final Long version = context.getVersion();
+            final Date issuedAt = context.getIssuedAt();
+
+            return version != null && version < minimumVersion
+                    || issuedAt != null && issuedAt.getTime() < issuedBefore;
+        }
+
+
+        private static UserRevocation merge(final UserRevocation current, final UserRevocation other) {
+            return new UserRevocation(Math.max(current.minimumVersion, other.minimumVersion),
+                    Math.max(current.issuedBefore, other.issuedBefore));
+        }
+    }
+}
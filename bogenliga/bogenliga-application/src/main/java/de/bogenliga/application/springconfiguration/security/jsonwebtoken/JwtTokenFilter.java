@@ -15,6 +15,8 @@ import org.springframework.web.filter.GenericFilterBean;
  * I wrap the http requests and extracts the JSON Web Token (JWT) from the request header.
  * <p>
  * The JWT will be converted into an authentication object to authenticate the request against Spring Security.
+ * The token is verified and parsed only once. The resulting {@link JwtAuthenticationContext} is stored as request
+ * attribute.
  * <p>
  * No database query is necessary to authorize the user.
  *
@@ -41,16 +43,23 @@ public class JwtTokenFilter extends GenericFilterBean {
 
             final String token = JwtTokenProvider.resolveToken((HttpServletRequest) req);
 
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                // TODO check reverted tokens, e.g. user changed password -> database request required ...
+            // verify and parse the token once per request
+            final JwtAuthenticationContext context = token == null
+                    ? null
+                    : jwtTokenProvider.validateAndParseToken(token);
 
-                final Authentication auth = jwtTokenProvider.getAuthentication(token);
+            // revoked tokens are rejected by the provider, e.g. after the user changed the password
+            if (context != null) {
+                // share the parsed token with the permission aspects and services
+                request.setAttribute(JwtAuthenticationContext.REQUEST_ATTRIBUTE, context);
+
+                final Authentication auth = jwtTokenProvider.getAuthentication(context);
                 // authenticate against Spring Security
                 SecurityContextHolder.getContext().setAuthentication(auth);
 
-                // auto refresh expiration time of the token
-                // increment refresh counter
-                final String refreshedToken = jwtTokenProvider.refreshToken(token);
+                // auto refresh expiration time of the token after the refresh threshold of its lifetime
+                // increment refresh counter, otherwise the token is returned unchanged
+                final String refreshedToken = jwtTokenProvider.refreshToken(context);
                 ((HttpServletResponse) res).addHeader("Authorization", "Bearer " + refreshedToken);
             }
         } else {
@@ -15,6 +15,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
@@ -43,19 +45,27 @@ public class JwtTokenProvider {
     private static final String DEFAULT_USER_NAME = "ligadefault";
     private final SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration;
     private final UserAuthenticationProvider userAuthenticationProvider;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final JwtRevocationList jwtRevocationList;
 
     // defined in resources/application-<PROFILE>.properties
     private long validityInMilliseconds;
     private String secretKey;
     private int maxTokenRefresh;
+    private double refreshThreshold;
+    private long refreshGracePeriod;
 
 
     @Autowired
     public JwtTokenProvider(
             final SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration,
-            final UserAuthenticationProvider userAuthenticationProvider) {
+            final UserAuthenticationProvider userAuthenticationProvider,
+            final JwtClaimsCache jwtClaimsCache,
+            final JwtRevocationList jwtRevocationList) {
         this.securityJsonWebTokenConfiguration = securityJsonWebTokenConfiguration;
         this.userAuthenticationProvider = userAuthenticationProvider;
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.jwtRevocationList = jwtRevocationList;
     }
 
 
@@ -69,9 +79,25 @@ public class JwtTokenProvider {
     }
 
 
-    public String getUsername(final String token) {
+    /**
+     * I return the verified content of the given token.
+     * <p>
+     * If the {@link JwtTokenFilter} has already parsed the token of the current request, the stored
+     * {@link JwtAuthenticationContext} is returned without verifying the token again.
+     *
+     * @param token JSON Web Token
+     *
+     * @return verified content of the token
+     */
+    public JwtAuthenticationContext getAuthenticationContext(final String token) {
+        final JwtAuthenticationContext currentContext = getCurrentAuthenticationContext();
+
+        if (currentContext != null && currentContext.isFor(token)) {
+            return currentContext;
+        }
+
         try {
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+            return parseAuthenticationContext(token);
         } catch (final ExpiredJwtException expiredTokenException) {
             throw new BusinessException(ErrorCode.NO_SESSION_ERROR, "Session token expired", expiredTokenException);
         } catch (final RuntimeException e) {
@@ -81,61 +107,48 @@ public class JwtTokenProvider {
 
 
     /**
-     * Returns the user id contained in the given token
+     * I return the {@link JwtAuthenticationContext} of the current http request.
      *
-     * @param token
-     * @return
+     * @return authentication context or null, if no request is present or the request has no valid token
      */
-    public Long getUserId(final String token) {
-        try {
-            return resolveUserSignInDTO(token).getId();
-        } catch (final ExpiredJwtException expiredTokenException) {
-            throw new BusinessException(ErrorCode.NO_SESSION_ERROR, "Session token expired", expiredTokenException);
-        } catch (final RuntimeException e) {
-            throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, "User information could not parsed from JWT", e);
-        }
-    }
+    public static JwtAuthenticationContext getCurrentAuthenticationContext() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
 
+        if (requestAttributes != null) {
+            final Object context = requestAttributes.getAttribute(JwtAuthenticationContext.REQUEST_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST);
 
-    public UserSignInDTO resolveUserSignInDTO(final String token) {
+            if (context instanceof JwtAuthenticationContext) {
+                return (JwtAuthenticationContext) context;
+            }
+        }
+        return null;
+    }
 
-        final Object userInfo = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().get(
-                USER_INFO);
 
-        if (userInfo instanceof Map) {
-            final Map<String, String> userInfoMap = (HashMap<String, String>) userInfo;
+    public String getUsername(final String token) {
+        return getAuthenticationContext(token).getEmail();
+    }
 
-            final long id = Long.parseLong(userInfoMap.get(USER_INFO_ID));
-            final long version = Long.parseLong(userInfoMap.get(USER_INFO_VERSION));
 
-            final String email = getUsername(token);
-            final Set<UserPermission> permissions = getPermissions(token);
+    /**
+     * Returns the user id contained in the given token
+     *
+     * @param token
+     * @return
+     */
+    public Long getUserId(final String token) {
+        return getAuthenticationContext(token).getId();
+    }
 
-            return new UserSignInDTO(id, version, email, token, permissions);
-        }
 
-        return null;
+    public UserSignInDTO resolveUserSignInDTO(final String token) {
+        return resolveUserSignInDTO(getAuthenticationContext(token));
     }
 
 
     public Set<UserPermission> getPermissions(final String token) {
-        Set<UserPermission> userPermissions = new HashSet<>();
-
-        try {
-            final Object permissions = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().get(AUTH);
-
-            if (permissions instanceof ArrayList) {
-                final List<String> permissionStringList = (ArrayList<String>) permissions;
-                userPermissions = permissionStringList.stream()
-                        .map(UserPermission::fromValue)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toSet());
-            }
-        } catch (final RuntimeException e) {
-            throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, "Permissions could not parsed from JWT", e);
-        }
-
-        return userPermissions;
+        return new HashSet<>(getAuthenticationContext(token).getPermissions());
     }
 
 
@@ -181,8 +194,9 @@ public class JwtTokenProvider {
         final Date now = new Date();
         final Date validity = new Date(now.getTime() + validityInMilliseconds);
 
-        final JwtBuilder jwtBuilder = Jwts.builder().setClaims(claims).setIssuedAt(now).signWith(
-                SignatureAlgorithm.HS256, secretKey);
+        // the unique id allows to revoke a single token
+        final JwtBuilder jwtBuilder = Jwts.builder().setClaims(claims).setId(UUID.randomUUID().toString())
+                .setIssuedAt(now).signWith(SignatureAlgorithm.HS256, secretKey);
 
         // if user is default user (not logged in user) expiration time is not set
         // since the default should be logged in "forever"
@@ -195,7 +209,13 @@ public class JwtTokenProvider {
 
 
     Authentication getAuthentication(final String token) {
-        return userAuthenticationProvider.createAuthenticationPlaceholder(getUsername(token), getPermissions(token));
+        return getAuthentication(getAuthenticationContext(token));
+    }
+
+
+    Authentication getAuthentication(final JwtAuthenticationContext context) {
+        return userAuthenticationProvider.createAuthenticationPlaceholder(context.getEmail(),
+                context.getPermissions());
     }
 
 
@@ -204,40 +224,85 @@ public class JwtTokenProvider {
     }
 
     boolean validateToken(final String token) {
+        return validateAndParseToken(token) != null;
+    }
+
+
+    /**
+     * I verify the signature and the expiration date of the token, parse its content and check, if the token is
+     * revoked.
+     *
+     * @param token JSON Web Token
+     *
+     * @return verified content of the token or null, if the token is invalid or revoked
+     */
+    JwtAuthenticationContext validateAndParseToken(final String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
+            final JwtAuthenticationContext context = parseAuthenticationContext(token);
+
+            if (jwtRevocationList.isRevoked(context)) {
+                LOG.debug("Received revoked JWT token of user {}", context.getId());
+                // send 403 "Forbidden"
+                return null;
+            }
+            return context;
         } catch (final JwtException | IllegalArgumentException e) {
             LOG.warn("Received invalid JWT token with error message: {}", e.getMessage());
             // send 403 "Forbidden"
-            return false;
+            return null;
         }
     }
 
 
+    /**
+     * I revoke the token, e.g. if the user signs out. The token is not accepted anymore, even if it is not expired.
+     *
+     * @param context of the verified token
+     */
+    public void revokeToken(final JwtAuthenticationContext context) {
+        jwtRevocationList.revokeToken(context);
+    }
+
+
     String refreshToken(final String token) {
+        return refreshToken(getAuthenticationContext(token));
+    }
+
+
+    /**
+     * I return the token, which the client should use for the next requests.
+     * <p>
+     * A token is refreshed only after the configured part of its lifetime has passed. Until then the token itself is
+     * returned, so most requests do not sign a new token. The requests with the same token receive the same refreshed
+     * token within the grace period.
+     *
+     * @param context of the verified token of the request
+     *
+     * @return refreshed or unchanged token
+     */
+    String refreshToken(final JwtAuthenticationContext context) {
+        final String token = context.getToken();
 
-        final String userName = getUsername(token);
         // refresh token only if user is not default user as token for default user has no expiration date.
-        if(!userName.equals(DEFAULT_USER_NAME)) {
+        if (!DEFAULT_USER_NAME.equals(context.getEmail()) && context.getExpiration() != null) {
 
-            final long remainingTimeInMilliSeconds = getRemainingValidityTime(token);
-            int refreshCounter = getRefreshCounter(token);
+            final long remainingTimeInMilliSeconds = getRemainingValidityTime(context);
+            final int refreshCounter = context.getRefreshCounter();
 
             LOG.trace("Refresh token ? refreshCounter = {} and remainingTime = {} s", refreshCounter,
                       (remainingTimeInMilliSeconds / 1000));
 
             // check, if refresh necessary and possible
-            // expiration reached (last 90 %) and refresh allowed -> refresh
-            if (refreshCounter < maxTokenRefresh && remainingTimeInMilliSeconds < (validityInMilliseconds * 0.9)) {
+            // refresh threshold of the lifetime reached and refresh allowed -> refresh
+            if (refreshCounter < maxTokenRefresh && context.hasUserInfo()
+                    && remainingTimeInMilliSeconds <= validityInMilliseconds * (1 - refreshThreshold)) {
 
-                final UserSignInDTO userSignInDTO = resolveUserSignInDTO(token);
-                refreshCounter++;
+                return context.getRefreshedToken(System.currentTimeMillis(), refreshGracePeriod, () -> {
+                    LOG.trace("Token refreshed. Please use the new token");
 
-                LOG.trace("Token refreshed. Please use the new token");
-
-                return createToken(userSignInDTO.getEmail(), userSignInDTO.getId(), userSignInDTO.getVersion(),
-                                   userSignInDTO.getPermissions(), refreshCounter);
+                    return createToken(context.getEmail(), context.getId(), context.getVersion(),
+                                       context.getPermissions(), refreshCounter + 1);
+                });
             } else {
                 return token;
             }
@@ -248,26 +313,97 @@ public class JwtTokenProvider {
 
 
     int getRefreshCounter(final String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody()
-                .get(REFRESH_COUNTER, Integer.class);
+        return getAuthenticationContext(token).getRefreshCounter();
     }
 
 
     long getRemainingValidityTime(final String token) {
+        return getRemainingValidityTime(getAuthenticationContext(token));
+    }
+
 
-        final Date expirationDate = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(
-                token).getBody().getExpiration();
+    private long getRemainingValidityTime(final JwtAuthenticationContext context) {
+        final Date expirationDate = context.getExpiration();
         final Date now = new Date();
 
         return expirationDate.getTime() - now.getTime();
     }
 
 
+    private JwtAuthenticationContext parseAuthenticationContext(final String token) {
+        // skip the signature verification of known tokens
+        final JwtAuthenticationContext cachedContext = jwtClaimsCache.get(token);
+
+        if (cachedContext != null) {
+            return cachedContext;
+        }
+
+        final JwtAuthenticationContext context = verifyAndParseToken(token);
+        jwtClaimsCache.put(context);
+
+        return context;
+    }
+
+
+    private JwtAuthenticationContext verifyAndParseToken(final String token) {
+        final Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+
+        Long id = null;
+        Long version = null;
+        final Object userInfo = claims.get(USER_INFO);
+
+        if (userInfo instanceof Map) {
+            final Map<?, ?> userInfoMap = (Map<?, ?>) userInfo;
+
+            id = parseLong(userInfoMap.get(USER_INFO_ID));
+            version = parseLong(userInfoMap.get(USER_INFO_VERSION));
+        }
+
+        Set<UserPermission> userPermissions = Collections.emptySet();
+        final Object permissions = claims.get(AUTH);
+
+        if (permissions instanceof List) {
+            userPermissions = ((List<?>) permissions).stream()
+                    .map(String::valueOf)
+                    .map(UserPermission::fromValue)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+        }
+
+        final Integer refreshCounter = claims.get(REFRESH_COUNTER, Integer.class);
+
+        return new JwtAuthenticationContext(token, id, version, claims.getSubject(), userPermissions,
+                refreshCounter == null ? 0 : refreshCounter, claims.getExpiration(), claims.getId(),
+                claims.getIssuedAt());
+    }
+
+
+    private static UserSignInDTO resolveUserSignInDTO(final JwtAuthenticationContext context) {
+        if (context.hasUserInfo()) {
+            return new UserSignInDTO(context.getId(), context.getVersion(), context.getEmail(),
+                    context.getToken(), context.getPermissions());
+        }
+
+        return null;
+    }
+
+
+    private static Long parseLong(final Object value) {
+        try {
+            return value == null ? null : Long.valueOf(String.valueOf(value));
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+
     @PostConstruct
     void init() {
         validityInMilliseconds = securityJsonWebTokenConfiguration.getExpiration();
         secretKey = Base64.getEncoder().encodeToString(securityJsonWebTokenConfiguration.getSecret().getBytes());
         maxTokenRefresh = securityJsonWebTokenConfiguration.getRefresh();
+        refreshThreshold = securityJsonWebTokenConfiguration.getRefreshThreshold();
+        refreshGracePeriod = securityJsonWebTokenConfiguration.getRefreshGracePeriod();
     }
 
 
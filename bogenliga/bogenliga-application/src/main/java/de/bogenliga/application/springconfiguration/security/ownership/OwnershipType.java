@@ -0,0 +1,27 @@
+package de.bogenliga.application.springconfiguration.security.ownership;
+
+/**
+ * I define the entities, which can be owned by a user.
+ * <p>
+ * The "MY_*" permissions of a user are only valid for the owned entities.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public enum OwnershipType {
+    /**
+     * Verein of the DSB member of the user
+     */
+    VEREIN,
+    /**
+     * Veranstaltung, which is led by the user as Ligaleiter
+     */
+    VERANSTALTUNG,
+    /**
+     * Wettkampf, which is organized by the user as Ausrichter
+     */
+    WETTKAMPF,
+    /**
+     * Wettkampf of a Veranstaltung, which is led by the user as Ligaleiter
+     */
+    VERANSTALTUNG_WETTKAMPF
+}
@@ -0,0 +1,104 @@
+package de.bogenliga.application.springconfiguration.security.ownership;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * I contain the ids of all entities, which are owned by a user.
+ * <p>
+ * I am immutable and can be shared between threads.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public final class UserOwnership {
+
+    private final Long userId;
+    private final Long vereinId;
+    private final Set<Long> veranstaltungIds;
+    private final Set<Long> wettkampfIds;
+    private final Set<Long> veranstaltungWettkampfIds;
+
+
+    /**
+     * @param userId                    of the user
+     * @param vereinId                  of the DSB member of the user or null
+     * @param veranstaltungIds          of the Veranstaltungen, which are led by the user
+     * @param wettkampfIds              of the Wettkaempfe, which are organized by the user
+     * @param veranstaltungWettkampfIds of the Wettkaempfe of the Veranstaltungen, which are led by the user
+     */
+    public UserOwnership(final Long userId, final Long vereinId,
+                         final Collection<Long> veranstaltungIds,
+                         final Collection<Long> wettkampfIds,
+                         final Collection<Long> veranstaltungWettkampfIds) {
+        this.userId = userId;
+        this.vereinId = vereinId;
+        this.veranstaltungIds = Collections.unmodifiableSet(new HashSet<>(veranstaltungIds));
+        this.wettkampfIds = Collections.unmodifiableSet(new HashSet<>(wettkampfIds));
+        this.veranstaltungWettkampfIds = Collections.unmodifiableSet(new HashSet<>(veranstaltungWettkampfIds));
+    }
+
+
+    /**
+     * @param type of the entity
+     * @param id   of the entity
+     *
+     * @return true, if the user owns the entity
+     */
+    public boolean owns(final OwnershipType type, final Long id) {
+        if (type == null || id == null) {
+            return false;
+        }
+
+        switch (type) {
+            case VEREIN:
+                return id.equals(vereinId);
+            case VERANSTALTUNG:
+                return veranstaltungIds.contains(id);
+            case WETTKAMPF:
+                return wettkampfIds.contains(id);
+            case VERANSTALTUNG_WETTKAMPF:
+                return veranstaltungWettkampfIds.contains(id);
+            default:
+                return false;
+        }
+    }
+
+
+    public Long getUserId() {
+        return userId;
+    }
+
+
+    public Long getVereinId() {
+        return vereinId;
+    }
+
+
+    public Set<Long> getVeranstaltungIds() {
+        return veranstaltungIds;
+    }
+
+
+    public Set<Long> getWettkampfIds() {
+        return wettkampfIds;
+    }
+
+
+    public Set<Long> getVeranstaltungWettkampfIds() {
+        return veranstaltungWettkampfIds;
+    }
+
+
+    @Override
+    public String toString() {
+        return "UserOwnership{" +
+                "userId=" + userId +
+                ", vereinId=" + vereinId +
+                ", veranstaltungIds=" + veranstaltungIds +
+                ", wettkampfIds=" + wettkampfIds +
+                ", veranstaltungWettkampfIds=" + veranstaltungWettkampfIds +
+                '}';
+    }
+}
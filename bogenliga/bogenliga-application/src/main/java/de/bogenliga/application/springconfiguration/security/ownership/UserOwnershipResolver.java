@@ -0,0 +1,347 @@
+package de.bogenliga.application.springconfiguration.security.ownership;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
+import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
+import de.bogenliga.application.business.user.api.UserComponent;
+import de.bogenliga.application.business.user.api.types.UserDO;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
+import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
+import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
+import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.configuration.SecurityJsonWebTokenConfiguration;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtAuthenticationContext;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWorkSynchronization;
+
+/**
+ * I resolve the entities, which are owned by a user, to check the "MY_*" permissions.
+ * <p>
+ * A "MY_*" permission, e.g. {@link UserPermission#CAN_MODIFY_MY_VEREIN}, is only valid for the Verein, the
+ * Veranstaltungen and the Wettkaempfe of the user. I load these ids once per user and cache them, so the permission
+ * checks of the following requests do not query the database.
+ * <p>
+ * An entry is removed
+ * <ul>
+ * <li>if the entry is older than the configured time to live of the JWT cache,</li>
+ * <li>if the cache is full and the entry is the least recently used one or</li>
+ * <li>if a {@link UserOwnershipChangedEvent} is published, e.g. after the Ligaleiter of a Veranstaltung is
+ * changed.</li>
+ * </ul>
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see OwnershipType
+ */
+@Component
+public class UserOwnershipResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserOwnershipResolver.class);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserComponent userComponent;
+    private final DsbMitgliedComponent dsbMitgliedComponent;
+    private final VeranstaltungComponent veranstaltungComponent;
+    private final WettkampfComponent wettkampfComponent;
+
+    private final int maxSize;
+    private final long timeToLive;
+    private final Clock clock;
+    private final Map<Long, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+
+    @Autowired
+    public UserOwnershipResolver(final JwtTokenProvider jwtTokenProvider,
+                                 final UserComponent userComponent,
+                                 final DsbMitgliedComponent dsbMitgliedComponent,
+                                 final VeranstaltungComponent veranstaltungComponent,
+                                 final WettkampfComponent wettkampfComponent,
+                                 final SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration) {
+        this(jwtTokenProvider, userComponent, dsbMitgliedComponent, veranstaltungComponent, wettkampfComponent,
+                securityJsonWebTokenConfiguration, Clock.systemUTC());
+    }
+
+
+    UserOwnershipResolver(final JwtTokenProvider jwtTokenProvider,
+                          final UserComponent userComponent,
+                          final DsbMitgliedComponent dsbMitgliedComponent,
+                          final VeranstaltungComponent veranstaltungComponent,
+                          final WettkampfComponent wettkampfComponent,
+                          final SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration,
+                          final Clock clock) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userComponent = userComponent;
+        this.dsbMitgliedComponent = dsbMitgliedComponent;
+        this.veranstaltungComponent = veranstaltungComponent;
+        this.wettkampfComponent = wettkampfComponent;
+        this.maxSize = securityJsonWebTokenConfiguration.getCacheSize();
+        this.timeToLive = securityJsonWebTokenConfiguration.getCacheTtl();
+        this.clock = clock;
+        // access order -> least recently used entry first
+        this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+
+    /**
+     * I check a "MY_*" permission of the user of the current http request.
+     *
+     * @param permission to check, e.g. {@link UserPermission#CAN_MODIFY_MY_VEREIN}
+     * @param type       of the entity, the permission is valid for
+     * @param id         of the entity
+     *
+     * @return true, if the user has the permission and owns the entity
+     */
+    public boolean hasSpecificPermission(final UserPermission permission, final OwnershipType type, final Long id) {
+        final JwtAuthenticationContext authenticationContext = getCurrentAuthenticationContext();
+
+        if (authenticationContext == null || authenticationContext.getId() == null || id == null
+                || !authenticationContext.hasPermission(permission)) {
+            return false;
+        }
+
+        return getOwnership(authenticationContext.getId()).owns(type, id);
+    }
+
+
+    /**
+     * I check a general permission of the user of the current http request.
+     *
+     * @param permission to check
+     *
+     * @return true, if the user has the permission
+     */
+    public boolean hasPermission(final UserPermission permission) {
+        final JwtAuthenticationContext authenticationContext = getCurrentAuthenticationContext();
+
+        return authenticationContext != null && authenticationContext.hasPermission(permission);
+    }
+
+
+    /**
+     * I check, if the user of the current http request owns the entity, regardless of his permissions.
+     *
+     * @param type of the entity
+     * @param id   of the entity
+     *
+     * @return true, if the user owns the entity
+     */
+    public boolean owns(final OwnershipType type, final Long id) {
+        final JwtAuthenticationContext authenticationContext = getCurrentAuthenticationContext();
+
+        if (authenticationContext == null || authenticationContext.getId() == null || id == null) {
+            return false;
+        }
+
+        return getOwnership(authenticationContext.getId()).owns(type, id);
+    }
+
+
+    /**
+     * I return the owned entities of the user.
+     *
+     * @param userId of the user
+     *
+     * @return cached or loaded ownership of the user
+     */
+    public UserOwnership getOwnership(final long userId) {
+        final long now = clock.millis();
+
+        synchronized (entries) {
+            final Entry entry = entries.get(userId);
+
+            if (entry != null) {
+                if (entry.isValid(generation.get(), now)) {
+                    hitCount.incrementAndGet();
+                    return entry.ownership;
+                }
+
+                entries.remove(userId);
+            }
+        }
+
+        missCount.incrementAndGet();
+
+        // remember the generation before loading, a concurrent change makes the loaded ownership outdated
+        final long loadedGeneration = generation.get();
+        final UserOwnership ownership = loadOwnership(userId);
+
+        synchronized (entries) {
+            entries.put(userId, new Entry(ownership, loadedGeneration, now + timeToLive));
+        }
+
+        return ownership;
+    }
+
+
+    /**
+     * I remove the cached ownership of the user.
+     *
+     * @param userId of the user
+     */
+    public void invalidateUser(final Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+
+    /**
+     * I remove the cached ownerships of all users.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+
+    /**
+     * I remove all cached ownerships, because a changed entity may be owned by any user.
+     * <p>
+     * The cache is cleared immediately and again after the commit of the current unit of work, so an ownership,
+     * which was loaded before the commit, is not used by later requests.
+     *
+     * @param event about the changed entity
+     */
+    @EventListener
+    public void onUserOwnershipChanged(final UserOwnershipChangedEvent event) {
+        LOG.debug("Invalidate cached ownerships after {}", event);
+
+        invalidateAll();
+        UnitOfWorkSynchronization.afterCommit(this::invalidateAll);
+    }
+
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+
+    private UserOwnership loadOwnership(final long userId) {
+        final UserDO userDO = userComponent.findById(userId);
+        Long vereinId = null;
+
+        if (userDO != null && userDO.getDsb_mitglied_id() != null) {
+            final DsbMitgliedDO dsbMitgliedDO = dsbMitgliedComponent.findById(userDO.getDsb_mitglied_id());
+            vereinId = dsbMitgliedDO.getVereinsId();
+        }
+
+        final List<Long> veranstaltungIds = veranstaltungComponent.findByLigaleiterId(userId).stream()
+                .map(VeranstaltungDO::getVeranstaltungID)
+                .collect(Collectors.toList());
+
+        final List<Long> wettkampfIds = getWettkampfIds(wettkampfComponent.findByAusrichter(userId));
+
+        final List<Long> veranstaltungWettkampfIds = new ArrayList<>();
+        for (final Long veranstaltungId : veranstaltungIds) {
+            veranstaltungWettkampfIds.addAll(
+                    getWettkampfIds(wettkampfComponent.findAllByVeranstaltungId(veranstaltungId)));
+        }
+
+        final UserOwnership ownership = new UserOwnership(userId, vereinId, veranstaltungIds, wettkampfIds,
+                veranstaltungWettkampfIds);
+        LOG.debug("Loaded {}", ownership);
+        return ownership;
+    }
+
+
+    private static List<Long> getWettkampfIds(final List<WettkampfDO> wettkampfDOList) {
+        if (wettkampfDOList == null) {
+            return Collections.emptyList();
+        }
+        return wettkampfDOList.stream().map(WettkampfDO::getId).collect(Collectors.toList());
+    }
+
+
+    private JwtAuthenticationContext getCurrentAuthenticationContext() {
+        final JwtAuthenticationContext currentContext = JwtTokenProvider.getCurrentAuthenticationContext();
+
+        if (currentContext != null) {
+            return currentContext;
+        }
+
+        // get current http request from thread
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes instanceof ServletRequestAttributes) {
+            final HttpServletRequest request = ((ServletRequestAttributes) requestAttributes).getRequest();
+            final String jwt = request == null ? null : JwtTokenProvider.resolveToken(request);
+
+            if (jwt != null) {
+                return jwtTokenProvider.getAuthenticationContext(jwt);
+            }
+        }
+        return null;
+    }
+
+
+    private static final class Entry {
+        private final UserOwnership ownership;
+        private final long generation;
+        private final long validUntil;
+
+
+        private Entry(final UserOwnership ownership, final long generation, final long validUntil) {
+            this.ownership = ownership;
+            this.generation = generation;
+            this.validUntil = validUntil;
+        }
+
+
+        private boolean isValid(final long currentGeneration, final long now) {
+            return generation == currentGeneration && now < validUntil;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtAuthenticationContext;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
 
@@ -62,7 +63,8 @@ public class RequiresOnePermissionAspect {
         final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
         final HttpServletRequest request = servletRequestAttributes.getRequest();
         final String jwt = JwtTokenProvider.resolveToken(request);
-        final String username = jwtTokenProvider.getUsername(jwt);
+        final JwtAuthenticationContext authenticationContext = jwtTokenProvider.getAuthenticationContext(jwt);
+        final String username = authenticationContext.getEmail();
         Method currentMethod = getCurrentMethod(joinPoint);
 
         if (currentMethod.isAnnotationPresent(RequiresOnePermissions.class)) {
@@ -71,7 +73,7 @@ public class RequiresOnePermissionAspect {
             final UserPermission[] permisson = annotation.perm();
             boolean result = false;
             for(UserPermission entry : permisson){
-                if(hasPermission(entry)){
+                if(authenticationContext.hasPermission(entry)){
                     result = true;
                 }
 
@@ -3,6 +3,7 @@ package de.bogenliga.application.springconfiguration.security.permissions;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtAuthenticationContext;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -78,7 +79,7 @@ public class RequiresOwnIdentityAspect {
 
 
                     // custom permission check
-                    final Long id = jwtTokenProvider.getUserId(jwt);
+                    final Long id = jwtTokenProvider.getAuthenticationContext(jwt).getId();
                     Preconditions.checkNotNull(id, "JWT user id must not be null.");
                     final Long idJoinPoint = (Long) joinPoint.getArgs()[0];
                     Preconditions.checkNotNull(id, "ID in parameter must not be null.");
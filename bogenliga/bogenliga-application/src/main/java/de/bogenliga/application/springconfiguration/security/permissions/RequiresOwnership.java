@@ -0,0 +1,47 @@
+package de.bogenliga.application.springconfiguration.security.permissions;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+
+/**
+ * I restrict a "MY_*" permission to the entities, which are owned by the user.
+ * <p>
+ * The id of the entity is read from a parameter of the annotated method. If {@link #property()} is set, the id is
+ * read from this property of the parameter, e.g. the property "id" of the request body. A user with one of the
+ * general permissions of {@link #unless()} does not need to own the entity.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see RequiresOwnershipAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresOwnership {
+    /**
+     * @return "MY_*" permission, which is only valid for owned entities
+     */
+    UserPermission value();
+
+    /**
+     * @return type of the owned entity
+     */
+    OwnershipType type();
+
+    /**
+     * @return general permissions, which are valid for all entities
+     */
+    UserPermission[] unless() default {};
+
+    /**
+     * @return index of the method parameter with the id of the entity
+     */
+    int parameter() default 0;
+
+    /**
+     * @return property of the method parameter with the id of the entity or empty, if the parameter is the id
+     */
+    String property() default "";
+}
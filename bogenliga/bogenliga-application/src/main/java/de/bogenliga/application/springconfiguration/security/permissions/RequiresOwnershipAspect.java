@@ -0,0 +1,138 @@
+package de.bogenliga.application.springconfiguration.security.permissions;
+
+import java.lang.reflect.Method;
+import javax.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtAuthenticationContext;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+
+/**
+ * I implement the validation logic of the {@link RequiresOwnership} annotation.
+ * <p>
+ * The logic will be wrapped around the annotated method.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Aspect
+@Component
+public class RequiresOwnershipAspect {
+    private static final Logger LOG = LoggerFactory.getLogger(RequiresOwnershipAspect.class);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserOwnershipResolver userOwnershipResolver;
+
+
+    @Autowired
+    public RequiresOwnershipAspect(final JwtTokenProvider jwtTokenProvider,
+                                   final UserOwnershipResolver userOwnershipResolver) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userOwnershipResolver = userOwnershipResolver;
+    }
+
+
+    /**
+     * I validate the ownership of an user.
+     * <p>
+     * The user needs one of the general permissions or the "MY_*" permission for an owned entity. The owned entities
+     * are resolved by the {@link UserOwnershipResolver}.
+     *
+     * @param joinPoint of the annotated method
+     *
+     * @return next {@link ProceedingJoinPoint}
+     *
+     * @throws Throwable         if the {@link ProceedingJoinPoint} throws an exception
+     * @throws BusinessException if the user does not own the entity
+     */
+    @Around("@annotation(de.bogenliga.application.springconfiguration.security.permissions.RequiresOwnership)")
+    public Object checkOwnership(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method currentMethod = getCurrentMethod(joinPoint);
+
+        if (currentMethod.isAnnotationPresent(RequiresOwnership.class)) {
+            final RequiresOwnership annotation = currentMethod.getAnnotation(RequiresOwnership.class);
+            final JwtAuthenticationContext authenticationContext = getAuthenticationContext();
+
+            if (!hasOnePermission(authenticationContext, annotation.unless())) {
+                final Long id = getId(joinPoint.getArgs(), annotation);
+                LOG.trace("Verify ownership of {} '{}' with permission {}", annotation.type(), id, annotation.value());
+
+                if (!userOwnershipResolver.hasSpecificPermission(annotation.value(), annotation.type(), id)) {
+                    throw new BusinessException(ErrorCode.NO_PERMISSION_ERROR,
+                            String.format("User '%s' is not allowed to modify %s '%s'",
+                                    authenticationContext == null ? null : authenticationContext.getEmail(),
+                                    annotation.type(), id));
+                }
+            }
+        }
+        return joinPoint.proceed();
+    }
+
+
+    private JwtAuthenticationContext getAuthenticationContext() {
+        // get current http request from thread
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes != null) {
+            final ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
+            final HttpServletRequest request = servletRequestAttributes.getRequest();
+
+            // if request present
+            if (request != null) {
+                final String jwt = JwtTokenProvider.resolveToken(request);
+                return jwt == null ? null : jwtTokenProvider.getAuthenticationContext(jwt);
+            }
+        }
+        return null;
+    }
+
+
+    private static boolean hasOnePermission(final JwtAuthenticationContext authenticationContext,
+                                            final UserPermission[] permissions) {
+        if (authenticationContext != null) {
+            for (final UserPermission permission : permissions) {
+                if (authenticationContext.hasPermission(permission)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+
+    static Long getId(final Object[] args, final RequiresOwnership annotation) {
+        if (annotation.parameter() < 0 || annotation.parameter() >= args.length) {
+            throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR,
+                    String.format("Method has no parameter %d with the id of the %s", annotation.parameter(),
+                            annotation.type()));
+        }
+
+        Object value = args[annotation.parameter()];
+
+        if (value != null && !annotation.property().isEmpty()) {
+            value = PropertyAccessorFactory.forBeanPropertyAccess(value).getPropertyValue(annotation.property());
+        }
+
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+
+    Method getCurrentMethod(final ProceedingJoinPoint joinPoint) {
+        final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return signature.getMethod();
+    }
+}
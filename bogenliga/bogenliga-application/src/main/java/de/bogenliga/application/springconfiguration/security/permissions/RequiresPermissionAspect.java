@@ -20,6 +20,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtAuthenticationContext;
 import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
 
@@ -93,8 +94,9 @@ public class RequiresPermissionAspect {
                 final String jwt = JwtTokenProvider.resolveToken(request);
 
                 // custom permission check
-                final String username = jwtTokenProvider.getUsername(jwt);
-                final Set<UserPermission> userPermissions = jwtTokenProvider.getPermissions(jwt);
+                final JwtAuthenticationContext authenticationContext = jwtTokenProvider.getAuthenticationContext(jwt);
+                final String username = authenticationContext.getEmail();
+                final Set<UserPermission> userPermissions = authenticationContext.getPermissions();
 
                 // verify all jwt permissions are part of the required permissions
                 if (!userPermissions.containsAll(requiredPermissions)) {
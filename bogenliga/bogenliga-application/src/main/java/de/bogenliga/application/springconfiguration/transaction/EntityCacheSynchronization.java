@@ -0,0 +1,23 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+
+/**
+ * I connect the entity caches of the business components with the {@link UnitOfWork}.
+ * <p>
+ * A cache is invalidated again after the commit, because another request could have loaded the old entities before
+ * the changes of the unit of work were committed.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see UnitOfWorkSynchronization
+ */
+@Component
+public class EntityCacheSynchronization {
+
+    @Autowired
+    public EntityCacheSynchronization(final EntityCacheManager entityCacheManager) {
+        entityCacheManager.setAfterCommit(UnitOfWorkSynchronization::afterCommit);
+    }
+}
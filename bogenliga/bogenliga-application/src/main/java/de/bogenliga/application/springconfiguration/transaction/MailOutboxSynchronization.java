@@ -0,0 +1,23 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.mail.impl.business.MailComponentImpl;
+
+/**
+ * I connect the mail outbox with the {@link UnitOfWork}.
+ * <p>
+ * The dispatcher is woken up after the commit, because it reads the outbox with its own connection and would not find
+ * a mail, which is not committed yet.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see UnitOfWorkSynchronization
+ */
+@Component
+public class MailOutboxSynchronization {
+
+    @Autowired
+    public MailOutboxSynchronization(final MailComponentImpl mailComponent) {
+        mailComponent.setAfterCommit(UnitOfWorkSynchronization::afterCommit);
+    }
+}
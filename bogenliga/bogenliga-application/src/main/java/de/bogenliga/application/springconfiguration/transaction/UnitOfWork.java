@@ -0,0 +1,20 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * I mark a service method as one unit of work.
+ * <p>
+ * All database requests of the annotated method share one connection and one transaction. The transaction is
+ * committed when the method returns and rolled back if the method throws an exception.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see UnitOfWorkAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UnitOfWork {
+}
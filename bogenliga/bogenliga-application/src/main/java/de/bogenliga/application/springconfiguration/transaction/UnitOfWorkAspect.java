@@ -0,0 +1,87 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.database.tx.TransactionManager;
+
+/**
+ * I implement the transaction handling of the {@link UnitOfWork} annotation.
+ * <p>
+ * The logic will be wrapped around the annotated method. The data access objects detect the active transaction and
+ * reuse its connection instead of starting and committing their own transaction.
+ * <p>
+ * Callbacks registered with {@link UnitOfWorkSynchronization#afterCommit(Runnable)} run after the commit and the
+ * release of the connection.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Aspect
+@Component
+public class UnitOfWorkAspect {
+    private static final Logger LOG = LoggerFactory.getLogger(UnitOfWorkAspect.class);
+
+    private final TransactionManager transactionManager;
+
+
+    @Autowired
+    public UnitOfWorkAspect(final TransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+
+    /**
+     * I run the annotated method in a single transaction.
+     * <p>
+     * If a transaction is already active, e.g. for nested units of work, the method joins the active transaction.
+     *
+     * @param joinPoint of the annotated method
+     *
+     * @return result of the {@link ProceedingJoinPoint}
+     *
+     * @throws Throwable if the {@link ProceedingJoinPoint} throws an exception, the transaction is rolled back
+     */
+    @Around("@annotation(de.bogenliga.application.springconfiguration.transaction.UnitOfWork)")
+    public Object runInTransaction(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (transactionManager.isActive()) {
+            return joinPoint.proceed();
+        }
+
+        LOG.trace("Begin unit of work for '{}'", joinPoint.getSignature().getName());
+
+        boolean error = false;
+        boolean committed = false;
+        transactionManager.begin();
+        UnitOfWorkSynchronization.begin();
+
+        try {
+            return joinPoint.proceed();
+
+        } catch (final Throwable e) {
+            error = true;
+            throw e;
+
+        } finally {
+            try {
+                if (error) {
+                    transactionManager.rollback();
+                } else {
+                    transactionManager.commit();
+                    committed = true;
+                }
+            } finally {
+                transactionManager.release();
+
+                if (committed) {
+                    UnitOfWorkSynchronization.afterCommit();
+                } else {
+                    UnitOfWorkSynchronization.release();
+                }
+            }
+        }
+    }
+}
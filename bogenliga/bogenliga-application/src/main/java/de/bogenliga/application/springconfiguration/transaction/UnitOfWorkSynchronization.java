@@ -0,0 +1,89 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * I hold the callbacks of the {@link UnitOfWork} of the current thread, which should run after the commit.
+ * <p>
+ * Notifications about changed data must not be sent before the transaction is committed. Otherwise the receivers
+ * could read the old data or get notified about changes, which are rolled back.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see UnitOfWorkAspect
+ */
+public final class UnitOfWorkSynchronization {
+    private static final Logger LOG = LoggerFactory.getLogger(UnitOfWorkSynchronization.class);
+
+    private static final ThreadLocal<List<Runnable>> AFTER_COMMIT_CALLBACKS = new ThreadLocal<>();
+
+
+    private UnitOfWorkSynchronization() {
+        // empty private constructor
+    }
+
+
+    /**
+     * I run the callback after the commit of the current {@link UnitOfWork}.
+     * <p>
+     * Without an active unit of work, the data access objects have already committed their changes and the callback
+     * runs immediately. If the unit of work is rolled back, the callback is discarded.
+     * <p>
+     * A failing callback is logged and does not affect the committed changes or the other callbacks.
+     *
+     * @param callback to run after the commit
+     */
+    public static void afterCommit(final Runnable callback) {
+        final List<Runnable> callbacks = AFTER_COMMIT_CALLBACKS.get();
+
+        if (callbacks == null) {
+            run(callback);
+        } else {
+            callbacks.add(callback);
+        }
+    }
+
+
+    /**
+     * @return true, if a {@link UnitOfWork} is active for the current thread
+     */
+    public static boolean isActive() {
+        return AFTER_COMMIT_CALLBACKS.get() != null;
+    }
+
+
+    static void begin() {
+        AFTER_COMMIT_CALLBACKS.set(new ArrayList<>());
+    }
+
+
+    /**
+     * I run all registered callbacks of the committed unit of work.
+     */
+    static void afterCommit() {
+        final List<Runnable> callbacks = AFTER_COMMIT_CALLBACKS.get();
+        AFTER_COMMIT_CALLBACKS.remove();
+
+        if (callbacks == null) {
+            return;
+        }
+
+        callbacks.forEach(UnitOfWorkSynchronization::run);
+    }
+
+
+    static void release() {
+        AFTER_COMMIT_CALLBACKS.remove();
+    }
+
+
+    private static void run(final Runnable callback) {
+        try {
+            callback.run();
+        } catch (final RuntimeException e) {
+            LOG.error("After commit callback failed", e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+-- materialisierter Stand der Ligatabelle
+-- die View "ligatabelle" aggregierte bei jedem Lesen alle Matches inkl. Self-Join auf die Gegner-Matches
+-- die Summen werden jetzt pro Wettkampf und Mannschaft gespeichert und beim Speichern eines Matches
+-- für den betroffenen Wettkampf aktualisiert (LigatabelleDAO.refreshWettkampf)
+
+CREATE TABLE ligatabelle_stand (
+  ligatabelle_stand_wettkampf_id       DECIMAL(19, 0) NOT NULL, -- Fremdschlüsselbezug zum Wettkampf
+  ligatabelle_stand_mannschaft_id      DECIMAL(19, 0) NOT NULL, -- Fremdschlüsselbezug zur Mannschaft
+
+  ligatabelle_stand_matchpkt           NUMERIC        NULL,     -- Summe aller eigene Matchpunkte
+  ligatabelle_stand_matchpkt_gegen     NUMERIC        NULL,     -- Summe aller gegnerischen Matchpunkte
+  ligatabelle_stand_satzpkt            NUMERIC        NULL,     -- Summe aller eigenen Satzpunkte
+  ligatabelle_stand_satzpkt_gegen      NUMERIC        NULL,     -- Summe aller gegnerischen Satzpunkte
+  ligatabelle_stand_satzpkt_differenz  NUMERIC        NULL,     -- Differenz der Satzpunkte
+
+  -- primary key (pk)
+  -- scheme: pk_{column name}
+  CONSTRAINT pk_ligatabelle_stand PRIMARY KEY (ligatabelle_stand_wettkampf_id, ligatabelle_stand_mannschaft_id),
+
+  -- foreign key (fk)
+  -- schema: fk_{current table name}_{foreign key origin table name}
+  CONSTRAINT fk_ligatabelle_stand_wettkampf FOREIGN KEY (ligatabelle_stand_wettkampf_id)
+    REFERENCES wettkampf (wettkampf_id)
+    ON DELETE CASCADE, -- das Löschen eines Wettkampfs löscht auch den zugehörigen Stand
+
+  CONSTRAINT fk_ligatabelle_stand_mannschaft FOREIGN KEY (ligatabelle_stand_mannschaft_id)
+    REFERENCES mannschaft (mannschaft_id)
+    ON DELETE CASCADE -- das Löschen einer Mannschaft löscht auch den zugehörigen Stand
+);
+
+-- Suche des letzten Wettkampftags einer Veranstaltung
+CREATE INDEX ix_wettkampf_veranstaltung_tag ON wettkampf (wettkampf_veranstaltung_id, wettkampf_tag);
+
+
+-- initialer Stand aus den vorhandenen Matches
+INSERT INTO ligatabelle_stand (
+  ligatabelle_stand_wettkampf_id,
+  ligatabelle_stand_mannschaft_id,
+  ligatabelle_stand_matchpkt,
+  ligatabelle_stand_matchpkt_gegen,
+  ligatabelle_stand_satzpkt,
+  ligatabelle_stand_satzpkt_gegen,
+  ligatabelle_stand_satzpkt_differenz
+)
+SELECT
+  match.match_wettkampf_id,
+  match.match_mannschaft_id,
+  sum(match.match_matchpunkte),
+  sum(match_gegen.match_matchpunkte),
+  sum(match.match_satzpunkte),
+  sum(match_gegen.match_satzpunkte),
+  (sum(match.match_satzpunkte) - sum(match_gegen.match_satzpunkte))
+FROM match
+  JOIN match AS match_gegen
+    ON match.match_wettkampf_id = match_gegen.match_wettkampf_id
+    AND match.match_nr = match_gegen.match_nr
+    AND match.match_begegnung = match_gegen.match_begegnung
+    AND match.match_mannschaft_id != match_gegen.match_mannschaft_id
+GROUP BY match.match_wettkampf_id,
+         match.match_mannschaft_id;
+
+
+-- die View liest nur noch den gespeicherten Stand und ergänzt die Namen über die Primärschlüssel
+DROP VIEW IF EXISTS ligatabelle;
+
+CREATE VIEW ligatabelle (
+  ligatabelle_veranstaltung_id,     -- Bezug zum Sportjahr
+  ligatabelle_veranstaltung_name,   -- Name der Veranstaltung
+  ligatabelle_wettkampf_id,         -- Daten des einzelnen Wettkampfs
+  ligatabelle_wettkampf_tag,        -- Liga hat 4 Wettkampftage, initiale Ligatabelle für Tag 0
+  ligatabelle_mannschaft_id,        -- Bezug zur Mannschaft
+  ligatabelle_mannschaft_nummer,    -- Nummer der Mannschaft
+  ligatabelle_verein_id,            -- Bezug zum Verein
+  ligatabelle_verein_name,          -- Name des Vereins
+  ligatabelle_matchpkt,             -- Summe aller eigene Matchpunkte
+  ligatabelle_matchpkt_gegen,       -- Summe aller gegnerischen Matchpunkte
+  ligatabelle_satzpkt,              -- Summe aller eigenen Satzpunkte
+  ligatabelle_satzpkt_gegen,        -- Summe aller gegnerischen Satzpunkte
+  ligatabelle_satzpkt_differenz,    -- Differrenz der Satzpunkte
+  ligatabelle_sortierung            -- editierbares Attribut der Mannschaft für Sortierung bei Punkte-Gleichstand
+  )
+  AS (
+  SELECT
+    veranstaltung_id,
+    veranstaltung_name,
+    wettkampf_id,
+    wettkampf_tag,
+    mannschaft_id,
+    mannschaft_nummer,
+    verein_id,
+    verein_name,
+    ligatabelle_stand_matchpkt,
+    ligatabelle_stand_matchpkt_gegen,
+    ligatabelle_stand_satzpkt,
+    ligatabelle_stand_satzpkt_gegen,
+    ligatabelle_stand_satzpkt_differenz,
+    mannschaft_sortierung
+  FROM ligatabelle_stand
+    JOIN wettkampf ON ligatabelle_stand_wettkampf_id = wettkampf_id
+    JOIN veranstaltung ON wettkampf_veranstaltung_id = veranstaltung_id
+    JOIN mannschaft ON ligatabelle_stand_mannschaft_id = mannschaft_id
+    JOIN verein ON mannschaft_verein_id = verein_id
+);
@@ -0,0 +1,40 @@
+-- Postausgang der Mails, z.B. des Feedbacks an die Administratoren
+-- die Mails werden im Request nur gespeichert und von einem Hintergrund-Thread gebündelt versendet
+-- fehlgeschlagene Mails werden mit wachsendem Abstand erneut versendet (MailComponentImpl)
+
+-- auto increment sequence (sq)
+CREATE SEQUENCE sq_mail_outbox_id START WITH 1000 INCREMENT BY 1;
+
+CREATE TABLE mail_outbox (
+  mail_outbox_id                   DECIMAL(19,0)  NOT NULL    DEFAULT nextval('sq_mail_outbox_id'), -- DECIMAL(19,0) = unsigned long
+  mail_outbox_recipients           TEXT           NOT NULL,  -- kommagetrennte Mail-Adressen
+  mail_outbox_subject              VARCHAR(200)   NOT NULL,
+  mail_outbox_text                 TEXT           NOT NULL,
+  mail_outbox_attempts             INTEGER        NOT NULL    DEFAULT 0,
+  mail_outbox_next_attempt_at_utc  TIMESTAMP      NOT NULL    DEFAULT (now() AT TIME ZONE 'utc'),
+  mail_outbox_sent_at_utc          TIMESTAMP      NULL        DEFAULT NULL, -- leer, solange die Mail nicht versendet ist
+  mail_outbox_last_error           TEXT           NULL        DEFAULT NULL,
+
+  -- technical columns to track the lifecycle of each row
+  -- the "_by" columns references a "benutzer_id" without foreign key constraint
+  -- the "_at_utc" columns using the timestamp with the UTC timezone
+  -- the version number is automatically incremented by UPDATE queries to detect optimistic concurrency problems
+  created_at_utc        TIMESTAMP        NOT NULL    DEFAULT (now() AT TIME ZONE 'utc'),
+  created_by            DECIMAL(19,0)    NOT NULL    DEFAULT 0,
+  last_modified_at_utc  TIMESTAMP        NULL        DEFAULT NULL,
+  last_modified_by      DECIMAL(19,0)    NULL        DEFAULT NULL,
+  version               DECIMAL(19,0)    NOT NULL    DEFAULT 0,
+
+  -- primary key (pk)
+  -- scheme: pk_{column name}
+  CONSTRAINT pk_mail_outbox_id PRIMARY KEY (mail_outbox_id)
+);
+
+-- define a trigger of each UPDATE statement on this table to increment the version of the affected row automatically
+CREATE TRIGGER tr_mail_outbox_update_version
+  BEFORE UPDATE ON mail_outbox
+  FOR EACH ROW EXECUTE PROCEDURE update_row_version();
+
+-- Suche der fälligen, noch nicht versendeten Mails
+CREATE INDEX ix_mail_outbox_next_attempt ON mail_outbox (mail_outbox_next_attempt_at_utc)
+  WHERE mail_outbox_sent_at_utc IS NULL;
@@ -0,0 +1,73 @@
+package de.bogenliga.application.services.common.paging;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class CursorTokenTest {
+
+    @Test
+    public void encode_decode() {
+        // prepare test data
+        final List<Long> key = Arrays.asList(42L, 7L);
+
+        // call test method
+        final String cursor = CursorToken.encode(key);
+        final List<Long> actual = CursorToken.decode(cursor);
+
+        // assert result
+        assertThat(cursor).isEqualTo("NDIsNw");
+        assertThat(actual).containsExactly(42L, 7L);
+    }
+
+
+    @Test
+    public void encode_withEmptyKey_shouldReturnNull() {
+        assertThat(CursorToken.encode(Collections.emptyList())).isNull();
+        assertThat(CursorToken.decode(null)).isEmpty();
+    }
+
+
+    @Test
+    public void decode_withInvalidCursor_shouldThrowException() {
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> CursorToken.decode("YWJj"))
+                .withMessageContaining("YWJj");
+    }
+
+
+    @Test
+    public void toPageRequest() {
+        // call test method
+        final PageRequest actual = CursorToken.toPageRequest("NDI", 10, Collections.singletonList("id"));
+
+        // assert result
+        assertThat(actual.getAfterKey()).containsExactly(42L);
+        assertThat(actual.getLimit()).isEqualTo(10);
+        assertThat(actual.getFields()).containsExactly("id");
+    }
+
+
+    @Test
+    public void pageDTO_of() {
+        // prepare test data
+        final Page<Long> page = new Page<>(Arrays.asList(1L, 2L), Collections.singletonList(2L));
+
+        // call test method
+        final PageDTO<String> actual = PageDTO.of(page, String::valueOf);
+
+        // assert result
+        assertThat(actual.getContent()).containsExactly("1", "2");
+        assertThat(actual.getNextCursor()).isEqualTo(CursorToken.encode(Collections.singletonList(2L)));
+    }
+}
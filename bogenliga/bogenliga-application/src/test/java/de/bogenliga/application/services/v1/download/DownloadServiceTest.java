@@ -1,16 +1,35 @@
 package de.bogenliga.application.services.v1.download;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import de.bogenliga.application.business.document.api.DocumentWriter;
+import de.bogenliga.application.business.reportdata.api.ReportDataComponent;
+import de.bogenliga.application.business.reportdata.api.types.ReportVersionDO;
 import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
+import de.bogenliga.application.common.cache.DocumentCache;
+import de.bogenliga.application.common.configuration.DocumentCacheConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.mockito.Mockito.*;
 
 /**
@@ -20,6 +39,8 @@ import static org.mockito.Mockito.*;
 public class DownloadServiceTest {
 
     private static final int WETTKAMPF_ID = 30;
+    private static final ReportVersionDO VERSION = new ReportVersionDO("match:42.7.4711.1546300800000",
+            new Timestamp(1546300800000L));
 
     @Rule
     public MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -27,31 +48,123 @@ public class DownloadServiceTest {
 
     @Mock
     private SetzlisteComponent setzlisteComponent;
+    @Mock
+    private ReportDataComponent reportDataComponent;
+    @Mock
+    private DocumentWriter documentWriter;
+    @Spy
+    private DocumentCache documentCache = new DocumentCache(getDocumentCacheConfiguration());
 
     @InjectMocks
     private DownloadService DownloadService;
 
+
+    private static DocumentCacheConfiguration getDocumentCacheConfiguration() {
+        final DocumentCacheConfiguration documentCacheConfiguration = new DocumentCacheConfiguration();
+        documentCacheConfiguration.setDiskSize(0);
+        return documentCacheConfiguration;
+    }
+
+
+    private static ServletWebRequest getWebRequest(final String ifNoneMatch) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/download/pdf/setzliste");
+
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
     @Before
     public void initMocks() {
+        when(reportDataComponent.findSetzlisteVersion(anyLong())).thenReturn(VERSION);
+        when(setzlisteComponent.preparePDF(anyLong())).thenReturn(documentWriter);
+    }
+
+    @Test
+    public void downloadSetzlistePdf() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final ServletWebRequest webRequest = getWebRequest(null);
+
+        //call test method
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID,
+                webRequest);
+
+        //assert result
+        Assertions.assertThat(actual).isNotNull();
+        Assertions.assertThat(actual.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
+        Assertions.assertThat(actual.getHeaders().getContentLength()).isEqualTo(-1);
+        Assertions.assertThat(webRequest.getResponse().getHeader(HttpHeaders.ETAG))
+                .isEqualTo("\"" + DocumentCache.address("setzliste/" + WETTKAMPF_ID, VERSION.getStamp()) + "\"");
+
+        // the data is loaded before the response is returned, the document is written when the body is sent
+        verify(setzlisteComponent).preparePDF(WETTKAMPF_ID);
+        verify(documentWriter, never()).writeTo(any(OutputStream.class));
 
+        actual.getBody().writeTo(outputStream);
+
+        //verify invocations
+        final InOrder inOrder = inOrder(setzlisteComponent, reportDataComponent);
+        inOrder.verify(setzlisteComponent).generateMatchesBySetzliste(WETTKAMPF_ID);
+        inOrder.verify(reportDataComponent).findSetzlisteVersion(WETTKAMPF_ID);
+        inOrder.verify(setzlisteComponent).preparePDF(WETTKAMPF_ID);
+        verify(documentWriter).writeTo(any(OutputStream.class));
+        verify(setzlisteComponent, never()).writePDF(anyLong(), any(OutputStream.class));
+        verify(setzlisteComponent, never()).getPDFasByteArray(anyLong());
+        verify(documentCache).put(eq("setzliste/" + WETTKAMPF_ID), eq(VERSION.getStamp()), any());
     }
 
     @Test
-    public void downloadSetzlistePdf() {
+    public void downloadSetzlistePdf_withCachedDocument_shouldNotPrepareDocument() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] document = "%PDF-1.7".getBytes();
+        documentCache.put("setzliste/" + WETTKAMPF_ID, VERSION.getStamp(), document);
 
-        final byte[] test = new byte[0];
+        //call test method
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID,
+                getWebRequest(null));
+        actual.getBody().writeTo(outputStream);
+
+        //assert result
+        Assertions.assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(actual.getHeaders().getContentLength()).isEqualTo(document.length);
+        Assertions.assertThat(outputStream.toByteArray()).isEqualTo(document);
 
+        //verify invocations
+        verify(setzlisteComponent).generateMatchesBySetzliste(WETTKAMPF_ID);
+        verify(setzlisteComponent, never()).preparePDF(anyLong());
+    }
+
+    @Test
+    public void downloadSetzlistePdf_withMissingData_shouldThrowExceptionBeforeResponse() {
         //configure Mocks
-        when(setzlisteComponent.getPDFasByteArray(WETTKAMPF_ID)).thenReturn(test);
+        when(setzlisteComponent.preparePDF(anyLong()))
+                .thenThrow(new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Setzliste existiert noch nicht"));
 
         //call test method
-        final ResponseEntity<InputStreamResource> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID);
+        Assertions.assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> DownloadService.downloadSetzlistePdf(WETTKAMPF_ID, getWebRequest(null)));
+
+        //verify invocations
+        verify(documentWriter, never()).writeTo(any(OutputStream.class));
+        verify(documentCache, never()).put(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void downloadSetzlistePdf_withCurrentETag_shouldReturnNotModified() {
+        final String eTag = "\"" + DocumentCache.address("setzliste/" + WETTKAMPF_ID, VERSION.getStamp()) + "\"";
+
+        //call test method
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID,
+                getWebRequest(eTag));
 
         //assert result
-        Assertions.assertThat(actual).isNotNull();
+        Assertions.assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        Assertions.assertThat(actual.getBody()).isNull();
 
         //verify invocations
-        verify(setzlisteComponent).getPDFasByteArray(WETTKAMPF_ID);
-
+        verify(setzlisteComponent).generateMatchesBySetzliste(WETTKAMPF_ID);
+        verify(setzlisteComponent, never()).preparePDF(anyLong());
+        verify(documentCache, never()).get(anyString(), anyString());
     }
-}
\ No newline at end of file
+}
@@ -17,6 +17,7 @@ import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponen
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.dsbmannschaft.impl.entity.DsbMannschaftBE;
 import de.bogenliga.application.services.v1.dsbmannschaft.model.DsbMannschaftDTO;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -48,6 +49,9 @@ public class DsbMannschaftServiceTest {
     @Mock
     private Principal principal;
 
+    @Mock
+    private UserOwnershipResolver userOwnershipResolver;
+
     @InjectMocks
     private DsbMannschaftService underTest;
 
@@ -18,6 +18,7 @@ import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.dsbmitglied.impl.entity.DsbMitgliedBE;
 import de.bogenliga.application.services.v1.dsbmitglied.model.DsbMitgliedDTO;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -56,6 +57,9 @@ public class DsbMitgliedServiceTest {
     @Mock
     private Principal principal;
 
+    @Mock
+    private UserOwnershipResolver userOwnershipResolver;
+
     @InjectMocks
     private DsbMitgliedService underTest;
 
@@ -0,0 +1,179 @@
+package de.bogenliga.application.services.v1.livescoring.service;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bogenliga.application.services.v1.livescoring.model.LiveScoringTabletSessionDTO;
+import de.bogenliga.application.services.v1.match.model.MatchDTO;
+import de.bogenliga.application.services.v1.tabletsession.model.TabletSessionDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class LiveScoringBroadcasterTest {
+
+    private static final long WETTKAMPF_ID = 42L;
+    private static final long OTHER_WETTKAMPF_ID = 43L;
+    private static final String JSON = "[]";
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private ObjectMapper objectMapper;
+    @Mock
+    private SseEmitter emitter;
+
+    private ExecutorService executorService;
+    private LiveScoringBroadcaster underTest;
+
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+        underTest = new LiveScoringBroadcaster(objectMapper, executorService) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+
+    private void awaitEvents() throws InterruptedException {
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+
+    @Test
+    public void publishMatches() throws IOException, InterruptedException {
+        // prepare test data
+        final List<MatchDTO> matchDTOs = Collections.singletonList(new MatchDTO());
+
+        // configure mocks
+        when(objectMapper.writeValueAsString(matchDTOs)).thenReturn(JSON);
+
+        // call test method
+        final SseEmitter actual = underTest.subscribe(WETTKAMPF_ID);
+        underTest.publishMatches(WETTKAMPF_ID, matchDTOs);
+        awaitEvents();
+
+        // assert result
+        assertThat(actual).isSameAs(emitter);
+        assertThat(underTest.getSubscriberCount(WETTKAMPF_ID)).isEqualTo(1);
+
+        // verify invocations
+        verify(objectMapper, times(1)).writeValueAsString(matchDTOs);
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+
+    @Test
+    public void publishTabletSession_shouldNotSendAccessToken() throws IOException, InterruptedException {
+        // prepare test data
+        final TabletSessionDTO tabletSessionDTO = new TabletSessionDTO(WETTKAMPF_ID, 3L, 2L, 7L, true, 123456L);
+        tabletSessionDTO.setOtherMatchId(8L);
+        final ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+
+        // configure mocks
+        when(objectMapper.writeValueAsString(any())).thenReturn(JSON);
+
+        // call test method
+        underTest.subscribe(WETTKAMPF_ID);
+        underTest.publishTabletSession(WETTKAMPF_ID, tabletSessionDTO);
+        awaitEvents();
+
+        // assert result
+        verify(objectMapper).writeValueAsString(payload.capture());
+        assertThat(payload.getValue()).isInstanceOf(LiveScoringTabletSessionDTO.class);
+
+        final LiveScoringTabletSessionDTO actual = (LiveScoringTabletSessionDTO) payload.getValue();
+        assertThat(actual.getWettkampfId()).isEqualTo(WETTKAMPF_ID);
+        assertThat(actual.getScheibennummer()).isEqualTo(3L);
+        assertThat(actual.getSatznummer()).isEqualTo(2L);
+        assertThat(actual.getMatchId()).isEqualTo(7L);
+        assertThat(actual.getOtherMatchId()).isEqualTo(8L);
+        assertThat(actual.isActive()).isTrue();
+        assertThat(new ObjectMapper().writeValueAsString(actual)).doesNotContain("accessToken");
+
+        // verify invocations
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+
+    @Test
+    public void publishTabletSession_withoutSubscribers_shouldNotSerialize() throws IOException, InterruptedException {
+        // prepare test data
+        final TabletSessionDTO tabletSessionDTO = new TabletSessionDTO();
+
+        // call test method
+        underTest.subscribe(OTHER_WETTKAMPF_ID);
+        underTest.publishTabletSession(WETTKAMPF_ID, tabletSessionDTO);
+        awaitEvents();
+
+        // assert result
+        assertThat(underTest.getSubscriberCount(WETTKAMPF_ID)).isZero();
+
+        // verify invocations
+        verifyZeroInteractions(objectMapper);
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+
+    @Test
+    public void publishMatches_withDisconnectedClient_shouldUnsubscribe() throws IOException, InterruptedException {
+        // prepare test data
+        final List<MatchDTO> matchDTOs = Collections.singletonList(new MatchDTO());
+        final IOException error = new IOException("Broken pipe");
+
+        // configure mocks
+        when(objectMapper.writeValueAsString(matchDTOs)).thenReturn(JSON);
+        doThrow(error).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // call test method
+        underTest.subscribe(WETTKAMPF_ID);
+        underTest.publishMatches(WETTKAMPF_ID, matchDTOs);
+        awaitEvents();
+
+        // assert result
+        assertThat(underTest.getSubscriberCount(WETTKAMPF_ID)).isZero();
+
+        // verify invocations
+        verify(emitter, times(1)).completeWithError(error);
+    }
+
+
+    @Test
+    public void publishMatches_withStoppedDispatcher_shouldDropEvent() throws IOException {
+        // prepare test data
+        final List<MatchDTO> matchDTOs = Collections.singletonList(new MatchDTO());
+
+        // call test method
+        underTest.subscribe(WETTKAMPF_ID);
+        underTest.shutdown();
+        underTest.publishMatches(WETTKAMPF_ID, matchDTOs);
+
+        // assert result
+        assertThat(underTest.getSubscriberCount(WETTKAMPF_ID)).isEqualTo(1);
+
+        // verify invocations
+        verifyZeroInteractions(objectMapper);
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+}
@@ -4,9 +4,11 @@ import java.security.Principal;
 import java.sql.Date;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import javax.naming.NoPermissionException;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -14,6 +16,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.passe.api.PasseComponent;
@@ -28,10 +33,15 @@ import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.business.wettkampftyp.api.WettkampfTypComponent;
 import de.bogenliga.application.business.wettkampftyp.api.types.WettkampfTypDO;
+import de.bogenliga.application.services.v1.livescoring.service.LiveScoringBroadcaster;
 import de.bogenliga.application.services.v1.match.mapper.MatchDTOMapper;
 import de.bogenliga.application.services.v1.match.model.MatchDTO;
 import de.bogenliga.application.services.v1.passe.mapper.PasseDTOMapper;
 import de.bogenliga.application.services.v1.passe.model.PasseDTO;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
 import static java.lang.Math.toIntExact;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Java6Assertions.assertThatThrownBy;
@@ -70,6 +80,15 @@ public class MatchServiceTest {
     @Mock
     private MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
 
+    @Mock
+    private LiveScoringBroadcaster liveScoringBroadcaster;
+
+    @Mock
+    private UserOwnershipResolver userOwnershipResolver;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
     @InjectMocks
     private MatchService underTest;
 
@@ -334,6 +353,42 @@ public class MatchServiceTest {
     }
 
 
+    @Test
+    public void findInklNameby() {
+        final MatchDO matchDO = getMatchDO();
+        final List<MatchDO> matchDOList = Arrays.asList(matchDO, getMatchDO());
+        final DsbMannschaftDO mannschaftDO = getMannschaftDO(MATCH_MANNSCHAFT_ID);
+        // the name is filled by the DsbMannschaftComponent
+        mannschaftDO.setName(VEREIN_NAME + ' ' + M_nummer);
+        when(matchComponent.findByWettkampfId(anyLong())).thenReturn(matchDOList);
+        when(mannschaftComponent.findByIds(any())).thenReturn(Collections.singletonList(mannschaftDO));
+
+        final List<MatchDTO> actual = underTest.findInklNameby(MATCH_WETTKAMPF_ID);
+        assertThat(actual).isNotNull().hasSize(2);
+        assertThat(actual.get(0).getMannschaftName()).isEqualTo(VEREIN_NAME + '-' + M_nummer);
+        assertThat(actual.get(1).getMannschaftName()).isEqualTo(VEREIN_NAME + '-' + M_nummer);
+
+        //verify invocations
+        verify(matchComponent).findByWettkampfId(MATCH_WETTKAMPF_ID);
+        verify(mannschaftComponent).findByIds(Collections.singleton(MATCH_MANNSCHAFT_ID));
+        verify(mannschaftComponent, never()).findById(anyLong());
+        verifyZeroInteractions(vereinComponent);
+    }
+
+
+    @Test
+    public void findInklNameby_withoutVerein_shouldReturnEmptyName() {
+        final List<MatchDO> matchDOList = Collections.singletonList(getMatchDO());
+        final DsbMannschaftDO mannschaftDO = getMannschaftDO(MATCH_MANNSCHAFT_ID);
+        when(matchComponent.findByWettkampfId(anyLong())).thenReturn(matchDOList);
+        when(mannschaftComponent.findByIds(any())).thenReturn(Collections.singletonList(mannschaftDO));
+
+        final List<MatchDTO> actual = underTest.findInklNameby(MATCH_WETTKAMPF_ID);
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getMannschaftName()).isEmpty();
+    }
+
+
     @Test
     public void saveMatches() {
         MatchDO matchDO1 = getMatchDO();
@@ -352,6 +407,86 @@ public class MatchServiceTest {
     }
 
 
+    private List<MatchDTO> getMatchDTOs() {
+        MatchDTO matchDTO = MatchDTOMapper.toDTO.apply(getMatchDO());
+        return Arrays.asList(matchDTO, matchDTO);
+    }
+
+
+    @After
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+
+    @Test
+    public void saveMatches_withModifyWettkampf() throws NoPermissionException {
+        // prepare test data
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer jwt");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // configure mocks
+        when(jwtTokenProvider.getPermissions("jwt"))
+                .thenReturn(Collections.singleton(UserPermission.CAN_MODIFY_WETTKAMPF));
+        when(mannschaftsmitgliedComponent.findAllSchuetzeInTeam(anyLong())).thenReturn(getMannschaftsMitglieder());
+
+        // call test method
+        final List<MatchDTO> actual = underTest.saveMatches(getMatchDTOs(), principal);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+
+        // verify invocations
+        verifyZeroInteractions(userOwnershipResolver);
+    }
+
+
+    @Test
+    public void saveMatches_withAusrichterOfWettkampf() throws NoPermissionException {
+        // configure mocks
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.WETTKAMPF, MATCH_WETTKAMPF_ID)).thenReturn(true);
+        when(mannschaftsmitgliedComponent.findAllSchuetzeInTeam(anyLong())).thenReturn(getMannschaftsMitglieder());
+
+        // call test method
+        final List<MatchDTO> actual = underTest.saveMatches(getMatchDTOs(), principal);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+    }
+
+
+    @Test
+    public void saveMatches_withLigaleiterOfWettkampf() throws NoPermissionException {
+        // configure mocks
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG_WETTKAMPF, MATCH_WETTKAMPF_ID)).thenReturn(true);
+        when(mannschaftsmitgliedComponent.findAllSchuetzeInTeam(anyLong())).thenReturn(getMannschaftsMitglieder());
+
+        // call test method
+        final List<MatchDTO> actual = underTest.saveMatches(getMatchDTOs(), principal);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+    }
+
+
+    @Test
+    public void saveMatches_withForeignUser_shouldThrowException() {
+        // call test method
+        assertThatThrownBy(() -> underTest.saveMatches(getMatchDTOs(), principal))
+                .isInstanceOf(NoPermissionException.class);
+
+        // verify invocations
+        verify(userOwnershipResolver).hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.WETTKAMPF, MATCH_WETTKAMPF_ID);
+        verify(userOwnershipResolver).hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG_WETTKAMPF, MATCH_WETTKAMPF_ID);
+        verifyZeroInteractions(matchComponent);
+    }
+
+
     @Test
     public void saveMatches_Null() {
         MatchDO matchDO1 = getMatchDO();
@@ -375,8 +510,6 @@ public class MatchServiceTest {
 
         PasseDTO passe1 = getPasseDTO(PASSE_ID_1, toIntExact(MM_rueckennummer_1));
         PasseDTO passe2 = getPasseDTO(PASSE_ID_2, toIntExact(MM_rueckennummer_2));
-        PasseDO passe1DO = PasseDTOMapper.toDO.apply(passe1);
-        PasseDO passe2DO = PasseDTOMapper.toDO.apply(passe2);
 
         // change lfdnr of passe2 to make them distinguishable
         passe2.setLfdNr(PASSE_LFDR_NR + 1);
@@ -393,8 +526,6 @@ public class MatchServiceTest {
 
         when(mannschaftsmitgliedComponent.findAllSchuetzeInTeam(anyLong())).thenReturn(getMannschaftsMitglieder());
         when(mannschaftsmitgliedComponent.findByMemberAndTeamId(anyLong(), anyLong())).thenReturn(getMannschaftsMitglieder().get(0));
-        when(passeComponent.findById(PASSE_ID_1)).thenReturn(passe1DO);
-        when(passeComponent.findById(PASSE_ID_2)).thenReturn(passe2DO);
 
         try {
         final List<MatchDTO> actual = underTest.saveMatches(matches, principal);
@@ -402,8 +533,11 @@ public class MatchServiceTest {
         MatchService.checkPreconditions(actual.get(0), MatchService.matchConditionErrors);
         MatchService.checkPreconditions(actual.get(1), MatchService.matchConditionErrors);
 
-        // make sure update was called twice per passed DTO
-        verify(passeComponent, times(4)).update(any(PasseDO.class), eq(CURRENT_USER_ID));
+        // make sure all passen are saved with one call and without existence check
+        verify(passeComponent).createOrUpdate(argThat(passeDOs -> passeDOs.size() == 4), eq(CURRENT_USER_ID));
+        verify(passeComponent, never()).findById(anyLong());
+        verify(matchComponent).updateAll(argThat(matchDOs -> matchDOs.size() == 2), eq(CURRENT_USER_ID));
+        verify(liveScoringBroadcaster).publishMatches(MATCH_WETTKAMPF_ID, matches);
 
         } catch (NoPermissionException e) {
         }
@@ -467,8 +601,10 @@ public class MatchServiceTest {
             MatchService.checkPreconditions(actual.get(0), MatchService.matchConditionErrors);
             MatchService.checkPreconditions(actual.get(1), MatchService.matchConditionErrors);
 
-            // make sure create was called twice per passed DTO
-            verify(passeComponent, times(4)).create(any(PasseDO.class), eq(CURRENT_USER_ID));
+            // make sure all passen are saved with one call
+            verify(passeComponent).createOrUpdate(argThat(passeDOs -> passeDOs.size() == 4), eq(CURRENT_USER_ID));
+            // the passen of both teams are created for the same schuetzen
+            verify(passeComponent, times(2)).findByWettkampfIdAndMitgliedId(anyLong(), anyLong());
 
         } catch (NoPermissionException e) {
         }
@@ -4,6 +4,7 @@ import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
 import de.bogenliga.application.services.v1.vereine.model.VereineDTO;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
 import org.assertj.core.data.Offset;
 import org.junit.Before;
 import org.junit.Rule;
@@ -56,6 +57,9 @@ public class VereineServiceTest {
     @Mock
     private Principal principal;
 
+    @Mock
+    private UserOwnershipResolver userOwnershipResolver;
+
     @InjectMocks
     private VereineService underTest;
 
@@ -0,0 +1,175 @@
+package de.bogenliga.application.springconfiguration.security.jsonwebtoken;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Date;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.user.api.types.UserRolesChangedEvent;
+import de.bogenliga.application.common.configuration.SecurityJsonWebTokenConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class JwtClaimsCacheTest {
+    private static final String TOKEN = "token";
+    private static final String OTHER_TOKEN = "other-token";
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final long NOW = 1000000L;
+    private static final long TTL = 1000L;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private Clock clock;
+
+    private JwtClaimsCache underTest;
+
+
+    private static JwtAuthenticationContext getContext(final String token, final Long userId, final Date expiration) {
+        return new JwtAuthenticationContext(token, userId, 1L, "user", Collections.emptySet(), 0, expiration);
+    }
+
+
+    @Before
+    public void initUnderTest() {
+        final SecurityJsonWebTokenConfiguration configuration = new SecurityJsonWebTokenConfiguration();
+        configuration.setCacheSize(2);
+        configuration.setCacheTtl(TTL);
+
+        when(clock.millis()).thenReturn(NOW);
+
+        underTest = new JwtClaimsCache(configuration, clock);
+    }
+
+
+    @Test
+    public void get() {
+        // prepare test data
+        final JwtAuthenticationContext context = getContext(TOKEN, USER_ID, null);
+        underTest.put(context);
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.get(TOKEN);
+
+        // assert result
+        assertThat(actual).isSameAs(context);
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+        assertThat(underTest.getMissCount()).isEqualTo(0);
+    }
+
+
+    @Test
+    public void get_withUnknownToken() {
+        // prepare test data
+        underTest.put(getContext(TOKEN, USER_ID, null));
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.get(OTHER_TOKEN);
+
+        // assert result
+        assertThat(actual).isNull();
+        assertThat(underTest.getHitCount()).isEqualTo(0);
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void get_afterTimeToLive() {
+        // prepare test data
+        underTest.put(getContext(TOKEN, USER_ID, null));
+
+        // configure mocks
+        when(clock.millis()).thenReturn(NOW + TTL);
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.get(TOKEN);
+
+        // assert result
+        assertThat(actual).isNull();
+        assertThat(underTest.size()).isEqualTo(0);
+        assertThat(underTest.getEvictionCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void get_afterTokenExpiration() {
+        // prepare test data
+        underTest.put(getContext(TOKEN, USER_ID, new Date(NOW + 10)));
+
+        // configure mocks
+        when(clock.millis()).thenReturn(NOW + 10);
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.get(TOKEN);
+
+        // assert result
+        assertThat(actual).isNull();
+    }
+
+
+    @Test
+    public void put_withExpiredToken_shouldNotCache() {
+        // call test method
+        underTest.put(getContext(TOKEN, USER_ID, new Date(NOW - 1)));
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(0);
+    }
+
+
+    @Test
+    public void put_withFullCache_shouldEvictLeastRecentlyUsedToken() {
+        // prepare test data
+        underTest.put(getContext(TOKEN, USER_ID, null));
+        underTest.put(getContext(OTHER_TOKEN, OTHER_USER_ID, null));
+        // mark the first token as recently used
+        underTest.get(TOKEN);
+
+        // call test method
+        underTest.put(getContext("third-token", OTHER_USER_ID, null));
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.get(TOKEN)).isNotNull();
+        assertThat(underTest.get(OTHER_TOKEN)).isNull();
+        assertThat(underTest.getEvictionCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void onUserRolesChanged_shouldInvalidateTokensOfUser() {
+        // prepare test data
+        underTest.put(getContext(TOKEN, USER_ID, null));
+        underTest.put(getContext(OTHER_TOKEN, OTHER_USER_ID, null));
+
+        // call test method
+        underTest.onUserRolesChanged(new UserRolesChangedEvent(Collections.singletonList(USER_ID)));
+
+        // assert result
+        assertThat(underTest.get(TOKEN)).isNull();
+        assertThat(underTest.get(OTHER_TOKEN)).isNotNull();
+    }
+
+
+    @Test
+    public void invalidateAll() {
+        // prepare test data
+        underTest.put(getContext(TOKEN, USER_ID, null));
+        underTest.put(getContext(OTHER_TOKEN, OTHER_USER_ID, null));
+
+        // call test method
+        underTest.invalidateAll();
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(0);
+    }
+}
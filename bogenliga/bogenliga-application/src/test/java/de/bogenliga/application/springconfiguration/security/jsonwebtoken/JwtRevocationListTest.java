@@ -0,0 +1,140 @@
+package de.bogenliga.application.springconfiguration.security.jsonwebtoken;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Date;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.user.api.types.UserAccessChangedEvent;
+import de.bogenliga.application.business.user.api.types.UserRolesChangedEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class JwtRevocationListTest {
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final Long VERSION = 3L;
+    private static final long NOW = 1000000L;
+    private static final long VALIDITY = 60000L;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private Clock clock;
+
+    private JwtRevocationList underTest;
+
+
+    private static JwtAuthenticationContext getContext(final String tokenId, final Long userId, final Long version,
+                                                       final long issuedAt) {
+        return new JwtAuthenticationContext("token-" + tokenId, userId, version, "user", Collections.emptySet(), 0,
+                new Date(issuedAt + VALIDITY), tokenId, new Date(issuedAt));
+    }
+
+
+    @Before
+    public void initUnderTest() {
+        when(clock.millis()).thenReturn(NOW);
+
+        underTest = new JwtRevocationList(clock);
+    }
+
+
+    @Test
+    public void isRevoked_withUnknownToken() {
+        // prepare test data
+        final JwtAuthenticationContext context = getContext("a", USER_ID, VERSION, NOW);
+
+        // call test method
+        final boolean actual = underTest.isRevoked(context);
+
+        // assert result
+        assertThat(actual).isFalse();
+    }
+
+
+    @Test
+    public void revokeToken() {
+        // prepare test data
+        final JwtAuthenticationContext context = getContext("a", USER_ID, VERSION, NOW);
+        final JwtAuthenticationContext otherContext = getContext("b", USER_ID, VERSION, NOW);
+
+        // call test method
+        underTest.revokeToken(context);
+
+        // assert result
+        assertThat(underTest.isRevoked(context)).isTrue();
+        assertThat(underTest.isRevoked(otherContext)).isFalse();
+        assertThat(underTest.getRevokedTokenCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void revokeToken_shouldRemoveExpiredTokens() {
+        // prepare test data
+        underTest.revokeToken(getContext("a", USER_ID, VERSION, NOW - VALIDITY));
+
+        // configure mocks
+        when(clock.millis()).thenReturn(NOW + 1);
+
+        // call test method
+        underTest.revokeToken(getContext("b", USER_ID, VERSION, NOW));
+
+        // assert result
+        assertThat(underTest.getRevokedTokenCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void onUserAccessChanged() {
+        // prepare test data
+        final JwtAuthenticationContext oldContext = getContext("a", USER_ID, VERSION - 1, NOW);
+        final JwtAuthenticationContext newContext = getContext("b", USER_ID, VERSION, NOW);
+        final JwtAuthenticationContext otherContext = getContext("c", OTHER_USER_ID, VERSION - 1, NOW);
+
+        // call test method
+        underTest.onUserAccessChanged(new UserAccessChangedEvent(USER_ID, VERSION));
+
+        // assert result
+        assertThat(underTest.isRevoked(oldContext)).isTrue();
+        assertThat(underTest.isRevoked(newContext)).isFalse();
+        assertThat(underTest.isRevoked(otherContext)).isFalse();
+    }
+
+
+    @Test
+    public void onUserAccessChanged_withOlderVersion_shouldKeepNewerVersion() {
+        // prepare test data
+        final JwtAuthenticationContext context = getContext("a", USER_ID, VERSION - 1, NOW);
+        underTest.onUserAccessChanged(new UserAccessChangedEvent(USER_ID, VERSION));
+
+        // call test method
+        underTest.onUserAccessChanged(new UserAccessChangedEvent(USER_ID, VERSION - 1));
+
+        // assert result
+        assertThat(underTest.isRevoked(context)).isTrue();
+    }
+
+
+    @Test
+    public void onUserRolesChanged() {
+        // prepare test data
+        final JwtAuthenticationContext oldContext = getContext("a", USER_ID, VERSION, NOW - 1000);
+        final JwtAuthenticationContext newContext = getContext("b", USER_ID, VERSION, NOW);
+
+        // call test method
+        underTest.onUserRolesChanged(new UserRolesChangedEvent(Collections.singletonList(USER_ID)));
+
+        // assert result
+        assertThat(underTest.isRevoked(oldContext)).isTrue();
+        assertThat(underTest.isRevoked(newContext)).isFalse();
+    }
+}
@@ -45,7 +45,6 @@ public class JwtTokenFilterTest {
         // configure mocks
         when(servletRequest.getMethod()).thenReturn("OPTIONS");
         when(jwtTokenProvider.getOptionsAuthentication()).thenReturn(authentication);
-        when(jwtTokenProvider.refreshToken(any())).thenReturn("refreshed_token");
         when(servletRequest.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + JWT);
 
         // call test method
@@ -60,13 +59,15 @@ public class JwtTokenFilterTest {
     @Test
     public void doFilter() throws IOException, ServletException {
         // prepare test data
+        final JwtAuthenticationContext context = new JwtAuthenticationContext(JWT, 1L, 1L, "user",
+                null, 0, null);
 
         // configure mocks
         when(servletRequest.getMethod()).thenReturn("GET");
-        when(jwtTokenProvider.refreshToken(any())).thenReturn("refreshed_token");
         when(servletRequest.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + JWT);
-        when(jwtTokenProvider.validateToken(any())).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(any())).thenReturn(authentication);
+        when(jwtTokenProvider.validateAndParseToken(JWT)).thenReturn(context);
+        when(jwtTokenProvider.getAuthentication(context)).thenReturn(authentication);
+        when(jwtTokenProvider.refreshToken(context)).thenReturn("refreshed_token");
 
         // call test method
         underTest.doFilter(servletRequest, servletResponse, filterChain);
@@ -74,5 +75,30 @@ public class JwtTokenFilterTest {
         // assert result
 
         // verify invocations
+        verify(jwtTokenProvider, times(1)).validateAndParseToken(JWT);
+        verify(servletRequest).setAttribute(JwtAuthenticationContext.REQUEST_ATTRIBUTE, context);
+        verify(servletResponse).addHeader(AUTHORIZATION_HEADER, "Bearer refreshed_token");
+        verify(filterChain).doFilter(servletRequest, servletResponse);
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void doFilter_withInvalidToken() throws IOException, ServletException {
+        // prepare test data
+
+        // configure mocks
+        when(servletRequest.getMethod()).thenReturn("GET");
+        when(servletRequest.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + JWT);
+        when(jwtTokenProvider.validateAndParseToken(JWT)).thenReturn(null);
+
+        // call test method
+        underTest.doFilter(servletRequest, servletResponse, filterChain);
+
+        // assert result
+
+        // verify invocations
+        verify(servletRequest, never()).setAttribute(any(), any());
+        verify(servletResponse, never()).addHeader(any(), any());
+        verify(filterChain).doFilter(servletRequest, servletResponse);
+    }
+}
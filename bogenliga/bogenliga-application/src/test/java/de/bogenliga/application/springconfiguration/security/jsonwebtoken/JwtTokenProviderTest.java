@@ -22,17 +22,22 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.user.api.types.UserDO;
 import de.bogenliga.application.business.user.api.types.UserWithPermissionsDO;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.common.configuration.SecurityJsonWebTokenConfiguration;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.services.v1.user.model.UserSignInDTO;
 import de.bogenliga.application.springconfiguration.security.authentication.UserAuthenticationProvider;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -73,16 +78,27 @@ public class JwtTokenProviderTest {
     private Authentication authentication;
     @Mock
     private UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken;
+    @Mock
+    private RequestAttributes requestAttributes;
 
     @Mock
     private SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration;
     @Mock
     private UserAuthenticationProvider userAuthenticationProvider;
+    @Mock
+    private JwtClaimsCache jwtClaimsCache;
+    @Mock
+    private JwtRevocationList jwtRevocationList;
     @InjectMocks
     private JwtTokenProvider underTest;
 
 
     private static String generateJwtToken() {
+        return generateJwtToken(EXPIRATION_TIME, REFRESH_TIME);
+    }
+
+
+    private static String generateJwtToken(final long remainingTime, final int refreshCounter) {
         // subject
         final Claims claims = Jwts.claims().setSubject(USERNAME);
 
@@ -99,11 +115,11 @@ public class JwtTokenProviderTest {
         claims.put(USER_INFO, userInfo);
 
         // add refresh counter
-        claims.put(REFRESH_COUNTER, REFRESH_TIME);
+        claims.put(REFRESH_COUNTER, refreshCounter);
 
         // expiration time
         final Date now = new Date();
-        final Date validity = new Date(now.getTime() + EXPIRATION_TIME);
+        final Date validity = new Date(now.getTime() + remainingTime);
 
 
         return Jwts.builder()
@@ -120,6 +136,8 @@ public class JwtTokenProviderTest {
         when(securityJsonWebTokenConfiguration.getExpiration()).thenReturn(EXPIRATION_TIME);
         when(securityJsonWebTokenConfiguration.getSecret()).thenReturn(SECRET);
         when(securityJsonWebTokenConfiguration.getRefresh()).thenReturn(REFRESH_TIME);
+        when(securityJsonWebTokenConfiguration.getRefreshThreshold()).thenReturn(0.5);
+        when(securityJsonWebTokenConfiguration.getRefreshGracePeriod()).thenReturn(EXPIRATION_TIME);
 
         underTest.init();
     }
@@ -194,6 +212,164 @@ public class JwtTokenProviderTest {
 
     @Test
     public void resolveUserSignInDTO() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        final UserSignInDTO actual = underTest.resolveUserSignInDTO(JWT);
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(actual.getId()).isEqualTo(ID);
+        assertThat(actual.getVersion()).isEqualTo(VERSION);
+        assertThat(actual.getEmail()).isEqualTo(USERNAME);
+        assertThat(actual.getJwt()).isEqualTo(JWT);
+        assertThat(actual.getPermissions()).containsExactlyInAnyOrderElementsOf(PERMISSIONS);
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getAuthenticationContext() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.getAuthenticationContext(JWT);
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(actual.getToken()).isEqualTo(JWT);
+        assertThat(actual.getId()).isEqualTo(ID);
+        assertThat(actual.getVersion()).isEqualTo(VERSION);
+        assertThat(actual.getEmail()).isEqualTo(USERNAME);
+        assertThat(actual.getPermissions()).containsExactlyInAnyOrderElementsOf(PERMISSIONS);
+        assertThat(actual.getRefreshCounter()).isEqualTo(REFRESH_TIME);
+        assertThat(actual.getExpiration()).isNotNull();
+
+        // verify invocations
+        verify(jwtClaimsCache).get(JWT);
+        verify(jwtClaimsCache).put(actual);
+    }
+
+
+    @Test
+    public void getAuthenticationContext_withParsedTokenOfCurrentRequest() {
+        // prepare test data
+        final JwtAuthenticationContext context = new JwtAuthenticationContext(JWT, 42L, VERSION, "other",
+                null, 0, null);
+
+        // configure mocks
+        when(requestAttributes.getAttribute(JwtAuthenticationContext.REQUEST_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST)).thenReturn(context);
+
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+
+        try {
+            // call test method
+            final JwtAuthenticationContext actual = underTest.getAuthenticationContext(JWT);
+            final Long actualUserId = underTest.getUserId(JWT);
+
+            // assert result
+            assertThat(actual).isSameAs(context);
+            assertThat(actualUserId).isEqualTo(42L);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getAuthenticationContext_withCachedToken() {
+        // prepare test data
+        final String token = "cached";
+        final JwtAuthenticationContext context = new JwtAuthenticationContext(token, ID, VERSION, USERNAME,
+                null, 0, null);
+
+        // configure mocks
+        when(jwtClaimsCache.get(token)).thenReturn(context);
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.getAuthenticationContext(token);
+
+        // assert result
+        assertThat(actual).isSameAs(context);
+
+        // verify invocations
+        verify(jwtClaimsCache, never()).put(any());
+    }
+
+
+    @Test
+    public void getAuthenticationContext_withInvalidToken() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        assertThatThrownBy(() -> underTest.getAuthenticationContext("invalid"))
+                .isInstanceOf(TechnicalException.class);
+
+        // assert result
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void validateAndParseToken_withInvalidToken() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.validateAndParseToken("invalid");
+
+        // assert result
+        assertThat(actual).isNull();
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void validateAndParseToken_withRevokedToken() {
+        // prepare test data
+
+        // configure mocks
+        when(jwtRevocationList.isRevoked(any())).thenReturn(true);
+
+        // call test method
+        final JwtAuthenticationContext actual = underTest.validateAndParseToken(JWT);
+
+        // assert result
+        assertThat(actual).isNull();
+
+        // verify invocations
+        verify(jwtRevocationList).isRevoked(any());
+    }
+
+
+    @Test
+    public void revokeToken() {
+        // prepare test data
+        final JwtAuthenticationContext context = new JwtAuthenticationContext(JWT, ID, VERSION, USERNAME,
+                null, 0, null);
+
+        // configure mocks
+
+        // call test method
+        underTest.revokeToken(context);
+
+        // assert result
+
+        // verify invocations
+        verify(jwtRevocationList).revokeToken(context);
     }
 
 
@@ -333,8 +509,63 @@ public class JwtTokenProviderTest {
     }
 
 
+    @Test
+    public void refreshToken_beforeRefreshThreshold_shouldReturnToken() {
+        // prepare test data
+        final String token = generateJwtToken(EXPIRATION_TIME, 0);
+        final JwtAuthenticationContext context = underTest.validateAndParseToken(token);
+
+        // call test method
+        final String actual = underTest.refreshToken(context);
+
+        // assert result
+        assertThat(actual).isEqualTo(token);
+    }
+
+
+    @Test
+    public void refreshToken_afterRefreshThreshold_shouldReturnRefreshedToken() {
+        // prepare test data
+        final String token = generateJwtToken(EXPIRATION_TIME / 4, 0);
+        final JwtAuthenticationContext context = underTest.validateAndParseToken(token);
+
+        // call test method
+        final String actual = underTest.refreshToken(context);
+
+        // assert result
+        assertThat(actual).isNotEqualTo(token);
+        assertThat(underTest.getRefreshCounter(actual)).isEqualTo(1);
+        assertThat(underTest.getRemainingValidityTime(actual)).isGreaterThan(EXPIRATION_TIME / 2);
+    }
+
+
+    @Test
+    public void refreshToken_withinGracePeriod_shouldReturnSameRefreshedToken() {
+        // prepare test data
+        final String token = generateJwtToken(EXPIRATION_TIME / 4, 0);
+        final JwtAuthenticationContext context = underTest.validateAndParseToken(token);
+
+        // call test method
+        final String actual = underTest.refreshToken(context);
+
+        // assert result
+        assertThat(underTest.refreshToken(context)).isSameAs(actual);
+    }
+
+
     @Test
     public void getRefreshCounter() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        final int actual = underTest.getRefreshCounter(JWT);
+
+        // assert result
+        assertThat(actual).isEqualTo(REFRESH_TIME);
+
+        // verify invocations
     }
 
 
@@ -0,0 +1,282 @@
+package de.bogenliga.application.springconfiguration.security.ownership;
+
+import java.lang.reflect.Constructor;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
+import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
+import de.bogenliga.application.business.user.api.UserComponent;
+import de.bogenliga.application.business.user.api.types.UserDO;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
+import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
+import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
+import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.configuration.SecurityJsonWebTokenConfiguration;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtAuthenticationContext;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class UserOwnershipResolverTest {
+    private static final String JWT = "jwt";
+    private static final long USER_ID = 1L;
+    private static final long DSB_MITGLIED_ID = 2L;
+    private static final long VEREIN_ID = 3L;
+    private static final long VERANSTALTUNG_ID = 4L;
+    private static final long WETTKAMPF_ID = 5L;
+    private static final long AUSRICHTER_WETTKAMPF_ID = 6L;
+    private static final long NOW = 1000000L;
+    private static final long TTL = 1000L;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private UserComponent userComponent;
+    @Mock
+    private DsbMitgliedComponent dsbMitgliedComponent;
+    @Mock
+    private VeranstaltungComponent veranstaltungComponent;
+    @Mock
+    private WettkampfComponent wettkampfComponent;
+    @Mock
+    private Clock clock;
+
+    private UserOwnershipResolver underTest;
+
+
+    // the authentication context is only created by the JwtTokenProvider
+    private static JwtAuthenticationContext getAuthenticationContext(final UserPermission... permissions)
+            throws ReflectiveOperationException {
+        final Constructor<JwtAuthenticationContext> constructor = JwtAuthenticationContext.class
+                .getDeclaredConstructor(String.class, Long.class, Long.class, String.class, Set.class, int.class,
+                        Date.class);
+        constructor.setAccessible(true);
+        final Set<UserPermission> permissionSet = permissions.length == 0
+                ? Collections.emptySet()
+                : EnumSet.of(permissions[0], permissions);
+        return constructor.newInstance(JWT, USER_ID, 1L, "user", permissionSet, 0, null);
+    }
+
+
+    private void initRequest(final UserPermission... permissions) throws ReflectiveOperationException {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + JWT);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        when(jwtTokenProvider.getAuthenticationContext(JWT)).thenReturn(getAuthenticationContext(permissions));
+    }
+
+
+    @Before
+    public void initUnderTest() {
+        final SecurityJsonWebTokenConfiguration configuration = new SecurityJsonWebTokenConfiguration();
+        configuration.setCacheSize(2);
+        configuration.setCacheTtl(TTL);
+
+        when(clock.millis()).thenReturn(NOW);
+
+        underTest = new UserOwnershipResolver(jwtTokenProvider, userComponent, dsbMitgliedComponent,
+                veranstaltungComponent, wettkampfComponent, configuration, clock);
+    }
+
+
+    @Before
+    public void initMocks() {
+        final UserDO userDO = new UserDO();
+        userDO.setId(USER_ID);
+        userDO.setDsb_mitglied_id(DSB_MITGLIED_ID);
+
+        final DsbMitgliedDO dsbMitgliedDO = new DsbMitgliedDO(DSB_MITGLIED_ID);
+        dsbMitgliedDO.setVereinsId(VEREIN_ID);
+
+        when(userComponent.findById(anyLong())).thenReturn(userDO);
+        when(dsbMitgliedComponent.findById(anyLong())).thenReturn(dsbMitgliedDO);
+        when(veranstaltungComponent.findByLigaleiterId(anyLong()))
+                .thenReturn(Collections.singletonList(new VeranstaltungDO(VERANSTALTUNG_ID)));
+        when(wettkampfComponent.findByAusrichter(anyLong()))
+                .thenReturn(Collections.singletonList(new WettkampfDO(AUSRICHTER_WETTKAMPF_ID)));
+        when(wettkampfComponent.findAllByVeranstaltungId(anyLong()))
+                .thenReturn(Collections.singletonList(new WettkampfDO(WETTKAMPF_ID)));
+    }
+
+
+    @After
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+
+    @Test
+    public void getOwnership() {
+        // call test method
+        final UserOwnership actual = underTest.getOwnership(USER_ID);
+
+        // assert result
+        assertThat(actual.getUserId()).isEqualTo(USER_ID);
+        assertThat(actual.owns(OwnershipType.VEREIN, VEREIN_ID)).isTrue();
+        assertThat(actual.owns(OwnershipType.VEREIN, VERANSTALTUNG_ID)).isFalse();
+        assertThat(actual.owns(OwnershipType.VERANSTALTUNG, VERANSTALTUNG_ID)).isTrue();
+        assertThat(actual.owns(OwnershipType.WETTKAMPF, AUSRICHTER_WETTKAMPF_ID)).isTrue();
+        assertThat(actual.owns(OwnershipType.WETTKAMPF, WETTKAMPF_ID)).isFalse();
+        assertThat(actual.owns(OwnershipType.VERANSTALTUNG_WETTKAMPF, WETTKAMPF_ID)).isTrue();
+        assertThat(actual.owns(OwnershipType.VERANSTALTUNG_WETTKAMPF, null)).isFalse();
+
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+        assertThat(underTest.getHitCount()).isEqualTo(0);
+    }
+
+
+    @Test
+    public void getOwnership_twice_shouldUseCache() {
+        // call test method
+        final UserOwnership first = underTest.getOwnership(USER_ID);
+        final UserOwnership actual = underTest.getOwnership(USER_ID);
+
+        // assert result
+        assertThat(actual).isSameAs(first);
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+
+        // verify invocations
+        verify(userComponent, times(1)).findById(USER_ID);
+        verify(veranstaltungComponent, times(1)).findByLigaleiterId(USER_ID);
+    }
+
+
+    @Test
+    public void getOwnership_withExpiredEntry_shouldReload() {
+        // prepare test data
+        final UserOwnership first = underTest.getOwnership(USER_ID);
+
+        // configure mocks
+        when(clock.millis()).thenReturn(NOW + TTL);
+
+        // call test method
+        final UserOwnership actual = underTest.getOwnership(USER_ID);
+
+        // assert result
+        assertThat(actual).isNotSameAs(first);
+        assertThat(underTest.getMissCount()).isEqualTo(2);
+    }
+
+
+    @Test
+    public void onUserOwnershipChanged_shouldInvalidateAllUsers() {
+        // prepare test data
+        underTest.getOwnership(USER_ID);
+        underTest.getOwnership(USER_ID + 1);
+
+        // call test method
+        underTest.onUserOwnershipChanged(new UserOwnershipChangedEvent("Veranstaltung", VERANSTALTUNG_ID));
+
+        // assert result
+        assertThat(underTest.size()).isZero();
+
+        underTest.getOwnership(USER_ID);
+        assertThat(underTest.getMissCount()).isEqualTo(3);
+    }
+
+
+    @Test
+    public void hasSpecificPermission_withoutRequest_shouldReturnFalse() {
+        // call test method
+        final boolean actual = underTest.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VEREIN,
+                OwnershipType.VEREIN, VEREIN_ID);
+
+        // assert result
+        assertThat(actual).isFalse();
+
+        // verify invocations
+        verifyZeroInteractions(userComponent);
+    }
+
+
+    @Test
+    public void owns_withoutPermission_shouldCheckOwnershipOnly() throws ReflectiveOperationException {
+        // prepare test data
+        initRequest();
+
+        // call test method
+        final boolean actual = underTest.owns(OwnershipType.WETTKAMPF, AUSRICHTER_WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isTrue();
+        assertThat(underTest.owns(OwnershipType.WETTKAMPF, WETTKAMPF_ID)).isFalse();
+        assertThat(underTest.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.WETTKAMPF, AUSRICHTER_WETTKAMPF_ID)).isFalse();
+    }
+
+
+    @Test
+    public void hasPermission() throws ReflectiveOperationException {
+        // prepare test data
+        initRequest(UserPermission.CAN_MODIFY_WETTKAMPF);
+
+        // call test method
+        final boolean actual = underTest.hasPermission(UserPermission.CAN_MODIFY_WETTKAMPF);
+
+        // assert result
+        assertThat(actual).isTrue();
+        assertThat(underTest.hasPermission(UserPermission.CAN_MODIFY_STAMMDATEN)).isFalse();
+
+        // verify invocations
+        verifyZeroInteractions(userComponent);
+    }
+
+
+    @Test
+    public void hasSpecificPermission_withAusrichter() throws ReflectiveOperationException {
+        // prepare test data
+        initRequest(UserPermission.CAN_MODIFY_MY_WETTKAMPF);
+
+        // call test method
+        final boolean actual = underTest.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.WETTKAMPF, AUSRICHTER_WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isTrue();
+        assertThat(underTest.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.WETTKAMPF, WETTKAMPF_ID)).isFalse();
+    }
+
+
+    @Test
+    public void hasSpecificPermission_withLigaleiterOfWettkampf() throws ReflectiveOperationException {
+        // prepare test data
+        initRequest(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG);
+
+        // call test method
+        final boolean actual = underTest.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG_WETTKAMPF, WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isTrue();
+        assertThat(underTest.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG_WETTKAMPF, AUSRICHTER_WETTKAMPF_ID)).isFalse();
+        assertThat(underTest.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.VERANSTALTUNG_WETTKAMPF, WETTKAMPF_ID)).isFalse();
+    }
+}
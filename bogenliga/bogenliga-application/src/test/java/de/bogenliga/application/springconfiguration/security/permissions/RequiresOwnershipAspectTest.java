@@ -0,0 +1,286 @@
+package de.bogenliga.application.springconfiguration.security.permissions;
+
+import java.lang.reflect.Constructor;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Set;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.services.v1.setzliste.service.SetzlisteService;
+import de.bogenliga.application.services.v1.veranstaltung.model.VeranstaltungDTO;
+import de.bogenliga.application.services.v1.veranstaltung.service.VeranstaltungService;
+import de.bogenliga.application.services.v1.wettkampf.model.WettkampfDTO;
+import de.bogenliga.application.services.v1.wettkampf.service.WettkampfService;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtAuthenticationContext;
+import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTokenProvider;
+import de.bogenliga.application.springconfiguration.security.ownership.OwnershipType;
+import de.bogenliga.application.springconfiguration.security.ownership.UserOwnershipResolver;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class RequiresOwnershipAspectTest {
+    private static final String JWT = "jwt";
+    private static final long USER_ID = 1L;
+    private static final long VERANSTALTUNG_ID = 4L;
+    private static final long WETTKAMPF_ID = 5L;
+    private static final Object RESULT = new Object();
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private UserOwnershipResolver userOwnershipResolver;
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private MethodSignature methodSignature;
+
+    private RequiresOwnershipAspect underTest;
+
+
+    // the authentication context is only created by the JwtTokenProvider
+    private static JwtAuthenticationContext getAuthenticationContext(final UserPermission permission)
+            throws ReflectiveOperationException {
+        final Constructor<JwtAuthenticationContext> constructor = JwtAuthenticationContext.class
+                .getDeclaredConstructor(String.class, Long.class, Long.class, String.class, Set.class, int.class,
+                        Date.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(JWT, USER_ID, 1L, "ligaleiter", Collections.singleton(permission), 0, null);
+    }
+
+
+    @Before
+    public void initUnderTest() throws Throwable {
+        underTest = new RequiresOwnershipAspect(jwtTokenProvider, userOwnershipResolver);
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + JWT);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(
+                SetzlisteService.class.getMethod("generateVeranstaltung", long.class, Principal.class));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{VERANSTALTUNG_ID, null});
+        when(joinPoint.proceed()).thenReturn(RESULT);
+    }
+
+
+    private void prepareUpdateVeranstaltung() throws NoSuchMethodException {
+        final VeranstaltungDTO veranstaltungDTO = new VeranstaltungDTO();
+        veranstaltungDTO.setId(VERANSTALTUNG_ID);
+
+        when(methodSignature.getMethod()).thenReturn(
+                VeranstaltungService.class.getMethod("update", VeranstaltungDTO.class, Principal.class));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{veranstaltungDTO, null});
+    }
+
+
+    private void prepareUpdateWettkampf() throws NoSuchMethodException {
+        final WettkampfDTO wettkampfDTO = new WettkampfDTO(WETTKAMPF_ID, VERANSTALTUNG_ID,
+                new java.sql.Date(0L), null, null, null, null, null, null, null, null, null, null, null);
+
+        when(methodSignature.getMethod()).thenReturn(
+                WettkampfService.class.getMethod("update", WettkampfDTO.class, Principal.class));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{wettkampfDTO, null});
+    }
+
+
+    @After
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+
+    @Test
+    public void generateVeranstaltung_withForeignLigaleiter_shouldThrowException() throws Throwable {
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG));
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG, VERANSTALTUNG_ID)).thenReturn(false);
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.checkOwnership(joinPoint))
+                .withMessageContaining(String.valueOf(VERANSTALTUNG_ID));
+
+        // verify invocations
+        verify(joinPoint, never()).proceed();
+    }
+
+
+    @Test
+    public void generateVeranstaltung_withLigaleiterOfVeranstaltung_shouldProceed() throws Throwable {
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG));
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG, VERANSTALTUNG_ID)).thenReturn(true);
+
+        // call test method
+        final Object actual = underTest.checkOwnership(joinPoint);
+
+        // assert result
+        assertThat(actual).isSameAs(RESULT);
+
+        // verify invocations
+        verify(joinPoint).proceed();
+    }
+
+
+    @Test
+    public void generateVeranstaltung_withModifyWettkampf_shouldNotCheckOwnership() throws Throwable {
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_WETTKAMPF));
+
+        // call test method
+        final Object actual = underTest.checkOwnership(joinPoint);
+
+        // assert result
+        assertThat(actual).isSameAs(RESULT);
+
+        // verify invocations
+        verifyZeroInteractions(userOwnershipResolver);
+        verify(joinPoint).proceed();
+    }
+
+
+    @Test
+    public void updateVeranstaltung_withLigaleiterOfVeranstaltung_shouldProceed() throws Throwable {
+        // prepare test data
+        prepareUpdateVeranstaltung();
+
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG));
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG, VERANSTALTUNG_ID)).thenReturn(true);
+
+        // call test method
+        final Object actual = underTest.checkOwnership(joinPoint);
+
+        // assert result
+        assertThat(actual).isSameAs(RESULT);
+    }
+
+
+    @Test
+    public void updateVeranstaltung_withForeignLigaleiter_shouldThrowException() throws Throwable {
+        // prepare test data
+        prepareUpdateVeranstaltung();
+
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG));
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_VERANSTALTUNG,
+                OwnershipType.VERANSTALTUNG, VERANSTALTUNG_ID)).thenReturn(false);
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.checkOwnership(joinPoint))
+                .withMessageContaining(String.valueOf(VERANSTALTUNG_ID));
+
+        // verify invocations
+        verify(joinPoint, never()).proceed();
+    }
+
+
+    @Test
+    public void updateVeranstaltung_withModifyStammdaten_shouldNotCheckOwnership() throws Throwable {
+        // prepare test data
+        prepareUpdateVeranstaltung();
+
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_STAMMDATEN));
+
+        // call test method
+        final Object actual = underTest.checkOwnership(joinPoint);
+
+        // assert result
+        assertThat(actual).isSameAs(RESULT);
+
+        // verify invocations
+        verifyZeroInteractions(userOwnershipResolver);
+    }
+
+
+    @Test
+    public void updateWettkampf_withAusrichter_shouldProceed() throws Throwable {
+        // prepare test data
+        prepareUpdateWettkampf();
+
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_MY_WETTKAMPF));
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.WETTKAMPF, WETTKAMPF_ID)).thenReturn(true);
+
+        // call test method
+        final Object actual = underTest.checkOwnership(joinPoint);
+
+        // assert result
+        assertThat(actual).isSameAs(RESULT);
+    }
+
+
+    @Test
+    public void updateWettkampf_withForeignAusrichter_shouldThrowException() throws Throwable {
+        // prepare test data
+        prepareUpdateWettkampf();
+
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_MY_WETTKAMPF));
+        when(userOwnershipResolver.hasSpecificPermission(UserPermission.CAN_MODIFY_MY_WETTKAMPF,
+                OwnershipType.WETTKAMPF, WETTKAMPF_ID)).thenReturn(false);
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.checkOwnership(joinPoint))
+                .withMessageContaining(String.valueOf(WETTKAMPF_ID));
+
+        // verify invocations
+        verify(joinPoint, never()).proceed();
+    }
+
+
+    @Test
+    public void updateWettkampf_withModifyWettkampf_shouldNotCheckOwnership() throws Throwable {
+        // prepare test data
+        prepareUpdateWettkampf();
+
+        // configure mocks
+        when(jwtTokenProvider.getAuthenticationContext(JWT))
+                .thenReturn(getAuthenticationContext(UserPermission.CAN_MODIFY_WETTKAMPF));
+
+        // call test method
+        final Object actual = underTest.checkOwnership(joinPoint);
+
+        // assert result
+        assertThat(actual).isSameAs(RESULT);
+
+        // verify invocations
+        verifyZeroInteractions(userOwnershipResolver);
+    }
+}
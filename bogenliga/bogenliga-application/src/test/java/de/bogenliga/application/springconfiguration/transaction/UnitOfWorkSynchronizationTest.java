@@ -0,0 +1,80 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class UnitOfWorkSynchronizationTest {
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private Runnable callback;
+    @Mock
+    private Runnable failingCallback;
+
+
+    @After
+    public void tearDown() {
+        UnitOfWorkSynchronization.release();
+    }
+
+
+    @Test
+    public void afterCommit_withoutUnitOfWork_shouldRunImmediately() {
+        // call test method
+        UnitOfWorkSynchronization.afterCommit(callback);
+
+        // assert result
+        assertThat(UnitOfWorkSynchronization.isActive()).isFalse();
+
+        // verify invocations
+        verify(callback, times(1)).run();
+    }
+
+
+    @Test
+    public void afterCommit_withUnitOfWork_shouldRunAfterCommit() {
+        // configure mocks
+        doThrow(new IllegalStateException("failed")).when(failingCallback).run();
+
+        // call test method
+        UnitOfWorkSynchronization.begin();
+        UnitOfWorkSynchronization.afterCommit(failingCallback);
+        UnitOfWorkSynchronization.afterCommit(callback);
+
+        // assert result
+        assertThat(UnitOfWorkSynchronization.isActive()).isTrue();
+        verify(callback, never()).run();
+
+        UnitOfWorkSynchronization.afterCommit();
+
+        assertThat(UnitOfWorkSynchronization.isActive()).isFalse();
+
+        // verify invocations
+        verify(failingCallback, times(1)).run();
+        verify(callback, times(1)).run();
+    }
+
+
+    @Test
+    public void release_afterRollback_shouldDiscardCallbacks() {
+        // call test method
+        UnitOfWorkSynchronization.begin();
+        UnitOfWorkSynchronization.afterCommit(callback);
+        UnitOfWorkSynchronization.release();
+        UnitOfWorkSynchronization.afterCommit();
+
+        // verify invocations
+        verify(callback, never()).run();
+    }
+}
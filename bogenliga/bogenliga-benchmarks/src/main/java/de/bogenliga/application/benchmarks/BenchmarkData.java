@@ -0,0 +1,224 @@
+package de.bogenliga.application.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.passe.api.types.PasseDO;
+import de.bogenliga.application.business.passe.impl.entity.PasseBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+
+/**
+ * I create the test data of the benchmarks.
+ * <p>
+ * The data has the size of a Wettkampf: 7 matches with 4 Begegnungen on 8 Scheiben, 3 Schuetzen per Mannschaft and
+ * 5 Passen per Schuetze.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public final class BenchmarkData {
+
+    public static final long WETTKAMPF_ID = 1L;
+    public static final int MATCH_COUNT = 7;
+    public static final int BEGEGNUNG_COUNT = 4;
+    public static final int SCHUETZEN_PER_MANNSCHAFT = 3;
+    public static final int PASSEN_PER_SCHUETZE = 5;
+
+    public static final String PASSE_TABLE = "passe";
+    public static final String PASSE_TABLE_ID = "passe_id";
+
+    private static final String[] PASSE_COLUMNS = {
+            PASSE_TABLE_ID, "passe_mannschaft_id", "passe_wettkampf_id", "passe_match_nr", "passe_match_id",
+            "passe_lfdnr", "passe_dsb_mitglied_id",
+            "passe_ringzahl_pfeil1", "passe_ringzahl_pfeil2", "passe_ringzahl_pfeil3",
+            "passe_ringzahl_pfeil4", "passe_ringzahl_pfeil5", "passe_ringzahl_pfeil6",
+            "created_at_utc", "created_by", "last_modified_at_utc", "last_modified_by", "version"
+    };
+
+    private static final String[] PASSE_FIELDS = {
+            "id", "passeMannschaftId", "passeWettkampfId", "passeMatchNr", "passeMatchId",
+            "passeLfdnr", "passeDsbMitgliedId",
+            "pfeil1", "pfeil2", "pfeil3", "pfeil4", "pfeil5", "pfeil6"
+    };
+
+    private static final Timestamp NOW = new Timestamp(System.currentTimeMillis());
+
+
+    private BenchmarkData() {
+        // empty private constructor
+    }
+
+
+    /**
+     * @return the column to field mapping of the passe table
+     */
+    public static Map<String, String> getPasseColumnsToFieldsMap() {
+        final Map<String, String> columnsToFieldsMap = new HashMap<>();
+
+        for (int i = 0; i < PASSE_FIELDS.length; i++) {
+            columnsToFieldsMap.put(PASSE_COLUMNS[i], PASSE_FIELDS[i]);
+        }
+
+        columnsToFieldsMap.putAll(BasicDAO.getTechnicalColumnsToFieldsMap());
+        return columnsToFieldsMap;
+    }
+
+
+    /**
+     * @return all matches of a Wettkampf with 8 Mannschaften
+     */
+    public static List<MatchDO> createMatchDOs() {
+        final List<MatchDO> matchDOs = new ArrayList<>();
+        long id = 1;
+
+        for (long nr = 1; nr <= MATCH_COUNT; nr++) {
+            for (long begegnung = 1; begegnung <= BEGEGNUNG_COUNT; begegnung++) {
+                for (long scheibe = begegnung * 2 - 1; scheibe <= begegnung * 2; scheibe++) {
+                    final long mannschaftId = (scheibe + nr) % (BEGEGNUNG_COUNT * 2) + 1;
+                    matchDOs.add(new MatchDO(id++, nr, WETTKAMPF_ID, mannschaftId, begegnung, scheibe,
+                            2L, 6L, 0L, 0L, 0L, 0L, 0L));
+                }
+            }
+        }
+        return matchDOs;
+    }
+
+
+    /**
+     * @param matchDO of the passen
+     *
+     * @return all passen of the match
+     */
+    public static List<PasseDO> createPasseDOs(final MatchDO matchDO) {
+        final List<PasseDO> passeDOs = new ArrayList<>();
+        long id = matchDO.getId() * 100;
+
+        for (long schuetze = 1; schuetze <= SCHUETZEN_PER_MANNSCHAFT; schuetze++) {
+            for (long lfdnr = 1; lfdnr <= PASSEN_PER_SCHUETZE; lfdnr++) {
+                passeDOs.add(new PasseDO(id++, matchDO.getMannschaftId(), matchDO.getWettkampfId(), matchDO.getNr(),
+                        matchDO.getId(), lfdnr, matchDO.getMannschaftId() * 10 + schuetze,
+                        10, 9, 8, null, null, null));
+            }
+        }
+        return passeDOs;
+    }
+
+
+    /**
+     * @param count of the passen
+     *
+     * @return persisted passen with technical attributes
+     */
+    public static List<PasseBE> createPasseBEs(final int count) {
+        final List<PasseBE> passeBEs = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            final PasseBE passeBE = new PasseBE();
+            passeBE.setId((long) i + 1);
+            passeBE.setPasseMannschaftId(1L);
+            passeBE.setPasseWettkampfId(WETTKAMPF_ID);
+            passeBE.setPasseMatchNr(1L);
+            passeBE.setPasseMatchId(1L);
+            passeBE.setPasseLfdnr((long) i % PASSEN_PER_SCHUETZE + 1);
+            passeBE.setPasseDsbMitgliedId((long) i / PASSEN_PER_SCHUETZE + 1);
+            passeBE.setPfeil1(10);
+            passeBE.setPfeil2(9);
+            passeBE.setPfeil3(8);
+            passeBE.setCreatedAtUtc(NOW);
+            passeBE.setCreatedByUserId(1L);
+            passeBE.setLastModifiedAtUtc(NOW);
+            passeBE.setLastModifiedByUserId(1L);
+            passeBE.setVersion(1L);
+            passeBEs.add(passeBE);
+        }
+        return passeBEs;
+    }
+
+
+    /**
+     * I create an in-memory {@link ResultSet} with the rows of the passe table. The result set can be read once.
+     *
+     * @param rows of the passe table, see {@link #createPasseRows(int)}
+     *
+     * @return result set with the columns of the passe table
+     */
+    public static ResultSet createPasseResultSet(final Object[][] rows) {
+        final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                BenchmarkData.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, methodArgs) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount":
+                            return PASSE_COLUMNS.length;
+                        case "getColumnLabel":
+                        case "getColumnName":
+                            return PASSE_COLUMNS[(Integer) methodArgs[0] - 1];
+                        default:
+                            throw new SQLException("Not supported: " + method.getName());
+                    }
+                });
+
+        final int[] row = {-1};
+        final Object[] lastValue = {null};
+
+        return (ResultSet) Proxy.newProxyInstance(
+                BenchmarkData.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, methodArgs) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            row[0]++;
+                            return row[0] < rows.length;
+                        case "getMetaData":
+                            return metaData;
+                        case "wasNull":
+                            return lastValue[0] == null;
+                        case "close":
+                            return null;
+                        default:
+                            break;
+                    }
+
+                    final Object value = rows[row[0]][(Integer) methodArgs[0] - 1];
+                    lastValue[0] = value;
+
+                    switch (method.getName()) {
+                        case "getObject":
+                        case "getTimestamp":
+                            return value;
+                        case "getString":
+                            return value == null ? null : value.toString();
+                        case "getLong":
+                            return value == null ? 0L : ((Number) value).longValue();
+                        case "getInt":
+                            return value == null ? 0 : ((Number) value).intValue();
+                        default:
+                            throw new SQLException("Not supported: " + method.getName());
+                    }
+                });
+    }
+
+
+    /**
+     * @param count of the rows
+     *
+     * @return rows of the passe table in the column order of {@link #createPasseResultSet(Object[][])}
+     */
+    public static Object[][] createPasseRows(final int count) {
+        final Object[][] rows = new Object[count][];
+
+        for (int i = 0; i < count; i++) {
+            rows[i] = new Object[]{
+                    (long) i + 1, 1L, WETTKAMPF_ID, 1L, 1L, (long) i % PASSEN_PER_SCHUETZE + 1,
+                    (long) i / PASSEN_PER_SCHUETZE + 1,
+                    10, 9, 8, null, null, null,
+                    NOW, 1L, null, null, 1L
+            };
+        }
+        return rows;
+    }
+}
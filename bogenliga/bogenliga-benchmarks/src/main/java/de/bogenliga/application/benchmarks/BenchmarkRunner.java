@@ -0,0 +1,67 @@
+package de.bogenliga.application.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * I run the JMH benchmarks of the bogenliga application.
+ * <p>
+ * I accept all JMH command line options. If no result options are given, the results are written as JSON to
+ * {@code jmh-result-<version>.json}, so the results of different releases can be compared.
+ * <p>
+ * Usage:
+ * <pre>
+ *     mvn clean install -P benchmarks
+ *     java -jar bogenliga-benchmarks/target/benchmarks.jar [JMH options] [benchmark regex]
+ * </pre>
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public final class BenchmarkRunner {
+
+    private static final String RESULT_FILE = "jmh-result-%s.json";
+    private static final String UNKNOWN_VERSION = "SNAPSHOT";
+
+
+    private BenchmarkRunner() {
+        // empty private constructor
+    }
+
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(String.format(RESULT_FILE, getVersion()));
+        }
+
+        new Runner(options.build()).run();
+    }
+
+
+    private static String getVersion() {
+        final String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version == null ? UNKNOWN_VERSION : version;
+    }
+}
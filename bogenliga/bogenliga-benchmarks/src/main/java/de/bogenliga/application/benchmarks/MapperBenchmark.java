@@ -0,0 +1,82 @@
+package de.bogenliga.application.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import de.bogenliga.application.business.match.impl.entity.MatchBE;
+import de.bogenliga.application.business.match.impl.mapper.MatchMapper;
+import de.bogenliga.application.business.passe.impl.entity.PasseBE;
+import de.bogenliga.application.business.passe.impl.mapper.PasseMapper;
+import de.bogenliga.application.services.v1.match.mapper.MatchDTOMapper;
+import de.bogenliga.application.services.v1.match.model.MatchDTO;
+import de.bogenliga.application.services.v1.passe.mapper.PasseDTOMapper;
+import de.bogenliga.application.services.v1.passe.model.PasseDTO;
+
+/**
+ * I measure the mapping chain business entity -> data object -> data transfer object of the REST services.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"15", "150"})
+    private int passeCount;
+
+    private List<PasseBE> passeBEs;
+    private List<MatchBE> matchBEs;
+
+
+    @Setup
+    public void setUp() {
+        passeBEs = BenchmarkData.createPasseBEs(passeCount);
+        matchBEs = BenchmarkData.createMatchDOs().stream()
+                .map(MatchMapper.toMatchBE)
+                .collect(Collectors.toList());
+    }
+
+
+    @Benchmark
+    public List<PasseDTO> passeBEToDTO() {
+        return passeBEs.stream()
+                .map(PasseMapper.toPasseDO)
+                .map(PasseDTOMapper.toDTO)
+                .collect(Collectors.toList());
+    }
+
+
+    @Benchmark
+    public List<MatchDTO> matchBEToDTO() {
+        return matchBEs.stream()
+                .map(MatchMapper.toMatchDO)
+                .map(MatchDTOMapper.toDTO)
+                .collect(Collectors.toList());
+    }
+
+
+    @Benchmark
+    public List<MatchBE> matchDTOToBE() {
+        return matchBEs.stream()
+                .map(MatchMapper.toMatchDO)
+                .map(MatchDTOMapper.toDTO)
+                .map(MatchDTOMapper.toDO)
+                .map(MatchMapper.toMatchBE)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,54 @@
+package de.bogenliga.application.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import de.bogenliga.application.common.database.queries.QueryBuilder;
+
+/**
+ * I measure the construction of the SQL queries with the {@link QueryBuilder}.
+ * <p>
+ * The queries have the shape of the queries in the DAOs.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBuilderBenchmark {
+
+    @Benchmark
+    public String selectWithWhere() {
+        return new QueryBuilder()
+                .selectAll()
+                .from("passe")
+                .whereEquals("passe_wettkampf_id")
+                .andEquals("passe_match_nr")
+                .andEquals("passe_mannschaft_id")
+                .andEquals("passe_lfdnr")
+                .andEquals("passe_dsb_mitglied_id")
+                .compose().toString();
+    }
+
+
+    @Benchmark
+    public String selectWithJoin() {
+        return new QueryBuilder()
+                .selectFields("mannschaftsmitglied_id", "mannschaftsmitglied_mannschaft_id",
+                        "mannschaftsmitglied_dsb_mitglied_id", "mannschaftsmitglied_dsb_mitglied_eingesetzt",
+                        "dsb_mitglied_vorname", "dsb_mitglied_nachname", "mannschaftsmitglied_rueckennummer")
+                .from("mannschaftsmitglied", "m")
+                .join("dsb_mitglied", "d")
+                .on("m", "mannschaftsmitglied_dsb_mitglied_id", "d", "dsb_mitglied_id")
+                .whereEquals("mannschaftsmitglied_mannschaft_id")
+                .orderBy("mannschaftsmitglied_rueckennummer")
+                .compose().toString();
+    }
+}
@@ -0,0 +1,61 @@
+package de.bogenliga.application.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import de.bogenliga.application.business.passe.impl.entity.PasseBE;
+import de.bogenliga.application.common.database.SQL;
+
+/**
+ * I measure the generation of the INSERT and UPDATE statements of a business entity.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see SQL
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLBenchmark {
+
+    private static final String[] FIELD_SELECTOR = {"id"};
+
+    private Map<String, String> columnsToFieldsMap;
+    private PasseBE passeBE;
+
+
+    @Setup
+    public void setUp() {
+        columnsToFieldsMap = BenchmarkData.getPasseColumnsToFieldsMap();
+        passeBE = BenchmarkData.createPasseBEs(1).get(0);
+    }
+
+
+    @Benchmark
+    public SQL.SQLWithParameter insertSQL() {
+        return SQL.insertSQL(passeBE, BenchmarkData.PASSE_TABLE, columnsToFieldsMap);
+    }
+
+
+    @Benchmark
+    public SQL.SQLWithParameter updateSQL() {
+        return SQL.updateSQL(passeBE, BenchmarkData.PASSE_TABLE, FIELD_SELECTOR, columnsToFieldsMap);
+    }
+
+
+    @Benchmark
+    public SQL.SQLWithParameter selectSQL() {
+        return SQL.selectSQL(passeBE, BenchmarkData.PASSE_TABLE, FIELD_SELECTOR, columnsToFieldsMap);
+    }
+}
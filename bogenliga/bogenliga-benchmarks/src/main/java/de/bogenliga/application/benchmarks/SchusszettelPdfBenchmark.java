@@ -0,0 +1,143 @@
+package de.bogenliga.application.benchmarks;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import de.bogenliga.application.business.document.impl.business.DocumentRenderingComponentImpl;
+import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
+import de.bogenliga.application.business.match.api.MatchComponent;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.passe.api.PasseComponent;
+import de.bogenliga.application.business.schusszettel.api.SchusszettelComponent;
+import de.bogenliga.application.business.schusszettel.impl.business.SchusszettelComponentImpl;
+import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.configuration.DocumentRenderingConfiguration;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * I measure the pdf generation of the Schusszettel.
+ * <p>
+ * The components are mocked, so only the pdf generation is measured. The pdf is written to a {@link Blackhole}.
+ * The pages of all Schusszettel are rendered with the given number of threads.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchusszettelPdfBenchmark {
+
+    private static final long WETTKAMPF_TAG = 1L;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private DocumentRenderingComponentImpl documentRenderingComponent;
+    private SchusszettelComponent schusszettelComponent;
+    private MatchDO match1;
+    private MatchDO match2;
+
+
+    @Setup
+    public void setUp() {
+        final List<MatchDO> matchDOs = BenchmarkData.createMatchDOs();
+        final Map<Long, MatchDO> matchesById = matchDOs.stream()
+                .collect(Collectors.toMap(MatchDO::getId, Function.identity()));
+        final Map<Long, String> mannschaftsNamen = matchDOs.stream()
+                .map(MatchDO::getMannschaftId)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), id -> "Bogenschützen " + id));
+
+        final WettkampfDO wettkampfDO = new WettkampfDO(BenchmarkData.WETTKAMPF_ID);
+        wettkampfDO.setWettkampfTag(WETTKAMPF_TAG);
+
+        final MatchComponent matchComponent = mock(MatchComponent.class);
+        final PasseComponent passeComponent = mock(PasseComponent.class);
+        final WettkampfComponent wettkampfComponent = mock(WettkampfComponent.class);
+
+        when(matchComponent.findByWettkampfId(BenchmarkData.WETTKAMPF_ID)).thenReturn(matchDOs);
+        when(matchComponent.findById(any())).thenAnswer(invocation -> matchesById.get(invocation.getArgument(0)));
+        when(matchComponent.getMannschaftsNamenByIDs(any())).thenReturn(mannschaftsNamen);
+        when(passeComponent.findByMatchId(any()))
+                .thenAnswer(invocation -> BenchmarkData.createPasseDOs(matchesById.get(invocation.getArgument(0))));
+        when(wettkampfComponent.findById(anyLong())).thenReturn(wettkampfDO);
+
+        final DocumentRenderingConfiguration documentRenderingConfiguration = new DocumentRenderingConfiguration();
+        documentRenderingConfiguration.setParallelism(parallelism);
+        documentRenderingComponent = new DocumentRenderingComponentImpl(documentRenderingConfiguration);
+
+        schusszettelComponent = new SchusszettelComponentImpl(matchComponent, passeComponent,
+                mock(MannschaftsmitgliedComponent.class), wettkampfComponent, documentRenderingComponent);
+
+        match1 = matchDOs.get(0);
+        match2 = matchDOs.get(1);
+    }
+
+
+    @TearDown
+    public void tearDown() {
+        documentRenderingComponent.shutdown();
+    }
+
+
+    @Benchmark
+    public void writeAllSchusszettelPDF(final Blackhole blackhole) {
+        schusszettelComponent.writeAllSchusszettelPDF(BenchmarkData.WETTKAMPF_ID, new BlackholeOutputStream(blackhole));
+    }
+
+
+    @Benchmark
+    public void writeFilledSchusszettelPDF(final Blackhole blackhole) {
+        schusszettelComponent.writeFilledSchusszettelPDF(match1.getId(), match2.getId(),
+                new BlackholeOutputStream(blackhole));
+    }
+
+
+    /**
+     * I consume the written bytes without storing them.
+     */
+    private static final class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+
+        private BlackholeOutputStream(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+
+        @Override
+        public void write(final int b) {
+            blackhole.consume(b);
+        }
+
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.bogenliga.application.common.component.dao;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import de.bogenliga.application.benchmarks.BenchmarkData;
+import de.bogenliga.application.business.passe.impl.entity.PasseBE;
+
+/**
+ * I measure the mapping of result set rows to business entities.
+ * <p>
+ * The benchmark is located in the package of the {@link BasicBeanListHandler} to access its package-private
+ * constructor. The rows are read from an in-memory result set, so only the mapping is measured.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicBeanListHandlerBenchmark {
+
+    @Param({"15", "150"})
+    private int rowCount;
+
+    private BasicBeanListHandler<PasseBE> handler;
+    private Object[][] rows;
+
+
+    @Setup
+    public void setUp() {
+        handler = new BasicBeanListHandler<>(PasseBE.class, BenchmarkData.getPasseColumnsToFieldsMap());
+        rows = BenchmarkData.createPasseRows(rowCount);
+    }
+
+
+    @Benchmark
+    public List<PasseBE> handle() throws SQLException {
+        return handler.handle(BenchmarkData.createPasseResultSet(rows));
+    }
+}
@@ -0,0 +1,91 @@
+package de.bogenliga.application.springconfiguration.security.jsonwebtoken;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import de.bogenliga.application.business.user.api.types.UserWithPermissionsDO;
+import de.bogenliga.application.common.configuration.SecurityJsonWebTokenConfiguration;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+
+/**
+ * I measure the verification of a JSON Web Token with and without the {@link JwtClaimsCache}.
+ * <p>
+ * The benchmark is located in the package of the {@link JwtTokenProvider} to access the package-private
+ * {@link JwtTokenProvider#validateAndParseToken(String)}.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+    private static final long EXPIRATION = 3_600_000L;
+    private static final int REFRESH = 5;
+    private static final int CACHE_SIZE = 1000;
+    private static final long CACHE_TTL = 60_000L;
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+
+    private static JwtTokenProvider createProvider(final int cacheSize) {
+        final SecurityJsonWebTokenConfiguration configuration = new SecurityJsonWebTokenConfiguration();
+        configuration.setSecret(SECRET);
+        configuration.setExpiration(EXPIRATION);
+        configuration.setRefresh(REFRESH);
+        configuration.setCacheSize(cacheSize);
+        configuration.setCacheTtl(CACHE_TTL);
+
+        final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(configuration, null,
+                new JwtClaimsCache(configuration), new JwtRevocationList());
+        jwtTokenProvider.init();
+        return jwtTokenProvider;
+    }
+
+
+    @Setup
+    public void setUp() {
+        // a cache without capacity evicts every token immediately
+        uncachedProvider = createProvider(0);
+        cachedProvider = createProvider(CACHE_SIZE);
+
+        final List<UserPermission> permissions = Arrays.asList(
+                UserPermission.CAN_READ_DEFAULT, UserPermission.CAN_READ_STAMMDATEN);
+        final UserWithPermissionsDO userWithPermissionsDO = new UserWithPermissionsDO(1L, "user@bogenliga.de",
+                OffsetDateTime.now(), 1L, null, null, 1L, Collections.emptyList());
+
+        token = cachedProvider.createToken(
+                new UsernamePasswordAuthenticationToken(userWithPermissionsDO, null, permissions));
+    }
+
+
+    @Benchmark
+    public JwtAuthenticationContext validateAndParseToken() {
+        return uncachedProvider.validateAndParseToken(token);
+    }
+
+
+    @Benchmark
+    public JwtAuthenticationContext validateAndParseTokenCached() {
+        return cachedProvider.validateAndParseToken(token);
+    }
+}
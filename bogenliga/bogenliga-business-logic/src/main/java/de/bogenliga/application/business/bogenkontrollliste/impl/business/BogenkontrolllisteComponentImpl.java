@@ -2,9 +2,13 @@ package de.bogenliga.application.business.bogenkontrollliste.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.OutputStream;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,22 +26,15 @@ import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.property.TextAlignment;
 import com.itextpdf.layout.property.UnitValue;
 import de.bogenliga.application.business.bogenkontrollliste.api.BogenkontrolllisteComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
-import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
-import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
-import de.bogenliga.application.business.liga.api.LigaComponent;
-import de.bogenliga.application.business.liga.api.types.LigaDO;
+import de.bogenliga.application.business.document.api.DocumentWriter;
+import de.bogenliga.application.business.eligibility.api.EligibilityComponent;
+import de.bogenliga.application.business.eligibility.api.types.WettkampfEligibilityDO;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
-import de.bogenliga.application.business.passe.api.PasseComponent;
-import de.bogenliga.application.business.passe.api.types.PasseDO;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
@@ -61,46 +58,51 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
     private static final String PRECONDITION_WETTKAMPFDO = "wettkampfDO cannot be null";
     private static final String PRECONDITION_VERANSTALTUNGSNAME =  "veranstaltungsName cannot be null";
 
-    private final DsbMannschaftComponent dsbMannschaftComponent;
-    private final VereinComponent vereinComponent;
-    private final LigaComponent ligaComponent;
+    // die Bogenkontrollliste enthält die Mannschaften der ersten Begegnungen auf allen 8 Scheiben
+    private static final long MATCH_NR = 1L;
+    private static final int ANZAHL_SCHEIBEN = 8;
+
     private final WettkampfComponent wettkampfComponent;
     private final VeranstaltungComponent veranstaltungComponent;
     private final MatchComponent matchComponent;
-    private final PasseComponent passeComponent;
     private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
-    private final DsbMitgliedComponent dsbMitgliedComponent;
+    private final EligibilityComponent eligibilityComponent;
 
 
     @Autowired
-    public BogenkontrolllisteComponentImpl(final DsbMannschaftComponent dsbMannschaftComponent,
-                                           final VereinComponent vereinComponent,
-                                           final LigaComponent ligaComponent,
-                                           final WettkampfComponent wettkampfComponent,
+    public BogenkontrolllisteComponentImpl(final WettkampfComponent wettkampfComponent,
                                            final VeranstaltungComponent veranstaltungComponent,
                                            final MatchComponent matchComponent,
-                                           final PasseComponent passeComponent,
                                            final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
-                                           final DsbMitgliedComponent dsbMitgliedComponent) {
-        this.dsbMannschaftComponent = dsbMannschaftComponent;
-        this.vereinComponent = vereinComponent;
-        this.ligaComponent = ligaComponent;
+                                           final EligibilityComponent eligibilityComponent) {
         this.wettkampfComponent = wettkampfComponent;
         this.veranstaltungComponent = veranstaltungComponent;
         this.matchComponent = matchComponent;
-        this.passeComponent = passeComponent;
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
-        this.dsbMitgliedComponent = dsbMitgliedComponent;
+        this.eligibilityComponent = eligibilityComponent;
     }
 
     @Override
     public byte[] getBogenkontrolllistePDFasByteArray(long wettkampfid) {
-        byte[] bResult;
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeBogenkontrolllistePDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+
+    @Override
+    public void writeBogenkontrolllistePDF(long wettkampfid, OutputStream outputStream) {
+        prepareBogenkontrolllistePDF(wettkampfid).writeTo(outputStream);
+    }
+
+
+    @Override
+    public DocumentWriter prepareBogenkontrolllistePDF(long wettkampfid) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
 
-        HashMap<String, List<DsbMitgliedDO>> teamMemberMapping = new HashMap<>();
-        HashMap<DsbMitgliedDO,Boolean> allowedMapping = new HashMap<>();
+        HashMap<String, List<MannschaftsmitgliedDO>> teamMemberMapping = new LinkedHashMap<>();
+        HashMap<Long,Boolean> allowedMapping = new HashMap<>();
 
         // Collect Information
         WettkampfDO wettkampfDO = wettkampfComponent.findById(wettkampfid);
@@ -108,90 +110,52 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
 
         String eventName = veranstaltungDO.getVeranstaltungName();
 
-        List<Boolean> allowedList=new ArrayList<>();
+        List<MatchDO> matchDOList = matchComponent.findByWettkampfId(wettkampfid).stream()
+                .filter(matchDO -> matchDO.getNr() != null && matchDO.getNr() == MATCH_NR)
+                .filter(matchDO -> matchDO.getScheibenNummer() != null
+                        && matchDO.getScheibenNummer() >= 1 && matchDO.getScheibenNummer() <= ANZAHL_SCHEIBEN)
+                .sorted(Comparator.comparing(MatchDO::getScheibenNummer))
+                .collect(Collectors.toList());
+        Map<Long, String> teamNames = matchComponent.getMannschaftsNamenByIDs(matchDOList.stream()
+                .map(MatchDO::getMannschaftId).collect(Collectors.toSet()));
+
+        // Einsatzberechtigung aller Schützen des Wettkampfs mit wenigen Abfragen bestimmen
+        WettkampfEligibilityDO eligibility = eligibilityComponent.findByWettkampfId(wettkampfid);
 
-        for(int i=1; i <= 8; i++){
-            MatchDO matchDO = matchComponent.findByWettkampfIDMatchNrScheibenNr(wettkampfid, 1L, (long) i);
-            String teamName = getTeamName(matchDO.getMannschaftId());
+        for(MatchDO matchDO : matchDOList){
+            String teamName = teamNames.get(matchDO.getMannschaftId());
             LOGGER.info("Teamname {} wurde gefunden ", teamName);
             List<MannschaftsmitgliedDO> mannschaftsmitgliedDOList = mannschaftsmitgliedComponent.findAllSchuetzeInTeam(matchDO.getMannschaftId());
-            List<DsbMitgliedDO> dsbMitgliedDOList = new ArrayList<>();
-            List<LigaDO> ligen=this.ligaComponent.findAll();
-            int count = 0;
             for(MannschaftsmitgliedDO mannschaftsmitglied: mannschaftsmitgliedDOList){
-                DsbMitgliedDO dsbMitglied=dsbMitgliedComponent.findById(mannschaftsmitglied.getDsbMitgliedId());
-                long thisLiga=this.veranstaltungComponent.findById(this.wettkampfComponent.findById(matchDO.getWettkampfId()).getWettkampfVeranstaltungsId()).getVeranstaltungLigaID();
-
-                //finde Stufe der aktuellen Liga
-                int thisLigaStufe = 0;
-                int currentLiga=(int)thisLiga;
-                while(currentLiga != 0){
-                    if(ligen.get(currentLiga-1).getLigaUebergeordnetId()!=null) {
-                        currentLiga = ligen.get(currentLiga-1).getLigaUebergeordnetId().intValue();
-                        thisLigaStufe++;
-                    }else{currentLiga=0;}
-                }
-                long thisWettkamptag=this.wettkampfComponent.findById(matchDO.getWettkampfId()).getWettkampfTag();
-                long thisSportjahr=this.veranstaltungComponent.findById(this.wettkampfComponent.findById(matchDO.getWettkampfId()).getWettkampfVeranstaltungsId()).getVeranstaltungSportJahr();
-                boolean darfSchiessen=true;
-
-                //find highest Liga and check if mitglied has already shot on this Wettkampftag
-                List<MannschaftsmitgliedDO> mitgliedIn=this.mannschaftsmitgliedComponent.findByMemberId(dsbMitglied.getId());
-                for(MannschaftsmitgliedDO mitglied: mitgliedIn){
-                    List<WettkampfDO> wettkaempfe = this.wettkampfComponent.findAllWettkaempfeByMannschaftsId(mitglied.getMannschaftId());
-                    for (WettkampfDO wettkampf : wettkaempfe) {
-
-                        //check Sportjahr of Veranstaltung
-                        long wettkampfSportjahr = this.veranstaltungComponent.findById(
-                                wettkampf.getWettkampfVeranstaltungsId()).getVeranstaltungSportJahr();
-                        if (thisSportjahr == wettkampfSportjahr) {
-                            long liga=this.veranstaltungComponent.findById(
-                                    wettkampf.getWettkampfVeranstaltungsId()).getVeranstaltungLigaID();
-
-                            //finde Stufe der Liga dieses Wettkampfes, wenn das Mannschaftsmitglied mindestens 2 mal eingesetzt wurde
-                            if(mitglied.getDsbMitgliedEingesetzt()>=2) {
-                                currentLiga=(int)liga;
-                                int ligaStufe=0;
-                                while(currentLiga != 0){
-                                    if(ligen.get(currentLiga-1).getLigaUebergeordnetId()!=null) {
-                                        currentLiga = ligen.get(currentLiga-1).getLigaUebergeordnetId().intValue();
-                                        ligaStufe++;
-                                    }else{currentLiga=0;}
-                                }
-                                darfSchiessen=(thisLigaStufe <= ligaStufe) && darfSchiessen;
-                            }
-                            List<PasseDO> passen=passeComponent.findByWettkampfIdAndMitgliedId(wettkampf.getId(),dsbMitglied.getId());
-                            darfSchiessen = !(thisWettkamptag == wettkampf.getWettkampfTag() && !passen.isEmpty()) && darfSchiessen;
-                        }
-                    }
-                }
-                dsbMitgliedDOList.add(dsbMitglied);
-                allowedMapping.put(dsbMitglied,darfSchiessen);
+                boolean darfSchiessen = eligibility.darfSchiessen(mannschaftsmitglied.getDsbMitgliedId());
+                allowedMapping.put(mannschaftsmitglied.getDsbMitgliedId(),darfSchiessen);
                 if(darfSchiessen){
-                    LOGGER.info("Teammitglied {} {} wurde gefunden", dsbMitgliedDOList.get(count).getNachname(), dsbMitgliedDOList.get(count).getVorname());
+                    LOGGER.info("Teammitglied {} {} wurde gefunden", mannschaftsmitglied.getDsbMitgliedNachname(), mannschaftsmitglied.getDsbMitgliedVorname());
                 }else{
-                    LOGGER.info("Teammitglied {} {} konnte nicht hinzugefügt werden, da es schon in einer höheren Liga oder am selben Wettkampftag geschossen hat.", dsbMitglied.getNachname(), dsbMitglied.getVorname());
+                    LOGGER.info("Teammitglied {} {} konnte nicht hinzugefügt werden, da es schon in einer höheren Liga oder am selben Wettkampftag geschossen hat.", mannschaftsmitglied.getDsbMitgliedNachname(), mannschaftsmitglied.getDsbMitgliedVorname());
                 }
-                count++;
             }
-            teamMemberMapping.put(teamName,dsbMitgliedDOList);
+            teamMemberMapping.put(teamName,mannschaftsmitgliedDOList);
 
 
         }
-        try (final ByteArrayOutputStream result = new ByteArrayOutputStream();
-             final PdfWriter writer = new PdfWriter(result);
-             final PdfDocument pdfDocument = new PdfDocument(writer);
-             final Document doc = new Document(pdfDocument, PageSize.A4)) {
+        Preconditions.checkNotNull(wettkampfDO, PRECONDITION_WETTKAMPFDO);
+        Preconditions.checkArgument(!teamMemberMapping.isEmpty(), PRECONDITION_TEAM_MAPPING);
+        Preconditions.checkNotNull(eventName, PRECONDITION_VERANSTALTUNGSNAME);
 
-            generateBogenkontrolllisteDoc(doc, wettkampfDO, teamMemberMapping, eventName, allowedMapping);
+        return outputStream -> {
+            try (final PdfWriter writer = new PdfWriter(outputStream);
+                 final PdfDocument pdfDocument = new PdfDocument(writer);
+                 final Document doc = new Document(pdfDocument, PageSize.A4)) {
 
-            bResult = result.toByteArray();
-            return bResult;
+                writer.setCloseStream(false);
+                generateBogenkontrolllisteDoc(doc, wettkampfDO, teamMemberMapping, eventName, allowedMapping);
 
-        } catch (IOException e) {
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
-                    "Bogenkontrollliste PDF konnte nicht erstellt werden: " + e);
-        }
+            } catch (IOException e) {
+                throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                        "Bogenkontrollliste PDF konnte nicht erstellt werden: " + e);
+            }
+        };
     }
 
 
@@ -199,15 +163,13 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
      * Generates the Document
      *  @param doc Doc to write
      * @param wettkampfDO WettkampfDO for competition info
-     * @param teamMemberMapping Key: TeamName String, Value: List of DSBMitgliedDO (Contains shooters)
+     * @param teamMemberMapping Key: TeamName String, Value: List of MannschaftsmitgliedDO (Contains shooters)
+     * @param allowedMapping Key: DsbMitgliedId, Value: true, if the shooter may shoot
      */
     private void generateBogenkontrolllisteDoc(Document doc, WettkampfDO wettkampfDO,
-                                               HashMap<String, List<DsbMitgliedDO>> teamMemberMapping,
-                                               String veranstaltungsName, HashMap<DsbMitgliedDO,Boolean> allowedMapping) {
+                                               HashMap<String, List<MannschaftsmitgliedDO>> teamMemberMapping,
+                                               String veranstaltungsName, HashMap<Long,Boolean> allowedMapping) {
         Preconditions.checkNotNull(doc, PRECONDITION_DOCUMENT);
-        Preconditions.checkNotNull(wettkampfDO, PRECONDITION_WETTKAMPFDO);
-        Preconditions.checkArgument(!teamMemberMapping.isEmpty(), PRECONDITION_TEAM_MAPPING);
-        Preconditions.checkNotNull(veranstaltungsName, PRECONDITION_VERANSTALTUNGSNAME);
         String[] teamNameList = new String[8];
         int i = 0;
 
@@ -319,16 +281,16 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
                 //Add content to player columns
                 if(allowedMapping.get(teamMemberMapping.get(
                         teamNameList[manschaftCounter]).get(
-                        mitgliedCounter - 1))) {
+                        mitgliedCounter - 1).getDsbMitgliedId())) {
                     tableBodyFirstPart
                             .addCell(new Cell().setBorder(Border.NO_BORDER)
                                     .add(tableCheckbox1.setBorder(Border.NO_BORDER)))
                             .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.LEFT)
                                     .add(new Paragraph(mitgliedCounter + " " + teamMemberMapping.get(
                                             teamNameList[manschaftCounter]).get(
-                                            mitgliedCounter - 1).getNachname() + ", " + teamMemberMapping.get(
+                                            mitgliedCounter - 1).getDsbMitgliedNachname() + ", " + teamMemberMapping.get(
                                             teamNameList[manschaftCounter]).get(
-                                            mitgliedCounter - 1).getVorname()).setBold().setFontSize(10.0F)))
+                                            mitgliedCounter - 1).getDsbMitgliedVorname()).setBold().setFontSize(10.0F)))
                     ;
                 }else{
                     tableBodyFirstPart
@@ -337,9 +299,9 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
                             .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.LEFT)
                                     .add(new Paragraph(mitgliedCounter + " " + teamMemberMapping.get(
                                             teamNameList[manschaftCounter]).get(
-                                            mitgliedCounter - 1).getNachname() + ", " + teamMemberMapping.get(
+                                            mitgliedCounter - 1).getDsbMitgliedNachname() + ", " + teamMemberMapping.get(
                                             teamNameList[manschaftCounter]).get(
-                                            mitgliedCounter - 1).getVorname()).setBold().setLineThrough().setFontSize(10.0F)))
+                                            mitgliedCounter - 1).getDsbMitgliedVorname()).setBold().setLineThrough().setFontSize(10.0F)))
                     ;
                 }
 
@@ -441,23 +403,4 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
                 .setTextAlignment(TextAlignment.CENTER).setBold().setFontSize(14.0F))
                 .add(new Paragraph("am "+wettkampfDO.getWettkampfDatum())
                         .setTextAlignment(TextAlignment.RIGHT).setFontSize(10.0F));
-    }
-
-
-    /**
-     * help function to get team name
-     *
-     * @param teamID ID of the team
-     * @return name of the team
-     */
-    private String getTeamName(long teamID) {
-        Preconditions.checkArgument(teamID >= 0,"TeamID cannot be Negative");
-        DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(teamID);
-        VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
-        if (dsbMannschaftDO.getNummer() > 1) {
-            return vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
-        } else {
-            return vereinDO.getName();
-        }
-    }
-}
+    }}
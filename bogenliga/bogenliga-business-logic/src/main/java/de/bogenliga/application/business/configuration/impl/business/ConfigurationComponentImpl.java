@@ -9,6 +9,8 @@ import de.bogenliga.application.business.configuration.api.types.ConfigurationDO
 import de.bogenliga.application.business.configuration.impl.dao.ConfigurationDAO;
 import de.bogenliga.application.business.configuration.impl.entity.ConfigurationBE;
 import de.bogenliga.application.business.configuration.impl.mapper.ConfigurationMapper;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -28,7 +30,11 @@ public class ConfigurationComponentImpl implements ConfigurationComponent {
     private static final String PRECONDITION_MSG_CONFIGURATION_KEY = "ConfigurationDO key must not be null or empty";
     private static final String PRECONDITION_MSG_CONFIGURATION_VALUE = "ConfigurationDO value must not be null";
 
+    // the Einstellungen modify the same table
+    public static final String CACHE_NAME = "configuration";
+
     private final ConfigurationDAO configurationDAO;
+    private final EntityCache<String, ConfigurationBE> configurationCache;
 
 
     /**
@@ -36,17 +42,20 @@ public class ConfigurationComponentImpl implements ConfigurationComponent {
      *
      * dependency injection with {@link Autowired}
      *
-     * @param configurationDAO to access the database and return configuration representations
+     * @param configurationDAO   to access the database and return configuration representations
+     * @param entityCacheManager to cache the configuration, which is read by many requests
      */
     @Autowired
-    public ConfigurationComponentImpl(final ConfigurationDAO configurationDAO) {
+    public ConfigurationComponentImpl(final ConfigurationDAO configurationDAO,
+                                      final EntityCacheManager entityCacheManager) {
         this.configurationDAO = configurationDAO;
+        this.configurationCache = entityCacheManager.getCache(CACHE_NAME);
     }
 
 
     @Override
     public List<ConfigurationDO> findAll() {
-        final List<ConfigurationBE> configurationBEList = configurationDAO.findAll();
+        final List<ConfigurationBE> configurationBEList = configurationCache.getAll(configurationDAO::findAll);
         return configurationBEList.stream().map(ConfigurationMapper.toDO).collect(Collectors.toList());
     }
 
@@ -55,7 +64,7 @@ public class ConfigurationComponentImpl implements ConfigurationComponent {
     public ConfigurationDO findByKey(final String key) {
         Preconditions.checkNotNullOrEmpty(key, PRECONDITION_MSG_CONFIGURATION_KEY);
 
-        final ConfigurationBE result = configurationDAO.findByKey(key);
+        final ConfigurationBE result = configurationCache.get(key, configurationDAO::findByKey);
 
         if (result == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
@@ -75,6 +84,7 @@ public class ConfigurationComponentImpl implements ConfigurationComponent {
 
         final ConfigurationBE configurationBE = ConfigurationMapper.toBE.apply(configurationDO);
         final ConfigurationBE persistedConfigurationBE = configurationDAO.create(configurationBE, currentUser);
+        configurationCache.invalidate();
         return ConfigurationMapper.toDO.apply(persistedConfigurationBE);
     }
 
@@ -88,6 +98,7 @@ public class ConfigurationComponentImpl implements ConfigurationComponent {
 
         final ConfigurationBE configurationBE = ConfigurationMapper.toBE.apply(configurationDO);
         final ConfigurationBE persistedConfigurationBE = configurationDAO.update(configurationBE, currentUser);
+        configurationCache.invalidate();
         return ConfigurationMapper.toDO.apply(persistedConfigurationBE);
     }
 
@@ -99,5 +110,6 @@ public class ConfigurationComponentImpl implements ConfigurationComponent {
 
         final ConfigurationBE configurationBE = ConfigurationMapper.toBE.apply(configurationDO);
         configurationDAO.delete(configurationBE, currentUser);
+        configurationCache.invalidate();
     }
 }
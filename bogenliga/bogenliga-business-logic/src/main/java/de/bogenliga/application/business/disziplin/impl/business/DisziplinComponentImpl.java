@@ -9,6 +9,8 @@ import de.bogenliga.application.business.disziplin.api.types.DisziplinDO;
 import de.bogenliga.application.business.disziplin.impl.dao.DisziplinDAO;
 import de.bogenliga.application.business.disziplin.impl.entity.DisziplinBE;
 import de.bogenliga.application.business.disziplin.impl.mapper.DisziplinMapper;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -35,7 +37,10 @@ public class DisziplinComponentImpl implements DisziplinComponent {
     private static final String PRECONDITION_MSG_TEMPLATE_NULL = "Passe: %s must not be null";
     private static final String PRECONDITION_MSG_TEMPLATE_NEGATIVE = "Passe: %s must not be negative";
 
+    static final String CACHE_NAME = "disziplin";
+
     private final DisziplinDAO disziplinDAO;
+    private final EntityCache<Long, DisziplinBE> disziplinCache;
 
 
     /**
@@ -43,11 +48,13 @@ public class DisziplinComponentImpl implements DisziplinComponent {
      * <p>
      * dependency injection with {@link Autowired}
      *
-     * @param disziplinDAO to access the database and return match representations
+     * @param disziplinDAO       to access the database and return match representations
+     * @param entityCacheManager to cache the rarely changed disziplinen
      */
     @Autowired
-    public DisziplinComponentImpl(final DisziplinDAO disziplinDAO) {
+    public DisziplinComponentImpl(final DisziplinDAO disziplinDAO, final EntityCacheManager entityCacheManager) {
         this.disziplinDAO = disziplinDAO;
+        this.disziplinCache = entityCacheManager.getCache(CACHE_NAME);
     }
 
 
@@ -59,7 +66,7 @@ public class DisziplinComponentImpl implements DisziplinComponent {
 
     @Override
     public List<DisziplinDO> findAll() {
-        final List<DisziplinBE> disziplinBEList = disziplinDAO.findAll();
+        final List<DisziplinBE> disziplinBEList = disziplinCache.getAll(disziplinDAO::findAll);
         return disziplinBEList.stream().map(DisziplinMapper.toDisziplinDO).collect(Collectors.toList());
     }
 
@@ -68,7 +75,7 @@ public class DisziplinComponentImpl implements DisziplinComponent {
     public DisziplinDO findById(Long id) {
         checkPreconditions(id,PRECONDITION_MSG_DISZIPLIN_NR);
 
-        final DisziplinBE disziplinBE = disziplinDAO.findById(id);
+        final DisziplinBE disziplinBE = disziplinCache.get(id, disziplinDAO::findById);
 
         if (disziplinBE == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
@@ -86,6 +93,7 @@ public class DisziplinComponentImpl implements DisziplinComponent {
         this.checkDisziplin(disziplinDO);
 
         DisziplinBE disziplinBE = disziplinDAO.create(DisziplinMapper.toDisziplinBE.apply(disziplinDO), currentUserId);
+        disziplinCache.invalidate();
         return DisziplinMapper.toDisziplinDO.apply(disziplinBE);
     }
 
@@ -97,6 +105,7 @@ public class DisziplinComponentImpl implements DisziplinComponent {
         this.checkDisziplin(disziplinDO);
 
         DisziplinBE disziplinBE = disziplinDAO.update(DisziplinMapper.toDisziplinBE.apply(disziplinDO), currentUserId);
+        disziplinCache.invalidate();
         return DisziplinMapper.toDisziplinDO.apply(disziplinBE);
     }
 
@@ -119,5 +128,6 @@ public class DisziplinComponentImpl implements DisziplinComponent {
 
         DisziplinBE disziplinBE = DisziplinMapper.toDisziplinBE.apply(disziplinDO);
         disziplinDAO.delete(disziplinBE, currentUserId);
+        disziplinCache.invalidate();
     }
 }
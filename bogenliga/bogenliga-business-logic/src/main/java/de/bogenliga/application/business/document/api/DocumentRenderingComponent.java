@@ -0,0 +1,48 @@
+package de.bogenliga.application.business.document.api;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiConsumer;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.layout.Document;
+import de.bogenliga.application.common.component.ComponentFacade;
+
+/**
+ * I render multi-page pdf documents, e.g. all Schusszettel of a Wettkampf or the Lizenzen of a team.
+ * <p>
+ * Each page is rendered into its own pdf fragment. The fragments are rendered in parallel and merged in the order of
+ * the pages, while the following pages are still rendered.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public interface DocumentRenderingComponent extends ComponentFacade {
+
+    /**
+     * I write a pdf document with one or more pages for each of the given page data.
+     * <p>
+     * The page writer is called on a worker thread without the database transaction of the request, so it must only
+     * use the given page data and must not close the document.
+     *
+     * @param pages        data of the pages in the order of the document
+     * @param pageSize     of the document, e.g. {@link PageSize#A4}
+     * @param pageWriter   writes the content of a single page to an empty document
+     * @param outputStream to write the document to, the stream is not closed
+     * @param <T>          type of the page data
+     */
+    <T> void writePages(List<T> pages, PageSize pageSize, BiConsumer<Document, T> pageWriter,
+                        OutputStream outputStream);
+
+    /**
+     * I validate the given page data and return a writer for the pdf document, see
+     * {@link #writePages(List, PageSize, BiConsumer, OutputStream)}.
+     * <p>
+     * Invalid page data is rejected, before anything is written.
+     *
+     * @param pages      data of the pages in the order of the document
+     * @param pageSize   of the document, e.g. {@link PageSize#A4}
+     * @param pageWriter writes the content of a single page to an empty document
+     * @param <T>        type of the page data
+     * @return writer of the document
+     */
+    <T> DocumentWriter preparePages(List<T> pages, PageSize pageSize, BiConsumer<Document, T> pageWriter);
+}
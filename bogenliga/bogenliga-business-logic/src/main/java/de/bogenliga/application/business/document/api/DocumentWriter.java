@@ -0,0 +1,22 @@
+package de.bogenliga.application.business.document.api;
+
+import java.io.OutputStream;
+
+/**
+ * I write a prepared pdf document.
+ * <p>
+ * The data of the document is loaded and validated, when the writer is prepared. Writing the document must not access
+ * the database, so the writer can be used after the transaction of the request, e.g. in a streamed response body.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@FunctionalInterface
+public interface DocumentWriter {
+
+    /**
+     * I write the document to the output stream.
+     *
+     * @param outputStream to write the document to, the stream is not closed
+     */
+    void writeTo(OutputStream outputStream);
+}
@@ -0,0 +1,228 @@
+package de.bogenliga.application.business.document.impl.business;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.layout.Document;
+import de.bogenliga.application.business.document.api.DocumentRenderingComponent;
+import de.bogenliga.application.business.document.api.DocumentWriter;
+import de.bogenliga.application.common.configuration.DocumentRenderingConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * Implementation of {@link DocumentRenderingComponent}
+ * <p>
+ * The pages are rendered by a fixed number of worker threads. At most two fragments per thread are rendered ahead of
+ * the merged page, and each merged page is flushed to the output stream, so the rendered pages are not kept in memory
+ * until the document is closed. Only the cross reference table and the hashes of the smart mode, which shares the
+ * fonts and images of the fragments, still grow with the number of pages.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class DocumentRenderingComponentImpl implements DocumentRenderingComponent {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentRenderingComponentImpl.class);
+
+    private static final String PRECONDITION_MSG_PAGES = "The pages of the document must not be null";
+    private static final String PRECONDITION_MSG_NO_PAGES = "The document must have at least one page";
+    private static final String PRECONDITION_MSG_PAGE_WRITER = "The page writer must not be null";
+    private static final int FRAGMENTS_PER_THREAD = 2;
+
+    private final int parallelism;
+    private final ExecutorService executorService;
+
+
+    /**
+     * Constructor
+     * <p>
+     * dependency injection with {@link Autowired}
+     *
+     * @param documentRenderingConfiguration with the number of worker threads
+     */
+    @Autowired
+    public DocumentRenderingComponentImpl(final DocumentRenderingConfiguration documentRenderingConfiguration) {
+        this(documentRenderingConfiguration.getParallelism());
+    }
+
+
+    DocumentRenderingComponentImpl(final int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        this.executorService = this.parallelism > 1 ? createExecutorService(this.parallelism) : null;
+    }
+
+
+    @Override
+    public <T> void writePages(final List<T> pages, final PageSize pageSize,
+                               final BiConsumer<Document, T> pageWriter, final OutputStream outputStream) {
+        preparePages(pages, pageSize, pageWriter).writeTo(outputStream);
+    }
+
+
+    @Override
+    public <T> DocumentWriter preparePages(final List<T> pages, final PageSize pageSize,
+                                           final BiConsumer<Document, T> pageWriter) {
+        Preconditions.checkNotNull(pages, PRECONDITION_MSG_PAGES);
+        Preconditions.checkArgument(!pages.isEmpty(), PRECONDITION_MSG_NO_PAGES);
+        Preconditions.checkNotNull(pageWriter, PRECONDITION_MSG_PAGE_WRITER);
+
+        return outputStream -> {
+            try {
+                if (pages.size() == 1) {
+                    renderPage(pages.get(0), pageSize, pageWriter, outputStream);
+                } else {
+                    mergePages(pages, pageSize, pageWriter, outputStream);
+                }
+
+            } catch (final IOException e) {
+                throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                        "PDF Dokument konnte nicht erstellt werden: " + e);
+            }
+        };
+    }
+
+
+    /**
+     * Stop the worker threads on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+
+    private <T> void mergePages(final List<T> pages, final PageSize pageSize,
+                                final BiConsumer<Document, T> pageWriter,
+                                final OutputStream outputStream) throws IOException {
+        final Deque<Future<byte[]>> fragments = new ArrayDeque<>();
+        final Iterator<T> remainingPages = pages.iterator();
+        final int window = parallelism * FRAGMENTS_PER_THREAD;
+
+        try (final PdfWriter writer = new PdfWriter(outputStream);
+             final PdfDocument pdfDocument = new PdfDocument(writer)) {
+
+            writer.setCloseStream(false);
+            // share the fonts and images of the fragments
+            writer.setSmartMode(true);
+
+            final PdfMerger pdfMerger = new PdfMerger(pdfDocument);
+
+            while (fragments.size() < window && remainingPages.hasNext()) {
+                fragments.add(submit(remainingPages.next(), pageSize, pageWriter));
+            }
+
+            while (!fragments.isEmpty()) {
+                final byte[] fragment = await(fragments.poll());
+
+                if (remainingPages.hasNext()) {
+                    fragments.add(submit(remainingPages.next(), pageSize, pageWriter));
+                }
+
+                try (final PdfDocument fragmentDocument = new PdfDocument(
+                        new PdfReader(new ByteArrayInputStream(fragment)))) {
+                    final int firstMergedPage = pdfDocument.getNumberOfPages() + 1;
+                    pdfMerger.merge(fragmentDocument, 1, fragmentDocument.getNumberOfPages());
+
+                    // otherwise the merged pages stay in memory until the document is closed
+                    for (int i = firstMergedPage; i <= pdfDocument.getNumberOfPages(); i++) {
+                        pdfDocument.getPage(i).flush();
+                    }
+                }
+            }
+
+        } finally {
+            fragments.forEach(fragment -> fragment.cancel(true));
+        }
+
+        LOGGER.debug("Merged {} pages with {} threads", pages.size(), parallelism);
+    }
+
+
+    private <T> Future<byte[]> submit(final T page, final PageSize pageSize,
+                                      final BiConsumer<Document, T> pageWriter) throws IOException {
+        if (executorService == null) {
+            return CompletableFuture.completedFuture(renderFragment(page, pageSize, pageWriter));
+        }
+        return executorService.submit(() -> renderFragment(page, pageSize, pageWriter));
+    }
+
+
+    private static <T> byte[] renderFragment(final T page, final PageSize pageSize,
+                                             final BiConsumer<Document, T> pageWriter) throws IOException {
+        final ByteArrayOutputStream fragment = new ByteArrayOutputStream();
+        renderPage(page, pageSize, pageWriter, fragment);
+        return fragment.toByteArray();
+    }
+
+
+    private static <T> void renderPage(final T page, final PageSize pageSize,
+                                       final BiConsumer<Document, T> pageWriter,
+                                       final OutputStream outputStream) throws IOException {
+        try (final PdfWriter writer = new PdfWriter(outputStream);
+             final PdfDocument pdfDocument = new PdfDocument(writer);
+             final Document doc = new Document(pdfDocument, pageSize)) {
+
+            writer.setCloseStream(false);
+            pageWriter.accept(doc, page);
+        }
+    }
+
+
+    private static byte[] await(final Future<byte[]> fragment) throws IOException {
+        try {
+            return fragment.get();
+
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "PDF Dokument wurde abgebrochen", e);
+
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "PDF Dokument konnte nicht erstellt werden", cause);
+        }
+    }
+
+
+    private static ExecutorService createExecutorService(final int parallelism) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "pdf-renderer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
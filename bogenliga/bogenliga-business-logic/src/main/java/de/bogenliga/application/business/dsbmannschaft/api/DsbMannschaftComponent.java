@@ -2,6 +2,7 @@ package de.bogenliga.application.business.dsbmannschaft.api;
 
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.common.component.ComponentFacade;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -53,6 +54,17 @@ public interface DsbMannschaftComponent extends ComponentFacade {
     DsbMannschaftDO findById(long id);
 
 
+    /**
+     * Return all dsbmannschaft entries with the given ids.
+     * The dsbmannschaft entries and their vereine are loaded with one query each.
+     *
+     * @param ids of the dsbmannschaft entries
+     * @return list of the found dsbmannschaft entries, in no particular order;
+     * empty list, if no dsbmannschaft is found
+     */
+    List<DsbMannschaftDO> findByIds(Collection<Long> ids);
+
+
     /**
      * Create a new dsbmannschaft in the database.
      *
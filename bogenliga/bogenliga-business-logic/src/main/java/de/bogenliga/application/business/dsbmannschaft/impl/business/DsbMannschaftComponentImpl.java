@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.dsbmannschaft.impl.business;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -38,6 +40,7 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
     private static final String PRECONDITION_MSG_CURRENT_DSBMANNSCHAFT = "Current dsbmannschaft id must not be negative";
     private static final String PRECONDITION_MSG_SORTIERUNG = "The Sortierung must not be null or negative";
     private static final String PRECONDITION_MSG_VERANSTALTUNGS_ID = "Veranstaltungs ID must not be negative";
+    private static final String PRECONDITION_MSG_DSBMANNSCHAFT_IDS = "DsbMannschaftDO IDs must not be null";
 
 
     private final DsbMannschaftDAO dsbMannschaftDAO;
@@ -112,6 +115,17 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
     }
 
 
+    @Override
+    public List<DsbMannschaftDO> findByIds(final Collection<Long> ids) {
+        Preconditions.checkNotNull(ids, PRECONDITION_MSG_DSBMANNSCHAFT_IDS);
+
+        final List<DsbMannschaftBE> dsbMannschaftBeList = dsbMannschaftDAO.findByIds(ids);
+
+        return fillAllNames(dsbMannschaftBeList.stream()
+                .map(DsbMannschaftMapper.toDsbMannschaftDO).collect(Collectors.toList()));
+    }
+
+
 
     @Override
     public DsbMannschaftDO create(final DsbMannschaftDO dsbMannschaftDO, final long currentDsbMannschaftId) {
@@ -151,14 +165,26 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
     }
 
     /**
-     * I set the attribute 'name' of all given Mannschaften by loading the corresponding Verein.
+     * I set the attribute 'name' of all given Mannschaften by loading the corresponding Vereine with one query.
      * Name = Verein_Name +" "+ Mannschaft_Nummer
      *
      * @param mannschaften Several MannschaftDOs with missing name.
      * @return the same Mannschaften as given but with their names filled.
      */
     private List<DsbMannschaftDO> fillAllNames(List<DsbMannschaftDO> mannschaften){
-        return mannschaften.stream().map(mannschaft -> this.fillName(mannschaft)).collect(Collectors.toList());
+        if (mannschaften.isEmpty()) {
+            return mannschaften;
+        }
+
+        final Map<Long, VereinBE> vereine = this.vereinDAO.findByIds(mannschaften.stream()
+                .map(DsbMannschaftDO::getVereinId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(VereinBE::getVereinId, verein -> verein, (first, second) -> first));
+
+        for (DsbMannschaftDO mannschaft : mannschaften) {
+            setName(mannschaft, vereine.get(mannschaft.getVereinId()));
+        }
+        return mannschaften;
     }
 
     /**
@@ -173,10 +199,15 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
         Preconditions.checkArgument(mannschaft.getVereinId() >= 0, PRECONDITION_MSG_DSBMANNSCHAFT_VEREIN_ID);
 
         VereinBE vereinBE = this.vereinDAO.findById(mannschaft.getVereinId());
+        setName(mannschaft, vereinBE);
+        return mannschaft;
+    }
+
+
+    private static void setName(DsbMannschaftDO mannschaft, VereinBE vereinBE) {
         if (vereinBE != null && vereinBE.getVereinName() != null) {
             mannschaft.setName(vereinBE.getVereinName() + " " + mannschaft.getNummer());
         }
-        return mannschaft;
     }
 
 
@@ -1,6 +1,10 @@
 package de.bogenliga.application.business.dsbmannschaft.impl.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -11,6 +15,7 @@ import de.bogenliga.application.business.dsbmannschaft.impl.entity.DsbMannschaft
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.database.queries.QueryBuilder;
 
 @Repository
 public class DsbMannschaftDAO implements DataAccessObject {
@@ -140,6 +145,30 @@ public class DsbMannschaftDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return all dsbmannschaft entries with the given ids in one query
+     *
+     * @param ids of the dsbmannschaft entries, null values and duplicates are ignored
+     * @return all found dbsmannschaft entries, in no particular order
+     */
+    public List<DsbMannschaftBE> findByIds(final Collection<Long> ids) {
+        final List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.remove(null);
+
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String sql = new QueryBuilder()
+                .selectAll()
+                .from(TABLE)
+                .whereIn(MANNSCHAFT_TABLE_ID, distinctIds.size())
+                .compose().toString();
+
+        return basicDao.selectEntityList(MANNSCHAFT, sql, distinctIds.toArray());
+    }
+
+
     /**
      * Create a new dsbmitglied entry
      *
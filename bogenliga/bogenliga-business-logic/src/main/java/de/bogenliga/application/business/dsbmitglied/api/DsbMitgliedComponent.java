@@ -2,6 +2,8 @@ package de.bogenliga.application.business.dsbmitglied.api;
 
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.common.component.ComponentFacade;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import java.util.List;
 
 
@@ -20,6 +22,16 @@ public interface DsbMitgliedComponent extends ComponentFacade {
     List<DsbMitgliedDO> findAll();
 
 
+    /**
+     * Return a page of all dsbmitglied entries.
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of dsbmitglied entries in the database; empty page, if no further entry is found
+     */
+    Page<DsbMitgliedDO> pageAll(PageRequest pageRequest);
+
+
     /**
      * Retrun all dsbmitglied entries with the given teamId.
      *
@@ -7,12 +7,16 @@ import de.bogenliga.application.business.lizenz.impl.dao.LizenzDAO;
 import de.bogenliga.application.business.lizenz.impl.entity.LizenzBE;
 import de.bogenliga.application.business.lizenz.impl.mapper.KampfrichterlizenzMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.dsbmitglied.impl.dao.DsbMitgliedDAO;
 import de.bogenliga.application.business.dsbmitglied.impl.entity.DsbMitgliedBE;
 import de.bogenliga.application.business.dsbmitglied.impl.mapper.DsbMitgliedMapper;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -37,6 +41,7 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
 
     private final DsbMitgliedDAO dsbMitgliedDAO;
     private final LizenzDAO lizenzDAO;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -44,11 +49,14 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
      *
      * dependency injection with {@link Autowired}
      * @param dsbMitgliedDAO to access the database and return dsbmitglied representations
+     * @param eventPublisher to notify about changed Vereine of the dsbmitglieder
      */
     @Autowired
-    public DsbMitgliedComponentImpl(final DsbMitgliedDAO dsbMitgliedDAO, final LizenzDAO lizenzDAO) {
+    public DsbMitgliedComponentImpl(final DsbMitgliedDAO dsbMitgliedDAO, final LizenzDAO lizenzDAO,
+                                    final ApplicationEventPublisher eventPublisher) {
         this.dsbMitgliedDAO = dsbMitgliedDAO;
         this.lizenzDAO = lizenzDAO;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -58,6 +66,12 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
         return dsbMitgliedBEList.stream().map(DsbMitgliedMapper.toDsbMitgliedDO).collect(Collectors.toList());
     }
 
+
+    @Override
+    public Page<DsbMitgliedDO> pageAll(final PageRequest pageRequest) {
+        return dsbMitgliedDAO.pageAll(pageRequest).map(DsbMitgliedMapper.toDsbMitgliedDO);
+    }
+
     @Override
     public List<DsbMitgliedDO> findAllByTeamId(final long id) {
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_DSBMITGLIED_MANNSCHAFT_ID);
@@ -116,6 +130,7 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
         }else if(!dsbMitgliedDO.isKampfrichter() && dsbMitgliedDAO.hasKampfrichterLizenz(dsbMitgliedDOResponse.getId())){
             lizenzDAO.delete(lizenzDAO.findKampfrichterLizenzByDsbMitgliedId(dsbMitgliedDOResponse.getId()),currentDsbMitgliedId);
         }
+        publishOwnershipChanged(dsbMitgliedDO.getId());
         return dsbMitgliedDOResponse;
     }
 
@@ -130,7 +145,7 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
         }
         final DsbMitgliedBE dsbMitgliedBE = DsbMitgliedMapper.toDsbMitgliedBE.apply(dsbMitgliedDO);
         dsbMitgliedDAO.delete(dsbMitgliedBE, currentDsbMitgliedId);
-
+        publishOwnershipChanged(dsbMitgliedDO.getId());
     }
 
 
@@ -145,4 +160,12 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
         Preconditions.checkNotNull(dsbMitgliedDO.getVereinsId(), PRECONDITION_MSG_DSBMITGLIED_VEREIN_ID);
         Preconditions.checkArgument(dsbMitgliedDO.getVereinsId() >= 0, PRECONDITION_MSG_DSBMITGLIED_VEREIN_ID_NEGATIVE);
     }
+
+
+    /**
+     * Notify listeners, e.g. the permission checks, that the Verein of a dsbmitglied may have changed.
+     */
+    private void publishOwnershipChanged(final Long dsbMitgliedId) {
+        eventPublisher.publishEvent(new UserOwnershipChangedEvent("DsbMitglied", dsbMitgliedId));
+    }
 }
@@ -6,11 +6,14 @@ import de.bogenliga.application.business.user.impl.entity.UserBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -145,6 +148,19 @@ public class DsbMitgliedDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return a page of all dsbmitglied entries ordered by the id
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of dsbmitglied entries; empty page, if no further entry is found
+     */
+    public Page<DsbMitgliedBE> pageAll(final PageRequest pageRequest) {
+        return basicDao.selectEntityPage(DSBMITGLIED, pageRequest,
+                dsbMitgliedBE -> Collections.singletonList(dsbMitgliedBE.getDsbMitgliedId()), DSBMITGLIED_TABLE_ID);
+    }
+
+
     /**
      *
      * @param id id of the team, in which the dsmitglied entries are used
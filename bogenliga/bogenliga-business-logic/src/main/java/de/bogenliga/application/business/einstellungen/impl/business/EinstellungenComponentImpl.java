@@ -4,11 +4,14 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.configuration.impl.business.ConfigurationComponentImpl;
 import de.bogenliga.application.business.einstellungen.api.EinstellungenComponent;
 import de.bogenliga.application.business.einstellungen.api.types.EinstellungenDO;
 import de.bogenliga.application.business.einstellungen.impl.dao.EinstellungenDAO;
 import de.bogenliga.application.business.einstellungen.impl.entity.EinstellungenBE;
 import de.bogenliga.application.business.einstellungen.impl.mapper.EinstellungenMapper;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 
@@ -23,6 +26,7 @@ public class EinstellungenComponentImpl implements EinstellungenComponent {
 
 
     private final EinstellungenDAO einstellungenDAO;
+    private final EntityCache<String, ?> configurationCache;
 
 
     /**
@@ -30,13 +34,16 @@ public class EinstellungenComponentImpl implements EinstellungenComponent {
      * <p>
      * dependency injection with {@link Autowired}
      *
-     * @param einstellungenDAO to access the database and return configuration representations
+     * @param einstellungenDAO   to access the database and return configuration representations
+     * @param entityCacheManager to invalidate the cached configuration, e.g. the SMTP settings
      */
 
     @Autowired
-    public EinstellungenComponentImpl(final EinstellungenDAO einstellungenDAO) {
+    public EinstellungenComponentImpl(final EinstellungenDAO einstellungenDAO,
+                                      final EntityCacheManager entityCacheManager) {
 
         this.einstellungenDAO = einstellungenDAO;
+        this.configurationCache = entityCacheManager.getCache(ConfigurationComponentImpl.CACHE_NAME);
     }
 
 
@@ -65,6 +72,7 @@ public class EinstellungenComponentImpl implements EinstellungenComponent {
         final EinstellungenBE einstellungenBE = EinstellungenMapper.toBE.apply(einstellungenDO);
 
         final EinstellungenBE persistedEinstellungenBE = einstellungenDAO.create(einstellungenBE, currentUserId);
+        configurationCache.invalidate();
         return EinstellungenMapper.toDO.apply(persistedEinstellungenBE);
 
     }
@@ -77,6 +85,7 @@ public class EinstellungenComponentImpl implements EinstellungenComponent {
         final EinstellungenBE einstellungenBE = EinstellungenMapper.toBE.apply(einstellungenDO);
 
         final EinstellungenBE persistedEinstellungenBE = einstellungenDAO.update(einstellungenBE, currentUserId);
+        configurationCache.invalidate();
         return EinstellungenMapper.toDO.apply(persistedEinstellungenBE);
 
     }
@@ -87,6 +96,7 @@ public class EinstellungenComponentImpl implements EinstellungenComponent {
 
         final EinstellungenBE einstellungenBE = EinstellungenMapper.toBE.apply(einstellungenDO);
         einstellungenDAO.delete(einstellungenBE, currentUserId);
+        configurationCache.invalidate();
 
     }
 
@@ -0,0 +1,27 @@
+package de.bogenliga.application.business.eligibility.api;
+
+import de.bogenliga.application.business.eligibility.api.types.WettkampfEligibilityDO;
+import de.bogenliga.application.common.component.ComponentFacade;
+
+/**
+ * I decide, which shooters may shoot in a Wettkampf.
+ * <p>
+ * A shooter may not shoot, if
+ * <ul>
+ * <li>the shooter was used at least twice in a team of a higher Liga in the same Sportjahr</li>
+ * <li>the shooter has already shot in another Wettkampf on the same Wettkampftag</li>
+ * </ul>
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public interface EligibilityComponent extends ComponentFacade {
+
+    /**
+     * I evaluate all members of the teams of the Wettkampf at once.
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return eligibility of all members of the teams of the Wettkampf
+     */
+    WettkampfEligibilityDO findByWettkampfId(long wettkampfId);
+}
@@ -0,0 +1,81 @@
+package de.bogenliga.application.business.eligibility.api.types;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import de.bogenliga.application.common.component.types.DataObject;
+
+/**
+ * I contain the eligibility of the members of all teams of a Wettkampf.
+ * <p>
+ * Shooters, which are not member of a team of the Wettkampf, are not evaluated and may shoot.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class WettkampfEligibilityDO implements DataObject {
+    private static final long serialVersionUID = 4620349212880134583L;
+
+    private final long wettkampfId;
+    private final Set<Long> inHoehererLigaEingesetzt;
+    private final Set<Long> amWettkampftagGeschossen;
+
+
+    /**
+     * @param wettkampfId              of the Wettkampf
+     * @param inHoehererLigaEingesetzt ids of the dsb mitglieder, which were used in a higher Liga
+     * @param amWettkampftagGeschossen ids of the dsb mitglieder, which have shot in another Wettkampf of the
+     *                                 Wettkampftag
+     */
+    public WettkampfEligibilityDO(final long wettkampfId,
+                                  final Set<Long> inHoehererLigaEingesetzt,
+                                  final Set<Long> amWettkampftagGeschossen) {
+        this.wettkampfId = wettkampfId;
+        this.inHoehererLigaEingesetzt = Collections.unmodifiableSet(new HashSet<>(inHoehererLigaEingesetzt));
+        this.amWettkampftagGeschossen = Collections.unmodifiableSet(new HashSet<>(amWettkampftagGeschossen));
+    }
+
+
+    public long getWettkampfId() {
+        return wettkampfId;
+    }
+
+
+    /**
+     * @param dsbMitgliedId of the shooter
+     *
+     * @return true, if the shooter may shoot in the Wettkampf
+     */
+    public boolean darfSchiessen(final long dsbMitgliedId) {
+        return !isInHoehererLigaEingesetzt(dsbMitgliedId) && !hatAmWettkampftagGeschossen(dsbMitgliedId);
+    }
+
+
+    public boolean isInHoehererLigaEingesetzt(final long dsbMitgliedId) {
+        return inHoehererLigaEingesetzt.contains(dsbMitgliedId);
+    }
+
+
+    public boolean hatAmWettkampftagGeschossen(final long dsbMitgliedId) {
+        return amWettkampftagGeschossen.contains(dsbMitgliedId);
+    }
+
+
+    public Set<Long> getInHoehererLigaEingesetzt() {
+        return inHoehererLigaEingesetzt;
+    }
+
+
+    public Set<Long> getAmWettkampftagGeschossen() {
+        return amWettkampftagGeschossen;
+    }
+
+
+    @Override
+    public String toString() {
+        return "WettkampfEligibilityDO{" +
+                "wettkampfId=" + wettkampfId +
+                ", inHoehererLigaEingesetzt=" + inHoehererLigaEingesetzt +
+                ", amWettkampftagGeschossen=" + amWettkampftagGeschossen +
+                '}';
+    }
+}
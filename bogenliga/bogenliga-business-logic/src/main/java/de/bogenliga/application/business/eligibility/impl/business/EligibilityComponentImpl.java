@@ -0,0 +1,81 @@
+package de.bogenliga.application.business.eligibility.impl.business;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.eligibility.api.EligibilityComponent;
+import de.bogenliga.application.business.eligibility.api.types.WettkampfEligibilityDO;
+import de.bogenliga.application.business.eligibility.impl.dao.EligibilityDAO;
+import de.bogenliga.application.business.eligibility.impl.entity.EinsatzBE;
+import de.bogenliga.application.business.eligibility.impl.entity.WettkampfStufeBE;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * Implementation of {@link EligibilityComponent}
+ * <p>
+ * I load all Wettkämpfe of the shooters of a Wettkampf in the same Sportjahr with two queries and evaluate the
+ * rules in memory.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class EligibilityComponentImpl implements EligibilityComponent {
+
+    private static final String PRECONDITION_MSG_WETTKAMPF_ID = "wettkampfId must not be negative";
+
+    // ein Schütze gilt ab dem zweiten Einsatz als Stammschütze seiner Mannschaft
+    private static final int MIN_EINSAETZE_STAMMSCHUETZE = 2;
+
+    private final EligibilityDAO eligibilityDAO;
+
+
+    /**
+     * Constructor
+     * <p>
+     * dependency injection with {@link Autowired}
+     *
+     * @param eligibilityDAO to access the database
+     */
+    @Autowired
+    public EligibilityComponentImpl(final EligibilityDAO eligibilityDAO) {
+        this.eligibilityDAO = eligibilityDAO;
+    }
+
+
+    @Override
+    public WettkampfEligibilityDO findByWettkampfId(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        final WettkampfStufeBE wettkampf = eligibilityDAO.findWettkampfStufe(wettkampfId);
+
+        if (wettkampf == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                    String.format("No result found for ID '%s'", wettkampfId));
+        }
+
+        final List<EinsatzBE> einsaetze = eligibilityDAO.findEinsaetze(wettkampfId, wettkampf.getSportjahr());
+        final Set<Long> inHoehererLigaEingesetzt = new HashSet<>();
+        final Set<Long> amWettkampftagGeschossen = new HashSet<>();
+
+        for (final EinsatzBE einsatz : einsaetze) {
+            if (einsatz.getDsbMitgliedEingesetzt() >= MIN_EINSAETZE_STAMMSCHUETZE
+                    && einsatz.getLigaStufe() < wettkampf.getLigaStufe()) {
+                inHoehererLigaEingesetzt.add(einsatz.getDsbMitgliedId());
+            }
+
+            // die Passen im eigenen Wettkampf sprechen nicht gegen einen weiteren Einsatz
+            if (einsatz.isGeschossen()
+                    && einsatz.getWettkampfTag() == wettkampf.getWettkampfTag()
+                    && !Objects.equals(einsatz.getWettkampfId(), wettkampf.getWettkampfId())) {
+                amWettkampftagGeschossen.add(einsatz.getDsbMitgliedId());
+            }
+        }
+
+        return new WettkampfEligibilityDO(wettkampfId, inHoehererLigaEingesetzt, amWettkampftagGeschossen);
+    }
+}
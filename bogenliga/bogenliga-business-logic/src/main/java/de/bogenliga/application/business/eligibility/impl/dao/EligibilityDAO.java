@@ -0,0 +1,171 @@
+package de.bogenliga.application.business.eligibility.impl.dao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import de.bogenliga.application.business.eligibility.impl.entity.EinsatzBE;
+import de.bogenliga.application.business.eligibility.impl.entity.WettkampfStufeBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
+import de.bogenliga.application.common.component.dao.DataAccessObject;
+
+/**
+ * DataAccessObject for the eligibility of the shooters of a Wettkampf.
+ * <p>
+ * I load all data of a Wettkampf with set based queries. The Stufe of each Liga is resolved by a recursive query
+ * over the superior Ligen, so the Liga hierarchy does not need to be loaded.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Repository
+public class EligibilityDAO implements DataAccessObject {
+
+    // define the logger context
+    private static final Logger LOGGER = LoggerFactory.getLogger(EligibilityDAO.class);
+
+    // table name in the database
+    private static final String TABLE = "mannschaftsmitglied";
+
+    // business entity parameter names
+    private static final String EINSATZ_BE_DSB_MITGLIED_ID = "dsbMitgliedId";
+    private static final String EINSATZ_BE_MANNSCHAFT_ID = "mannschaftId";
+    private static final String EINSATZ_BE_DSB_MITGLIED_EINGESETZT = "dsbMitgliedEingesetzt";
+    private static final String EINSATZ_BE_WETTKAMPF_ID = "wettkampfId";
+    private static final String EINSATZ_BE_WETTKAMPF_TAG = "wettkampfTag";
+    private static final String EINSATZ_BE_LIGA_STUFE = "ligaStufe";
+    private static final String EINSATZ_BE_GESCHOSSEN = "geschossen";
+    private static final String WETTKAMPF_STUFE_BE_SPORTJAHR = "sportjahr";
+
+    // column labels of the queries
+    private static final String EINSATZ_TABLE_DSB_MITGLIED_ID = "einsatz_dsb_mitglied_id";
+    private static final String EINSATZ_TABLE_MANNSCHAFT_ID = "einsatz_mannschaft_id";
+    private static final String EINSATZ_TABLE_DSB_MITGLIED_EINGESETZT = "einsatz_dsb_mitglied_eingesetzt";
+    private static final String EINSATZ_TABLE_WETTKAMPF_ID = "einsatz_wettkampf_id";
+    private static final String EINSATZ_TABLE_WETTKAMPF_TAG = "einsatz_wettkampf_tag";
+    private static final String EINSATZ_TABLE_LIGA_STUFE = "einsatz_liga_stufe";
+    private static final String EINSATZ_TABLE_GESCHOSSEN = "einsatz_geschossen";
+    private static final String EINSATZ_TABLE_SPORTJAHR = "einsatz_sportjahr";
+
+    // wrap all specific config parameters
+    private static final BusinessEntityConfiguration<EinsatzBE> EINSATZ = new BusinessEntityConfiguration<>(
+            EinsatzBE.class, TABLE, getColumnsToFieldsMap(), LOGGER);
+    private static final BusinessEntityConfiguration<WettkampfStufeBE> WETTKAMPF_STUFE =
+            new BusinessEntityConfiguration<>(WettkampfStufeBE.class, TABLE, getColumnsToFieldsMap(), LOGGER);
+
+    /*
+     * SQL queries
+     */
+
+    /* Stufe jeder Liga = Anzahl der übergeordneten Ligen, die höchste Liga hat die Stufe 0 */
+    private static final String WITH_LIGA_STUFE =
+            "WITH RECURSIVE liga_stufe (liga_id, stufe) AS (" +
+                    "SELECT liga_id, 0" +
+                    " FROM liga" +
+                    " WHERE liga_uebergeordnet IS NULL" +
+                    " UNION ALL" +
+                    " SELECT liga.liga_id, liga_stufe.stufe + 1" +
+                    " FROM liga" +
+                    " JOIN liga_stufe ON liga.liga_uebergeordnet = liga_stufe.liga_id" +
+                    ")";
+
+    private static final String FIND_WETTKAMPF_STUFE =
+            WITH_LIGA_STUFE +
+                    " SELECT wettkampf.wettkampf_id AS einsatz_wettkampf_id," +
+                    " wettkampf.wettkampf_tag AS einsatz_wettkampf_tag," +
+                    " veranstaltung.veranstaltung_sportjahr AS einsatz_sportjahr," +
+                    " coalesce(liga_stufe.stufe, 0) AS einsatz_liga_stufe" +
+                    " FROM wettkampf" +
+                    " JOIN veranstaltung ON veranstaltung.veranstaltung_id = wettkampf.wettkampf_veranstaltung_id" +
+                    " LEFT JOIN liga_stufe ON liga_stufe.liga_id = veranstaltung.veranstaltung_liga_id" +
+                    " WHERE wettkampf.wettkampf_id = ?";
+
+    /* alle Wettkämpfe im Sportjahr, in denen eine Mannschaft eines Schützen des Wettkampfs antritt
+     * - Schützen = Mitglieder aller Mannschaften mit einem Match im Wettkampf
+     * - Wettkampftag 0 enthält nur die Setzliste und wird ignoriert
+     */
+    private static final String FIND_EINSAETZE =
+            WITH_LIGA_STUFE + ", schuetze AS (" +
+                    "SELECT DISTINCT mannschaftsmitglied_dsb_mitglied_id AS dsb_mitglied_id" +
+                    " FROM mannschaftsmitglied" +
+                    " JOIN match ON match.match_mannschaft_id = mannschaftsmitglied_mannschaft_id" +
+                    " WHERE match.match_wettkampf_id = ?" +
+                    ")" +
+                    " SELECT DISTINCT m.mannschaftsmitglied_dsb_mitglied_id AS einsatz_dsb_mitglied_id," +
+                    " m.mannschaftsmitglied_mannschaft_id AS einsatz_mannschaft_id," +
+                    " m.mannschaftsmitglied_dsb_mitglied_eingesetzt AS einsatz_dsb_mitglied_eingesetzt," +
+                    " wettkampf.wettkampf_id AS einsatz_wettkampf_id," +
+                    " wettkampf.wettkampf_tag AS einsatz_wettkampf_tag," +
+                    " coalesce(liga_stufe.stufe, 0) AS einsatz_liga_stufe," +
+                    " EXISTS (" +
+                    "SELECT 1 FROM passe" +
+                    " WHERE passe.passe_wettkampf_id = wettkampf.wettkampf_id" +
+                    " AND passe.passe_dsb_mitglied_id = m.mannschaftsmitglied_dsb_mitglied_id" +
+                    ") AS einsatz_geschossen" +
+                    " FROM mannschaftsmitglied AS m" +
+                    " JOIN schuetze ON schuetze.dsb_mitglied_id = m.mannschaftsmitglied_dsb_mitglied_id" +
+                    " JOIN match ON match.match_mannschaft_id = m.mannschaftsmitglied_mannschaft_id" +
+                    " JOIN wettkampf ON wettkampf.wettkampf_id = match.match_wettkampf_id" +
+                    " JOIN veranstaltung ON veranstaltung.veranstaltung_id = wettkampf.wettkampf_veranstaltung_id" +
+                    " LEFT JOIN liga_stufe ON liga_stufe.liga_id = veranstaltung.veranstaltung_liga_id" +
+                    " WHERE wettkampf.wettkampf_tag > 0" +
+                    " AND veranstaltung.veranstaltung_sportjahr = ?";
+
+    private final BasicDAO basicDao;
+
+
+    /**
+     * Initialize the transaction manager to provide a database connection
+     *
+     * @param basicDao to handle the commonly used database operations
+     */
+    @Autowired
+    public EligibilityDAO(final BasicDAO basicDao) {
+        this.basicDao = basicDao;
+    }
+
+
+    // table column label mapping to the business entity parameter names
+    private static Map<String, String> getColumnsToFieldsMap() {
+        final Map<String, String> columnsToFieldsMap = new HashMap<>();
+
+        columnsToFieldsMap.put(EINSATZ_TABLE_DSB_MITGLIED_ID, EINSATZ_BE_DSB_MITGLIED_ID);
+        columnsToFieldsMap.put(EINSATZ_TABLE_MANNSCHAFT_ID, EINSATZ_BE_MANNSCHAFT_ID);
+        columnsToFieldsMap.put(EINSATZ_TABLE_DSB_MITGLIED_EINGESETZT, EINSATZ_BE_DSB_MITGLIED_EINGESETZT);
+        columnsToFieldsMap.put(EINSATZ_TABLE_WETTKAMPF_ID, EINSATZ_BE_WETTKAMPF_ID);
+        columnsToFieldsMap.put(EINSATZ_TABLE_WETTKAMPF_TAG, EINSATZ_BE_WETTKAMPF_TAG);
+        columnsToFieldsMap.put(EINSATZ_TABLE_LIGA_STUFE, EINSATZ_BE_LIGA_STUFE);
+        columnsToFieldsMap.put(EINSATZ_TABLE_GESCHOSSEN, EINSATZ_BE_GESCHOSSEN);
+        columnsToFieldsMap.put(EINSATZ_TABLE_SPORTJAHR, WETTKAMPF_STUFE_BE_SPORTJAHR);
+
+        return columnsToFieldsMap;
+    }
+
+
+    /**
+     * Returns the Wettkampftag, the Sportjahr and the Stufe of the Liga of a Wettkampf
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return the Wettkampf or null, if the Wettkampf does not exist
+     */
+    public WettkampfStufeBE findWettkampfStufe(final long wettkampfId) {
+        return basicDao.selectSingleEntity(WETTKAMPF_STUFE, FIND_WETTKAMPF_STUFE, wettkampfId);
+    }
+
+
+    /**
+     * Returns all Wettkämpfe in the Sportjahr of all teams of all shooters of a Wettkampf
+     *
+     * @param wettkampfId of the Wettkampf
+     * @param sportjahr   of the Veranstaltung of the Wettkampf
+     *
+     * @return one entry for each shooter, team and Wettkampf
+     */
+    public List<EinsatzBE> findEinsaetze(final long wettkampfId, final long sportjahr) {
+        return basicDao.selectEntityList(EINSATZ, FIND_EINSAETZE, wettkampfId, sportjahr);
+    }
+}
@@ -0,0 +1,114 @@
+package de.bogenliga.application.business.eligibility.impl.entity;
+
+import de.bogenliga.application.common.component.entity.BusinessEntity;
+
+/**
+ * I am a Wettkampf of a team of a shooter in the Sportjahr of the evaluated Wettkampf.
+ * <p>
+ * The Stufe of the Liga is the number of superior Ligen, e.g. 0 for the highest Liga.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class EinsatzBE implements BusinessEntity {
+    private static final long serialVersionUID = -2339207454181370521L;
+
+    private Long dsbMitgliedId;
+    private Long mannschaftId;
+    private int dsbMitgliedEingesetzt;
+    private Long wettkampfId;
+    private long wettkampfTag;
+    private int ligaStufe;
+    private boolean geschossen;
+
+
+    public EinsatzBE() {
+        // empty constructor
+    }
+
+
+    public Long getDsbMitgliedId() {
+        return dsbMitgliedId;
+    }
+
+
+    public void setDsbMitgliedId(final Long dsbMitgliedId) {
+        this.dsbMitgliedId = dsbMitgliedId;
+    }
+
+
+    public Long getMannschaftId() {
+        return mannschaftId;
+    }
+
+
+    public void setMannschaftId(final Long mannschaftId) {
+        this.mannschaftId = mannschaftId;
+    }
+
+
+    public int getDsbMitgliedEingesetzt() {
+        return dsbMitgliedEingesetzt;
+    }
+
+
+    public void setDsbMitgliedEingesetzt(final int dsbMitgliedEingesetzt) {
+        this.dsbMitgliedEingesetzt = dsbMitgliedEingesetzt;
+    }
+
+
+    public Long getWettkampfId() {
+        return wettkampfId;
+    }
+
+
+    public void setWettkampfId(final Long wettkampfId) {
+        this.wettkampfId = wettkampfId;
+    }
+
+
+    public long getWettkampfTag() {
+        return wettkampfTag;
+    }
+
+
+    public void setWettkampfTag(final long wettkampfTag) {
+        this.wettkampfTag = wettkampfTag;
+    }
+
+
+    public int getLigaStufe() {
+        return ligaStufe;
+    }
+
+
+    public void setLigaStufe(final int ligaStufe) {
+        this.ligaStufe = ligaStufe;
+    }
+
+
+    /**
+     * @return true, if the shooter has passen in the Wettkampf
+     */
+    public boolean isGeschossen() {
+        return geschossen;
+    }
+
+
+    public void setGeschossen(final boolean geschossen) {
+        this.geschossen = geschossen;
+    }
+
+
+    @Override
+    public String toString() {
+        return "EinsatzBE{" +
+                "dsbMitgliedId=" + dsbMitgliedId +
+                ", mannschaftId=" + mannschaftId +
+                ", dsbMitgliedEingesetzt=" + dsbMitgliedEingesetzt +
+                ", wettkampfId=" + wettkampfId +
+                ", wettkampfTag=" + wettkampfTag +
+                ", ligaStufe=" + ligaStufe +
+                ", geschossen=" + geschossen +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package de.bogenliga.application.business.eligibility.impl.entity;
+
+import de.bogenliga.application.common.component.entity.BusinessEntity;
+
+/**
+ * I am the evaluated Wettkampf with the Sportjahr and the Stufe of the Liga of its Veranstaltung.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class WettkampfStufeBE implements BusinessEntity {
+    private static final long serialVersionUID = 6406335385542893201L;
+
+    private Long wettkampfId;
+    private long wettkampfTag;
+    private long sportjahr;
+    private int ligaStufe;
+
+
+    public WettkampfStufeBE() {
+        // empty constructor
+    }
+
+
+    public Long getWettkampfId() {
+        return wettkampfId;
+    }
+
+
+    public void setWettkampfId(final Long wettkampfId) {
+        this.wettkampfId = wettkampfId;
+    }
+
+
+    public long getWettkampfTag() {
+        return wettkampfTag;
+    }
+
+
+    public void setWettkampfTag(final long wettkampfTag) {
+        this.wettkampfTag = wettkampfTag;
+    }
+
+
+    public long getSportjahr() {
+        return sportjahr;
+    }
+
+
+    public void setSportjahr(final long sportjahr) {
+        this.sportjahr = sportjahr;
+    }
+
+
+    public int getLigaStufe() {
+        return ligaStufe;
+    }
+
+
+    public void setLigaStufe(final int ligaStufe) {
+        this.ligaStufe = ligaStufe;
+    }
+
+
+    @Override
+    public String toString() {
+        return "WettkampfStufeBE{" +
+                "wettkampfId=" + wettkampfId +
+                ", wettkampfTag=" + wettkampfTag +
+                ", sportjahr=" + sportjahr +
+                ", ligaStufe=" + ligaStufe +
+                '}';
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.kampfrichter.api.types.KampfrichterDO;
 import de.bogenliga.application.common.component.ComponentFacade;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 
 
 /**
@@ -20,6 +22,16 @@ public interface KampfrichterComponent extends ComponentFacade {
     List<KampfrichterDO> findAll();
 
 
+    /**
+     * Return a page of all kampfrichter entries.
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of kampfrichter entries in the database; empty page, if no further entry is found
+     */
+    Page<KampfrichterDO> pageAll(PageRequest pageRequest);
+
+
     /**
      * Return a kampfrichter entry with the given userId.
      *
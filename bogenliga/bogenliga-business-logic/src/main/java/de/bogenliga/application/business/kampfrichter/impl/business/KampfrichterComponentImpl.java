@@ -9,6 +9,8 @@ import de.bogenliga.application.business.kampfrichter.api.types.KampfrichterDO;
 import de.bogenliga.application.business.kampfrichter.impl.dao.KampfrichterDAO;
 import de.bogenliga.application.business.kampfrichter.impl.entity.KampfrichterBE;
 import de.bogenliga.application.business.kampfrichter.impl.mapper.KampfrichterMapper;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -48,6 +50,12 @@ public class KampfrichterComponentImpl implements KampfrichterComponent {
     }
 
 
+    @Override
+    public Page<KampfrichterDO> pageAll(final PageRequest pageRequest) {
+        return kampfrichterDAO.pageAll(pageRequest).map(KampfrichterMapper.toKampfrichterDO);
+    }
+
+
     @Override
     public KampfrichterDO findById(final long userId) {
         Preconditions.checkArgument(userId >= 0, PRECONDITION_MSG_KAMPFRICHTER_ID);
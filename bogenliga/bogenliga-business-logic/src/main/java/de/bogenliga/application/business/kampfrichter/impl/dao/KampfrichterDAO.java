@@ -2,6 +2,7 @@ package de.bogenliga.application.business.kampfrichter.impl.dao;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +14,8 @@ import de.bogenliga.application.business.kampfrichter.impl.entity.KampfrichterBE
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.database.SQL;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
@@ -101,6 +104,21 @@ public class KampfrichterDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return a page of all kampfrichter entries ordered by the user id and the wettkampf id
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of kampfrichter entries; empty page, if no further entry is found
+     */
+    public Page<KampfrichterBE> pageAll(final PageRequest pageRequest) {
+        return basicDao.selectEntityPage(KAMPFRICHTER, pageRequest,
+                kampfrichterBE -> Arrays.asList(kampfrichterBE.getKampfrichterUserId(),
+                        kampfrichterBE.getKampfrichterWettkampfId()),
+                KAMPFRICHTER_TABLE_ID, KAMPFRICHTER_TABLE_COMPETITION_ID);
+    }
+
+
     /**
      * Return kampfrichter entry with specific id
      *
@@ -22,6 +22,35 @@ public interface LigaComponent {
      */
     LigaDO findById(long id);
 
+
+    /**
+     * Return the level of a liga in the liga hierarchy.
+     *
+     * @param ligaId of the liga
+     * @return number of superior ligen, 0 for the highest liga
+     */
+    int getLevel(long ligaId);
+
+
+    /**
+     * Return the ids of all superior ligen.
+     *
+     * @param ligaId of the liga
+     * @return ids of the superior ligen, starting with the direct superior liga;
+     * empty list for the highest liga
+     */
+    List<Long> findAncestorIds(long ligaId);
+
+
+    /**
+     * Return the ids of all subordinate ligen.
+     *
+     * @param ligaId of the liga
+     * @return ids of the direct and indirect subordinate ligen;
+     * empty list, if no liga is subordinate
+     */
+    List<Long> findDescendantIds(long ligaId);
+
     /**
      * Create a new liga in the database.
      *
@@ -2,18 +2,24 @@ package de.bogenliga.application.business.liga.impl.business;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import de.bogenliga.application.business.liga.api.LigaComponent;
 import de.bogenliga.application.business.liga.api.types.LigaDO;
 import de.bogenliga.application.business.liga.impl.dao.LigaDAO;
 import de.bogenliga.application.business.liga.impl.entity.LigaBE;
 import de.bogenliga.application.business.liga.impl.mapper.LigaMapper;
+import de.bogenliga.application.business.regionen.impl.business.RegionenComponentImpl;
 import de.bogenliga.application.business.regionen.impl.dao.RegionenDAO;
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.user.impl.dao.UserDAO;
 import de.bogenliga.application.business.user.impl.entity.UserBE;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.tree.TreeIndex;
+import de.bogenliga.application.common.tree.TreeIndexCache;
 import de.bogenliga.application.common.validation.Preconditions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -30,27 +36,40 @@ public class LigaComponentImpl implements LigaComponent {
     private static final String PRECONDITION_MSG_LIGA_VERANTWORTLICH_ID = "ligaVerantwortlichId must not be Null";
     private static final String PRECONDITION_MSG_CURRENT_LIGA_ID = "Current liga id must not be Null";
 
+    static final String CACHE_NAME = "liga";
+
     private final LigaDAO ligaDAO;
     private final RegionenDAO regionenDAO;
     private final UserDAO userDAO;
+    private final EntityCache<Long, LigaBE> ligaCache;
+    private final EntityCache<Long, RegionenBE> regionenCache;
+
+    // Hierarchie der Ligen, wird nach jeder Änderung einer Liga neu aufgebaut
+    private final TreeIndexCache<LigaBE> ligaTree;
 
 
     @Autowired
-    public LigaComponentImpl(final LigaDAO ligaDAO, final RegionenDAO regionenDAO, final UserDAO userDAO) {
+    public LigaComponentImpl(final LigaDAO ligaDAO, final RegionenDAO regionenDAO, final UserDAO userDAO,
+                             final EntityCacheManager entityCacheManager) {
         this.ligaDAO = ligaDAO;
         this.regionenDAO = regionenDAO;
         this.userDAO = userDAO;
+        this.ligaCache = entityCacheManager.getCache(CACHE_NAME);
+        this.regionenCache = entityCacheManager.getCache(RegionenComponentImpl.CACHE_NAME);
+        this.ligaTree = new TreeIndexCache<>(LigaBE::getLigaId, LigaBE::getLigaUebergeordnetId,
+                entityCacheManager::afterCommit);
     }
 
 
     @Override
     public List<LigaDO> findAll() {
         final ArrayList<LigaDO> returnList = new ArrayList<>();
-        final List<LigaBE> ligaBEList = ligaDAO.findAll();
+        final TreeIndex<LigaBE> ligaIndex = ligaTree.refresh(this::findAllLigen);
+        final List<LigaBE> ligaBEList = ligaIndex.getAll();
 
         for (int i = 0; i < ligaBEList.size(); i++) {
 
-            returnList.add(i, notNull(ligaBEList.get(i)));
+            returnList.add(i, notNull(ligaBEList.get(i), ligaIndex));
 
         }
         return returnList;
@@ -62,14 +81,40 @@ public class LigaComponentImpl implements LigaComponent {
 
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_LIGA_ID);
 
-        final LigaBE result = ligaDAO.findById(id);
+        final LigaBE result = ligaCache.get(id, ligaDAO::findById);
 
         if (result == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
                     String.format("No result found for ID '%s'", id));
         }
 
-        return notNull(result);
+        return notNull(result, getLigaIndex());
+    }
+
+
+    @Override
+    public int getLevel(long ligaId) {
+        Preconditions.checkArgument(ligaId >= 0, PRECONDITION_MSG_LIGA_ID);
+
+        return getLigaIndex(ligaId).getLevel(ligaId);
+    }
+
+
+    @Override
+    public List<Long> findAncestorIds(long ligaId) {
+        Preconditions.checkArgument(ligaId >= 0, PRECONDITION_MSG_LIGA_ID);
+
+        return getLigaIndex(ligaId).getAncestorIds(ligaId);
+    }
+
+
+    @Override
+    public List<Long> findDescendantIds(long ligaId) {
+        Preconditions.checkArgument(ligaId >= 0, PRECONDITION_MSG_LIGA_ID);
+
+        return getLigaIndex(ligaId).getDescendants(ligaId).stream()
+                .map(LigaBE::getLigaId)
+                .collect(Collectors.toList());
     }
 
 
@@ -79,7 +124,9 @@ public class LigaComponentImpl implements LigaComponent {
         checkLigaDO(ligaDO, currentDsbMitgliedId);
         final LigaBE ligaBE = LigaMapper.toLigaBE.apply(ligaDO);
         final LigaBE persistedLigaBE = ligaDAO.create(ligaBE, currentDsbMitgliedId);
-        return notNull(persistedLigaBE);
+        ligaTree.invalidate();
+        ligaCache.invalidate();
+        return notNull(persistedLigaBE, getLigaIndex());
     }
 
 
@@ -90,8 +137,10 @@ public class LigaComponentImpl implements LigaComponent {
 
         final LigaBE ligaBE = LigaMapper.toLigaBE.apply(ligaDO);
         final LigaBE persistedLigaBE = ligaDAO.update(ligaBE, currentDsbMitgliedId);
+        ligaTree.invalidate();
+        ligaCache.invalidate();
 
-        return notNull(persistedLigaBE);
+        return notNull(persistedLigaBE, getLigaIndex());
     }
 
 
@@ -104,6 +153,8 @@ public class LigaComponentImpl implements LigaComponent {
         final LigaBE ligaBE = LigaMapper.toLigaBE.apply(ligaDO);
 
         ligaDAO.delete(ligaBE, currentDsbMitgliedId);
+        ligaTree.invalidate();
+        ligaCache.invalidate();
     }
 
 
@@ -123,16 +174,38 @@ public class LigaComponentImpl implements LigaComponent {
     }
 
 
-    private LigaDO notNull(LigaBE ligaBE) {
+    private List<LigaBE> findAllLigen() {
+        return ligaCache.getAll(ligaDAO::findAll);
+    }
+
+
+    private TreeIndex<LigaBE> getLigaIndex() {
+        return ligaTree.get(this::findAllLigen);
+    }
+
+
+    private TreeIndex<LigaBE> getLigaIndex(long ligaId) {
+        final TreeIndex<LigaBE> ligaIndex = getLigaIndex();
+
+        if (!ligaIndex.contains(ligaId)) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                    String.format("No result found for ID '%s'", ligaId));
+        }
+        return ligaIndex;
+    }
+
+
+    private LigaDO notNull(LigaBE ligaBE, TreeIndex<LigaBE> ligaIndex) {
         LigaBE tempLigaBE = new LigaBE();
         RegionenBE tempRegionenBE = new RegionenBE();
         UserBE tempUserBE = new UserBE();
 
-        if (ligaBE.getLigaUebergeordnetId() != null) {
-            tempLigaBE = ligaDAO.findById(ligaBE.getLigaUebergeordnetId());
+        // die übergeordnete Liga aus dem Index lesen statt einer Abfrage je Liga
+        if (ligaBE.getLigaUebergeordnetId() != null && ligaIndex.contains(ligaBE.getLigaUebergeordnetId())) {
+            tempLigaBE = ligaIndex.get(ligaBE.getLigaUebergeordnetId());
         }
         if (ligaBE.getLigaRegionId() != null) {
-            tempRegionenBE = regionenDAO.findById(ligaBE.getLigaRegionId());
+            tempRegionenBE = regionenCache.get(ligaBE.getLigaRegionId(), regionenDAO::findById);
         }
         if(ligaBE.getLigaVerantwortlichId() != null) {
             tempUserBE = userDAO.findById(ligaBE.getLigaVerantwortlichId());
@@ -66,30 +66,38 @@ public class LigatabelleDAO implements DataAccessObject {
      * SQL queries
      */
 
+    private static final String SELECT_LIGATABELLE =
+            "SELECT lt.ligatabelle_veranstaltung_id, lt.ligatabelle_veranstaltung_name," +
+                    " lt.ligatabelle_wettkampf_id, lt.ligatabelle_wettkampf_tag," +
+                    " lt.ligatabelle_mannschaft_id, lt.ligatabelle_mannschaft_nummer," +
+                    " lt.ligatabelle_verein_id, lt.ligatabelle_verein_name," +
+                    " lt.ligatabelle_matchpkt, lt.ligatabelle_matchpkt_gegen," +
+                    " lt.ligatabelle_satzpkt, lt.ligatabelle_satzpkt_gegen," +
+                    " lt.ligatabelle_satzpkt_differenz, lt.ligatabelle_sortierung," +
+                    " row_number() over (" +
+                    "order by lt.ligatabelle_matchpkt desc, lt.ligatabelle_matchpkt_gegen," +
+                    " lt.ligatabelle_satzpkt_differenz desc, lt.ligatabelle_satzpkt desc," +
+                    " lt.ligatabelle_satzpkt_gegen, lt.ligatabelle_sortierung," +
+                    " lt.ligatabelle_wettkampf_id, lt.ligatabelle_mannschaft_id" +
+                    ") as tabellenplatz" +
+                    " FROM ligatabelle AS lt";
+
     /* der Select liefert die aktuelle Ligatabelle zur Veranstaltung -
     * es wird immer der "höchste Wettkampftag ermittelt un die Tabellenreihenfolge
     * automatisch erzeugt durch die Sortierkriterien beim generieren der Row-Number
     * ggf. mpüssen wir für die verschiedenen Liga-Formen andere Selects hinterlegen
     * hier jetzt erst mal der Select für Match-Punkte vor Satzpunkt-Differenz
     * sollte für Liga-Satzsystem passen
+    * die View liest den materialisierten Stand aus der Tabelle "ligatabelle_stand"
      */
     private static final String GET_LIGATABELLE =
-        "SELECT lt.ligatabelle_veranstaltung_id, lt.ligatabelle_veranstaltung_name," +
-           "lt.ligatabelle_wettkampf_id, lt.ligatabelle_wettkampf_tag, lt.ligatabelle_mannschaft_id, lt.ligatabelle_mannschaft_nummer," +
-                "lt.ligatabelle_verein_id, lt.ligatabelle_verein_name, lt.ligatabelle_matchpkt, lt.ligatabelle_matchpkt_gegen," +
-           "lt.ligatabelle_satzpkt, lt.ligatabelle_satzpkt_gegen, lt.ligatabelle_satzpkt_differenz, lt.ligatabelle_sortierung," +
-           "row_number()  over (" +
-             "order by lt.ligatabelle_matchpkt desc, lt.ligatabelle_matchpkt_gegen," +
-               "lt.ligatabelle_satzpkt_differenz desc, lt.ligatabelle_satzpkt desc," +
-               "lt.ligatabelle_satzpkt_gegen, lt.ligatabelle_sortierung," +
-               "lt.ligatabelle_veranstaltung_id, lt.ligatabelle_veranstaltung_name," +
-               "lt.ligatabelle_wettkampf_id, lt.ligatabelle_wettkampf_tag," +
-               "lt.ligatabelle_mannschaft_id, lt.ligatabelle_mannschaft_nummer," +
-               "lt.ligatabelle_verein_id, lt.ligatabelle_verein_name" +
-             ")as tabellenplatz from ligatabelle as lt where lt.ligatabelle_veranstaltung_id = ?" +
-        "and lt.ligatabelle_wettkampf_tag = (" +
-            "select max(ligat.ligatabelle_wettkampf_tag) " +
-            "from ligatabelle as ligat where ligat.ligatabelle_veranstaltung_id = lt.ligatabelle_veranstaltung_id)";
+            SELECT_LIGATABELLE +
+                    " WHERE lt.ligatabelle_veranstaltung_id = ?" +
+                    " AND lt.ligatabelle_wettkampf_tag = (" +
+                    "SELECT max(wettkampf_tag)" +
+                    " FROM wettkampf" +
+                    " JOIN ligatabelle_stand ON ligatabelle_stand_wettkampf_id = wettkampf_id" +
+                    " WHERE wettkampf_veranstaltung_id = ?)";
 
     /* der Select liefert die aktuelle Ligatabelle zur Wettkampf-ID
      * ggf. mpüssen wir für die verschiedenen Liga-Formen andere Selects hinterlegen
@@ -97,38 +105,47 @@ public class LigatabelleDAO implements DataAccessObject {
      * sollte für Liga-Satzsystem passen
      */
     private static final String GET_LIGATABELLE_WETTKAMPF =
-            "SELECT ligatabelle_veranstaltung_id, "+
-                    "ligatabelle_veranstaltung_name," +
-                    "ligatabelle_wettkampf_id," +
-                    "ligatabelle_wettkampf_tag," +
-                    "ligatabelle_mannschaft_id," +
-                    "ligatabelle_mannschaft_nummer," +
-                    "ligatabelle_verein_id," +
-                    "ligatabelle_verein_name," +
-                    "ligatabelle_matchpkt," +
-                    "ligatabelle_matchpkt_gegen," +
-                    "ligatabelle_satzpkt," +
-                    "ligatabelle_satzpkt_gegen," +
-                    "ligatabelle_satzpkt_differenz," +
-                    "ligatabelle_sortierung," +
-                    "row_number()  over (" +
-                        "order by ligatabelle_matchpkt desc ," +
-                        "ligatabelle_matchpkt_gegen," +
-                        "ligatabelle_satzpkt_differenz desc," +
-                        "ligatabelle_satzpkt desc," +
-                        "ligatabelle_satzpkt_gegen," +
-                        "ligatabelle_sortierung," +
-                        "ligatabelle_veranstaltung_id," +
-                        "ligatabelle_veranstaltung_name," +
-                        "ligatabelle_wettkampf_id," +
-                        "ligatabelle_wettkampf_tag," +
-                        "ligatabelle_mannschaft_id," +
-                        "ligatabelle_mannschaft_nummer," +
-                        "ligatabelle_verein_id," +
-                        "ligatabelle_verein_name" +
-                        ")as tabellenplatz" +
-                    "from ligatabelle" +
-                    "where ligatabelle_wettkampf_id = ?" ;
+            SELECT_LIGATABELLE +
+                    " WHERE lt.ligatabelle_wettkampf_id = ?";
+
+    /* aktualisiert den Stand aller Mannschaften eines Wettkampfs in einem Statement
+     * - Summen der eigenen und gegnerischen Punkte aus den Matches des Wettkampfs
+     * - Mannschaften ohne Matches im Wettkampf werden entfernt
+     */
+    private static final String REFRESH_WETTKAMPF =
+            "WITH stand AS (" +
+                    "SELECT match.match_wettkampf_id AS wettkampf_id," +
+                    " match.match_mannschaft_id AS mannschaft_id," +
+                    " sum(match.match_matchpunkte) AS matchpkt," +
+                    " sum(match_gegen.match_matchpunkte) AS matchpkt_gegen," +
+                    " sum(match.match_satzpunkte) AS satzpkt," +
+                    " sum(match_gegen.match_satzpunkte) AS satzpkt_gegen" +
+                    " FROM match" +
+                    " JOIN match AS match_gegen" +
+                    " ON match.match_wettkampf_id = match_gegen.match_wettkampf_id" +
+                    " AND match.match_nr = match_gegen.match_nr" +
+                    " AND match.match_begegnung = match_gegen.match_begegnung" +
+                    " AND match.match_mannschaft_id != match_gegen.match_mannschaft_id" +
+                    " WHERE match.match_wettkampf_id = ?" +
+                    " GROUP BY match.match_wettkampf_id, match.match_mannschaft_id" +
+                    "), removed AS (" +
+                    "DELETE FROM ligatabelle_stand" +
+                    " WHERE ligatabelle_stand_wettkampf_id = ?" +
+                    " AND ligatabelle_stand_mannschaft_id NOT IN (SELECT mannschaft_id FROM stand)" +
+                    ")" +
+                    " INSERT INTO ligatabelle_stand (ligatabelle_stand_wettkampf_id, ligatabelle_stand_mannschaft_id," +
+                    " ligatabelle_stand_matchpkt, ligatabelle_stand_matchpkt_gegen," +
+                    " ligatabelle_stand_satzpkt, ligatabelle_stand_satzpkt_gegen," +
+                    " ligatabelle_stand_satzpkt_differenz)" +
+                    " SELECT wettkampf_id, mannschaft_id, matchpkt, matchpkt_gegen, satzpkt, satzpkt_gegen," +
+                    " satzpkt - satzpkt_gegen" +
+                    " FROM stand" +
+                    " ON CONFLICT (ligatabelle_stand_wettkampf_id, ligatabelle_stand_mannschaft_id) DO UPDATE SET" +
+                    " ligatabelle_stand_matchpkt = EXCLUDED.ligatabelle_stand_matchpkt," +
+                    " ligatabelle_stand_matchpkt_gegen = EXCLUDED.ligatabelle_stand_matchpkt_gegen," +
+                    " ligatabelle_stand_satzpkt = EXCLUDED.ligatabelle_stand_satzpkt," +
+                    " ligatabelle_stand_satzpkt_gegen = EXCLUDED.ligatabelle_stand_satzpkt_gegen," +
+                    " ligatabelle_stand_satzpkt_differenz = EXCLUDED.ligatabelle_stand_satzpkt_differenz";
 
 
     // wrap all specific config parameters
@@ -179,7 +196,7 @@ public class LigatabelleDAO implements DataAccessObject {
      * Lesen der aktuellen Liga-Tabelle zur Veranstaltung
      */
     public List<LigatabelleBE> getLigatabelleVeranstaltung(final long id) {
-        return basicDao.selectEntityList(LIGATABELLE, GET_LIGATABELLE, id);
+        return basicDao.selectEntityList(LIGATABELLE, GET_LIGATABELLE, id, id);
     }
 
     /**
@@ -190,6 +207,16 @@ public class LigatabelleDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Aktualisieren des gespeicherten Liga-Tabellen-Stands aller Mannschaften eines Wettkampfs
+     *
+     * @param wettkampfId des geänderten Wettkampfs
+     */
+    public void refreshWettkampf(final long wettkampfId) {
+        basicDao.executeUpdate(LIGATABELLE, REFRESH_WETTKAMPF, wettkampfId, wettkampfId);
+    }
+
+
 
 
 }
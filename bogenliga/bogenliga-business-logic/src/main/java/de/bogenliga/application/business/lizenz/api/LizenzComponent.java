@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.lizenz.api;
 
+import java.io.OutputStream;
 import java.util.List;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.business.lizenz.api.types.LizenzDO;
 import de.bogenliga.application.common.component.ComponentFacade;
 
@@ -60,5 +62,25 @@ public interface LizenzComponent extends ComponentFacade {
 
     byte[] getLizenzPDFasByteArray(long DsbMitgliedID, long teamID);
 
+    /**
+     * Writes the Lizenz pdf to the output stream, the stream is not closed
+     */
+    void writeLizenzPDF(long dsbMitgliedID, long teamID, OutputStream outputStream);
+
+    /**
+     * Loads the data of the Lizenz pdf, the document is written later without database access
+     */
+    DocumentWriter prepareLizenzPDF(long dsbMitgliedID, long teamID);
+
     byte[] getMannschaftsLizenzenPDFasByteArray(long dsbMannschaftsId);
+
+    /**
+     * Writes the Lizenzen pdf of the mannschaft page by page to the output stream, the stream is not closed
+     */
+    void writeMannschaftsLizenzenPDF(long dsbMannschaftsId, OutputStream outputStream);
+
+    /**
+     * Loads the data of the Lizenzen pdf of the mannschaft, the document is written later without database access
+     */
+    DocumentWriter prepareMannschaftsLizenzenPDF(long dsbMannschaftsId);
 }
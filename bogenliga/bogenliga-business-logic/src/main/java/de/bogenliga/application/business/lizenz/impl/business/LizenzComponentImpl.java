@@ -2,6 +2,7 @@ package de.bogenliga.application.business.lizenz.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +25,8 @@ import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.property.TextAlignment;
 import com.itextpdf.layout.property.UnitValue;
+import de.bogenliga.application.business.document.api.DocumentRenderingComponent;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
@@ -33,12 +36,11 @@ import de.bogenliga.application.business.lizenz.api.types.LizenzDO;
 import de.bogenliga.application.business.lizenz.impl.dao.LizenzDAO;
 import de.bogenliga.application.business.lizenz.impl.entity.LizenzBE;
 import de.bogenliga.application.business.lizenz.impl.mapper.LizenzMapper;
-import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
-import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
+import de.bogenliga.application.business.reportdata.api.ReportDataComponent;
+import de.bogenliga.application.business.reportdata.api.types.ReportMitgliedDO;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
@@ -68,7 +70,8 @@ public class LizenzComponentImpl implements LizenzComponent {
     private final DsbMannschaftComponent mannschaftComponent;
     private final VeranstaltungComponent veranstaltungComponent;
     private final WettkampfComponent wettkampfComponent;
-    private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
+    private final ReportDataComponent reportDataComponent;
+    private final DocumentRenderingComponent documentRenderingComponent;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LizenzComponentImpl.class);
 
@@ -86,20 +89,24 @@ public class LizenzComponentImpl implements LizenzComponent {
      * dependency injection with {@link Autowired}
      *
      * @param lizenzDAO to access the database and return dsbmitglied representations
+     * @param reportDataComponent to load the data of the Lizenzen of a team with a single query
+     * @param documentRenderingComponent to render the Lizenzen of a team in parallel
      */
     @Autowired
     public LizenzComponentImpl(final LizenzDAO lizenzDAO, final VereinComponent vereinComponent,
                                final DsbMitgliedComponent dsbMitglied, final DsbMannschaftComponent mannschaftComponent,
                                final VeranstaltungComponent veranstaltungComponent,
                                final WettkampfComponent wettkampfComponent,
-                               MannschaftsmitgliedComponent mannschaftsmitgliedComponent) {
+                               final ReportDataComponent reportDataComponent,
+                               final DocumentRenderingComponent documentRenderingComponent) {
         this.lizenzDAO = lizenzDAO;
         this.vereinComponent = vereinComponent;
         this.dsbMitgliedComponent = dsbMitglied;
         this.mannschaftComponent = mannschaftComponent;
         this.veranstaltungComponent = veranstaltungComponent;
         this.wettkampfComponent = wettkampfComponent;
-        this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
+        this.reportDataComponent = reportDataComponent;
+        this.documentRenderingComponent = documentRenderingComponent;
     }
 
 
@@ -169,7 +176,20 @@ public class LizenzComponentImpl implements LizenzComponent {
 
     @Override
     public byte[] getLizenzPDFasByteArray(long dsbMitgliedID, long teamID) {
-        byte[] result;
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeLizenzPDF(dsbMitgliedID, teamID, result);
+        return result.toByteArray();
+    }
+
+
+    @Override
+    public void writeLizenzPDF(long dsbMitgliedID, long teamID, OutputStream outputStream) {
+        prepareLizenzPDF(dsbMitgliedID, teamID).writeTo(outputStream);
+    }
+
+
+    @Override
+    public DocumentWriter prepareLizenzPDF(long dsbMitgliedID, long teamID) {
         DsbMitgliedDO mitgliedDO = dsbMitgliedComponent.findById(dsbMitgliedID);
         DsbMannschaftDO mannschaftDO = mannschaftComponent.findById(teamID);
         VeranstaltungDO veranstaltungDO = veranstaltungComponent.findById(mannschaftDO.getVeranstaltungId());
@@ -178,98 +198,83 @@ public class LizenzComponentImpl implements LizenzComponent {
         LizenzBE lizenz = lizenzDAO.findByDsbMitgliedIdAndDisziplinId(mitgliedDO.getId(),
                 wettkampfDOList.get(0).getWettkampfDisziplinId());
         System.out.println(lizenz);
-        result = generateDoc(mitgliedDO, lizenz, veranstaltungDO).toByteArray();
-        return result;
+        String vereinName = vereinComponent.findById(mitgliedDO.getVereinsId()).getName();
+        return outputStream -> generateDoc(mitgliedDO, vereinName, lizenz, veranstaltungDO, outputStream);
     }
 
 
     @Override
     public byte[] getMannschaftsLizenzenPDFasByteArray(long dsbMannschaftsId) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeMannschaftsLizenzenPDF(dsbMannschaftsId, result);
+        return result.toByteArray();
+    }
 
-        LOGGER.info("Lizenzen start here");
 
-        //Collect information
+    @Override
+    public void writeMannschaftsLizenzenPDF(long dsbMannschaftsId, OutputStream outputStream) {
+        prepareMannschaftsLizenzenPDF(dsbMannschaftsId).writeTo(outputStream);
+    }
 
-        DsbMannschaftDO mannschaftDO = mannschaftComponent.findById(dsbMannschaftsId);
-        VeranstaltungDO veranstaltungDO = veranstaltungComponent.findById(mannschaftDO.getVeranstaltungId());
-        List<WettkampfDO> wettkampfDOList = wettkampfComponent.findAllByVeranstaltungId(
-                veranstaltungDO.getVeranstaltungID());
 
-        List<MannschaftsmitgliedDO> mannschaftsmitgliedDOs = this.mannschaftsmitgliedComponent.findByTeamId(
-                dsbMannschaftsId);
+    @Override
+    public DocumentWriter prepareMannschaftsLizenzenPDF(long dsbMannschaftsId) {
 
-        HashMap<String, List<String>> LizenzenMapping = new HashMap<>();
+        LOGGER.info("Lizenzen start here");
 
-        String Liganame = veranstaltungDO.getVeranstaltungName();
+        //Collect information: all members with their Verein, Veranstaltung and Lizenz in a single query
+        List<ReportMitgliedDO> mitgliedDOs = this.reportDataComponent.findMannschaftsmitglieder(dsbMannschaftsId);
 
-        for (MannschaftsmitgliedDO mannschaftsmitgliedDO : mannschaftsmitgliedDOs) {
-            DsbMitgliedDO dsbMitgliedDO = this.dsbMitgliedComponent.findById(mannschaftsmitgliedDO.getDsbMitgliedId());
-            VereinDO vereinDO = this.vereinComponent.findById(dsbMitgliedDO.getVereinsId());
+        HashMap<String, List<String>> LizenzenMapping = new HashMap<>();
 
-            String Verein = vereinDO.getName();
-            String Schuetzenname = dsbMitgliedDO.getNachname();
-            String Schuetzenvorname = dsbMitgliedDO.getVorname();
-            LizenzBE lizenzen = lizenzDAO.findByDsbMitgliedIdAndDisziplinId(dsbMitgliedDO.getId(),
-                    wettkampfDOList.get(0).getWettkampfDisziplinId());
-            String Rueckennummer = mannschaftsmitgliedDO.getRueckennummer().toString();
+        for (ReportMitgliedDO mitgliedDO : mitgliedDOs) {
+            String Liganame = mitgliedDO.getVeranstaltungName();
+            String Verein = mitgliedDO.getVereinName();
+            String Schuetzenname = mitgliedDO.getNachname();
+            String Schuetzenvorname = mitgliedDO.getVorname();
+            String Rueckennummer = mitgliedDO.getRueckennummer().toString();
 
             List<String> Schuetzendaten = new ArrayList();
             Schuetzendaten.add(Liganame);
             Schuetzendaten.add(Verein);
             Schuetzendaten.add(Schuetzenname);
             Schuetzendaten.add(Schuetzenvorname);
-            Schuetzendaten.add(veranstaltungDO.getVeranstaltungSportJahr().toString());
-            Schuetzendaten.add(lizenzen.getLizenznummer());
+            Schuetzendaten.add(mitgliedDO.getSportjahr().toString());
+            Schuetzendaten.add(mitgliedDO.getLizenznummer());
             LizenzenMapping.put(Rueckennummer, Schuetzendaten);
         }
 
-        try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-             PdfWriter writer = new PdfWriter(result);
-             PdfDocument pdfDocument = new PdfDocument(writer);
-             Document doc = new Document(pdfDocument, PageSize.A4)) {
-
-            generateLizenzenDoc(doc, LizenzenMapping);
-
-            return result.toByteArray();
-
-        } catch (IOException e) {
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
-                    "Lizenzen PDF Dokument konnte nicht erstellt werden: " + e);
-        }
+        // one page for each member, the pages are rendered in parallel
+        return documentRenderingComponent.preparePages(new ArrayList<>(LizenzenMapping.values()), PageSize.A4,
+                this::generateLizenzenPage);
     }
 
 
-    private ByteArrayOutputStream generateDoc(DsbMitgliedDO mitglied, LizenzBE lizenz, VeranstaltungDO veranstaltung) {
-        ByteArrayOutputStream ret;
-        try (final ByteArrayOutputStream result = new ByteArrayOutputStream();
-             final PdfWriter writer = new PdfWriter(result);
+    private void generateDoc(DsbMitgliedDO mitglied, String vereinName, LizenzBE lizenz,
+                             VeranstaltungDO veranstaltung, OutputStream outputStream) {
+        try (final PdfWriter writer = new PdfWriter(outputStream);
              final PdfDocument pdfDocument = new PdfDocument(writer);
              final Document doc = new Document(pdfDocument, PageSize.A4)) {
-            generateLizenzPage(doc, vereinComponent.findById(mitglied.getVereinsId()).getName(),
+            writer.setCloseStream(false);
+            generateLizenzPage(doc, vereinName,
                     lizenz.getLizenznummer(), mitglied.getNachname(), mitglied.getVorname(),
                     veranstaltung.getVeranstaltungName(),
                     veranstaltung.getVeranstaltungSportJahr().toString());
             doc.close();
-            ret = result;
         } catch (final IOException e) {
             throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "PDF Dokument konnte nicht erstellt werden: " + e);
         }
-        return ret;
     }
 
-    private void generateLizenzenDoc(Document doc, HashMap<String, List<String>> LizenzenMapping) {
-
-        for (String rNummer : LizenzenMapping.keySet()) {
-            String liga = LizenzenMapping.get(rNummer).get(0);
-            String verein = LizenzenMapping.get(rNummer).get(1);
-            String schuetzename = LizenzenMapping.get(rNummer).get(2);
-            String schuetzevorname = LizenzenMapping.get(rNummer).get(3);
-            String sportjahr = LizenzenMapping.get(rNummer).get(4);
-            String lizenz = LizenzenMapping.get(rNummer).get(5);
+    private void generateLizenzenPage(Document doc, List<String> schuetzendaten) {
+        String liga = schuetzendaten.get(0);
+        String verein = schuetzendaten.get(1);
+        String schuetzename = schuetzendaten.get(2);
+        String schuetzevorname = schuetzendaten.get(3);
+        String sportjahr = schuetzendaten.get(4);
+        String lizenz = schuetzendaten.get(5);
 
-            generateLizenzPage(doc, verein, lizenz, schuetzename, schuetzevorname, liga, sportjahr);
-        }
-        doc.close();
+        generateLizenzPage(doc, verein, lizenz, schuetzename, schuetzevorname, liga, sportjahr);
     }
 
     private void generateLizenzPage(Document doc, String verein, String lizenz, String schuetzename,
@@ -0,0 +1,25 @@
+package de.bogenliga.application.business.mail.api;
+
+import java.util.List;
+import de.bogenliga.application.common.component.ComponentFacade;
+
+/**
+ * I send mails, e.g. the feedback to the administrators.
+ * <p>
+ * The mails are stored in a persistent outbox and sent asynchronously, so the caller does not wait for the SMTP
+ * server. Failed mails are retried later.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public interface MailComponent extends ComponentFacade {
+
+    /**
+     * I store a mail in the outbox and return before it is sent.
+     *
+     * @param subject       of the mail
+     * @param text          plain text of the mail
+     * @param recipients    mail addresses of the recipients, all recipients receive the same mail
+     * @param currentUserId who sends the mail
+     */
+    void send(String subject, String text, List<String> recipients, long currentUserId);
+}
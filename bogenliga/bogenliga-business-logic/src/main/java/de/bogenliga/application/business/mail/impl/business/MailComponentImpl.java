@@ -0,0 +1,260 @@
+package de.bogenliga.application.business.mail.impl.business;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.mail.api.MailComponent;
+import de.bogenliga.application.business.mail.impl.businessactivity.MailTransportBA;
+import de.bogenliga.application.business.mail.impl.dao.MailOutboxDAO;
+import de.bogenliga.application.business.mail.impl.entity.MailBE;
+import de.bogenliga.application.common.configuration.MailOutboxConfiguration;
+import de.bogenliga.application.common.time.DateProvider;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * Implementation of {@link MailComponent}
+ * <p>
+ * A single dispatcher thread sends the mails of the outbox. The dispatcher is woken up by each new mail and polls the
+ * outbox periodically for the mails to retry. Each attempt claims a batch of due mails in the database, so several
+ * application instances do not send the same mail twice.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class MailComponentImpl implements MailComponent {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MailComponentImpl.class);
+
+    private static final String PRECONDITION_MSG_SUBJECT = "The subject of the mail must not be null or empty";
+    private static final String PRECONDITION_MSG_TEXT = "The text of the mail must not be null";
+    private static final String PRECONDITION_MSG_RECIPIENTS = "The mail must have at least one recipient";
+    private static final String PRECONDITION_MSG_RECIPIENT = "The recipients must not be null or empty";
+    private static final String PRECONDITION_MSG_CURRENT_USER_ID = "The current user id must not be negative";
+
+    static final String RECIPIENT_SEPARATOR = ", ";
+
+    // the dispatcher runs without a request
+    private static final long SYSTEM_USER_ID = 0L;
+
+    private final MailOutboxDAO mailOutboxDAO;
+    private final MailTransportBA mailTransportBA;
+    private final long interval;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final Clock clock;
+    private final ScheduledExecutorService dispatcher;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    // without a transaction synchronization, the data access object has already committed the mail
+    private volatile Consumer<Runnable> afterCommit = Runnable::run;
+
+
+    /**
+     * Constructor
+     * <p>
+     * dependency injection with {@link Autowired}
+     *
+     * @param mailOutboxDAO           to store and claim the mails of the outbox
+     * @param mailTransportBA         to send the mails to the SMTP server
+     * @param mailOutboxConfiguration with the batch size and the retry delays
+     */
+    @Autowired
+    public MailComponentImpl(final MailOutboxDAO mailOutboxDAO, final MailTransportBA mailTransportBA,
+                             final MailOutboxConfiguration mailOutboxConfiguration) {
+        this(mailOutboxDAO, mailTransportBA, mailOutboxConfiguration, Clock.systemUTC(), createDispatcher());
+    }
+
+
+    MailComponentImpl(final MailOutboxDAO mailOutboxDAO, final MailTransportBA mailTransportBA,
+                      final MailOutboxConfiguration mailOutboxConfiguration, final Clock clock,
+                      final ScheduledExecutorService dispatcher) {
+        this.mailOutboxDAO = mailOutboxDAO;
+        this.mailTransportBA = mailTransportBA;
+        this.interval = mailOutboxConfiguration.getInterval();
+        this.batchSize = mailOutboxConfiguration.getBatchSize();
+        this.maxAttempts = mailOutboxConfiguration.getMaxAttempts();
+        this.retryDelay = mailOutboxConfiguration.getRetryDelay();
+        this.maxRetryDelay = mailOutboxConfiguration.getMaxRetryDelay();
+        this.clock = clock;
+        this.dispatcher = dispatcher;
+    }
+
+
+    /**
+     * I start the periodic poll of the outbox, which sends the mails to retry and the mails of a previous run.
+     */
+    @PostConstruct
+    public void start() {
+        dispatcher.scheduleWithFixedDelay(this::dispatchQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * I set the synchronization, which runs a callback after the commit of the current transaction.
+     *
+     * @param afterCommit to wake up the dispatcher after the new mail is committed
+     */
+    public void setAfterCommit(final Consumer<Runnable> afterCommit) {
+        this.afterCommit = afterCommit;
+    }
+
+
+    /**
+     * I stop the dispatcher. The unsent mails remain in the outbox.
+     */
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+
+    @Override
+    public void send(final String subject, final String text, final List<String> recipients,
+                     final long currentUserId) {
+        Preconditions.checkNotNullOrEmpty(subject, PRECONDITION_MSG_SUBJECT);
+        Preconditions.checkNotNull(text, PRECONDITION_MSG_TEXT);
+        Preconditions.checkNotNull(recipients, PRECONDITION_MSG_RECIPIENTS);
+        Preconditions.checkArgument(!recipients.isEmpty(), PRECONDITION_MSG_RECIPIENTS);
+        recipients.forEach(recipient -> Preconditions.checkNotNullOrEmpty(recipient, PRECONDITION_MSG_RECIPIENT));
+        Preconditions.checkArgument(currentUserId >= 0, PRECONDITION_MSG_CURRENT_USER_ID);
+
+        final MailBE mailBE = new MailBE();
+        mailBE.setRecipients(String.join(RECIPIENT_SEPARATOR, recipients));
+        mailBE.setSubject(subject);
+        mailBE.setText(text);
+        mailBE.setAttempts(0);
+        mailBE.setNextAttemptAtUtc(now());
+
+        mailOutboxDAO.create(mailBE, currentUserId);
+
+        // the dispatcher reads the outbox with its own connection and finds the mail only after the commit
+        afterCommit.accept(this::wakeUp);
+    }
+
+
+    /**
+     * I send all due mails of the outbox in batches.
+     *
+     * @return number of the sent mails
+     */
+    int dispatch() {
+        int sentMails = 0;
+        List<MailBE> batch;
+
+        do {
+            final Timestamp now = now();
+            // a claimed mail is not claimed again before the end of the lease, e.g. after a crash of this instance
+            final Timestamp leaseUntil = new Timestamp(now.getTime() + maxRetryDelay);
+
+            batch = mailOutboxDAO.claimDue(now, leaseUntil, maxAttempts, batchSize);
+
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            final List<String> errors = mailTransportBA.send(batch);
+
+            for (int i = 0; i < batch.size(); i++) {
+                if (errors.get(i) == null) {
+                    markSent(batch.get(i), now);
+                    sentMails++;
+                } else {
+                    markFailed(batch.get(i), errors.get(i), now);
+                }
+            }
+
+            mailOutboxDAO.update(batch, SYSTEM_USER_ID);
+
+        } while (batch.size() == batchSize);
+
+        return sentMails;
+    }
+
+
+    /**
+     * @param attempts of the mail including the failed attempt
+     *
+     * @return delay until the next attempt in ms, doubled after each attempt up to the maximum retry delay
+     */
+    long getRetryDelay(final int attempts) {
+        final int doublings = Math.max(0, attempts - 1);
+
+        if (doublings >= Long.numberOfLeadingZeros(retryDelay) - 1) {
+            return maxRetryDelay;
+        }
+
+        return Math.min(maxRetryDelay, retryDelay << doublings);
+    }
+
+
+    private void markSent(final MailBE mailBE, final Timestamp now) {
+        mailBE.setSentAtUtc(now);
+        mailBE.setLastError(null);
+    }
+
+
+    private void markFailed(final MailBE mailBE, final String error, final Timestamp now) {
+        mailBE.setLastError(error);
+        mailBE.setNextAttemptAtUtc(new Timestamp(now.getTime() + getRetryDelay(mailBE.getAttempts())));
+
+        if (mailBE.getAttempts() >= maxAttempts) {
+            LOGGER.error("The mail {} with the subject '{}' was not sent after {} attempts: {}",
+                    mailBE.getMailOutboxId(), mailBE.getSubject(), mailBE.getAttempts(), error);
+        }
+    }
+
+
+    // the new mail is sent by a single additional run of the dispatcher
+    private void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> {
+                    wakeUpPending.set(false);
+                    dispatchQuietly();
+                });
+            } catch (final RejectedExecutionException e) {
+                wakeUpPending.set(false);
+                LOGGER.debug("The mail dispatcher is stopped, the mail remains in the outbox");
+            }
+        }
+    }
+
+
+    // an exception would cancel the periodic poll
+    private void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Cannot dispatch the mails of the outbox: {}", e.getMessage(), e);
+        }
+    }
+
+
+    private Timestamp now() {
+        return DateProvider.convertOffsetDateTime(OffsetDateTime.now(clock));
+    }
+
+
+    private static ScheduledExecutorService createDispatcher() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "mail-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,258 @@
+package de.bogenliga.application.business.mail.impl.businessactivity;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.PasswordAuthentication;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.configuration.api.ConfigurationComponent;
+import de.bogenliga.application.business.configuration.api.types.ConfigurationDO;
+import de.bogenliga.application.business.mail.impl.entity.MailBE;
+import de.bogenliga.application.common.component.businessactivity.BusinessActivity;
+
+/**
+ * I send the mails of the outbox to the SMTP server of the Einstellungen.
+ * <p>
+ * The SMTP settings are read from the cached configuration, so they are read from the database only after a change of
+ * the Einstellungen. The mail session is reused as long as the settings are unchanged. All mails of a batch are sent
+ * with a single connection to the SMTP server.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class MailTransportBA implements BusinessActivity {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MailTransportBA.class);
+
+    static final String SMTP_HOST = "SMTPHost";
+    static final String SMTP_PORT = "SMTPPort";
+    static final String SMTP_USER = "SMTPBenutzer";
+    static final String SMTP_PASSWORD = "SMTPPasswort";
+    static final String SMTP_EMAIL = "SMTPEmail";
+
+    private static final String SENDER_NAME = "NoReply-Bogenliga";
+    private static final String SMTPS_PORT = "465";
+    private static final String TIMEOUT = "30000"; // ms
+    private static final String CHARSET = "UTF-8";
+
+    private final ConfigurationComponent configurationComponent;
+
+    private volatile SmtpSession smtpSession;
+
+
+    /**
+     * Constructor
+     * <p>
+     * dependency injection with {@link Autowired}
+     *
+     * @param configurationComponent to read the SMTP settings of the Einstellungen
+     */
+    @Autowired
+    public MailTransportBA(final ConfigurationComponent configurationComponent) {
+        this.configurationComponent = configurationComponent;
+    }
+
+
+    /**
+     * I send the mails with a single connection to the SMTP server.
+     *
+     * @param mails to send
+     *
+     * @return error of each mail in the order of the mails, null if the mail was sent
+     */
+    public List<String> send(final List<MailBE> mails) {
+        if (mails.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final SmtpSession current = getSession();
+        final List<String> errors = new ArrayList<>(mails.size());
+
+        try (TransportConnection connection = new TransportConnection(current.session.getTransport("smtp"))) {
+            connection.transport.connect();
+
+            for (final MailBE mail : mails) {
+                errors.add(send(connection.transport, current, mail));
+            }
+
+        } catch (final MessagingException e) {
+            LOGGER.warn("Cannot connect to the SMTP server '{}:{}': {}",
+                    current.settings.host, current.settings.port, e.getMessage());
+
+            // none of the mails was sent
+            while (errors.size() < mails.size()) {
+                errors.add(describe(e));
+            }
+        }
+
+        return errors;
+    }
+
+
+    private static String send(final Transport transport, final SmtpSession current, final MailBE mail) {
+        try {
+            final MimeMessage message = new MimeMessage(current.session);
+            message.setFrom(new InternetAddress(current.settings.email, SENDER_NAME));
+            message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(mail.getRecipients()));
+            message.setSubject(mail.getSubject(), CHARSET);
+            message.setText(mail.getText(), CHARSET);
+            message.saveChanges();
+
+            transport.sendMessage(message, message.getAllRecipients());
+            return null;
+
+        } catch (final MessagingException | UnsupportedEncodingException e) {
+            LOGGER.debug("Cannot send the mail {}: {}", mail.getMailOutboxId(), e.getMessage());
+            return describe(e);
+        }
+    }
+
+
+    private static String describe(final Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+
+    // the cached configuration is compared with the settings of the last session
+    private SmtpSession getSession() {
+        final SmtpSettings settings = new SmtpSettings(configurationComponent.findAll().stream()
+                .collect(Collectors.toMap(ConfigurationDO::getKey, ConfigurationDO::getValue,
+                        (first, second) -> first)));
+
+        final SmtpSession current = smtpSession;
+
+        if (current != null && current.settings.equals(settings)) {
+            return current;
+        }
+
+        final SmtpSession created = new SmtpSession(settings, createSession(settings));
+        smtpSession = created;
+        return created;
+    }
+
+
+    private static Session createSession(final SmtpSettings settings) {
+        final Properties properties = new Properties();
+        properties.put("mail.smtp.host", settings.host);
+        properties.put("mail.smtp.port", settings.port);
+        properties.put("mail.smtp.connectiontimeout", TIMEOUT);
+        properties.put("mail.smtp.timeout", TIMEOUT);
+
+        // port 465 expects an encrypted connection, the other ports are encrypted, if the server supports it
+        if (SMTPS_PORT.equals(settings.port)) {
+            properties.put("mail.smtp.ssl.enable", "true");
+            properties.put("mail.smtp.ssl.checkserveridentity", "true");
+        } else {
+            properties.put("mail.smtp.starttls.enable", "true");
+        }
+
+        if (settings.user.isEmpty()) {
+            return Session.getInstance(properties);
+        }
+
+        properties.put("mail.smtp.auth", "true");
+
+        return Session.getInstance(properties, new javax.mail.Authenticator() {
+            @Override
+            protected PasswordAuthentication getPasswordAuthentication() {
+                return new PasswordAuthentication(settings.user, settings.password);
+            }
+        });
+    }
+
+
+    /**
+     * I am the SMTP configuration of the Einstellungen.
+     */
+    private static final class SmtpSettings {
+        private final String host;
+        private final String port;
+        private final String user;
+        private final String password;
+        private final String email;
+
+
+        private SmtpSettings(final Map<String, String> configuration) {
+            this.host = configuration.getOrDefault(SMTP_HOST, "");
+            this.port = configuration.getOrDefault(SMTP_PORT, "");
+            this.user = configuration.getOrDefault(SMTP_USER, "");
+            this.password = configuration.getOrDefault(SMTP_PASSWORD, "");
+            this.email = configuration.getOrDefault(SMTP_EMAIL, "");
+        }
+
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final SmtpSettings that = (SmtpSettings) o;
+            return host.equals(that.host)
+                    && port.equals(that.port)
+                    && user.equals(that.user)
+                    && password.equals(that.password)
+                    && email.equals(that.email);
+        }
+
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, port, user, password, email);
+        }
+    }
+
+
+    /**
+     * I am a mail session with the settings it was created with.
+     */
+    private static final class SmtpSession {
+        private final SmtpSettings settings;
+        private final Session session;
+
+
+        private SmtpSession(final SmtpSettings settings, final Session session) {
+            this.settings = settings;
+            this.session = session;
+        }
+    }
+
+
+    /**
+     * I close the connection to the SMTP server quietly.
+     */
+    private static final class TransportConnection implements AutoCloseable {
+        private final Transport transport;
+
+
+        private TransportConnection(final Transport transport) {
+            this.transport = transport;
+        }
+
+
+        @Override
+        public void close() {
+            try {
+                transport.close();
+            } catch (final MessagingException e) {
+                LOGGER.debug("Cannot close the connection to the SMTP server: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package de.bogenliga.application.business.mail.impl.dao;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import de.bogenliga.application.business.mail.impl.entity.MailBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
+import de.bogenliga.application.common.component.dao.DataAccessObject;
+
+/**
+ * DataAccessObject for the mail outbox entity in the database.
+ *
+ * Use a {@link BusinessEntityConfiguration} for each entity to configure the generic {@link BasicDAO} methods.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Repository
+public class MailOutboxDAO implements DataAccessObject {
+
+    // define the logger context
+    private static final Logger LOGGER = LoggerFactory.getLogger(MailOutboxDAO.class);
+
+    // table name in the database
+    private static final String TABLE = "mail_outbox";
+    // business entity parameter names
+    private static final String MAIL_BE_ID = "mailOutboxId";
+    private static final String MAIL_BE_RECIPIENTS = "recipients";
+    private static final String MAIL_BE_SUBJECT = "subject";
+    private static final String MAIL_BE_TEXT = "text";
+    private static final String MAIL_BE_ATTEMPTS = "attempts";
+    private static final String MAIL_BE_NEXT_ATTEMPT_AT_UTC = "nextAttemptAtUtc";
+    private static final String MAIL_BE_SENT_AT_UTC = "sentAtUtc";
+    private static final String MAIL_BE_LAST_ERROR = "lastError";
+
+    private static final String MAIL_TABLE_ID = "mail_outbox_id";
+    private static final String MAIL_TABLE_RECIPIENTS = "mail_outbox_recipients";
+    private static final String MAIL_TABLE_SUBJECT = "mail_outbox_subject";
+    private static final String MAIL_TABLE_TEXT = "mail_outbox_text";
+    private static final String MAIL_TABLE_ATTEMPTS = "mail_outbox_attempts";
+    private static final String MAIL_TABLE_NEXT_ATTEMPT_AT_UTC = "mail_outbox_next_attempt_at_utc";
+    private static final String MAIL_TABLE_SENT_AT_UTC = "mail_outbox_sent_at_utc";
+    private static final String MAIL_TABLE_LAST_ERROR = "mail_outbox_last_error";
+
+    // wrap all specific config parameters
+    private static final BusinessEntityConfiguration<MailBE> MAIL = new BusinessEntityConfiguration<>(
+            MailBE.class, TABLE, getColumnsToFieldsMap(), LOGGER);
+
+    /*
+     * SQL queries
+     */
+    // the claimed mails are leased by moving their next attempt, so a second dispatcher skips the locked and the
+    // leased rows, and a crashed dispatcher does not lose the mails
+    private static final String CLAIM_DUE =
+            "UPDATE mail_outbox "
+                    + " SET mail_outbox_attempts = mail_outbox_attempts + 1, "
+                    + "     mail_outbox_next_attempt_at_utc = ? "
+                    + " WHERE mail_outbox_id IN ("
+                    + "   SELECT mail_outbox_id "
+                    + "   FROM mail_outbox "
+                    + "   WHERE mail_outbox_sent_at_utc IS NULL "
+                    + "     AND mail_outbox_attempts < ? "
+                    + "     AND mail_outbox_next_attempt_at_utc <= ? "
+                    + "   ORDER BY mail_outbox_id "
+                    + "   LIMIT ? "
+                    + "   FOR UPDATE SKIP LOCKED) "
+                    + " RETURNING *";
+
+    private final BasicDAO basicDao;
+
+
+    /**
+     * Initialize the transaction manager to provide a database connection
+     *
+     * @param basicDao to handle the commonly used database operations
+     */
+    @Autowired
+    public MailOutboxDAO(final BasicDAO basicDao) {
+        this.basicDao = basicDao;
+    }
+
+
+    // table column label mapping to the business entity parameter names
+    private static Map<String, String> getColumnsToFieldsMap() {
+        final Map<String, String> columnsToFieldsMap = new HashMap<>();
+
+        columnsToFieldsMap.put(MAIL_TABLE_ID, MAIL_BE_ID);
+        columnsToFieldsMap.put(MAIL_TABLE_RECIPIENTS, MAIL_BE_RECIPIENTS);
+        columnsToFieldsMap.put(MAIL_TABLE_SUBJECT, MAIL_BE_SUBJECT);
+        columnsToFieldsMap.put(MAIL_TABLE_TEXT, MAIL_BE_TEXT);
+        columnsToFieldsMap.put(MAIL_TABLE_ATTEMPTS, MAIL_BE_ATTEMPTS);
+        columnsToFieldsMap.put(MAIL_TABLE_NEXT_ATTEMPT_AT_UTC, MAIL_BE_NEXT_ATTEMPT_AT_UTC);
+        columnsToFieldsMap.put(MAIL_TABLE_SENT_AT_UTC, MAIL_BE_SENT_AT_UTC);
+        columnsToFieldsMap.put(MAIL_TABLE_LAST_ERROR, MAIL_BE_LAST_ERROR);
+
+        // add technical columns
+        columnsToFieldsMap.putAll(BasicDAO.getTechnicalColumnsToFieldsMap());
+
+        return columnsToFieldsMap;
+    }
+
+
+    /**
+     * I store a new mail in the outbox.
+     *
+     * @param mailBE        to send
+     * @param currentUserId who created the mail
+     *
+     * @return persisted mail with its id
+     */
+    public MailBE create(final MailBE mailBE, final long currentUserId) {
+        basicDao.setCreationAttributes(mailBE, currentUserId);
+
+        return basicDao.insertEntity(MAIL, mailBE);
+    }
+
+
+    /**
+     * I claim the due mails, which are not sent yet, for a single attempt.
+     * <p>
+     * The attempts of the claimed mails are incremented and their next attempt is moved to the end of the lease, so the
+     * mails are claimed again after the lease, if their attempt is not completed.
+     *
+     * @param now         current time
+     * @param leaseUntil  end of the lease of the claimed mails
+     * @param maxAttempts of a single mail
+     * @param limit       of the claimed mails
+     *
+     * @return list of the claimed {@link MailBE} or an empty list, if no mail is due
+     */
+    public List<MailBE> claimDue(final Timestamp now, final Timestamp leaseUntil, final int maxAttempts,
+                                 final int limit) {
+        return basicDao.selectEntityList(MAIL, CLAIM_DUE, leaseUntil, maxAttempts, now, limit);
+    }
+
+
+    /**
+     * I store the results of the attempts with a single batch.
+     *
+     * @param mailBEList    with the sent timestamp or the error and the next attempt
+     * @param currentUserId who sent the mails
+     *
+     * @return number of the updated mails
+     */
+    public int update(final List<MailBE> mailBEList, final long currentUserId) {
+        mailBEList.forEach(mailBE -> basicDao.setModificationAttributes(mailBE, currentUserId));
+
+        return basicDao.updateEntityList(MAIL, mailBEList, MAIL_BE_ID);
+    }
+}
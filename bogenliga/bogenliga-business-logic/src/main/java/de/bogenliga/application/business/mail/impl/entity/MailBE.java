@@ -0,0 +1,120 @@
+package de.bogenliga.application.business.mail.impl.entity;
+
+import java.sql.Timestamp;
+import de.bogenliga.application.common.component.entity.BusinessEntity;
+import de.bogenliga.application.common.component.entity.CommonBusinessEntity;
+
+/**
+ * I represent a single mail in the outbox of the database.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class MailBE extends CommonBusinessEntity implements BusinessEntity {
+    private static final long serialVersionUID = 4520176409711251364L;
+
+    private Long mailOutboxId;
+    private String recipients;
+    private String subject;
+    private String text;
+    private Integer attempts;
+    private Timestamp nextAttemptAtUtc;
+    private Timestamp sentAtUtc;
+    private String lastError;
+
+
+    public MailBE() {
+        // empty constructor
+    }
+
+
+    @Override
+    public String toString() {
+        return "MailBE{" +
+                "mailOutboxId=" + mailOutboxId +
+                ", subject='" + subject + '\'' +
+                ", attempts=" + attempts +
+                ", nextAttemptAtUtc=" + nextAttemptAtUtc +
+                ", sentAtUtc=" + sentAtUtc +
+                '}';
+    }
+
+
+    public Long getMailOutboxId() {
+        return mailOutboxId;
+    }
+
+
+    public void setMailOutboxId(final Long mailOutboxId) {
+        this.mailOutboxId = mailOutboxId;
+    }
+
+
+    public String getRecipients() {
+        return recipients;
+    }
+
+
+    public void setRecipients(final String recipients) {
+        this.recipients = recipients;
+    }
+
+
+    public String getSubject() {
+        return subject;
+    }
+
+
+    public void setSubject(final String subject) {
+        this.subject = subject;
+    }
+
+
+    public String getText() {
+        return text;
+    }
+
+
+    public void setText(final String text) {
+        this.text = text;
+    }
+
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+
+    public void setAttempts(final Integer attempts) {
+        this.attempts = attempts;
+    }
+
+
+    public Timestamp getNextAttemptAtUtc() {
+        return nextAttemptAtUtc;
+    }
+
+
+    public void setNextAttemptAtUtc(final Timestamp nextAttemptAtUtc) {
+        this.nextAttemptAtUtc = nextAttemptAtUtc;
+    }
+
+
+    public Timestamp getSentAtUtc() {
+        return sentAtUtc;
+    }
+
+
+    public void setSentAtUtc(final Timestamp sentAtUtc) {
+        this.sentAtUtc = sentAtUtc;
+    }
+
+
+    public String getLastError() {
+        return lastError;
+    }
+
+
+    public void setLastError(final String lastError) {
+        this.lastError = lastError;
+    }
+}
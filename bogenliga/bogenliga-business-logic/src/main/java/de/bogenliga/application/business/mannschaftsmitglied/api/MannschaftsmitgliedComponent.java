@@ -4,6 +4,8 @@ import java.util.List;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.common.component.ComponentFacade;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 
 /**
  * TODO [AL] class documentation
@@ -21,6 +23,16 @@ public interface MannschaftsmitgliedComponent extends ComponentFacade {
     List<MannschaftsmitgliedDO> findAll();
 
 
+    /**
+     * Return a page of all mannschaftsmitglied entries.
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of mannschaftsmitglied entries in the database; empty page, if no further entry is found
+     */
+    Page<MannschaftsmitgliedDO> pageAll(PageRequest pageRequest);
+
+
     /**
      *
      * Die Funktion liefert alle einer Mannschaft zugeordneten Schützen,
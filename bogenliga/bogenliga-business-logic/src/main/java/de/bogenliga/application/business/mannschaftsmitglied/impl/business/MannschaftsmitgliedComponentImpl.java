@@ -10,6 +10,8 @@ import de.bogenliga.application.business.mannschaftsmitglied.impl.dao.Mannschaft
 import de.bogenliga.application.business.mannschaftsmitglied.impl.entity.MannschaftsmitgliedBE;
 import de.bogenliga.application.business.mannschaftsmitglied.impl.entity.MannschaftsmitgliedExtendedBE;
 import de.bogenliga.application.business.mannschaftsmitglied.impl.mapper.MannschaftsmitgliedMapper;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -60,6 +62,12 @@ public class MannschaftsmitgliedComponentImpl implements MannschaftsmitgliedComp
                 Collectors.toList());
     }
 
+
+    @Override
+    public Page<MannschaftsmitgliedDO> pageAll(final PageRequest pageRequest) {
+        return mannschaftsmitgliedDAO.pageAll(pageRequest).map(MannschaftsmitgliedMapper.toMannschaftsmitgliedDO);
+    }
+
     @Override
     public List<MannschaftsmitgliedDO> findAllSchuetzeInTeamEingesetzt(Long mannschaftsId) {
         checkPreconditions(mannschaftsId, PRECONDITION_FIELD_MANNSCHAFT_ID);
@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.mannschaftsmitglied.impl.dao;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +13,8 @@ import de.bogenliga.application.business.mannschaftsmitglied.impl.entity.Mannsch
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.database.queries.QueryBuilder;
 
 /**
@@ -176,6 +179,31 @@ public class MannschaftsmitgliedDAO implements DataAccessObject {
         return basicDao.selectEntityList(MANNSCHAFTSMITGLIED_EXTENDED, FIND_ALL);
     }
 
+
+    /**
+     * Return a page of all mannschaftsmitglied entries ordered by the id
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of mannschaftsmitglied entries; empty page, if no further entry is found
+     */
+    public Page<MannschaftsmitgliedExtendedBE> pageAll(final PageRequest pageRequest) {
+        final String[] fields = pageRequest.hasProjection()
+                ? BasicDAO.getProjectedColumns(MANNSCHAFTSMITGLIED_EXTENDED, pageRequest, MANNSCHAFTSMITGLIED_TABLE_ID)
+                : selectedFields;
+
+        final QueryBuilder selectFromQuery = new QueryBuilder()
+                .selectFields(fields)
+                .from(TABLE, TABLE_ALIAS)
+                .join(DSB_MITGLIED_TABLE, DSB_MITGLIED_TABLE_ALIAS)
+                .on(TABLE_ALIAS, MANNSCHAFTSMITGLIED_TABLE_DSB_MITGLIED_ID, DSB_MITGLIED_TABLE_ALIAS,
+                        DSB_MITGLIED_TABLE_MITGLIED_ID);
+
+        return basicDao.selectEntityPage(MANNSCHAFTSMITGLIED_EXTENDED, selectFromQuery, pageRequest,
+                mannschaftsmitgliedBE -> Collections.singletonList(mannschaftsmitgliedBE.getId()),
+                QueryBuilder.withAlias(TABLE_ALIAS, MANNSCHAFTSMITGLIED_TABLE_ID));
+    }
+
     /**
      * return all members in the team
      *
@@ -1,9 +1,14 @@
 package de.bogenliga.application.business.match.api;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import de.bogenliga.application.business.match.api.types.MatchBegegnungDO;
 import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.match.api.types.MatchGridDO;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 
 /**
  * @author Dominik Halle, HSRT MKI SS19 - SWT2
@@ -18,6 +23,16 @@ public interface MatchComponent {
     List<MatchDO> findAll();
 
 
+    /**
+     * Return a page of all match entries.
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of match entries in the database; empty page, if no further entry is found
+     */
+    Page<MatchDO> pageAll(PageRequest pageRequest);
+
+
     /**
      * Return a single match by unique id
      *
@@ -54,6 +69,28 @@ public interface MatchComponent {
     List<MatchDO> findByWettkampfId(Long wettkampfId);
 
 
+    /**
+     * Return the grid of all matches from one Wettkampf to navigate between the matches.
+     * The grid is cached until matches of the Wettkampf are created, deleted or moved to another position.
+     *
+     * @param wettkampfId ID from Wettkampf
+     *
+     * @return grid of the matches; empty grid, if no match is found
+     */
+    MatchGridDO findMatchGridByWettkampfId(Long wettkampfId);
+
+
+    /**
+     * Return the grid of all matches from the Wettkampf of the given match.
+     * If the grid of the match is cached, no database request is necessary.
+     *
+     * @param matchId ID from match
+     *
+     * @return grid of the matches, which contains the given match
+     */
+    MatchGridDO findMatchGridByMatchId(Long matchId);
+
+
     /**
      * Return all matches entries from one mannschaft.
      *
@@ -81,6 +118,17 @@ public interface MatchComponent {
      */
     public MatchDO create(MatchDO matchDO, final Long currentUserId);
 
+
+    /**
+     * Create new matches in one batch, e.g. all matches of a Wettkampftag.
+     *
+     * @param matchDOs      the new matchDOs
+     * @param currentUserId the id of the creating user
+     *
+     * @return persisted versions of the matches
+     */
+    List<MatchDO> createAll(List<MatchDO> matchDOs, Long currentUserId);
+
     /**
      * Create the initial Matches for the Wettkampftag 0 of the Veranstaltung.
      * It's used to show the Ligatabelle.
@@ -101,6 +149,15 @@ public interface MatchComponent {
      */
     MatchDO update(MatchDO matchDO, Long currentMemberId);
 
+    /**
+     * Update existing matches in one batch, e.g. both matches of a begegnung. The matches are identified by the id's
+     * set in the matchDOs.
+     *
+     * @param matchDOs        existing matchDOs to update
+     * @param currentMemberId id of the member currently updating the matches
+     */
+    void updateAll(List<MatchDO> matchDOs, Long currentMemberId);
+
 
     /**
      * Delete an existing match. The match is identified by the id's set in matchDO.
@@ -117,4 +174,15 @@ public interface MatchComponent {
      *
      */
     String getMannschaftsNameByID(long mannschaftID);
+
+    /**
+     * Erzeuge die Namen mehrerer Mannschaften aus den IDs.
+     * Die Mannschaften und Vereine werden unabhängig von der Anzahl der IDs mit je einer Abfrage geladen.
+     *
+     * @param mannschaftIDs         Mannschaft_IDs
+     *
+     * @return Namen der Mannschaften mit der Mannschaft_ID als Schlüssel,
+     * ein leerer Name für nicht gefundene Mannschaften oder Vereine
+     */
+    Map<Long, String> getMannschaftsNamenByIDs(Collection<Long> mannschaftIDs);
 }
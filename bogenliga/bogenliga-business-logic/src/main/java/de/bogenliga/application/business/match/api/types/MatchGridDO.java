@@ -0,0 +1,170 @@
+package de.bogenliga.application.business.match.api.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * I am the grid of all matches of a Wettkampf, indexed by match nr and scheibennummer.
+ * <p>
+ * Two neighbouring scheiben form one Begegnung: [(1,2),(3,4),(5,6),(7,8)]. I only contain the position of each match
+ * in the grid, which does not change while the results are entered. The results have to be loaded from the
+ * {@link de.bogenliga.application.business.match.api.MatchComponent}.
+ * <p>
+ * I am immutable and can be shared between threads.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public final class MatchGridDO {
+
+    private final long wettkampfId;
+    private final Map<Long, Long> matchIdByPosition;
+    private final Map<Long, Long> positionByMatchId;
+
+
+    /**
+     * @param wettkampfId of the Wettkampf
+     * @param matchDOs    all matches of the Wettkampf
+     */
+    public MatchGridDO(final long wettkampfId, final Collection<MatchDO> matchDOs) {
+        this.wettkampfId = wettkampfId;
+        this.matchIdByPosition = new HashMap<>(matchDOs.size() * 2);
+        this.positionByMatchId = new HashMap<>(matchDOs.size() * 2);
+
+        for (final MatchDO matchDO : matchDOs) {
+            if (matchDO.getId() != null && matchDO.getNr() != null && matchDO.getScheibenNummer() != null) {
+                final long position = toPosition(matchDO.getNr(), matchDO.getScheibenNummer());
+                matchIdByPosition.put(position, matchDO.getId());
+                positionByMatchId.put(matchDO.getId(), position);
+            }
+        }
+    }
+
+
+    /**
+     * @param scheibenNummer of a match
+     *
+     * @return scheibennummer of the other match of the Begegnung, e.g. 1 for 2 and 2 for 1
+     */
+    public static long getOtherScheibenNummer(final long scheibenNummer) {
+        return scheibenNummer % 2 == 0 ? scheibenNummer - 1 : scheibenNummer + 1;
+    }
+
+
+    private static long toPosition(final long nr, final long scheibenNummer) {
+        return (nr << 32) | (scheibenNummer & 0xFFFFFFFFL);
+    }
+
+
+    public long getWettkampfId() {
+        return wettkampfId;
+    }
+
+
+    /**
+     * @return number of matches in the grid
+     */
+    public int size() {
+        return positionByMatchId.size();
+    }
+
+
+    /**
+     * @return ids of all matches in the grid
+     */
+    public Set<Long> getMatchIds() {
+        return Collections.unmodifiableSet(positionByMatchId.keySet());
+    }
+
+
+    public boolean contains(final long matchId) {
+        return positionByMatchId.containsKey(matchId);
+    }
+
+
+    /**
+     * @param matchId of a match of the Wettkampf
+     * @param nr of the match
+     * @param scheibenNummer of the match
+     *
+     * @return true, if the match is located at the position
+     */
+    public boolean isAt(final long matchId, final long nr, final long scheibenNummer) {
+        final Long position = positionByMatchId.get(matchId);
+        return position != null && position == toPosition(nr, scheibenNummer);
+    }
+
+
+    /**
+     * @param matchId of a match of the Wettkampf
+     *
+     * @return match nr or null, if the match is not part of the Wettkampf
+     */
+    public Long getNr(final long matchId) {
+        final Long position = positionByMatchId.get(matchId);
+        return position == null ? null : position >>> 32;
+    }
+
+
+    /**
+     * @param matchId of a match of the Wettkampf
+     *
+     * @return scheibennummer or null, if the match is not part of the Wettkampf
+     */
+    public Long getScheibenNummer(final long matchId) {
+        final Long position = positionByMatchId.get(matchId);
+        return position == null ? null : position & 0xFFFFFFFFL;
+    }
+
+
+    /**
+     * @param nr of the match
+     * @param scheibenNummer of the match
+     *
+     * @return id of the match or null, if no match exists at the position
+     */
+    public Long getMatchId(final long nr, final long scheibenNummer) {
+        return matchIdByPosition.get(toPosition(nr, scheibenNummer));
+    }
+
+
+    /**
+     * I return the ids of both matches of a Begegnung, ordered by the scheibennummer.
+     *
+     * @param nr of the match
+     * @param scheibenNummer of one of the matches
+     *
+     * @return ids of the existing matches of the Begegnung; empty list, if no match exists at the position
+     */
+    public List<Long> getBegegnungMatchIds(final long nr, final long scheibenNummer) {
+        final long otherScheibenNummer = getOtherScheibenNummer(scheibenNummer);
+        final Long matchId = getMatchId(nr, Math.min(scheibenNummer, otherScheibenNummer));
+        final Long otherMatchId = getMatchId(nr, Math.max(scheibenNummer, otherScheibenNummer));
+
+        if (matchId == null && otherMatchId == null) {
+            return Collections.emptyList();
+        }
+
+        final List<Long> matchIds = new ArrayList<>(2);
+        if (matchId != null) {
+            matchIds.add(matchId);
+        }
+        if (otherMatchId != null) {
+            matchIds.add(otherMatchId);
+        }
+        return matchIds;
+    }
+
+
+    @Override
+    public String toString() {
+        return "MatchGridDO{" +
+                "wettkampfId=" + wettkampfId +
+                ", size=" + size() +
+                '}';
+    }
+}
@@ -1,6 +1,13 @@
 package de.bogenliga.application.business.match.impl.business;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
@@ -14,9 +21,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.match.api.types.MatchGridDO;
+import de.bogenliga.application.business.ligatabelle.impl.dao.LigatabelleDAO;
 import de.bogenliga.application.business.match.impl.dao.MatchDAO;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.business.match.impl.mapper.MatchMapper;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -41,6 +53,7 @@ public class MatchComponentImpl implements MatchComponent {
 
     private static final String PRECONDITION_MSG_WT0_VERANSTALTUNG = "Veranstaltungs-ID must not be Null or negative";
     private static final String PRECONDITION_MSG_WT0_MANNSCHAFT_COUNT = "The number of assigned Mannschaften to the Veranstaltung must be exactly 8";
+    private static final String PRECONDITION_MSG_MANNSCHAFT_IDS = "Mannschaft-IDs must not be null";
     private static final String PRECONDITION_MSG_WT0_MANNSCHAFT = "The Mannschaft-ID must not be null or negative";
 
 
@@ -54,6 +67,8 @@ public class MatchComponentImpl implements MatchComponent {
     private final DsbMannschaftComponent dsbMannschaftComponent;
     private final VereinComponent vereinComponent;
     private final WettkampfDAO wettkampfDAO;
+    private final LigatabelleDAO ligatabelleDAO;
+    private final MatchGridCache matchGridCache;
 
 
     /**
@@ -62,18 +77,24 @@ public class MatchComponentImpl implements MatchComponent {
      * dependency injection with {@link Autowired}
      *
      * @param matchDAO to access the database and return match representations
+     * @param ligatabelleDAO to refresh the stored league table after a match is changed
+     * @param entityCacheManager to invalidate the cached match grids again after the commit
      */
     @Autowired
     public MatchComponentImpl(final MatchDAO matchDAO,
                               final DsbMannschaftComponent dsbMannschaftComponent,
                               final VereinComponent vereinComponent,
-                              final WettkampfDAO wettkampfDAO
+                              final WettkampfDAO wettkampfDAO,
+                              final LigatabelleDAO ligatabelleDAO,
+                              final EntityCacheManager entityCacheManager
                               ) {
 
         this.matchDAO = matchDAO;
         this.dsbMannschaftComponent = dsbMannschaftComponent;
         this.vereinComponent = vereinComponent;
         this.wettkampfDAO = wettkampfDAO;
+        this.ligatabelleDAO = ligatabelleDAO;
+        this.matchGridCache = new MatchGridCache(entityCacheManager::afterCommit);
     }
 
 
@@ -90,6 +111,12 @@ public class MatchComponentImpl implements MatchComponent {
     }
 
 
+    @Override
+    public Page<MatchDO> pageAll(final PageRequest pageRequest) {
+        return matchDAO.pageAll(pageRequest).map(MatchMapper.toMatchDO);
+    }
+
+
     @Override
     public MatchDO findById(Long id) {
         checkPreconditions(id, PRECONDITION_MSG_MATCH_NR);
@@ -162,6 +189,38 @@ public class MatchComponentImpl implements MatchComponent {
     }
 
 
+    @Override
+    public MatchGridDO findMatchGridByWettkampfId(Long wettkampfId) {
+        checkPreconditions(wettkampfId, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        return matchGridCache.get(wettkampfId, this::loadMatchGrid);
+    }
+
+
+    @Override
+    public MatchGridDO findMatchGridByMatchId(Long matchId) {
+        checkPreconditions(matchId, "matchId");
+
+        final Long cachedWettkampfId = matchGridCache.getWettkampfId(matchId);
+        if (cachedWettkampfId != null) {
+            final MatchGridDO matchGrid = findMatchGridByWettkampfId(cachedWettkampfId);
+            if (matchGrid.contains(matchId)) {
+                return matchGrid;
+            }
+        }
+
+        // unknown match, e.g. the grid is not loaded yet
+        final Long wettkampfId = findById(matchId).getWettkampfId();
+        MatchGridDO matchGrid = findMatchGridByWettkampfId(wettkampfId);
+
+        if (!matchGrid.contains(matchId)) {
+            matchGridCache.invalidate(wettkampfId);
+            matchGrid = findMatchGridByWettkampfId(wettkampfId);
+        }
+        return matchGrid;
+    }
+
+
 
     /*    @Override
     public List<MatchBegegnungDO> findBegegnungByWettkampfId (Long wettkampfId) {
@@ -190,9 +249,28 @@ public class MatchComponentImpl implements MatchComponent {
         this.checkMatch(matchDO);
 
         MatchBE matchBE = matchDAO.create(MatchMapper.toMatchBE.apply(matchDO), currentUserId);
+        invalidateMatchGrid(matchBE.getWettkampfId());
+        refreshLigatabelle(matchBE.getWettkampfId());
         return MatchMapper.toMatchDO.apply(matchBE);
     }
 
+    @Override
+    public List<MatchDO> createAll(List<MatchDO> matchDOs, Long currentUserId) {
+        Preconditions.checkNotNull(matchDOs, PRECONDITION_MSG_MATCH_DO);
+        checkPreconditions(currentUserId, PRECONDITION_MSG_CURRENT_USER_ID);
+
+        matchDOs.forEach(this::checkMatch);
+
+        final List<MatchBE> matchBEs = matchDAO.createAll(
+                matchDOs.stream().map(MatchMapper.toMatchBE).collect(Collectors.toList()), currentUserId);
+
+        matchDOs.stream().map(MatchDO::getWettkampfId).distinct().forEach(wettkampfId -> {
+            invalidateMatchGrid(wettkampfId);
+            refreshLigatabelle(wettkampfId);
+        });
+        return matchBEs.stream().map(MatchMapper.toMatchDO).collect(Collectors.toList());
+    }
+
     @Override
     public void createInitialMatchesWT0(final Long veranstaltungsId, final Long currentUserId){
         Preconditions.checkNotNull(veranstaltungsId, PRECONDITION_MSG_WT0_VERANSTALTUNG);
@@ -208,16 +286,21 @@ public class MatchComponentImpl implements MatchComponent {
         }else{
             Long wettkampfId = wettkampfBE.getId();
             Long begegnung = 0L;
+            List<MatchBE> matchBEs = new ArrayList<>();
             for(int i = 0; i< 8; i++){
                 if(i%2 == 0){
                     begegnung++;
                 }
-                this.createWT0Match(wettkampfId, begegnung, mannschaften.get(i).getId(), new Long(i) ,currentUserId);
+                matchBEs.add(this.createWT0Match(wettkampfId, begegnung, mannschaften.get(i).getId(), new Long(i)));
             }
+            // all 8 matches are inserted with a single batch
+            this.matchDAO.createAll(matchBEs, currentUserId);
+            invalidateMatchGrid(wettkampfId);
+            refreshLigatabelle(wettkampfId);
         }
     }
 
-    private void createWT0Match(final Long wettkampfId, final Long begegnung, final Long mannschaftId, final Long scheibennummer, final Long currentUserId){
+    private MatchBE createWT0Match(final Long wettkampfId, final Long begegnung, final Long mannschaftId, final Long scheibennummer){
         Preconditions.checkNotNull(wettkampfId, PRECONDITION_MSG_WETTKAMPF_ID);
         Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
         Preconditions.checkNotNull(begegnung, PRECONDITION_MSG_BEGEGNUNG);
@@ -234,7 +317,7 @@ public class MatchComponentImpl implements MatchComponent {
         matchBe.setMannschaftId(mannschaftId);
         matchBe.setScheibenNummer(scheibennummer);
 
-        this.matchDAO.create(matchBe,currentUserId);
+        return matchBe;
     }
 
     @Override
@@ -243,11 +326,98 @@ public class MatchComponentImpl implements MatchComponent {
 
         this.checkMatch(matchDO);
 
+        // a match moved to another wettkampf changes the league tables of both wettkaempfe
+        final MatchBE oldMatchBE = matchDO.getId() == null ? null : matchDAO.findById(matchDO.getId());
+
         MatchBE matchBE = matchDAO.update(MatchMapper.toMatchBE.apply(matchDO), currentUserId);
+        invalidateMovedMatch(matchDO);
+        refreshLigatabelle(matchBE.getWettkampfId());
+        if (oldMatchBE != null && !Objects.equals(oldMatchBE.getWettkampfId(), matchBE.getWettkampfId())) {
+            refreshLigatabelle(oldMatchBE.getWettkampfId());
+        }
         return MatchMapper.toMatchDO.apply(matchBE);
     }
 
 
+    @Override
+    public void updateAll(List<MatchDO> matchDOs, Long currentUserId) {
+        Preconditions.checkNotNull(matchDOs, PRECONDITION_MSG_MATCH_DO);
+        checkPreconditions(currentUserId, PRECONDITION_MSG_CURRENT_USER_ID);
+
+        matchDOs.forEach(this::checkMatch);
+
+        // the wettkaempfe before the update, a moved match changes the league tables of both wettkaempfe
+        final Set<Long> wettkampfIds = matchDAO.findByIds(matchDOs.stream()
+                .map(MatchDO::getId).collect(Collectors.toList())).stream()
+                .map(MatchBE::getWettkampfId).collect(Collectors.toCollection(LinkedHashSet::new));
+
+        final List<MatchBE> matchBEs = matchDOs.stream().map(MatchMapper.toMatchBE).collect(Collectors.toList());
+        matchDAO.updateAll(matchBEs, currentUserId);
+
+        matchDOs.forEach(this::invalidateMovedMatch);
+        matchBEs.forEach(matchBE -> wettkampfIds.add(matchBE.getWettkampfId()));
+        wettkampfIds.forEach(this::refreshLigatabelle);
+    }
+
+
+    /**
+     * Load the match grid of the wettkampf, if it is not cached
+     * <p>
+     * A method reference instead of a lambda, the reflective tests call every method named "find..."
+     *
+     * @param wettkampfId of the match grid
+     */
+    private MatchGridDO loadMatchGrid(final long wettkampfId) {
+        return new MatchGridDO(wettkampfId, findByWettkampfId(wettkampfId));
+    }
+
+
+    /**
+     * Invalidate the cached match grid of the wettkampf after matches are created or deleted
+     *
+     * @param wettkampfId of the changed match
+     */
+    private void invalidateMatchGrid(final Long wettkampfId) {
+        if (wettkampfId != null) {
+            matchGridCache.invalidate(wettkampfId);
+        }
+    }
+
+
+    /**
+     * Invalidate the cached match grids, if the updated match is moved to another position.
+     * Updates of the results keep the grid.
+     *
+     * @param matchDO updated match
+     */
+    private void invalidateMovedMatch(final MatchDO matchDO) {
+        if (matchDO.getId() != null) {
+            final Long cachedWettkampfId = matchGridCache.getWettkampfId(matchDO.getId());
+            if (cachedWettkampfId != null && !cachedWettkampfId.equals(matchDO.getWettkampfId())) {
+                matchGridCache.invalidate(cachedWettkampfId);
+            }
+        }
+
+        final MatchGridDO matchGrid = matchGridCache.getIfPresent(matchDO.getWettkampfId());
+        if (matchGrid != null && (matchDO.getId() == null || matchDO.getNr() == null
+                || !matchGrid.isAt(matchDO.getId(), matchDO.getNr(), matchDO.getScheibenNummer()))) {
+            matchGridCache.invalidate(matchDO.getWettkampfId());
+        }
+    }
+
+
+    /**
+     * Refresh the stored league table of the wettkampf after its matches are changed
+     *
+     * @param wettkampfId of the changed match
+     */
+    private void refreshLigatabelle(final Long wettkampfId) {
+        if (wettkampfId != null) {
+            ligatabelleDAO.refreshWettkampf(wettkampfId);
+        }
+    }
+
+
     private void checkMatch(MatchDO matchDO) {
         Preconditions.checkNotNull(matchDO, PRECONDITION_MSG_MATCH_DO);
 
@@ -268,6 +438,12 @@ public class MatchComponentImpl implements MatchComponent {
 
         MatchBE matchBE = MatchMapper.toMatchBE.apply(matchDO);
         matchDAO.delete(matchBE, currentUserId);
+
+        if (matchBE.getId() != null) {
+            invalidateMatchGrid(matchGridCache.getWettkampfId(matchBE.getId()));
+        }
+        invalidateMatchGrid(matchBE.getWettkampfId());
+        refreshLigatabelle(matchBE.getWettkampfId());
     }
 
 
@@ -276,12 +452,56 @@ public class MatchComponentImpl implements MatchComponent {
         DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(mannschaftID);
         VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
 
+        mannschaftName = getMannschaftsName(dsbMannschaftDO, vereinDO);
+        return mannschaftName;
+    }
+
+
+    @Override
+    public Map<Long, String> getMannschaftsNamenByIDs(Collection<Long> mannschaftIDs) {
+        Preconditions.checkNotNull(mannschaftIDs, PRECONDITION_MSG_MANNSCHAFT_IDS);
+
+        final Map<Long, String> mannschaftNamen = new HashMap<>();
+        if (mannschaftIDs.isEmpty()) {
+            return mannschaftNamen;
+        }
+
+        // the names of the dsbmannschaften are filled with their vereine, so no verein is loaded here
+        for (DsbMannschaftDO mannschaft : dsbMannschaftComponent.findByIds(mannschaftIDs)) {
+            mannschaftNamen.put(mannschaft.getId(), getMannschaftsName(mannschaft));
+        }
+        // unknown dsbmannschaften are printed without a name
+        for (Long mannschaftID : mannschaftIDs) {
+            mannschaftNamen.putIfAbsent(mannschaftID, "");
+        }
+        return mannschaftNamen;
+    }
+
+
+    /**
+     * The name of a dsbmannschaft is filled as "Verein_Name Mannschaft_Nummer", the first dsbmannschaft of a verein
+     * is printed without its number
+     */
+    private static String getMannschaftsName(DsbMannschaftDO dsbMannschaftDO) {
+        final String name = dsbMannschaftDO.getName();
+        final String nummer = " " + dsbMannschaftDO.getNummer();
+
+        if (name == null) {
+            return "";
+        } else if (dsbMannschaftDO.getNummer() != null && dsbMannschaftDO.getNummer() <= 1 && name.endsWith(nummer)) {
+            return name.substring(0, name.length() - nummer.length());
+        } else {
+            return name;
+        }
+    }
+
+
+    private static String getMannschaftsName(DsbMannschaftDO dsbMannschaftDO, VereinDO vereinDO) {
         if (dsbMannschaftDO.getNummer() > 1) {
-            mannschaftName = vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
+            return vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
         } else {
-            mannschaftName = vereinDO.getName();
+            return vereinDO.getName();
         }
-        return mannschaftName;
     }
 
 }
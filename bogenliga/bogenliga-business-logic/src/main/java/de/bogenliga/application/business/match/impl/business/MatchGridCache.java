@@ -0,0 +1,161 @@
+package de.bogenliga.application.business.match.impl.business;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import de.bogenliga.application.business.match.api.types.MatchGridDO;
+
+/**
+ * I hold the {@link MatchGridDO} of each Wettkampf.
+ * <p>
+ * The grids are loaded on the first request and invalidated by the {@link MatchComponentImpl}, if matches are created,
+ * deleted or moved to another position. I also remember the Wettkampf of each match, so the grid of a match can be
+ * found without a database request.
+ * <p>
+ * A grid, which was loaded while a grid has been invalidated, is not cached. The invalidation runs again after the
+ * commit of the current transaction, because another request could have loaded the old matches before the commit.
+ * The number of grids and their time to live are limited, so an outdated grid is not used forever.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+class MatchGridCache {
+
+    static final int MAX_SIZE = 64;
+    static final long TIME_TO_LIVE = 10L * 60L * 1000L;
+
+    private final Clock clock;
+    private final Consumer<Runnable> afterCommit;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Entry> gridsByWettkampfId = new ConcurrentHashMap<>();
+    private final Map<Long, Long> wettkampfIdsByMatchId = new ConcurrentHashMap<>();
+
+
+    /**
+     * @param afterCommit to run the invalidation again after the commit of the current transaction
+     */
+    MatchGridCache(final Consumer<Runnable> afterCommit) {
+        this(afterCommit, Clock.systemUTC());
+    }
+
+
+    MatchGridCache(final Consumer<Runnable> afterCommit, final Clock clock) {
+        this.afterCommit = afterCommit;
+        this.clock = clock;
+    }
+
+
+    /**
+     * @param wettkampfId of the Wettkampf
+     * @param loader      to load the grid, if the grid is not cached
+     *
+     * @return grid of the Wettkampf
+     */
+    MatchGridDO get(final long wettkampfId, final LongFunction<MatchGridDO> loader) {
+        final MatchGridDO cachedGrid = getIfPresent(wettkampfId);
+
+        if (cachedGrid != null) {
+            return cachedGrid;
+        }
+
+        // remember the generation before loading, a concurrent invalidation makes the loaded grid outdated
+        final long loadedGeneration = generation.get();
+        // load outside of the map to keep the database request out of the map lock
+        final MatchGridDO grid = loader.apply(wettkampfId);
+        final long now = clock.millis();
+
+        if (gridsByWettkampfId.size() >= MAX_SIZE) {
+            evictExpired(now);
+        }
+
+        final Entry entry = gridsByWettkampfId.compute(wettkampfId, (id, previous) -> {
+            if (previous != null && previous.isValid(now)) {
+                return previous;
+            }
+            // the generation is checked in the lock of the map, which is also held by the invalidation
+            return loadedGeneration == generation.get() && gridsByWettkampfId.size() < MAX_SIZE
+                    ? new Entry(grid, now + TIME_TO_LIVE)
+                    : null;
+        });
+
+        if (entry == null) {
+            return grid;
+        }
+
+        entry.grid.getMatchIds().forEach(matchId -> wettkampfIdsByMatchId.put(matchId, wettkampfId));
+        return entry.grid;
+    }
+
+
+    /**
+     * @param matchId of a match
+     *
+     * @return id of the Wettkampf of a cached match or null, if the match is unknown
+     */
+    Long getWettkampfId(final long matchId) {
+        return wettkampfIdsByMatchId.get(matchId);
+    }
+
+
+    /**
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return cached grid or null
+     */
+    MatchGridDO getIfPresent(final long wettkampfId) {
+        final Entry entry = gridsByWettkampfId.get(wettkampfId);
+        return entry != null && entry.isValid(clock.millis()) ? entry.grid : null;
+    }
+
+
+    /**
+     * I discard the grid of the Wettkampf immediately and again after the commit of the current transaction.
+     *
+     * @param wettkampfId of the Wettkampf
+     */
+    void invalidate(final long wettkampfId) {
+        invalidateNow(wettkampfId);
+        afterCommit.accept(() -> invalidateNow(wettkampfId));
+    }
+
+
+    int size() {
+        return gridsByWettkampfId.size();
+    }
+
+
+    private void evictExpired(final long now) {
+        gridsByWettkampfId.forEach((wettkampfId, entry) -> {
+            if (!entry.isValid(now) && gridsByWettkampfId.remove(wettkampfId, entry)) {
+                wettkampfIdsByMatchId.values().removeIf(id -> id == (long) wettkampfId);
+            }
+        });
+    }
+
+
+    private void invalidateNow(final long wettkampfId) {
+        // increment the generation before the grid is removed, so a running load cannot store its outdated grid
+        generation.incrementAndGet();
+        gridsByWettkampfId.remove(wettkampfId);
+        wettkampfIdsByMatchId.values().removeIf(id -> id == wettkampfId);
+    }
+
+
+    private static final class Entry {
+        private final MatchGridDO grid;
+        private final long expiresAt;
+
+
+        private Entry(final MatchGridDO grid, final long expiresAt) {
+            this.grid = grid;
+            this.expiresAt = expiresAt;
+        }
+
+
+        private boolean isValid(final long now) {
+            return now < expiresAt;
+        }
+    }
+}
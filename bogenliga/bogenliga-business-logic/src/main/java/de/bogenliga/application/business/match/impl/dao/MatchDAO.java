@@ -1,6 +1,10 @@
 package de.bogenliga.application.business.match.impl.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -11,6 +15,8 @@ import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.database.queries.QueryBuilder;
 
 /**
@@ -175,6 +181,30 @@ public class MatchDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return all matches with the given ids in one query
+     *
+     * @param matchIds of the matches, null values and duplicates are ignored
+     * @return all found matches, in no particular order
+     */
+    public List<MatchBE> findByIds(final Collection<Long> matchIds) {
+        final List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(matchIds));
+        distinctIds.remove(null);
+
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String sql = new QueryBuilder()
+                .selectAll()
+                .from(TABLE)
+                .whereIn(MATCH_TABLE_ID, distinctIds.size())
+                .compose().toString();
+
+        return basicDao.selectEntityList(MATCH, sql, distinctIds.toArray());
+    }
+
+
     /**
      * Return a specific match.
      *
@@ -208,6 +238,19 @@ public class MatchDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return a page of all match entries ordered by the id
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of match entries; empty page, if no further entry is found
+     */
+    public Page<MatchBE> pageAll(final PageRequest pageRequest) {
+        return basicDao.selectEntityPage(MATCH, pageRequest,
+                matchBE -> Collections.singletonList(matchBE.getId()), MATCH_TABLE_ID);
+    }
+
+
     /**
      * Return all match from one Wettkampf
      *
@@ -246,6 +289,20 @@ public class MatchDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Create new match entries with a JDBC batch
+     *
+     * @param matchBEs
+     * @param currentUserId
+     *
+     * @return Business Entities corresponding to the created match entries
+     */
+    public List<MatchBE> createAll(final List<MatchBE> matchBEs, final Long currentUserId) {
+        matchBEs.forEach(matchBE -> basicDao.setCreationAttributes(matchBE, currentUserId));
+        return basicDao.insertEntityList(MATCH, matchBEs);
+    }
+
+
     /**
      * Update an existing match entry
      *
@@ -260,6 +317,20 @@ public class MatchDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Update existing match entries with a JDBC batch
+     *
+     * @param matchBEs
+     * @param currentUserId
+     *
+     * @return number of updated match entries
+     */
+    public int updateAll(final List<MatchBE> matchBEs, final Long currentUserId) {
+        matchBEs.forEach(matchBE -> basicDao.setModificationAttributes(matchBE, currentUserId));
+        return basicDao.updateEntityList(MATCH, matchBEs, MATCH_BE_ID);
+    }
+
+
     /**
      * Delete existing match
      *
@@ -1,5 +1,7 @@
 package de.bogenliga.application.business.meldezettel.api;
 
+import java.io.OutputStream;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.common.component.ComponentFacade;
 
 /**
@@ -14,4 +16,18 @@ public interface MeldezettelComponent extends ComponentFacade {
      */
     byte[] getMeldezettelPDFasByteArray(long wettkampfid);
 
+    /**
+     * Writes the pdf page by page to the output stream, the stream is not closed
+     * @param wettkampfid ID for the competition
+     * @param outputStream target of the document, e.g. the response body
+     */
+    void writeMeldezettelPDF(long wettkampfid, OutputStream outputStream);
+
+    /**
+     * Loads the data of the pdf, the document is written later without database access
+     * @param wettkampfid ID for the competition
+     * @return writer of the document
+     */
+    DocumentWriter prepareMeldezettelPDF(long wettkampfid);
+
 }
@@ -2,6 +2,7 @@ package de.bogenliga.application.business.meldezettel.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -22,22 +23,11 @@ import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.property.TextAlignment;
 import com.itextpdf.layout.property.UnitValue;
 import com.itextpdf.layout.property.VerticalAlignment;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.business.meldezettel.api.MeldezettelComponent;
-import de.bogenliga.application.business.disziplin.api.DisziplinComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
-import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
-import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
-import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
-import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
-import de.bogenliga.application.business.match.api.MatchComponent;
-import de.bogenliga.application.business.match.api.types.MatchDO;
-import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
-import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
-import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
-import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.reportdata.api.ReportDataComponent;
+import de.bogenliga.application.business.reportdata.api.types.ReportMitgliedDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportWettkampfDO;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -58,86 +48,76 @@ public class MeldezettelComponentImpl implements MeldezettelComponent {
     private static final String PRECONDITION_WETTKAMPFDATUM =  "WettkampfDatum cannot be null";
     private static final String PRECONDITION_TEAM_MAPPING = "TeamMemberMapping cannot be empty";
 
-    private final MatchComponent matchComponent;
-    private final DsbMannschaftComponent dsbMannschaftComponent;
-    private final VereinComponent vereinComponent;
-    private final WettkampfComponent wettkampfComponent;
-    private final VeranstaltungComponent veranstaltungComponent;
-    private final DisziplinComponent disziplinComponent;
-    private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
-    private final DsbMitgliedComponent dsbMitgliedComponent;
+    private final ReportDataComponent reportDataComponent;
 
     @Autowired
-    public MeldezettelComponentImpl(final MatchComponent matchComponent,
-                                    final DsbMannschaftComponent dsbMannschaftComponent,
-                                    final VereinComponent vereinComponent,
-                                    final WettkampfComponent wettkampfComponent,
-                                    final VeranstaltungComponent veranstaltungComponent,
-                                    final DisziplinComponent disziplinComponent,
-                                    final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
-                                    final DsbMitgliedComponent dsbMitgliedComponent) {
-        this.matchComponent = matchComponent;
-        this.dsbMannschaftComponent = dsbMannschaftComponent;
-        this.vereinComponent = vereinComponent;
-        this.wettkampfComponent = wettkampfComponent;
-        this.veranstaltungComponent = veranstaltungComponent;
-        this.disziplinComponent = disziplinComponent;
-        this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
-        this.dsbMitgliedComponent = dsbMitgliedComponent;
+    public MeldezettelComponentImpl(final ReportDataComponent reportDataComponent) {
+        this.reportDataComponent = reportDataComponent;
     }
     @Override
     public byte[] getMeldezettelPDFasByteArray(long wettkampfid) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeMeldezettelPDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+
+    @Override
+    public void writeMeldezettelPDF(long wettkampfid, OutputStream outputStream) {
+        prepareMeldezettelPDF(wettkampfid).writeTo(outputStream);
+    }
+
+
+    @Override
+    public DocumentWriter prepareMeldezettelPDF(long wettkampfid) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        Hashtable<String, List<DsbMitgliedDO>> teamMemberMapping = new Hashtable<>();
+        Hashtable<String, List<ReportMitgliedDO>> teamMemberMapping = new Hashtable<>();
 
         // Collect Information
-        WettkampfDO wettkampfDO = wettkampfComponent.findById(wettkampfid);
-        VeranstaltungDO veranstaltungDO = veranstaltungComponent.findById(wettkampfDO.getWettkampfVeranstaltungsId());
+        ReportWettkampfDO wettkampfDO = reportDataComponent.findWettkampf(wettkampfid);
 
         Long wettkampfTag = wettkampfDO.getWettkampfTag();
-        String veranstaltungsName = veranstaltungDO.getVeranstaltungName();
-        String disziplinsName = disziplinComponent.findById(wettkampfDO.getWettkampfDisziplinId()).getDisziplinName();
+        String veranstaltungsName = wettkampfDO.getVeranstaltungName();
+        String disziplinsName = wettkampfDO.getDisziplinName();
         Date wettkampfDatum = wettkampfDO.getWettkampfDatum();
 
-        for (int i = 1; i <= 8; i++) {
-            MatchDO matchDO = matchComponent.findByWettkampfIDMatchNrScheibenNr(wettkampfid, 1L, (long) i);
-            String teamName = getTeamName(matchDO.getMannschaftId());
-            List<MannschaftsmitgliedDO> mannschaftsmitgliedDOList = mannschaftsmitgliedComponent.findAllSchuetzeInTeam(matchDO.getMannschaftId());
-            List<DsbMitgliedDO> dsbMitgliedDOList = new ArrayList<>();
+        // die Mannschaften der Scheiben 1 bis 8 mit allen Mitgliedern in einer Abfrage
+        for (ReportMitgliedDO mitglied : reportDataComponent.findMeldezettelMitglieder(wettkampfid)) {
+            List<ReportMitgliedDO> mitgliedList = teamMemberMapping.computeIfAbsent(mitglied.getMannschaftName(),
+                    teamName -> new ArrayList<>());
 
-            for (MannschaftsmitgliedDO mannschaftsmitglied : mannschaftsmitgliedDOList) {
-                dsbMitgliedDOList.add(dsbMitgliedComponent.findById(mannschaftsmitglied.getDsbMitgliedId()));
+            if (mitglied.hasMitglied()) {
+                mitgliedList.add(mitglied);
             }
-
-            teamMemberMapping.put(teamName, dsbMitgliedDOList);
         }
 
-        try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-             PdfWriter writer = new PdfWriter(result);
-             PdfDocument pdfDocument = new PdfDocument(writer);
-             Document doc = new Document(pdfDocument, PageSize.A4)) {
+        Preconditions.checkNotNull(wettkampfTag, PRECONDITION_WETTKAMPFTAG);
+        Preconditions.checkNotNull(veranstaltungsName, PRECONDITION_VERANSTALTUNGSNAME);
+        Preconditions.checkNotNull(disziplinsName, PRECONDITION_DISZIPLINNAME);
+        Preconditions.checkNotNull(wettkampfDatum, PRECONDITION_WETTKAMPFDATUM);
+        Preconditions.checkArgument(!teamMemberMapping.isEmpty(), PRECONDITION_TEAM_MAPPING);
 
-            generateDoc(doc, wettkampfTag, veranstaltungsName, disziplinsName, wettkampfDatum, teamMemberMapping);
-            doc.close();
+        return outputStream -> {
+            try (PdfWriter writer = new PdfWriter(outputStream);
+                 PdfDocument pdfDocument = new PdfDocument(writer);
+                 Document doc = new Document(pdfDocument, PageSize.A4)) {
 
-            return result.toByteArray();
-        } catch (IOException e) {
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Meldezettel PDF konnte nicht erstellt werden: " + e);
-        }
+                writer.setCloseStream(false);
+                generateDoc(doc, wettkampfTag, veranstaltungsName, disziplinsName, wettkampfDatum, teamMemberMapping);
+                doc.close();
+            } catch (IOException e) {
+                throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Meldezettel PDF konnte nicht erstellt werden: " + e);
+            }
+        };
     }
 
 
     /**
      * <p>writes a Meldezettel document for the Wettkampf</p>
      */
-    private void generateDoc(Document doc, Long wettkampfTag, String veranstaltungsName, String disziplinsName, Date wettkampfDatum, Hashtable<String, List<DsbMitgliedDO>> teamMemberMapping) {
+    private void generateDoc(Document doc, Long wettkampfTag, String veranstaltungsName, String disziplinsName, Date wettkampfDatum, Hashtable<String, List<ReportMitgliedDO>> teamMemberMapping) {
         Preconditions.checkNotNull(doc, PRECONDITION_DOCUMENT);
-        Preconditions.checkNotNull(wettkampfTag, PRECONDITION_WETTKAMPFTAG);
-        Preconditions.checkNotNull(veranstaltungsName, PRECONDITION_VERANSTALTUNGSNAME);
-        Preconditions.checkNotNull(disziplinsName, PRECONDITION_DISZIPLINNAME);
-        Preconditions.checkNotNull(wettkampfDatum, PRECONDITION_WETTKAMPFDATUM);
-        Preconditions.checkArgument(!teamMemberMapping.isEmpty(), PRECONDITION_TEAM_MAPPING);
 
         String[] teamNameList = new String[8];
         SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd.MM.yyyy");
@@ -558,7 +538,7 @@ public class MeldezettelComponentImpl implements MeldezettelComponent {
             // Create table for Mitglieder with 2 fixed width columns
             final Table mitgliederTable = new Table(new float[]{150F, 150F});
             for (int mitgliedCounter = 1; mitgliedCounter < teamMemberMapping.get(teamNameList[manschaftCounter]).size() + 1; mitgliedCounter++) {
-                DsbMitgliedDO mitgliedDO = teamMemberMapping.get(teamNameList[manschaftCounter]).get(mitgliedCounter - 1);
+                ReportMitgliedDO mitgliedDO = teamMemberMapping.get(teamNameList[manschaftCounter]).get(mitgliedCounter - 1);
                 mitgliederTable
                         .addCell(new Cell().setBorder(Border.NO_BORDER)
                                 .add(new Paragraph(mitgliedCounter + ". " + mitgliedDO.getNachname() + ", " + mitgliedDO.getVorname()).setFontSize(8.0F))
@@ -768,22 +748,4 @@ public class MeldezettelComponentImpl implements MeldezettelComponent {
             }
         }
     }
-
-
-    /**
-     * help function to get team name
-     *
-     * @param teamID ID of the team
-     * @return name of the team
-     */
-    private String getTeamName(long teamID) {
-        Preconditions.checkArgument(teamID >= 0,"TeamID cannot be Negative");
-        DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(teamID);
-        VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
-        if (dsbMannschaftDO.getNummer() > 1) {
-            return vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
-        } else {
-            return vereinDO.getName();
-        }
-    }
-}
\ No newline at end of file
+}
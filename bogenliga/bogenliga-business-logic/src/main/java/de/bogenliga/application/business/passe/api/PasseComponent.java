@@ -123,6 +123,18 @@ public interface PasseComponent {
     PasseDO update(PasseDO passeDO, Long currentMemberId);
 
 
+    /**
+     * Create new or update existing passen in a few statements. Passen without id or without an existing entry are
+     * created, all other passen are updated.
+     *
+     * @param passeDOs        passen of a score sheet
+     * @param currentMemberId id of the member currently saving the passen
+     *
+     * @return persisted versions of the created passen
+     */
+    List<PasseDO> createOrUpdate(List<PasseDO> passeDOs, Long currentMemberId);
+
+
     /**
      * Delete an existing passe. The passe is identified by the id's set in passeDO.
      *
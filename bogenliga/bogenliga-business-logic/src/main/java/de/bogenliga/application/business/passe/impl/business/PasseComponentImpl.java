@@ -276,6 +276,21 @@ public class PasseComponentImpl implements PasseComponent {
     }
 
 
+    @Override
+    public List<PasseDO> createOrUpdate(List<PasseDO> passeDOs, Long currentMemberId) {
+        Preconditions.checkNotNull(passeDOs, String.format(PRECONDITION_MSG_TEMPLATE_NULL, "passeDOs"));
+        checkPreconditions(currentMemberId, "currentMemberId");
+
+        final List<PasseBE> passeBEs = passeDOs.stream().map(passeDO -> {
+            checkPasseDO(passeDO);
+            return PasseMapper.toPasseBE.apply(passeDO);
+        }).collect(Collectors.toList());
+
+        return passeDAO.createOrUpdate(passeBEs, currentMemberId).stream()
+                .map(PasseMapper.toPasseDO).collect(Collectors.toList());
+    }
+
+
     /**
      * checks if fields of a DO are null or negative
      * @param passeDO the DO to check
@@ -343,6 +343,41 @@ public class PasseDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Create new or update existing passe entries with JDBC batches
+     * <p>
+     * Passen without id and passen without an existing table row are created, all other passen are updated. The
+     * existence of the passen is not checked with additional queries. A passe without an existing table row is
+     * skipped, if its primary key is incomplete.
+     *
+     * @param passeBEs                  passen of a score sheet
+     * @param currentKampfrichterUserId current user
+     *
+     * @return Business Entities corresponding to the created passe entries
+     */
+    public List<PasseBE> createOrUpdate(final List<PasseBE> passeBEs, final Long currentKampfrichterUserId) {
+        for (PasseBE passeBE : passeBEs) {
+            // the creation attributes are not part of the UPDATE query
+            basicDao.setCreationAttributes(passeBE, currentKampfrichterUserId);
+            if (passeBE.getId() != null) {
+                basicDao.setModificationAttributes(passeBE, currentKampfrichterUserId);
+            }
+        }
+
+        return basicDao.upsertEntityList(PASSE, passeBEs, passeBE -> passeBE.getId() == null,
+                PasseDAO::hasPrimaryKey, PASSE_TABLE_ID);
+    }
+
+
+    private static boolean hasPrimaryKey(final PasseBE passeBE) {
+        return passeBE.getPasseDsbMitgliedId() != null &&
+                passeBE.getPasseMannschaftId() != null &&
+                passeBE.getPasseWettkampfId() != null &&
+                passeBE.getPasseMatchNr() != null &&
+                passeBE.getPasseLfdnr() != null;
+    }
+
+
     public void delete(PasseBE passeBE, Long currentMemberId) {
         basicDao.setModificationAttributes(passeBE, currentMemberId);
         basicDao.deleteEntity(PASSE, passeBE, PASSE_TABLE_ID);
@@ -32,6 +32,36 @@ public interface RegionenComponent extends ComponentFacade {
      */
     RegionenDO findById(final long regionID);
 
+
+    /**
+     * Returns the level of a "Region" in the region hierarchy
+     *
+     * @param regionId ID of the region
+     *
+     * @return number of superordinate regions, 0 for the top region
+     */
+    int getLevel(final long regionId);
+
+
+    /**
+     * Returns the ids of all superordinate regions
+     *
+     * @param regionId ID of the region
+     *
+     * @return ids of the superordinate regions, starting with the direct superordinate region
+     */
+    List<Long> findAncestorIds(final long regionId);
+
+
+    /**
+     * Returns the ids of all subordinate regions
+     *
+     * @param regionId ID of the region
+     *
+     * @return ids of the direct and indirect subordinate regions
+     */
+    List<Long> findDescendantIds(final long regionId);
+
     /**
      * Create an entry of region
      *
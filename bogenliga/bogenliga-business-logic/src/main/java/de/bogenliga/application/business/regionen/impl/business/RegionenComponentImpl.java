@@ -13,6 +13,12 @@ import de.bogenliga.application.business.regionen.impl.dao.RegionenDAO;
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.regionen.impl.mapper.RegionenMapper;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.tree.TreeIndex;
+import de.bogenliga.application.common.tree.TreeIndexCache;
 import de.bogenliga.application.common.validation.Preconditions;
 
 /**
@@ -32,6 +38,9 @@ public class RegionenComponentImpl implements RegionenComponent {
     private static final String PRECONDITION_MSG_LIZENZ_EXISTS = "You cant delete this Region! There is a least one Kampfrichterlizenz, which is linked to it.";
 
 
+    // the Regionen are also read by the Vereine and the Ligen
+    public static final String CACHE_NAME = "regionen";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(RegionenComponentImpl.class);
 
     public final RegionenDAO regionenDAO;
@@ -39,50 +48,88 @@ public class RegionenComponentImpl implements RegionenComponent {
     private final LigaComponent ligaComponent;
     private final VereinComponent vereinComponent;
     private final LizenzDAO lizenzDAO;
+    private final EntityCache<Long, RegionenBE> regionenCache;
+
+    // Hierarchie der Regionen, wird nach jeder Änderung einer Region neu aufgebaut
+    private final TreeIndexCache<RegionenBE> regionenTree;
 
 
     /**
      * Constructor Dependeny injection with {@link org.springframework.beans.factory.annotation.Autowired}
      *
      * @param regionenDAO
+     * @param entityCacheManager to cache the rarely changed regionen
      */
     public RegionenComponentImpl(RegionenDAO regionenDAO, LigaComponent ligaComponent, VereinComponent vereinComponent,
-                                 LizenzDAO lizenzDAO) {
+                                 LizenzDAO lizenzDAO, EntityCacheManager entityCacheManager) {
         this.regionenDAO = regionenDAO;
         this.ligaComponent = ligaComponent;
         this.vereinComponent = vereinComponent;
         this.lizenzDAO = lizenzDAO;
+        this.regionenCache = entityCacheManager.getCache(CACHE_NAME);
+        this.regionenTree = new TreeIndexCache<>(RegionenBE::getRegionId, RegionenBE::getRegionUebergeordnet,
+                entityCacheManager::afterCommit);
     }
 
 
     @Override
     public List<RegionenDO> findAll() {
-        final List<RegionenBE> regionenBEList = regionenDAO.findAll();
-        return syncListofDOs(regionenBEList.stream().map(RegionenMapper.toRegionDO).collect(Collectors.toList()));
+        final TreeIndex<RegionenBE> regionenIndex = regionenTree.refresh(this::findAllRegionen);
+        return syncListofDOs(regionenIndex.getAll().stream().map(RegionenMapper.toRegionDO).collect(Collectors.toList()),
+                regionenIndex);
     }
 
 
     @Override
     public List<RegionenDO> findAllByType(final String type) {
         final List<RegionenBE> regionenBEList = regionenDAO.findAllByType(type);
-        return syncListofDOs(regionenBEList.stream().map(RegionenMapper.toRegionDO).collect(Collectors.toList()));
+        return syncListofDOs(regionenBEList.stream().map(RegionenMapper.toRegionDO).collect(Collectors.toList()),
+                getRegionenIndex());
     }
 
     @Override
     public RegionenDO findById(long vereinId) {
-        final RegionenBE regionenBE = regionenDAO.findById(vereinId);
-        return syncSingle(RegionenMapper.toRegionDO.apply(regionenBE),regionenDAO.findAll());
+        final RegionenBE regionenBE = regionenCache.get(vereinId, regionenDAO::findById);
+        return syncSingle(RegionenMapper.toRegionDO.apply(regionenBE), getRegionenIndex());
+    }
+
+
+    @Override
+    public int getLevel(final long regionId) {
+        Preconditions.checkArgument(regionId >= 0, PRECONDITION_MSG_REGION_ID);
+
+        return getRegionenIndex(regionId).getLevel(regionId);
+    }
+
+
+    @Override
+    public List<Long> findAncestorIds(final long regionId) {
+        Preconditions.checkArgument(regionId >= 0, PRECONDITION_MSG_REGION_ID);
+
+        return getRegionenIndex(regionId).getAncestorIds(regionId);
+    }
+
+
+    @Override
+    public List<Long> findDescendantIds(final long regionId) {
+        Preconditions.checkArgument(regionId >= 0, PRECONDITION_MSG_REGION_ID);
+
+        return getRegionenIndex(regionId).getDescendants(regionId).stream()
+                .map(RegionenBE::getRegionId)
+                .collect(Collectors.toList());
     }
 
     @Override
     public RegionenDO create(RegionenDO regionenDO, long currentDsbMitglied) {
         checkRegionenDO(regionenDO, currentDsbMitglied);
 
-        List<RegionenBE> allRegions = regionenDAO.findAll();
+        final TreeIndex<RegionenBE> allRegions = getRegionenIndex();
         syncSingle(regionenDO, allRegions);
 
         final RegionenBE regionenBE = RegionenMapper.toRegionBE.apply(regionenDO);
         final RegionenBE persistedRegionenBE = regionenDAO.create(regionenBE, currentDsbMitglied);
+        regionenTree.invalidate();
+        regionenCache.invalidate();
 
         return syncSingle(RegionenMapper.toRegionDO.apply(persistedRegionenBE),allRegions);
     }
@@ -95,11 +142,13 @@ public class RegionenComponentImpl implements RegionenComponent {
         //need to be done, because the frontend just changes the uebergeordnetAsName --> The
         regionenDO.setRegionUebergeordnet(null);
 
-        List<RegionenBE> allRegions = regionenDAO.findAll();
+        final TreeIndex<RegionenBE> allRegions = getRegionenIndex();
         syncSingle(regionenDO, allRegions);
 
         final RegionenBE regionenBE = RegionenMapper.toRegionBE.apply(regionenDO);
         final RegionenBE persistedRegionenBE = regionenDAO.update(regionenBE, currentDsbMitglied);
+        regionenTree.invalidate();
+        regionenCache.invalidate();
 
         return syncSingle(RegionenMapper.toRegionDO.apply(persistedRegionenBE), allRegions);
     }
@@ -111,6 +160,8 @@ public class RegionenComponentImpl implements RegionenComponent {
         final RegionenBE regionenBE = RegionenMapper.toRegionBE.apply(regionenDO);
 
         regionenDAO.delete(regionenBE, currentDsbMitglied);
+        regionenTree.invalidate();
+        regionenCache.invalidate();
     }
 
     private void checkDeletePreconditions(RegionenDO regionenDO, long currentDsbMitglied){
@@ -133,14 +184,34 @@ public class RegionenComponentImpl implements RegionenComponent {
         Preconditions.checkNotNull(regionenDO.getRegionName(), PRECONDITION_MSG_REGION_NAME);
     }
 
+    private List<RegionenBE> findAllRegionen() {
+        return regionenCache.getAll(regionenDAO::findAll);
+    }
+
+
+    private TreeIndex<RegionenBE> getRegionenIndex() {
+        return regionenTree.get(this::findAllRegionen);
+    }
+
+
+    private TreeIndex<RegionenBE> getRegionenIndex(final long regionId) {
+        final TreeIndex<RegionenBE> regionenIndex = getRegionenIndex();
+
+        if (!regionenIndex.contains(regionId)) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                    String.format("No result found for ID '%s'", regionId));
+        }
+        return regionenIndex;
+    }
+
     /**
      * I am synchronizing the ID with the uebergeordnetAsName of all given RegionenDOs.
      * Therefore i am calling the syncSingle method for each region.
      * @param regionDOs all regions as DOs.
+     * @param allRegions index of all regions
      * @return the same list of regionDOs, but all IDs and uebergeordnetAsName are matching correctly.
      */
-    private List<RegionenDO> syncListofDOs(List<RegionenDO> regionDOs) {
-        List<RegionenBE> allRegions = regionenDAO.findAll();
+    private List<RegionenDO> syncListofDOs(List<RegionenDO> regionDOs, TreeIndex<RegionenBE> allRegions) {
         return regionDOs.stream().map(region -> syncSingle(region, allRegions)).collect(Collectors.toList());
     }
 
@@ -150,21 +221,20 @@ public class RegionenComponentImpl implements RegionenComponent {
      * around: regionUebergeordnet --> ID --> getRegionById--> regionName --> regionUebergeordentAsName
      * regionUebergeordnetAsName --> regionName--> getRegionByName --> ID --> regionUebergeordent
      * @param currentRegion the RegionenDO, which you want to synchronize
-     * @param regions a list of RegionenBEs to find the matching regionName, therefore the list
-     *                should contain all regions of the database.
+     * @param regions the index of all regions of the database to find the matching regionName.
      * @return the same currentRegion, but the ID is matching to the uebergeordnetAsName.
      */
-    private RegionenDO syncSingle(RegionenDO currentRegion, List<RegionenBE> regions) {
+    private RegionenDO syncSingle(RegionenDO currentRegion, TreeIndex<RegionenBE> regions) {
         List<RegionenBE> possibleRegions;
         //Case: The region has a superordinate name but not yet the id
         if (currentRegion.getRegionUebergeordnet() == null
                 && currentRegion.getRegionUebergeordnetAsName() != null) {
 
-            possibleRegions = regions.stream().filter(
-                    region -> region.getRegionName().equals(currentRegion.getRegionUebergeordnetAsName()))
+            possibleRegions = regions.getAll().stream().filter(
+                    region -> currentRegion.getRegionUebergeordnetAsName().equals(region.getRegionName()))
                     .collect(Collectors.toList());
 
-            if (possibleRegions != null && !possibleRegions.isEmpty()) {
+            if (!possibleRegions.isEmpty()) {
                 currentRegion.setRegionUebergeordnet(possibleRegions.get(0).getRegionId());
             } else {
                 LOGGER.debug("Mapping of the regionUebergeordnetAsName ("+ currentRegion.getRegionUebergeordnetAsName()
@@ -175,12 +245,10 @@ public class RegionenComponentImpl implements RegionenComponent {
         } else if (currentRegion.getRegionUebergeordnet() != null
                 && currentRegion.getRegionUebergeordnetAsName() == null) {
 
-            possibleRegions = regions.stream().filter(region -> (region.getRegionId().equals(
-                    currentRegion.getRegionUebergeordnet()))).collect(
-                    Collectors.toList());
+            final RegionenBE uebergeordneteRegion = regions.get(currentRegion.getRegionUebergeordnet());
 
-            if (possibleRegions != null && !possibleRegions.isEmpty()) {
-                currentRegion.setRegionUebergeordnetAsName(possibleRegions.get(0).getRegionName());
+            if (uebergeordneteRegion != null) {
+                currentRegion.setRegionUebergeordnetAsName(uebergeordneteRegion.getRegionName());
             } else {
                 LOGGER.debug("Mapping of the regionUebergeordnet Id (" + currentRegion.getRegionUebergeordnet()
                         + ") to the regionUebergeordnetAsName (" + currentRegion.getRegionUebergeordnetAsName() + ") failed.");
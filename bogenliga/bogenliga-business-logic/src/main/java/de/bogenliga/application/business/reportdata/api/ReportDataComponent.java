@@ -0,0 +1,118 @@
+package de.bogenliga.application.business.reportdata.api;
+
+import java.util.List;
+import de.bogenliga.application.business.reportdata.api.types.ReportMitgliedDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportVersionDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportWettkampfDO;
+import de.bogenliga.application.common.component.ComponentFacade;
+
+/**
+ * I assemble the data of the generated documents, e.g. the Meldezettel, the Rückennummern and the Lizenzen.
+ * <p>
+ * Each method loads all data with a single query, regardless of the number of teams or members.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public interface ReportDataComponent extends ComponentFacade {
+
+    /**
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return the Wettkampf with the names of its Veranstaltung and Disziplin
+     */
+    ReportWettkampfDO findWettkampf(long wettkampfId);
+
+
+    /**
+     * I return the members of the teams on the Scheiben 1 to 8 of the first match of the Wettkampf.
+     * <p>
+     * A team without members is returned as a single entry without a member.
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return members ordered by the Scheibennummer of their team
+     */
+    List<ReportMitgliedDO> findMeldezettelMitglieder(long wettkampfId);
+
+
+    /**
+     * @param mannschaftId of the team
+     *
+     * @return members of the team with their Verein and their Lizenz for the Disziplin of the Veranstaltung
+     */
+    List<ReportMitgliedDO> findMannschaftsmitglieder(long mannschaftId);
+
+
+    /**
+     * @param mannschaftId  of the team
+     * @param dsbMitgliedId of the member
+     *
+     * @return the member of the team with the Verein and the Lizenz for the Disziplin of the Veranstaltung
+     */
+    ReportMitgliedDO findMannschaftsmitglied(long mannschaftId, long dsbMitgliedId);
+
+
+    /**
+     * I return the version stamp of the Setzliste.
+     * <p>
+     * The stamp covers the Wettkampf with its Veranstaltung, the matches of the Wettkampftag and of the previous
+     * Wettkampftag, the teams of the Veranstaltung and their Vereine.
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return version stamp, which changes with the data of the document
+     */
+    ReportVersionDO findSetzlisteVersion(long wettkampfId);
+
+
+    /**
+     * I return the version stamp of the Schusszettel of a Wettkampf.
+     * <p>
+     * The stamp covers the Wettkampf, its matches and the teams of the matches with their Vereine.
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return version stamp, which changes with the data of the document
+     */
+    ReportVersionDO findSchusszettelVersion(long wettkampfId);
+
+
+    /**
+     * I return the version stamp of the Meldezettel.
+     * <p>
+     * The stamp covers the Wettkampf with its Veranstaltung and Disziplin, its matches and the teams of the matches
+     * with their Vereine and members.
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return version stamp, which changes with the data of the document
+     */
+    ReportVersionDO findMeldezettelVersion(long wettkampfId);
+
+
+    /**
+     * I return the version stamp of the Bogenkontrollliste.
+     * <p>
+     * The stamp covers the data of the Meldezettel without the Disziplin and for the eligibility the teams of the
+     * members in the Sportjahr with their matches, Wettkämpfe and Veranstaltungen, the Passen of the members in these
+     * Wettkämpfe and the Ligen.
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return version stamp, which changes with the data of the document
+     */
+    ReportVersionDO findBogenkontrolllisteVersion(long wettkampfId);
+
+
+    /**
+     * I return the version stamp of the team documents.
+     * <p>
+     * The stamp covers the team with its Veranstaltung and Wettkämpfe, its members, their Lizenzen and the Vereine
+     * of the team and its members.
+     *
+     * @param mannschaftId of the team
+     *
+     * @return version stamp, which changes with the data of the documents
+     */
+    ReportVersionDO findMannschaftVersion(long mannschaftId);
+}
@@ -0,0 +1,131 @@
+package de.bogenliga.application.business.reportdata.api.types;
+
+import de.bogenliga.application.common.component.types.DataObject;
+
+/**
+ * I contain a member of a team with all data, which is printed on the team documents,
+ * e.g. the Meldezettel, the Rückennummern or the Lizenzen.
+ * <p>
+ * The member is empty, if a team of a Meldezettel has no members.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class ReportMitgliedDO implements DataObject {
+    private static final long serialVersionUID = 7930916987385976777L;
+
+    private final Long mannschaftId;
+    private final Long mannschaftNummer;
+    private final String mannschaftVereinName;
+    private final Long scheibennummer;
+    private final Long dsbMitgliedId;
+    private final String vorname;
+    private final String nachname;
+    private final String vereinName;
+    private final Long rueckennummer;
+    private final String lizenznummer;
+    private final String veranstaltungName;
+    private final Long sportjahr;
+
+
+    public ReportMitgliedDO(final Long mannschaftId,
+                            final Long mannschaftNummer,
+                            final String mannschaftVereinName,
+                            final Long scheibennummer,
+                            final Long dsbMitgliedId,
+                            final String vorname,
+                            final String nachname,
+                            final String vereinName,
+                            final Long rueckennummer,
+                            final String lizenznummer,
+                            final String veranstaltungName,
+                            final Long sportjahr) {
+        this.mannschaftId = mannschaftId;
+        this.mannschaftNummer = mannschaftNummer;
+        this.mannschaftVereinName = mannschaftVereinName;
+        this.scheibennummer = scheibennummer;
+        this.dsbMitgliedId = dsbMitgliedId;
+        this.vorname = vorname;
+        this.nachname = nachname;
+        this.vereinName = vereinName;
+        this.rueckennummer = rueckennummer;
+        this.lizenznummer = lizenznummer;
+        this.veranstaltungName = veranstaltungName;
+        this.sportjahr = sportjahr;
+    }
+
+
+    public Long getMannschaftId() {
+        return mannschaftId;
+    }
+
+
+    public Long getMannschaftNummer() {
+        return mannschaftNummer;
+    }
+
+
+    public String getMannschaftVereinName() {
+        return mannschaftVereinName;
+    }
+
+
+    public Long getScheibennummer() {
+        return scheibennummer;
+    }
+
+
+    public Long getDsbMitgliedId() {
+        return dsbMitgliedId;
+    }
+
+
+    public String getVorname() {
+        return vorname;
+    }
+
+
+    public String getNachname() {
+        return nachname;
+    }
+
+
+    public String getVereinName() {
+        return vereinName;
+    }
+
+
+    public Long getRueckennummer() {
+        return rueckennummer;
+    }
+
+
+    public String getLizenznummer() {
+        return lizenznummer;
+    }
+
+
+    public String getVeranstaltungName() {
+        return veranstaltungName;
+    }
+
+
+    public Long getSportjahr() {
+        return sportjahr;
+    }
+
+
+    /**
+     * @return name of the Verein of the team, followed by the number of the team, if the Verein has several teams
+     */
+    public String getMannschaftName() {
+        if (mannschaftNummer != null && mannschaftNummer > 1) {
+            return mannschaftVereinName + " " + mannschaftNummer;
+        }
+        return mannschaftVereinName;
+    }
+
+
+    public boolean hasMitglied() {
+        return dsbMitgliedId != null;
+    }
+}
@@ -0,0 +1,52 @@
+package de.bogenliga.application.business.reportdata.api.types;
+
+import java.sql.Timestamp;
+import de.bogenliga.application.common.component.types.DataObject;
+
+/**
+ * I contain the version stamp of the data of a document.
+ * <p>
+ * The stamp consists of a part for each table, which is read by the document. A part changes, if a row of the table
+ * is inserted, updated or deleted: an insert or a delete changes the number of rows and the sum of the ids, an update
+ * sets the time of the last modification and increments the version of the row.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class ReportVersionDO implements DataObject {
+    private static final long serialVersionUID = -6150936406146355218L;
+
+    private final String stamp;
+    private final Timestamp lastModified;
+
+
+    /**
+     * @param stamp        which identifies the state of the data of the document
+     * @param lastModified time of the last modification of the data or null, if the document has no data
+     */
+    public ReportVersionDO(final String stamp,
+                           final Timestamp lastModified) {
+        this.stamp = stamp;
+        this.lastModified = lastModified;
+    }
+
+
+    public Timestamp getLastModified() {
+        return lastModified;
+    }
+
+
+    /**
+     * @return the time of the last modification in ms or -1, if the document has no rows
+     */
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.getTime();
+    }
+
+
+    /**
+     * @return the version stamp, which identifies the state of the data of the document
+     */
+    public String getStamp() {
+        return stamp;
+    }
+}
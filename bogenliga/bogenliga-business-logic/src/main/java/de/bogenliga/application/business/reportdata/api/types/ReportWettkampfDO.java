@@ -0,0 +1,57 @@
+package de.bogenliga.application.business.reportdata.api.types;
+
+import java.sql.Date;
+import de.bogenliga.application.common.component.types.DataObject;
+
+/**
+ * I contain the head of a Wettkampf document, e.g. the Meldezettel.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class ReportWettkampfDO implements DataObject {
+    private static final long serialVersionUID = 3546054108837674623L;
+
+    private final Long wettkampfId;
+    private final Long wettkampfTag;
+    private final Date wettkampfDatum;
+    private final String veranstaltungName;
+    private final String disziplinName;
+
+
+    public ReportWettkampfDO(final Long wettkampfId,
+                             final Long wettkampfTag,
+                             final Date wettkampfDatum,
+                             final String veranstaltungName,
+                             final String disziplinName) {
+        this.wettkampfId = wettkampfId;
+        this.wettkampfTag = wettkampfTag;
+        this.wettkampfDatum = wettkampfDatum;
+        this.veranstaltungName = veranstaltungName;
+        this.disziplinName = disziplinName;
+    }
+
+
+    public Long getWettkampfId() {
+        return wettkampfId;
+    }
+
+
+    public Long getWettkampfTag() {
+        return wettkampfTag;
+    }
+
+
+    public Date getWettkampfDatum() {
+        return wettkampfDatum;
+    }
+
+
+    public String getVeranstaltungName() {
+        return veranstaltungName;
+    }
+
+
+    public String getDisziplinName() {
+        return disziplinName;
+    }
+}
@@ -0,0 +1,134 @@
+package de.bogenliga.application.business.reportdata.impl.business;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.reportdata.api.ReportDataComponent;
+import de.bogenliga.application.business.reportdata.api.types.ReportMitgliedDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportVersionDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportWettkampfDO;
+import de.bogenliga.application.business.reportdata.impl.dao.ReportDataDAO;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportMitgliedBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportWettkampfBE;
+import de.bogenliga.application.business.reportdata.impl.mapper.ReportDataMapper;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * Implementation of {@link ReportDataComponent}
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class ReportDataComponentImpl implements ReportDataComponent {
+
+    private static final String PRECONDITION_MSG_WETTKAMPF_ID = "wettkampfId must not be negative";
+    private static final String PRECONDITION_MSG_MANNSCHAFT_ID = "mannschaftId must not be negative";
+    private static final String PRECONDITION_MSG_DSB_MITGLIED_ID = "dsbMitgliedId must not be negative";
+
+    private final ReportDataDAO reportDataDAO;
+
+
+    /**
+     * Constructor
+     * <p>
+     * dependency injection with {@link Autowired}
+     *
+     * @param reportDataDAO to access the database
+     */
+    @Autowired
+    public ReportDataComponentImpl(final ReportDataDAO reportDataDAO) {
+        this.reportDataDAO = reportDataDAO;
+    }
+
+
+    @Override
+    public ReportWettkampfDO findWettkampf(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        final ReportWettkampfBE result = reportDataDAO.findWettkampf(wettkampfId);
+
+        if (result == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                    String.format("No result found for ID '%s'", wettkampfId));
+        }
+
+        return ReportDataMapper.toReportWettkampfDO.apply(result);
+    }
+
+
+    @Override
+    public List<ReportMitgliedDO> findMeldezettelMitglieder(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        final List<ReportMitgliedBE> reportMitgliedBEList = reportDataDAO.findMeldezettelMitglieder(wettkampfId);
+        return reportMitgliedBEList.stream().map(ReportDataMapper.toReportMitgliedDO).collect(Collectors.toList());
+    }
+
+
+    @Override
+    public List<ReportMitgliedDO> findMannschaftsmitglieder(final long mannschaftId) {
+        Preconditions.checkArgument(mannschaftId >= 0, PRECONDITION_MSG_MANNSCHAFT_ID);
+
+        final List<ReportMitgliedBE> reportMitgliedBEList = reportDataDAO.findMannschaftsmitglieder(mannschaftId);
+        return reportMitgliedBEList.stream().map(ReportDataMapper.toReportMitgliedDO).collect(Collectors.toList());
+    }
+
+
+    @Override
+    public ReportMitgliedDO findMannschaftsmitglied(final long mannschaftId, final long dsbMitgliedId) {
+        Preconditions.checkArgument(mannschaftId >= 0, PRECONDITION_MSG_MANNSCHAFT_ID);
+        Preconditions.checkArgument(dsbMitgliedId >= 0, PRECONDITION_MSG_DSB_MITGLIED_ID);
+
+        final ReportMitgliedBE result = reportDataDAO.findMannschaftsmitglied(mannschaftId, dsbMitgliedId);
+
+        if (result == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                    String.format("No member '%s' found for team '%s'", dsbMitgliedId, mannschaftId));
+        }
+
+        return ReportDataMapper.toReportMitgliedDO.apply(result);
+    }
+
+
+    @Override
+    public ReportVersionDO findSetzlisteVersion(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        return ReportDataMapper.toReportVersionDO.apply(reportDataDAO.findSetzlisteVersion(wettkampfId));
+    }
+
+
+    @Override
+    public ReportVersionDO findSchusszettelVersion(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        return ReportDataMapper.toReportVersionDO.apply(reportDataDAO.findSchusszettelVersion(wettkampfId));
+    }
+
+
+    @Override
+    public ReportVersionDO findMeldezettelVersion(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        return ReportDataMapper.toReportVersionDO.apply(reportDataDAO.findMeldezettelVersion(wettkampfId));
+    }
+
+
+    @Override
+    public ReportVersionDO findBogenkontrolllisteVersion(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
+
+        return ReportDataMapper.toReportVersionDO.apply(reportDataDAO.findBogenkontrolllisteVersion(wettkampfId));
+    }
+
+
+    @Override
+    public ReportVersionDO findMannschaftVersion(final long mannschaftId) {
+        Preconditions.checkArgument(mannschaftId >= 0, PRECONDITION_MSG_MANNSCHAFT_ID);
+
+        return ReportDataMapper.toReportVersionDO.apply(reportDataDAO.findMannschaftVersion(mannschaftId));
+    }
+}
@@ -0,0 +1,451 @@
+package de.bogenliga.application.business.reportdata.impl.dao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportMitgliedBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportVersionBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportWettkampfBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
+import de.bogenliga.application.common.component.dao.DataAccessObject;
+
+/**
+ * DataAccessObject for the data of the generated documents.
+ * <p>
+ * I load all data of a document with joined queries into flat rows, so the number of queries of a document does not
+ * depend on the number of teams or members.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Repository
+public class ReportDataDAO implements DataAccessObject {
+
+    // define the logger context
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportDataDAO.class);
+
+    // table name in the database
+    private static final String TABLE = "mannschaftsmitglied";
+
+    // business entity parameter names
+    private static final String REPORT_BE_WETTKAMPF_ID = "wettkampfId";
+    private static final String REPORT_BE_WETTKAMPF_TAG = "wettkampfTag";
+    private static final String REPORT_BE_WETTKAMPF_DATUM = "wettkampfDatum";
+    private static final String REPORT_BE_VERANSTALTUNG_NAME = "veranstaltungName";
+    private static final String REPORT_BE_DISZIPLIN_NAME = "disziplinName";
+    private static final String REPORT_BE_MANNSCHAFT_ID = "mannschaftId";
+    private static final String REPORT_BE_MANNSCHAFT_NUMMER = "mannschaftNummer";
+    private static final String REPORT_BE_MANNSCHAFT_VEREIN_NAME = "mannschaftVereinName";
+    private static final String REPORT_BE_SCHEIBENNUMMER = "scheibennummer";
+    private static final String REPORT_BE_DSB_MITGLIED_ID = "dsbMitgliedId";
+    private static final String REPORT_BE_VORNAME = "vorname";
+    private static final String REPORT_BE_NACHNAME = "nachname";
+    private static final String REPORT_BE_VEREIN_NAME = "vereinName";
+    private static final String REPORT_BE_RUECKENNUMMER = "rueckennummer";
+    private static final String REPORT_BE_LIZENZNUMMER = "lizenznummer";
+    private static final String REPORT_BE_SPORTJAHR = "sportjahr";
+    private static final String REPORT_BE_VERSION_TABLE = "versionTable";
+    private static final String REPORT_BE_VERSION_ROWS = "versionRows";
+    private static final String REPORT_BE_VERSION_MAX = "versionMax";
+    private static final String REPORT_BE_VERSION_ID_SUM = "versionIdSum";
+    private static final String REPORT_BE_VERSION_LAST_MODIFIED = "versionLastModified";
+
+    // column labels of the queries
+    private static final String REPORT_TABLE_WETTKAMPF_ID = "report_wettkampf_id";
+    private static final String REPORT_TABLE_WETTKAMPF_TAG = "report_wettkampf_tag";
+    private static final String REPORT_TABLE_WETTKAMPF_DATUM = "report_wettkampf_datum";
+    private static final String REPORT_TABLE_VERANSTALTUNG_NAME = "report_veranstaltung_name";
+    private static final String REPORT_TABLE_DISZIPLIN_NAME = "report_disziplin_name";
+    private static final String REPORT_TABLE_MANNSCHAFT_ID = "report_mannschaft_id";
+    private static final String REPORT_TABLE_MANNSCHAFT_NUMMER = "report_mannschaft_nummer";
+    private static final String REPORT_TABLE_MANNSCHAFT_VEREIN_NAME = "report_mannschaft_verein_name";
+    private static final String REPORT_TABLE_SCHEIBENNUMMER = "report_scheibennummer";
+    private static final String REPORT_TABLE_DSB_MITGLIED_ID = "report_dsb_mitglied_id";
+    private static final String REPORT_TABLE_VORNAME = "report_vorname";
+    private static final String REPORT_TABLE_NACHNAME = "report_nachname";
+    private static final String REPORT_TABLE_VEREIN_NAME = "report_verein_name";
+    private static final String REPORT_TABLE_RUECKENNUMMER = "report_rueckennummer";
+    private static final String REPORT_TABLE_LIZENZNUMMER = "report_lizenznummer";
+    private static final String REPORT_TABLE_SPORTJAHR = "report_sportjahr";
+    private static final String REPORT_TABLE_VERSION_TABLE = "report_version_table";
+    private static final String REPORT_TABLE_VERSION_ROWS = "report_version_rows";
+    private static final String REPORT_TABLE_VERSION_MAX = "report_version_max";
+    private static final String REPORT_TABLE_VERSION_ID_SUM = "report_version_id_sum";
+    private static final String REPORT_TABLE_VERSION_LAST_MODIFIED = "report_version_last_modified";
+
+    // wrap all specific config parameters
+    private static final BusinessEntityConfiguration<ReportWettkampfBE> REPORT_WETTKAMPF =
+            new BusinessEntityConfiguration<>(ReportWettkampfBE.class, TABLE, getColumnsToFieldsMap(), LOGGER);
+    private static final BusinessEntityConfiguration<ReportMitgliedBE> REPORT_MITGLIED =
+            new BusinessEntityConfiguration<>(ReportMitgliedBE.class, TABLE, getColumnsToFieldsMap(), LOGGER);
+    private static final BusinessEntityConfiguration<ReportVersionBE> REPORT_VERSION =
+            new BusinessEntityConfiguration<>(ReportVersionBE.class, TABLE, getColumnsToFieldsMap(), LOGGER);
+
+    /*
+     * SQL queries
+     */
+
+    private static final String FIND_WETTKAMPF =
+            "SELECT wettkampf.wettkampf_id AS report_wettkampf_id," +
+                    " wettkampf.wettkampf_tag AS report_wettkampf_tag," +
+                    " wettkampf.wettkampf_datum AS report_wettkampf_datum," +
+                    " veranstaltung.veranstaltung_name AS report_veranstaltung_name," +
+                    " disziplin.disziplin_name AS report_disziplin_name" +
+                    " FROM wettkampf" +
+                    " JOIN veranstaltung ON veranstaltung.veranstaltung_id = wettkampf.wettkampf_veranstaltung_id" +
+                    " LEFT JOIN disziplin ON disziplin.disziplin_id = wettkampf.wettkampf_disziplin_id" +
+                    " WHERE wettkampf.wettkampf_id = ?";
+
+    /* die Mannschaften auf den Scheiben 1 bis 8 im ersten Match des Wettkampfs mit ihren Mitgliedern,
+     * eine Mannschaft ohne Mitglieder liefert eine Zeile ohne Mitglied
+     */
+    private static final String FIND_MELDEZETTEL_MITGLIEDER =
+            "SELECT match.match_scheibennummer AS report_scheibennummer," +
+                    " mannschaft.mannschaft_id AS report_mannschaft_id," +
+                    " mannschaft.mannschaft_nummer AS report_mannschaft_nummer," +
+                    " verein.verein_name AS report_mannschaft_verein_name," +
+                    " dsb_mitglied.dsb_mitglied_id AS report_dsb_mitglied_id," +
+                    " dsb_mitglied.dsb_mitglied_vorname AS report_vorname," +
+                    " dsb_mitglied.dsb_mitglied_nachname AS report_nachname," +
+                    " m.mannschaftsmitglied_rueckennummer AS report_rueckennummer" +
+                    " FROM match" +
+                    " JOIN mannschaft ON mannschaft.mannschaft_id = match.match_mannschaft_id" +
+                    " JOIN verein ON verein.verein_id = mannschaft.mannschaft_verein_id" +
+                    " LEFT JOIN mannschaftsmitglied AS m ON m.mannschaftsmitglied_mannschaft_id = mannschaft.mannschaft_id" +
+                    " LEFT JOIN dsb_mitglied ON dsb_mitglied.dsb_mitglied_id = m.mannschaftsmitglied_dsb_mitglied_id" +
+                    " WHERE match.match_wettkampf_id = ?" +
+                    " AND match.match_nr = 1" +
+                    " AND match.match_scheibennummer BETWEEN 1 AND 8" +
+                    " ORDER BY match.match_scheibennummer, m.mannschaftsmitglied_id";
+
+    /* die Mitglieder einer Mannschaft mit ihrem eigenen Verein und ihrer Lizenz für die Disziplin der Veranstaltung,
+     * die Disziplin ist die Disziplin des ersten Wettkampfs der Veranstaltung (ohne Wettkampftag 0)
+     */
+    private static final String SELECT_MANNSCHAFTSMITGLIEDER =
+            "SELECT mannschaft.mannschaft_id AS report_mannschaft_id," +
+                    " mannschaft.mannschaft_nummer AS report_mannschaft_nummer," +
+                    " verein.verein_name AS report_mannschaft_verein_name," +
+                    " dsb_mitglied.dsb_mitglied_id AS report_dsb_mitglied_id," +
+                    " dsb_mitglied.dsb_mitglied_vorname AS report_vorname," +
+                    " dsb_mitglied.dsb_mitglied_nachname AS report_nachname," +
+                    " mitglied_verein.verein_name AS report_verein_name," +
+                    " m.mannschaftsmitglied_rueckennummer AS report_rueckennummer," +
+                    " veranstaltung.veranstaltung_name AS report_veranstaltung_name," +
+                    " veranstaltung.veranstaltung_sportjahr AS report_sportjahr," +
+                    " (SELECT lizenz.lizenz_nummer" +
+                    " FROM lizenz" +
+                    " WHERE lizenz.lizenz_dsb_mitglied_id = dsb_mitglied.dsb_mitglied_id" +
+                    " AND lizenz.lizenz_disziplin_id = (" +
+                    "SELECT wettkampf.wettkampf_disziplin_id" +
+                    " FROM wettkampf" +
+                    " WHERE wettkampf.wettkampf_tag > 0" +
+                    " AND wettkampf.wettkampf_veranstaltung_id = veranstaltung.veranstaltung_id" +
+                    " ORDER BY wettkampf.wettkampf_datum" +
+                    " LIMIT 1)" +
+                    " LIMIT 1) AS report_lizenznummer" +
+                    " FROM mannschaftsmitglied AS m" +
+                    " JOIN mannschaft ON mannschaft.mannschaft_id = m.mannschaftsmitglied_mannschaft_id" +
+                    " JOIN verein ON verein.verein_id = mannschaft.mannschaft_verein_id" +
+                    " JOIN veranstaltung ON veranstaltung.veranstaltung_id = mannschaft.mannschaft_veranstaltung_id" +
+                    " JOIN dsb_mitglied ON dsb_mitglied.dsb_mitglied_id = m.mannschaftsmitglied_dsb_mitglied_id" +
+                    " LEFT JOIN verein AS mitglied_verein" +
+                    " ON mitglied_verein.verein_id = dsb_mitglied.dsb_mitglied_verein_id" +
+                    " WHERE m.mannschaftsmitglied_mannschaft_id = ?";
+
+    private static final String FIND_MANNSCHAFTSMITGLIEDER =
+            SELECT_MANNSCHAFTSMITGLIEDER +
+                    " ORDER BY m.mannschaftsmitglied_id";
+
+    private static final String FIND_MANNSCHAFTSMITGLIED =
+            SELECT_MANNSCHAFTSMITGLIEDER +
+                    " AND m.mannschaftsmitglied_dsb_mitglied_id = ?";
+
+    /* der Wettkampf der Wettkampf-Dokumente mit dem Sportjahr seiner Veranstaltung */
+    private static final String WITH_WETTKAMPF =
+            "WITH wk AS (SELECT wettkampf.wettkampf_id, wettkampf.wettkampf_veranstaltung_id," +
+                    " wettkampf.wettkampf_disziplin_id, wettkampf.wettkampf_tag, veranstaltung.veranstaltung_sportjahr" +
+                    " FROM wettkampf" +
+                    " JOIN veranstaltung ON veranstaltung.veranstaltung_id = wettkampf.wettkampf_veranstaltung_id" +
+                    " WHERE wettkampf.wettkampf_id = ?)";
+
+    private static final String WK_ID = "SELECT wettkampf_id FROM wk";
+    private static final String WK_VERANSTALTUNG_ID = "SELECT wettkampf_veranstaltung_id FROM wk";
+    private static final String WK_MANNSCHAFT_ID =
+            "SELECT match_mannschaft_id FROM match WHERE match_wettkampf_id IN (" + WK_ID + ")";
+    private static final String WK_DSB_MITGLIED_ID =
+            "SELECT mannschaftsmitglied_dsb_mitglied_id FROM mannschaftsmitglied" +
+                    " WHERE mannschaftsmitglied_mannschaft_id IN (" + WK_MANNSCHAFT_ID + ")";
+
+    /* Setzliste: Ligatabelle aus den Matches des vorherigen Wettkampftags, die Matches des Wettkampftags werden
+     * beim Download erzeugt, Namen der Mannschaften der Veranstaltung und ihrer Vereine
+     */
+    private static final String FIND_SETZLISTE_VERSION =
+            WITH_WETTKAMPF + " " + String.join(" UNION ALL ",
+                    stamp("wettkampf", "wettkampf_id IN (" + WK_ID + ")"),
+                    stamp("veranstaltung", "veranstaltung_id IN (" + WK_VERANSTALTUNG_ID + ")"),
+                    stamp("match", "match_wettkampf_id IN (" +
+                            "SELECT w.wettkampf_id FROM wettkampf AS w" +
+                            " JOIN wk ON wk.wettkampf_veranstaltung_id = w.wettkampf_veranstaltung_id" +
+                            " AND w.wettkampf_tag IN (wk.wettkampf_tag, wk.wettkampf_tag - 1))"),
+                    stamp("mannschaft", "mannschaft_veranstaltung_id IN (" + WK_VERANSTALTUNG_ID + ")"),
+                    stamp("verein", "verein_id IN (" +
+                            "SELECT mannschaft_verein_id FROM mannschaft" +
+                            " WHERE mannschaft_veranstaltung_id IN (" + WK_VERANSTALTUNG_ID + "))"));
+
+    /* Schusszettel: Wettkampftag, Matches des Wettkampfs und die Namen ihrer Mannschaften und Vereine */
+    private static final String FIND_SCHUSSZETTEL_VERSION =
+            WITH_WETTKAMPF + " " + String.join(" UNION ALL ",
+                    stamp("wettkampf", "wettkampf_id IN (" + WK_ID + ")"),
+                    stamp("match", "match_wettkampf_id IN (" + WK_ID + ")"),
+                    stamp("mannschaft", "mannschaft_id IN (" + WK_MANNSCHAFT_ID + ")"),
+                    stamp("verein", "verein_id IN (" +
+                            "SELECT mannschaft_verein_id FROM mannschaft" +
+                            " WHERE mannschaft_id IN (" + WK_MANNSCHAFT_ID + "))"));
+
+    /* Meldezettel: Wettkampf mit Veranstaltung und Disziplin, Matches des Wettkampfs, ihre Mannschaften mit
+     * Vereinen und Mitgliedern
+     */
+    private static final String FIND_MELDEZETTEL_VERSION =
+            WITH_WETTKAMPF + " " + String.join(" UNION ALL ",
+                    stamp("wettkampf", "wettkampf_id IN (" + WK_ID + ")"),
+                    stamp("veranstaltung", "veranstaltung_id IN (" + WK_VERANSTALTUNG_ID + ")"),
+                    stamp("disziplin", "disziplin_id IN (SELECT wettkampf_disziplin_id FROM wk)"),
+                    stamp("match", "match_wettkampf_id IN (" + WK_ID + ")"),
+                    stamp("mannschaft", "mannschaft_id IN (" + WK_MANNSCHAFT_ID + ")"),
+                    stamp("verein", "verein_id IN (" +
+                            "SELECT mannschaft_verein_id FROM mannschaft" +
+                            " WHERE mannschaft_id IN (" + WK_MANNSCHAFT_ID + "))"),
+                    stamp("mannschaftsmitglied", "mannschaftsmitglied_mannschaft_id IN (" + WK_MANNSCHAFT_ID + ")"),
+                    stamp("dsb_mitglied", "dsb_mitglied_id IN (" + WK_DSB_MITGLIED_ID + ")"));
+
+    /* Bogenkontrollliste: Wettkampf mit Veranstaltung, Matches des Wettkampfs, ihre Mannschaften mit Vereinen
+     * und Mitgliedern, dazu die Einsatzberechtigung der Schützen (siehe EligibilityDAO): ihre Mannschaften im
+     * Sportjahr mit deren Matches, Wettkämpfen und Veranstaltungen, ihre Passen in diesen Wettkämpfen und die Ligen
+     */
+    private static final String FIND_BOGENKONTROLLLISTE_VERSION =
+            WITH_WETTKAMPF + "," +
+                    " schuetze (dsb_mitglied_id) AS (" + WK_DSB_MITGLIED_ID + ")," +
+                    " einsatz_mannschaft AS (SELECT m.mannschaftsmitglied_mannschaft_id AS mannschaft_id" +
+                    " FROM mannschaftsmitglied AS m" +
+                    " JOIN mannschaft ON mannschaft.mannschaft_id = m.mannschaftsmitglied_mannschaft_id" +
+                    " JOIN veranstaltung ON veranstaltung.veranstaltung_id = mannschaft.mannschaft_veranstaltung_id" +
+                    " JOIN wk ON wk.veranstaltung_sportjahr = veranstaltung.veranstaltung_sportjahr" +
+                    " WHERE m.mannschaftsmitglied_dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM schuetze))," +
+                    " einsatz_wettkampf AS (SELECT match_wettkampf_id AS wettkampf_id FROM match" +
+                    " WHERE match_mannschaft_id IN (SELECT mannschaft_id FROM einsatz_mannschaft)) " +
+                    String.join(" UNION ALL ",
+                            stamp("wettkampf", "wettkampf_id IN (" + WK_ID + ")" +
+                                    " OR wettkampf_id IN (SELECT wettkampf_id FROM einsatz_wettkampf)"),
+                            stamp("veranstaltung", "veranstaltung_id IN (" + WK_VERANSTALTUNG_ID + ")" +
+                                    " OR veranstaltung_id IN (" +
+                                    "SELECT wettkampf_veranstaltung_id FROM wettkampf" +
+                                    " WHERE wettkampf_id IN (SELECT wettkampf_id FROM einsatz_wettkampf))"),
+                            stamp("match", "match_wettkampf_id IN (" + WK_ID + ")" +
+                                    " OR match_mannschaft_id IN (SELECT mannschaft_id FROM einsatz_mannschaft)"),
+                            stamp("mannschaft", "mannschaft_id IN (" + WK_MANNSCHAFT_ID + ")" +
+                                    " OR mannschaft_id IN (SELECT mannschaft_id FROM einsatz_mannschaft)"),
+                            stamp("verein", "verein_id IN (" +
+                                    "SELECT mannschaft_verein_id FROM mannschaft" +
+                                    " WHERE mannschaft_id IN (" + WK_MANNSCHAFT_ID + "))"),
+                            stamp("mannschaftsmitglied",
+                                    "mannschaftsmitglied_dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM schuetze)"),
+                            stamp("dsb_mitglied", "dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM schuetze)"),
+                            stamp("passe", "passe_wettkampf_id IN (SELECT wettkampf_id FROM einsatz_wettkampf)" +
+                                    " AND passe_dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM schuetze)"),
+                            stamp("liga", null));
+
+    /* Rückennummern und Lizenzen: die Mannschaft mit Veranstaltung und deren Wettkämpfen (Disziplin der Lizenzen),
+     * ihre Mitglieder, deren Lizenzen und die Vereine der Mannschaft und der Mitglieder
+     */
+    private static final String FIND_MANNSCHAFT_VERSION =
+            "WITH ms AS (SELECT mannschaft_id, mannschaft_verein_id, mannschaft_veranstaltung_id" +
+                    " FROM mannschaft WHERE mannschaft_id = ?)," +
+                    " mitglied AS (SELECT mannschaftsmitglied_dsb_mitglied_id AS dsb_mitglied_id FROM mannschaftsmitglied" +
+                    " WHERE mannschaftsmitglied_mannschaft_id IN (SELECT mannschaft_id FROM ms)) " +
+                    String.join(" UNION ALL ",
+                            stamp("mannschaft", "mannschaft_id IN (SELECT mannschaft_id FROM ms)"),
+                            stamp("veranstaltung",
+                                    "veranstaltung_id IN (SELECT mannschaft_veranstaltung_id FROM ms)"),
+                            stamp("wettkampf",
+                                    "wettkampf_veranstaltung_id IN (SELECT mannschaft_veranstaltung_id FROM ms)"),
+                            stamp("mannschaftsmitglied",
+                                    "mannschaftsmitglied_mannschaft_id IN (SELECT mannschaft_id FROM ms)"),
+                            stamp("dsb_mitglied", "dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM mitglied)"),
+                            stamp("lizenz", "lizenz_dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM mitglied)"),
+                            stamp("verein", "verein_id IN (" +
+                                    "SELECT mannschaft_verein_id FROM ms" +
+                                    " UNION" +
+                                    " SELECT dsb_mitglied_verein_id FROM dsb_mitglied" +
+                                    " WHERE dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM mitglied))"));
+
+    private final BasicDAO basicDao;
+
+
+    /**
+     * Initialize the transaction manager to provide a database connection
+     *
+     * @param basicDao to handle the commonly used database operations
+     */
+    @Autowired
+    public ReportDataDAO(final BasicDAO basicDao) {
+        this.basicDao = basicDao;
+    }
+
+
+    // table column label mapping to the business entity parameter names
+    private static Map<String, String> getColumnsToFieldsMap() {
+        final Map<String, String> columnsToFieldsMap = new HashMap<>();
+
+        columnsToFieldsMap.put(REPORT_TABLE_WETTKAMPF_ID, REPORT_BE_WETTKAMPF_ID);
+        columnsToFieldsMap.put(REPORT_TABLE_WETTKAMPF_TAG, REPORT_BE_WETTKAMPF_TAG);
+        columnsToFieldsMap.put(REPORT_TABLE_WETTKAMPF_DATUM, REPORT_BE_WETTKAMPF_DATUM);
+        columnsToFieldsMap.put(REPORT_TABLE_VERANSTALTUNG_NAME, REPORT_BE_VERANSTALTUNG_NAME);
+        columnsToFieldsMap.put(REPORT_TABLE_DISZIPLIN_NAME, REPORT_BE_DISZIPLIN_NAME);
+        columnsToFieldsMap.put(REPORT_TABLE_MANNSCHAFT_ID, REPORT_BE_MANNSCHAFT_ID);
+        columnsToFieldsMap.put(REPORT_TABLE_MANNSCHAFT_NUMMER, REPORT_BE_MANNSCHAFT_NUMMER);
+        columnsToFieldsMap.put(REPORT_TABLE_MANNSCHAFT_VEREIN_NAME, REPORT_BE_MANNSCHAFT_VEREIN_NAME);
+        columnsToFieldsMap.put(REPORT_TABLE_SCHEIBENNUMMER, REPORT_BE_SCHEIBENNUMMER);
+        columnsToFieldsMap.put(REPORT_TABLE_DSB_MITGLIED_ID, REPORT_BE_DSB_MITGLIED_ID);
+        columnsToFieldsMap.put(REPORT_TABLE_VORNAME, REPORT_BE_VORNAME);
+        columnsToFieldsMap.put(REPORT_TABLE_NACHNAME, REPORT_BE_NACHNAME);
+        columnsToFieldsMap.put(REPORT_TABLE_VEREIN_NAME, REPORT_BE_VEREIN_NAME);
+        columnsToFieldsMap.put(REPORT_TABLE_RUECKENNUMMER, REPORT_BE_RUECKENNUMMER);
+        columnsToFieldsMap.put(REPORT_TABLE_LIZENZNUMMER, REPORT_BE_LIZENZNUMMER);
+        columnsToFieldsMap.put(REPORT_TABLE_SPORTJAHR, REPORT_BE_SPORTJAHR);
+        columnsToFieldsMap.put(REPORT_TABLE_VERSION_TABLE, REPORT_BE_VERSION_TABLE);
+        columnsToFieldsMap.put(REPORT_TABLE_VERSION_ROWS, REPORT_BE_VERSION_ROWS);
+        columnsToFieldsMap.put(REPORT_TABLE_VERSION_MAX, REPORT_BE_VERSION_MAX);
+        columnsToFieldsMap.put(REPORT_TABLE_VERSION_ID_SUM, REPORT_BE_VERSION_ID_SUM);
+        columnsToFieldsMap.put(REPORT_TABLE_VERSION_LAST_MODIFIED, REPORT_BE_VERSION_LAST_MODIFIED);
+
+        return columnsToFieldsMap;
+    }
+
+
+    /* der Stempel der Zeilen einer Tabelle, die ein Dokument liest:
+     * ein Einfügen oder Löschen ändert die Anzahl und die Summe der Ids, ein Ändern die Version und die letzte
+     * Änderung der Zeile
+     */
+    private static String stamp(final String table, final String condition) {
+        return "SELECT '" + table + "' AS report_version_table," +
+                " COUNT(*) AS report_version_rows," +
+                " CAST(COALESCE(MAX(version), 0) AS BIGINT) AS report_version_max," +
+                " CAST(COALESCE(SUM(" + table + "_id), 0) AS BIGINT) AS report_version_id_sum," +
+                " MAX(COALESCE(last_modified_at_utc, created_at_utc)) AS report_version_last_modified" +
+                " FROM " + table +
+                (condition == null ? "" : " WHERE " + condition);
+    }
+
+
+    /**
+     * Returns the Wettkampf with the names of its Veranstaltung and Disziplin
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return the Wettkampf or null, if the Wettkampf does not exist
+     */
+    public ReportWettkampfBE findWettkampf(final long wettkampfId) {
+        return basicDao.selectSingleEntity(REPORT_WETTKAMPF, FIND_WETTKAMPF, wettkampfId);
+    }
+
+
+    /**
+     * Returns the members of the teams of the first match of a Wettkampf
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return one entry for each member, ordered by the Scheibennummer of the team
+     */
+    public List<ReportMitgliedBE> findMeldezettelMitglieder(final long wettkampfId) {
+        return basicDao.selectEntityList(REPORT_MITGLIED, FIND_MELDEZETTEL_MITGLIEDER, wettkampfId);
+    }
+
+
+    /**
+     * Returns the members of a team with their Verein and Lizenz
+     *
+     * @param mannschaftId of the team
+     *
+     * @return one entry for each member
+     */
+    public List<ReportMitgliedBE> findMannschaftsmitglieder(final long mannschaftId) {
+        return basicDao.selectEntityList(REPORT_MITGLIED, FIND_MANNSCHAFTSMITGLIEDER, mannschaftId);
+    }
+
+
+    /**
+     * Returns a member of a team with the Verein and Lizenz
+     *
+     * @param mannschaftId  of the team
+     * @param dsbMitgliedId of the member
+     *
+     * @return the member or null, if the dsb mitglied is not a member of the team
+     */
+    public ReportMitgliedBE findMannschaftsmitglied(final long mannschaftId, final long dsbMitgliedId) {
+        return basicDao.selectSingleEntity(REPORT_MITGLIED, FIND_MANNSCHAFTSMITGLIED, mannschaftId, dsbMitgliedId);
+    }
+
+
+    /**
+     * Returns the version stamp of the data of the Setzliste
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return one version stamp for each table, which is read by the Setzliste
+     */
+    public List<ReportVersionBE> findSetzlisteVersion(final long wettkampfId) {
+        return basicDao.selectEntityList(REPORT_VERSION, FIND_SETZLISTE_VERSION, wettkampfId);
+    }
+
+
+    /**
+     * Returns the version stamp of the data of the Schusszettel of a Wettkampf
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return one version stamp for each table, which is read by the Schusszettel
+     */
+    public List<ReportVersionBE> findSchusszettelVersion(final long wettkampfId) {
+        return basicDao.selectEntityList(REPORT_VERSION, FIND_SCHUSSZETTEL_VERSION, wettkampfId);
+    }
+
+
+    /**
+     * Returns the version stamp of the data of the Meldezettel
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return one version stamp for each table, which is read by the Meldezettel
+     */
+    public List<ReportVersionBE> findMeldezettelVersion(final long wettkampfId) {
+        return basicDao.selectEntityList(REPORT_VERSION, FIND_MELDEZETTEL_VERSION, wettkampfId);
+    }
+
+
+    /**
+     * Returns the version stamp of the data of the Bogenkontrollliste
+     *
+     * @param wettkampfId of the Wettkampf
+     *
+     * @return one version stamp for each table, which is read by the Bogenkontrollliste
+     */
+    public List<ReportVersionBE> findBogenkontrolllisteVersion(final long wettkampfId) {
+        return basicDao.selectEntityList(REPORT_VERSION, FIND_BOGENKONTROLLLISTE_VERSION, wettkampfId);
+    }
+
+
+    /**
+     * Returns the version stamp of the data of the team documents, e.g. the Rückennummern or the Lizenzen
+     *
+     * @param mannschaftId of the team
+     *
+     * @return one version stamp for each table, which is read by the team documents
+     */
+    public List<ReportVersionBE> findMannschaftVersion(final long mannschaftId) {
+        return basicDao.selectEntityList(REPORT_VERSION, FIND_MANNSCHAFT_VERSION, mannschaftId);
+    }
+}
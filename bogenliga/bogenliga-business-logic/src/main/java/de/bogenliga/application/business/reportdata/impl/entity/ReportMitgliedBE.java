@@ -0,0 +1,172 @@
+package de.bogenliga.application.business.reportdata.impl.entity;
+
+import de.bogenliga.application.common.component.entity.BusinessEntity;
+
+/**
+ * I am a flat row of a team document with a member of a team and the names of all referenced entities.
+ * <p>
+ * The Verein of the team and the Verein of the member may differ. The Lizenz is the Lizenz of the member for the
+ * Disziplin of the Veranstaltung of the team.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class ReportMitgliedBE implements BusinessEntity {
+    private static final long serialVersionUID = 2528935931079659191L;
+
+    private Long mannschaftId;
+    private Long mannschaftNummer;
+    private String mannschaftVereinName;
+    private Long scheibennummer;
+    private Long dsbMitgliedId;
+    private String vorname;
+    private String nachname;
+    private String vereinName;
+    private Long rueckennummer;
+    private String lizenznummer;
+    private String veranstaltungName;
+    private Long sportjahr;
+
+
+    public ReportMitgliedBE() {
+        // empty constructor
+    }
+
+
+    public Long getMannschaftId() {
+        return mannschaftId;
+    }
+
+
+    public void setMannschaftId(final Long mannschaftId) {
+        this.mannschaftId = mannschaftId;
+    }
+
+
+    public Long getMannschaftNummer() {
+        return mannschaftNummer;
+    }
+
+
+    public void setMannschaftNummer(final Long mannschaftNummer) {
+        this.mannschaftNummer = mannschaftNummer;
+    }
+
+
+    public String getMannschaftVereinName() {
+        return mannschaftVereinName;
+    }
+
+
+    public void setMannschaftVereinName(final String mannschaftVereinName) {
+        this.mannschaftVereinName = mannschaftVereinName;
+    }
+
+
+    public Long getScheibennummer() {
+        return scheibennummer;
+    }
+
+
+    public void setScheibennummer(final Long scheibennummer) {
+        this.scheibennummer = scheibennummer;
+    }
+
+
+    public Long getDsbMitgliedId() {
+        return dsbMitgliedId;
+    }
+
+
+    public void setDsbMitgliedId(final Long dsbMitgliedId) {
+        this.dsbMitgliedId = dsbMitgliedId;
+    }
+
+
+    public String getVorname() {
+        return vorname;
+    }
+
+
+    public void setVorname(final String vorname) {
+        this.vorname = vorname;
+    }
+
+
+    public String getNachname() {
+        return nachname;
+    }
+
+
+    public void setNachname(final String nachname) {
+        this.nachname = nachname;
+    }
+
+
+    public String getVereinName() {
+        return vereinName;
+    }
+
+
+    public void setVereinName(final String vereinName) {
+        this.vereinName = vereinName;
+    }
+
+
+    public Long getRueckennummer() {
+        return rueckennummer;
+    }
+
+
+    public void setRueckennummer(final Long rueckennummer) {
+        this.rueckennummer = rueckennummer;
+    }
+
+
+    public String getLizenznummer() {
+        return lizenznummer;
+    }
+
+
+    public void setLizenznummer(final String lizenznummer) {
+        this.lizenznummer = lizenznummer;
+    }
+
+
+    public String getVeranstaltungName() {
+        return veranstaltungName;
+    }
+
+
+    public void setVeranstaltungName(final String veranstaltungName) {
+        this.veranstaltungName = veranstaltungName;
+    }
+
+
+    public Long getSportjahr() {
+        return sportjahr;
+    }
+
+
+    public void setSportjahr(final Long sportjahr) {
+        this.sportjahr = sportjahr;
+    }
+
+
+    @Override
+    public String toString() {
+        return "ReportMitgliedBE{" +
+                "mannschaftId=" + mannschaftId +
+                ", mannschaftNummer=" + mannschaftNummer +
+                ", mannschaftVereinName='" + mannschaftVereinName + '\'' +
+                ", scheibennummer=" + scheibennummer +
+                ", dsbMitgliedId=" + dsbMitgliedId +
+                ", vorname='" + vorname + '\'' +
+                ", nachname='" + nachname + '\'' +
+                ", vereinName='" + vereinName + '\'' +
+                ", rueckennummer=" + rueckennummer +
+                ", lizenznummer='" + lizenznummer + '\'' +
+                ", veranstaltungName='" + veranstaltungName + '\'' +
+                ", sportjahr=" + sportjahr +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package de.bogenliga.application.business.reportdata.impl.entity;
+
+import java.sql.Timestamp;
+import de.bogenliga.application.common.component.entity.BusinessEntity;
+
+/**
+ * I am the version stamp of the rows of a table, which are read by a document, aggregated over the technical columns
+ * of the rows.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class ReportVersionBE implements BusinessEntity {
+    private static final long serialVersionUID = -2405906470969937853L;
+
+    private String versionTable;
+    private Long versionRows;
+    private Long versionMax;
+    private Long versionIdSum;
+    private Timestamp versionLastModified;
+
+
+    public ReportVersionBE() {
+        // empty constructor
+    }
+
+
+    public String getVersionTable() {
+        return versionTable;
+    }
+
+
+    public void setVersionTable(final String versionTable) {
+        this.versionTable = versionTable;
+    }
+
+
+    public Long getVersionRows() {
+        return versionRows;
+    }
+
+
+    public void setVersionRows(final Long versionRows) {
+        this.versionRows = versionRows;
+    }
+
+
+    public Long getVersionMax() {
+        return versionMax;
+    }
+
+
+    public void setVersionMax(final Long versionMax) {
+        this.versionMax = versionMax;
+    }
+
+
+    public Long getVersionIdSum() {
+        return versionIdSum;
+    }
+
+
+    public void setVersionIdSum(final Long versionIdSum) {
+        this.versionIdSum = versionIdSum;
+    }
+
+
+    public Timestamp getVersionLastModified() {
+        return versionLastModified;
+    }
+
+
+    public void setVersionLastModified(final Timestamp versionLastModified) {
+        this.versionLastModified = versionLastModified;
+    }
+
+
+    @Override
+    public String toString() {
+        return "ReportVersionBE{" +
+                "versionTable='" + versionTable + '\'' +
+                ", versionRows=" + versionRows +
+                ", versionMax=" + versionMax +
+                ", versionIdSum=" + versionIdSum +
+                ", versionLastModified=" + versionLastModified +
+                '}';
+    }
+}
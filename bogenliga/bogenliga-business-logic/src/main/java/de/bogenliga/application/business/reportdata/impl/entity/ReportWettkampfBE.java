@@ -0,0 +1,86 @@
+package de.bogenliga.application.business.reportdata.impl.entity;
+
+import java.sql.Date;
+import de.bogenliga.application.common.component.entity.BusinessEntity;
+
+/**
+ * I am the head of a Wettkampf document with the names of the Veranstaltung and the Disziplin.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class ReportWettkampfBE implements BusinessEntity {
+    private static final long serialVersionUID = 1721745873632603464L;
+
+    private Long wettkampfId;
+    private Long wettkampfTag;
+    private Date wettkampfDatum;
+    private String veranstaltungName;
+    private String disziplinName;
+
+
+    public ReportWettkampfBE() {
+        // empty constructor
+    }
+
+
+    public Long getWettkampfId() {
+        return wettkampfId;
+    }
+
+
+    public void setWettkampfId(final Long wettkampfId) {
+        this.wettkampfId = wettkampfId;
+    }
+
+
+    public Long getWettkampfTag() {
+        return wettkampfTag;
+    }
+
+
+    public void setWettkampfTag(final Long wettkampfTag) {
+        this.wettkampfTag = wettkampfTag;
+    }
+
+
+    public Date getWettkampfDatum() {
+        return wettkampfDatum;
+    }
+
+
+    public void setWettkampfDatum(final Date wettkampfDatum) {
+        this.wettkampfDatum = wettkampfDatum;
+    }
+
+
+    public String getVeranstaltungName() {
+        return veranstaltungName;
+    }
+
+
+    public void setVeranstaltungName(final String veranstaltungName) {
+        this.veranstaltungName = veranstaltungName;
+    }
+
+
+    public String getDisziplinName() {
+        return disziplinName;
+    }
+
+
+    public void setDisziplinName(final String disziplinName) {
+        this.disziplinName = disziplinName;
+    }
+
+
+    @Override
+    public String toString() {
+        return "ReportWettkampfBE{" +
+                "wettkampfId=" + wettkampfId +
+                ", wettkampfTag=" + wettkampfTag +
+                ", wettkampfDatum=" + wettkampfDatum +
+                ", veranstaltungName='" + veranstaltungName + '\'' +
+                ", disziplinName='" + disziplinName + '\'' +
+                '}';
+    }
+}
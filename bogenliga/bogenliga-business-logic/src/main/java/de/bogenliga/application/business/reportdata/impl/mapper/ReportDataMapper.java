@@ -0,0 +1,75 @@
+package de.bogenliga.application.business.reportdata.impl.mapper;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import de.bogenliga.application.business.reportdata.api.types.ReportMitgliedDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportVersionDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportWettkampfDO;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportMitgliedBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportVersionBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportWettkampfBE;
+import de.bogenliga.application.common.component.mapping.ValueObjectMapper;
+
+/**
+ * I map the flat rows of the report queries to the data objects of the documents.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class ReportDataMapper implements ValueObjectMapper {
+
+    public static final Function<ReportWettkampfBE, ReportWettkampfDO> toReportWettkampfDO = be ->
+            new ReportWettkampfDO(be.getWettkampfId(), be.getWettkampfTag(), be.getWettkampfDatum(),
+                    be.getVeranstaltungName(), be.getDisziplinName());
+
+    public static final Function<ReportMitgliedBE, ReportMitgliedDO> toReportMitgliedDO = be ->
+            new ReportMitgliedDO(be.getMannschaftId(), be.getMannschaftNummer(), be.getMannschaftVereinName(),
+                    be.getScheibennummer(), be.getDsbMitgliedId(), be.getVorname(), be.getNachname(),
+                    be.getVereinName(), be.getRueckennummer(), be.getLizenznummer(), be.getVeranstaltungName(),
+                    be.getSportjahr());
+
+    /**
+     * I combine the stamps of the tables of a document, ordered by the table names, to the stamp of the document.
+     */
+    public static final Function<List<ReportVersionBE>, ReportVersionDO> toReportVersionDO = beList -> {
+        final List<ReportVersionBE> tables = beList.stream()
+                .sorted(Comparator.comparing(ReportVersionBE::getVersionTable,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+
+        final StringJoiner stamp = new StringJoiner(";");
+        Timestamp lastModified = null;
+
+        for (final ReportVersionBE be : tables) {
+            final Timestamp tableLastModified = be.getVersionLastModified();
+
+            stamp.add(be.getVersionTable() + ":"
+                    + valueOf(be.getVersionRows()) + "."
+                    + valueOf(be.getVersionMax()) + "."
+                    + valueOf(be.getVersionIdSum()) + "."
+                    + (tableLastModified == null ? -1 : tableLastModified.getTime()));
+
+            if (tableLastModified != null && (lastModified == null || tableLastModified.after(lastModified))) {
+                lastModified = tableLastModified;
+            }
+        }
+
+        return new ReportVersionDO(stamp.toString(), lastModified);
+    };
+
+
+    /**
+     * Private constructor
+     */
+    private ReportDataMapper() {
+        // empty private constructor
+    }
+
+
+    private static long valueOf(final Long value) {
+        return value == null ? 0 : value;
+    }
+}
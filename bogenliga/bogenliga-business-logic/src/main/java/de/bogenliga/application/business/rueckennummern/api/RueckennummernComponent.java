@@ -1,5 +1,7 @@
 package de.bogenliga.application.business.rueckennummern.api;
 
+import java.io.OutputStream;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.common.component.ComponentFacade;
 
 /**
@@ -17,6 +19,22 @@ public interface RueckennummernComponent extends ComponentFacade {
      */
     byte[] getRueckennummerPDFasByteArray(long dsbMannschaftsId, long dsbMitgliedId);
 
+    /**
+     * Writes the pdf page by page to the output stream, the stream is not closed
+     * @param dsbMannschaftsId ID of the mannschaft
+     * @param dsbMitgliedId ID of the dsbMitglied
+     * @param outputStream target of the document, e.g. the response body
+     */
+    void writeRueckennummerPDF(long dsbMannschaftsId, long dsbMitgliedId, OutputStream outputStream);
+
+    /**
+     * Loads the data of the pdf, the document is written later without database access
+     * @param dsbMannschaftsId ID of the mannschaft
+     * @param dsbMitgliedId ID of the dsbMitglied
+     * @return writer of the document
+     */
+    DocumentWriter prepareRueckennummerPDF(long dsbMannschaftsId, long dsbMitgliedId);
+
     /**
      * Generates a pdf as binary document for a whole mannschaft
      * @param dsbMannschaftsId ID of the mannschaft
@@ -24,4 +42,18 @@ public interface RueckennummernComponent extends ComponentFacade {
      */
     byte[] getMannschaftsRueckennummernPDFasByteArray(long dsbMannschaftsId);
 
+    /**
+     * Writes the pdf page by page to the output stream, the stream is not closed
+     * @param dsbMannschaftsId ID of the mannschaft
+     * @param outputStream target of the document, e.g. the response body
+     */
+    void writeMannschaftsRueckennummernPDF(long dsbMannschaftsId, OutputStream outputStream);
+
+    /**
+     * Loads the data of the pdf, the document is written later without database access
+     * @param dsbMannschaftsId ID of the mannschaft
+     * @return writer of the document
+     */
+    DocumentWriter prepareMannschaftsRueckennummernPDF(long dsbMannschaftsId);
+
 }
@@ -1,5 +1,7 @@
 package de.bogenliga.application.business.schusszettel.api;
 
+import java.io.OutputStream;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.common.component.ComponentFacade;
 
 /**
@@ -14,6 +16,20 @@ public interface SchusszettelComponent extends ComponentFacade {
      */
     byte[] getAllSchusszettelPDFasByteArray(long wettkampfid);
 
+    /**
+     * Writes the pdf page by page to the output stream, the stream is not closed
+     * @param wettkampfid ID for the competition
+     * @param outputStream target of the document, e.g. the response body
+     */
+    void writeAllSchusszettelPDF(long wettkampfid, OutputStream outputStream);
+
+    /**
+     * Loads the data of the pdf, the document is written later without database access
+     * @param wettkampfid ID for the competition
+     * @return writer of the document
+     */
+    DocumentWriter prepareAllSchusszettelPDF(long wettkampfid);
+
     /**
      * Generates a pdf as binary document
      * @param matchId1 ID for the first match
@@ -22,4 +38,20 @@ public interface SchusszettelComponent extends ComponentFacade {
      */
     byte[] getFilledSchusszettelPDFasByteArray(long matchId1, long matchId2);
 
+    /**
+     * Writes the pdf page by page to the output stream, the stream is not closed
+     * @param matchId1 ID for the first match
+     * @param matchId2 ID for the second match
+     * @param outputStream target of the document, e.g. the response body
+     */
+    void writeFilledSchusszettelPDF(long matchId1, long matchId2, OutputStream outputStream);
+
+    /**
+     * Loads the data of the pdf, the document is written later without database access
+     * @param matchId1 ID for the first match
+     * @param matchId2 ID for the second match
+     * @return writer of the document
+     */
+    DocumentWriter prepareFilledSchusszettelPDF(long matchId1, long matchId2);
+
 }
@@ -2,12 +2,14 @@ package de.bogenliga.application.business.schusszettel.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import com.itextpdf.kernel.geom.PageSize;
@@ -17,7 +19,6 @@ import com.itextpdf.kernel.pdf.canvas.draw.DottedLine;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.borders.SolidBorder;
-import com.itextpdf.layout.element.AreaBreak;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.element.LineSeparator;
@@ -25,17 +26,15 @@ import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.property.TextAlignment;
 import com.itextpdf.layout.property.UnitValue;
+import de.bogenliga.application.business.document.api.DocumentRenderingComponent;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.passe.api.PasseComponent;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
 import de.bogenliga.application.business.schusszettel.api.SchusszettelComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
@@ -57,50 +56,98 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
 
     private final MatchComponent matchComponent;
     private final PasseComponent passeComponent;
-    private final DsbMannschaftComponent dsbMannschaftComponent;
     private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
-    private final VereinComponent vereinComponent;
     private final WettkampfComponent wettkampfComponent;
+    private final DocumentRenderingComponent documentRenderingComponent;
 
     @Autowired
     public SchusszettelComponentImpl(final MatchComponent matchComponent,
                                      final PasseComponent passeComponent,
-                                     final DsbMannschaftComponent dsbMannschaftComponent,
                                      final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
-                                     final VereinComponent vereinComponent,
-                                     final WettkampfComponent wettkampfComponent) {
+                                     final WettkampfComponent wettkampfComponent,
+                                     final DocumentRenderingComponent documentRenderingComponent) {
         this.matchComponent = matchComponent;
         this.passeComponent = passeComponent;
-        this.dsbMannschaftComponent = dsbMannschaftComponent;
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
-        this.vereinComponent = vereinComponent;
         this.wettkampfComponent = wettkampfComponent;
+        this.documentRenderingComponent = documentRenderingComponent;
     }
 
     @Override
     public byte[] getAllSchusszettelPDFasByteArray(long wettkampfid) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeAllSchusszettelPDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+    @Override
+    public void writeAllSchusszettelPDF(long wettkampfid, OutputStream outputStream) {
+        prepareAllSchusszettelPDF(wettkampfid).writeTo(outputStream);
+    }
+
+    @Override
+    public DocumentWriter prepareAllSchusszettelPDF(long wettkampfid) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
         List<MatchDO> matchDOList = matchComponent.findByWettkampfId(wettkampfid);
 
-        byte[] bResult;
         if (matchDOList.size() != 0) {
-            bResult = generateDoc(matchDOList).toByteArray();
+            return prepareDoc(matchDOList);
         }else{
             throw new BusinessException(ErrorCode.UNEXPECTED_ERROR, "Matches für den Wettkampf noch nicht erzeugt");
         }
-        return bResult;
     }
 
     @Override
     public byte[] getFilledSchusszettelPDFasByteArray(long matchId1, long matchId2) {
-        MatchDO match1 = matchComponent.findById(matchId1);
-        MatchDO match2 = matchComponent.findById(matchId2);
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeFilledSchusszettelPDF(matchId1, matchId2, result);
+        return result.toByteArray();
+    }
+
+    @Override
+    public void writeFilledSchusszettelPDF(long matchId1, long matchId2, OutputStream outputStream) {
+        prepareFilledSchusszettelPDF(matchId1, matchId2).writeTo(outputStream);
+    }
+
+    @Override
+    public DocumentWriter prepareFilledSchusszettelPDF(long matchId1, long matchId2) {
+        MatchDO[] matchDOs = {matchComponent.findById(matchId1), matchComponent.findById(matchId2)};
 
-        List<PasseDO> passen1 = passeComponent.findByMatchId(match1.getId());
-        List<PasseDO> passen2 = passeComponent.findByMatchId(match2.getId());
+        List<PasseDO>[] passenDOs = new List[]{
+                passeComponent.findByMatchId(matchDOs[0].getId()),
+                passeComponent.findByMatchId(matchDOs[1].getId())};
+
+        //load all data of the page before it is written
+        Long wettkampfTag = wettkampfComponent.findById(matchDOs[0].getWettkampfId()).getWettkampfTag();
+        String[] mannschaftName = getMannschaftsNamen(matchDOs, getMannschaftsNamenByMatches(Arrays.asList(matchDOs)));
+
+        List<Map<Long, List<PasseDO>>> schuetzenPassen = new ArrayList<>();
+        Map<Long, String> rueckennummern = new HashMap<>();
+        for (int i = 0; i < 2; i++) {
+            Map<Long, List<PasseDO>> schuetzenPasseMap = getSchuetzenPasseMap(passenDOs[i]);
+            schuetzenPassen.add(schuetzenPasseMap);
 
-        return generateFilledDoc(match1, match2, passen1, passen2).toByteArray();
+            // load all mannschaftsmitglieder of the team at once instead of one query per Schuetze
+            Map<Long, MannschaftsmitgliedDO> mannschaftsmitglieder = getMannschaftsmitglieder(
+                    matchDOs[i].getMannschaftId());
+
+            for (Long dsbMitgliedId : schuetzenPasseMap.keySet()) {
+                // Get matching mannschaftsMitgliedDO to dsb_mitglied_id for this match to get Rueckennummer
+                MannschaftsmitgliedDO mannschaftsmitgliedDO = mannschaftsmitglieder.get(dsbMitgliedId);
+                if (mannschaftsmitgliedDO == null) {
+                    throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                            String.format("No result found for mannschaftId '%s' and mitgliedId '%s",
+                                    matchDOs[i].getMannschaftId(), dsbMitgliedId));
+                }
+                rueckennummern.put(dsbMitgliedId, mannschaftsmitgliedDO.getRueckennummer() == null
+                        ? "NaN"
+                        : mannschaftsmitgliedDO.getRueckennummer().toString());
+            }
+        }
+
+        return outputStream -> generateFilledDoc(matchDOs, passenDOs, wettkampfTag, mannschaftName, schuetzenPassen,
+                rueckennummern, outputStream);
     }
 
 
@@ -108,34 +155,61 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
      * <p>Creates a Schusszettel with the values from the database filled in
      * </p>
      */
-    private ByteArrayOutputStream generateFilledDoc(MatchDO match1, MatchDO match2, List<PasseDO> passen1, List<PasseDO> passen2) {
-        ByteArrayOutputStream ret;
-        try (final ByteArrayOutputStream result = new ByteArrayOutputStream();
-             final PdfWriter writer = new PdfWriter(result);
+    private void generateFilledDoc(MatchDO[] matchDOs, List<PasseDO>[] passenDOs, Long wettkampfTag,
+                                   String[] mannschaftName, List<Map<Long, List<PasseDO>>> schuetzenPassen,
+                                   Map<Long, String> rueckennummern, OutputStream outputStream) {
+        try (final PdfWriter writer = new PdfWriter(outputStream);
              final PdfDocument pdfDocument = new PdfDocument(writer);
              final Document doc = new Document(pdfDocument, PageSize.A4)) {
 
-            generateFilledSchusszettelPage(doc, new MatchDO[] {match1, match2}, new List[]{passen1, passen2});
+            writer.setCloseStream(false);
+            generateFilledSchusszettelPage(doc, matchDOs, passenDOs, wettkampfTag, mannschaftName, schuetzenPassen,
+                    rueckennummern);
             doc.close();
-            ret = result;
 
         } catch (final IOException e) {
             throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
                     "PDF Dokument konnte nicht erstellt werden: " + e);
         }
-        return ret;
+    }
 
+    /**
+     * <p>Creates a map with the Passen of each Schuetze from the unorganized list of all Passen of a match,
+     * only the first 3 Schuetzen with 5 Passen each are picked
+     * </p>
+     */
+    private Map<Long, List<PasseDO>> getSchuetzenPasseMap(List<PasseDO> passenDOs) {
+        Map<Long, List<PasseDO>> schuetzenPasseMap = new HashMap<>();
+        for (PasseDO passeDO : passenDOs) {
+            // schuetzenPasseMap.computeIfAbsent(passeDO.getPasseDsbMitgliedId(), k -> new ArrayList<>());
+            // schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).add(passeDO);
+
+            // Only pick 3 schuetzen
+            if (!schuetzenPasseMap.containsKey(passeDO.getPasseDsbMitgliedId())) {
+                if (schuetzenPasseMap.size() < 3) {
+                    schuetzenPasseMap.put(passeDO.getPasseDsbMitgliedId(), new ArrayList<>());
+                    schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).add(passeDO);
+                }
+            } else {
+                // Only add 5 passen
+                if (schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).size() < 5) {
+                    schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).add(passeDO);
+                }
+            }
+        }
+        return schuetzenPasseMap;
     }
 
     /**
      * <p>Creates the pdf document for Schusszettel with the values from the database filled in
      * </p>
      * @param doc document to write
+     * @param rueckennummern Rueckennummern of the picked Schuetzen by dsb_mitglied_id
      */
-    private void generateFilledSchusszettelPage(Document doc, MatchDO[] matchDOs, List<PasseDO>[] passenDOs) {
-
-        Long wettkampfTag = wettkampfComponent.findById(matchDOs[0].getWettkampfId()).getWettkampfTag();
-        String[] mannschaftName = { getMannschaftsNameByID(matchDOs[0].getMannschaftId()), getMannschaftsNameByID(matchDOs[1].getMannschaftId())};
+    private void generateFilledSchusszettelPage(Document doc, MatchDO[] matchDOs, List<PasseDO>[] passenDOs,
+                                                Long wettkampfTag, String[] mannschaftName,
+                                                List<Map<Long, List<PasseDO>>> schuetzenPassen,
+                                                Map<Long, String> rueckennummern) {
 
         // Generate special settings for some parts
         Border specialBorder = new SolidBorder(Border.SOLID);
@@ -155,26 +229,9 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
         Table[] matchSecondRows = new Table[2];
         Table[] matchThirdRows = new Table[2];
 
-        // Create a map with all Passen of a Schuetze from unorganized list of all passen of match
+        // The Passen of the picked Schuetzen of each match
         for (int i = 1; i <= 2; i++) {
-            Map<Long, List<PasseDO>> schuetzenPasseMap = new HashMap<>();
-            for (PasseDO passeDO : passenDOs[i-1]) {
-                // schuetzenPasseMap.computeIfAbsent(passeDO.getPasseDsbMitgliedId(), k -> new ArrayList<>());
-                // schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).add(passeDO);
-
-                // Only pick 3 schuetzen
-                if (!schuetzenPasseMap.containsKey(passeDO.getPasseDsbMitgliedId())) {
-                    if (schuetzenPasseMap.size() < 3) {
-                        schuetzenPasseMap.put(passeDO.getPasseDsbMitgliedId(), new ArrayList<>());
-                        schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).add(passeDO);
-                    }
-                } else {
-                    // Only add 5 passen
-                    if (schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).size() < 5) {
-                        schuetzenPasseMap.get(passeDO.getPasseDsbMitgliedId()).add(passeDO);
-                    }
-                }
-            }
+            Map<Long, List<PasseDO>> schuetzenPasseMap = schuetzenPassen.get(i - 1);
 
             // Helper variables
             MatchDO currentMatch = matchDOs[i-1];
@@ -309,13 +366,8 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
 
             // Fill in Schuetzennummer column
             for (Map.Entry<Long, List<PasseDO>> entry : schuetzenPasseMap.entrySet()) {
-                // Get matching mannschaftsMitgliedDO to dsb_mitglied_id for this match to get Rueckennummer
-                MannschaftsmitgliedDO mannschaftsmitgliedDO = mannschaftsmitgliedComponent
-                        .findByMemberAndTeamId(currentMatch.getMannschaftId(), entry.getKey());
                 // Add schutzen Rueckennummern
-                String rueckennummer = mannschaftsmitgliedDO.getRueckennummer() == null
-                        ? "NaN"
-                        : mannschaftsmitgliedDO.getRueckennummer().toString();
+                String rueckennummer = rueckennummern.get(entry.getKey());
                 tableSecondRowFirstPart.addCell(new Cell().setHeight(20.0F)
                         .add(new Paragraph(rueckennummer).setFontSize(8.0F)));
                 // Sort each Schuetzen's passen by lfdnr
@@ -582,38 +634,35 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
 
 
     /**
-     * <p>writes a Schusszettel document for the Wettkamnpf
+     * <p>prepares a Schusszettel document for the Wettkamnpf
+     * </p>
+     * <p>the pages are rendered in parallel, so the Wettkampftag and the names of the teams are loaded beforehand
      * </p>
      */
-    private ByteArrayOutputStream generateDoc(List<MatchDO> matchDOList) {
-        ByteArrayOutputStream ret;
-        try (final ByteArrayOutputStream result = new ByteArrayOutputStream();
-             final PdfWriter writer = new PdfWriter(result);
-             final PdfDocument pdfDocument = new PdfDocument(writer);
-             final Document doc = new Document(pdfDocument, PageSize.A4)) {
-
-            //iterate through matches
-            for (long i = 1; i<=7; i++){
-                //iterate through begegnungen
-                for(long k = 1; k<=4; k++){
-                    MatchDO[] matchesBegegnung = getMatchDOsForPage(matchDOList , i, k);
-                    if(matchesBegegnung[0] != null && matchesBegegnung[1] != null) {
-                        generateSchusszettelPage(doc, matchesBegegnung);
-                        if(i != 7){
-                            doc.add(new AreaBreak());
-                        }
-                    }
+    private DocumentWriter prepareDoc(List<MatchDO> matchDOList) {
+        //load the names of all teams at once
+        Map<Long, String> mannschaftsNamen = getMannschaftsNamenByMatches(matchDOList);
+        Long wettkampfTag = wettkampfComponent.findById(matchDOList.get(0).getWettkampfId()).getWettkampfTag();
+
+        List<MatchDO[]> pages = new ArrayList<>();
+
+        //iterate through matches
+        for (long i = 1; i<=7; i++){
+            //iterate through begegnungen
+            for(long k = 1; k<=4; k++){
+                MatchDO[] matchesBegegnung = getMatchDOsForPage(matchDOList , i, k);
+                if(matchesBegegnung[0] != null && matchesBegegnung[1] != null) {
+                    pages.add(matchesBegegnung);
                 }
             }
-            doc.close();
-            ret = result;
+        }
 
-        } catch (final IOException e) {
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
-                    "PDF Dokument konnte nicht erstellt werden: " + e);
+        if (pages.isEmpty()) {
+            throw new BusinessException(ErrorCode.UNEXPECTED_ERROR, "Matches für den Wettkampf noch nicht erzeugt");
         }
-        return ret;
 
+        return documentRenderingComponent.preparePages(pages, PageSize.A4,
+                (doc, matchDOs) -> generateSchusszettelPage(doc, matchDOs, wettkampfTag, mannschaftsNamen));
     }
 
     /**
@@ -641,10 +690,12 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
      * <p>writes a Schusszettel document for the Wettkamnpf
      * </p>
      * @param doc document to write
+     * @param wettkampfTag day of the Wettkampf
+     * @param mannschaftsNamen names of the teams by their id
      */
-    private void generateSchusszettelPage(Document doc, MatchDO[] matchDOs) {
-        Long wettkampfTag = wettkampfComponent.findById(matchDOs[0].getWettkampfId()).getWettkampfTag();
-        String[] mannschaftName = { getMannschaftsNameByID(matchDOs[0].getMannschaftId()), getMannschaftsNameByID(matchDOs[1].getMannschaftId())};
+    private void generateSchusszettelPage(Document doc, MatchDO[] matchDOs, Long wettkampfTag,
+                                          Map<Long, String> mannschaftsNamen) {
+        String[] mannschaftName = getMannschaftsNamen(matchDOs, mannschaftsNamen);
 
         // Generate special settings for some parts
         Border specialBorder = new SolidBorder(Border.SOLID);
@@ -962,17 +1013,26 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
         }
     }
 
-    private String getMannschaftsNameByID(long mannschaftID){
-        String mannschaftName;
-        DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(mannschaftID);
-        VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
-
-        if (dsbMannschaftDO.getNummer() > 1) {
-            mannschaftName = vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
-        } else {
-            mannschaftName = vereinDO.getName();
+    private Map<Long, MannschaftsmitgliedDO> getMannschaftsmitglieder(Long mannschaftId){
+        Map<Long, MannschaftsmitgliedDO> mannschaftsmitglieder = new HashMap<>();
+        for (MannschaftsmitgliedDO mannschaftsmitgliedDO : mannschaftsmitgliedComponent.findByTeamId(mannschaftId)) {
+            mannschaftsmitglieder.putIfAbsent(mannschaftsmitgliedDO.getDsbMitgliedId(), mannschaftsmitgliedDO);
         }
-        return mannschaftName;
+        return mannschaftsmitglieder;
+    }
+
+
+    private Map<Long, String> getMannschaftsNamenByMatches(List<MatchDO> matchDOList){
+        return matchComponent.getMannschaftsNamenByIDs(matchDOList.stream()
+                .map(MatchDO::getMannschaftId).collect(Collectors.toSet()));
+    }
+
+
+    private String[] getMannschaftsNamen(MatchDO[] matchDOs, Map<Long, String> mannschaftsNamen){
+        return new String[] {
+                mannschaftsNamen.get(matchDOs[0].getMannschaftId()),
+                mannschaftsNamen.get(matchDOs[1].getMannschaftId())
+        };
     }
 
     // This method returns a dynamic font size, dependant on the length of the given text and the intended font size.
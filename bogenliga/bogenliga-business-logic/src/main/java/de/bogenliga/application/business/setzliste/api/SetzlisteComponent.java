@@ -1,8 +1,10 @@
 package de.bogenliga.application.business.setzliste.api;
 
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.common.component.ComponentFacade;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -17,6 +19,20 @@ public interface SetzlisteComponent extends ComponentFacade {
      */
     byte[] getPDFasByteArray(long wettkampfid);
 
+    /**
+     * Writes the pdf page by page to the output stream, the stream is not closed
+     * @param wettkampfid ID for the competition
+     * @param outputStream target of the document, e.g. the response body
+     */
+    void writePDF(long wettkampfid, OutputStream outputStream);
+
+    /**
+     * Loads the data of the pdf, the document is written later without database access
+     * @param wettkampfid ID for the competition
+     * @return writer of the document
+     */
+    DocumentWriter preparePDF(long wettkampfid);
+
     /**
      * <p>Creates matches in database based on the structure of Setzliste if matches don't exist
      *
@@ -27,5 +43,18 @@ public interface SetzlisteComponent extends ComponentFacade {
      */
     List<MatchDO> generateMatchesBySetzliste(long wettkampfid);
 
+    /**
+     * <p>Creates the matches of all Wettkampftage and the tablet sessions of a Veranstaltung with batched inserts,
+     * so no request on a match day has to create them lazily.
+     * A Wettkampftag is only generated, if the Setzliste is known, i.e. all matches of the previous day have results.
+     * The missing Wettkampftage are generated by calling the method again after the next match day.
+     * </p>
+     * @param veranstaltungId ID of the Veranstaltung
+     * @param currentUserId ID of the creating user
+     *
+     * @return List of the created matches
+     */
+    List<MatchDO> generateMatchesByVeranstaltung(long veranstaltungId, long currentUserId);
+
 
 }
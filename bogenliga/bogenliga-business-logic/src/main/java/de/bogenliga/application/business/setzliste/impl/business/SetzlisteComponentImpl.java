@@ -2,9 +2,14 @@ package de.bogenliga.application.business.setzliste.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,17 +22,15 @@ import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
+import de.bogenliga.application.business.document.api.DocumentWriter;
 import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
 import de.bogenliga.application.business.setzliste.impl.dao.SetzlisteDAO;
 import de.bogenliga.application.business.setzliste.impl.entity.SetzlisteBE;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.tabletsession.api.TabletSessionComponent;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
@@ -44,14 +47,15 @@ import de.bogenliga.application.common.validation.Preconditions;
 public class SetzlisteComponentImpl implements SetzlisteComponent {
 
     private static final String PRECONDITION_WETTKAMPFID = "wettkampfid cannot be negative";
+    private static final String PRECONDITION_VERANSTALTUNGID = "veranstaltungid cannot be negative";
+    private static final String PRECONDITION_CURRENT_USER_ID = "currentUserId cannot be negative";
     private static final Logger LOGGER = LoggerFactory.getLogger(SetzlisteComponentImpl.class);
 
     private final SetzlisteDAO setzlisteDAO;
     private final MatchComponent matchComponent;
     private final WettkampfComponent wettkampfComponent;
     private final VeranstaltungComponent veranstaltungComponent;
-    private final DsbMannschaftComponent dsbMannschaftComponent;
-    private final VereinComponent vereinComponent;
+    private final TabletSessionComponent tabletSessionComponent;
 
     /**
      * Structure of setzliste
@@ -73,35 +77,57 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
      * dependency injection with {@link Autowired}
      *
      * @param setzlisteDAO to access the database and return setzliste representations
+     * @param tabletSessionComponent to create the tablet sessions of the generated Wettkampftage
      */
     @Autowired
     public SetzlisteComponentImpl(SetzlisteDAO setzlisteDAO, MatchComponent matchComponent,
                                   WettkampfComponent wettkampfComponent, VeranstaltungComponent veranstaltungComponent,
-                                  DsbMannschaftComponent dsbMannschaftComponent, VereinComponent vereinComponent) {
+                                  TabletSessionComponent tabletSessionComponent) {
         this.setzlisteDAO = setzlisteDAO;
         this.matchComponent = matchComponent;
         this.wettkampfComponent = wettkampfComponent;
         this.veranstaltungComponent = veranstaltungComponent;
-        this.dsbMannschaftComponent = dsbMannschaftComponent;
-        this.vereinComponent = vereinComponent;
+        this.tabletSessionComponent = tabletSessionComponent;
     }
 
 
     @Override
     public byte[] getPDFasByteArray(long wettkampfid) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writePDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+
+    @Override
+    public void writePDF(long wettkampfid, OutputStream outputStream) {
+        preparePDF(wettkampfid).writeTo(outputStream);
+    }
+
+
+    @Override
+    public DocumentWriter preparePDF(long wettkampfid) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
         List<SetzlisteBE> setzlisteBEList = setzlisteDAO.getTableByWettkampfID(wettkampfid);
-        byte[] bResult;
-        if (!setzlisteBEList.isEmpty()) {
-            try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-                 PdfWriter writer = new PdfWriter(result);
+        if (setzlisteBEList.isEmpty()) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Der Wettkampf mit der ID " + wettkampfid +" oder die Tabelleneinträge vom vorherigen Wettkampftag existieren noch nicht");
+        }
+
+        //load all data of the document before it is written
+        WettkampfDO wettkampfDO = wettkampfComponent.findById(setzlisteBEList.get(0).getWettkampfid());
+        VeranstaltungDO veranstaltungDO = veranstaltungComponent.findById(wettkampfDO.getWettkampfVeranstaltungsId());
+        Map<Long, String> teamNames = matchComponent.getMannschaftsNamenByIDs(setzlisteBEList.stream()
+                .map(SetzlisteBE::getMannschaftid).collect(Collectors.toList()));
+
+        return outputStream -> {
+            try (PdfWriter writer = new PdfWriter(outputStream);
                  PdfDocument pdfDocument = new PdfDocument(writer);
                  Document doc = new Document(pdfDocument, PageSize.A4.rotate())) {
 
-                generateDoc(doc, setzlisteBEList);
+                writer.setCloseStream(false);
+                generateDoc(doc, setzlisteBEList, wettkampfDO, veranstaltungDO, teamNames);
 
-                bResult = result.toByteArray();
                 LOGGER.debug("Setzliste erstellt");
 
             } catch (IOException e) {
@@ -109,11 +135,7 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
                 throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
                         "PDF Setzliste konnte nicht erstellt werden: " + e);
             }
-        }
-        else{
-            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Der Wettkampf mit der ID " + wettkampfid +" oder die Tabelleneinträge vom vorherigen Wettkampftag existieren noch nicht");
-        }
-        return bResult;
+        };
     }
 
     @Override
@@ -124,16 +146,7 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
         List<SetzlisteBE> setzlisteBEList = setzlisteDAO.getTableByWettkampfID(wettkampfid);
         if (!setzlisteBEList.isEmpty()){
             if (matchDOList.isEmpty()){
-                //itarate thorugh matches
-                for (int i = 0; i < SETZLISTE_STRUCTURE.length; i++){
-                    //iterate through target boards
-                    for (int j = 0; j < SETZLISTE_STRUCTURE[i].length; j++) {
-                        long begegnung = Math.round((float) (j + 1) / 2);
-                        long currentTeamID = getTeamIDByTablePos(SETZLISTE_STRUCTURE[i][j], setzlisteBEList);
-                        MatchDO newMatchDO = new MatchDO(null, (long) i + 1, wettkampfid, currentTeamID, begegnung, (long) j + 1, null, null,null,null,null,null,null);
-                        matchDOList.add(matchComponent.create(newMatchDO, (long) 0));
-                    }
-                }
+                matchDOList.addAll(createMatches(wettkampfid, setzlisteBEList, 0L));
             }
             else{
                 LOGGER.debug("Matches existieren bereits");
@@ -146,21 +159,108 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
     }
 
 
+    @Override
+    public List<MatchDO> generateMatchesByVeranstaltung(long veranstaltungId, long currentUserId) {
+        Preconditions.checkArgument(veranstaltungId >= 0, PRECONDITION_VERANSTALTUNGID);
+        Preconditions.checkArgument(currentUserId >= 0, PRECONDITION_CURRENT_USER_ID);
+
+        List<WettkampfDO> wettkampfDOList = wettkampfComponent.findAllByVeranstaltungId(veranstaltungId).stream()
+                .sorted(Comparator.comparing(WettkampfDO::getWettkampfTag))
+                .collect(Collectors.toList());
+        List<MatchDO> createdMatchDOList = new ArrayList<>();
+
+        //the Wettkampftage are generated in order, the Setzliste of a day is the Ligatabelle of the previous day
+        WettkampfDO previousWettkampfDO = null;
+        List<MatchDO> previousMatchDOList = null;
+        for (WettkampfDO wettkampfDO : wettkampfDOList) {
+            List<MatchDO> matchDOList = matchComponent.findByWettkampfId(wettkampfDO.getId());
+
+            if (matchDOList.isEmpty()) {
+                if (wettkampfDO.getWettkampfTag() == 0) {
+                    matchComponent.createInitialMatchesWT0(veranstaltungId, currentUserId);
+                    matchDOList = matchComponent.findByWettkampfId(wettkampfDO.getId());
+                    createdMatchDOList.addAll(matchDOList);
+                } else if (isSetzlisteKnown(previousWettkampfDO, previousMatchDOList)) {
+                    List<SetzlisteBE> setzlisteBEList = setzlisteDAO.getTableByWettkampfID(wettkampfDO.getId());
+                    if (setzlisteBEList.isEmpty()) {
+                        break;
+                    }
+                    matchDOList = createMatches(wettkampfDO.getId(), setzlisteBEList, currentUserId);
+                    createdMatchDOList.addAll(matchDOList);
+                } else {
+                    LOGGER.debug("Die Setzliste ab dem {}. Wettkampftag ist noch nicht bekannt", wettkampfDO.getWettkampfTag());
+                    break;
+                }
+            }
+
+            //the tablet sessions are only used on the match days
+            if (wettkampfDO.getWettkampfTag() > 0 && tabletSessionComponent.findByWettkampfId(wettkampfDO.getId()).isEmpty()) {
+                tabletSessionComponent.createInitialForWettkampf(wettkampfDO.getId(), matchComponent, currentUserId);
+            }
+            previousWettkampfDO = wettkampfDO;
+            previousMatchDOList = matchDOList;
+        }
+        return createdMatchDOList;
+    }
+
+
+    /**
+     * <p>creates all matches of a Wettkampftag with a single batch
+     * </p>
+     * @param wettkampfid ID for the competition
+     * @param setzlisteBEList the Ligatabelle of the previous day
+     * @param currentUserId ID of the creating user
+     * @return the created matches
+     */
+    private List<MatchDO> createMatches(long wettkampfid, List<SetzlisteBE> setzlisteBEList, long currentUserId) {
+        List<MatchDO> newMatchDOs = new ArrayList<>();
+        //itarate thorugh matches
+        for (int i = 0; i < SETZLISTE_STRUCTURE.length; i++){
+            //iterate through target boards
+            for (int j = 0; j < SETZLISTE_STRUCTURE[i].length; j++) {
+                long begegnung = Math.round((float) (j + 1) / 2);
+                long currentTeamID = getTeamIDByTablePos(SETZLISTE_STRUCTURE[i][j], setzlisteBEList);
+                newMatchDOs.add(new MatchDO(null, (long) i + 1, wettkampfid, currentTeamID, begegnung, (long) j + 1, null, null,null,null,null,null,null));
+            }
+        }
+        return matchComponent.createAll(newMatchDOs, currentUserId);
+    }
+
+
+    /**
+     * <p>the Setzliste of a Wettkampftag is known, if the previous day has matches and all matches have results.
+     * The matches of the Wettkampftag 0 have no results, their order is the Setzliste of the first day.
+     * </p>
+     * @param previousWettkampfDO the previous day, null for the first Wettkampf
+     * @param previousMatchDOList matches of the previous day
+     * @return true if the matches of the Wettkampftag can be generated
+     */
+    private boolean isSetzlisteKnown(WettkampfDO previousWettkampfDO, List<MatchDO> previousMatchDOList) {
+        if (previousWettkampfDO == null || previousMatchDOList.isEmpty()) {
+            return false;
+        }
+        return previousWettkampfDO.getWettkampfTag() == 0
+                || previousMatchDOList.stream().allMatch(matchDO -> matchDO.getMatchpunkte() != null);
+    }
+
+
     /**
      * <p>writes a document with a table containing information from given Setzliste
      * </p>
      * @param doc document to write
      * @param setzlisteBEList list with data for the doc
+     * @param wettkampfDO the Wettkampf of the Setzliste
+     * @param veranstaltungDO the Veranstaltung of the Wettkampf
+     * @param teamNames names of all teams in the Setzliste by team id
      */
-    private void generateDoc(Document doc, List<SetzlisteBE> setzlisteBEList){
+    private void generateDoc(Document doc, List<SetzlisteBE> setzlisteBEList, WettkampfDO wettkampfDO,
+                             VeranstaltungDO veranstaltungDO, Map<Long, String> teamNames){
 
         doc.setFontSize(9.2f);
 
         //description
         DateFormat sdF = new SimpleDateFormat("yyyy-MM-dd");
         DateFormat sdF2 = new SimpleDateFormat("dd.MM.yyyy");
-        WettkampfDO wettkampfDO = wettkampfComponent.findById(setzlisteBEList.get(0).getWettkampfid());
-        VeranstaltungDO veranstaltungDO = veranstaltungComponent.findById(wettkampfDO.getWettkampfVeranstaltungsId());
         String dateFormatted = sdF2.format(wettkampfDO.getWettkampfDatum());
         doc.add(new Paragraph("Setzliste " +
                 wettkampfDO.getWettkampfTag() + ". Wettkampf " + veranstaltungDO.getVeranstaltungName()));
@@ -192,16 +292,16 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
         for (int i = 0; i < SETZLISTE_STRUCTURE.length; i++) {
             table.addCell(new Cell(2, 1).add(new Paragraph(Integer.toString(i + 1))).setHeight(table.getHeight().getValue() / 8));
 
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 0, 1, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 0, 1, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 2, 3, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 2, 3, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 4, 5, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 4, 5, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 6, 7, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 6, 7, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
 
@@ -221,15 +321,17 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
      * @param pos1 Position of first Team in SETZTLISTE_STRUCTURE
      * @param pos2 Position of second Team in SETZTLISTE_STRUCTURE
      * @param setzlisteBEList the List with data for generateDoc
+     * @param teamNames names of all teams in the Setzliste by team id
      * @return String with 2 Teams where each team has two lines of space with a line width of X chars
      * */
-    private String getTeamsCellParagraph(int index, int pos1, int pos2, List<SetzlisteBE> setzlisteBEList) {
-        String firstTwoLines = SETZLISTE_STRUCTURE[index][pos1] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos1], setzlisteBEList);
+    private String getTeamsCellParagraph(int index, int pos1, int pos2, List<SetzlisteBE> setzlisteBEList,
+                                         Map<Long, String> teamNames) {
+        String firstTwoLines = SETZLISTE_STRUCTURE[index][pos1] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos1], setzlisteBEList, teamNames);
         if (firstTwoLines.length() <= 26) {
             firstTwoLines += "\n";
         }
         return firstTwoLines + "\n" +
-                SETZLISTE_STRUCTURE[index][pos2] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos2], setzlisteBEList);
+                SETZLISTE_STRUCTURE[index][pos2] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos2], setzlisteBEList, teamNames);
     }
 
     /**
@@ -251,21 +353,16 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
      * help funktion to get team name
      * @param tablepos index in table
      * @param setzlisteBEList list with data
+     * @param teamNames names of all teams in the Setzliste by team id
      * @return name of the team
      */
-    private String getTeamName(int tablepos, List<SetzlisteBE> setzlisteBEList) {
+    private String getTeamName(int tablepos, List<SetzlisteBE> setzlisteBEList, Map<Long, String> teamNames) {
         long teamID = getTeamIDByTablePos(tablepos,setzlisteBEList);
         if (teamID == -1) {
             LOGGER.error("Cannot find team for tablepos");
             return "ERROR";
         } else {
-            DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(teamID);
-            VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
-            if (dsbMannschaftDO.getNummer() > 1) {
-                return vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
-            } else {
-                return vereinDO.getName();
-            }
+            return teamNames.get(teamID);
         }
     }
 }
@@ -4,6 +4,8 @@ import java.util.List;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.tabletsession.api.types.TabletSessionDO;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 
 /**
  * @author Kay Scheerer
@@ -12,6 +14,8 @@ import de.bogenliga.application.business.tabletsession.api.types.TabletSessionDO
 public interface TabletSessionComponent {
     List<TabletSessionDO> findAll();
 
+    Page<TabletSessionDO> pageAll(PageRequest pageRequest);
+
     List<TabletSessionDO> findByWettkampfId(Long wettkampfid);
 
     List<MatchDO> getRelatedMatches(TabletSessionDO tabletSessionDO, MatchComponent matchComponent);
@@ -12,6 +12,8 @@ import de.bogenliga.application.business.tabletsession.api.types.TabletSessionDO
 import de.bogenliga.application.business.tabletsession.impl.dao.TabletSessionDAO;
 import de.bogenliga.application.business.tabletsession.impl.entity.TabletSessionBE;
 import de.bogenliga.application.business.tabletsession.impl.mapper.TabletSessionMapper;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.validation.Preconditions;
 
 /**
@@ -50,6 +52,12 @@ public class TabletSessionComponentImpl implements TabletSessionComponent {
     }
 
 
+    @Override
+    public Page<TabletSessionDO> pageAll(final PageRequest pageRequest) {
+        return tabletDAO.pageAll(pageRequest).map(TabletSessionMapper.toTabletSessionDO);
+    }
+
+
     @Override
     public List<TabletSessionDO> findByWettkampfId(Long wettkampfid) {
         checkPreconditions(wettkampfid, PRECONDITION_FIELD_WETTKAMPF_ID);
@@ -85,26 +93,36 @@ public class TabletSessionComponentImpl implements TabletSessionComponent {
 
     @Override
     public List<TabletSessionDO> createInitialForWettkampf(Long wettkampfId, final MatchComponent matchComponent, Long currentUserId) {
-        List<TabletSessionDO> tabletSessionDOS = new ArrayList<>();
+        checkPreconditions(currentUserId, PRECONDITION_FIELD_CURRENT_USER);
+
+        // the matches are loaded once for all Scheiben
+        List<MatchDO> matches = matchComponent.findByWettkampfId(wettkampfId);
+        if (matches.isEmpty()) {
+            throw new IllegalArgumentException("Keine matches in diesem Wettkampf");
+        }
+        List<TabletSessionBE> tabletSessionBEs = new ArrayList<>();
         for (int i = 0; i < MAX_NUM_SCHEIBEN; i++) {
-            TabletSessionDO tabDO = this.addInitialData(wettkampfId, i + 1, matchComponent);
-            if (tabDO == null) {
-                throw new IllegalArgumentException("Keine matches in diesem Wettkampf");
-            }
-            tabDO = this.create(tabDO, currentUserId);
-            tabletSessionDOS.add(tabDO);
+            TabletSessionDO tabDO = this.getInitialData(wettkampfId, i + 1, matches);
+            checkBE(tabDO);
+            tabletSessionBEs.add(TabletSessionMapper.toTabletSessionBE.apply(tabDO));
         }
-        return tabletSessionDOS;
+        return tabletDAO.createAll(tabletSessionBEs, currentUserId).stream()
+                .map(TabletSessionMapper.toTabletSessionDO).collect(Collectors.toList());
     }
 
 
     @Override
     public TabletSessionDO addInitialData(Long wettkampfId, int scheibennummer, final MatchComponent matchComponent) {
-        Long scheibe = (long) scheibennummer;
         List<MatchDO> matches = matchComponent.findByWettkampfId(wettkampfId);
         if (matches.isEmpty()) {
             return null;
         }
+        return getInitialData(wettkampfId, scheibennummer, matches);
+    }
+
+
+    private TabletSessionDO getInitialData(Long wettkampfId, int scheibennummer, List<MatchDO> matches) {
+        Long scheibe = (long) scheibennummer;
         TabletSessionDO tab = new TabletSessionDO();
         List<MatchDO> matchDOs = matches.stream()
                 .filter(mDO -> mDO.getScheibenNummer().equals(scheibe))
@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.tabletsession.impl.dao;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,8 @@ import org.springframework.stereotype.Repository;
 import de.bogenliga.application.business.tabletsession.impl.entity.TabletSessionBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.database.queries.QueryBuilder;
 
 /**
@@ -101,6 +104,21 @@ public class TabletSessionDAO {
     }
 
 
+    /**
+     * Return a page of all tablet sessions ordered by the wettkampf id and the scheibennummer
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of tablet sessions; empty page, if no further entry is found
+     */
+    public Page<TabletSessionBE> pageAll(final PageRequest pageRequest) {
+        return basicDao.selectEntityPage(TABLET_SESSION, pageRequest,
+                tabletSessionBE -> Arrays.asList(tabletSessionBE.getWettkampfId(),
+                        tabletSessionBE.getScheibennummer()),
+                TABLET_SESSION_TABLE_WETTKAMPF_ID, TABLET_SESSION_TABLE_SCHEIBENNUMMER);
+    }
+
+
     public List<TabletSessionBE> findByWettkampfId(Long wettkampfid) {
         return basicDao.selectEntityList(TABLET_SESSION, FIND_BY_WETTKAMPF_ID, wettkampfid);
     }
@@ -118,6 +136,13 @@ public class TabletSessionDAO {
     }
 
 
+    public List<TabletSessionBE> createAll(List<TabletSessionBE> tabletSessionBEs, Long currentUserId) {
+        tabletSessionBEs.forEach(tabletSessionBE -> basicDao.setCreationAttributes(tabletSessionBE, currentUserId));
+
+        return basicDao.insertEntityList(TABLET_SESSION, tabletSessionBEs);
+    }
+
+
     public TabletSessionBE update(TabletSessionBE tabletSessionBE, Long currentUserId) {
         basicDao.setModificationAttributes(tabletSessionBE, currentUserId);
 
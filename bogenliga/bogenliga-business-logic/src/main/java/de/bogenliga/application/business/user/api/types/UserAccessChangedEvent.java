@@ -0,0 +1,43 @@
+package de.bogenliga.application.business.user.api.types;
+
+/**
+ * I am published, if the password or the active flag of a user is changed.
+ * <p>
+ * Listeners use me to revoke the tokens of the user, which were issued for an older version of the user.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class UserAccessChangedEvent {
+
+    private final Long userId;
+    private final Long version;
+
+
+    /**
+     * @param userId  of the changed user
+     * @param version of the user after the change
+     */
+    public UserAccessChangedEvent(final Long userId, final Long version) {
+        this.userId = userId;
+        this.version = version;
+    }
+
+
+    public Long getUserId() {
+        return userId;
+    }
+
+
+    public Long getVersion() {
+        return version;
+    }
+
+
+    @Override
+    public String toString() {
+        return "UserAccessChangedEvent{" +
+                "userId=" + userId +
+                ", version=" + version +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package de.bogenliga.application.business.user.api.types;
+
+/**
+ * I am published, if data is changed, which assigns a Verein, a Veranstaltung or a Wettkampf to users.
+ * <p>
+ * e.g. the Verein of a DSB member, the Ligaleiter of a Veranstaltung or the Veranstaltung of a Wettkampf
+ * <p>
+ * Listeners use me to invalidate cached ownerships of the users.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class UserOwnershipChangedEvent {
+
+    private final String type;
+    private final Long id;
+
+
+    /**
+     * @param type of the changed entity, e.g. "Veranstaltung"
+     * @param id   of the changed entity
+     */
+    public UserOwnershipChangedEvent(final String type, final Long id) {
+        this.type = type;
+        this.id = id;
+    }
+
+
+    public String getType() {
+        return type;
+    }
+
+
+    public Long getId() {
+        return id;
+    }
+
+
+    @Override
+    public String toString() {
+        return "UserOwnershipChangedEvent{" +
+                "type='" + type + '\'' +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package de.bogenliga.application.business.user.api.types;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * I am published, if the roles of one or more users are changed.
+ * <p>
+ * Listeners use me to invalidate cached permissions of the users.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class UserRolesChangedEvent {
+
+    private final Set<Long> userIds;
+
+
+    public UserRolesChangedEvent(final Collection<Long> userIds) {
+        this.userIds = Collections.unmodifiableSet(new LinkedHashSet<>(userIds));
+    }
+
+
+    public Set<Long> getUserIds() {
+        return userIds;
+    }
+
+
+    @Override
+    public String toString() {
+        return "UserRolesChangedEvent{" +
+                "userIds=" + userIds +
+                '}';
+    }
+}
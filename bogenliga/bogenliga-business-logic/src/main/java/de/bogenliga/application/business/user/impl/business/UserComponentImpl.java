@@ -1,8 +1,10 @@
 package de.bogenliga.application.business.user.impl.business;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import de.bogenliga.application.business.user.api.UserComponent;
+import de.bogenliga.application.business.user.api.types.UserAccessChangedEvent;
 import de.bogenliga.application.business.user.api.types.UserDO;
 import de.bogenliga.application.business.user.api.types.UserWithPermissionsDO;
 import de.bogenliga.application.business.user.impl.businessactivity.SignInBA;
@@ -36,6 +38,7 @@ public class UserComponentImpl implements UserComponent {
     private final SignInBA signInBA;
     private final TechnicalUserBA technicalUserBA;
     private final PasswordHashingBA passwordHashingBA;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -45,16 +48,19 @@ public class UserComponentImpl implements UserComponent {
      * @param userDAO to access the database and return user representations
      * @param signInBA to sign in users
      * @param technicalUserBA to handle all technical user operations
+     * @param eventPublisher to notify about changed passwords and deactivated users
      */
     @Autowired
     public UserComponentImpl(final UserDAO userDAO,
                              final PasswordHashingBA passwordHashingBA,
                              final SignInBA signInBA,
-                             final TechnicalUserBA technicalUserBA) {
+                             final TechnicalUserBA technicalUserBA,
+                             final ApplicationEventPublisher eventPublisher) {
         this.userDAO = userDAO;
         this.passwordHashingBA = passwordHashingBA;
         this.signInBA = signInBA;
         this.technicalUserBA = technicalUserBA;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -197,6 +203,7 @@ public class UserComponentImpl implements UserComponent {
             // existing user with correct password
             currentUser.setUserPassword(newpwdhash);
             final UserBE persistedUserBE = userDAO.update(currentUser, currentUserId);
+            publishAccessChanged(persistedUserBE);
             return UserMapper.toUserDO.apply(persistedUserBE);
 
         } else {
@@ -229,6 +236,7 @@ public class UserComponentImpl implements UserComponent {
 
         selectedUser.setUserPassword(newPWDHash);
         final UserBE persistedUserBE = userDAO.update(selectedUser, currentUserId);
+        publishAccessChanged(persistedUserBE);
         return UserMapper.toUserDO.apply(persistedUserBE);
 
     }
@@ -248,7 +256,18 @@ public class UserComponentImpl implements UserComponent {
         final UserBE user = userDAO.findById(id);
         user.setActive(false);
         final UserBE updatedUser = userDAO.update(user, id);
+        publishAccessChanged(updatedUser);
         return !UserMapper.toUserDO.apply(updatedUser).isActive();
     }
 
+
+    /**
+     * Notify listeners, e.g. the token revocation, that the tokens of older versions of the user are not valid anymore.
+     *
+     * @param userBE after the update
+     */
+    private void publishAccessChanged(final UserBE userBE) {
+        eventPublisher.publishEvent(new UserAccessChangedEvent(userBE.getUserId(), userBE.getVersion()));
+    }
+
 }
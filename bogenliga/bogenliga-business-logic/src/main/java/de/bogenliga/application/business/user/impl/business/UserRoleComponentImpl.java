@@ -1,29 +1,21 @@
 package de.bogenliga.application.business.user.impl.business;
 
-import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Properties;
 import java.util.stream.Collectors;
-import javax.mail.Message;
-import javax.mail.MessagingException;
-import javax.mail.PasswordAuthentication;
-import javax.mail.Session;
-import javax.mail.Transport;
-import javax.mail.internet.AddressException;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import de.bogenliga.application.business.einstellungen.impl.dao.EinstellungenDAO;
-import de.bogenliga.application.business.einstellungen.impl.entity.EinstellungenBE;
+import de.bogenliga.application.business.mail.api.MailComponent;
 import de.bogenliga.application.business.role.impl.dao.RoleDAO;
 import de.bogenliga.application.business.role.impl.entity.RoleBE;
 import de.bogenliga.application.business.user.api.UserComponent;
 import de.bogenliga.application.business.user.api.UserRoleComponent;
 import de.bogenliga.application.business.user.api.types.UserRoleDO;
+import de.bogenliga.application.business.user.api.types.UserRolesChangedEvent;
 import de.bogenliga.application.business.user.impl.dao.UserRoleExtDAO;
 import de.bogenliga.application.business.user.impl.entity.UserRoleBE;
 import de.bogenliga.application.business.user.impl.entity.UserRoleExtBE;
@@ -43,11 +35,16 @@ public class UserRoleComponentImpl implements UserRoleComponent {
     private static final String PRECONDITION_MSG_USER_EMAIL = "UserEmail must not be null or empty";
     private static final String PRECONDITION_MSG_ROLE_ID = "RoleID must not be null or negative";
     private static final String USER_ROLE_DEFAULT = "USER";
+    private static final String FEEDBACK_SUBJECT = "Feedback";
+    // the feedback may be sent without a login
+    private static final long FEEDBACK_USER_ID = 0L;
     private final UserRoleExtDAO userRoleExtDAO;
 
     private final RoleDAO roleDAO;
 
-    private EinstellungenDAO einstellungenDAO;
+    private final MailComponent mailComponent;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UserRoleComponentImpl.class);
 
@@ -59,14 +56,18 @@ public class UserRoleComponentImpl implements UserRoleComponent {
      *
      * @param userRoleExtDAO to access the database and return user role (including name, email - not IDs only)
      * @param roleDAO        to access the database and return default role
+     * @param mailComponent  to send the feedback to the administrators
+     * @param eventPublisher to notify about changed user roles
      */
     @Autowired
     public UserRoleComponentImpl(final UserRoleExtDAO userRoleExtDAO, RoleDAO roleDAO,
-                                 EinstellungenDAO einstellungenDAO) {
+                                 final MailComponent mailComponent,
+                                 final ApplicationEventPublisher eventPublisher) {
 
         this.userRoleExtDAO = userRoleExtDAO;
         this.roleDAO = roleDAO;
-        this.einstellungenDAO = einstellungenDAO;
+        this.mailComponent = mailComponent;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -127,6 +128,8 @@ public class UserRoleComponentImpl implements UserRoleComponent {
 
         final UserRoleBE persistedUserRoleBE = userRoleExtDAO.create(result, currentUserId);
 
+        publishRolesChanged(Collections.singletonList(userId));
+
         return UserRoleMapper.toUserRoleDO.apply(persistedUserRoleBE);
     }
 
@@ -143,6 +146,8 @@ public class UserRoleComponentImpl implements UserRoleComponent {
 
         final UserRoleBE persistedUserBE = userRoleExtDAO.create(result, currentUserId);
 
+        publishRolesChanged(Collections.singletonList(userId));
+
         return UserRoleMapper.toUserRoleDO.apply(persistedUserBE);
     }
 
@@ -173,6 +178,8 @@ public class UserRoleComponentImpl implements UserRoleComponent {
 
         final List<UserRoleBE> persistedUserRoleBE = userRoleExtDAO.createOrUpdate(userRoleBES, currentUserId);
 
+        publishRolesChanged(userRoleDOS.stream().map(UserRoleDO::getId).collect(Collectors.toList()));
+
 
         List<UserRoleDO> persistedUserRoleDO = new ArrayList<>();
         for (UserRoleBE userRoleBE : persistedUserRoleBE) {
@@ -185,90 +192,35 @@ public class UserRoleComponentImpl implements UserRoleComponent {
 
     /**
      * Implementation sendFeedback method
+     * <p>
+     * The feedback is stored in the mail outbox and sent asynchronously to all administrators.
      *
      * @param text Feedback text given in the Frontend, optinal with Email of the sender
-     *
-     * @return void
      */
     @Override
     public void sendFeedback(final String text) {
 
         //this returns all DB entries with the Benutzer_rolle_rolle_id of 1
-        List<UserRoleExtBE> result = userRoleExtDAO.findAdminEmails();
-        String[] recipients = new String[result.size()];
-
-        //here we filter all the Mail-addresses
-        for (int i = 0; i < result.size(); i++) {
-            recipients[i] = (result.get(i).getUserEmail());
-        }
-
-        List<EinstellungenBE> einstellungen = einstellungenDAO.findAll();
-
-        String smtpHost = "";
-        String smtpPW = "";
-        String smtpBenutzer = "";
-        String smtpEMail = "";
-        String smtpPort = "";
-
-        for (int i = 0; i < einstellungen.size(); i++) {
-            String tempKey = einstellungen.get(i).getEinstellungenKey();
-            if (tempKey.equals("SMTPHost")) {
-                smtpHost = einstellungen.get(i).getEinstellungenValue();
-            } else if (tempKey.equals("SMTPPasswort")) {
-                smtpPW = einstellungen.get(i).getEinstellungenValue();
-            } else if (tempKey.equals("SMTPBenutzer")) {
-                smtpBenutzer = einstellungen.get(i).getEinstellungenValue();
-            } else if (tempKey.equals("SMTPEmail")) {
-                smtpEMail = einstellungen.get(i).getEinstellungenValue();
-            } else if (tempKey.equals("SMTPPort")) {
-                smtpPort = einstellungen.get(i).getEinstellungenValue();
-            }
-
-        }
-
-        final String username = smtpBenutzer;
-        final String password = smtpPW;
-
-        Properties props = new Properties();
-        props.put("mail.smtp.starttls.enable", "true");
-        props.put("mail.smtp.auth", "true");
-        props.put("mail.smtp.host", smtpHost);
-        props.put("mail.smtp.port", smtpPort);
-        props.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");
-        props.put("mail.smtp.ssl.checkserveridentity", true);
-
-        Session session = Session.getDefaultInstance(props,
-                new javax.mail.Authenticator() {
-                    protected PasswordAuthentication getPasswordAuthentication() {
-                        return new PasswordAuthentication(username, password);
-                    }
-                });
-
-        try {
-            MimeMessage msg = new MimeMessage(session);
-
-            msg.setFrom(new InternetAddress(smtpEMail, "NoReply-Bogenliga"));
-
-            msg.setSubject("Feedback", "UTF-8");
-
-            msg.setText(text);
-
-            for (String recipient : recipients) {
-                msg.setRecipients(Message.RecipientType.TO,
-                        InternetAddress.parse(recipient));
-            }
-
-            Transport.send(msg);
-
-        } catch (UnsupportedEncodingException unsupportedEncodingException) {
-            LOGGER.debug(unsupportedEncodingException.getMessage());
-        } catch (AddressException addressException) {
-            LOGGER.debug(addressException.getMessage());
-        } catch (MessagingException messagingException) {
-            LOGGER.debug(messagingException.getMessage());
+        final List<String> recipients = userRoleExtDAO.findAdminEmails().stream()
+                .map(UserRoleExtBE::getUserEmail)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (recipients.isEmpty()) {
+            LOGGER.warn("The feedback is not sent, because there is no administrator");
+            return;
         }
 
+        mailComponent.send(FEEDBACK_SUBJECT, text, recipients, FEEDBACK_USER_ID);
     }
 
 
+    /**
+     * Notify listeners, e.g. the token cache, that the permissions of the users have changed.
+     *
+     * @param userIds of the changed users
+     */
+    private void publishRolesChanged(final List<Long> userIds) {
+        eventPublisher.publishEvent(new UserRolesChangedEvent(userIds));
+    }
 }
@@ -6,9 +6,11 @@ import java.util.List;
 import de.bogenliga.application.business.sportjahr.SportjahrDO;
 import de.bogenliga.application.business.wettkampf.impl.dao.WettkampfDAO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import de.bogenliga.application.business.liga.impl.dao.LigaDAO;
 import de.bogenliga.application.business.liga.impl.entity.LigaBE;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
 import de.bogenliga.application.business.user.impl.dao.UserDAO;
 import de.bogenliga.application.business.user.impl.entity.UserBE;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
@@ -48,23 +50,27 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
     private final WettkampfTypDAO wettkampftypDAO;
     private final UserDAO userDAO;
     private final WettkampfDAO wettkampfDAO;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
      * Constructor for VeranstaltungComponentImpl - Autowired by springboot
      *
      * @param veranstaltungDAO
+     * @param eventPublisher to notify about changed Ligaleiter
      */
 
     @Autowired
     public VeranstaltungComponentImpl(final VeranstaltungDAO veranstaltungDAO, final LigaDAO ligaDAO,
                                       final WettkampfTypDAO wettkampftypDAO, final UserDAO userDAO,
-                                      final WettkampfDAO wettkampfDAO) {
+                                      final WettkampfDAO wettkampfDAO,
+                                      final ApplicationEventPublisher eventPublisher) {
         this.veranstaltungDAO = veranstaltungDAO;
         this.ligaDAO = ligaDAO;
         this.wettkampftypDAO = wettkampftypDAO;
         this.userDAO = userDAO;
         this.wettkampfDAO = wettkampfDAO;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -135,6 +141,7 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
         System.out.println("\n\n");
         System.out.println(veranstaltungBE.toString());
         final VeranstaltungBE persistedVeranstaltungBE = veranstaltungDAO.update(veranstaltungBE, currentDsbMitgliedId);
+        publishOwnershipChanged(veranstaltungDO.getVeranstaltungID());
 
         return notNull(persistedVeranstaltungBE);
     }
@@ -154,6 +161,7 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
 
         //create Wettkampftag 0
         this.wettkampfDAO.createWettkampftag0(persistedVeranstaltungBE.getVeranstaltung_id(), currentDsbMitgliedId);
+        publishOwnershipChanged(persistedVeranstaltungBE.getVeranstaltung_id());
 
         return notNull(persistedVeranstaltungBE);
     }
@@ -168,7 +176,7 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
         final VeranstaltungBE veranstaltungBE = VeranstaltungMapper.toVeranstaltungBE.apply(veranstaltungDO);
 
         veranstaltungDAO.delete(veranstaltungBE, currentDsbMitgliedId);
-
+        publishOwnershipChanged(veranstaltungDO.getVeranstaltungID());
     }
 
 
@@ -261,5 +269,13 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
 
         return VeranstaltungMapper.toVeranstaltungDO(veranstaltungBE, tempUserBE, tempWettkampfTypBE, tempLigaBE);
     }
-}
 
+
+    /**
+     * Notify listeners, e.g. the permission checks, that the Ligaleiter or the Wettkaempfe of a Veranstaltung have
+     * changed.
+     */
+    private void publishOwnershipChanged(final Long veranstaltungId) {
+        eventPublisher.publishEvent(new UserOwnershipChangedEvent("Veranstaltung", veranstaltungId));
+    }
+}
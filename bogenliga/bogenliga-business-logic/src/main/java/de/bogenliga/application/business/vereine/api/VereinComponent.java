@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.vereine.api;
 
+import java.util.Collection;
 import java.util.List;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.common.component.ComponentFacade;
@@ -27,6 +28,16 @@ public interface VereinComponent extends ComponentFacade {
      */
     VereinDO findById(final long vereinId);
 
+
+    /**
+     * Returns all "Vereine" with the given ids, loaded with one query
+     *
+     * @param vereinIds IDs of the vereine to be queried from the database.
+     *
+     * @return returns the queried vereine, in no particular order
+     */
+    List<VereinDO> findByIds(final Collection<Long> vereinIds);
+
     /**
      * Create an entry of verein
      *
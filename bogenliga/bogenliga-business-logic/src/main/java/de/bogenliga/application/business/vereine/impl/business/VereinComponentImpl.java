@@ -1,11 +1,13 @@
 package de.bogenliga.application.business.vereine.impl.business;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.regionen.impl.business.RegionenComponentImpl;
 import de.bogenliga.application.business.regionen.impl.dao.RegionenDAO;
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
@@ -13,6 +15,8 @@ import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.dao.VereinDAO;
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
 import de.bogenliga.application.business.vereine.impl.mapper.VereinMapper;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
 import de.bogenliga.application.common.validation.Preconditions;
 
 /**
@@ -30,20 +34,27 @@ public class VereinComponentImpl implements VereinComponent {
     private static final String PRECONDITION_MSG_VEREIN_REGION_ID = "VereinDO region id must not be null";
     private static final String PRECONDITION_MSG_VEREIN_REGION_ID_NOT_NEG = "VereinDO region id must not be negative";
     private static final String PRECONDITION_MSG_VEREIN_DSB_MITGLIED_NOT_NEG = "DsbMitglied id must not be negative";
+    private static final String PRECONDITION_MSG_VEREIN_IDS = "Verein IDs must not be null";
+
+    static final String CACHE_NAME = "verein";
 
     private final VereinDAO vereinDAO;
     private final RegionenDAO regionenDAO;
+    private final EntityCache<Long, VereinBE> vereinCache;
+    private final EntityCache<Long, RegionenBE> regionenCache;
 
     @Autowired
-    public VereinComponentImpl(VereinDAO vereinDAO, RegionenDAO regionenDao) {
+    public VereinComponentImpl(VereinDAO vereinDAO, RegionenDAO regionenDao, EntityCacheManager entityCacheManager) {
         this.vereinDAO = vereinDAO;
         this.regionenDAO = regionenDao;
+        this.vereinCache = entityCacheManager.getCache(CACHE_NAME);
+        this.regionenCache = entityCacheManager.getCache(RegionenComponentImpl.CACHE_NAME);
     }
 
 
     @Override
     public List<VereinDO> findAll() {
-        final List<VereinBE> vereinBEList = vereinDAO.findAll();
+        final List<VereinBE> vereinBEList = vereinCache.getAll(vereinDAO::findAll);
         List<VereinDO> vereinDOList = vereinBEList.stream().map(VereinMapper.toVereinDO).collect(Collectors.toList());
 
         return alterDoByRegionName(vereinDOList);
@@ -56,6 +67,7 @@ public class VereinComponentImpl implements VereinComponent {
 
         final VereinBE vereinBE = VereinMapper.toVereinBE.apply(vereinDO);
         final VereinBE persistedVereinBE = vereinDAO.create(vereinBE, currentDsbMitglied);
+        vereinCache.invalidate();
 
         return VereinMapper.toVereinDO.apply(persistedVereinBE);
     }
@@ -63,13 +75,24 @@ public class VereinComponentImpl implements VereinComponent {
 
     @Override
     public VereinDO findById(long vereinId) {
-        final VereinBE vereinBE = vereinDAO.findById(vereinId);
+        final VereinBE vereinBE = vereinCache.get(vereinId, vereinDAO::findById);
         final VereinDO vereinDO = VereinMapper.toVereinDO.apply(vereinBE);
-        vereinDO.setRegionName(this.regionenDAO.findById(vereinBE.getVereinRegionId()).getRegionName());
+        vereinDO.setRegionName(regionenCache.get(vereinBE.getVereinRegionId(), regionenDAO::findById).getRegionName());
 
         return vereinDO;
     }
 
+
+    @Override
+    public List<VereinDO> findByIds(Collection<Long> vereinIds) {
+        Preconditions.checkNotNull(vereinIds, PRECONDITION_MSG_VEREIN_IDS);
+
+        final List<VereinBE> vereinBEList = vereinDAO.findByIds(vereinIds);
+        List<VereinDO> vereinDOList = vereinBEList.stream().map(VereinMapper.toVereinDO).collect(Collectors.toList());
+
+        return vereinDOList.isEmpty() ? vereinDOList : alterDoByRegionName(vereinDOList);
+    }
+
     @Override
     public VereinDO update(VereinDO vereinDO, long currentDsbMitglied) {
         checkVereinDO(vereinDO, currentDsbMitglied);
@@ -77,6 +100,7 @@ public class VereinComponentImpl implements VereinComponent {
 
         final VereinBE vereinBE = VereinMapper.toVereinBE.apply(vereinDO);
         final VereinBE persistedVereinBE = vereinDAO.update(vereinBE, currentDsbMitglied);
+        vereinCache.invalidate();
         return VereinMapper.toVereinDO.apply(persistedVereinBE);
     }
 
@@ -90,6 +114,7 @@ public class VereinComponentImpl implements VereinComponent {
         final VereinBE vereinBE = VereinMapper.toVereinBE.apply(vereinDO);
 
         vereinDAO.delete(vereinBE, currentDsbMitglied);
+        vereinCache.invalidate();
     }
 
 
@@ -113,7 +138,7 @@ public class VereinComponentImpl implements VereinComponent {
      * @return List of {@VereinDO} elements altered with a regionName
      */
     private List<VereinDO> alterDoByRegionName(List<VereinDO> vereinDOList) {
-        final List<RegionenBE> regionenBEList = regionenDAO.findAll();
+        final List<RegionenBE> regionenBEList = regionenCache.getAll(regionenDAO::findAll);
         for (int i = 0; i < vereinDOList.size(); i++) {
             VereinDO tmpVerein = vereinDOList.get(i);
 
@@ -1,6 +1,10 @@
 package de.bogenliga.application.business.vereine.impl.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -11,6 +15,7 @@ import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.database.queries.QueryBuilder;
 
 /**
  * DataAccessObject for the Verein entity in the database
@@ -102,6 +107,31 @@ public class VereinDAO implements DataAccessObject {
         return basicDao.selectSingleEntity(VEREIN, FIND_BY_ID, vereinId);
     }
 
+
+    /**
+     * Returns all "Verein" entries with the given ids in one query
+     *
+     * @param vereinIds Ids of the vereine that should be queried, null values and duplicates are ignored
+     *
+     * @return Returns the found vereine as Business Entities, in no particular order
+     */
+    public List<VereinBE> findByIds(final Collection<Long> vereinIds) {
+        final List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(vereinIds));
+        distinctIds.remove(null);
+
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String sql = new QueryBuilder()
+                .selectAll()
+                .from(TABLE)
+                .whereIn(VEREIN_TABLE_ID, distinctIds.size())
+                .compose().toString();
+
+        return basicDao.selectEntityList(VEREIN, sql, distinctIds.toArray());
+    }
+
     /**
      * Creates a verein database entry
      *
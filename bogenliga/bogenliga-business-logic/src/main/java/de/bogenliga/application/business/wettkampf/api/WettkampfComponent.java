@@ -4,6 +4,8 @@ package de.bogenliga.application.business.wettkampf.api;
 import java.util.List;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.common.component.ComponentFacade;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 /**
  * Responsible for the wettkampf database requests.
  * @Autor Marvin Holm, Daniel Schott
@@ -18,6 +20,16 @@ public interface WettkampfComponent extends ComponentFacade {
      */
     List<WettkampfDO> findAll();
 
+
+    /**
+     * Return a page of all wettkampf entries.
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of wettkampf entries in the database; empty page, if no further entry is found
+     */
+    Page<WettkampfDO> pageAll(PageRequest pageRequest);
+
     List<WettkampfDO> findByAusrichter(long id);
     /**
      * Return a wettkampf entry with the given id.
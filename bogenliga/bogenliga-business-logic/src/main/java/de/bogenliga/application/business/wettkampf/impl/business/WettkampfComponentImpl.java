@@ -4,12 +4,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.business.wettkampf.impl.dao.WettkampfDAO;
 import de.bogenliga.application.business.wettkampf.impl.entity.WettkampfBE;
 import de.bogenliga.application.business.wettkampf.impl.mapper.WettkampfMapper;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -32,6 +36,7 @@ public class WettkampfComponentImpl implements WettkampfComponent {
 
 
     private final WettkampfDAO wettkampfDAO;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -40,10 +45,12 @@ public class WettkampfComponentImpl implements WettkampfComponent {
      * dependency injection with {@link Autowired}
      *
      * @param wettkampfDAO to access the database and return dsbmitglied representations
+     * @param eventPublisher to notify about Wettkaempfe, which are added to or removed from a Veranstaltung
      */
     @Autowired
-    public WettkampfComponentImpl(final WettkampfDAO wettkampfDAO) {
+    public WettkampfComponentImpl(final WettkampfDAO wettkampfDAO, final ApplicationEventPublisher eventPublisher) {
         this.wettkampfDAO = wettkampfDAO;
+        this.eventPublisher = eventPublisher;
         System.out.println("created DAO object");
     }
 
@@ -54,6 +61,12 @@ public class WettkampfComponentImpl implements WettkampfComponent {
         return wettkampfBEList.stream().map(WettkampfMapper.toWettkampfDO).collect(Collectors.toList());
     }
 
+
+    @Override
+    public Page<WettkampfDO> pageAll(final PageRequest pageRequest) {
+        return wettkampfDAO.pageAll(pageRequest).map(WettkampfMapper.toWettkampfDO);
+    }
+
     // Do we need this method for anything or does it purely exist because it has to implement the interfaces method?
     @Override
     public List<WettkampfDO> findByAusrichter(long id) {
@@ -101,6 +114,7 @@ public class WettkampfComponentImpl implements WettkampfComponent {
         System.out.println("\n\n");
         System.out.println(wettkampfBE.toString());
         final WettkampfBE persistedWettkampfBe = wettkampfDAO.create(wettkampfBE, currentWettkampfID);
+        publishOwnershipChanged(persistedWettkampfBe.getId());
 
         return WettkampfMapper.toWettkampfDO.apply(persistedWettkampfBe);
     }
@@ -115,6 +129,7 @@ public class WettkampfComponentImpl implements WettkampfComponent {
         System.out.println("\n\n");
         System.out.println(wettkampfBE.toString());
         final WettkampfBE persistedWettkampfBe = wettkampfDAO.update(wettkampfBE, currentWettkampfID);
+        publishOwnershipChanged(wettkampfDO.getId());
 
         return WettkampfMapper.toWettkampfDO.apply(persistedWettkampfBe);
     }
@@ -129,7 +144,7 @@ public class WettkampfComponentImpl implements WettkampfComponent {
         final WettkampfBE wettkampfBE = WettkampfMapper.toWettkampfBE.apply(wettkampfDO);
 
         wettkampfDAO.delete(wettkampfBE, currentWettkampfID);
-
+        publishOwnershipChanged(wettkampfDO.getId());
     }
 
 
@@ -150,4 +165,11 @@ public class WettkampfComponentImpl implements WettkampfComponent {
 
     }
 
+
+    /**
+     * Notify listeners, e.g. the permission checks, that the Veranstaltung of a Wettkampf may have changed.
+     */
+    private void publishOwnershipChanged(final Long wettkampfId) {
+        eventPublisher.publishEvent(new UserOwnershipChangedEvent("Wettkampf", wettkampfId));
+    }
 }
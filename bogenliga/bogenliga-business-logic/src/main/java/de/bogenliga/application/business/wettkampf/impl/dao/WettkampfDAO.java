@@ -5,12 +5,15 @@ import de.bogenliga.application.business.wettkampf.impl.entity.WettkampfBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -155,6 +158,19 @@ public class WettkampfDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return a page of all Wettkampf entries ordered by the id
+     *
+     * @param pageRequest with the key of the previous page, the limit and the requested fields
+     *
+     * @return page of Wettkampf entries; empty page, if no further entry is found
+     */
+    public Page<WettkampfBE> pageAll(final PageRequest pageRequest) {
+        return basicDao.selectEntityPage(WETTKAMPF, pageRequest,
+                wettkampfBE -> Collections.singletonList(wettkampfBE.getId()), WETTKAMPF_TABLE_ID);
+    }
+
+
     /**
      * Return Wettkampf entry with specific id
      *
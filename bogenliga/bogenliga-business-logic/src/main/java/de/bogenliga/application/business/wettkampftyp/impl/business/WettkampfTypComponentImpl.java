@@ -9,6 +9,8 @@ import de.bogenliga.application.business.wettkampftyp.api.types.WettkampfTypDO;
 import de.bogenliga.application.business.wettkampftyp.impl.dao.WettkampfTypDAO;
 import de.bogenliga.application.business.wettkampftyp.impl.entity.WettkampfTypBE;
 import de.bogenliga.application.business.wettkampftyp.impl.mapper.WettkampfTypMapper;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -25,7 +27,10 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
 
 
 
+    static final String CACHE_NAME = "wettkampftyp";
+
     private final WettkampfTypDAO wettkampftypDAO;
+    private final EntityCache<Long, WettkampfTypBE> wettkampftypCache;
 
 
     /**
@@ -33,14 +38,19 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
      *
      * dependency injection with {@link Autowired}
      * @param wettkampftypDAO to access the database and return dsbmitglied representations
+     * @param entityCacheManager to cache the rarely changed wettkampftypen
      */
     @Autowired
-    public WettkampfTypComponentImpl(final WettkampfTypDAO wettkampftypDAO) { this.wettkampftypDAO = wettkampftypDAO;}
+    public WettkampfTypComponentImpl(final WettkampfTypDAO wettkampftypDAO,
+                                     final EntityCacheManager entityCacheManager) {
+        this.wettkampftypDAO = wettkampftypDAO;
+        this.wettkampftypCache = entityCacheManager.getCache(CACHE_NAME);
+    }
 
 
     @Override
     public List<WettkampfTypDO> findAll() {
-        final List<WettkampfTypBE> wettkampftypBEList = wettkampftypDAO.findAll();
+        final List<WettkampfTypBE> wettkampftypBEList = wettkampftypCache.getAll(wettkampftypDAO::findAll);
         return wettkampftypBEList.stream().map(WettkampfTypMapper.toWettkampfTypDO).collect(Collectors.toList());
     }
 
@@ -49,7 +59,7 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
     public WettkampfTypDO findById(final long id) {
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_WETTKAMPFTYP_ID);
 
-        final WettkampfTypBE result = wettkampftypDAO.findById(id);
+        final WettkampfTypBE result = wettkampftypCache.get(id, wettkampftypDAO::findById);
 
         if (result == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
@@ -66,6 +76,7 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
 
         final WettkampfTypBE wettkampftypBE = WettkampfTypMapper.toWettkampfTypBE.apply(wettkampftypDO);
         final WettkampfTypBE persistedWettkampftypBe = wettkampftypDAO.create(wettkampftypBE, currentWettkampftypID);
+        wettkampftypCache.invalidate();
 
         return WettkampfTypMapper.toWettkampfTypDO.apply(persistedWettkampftypBe);
     }
@@ -78,6 +89,7 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
 
         final WettkampfTypBE wettkampftypBE = WettkampfTypMapper.toWettkampfTypBE.apply(wettkampftypDO);
         final WettkampfTypBE persistedWettkampftypBe = wettkampftypDAO.update(wettkampftypBE, currentWettkampftypID);
+        wettkampftypCache.invalidate();
 
         return WettkampfTypMapper.toWettkampfTypDO.apply(persistedWettkampftypBe);
     }
@@ -92,6 +104,7 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
         final WettkampfTypBE wettkampftypBE = WettkampfTypMapper.toWettkampfTypBE.apply(wettkampftypDO);
 
         wettkampftypDAO.delete(wettkampftypBE, currentWettkampftypID);
+        wettkampftypCache.invalidate();
 
     }
 
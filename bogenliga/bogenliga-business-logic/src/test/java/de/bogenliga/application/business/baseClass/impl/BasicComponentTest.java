@@ -108,7 +108,8 @@ public class BasicComponentTest<T, B> {
     public void assertException() throws IllegalAccessException {
 
         for (Method method : expectedEntity.getClass().getDeclaredMethods()) {
-            if (method.getName().contains("find")) {
+            // lambdas in find methods are compiled to synthetic methods, which contain "find" in their name
+            if (method.getName().contains("find") && !method.isSynthetic()) {
                 this.method = method;
                 int count = method.getParameterCount();
                 // cant test parameters of methods without params
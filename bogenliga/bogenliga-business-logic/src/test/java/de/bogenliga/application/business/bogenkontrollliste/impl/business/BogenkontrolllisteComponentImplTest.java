@@ -1,8 +1,10 @@
 package de.bogenliga.application.business.bogenkontrollliste.impl.business;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,27 +12,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
-import org.mockito.stubbing.Answer;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
-import de.bogenliga.application.business.dsbmannschaft.impl.business.DsbMannschaftComponentImplTest;
-import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
-import de.bogenliga.application.business.dsbmitglied.impl.business.DsbMitgliedComponentImplTest;
-import de.bogenliga.application.business.liga.api.LigaComponent;
-import de.bogenliga.application.business.liga.api.types.LigaDO;
-import de.bogenliga.application.business.liga.impl.business.LigaComponentImplTest;
+import de.bogenliga.application.business.eligibility.api.EligibilityComponent;
+import de.bogenliga.application.business.eligibility.api.types.WettkampfEligibilityDO;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.mannschaftsmitglied.impl.business.MannschaftsmitgliedComponentImplTest;
 import de.bogenliga.application.business.match.api.MatchComponent;
-import de.bogenliga.application.business.match.impl.business.MatchComponentImplTest;
+import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.impl.business.VeranstaltungComponentImplTest;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
-import de.bogenliga.application.business.vereine.impl.business.VereinComponentImplTest;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.impl.business.WettkampfComponentImplTest;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -47,10 +40,6 @@ public class BogenkontrolllisteComponentImplTest {
     @Rule
     public MockitoRule mockitoRule = MockitoJUnit.rule();
 
-    @Mock
-    private DsbMannschaftComponent dsbMannschaftComponent;
-    @Mock
-    private VereinComponent vereinComponent;
     @Mock
     private WettkampfComponent wettkampfComponent;
     @Mock
@@ -60,9 +49,7 @@ public class BogenkontrolllisteComponentImplTest {
     @Mock
     private MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
     @Mock
-    private DsbMitgliedComponent dsbMitgliedComponent;
-    @Mock
-    private LigaComponent ligaComponent;
+    private EligibilityComponent eligibilityComponent;
 
     @InjectMocks
     private BogenkontrolllisteComponentImpl underTest;
@@ -74,27 +61,27 @@ public class BogenkontrolllisteComponentImplTest {
             mannschaftsmitgliedDOList.add(MannschaftsmitgliedComponentImplTest.getMannschatfsmitgliedDO());
         }
 
+        List<MatchDO> matchDOList = new ArrayList<>();
+        Map<Long, String> mannschaftsNamen = new HashMap<>();
+        for (long scheibe = 1; scheibe <= 8; scheibe++) {
+            matchDOList.add(new MatchDO(scheibe, 1L, WETTKAMPFID, scheibe, (scheibe + 1) / 2, scheibe,
+                    0L, 0L, 0L, 0L, 0L, 0L, 0L));
+            matchDOList.add(new MatchDO(scheibe + 8, 2L, WETTKAMPFID, scheibe, (scheibe + 1) / 2, scheibe,
+                    0L, 0L, 0L, 0L, 0L, 0L, 0L));
+            mannschaftsNamen.put(scheibe, "Verein " + scheibe);
+        }
+
+        // the first shooter has been used in a higher Liga
+        WettkampfEligibilityDO eligibility = new WettkampfEligibilityDO(WETTKAMPFID,
+                Collections.singleton(mannschaftsmitgliedDOList.get(0).getDsbMitgliedId()), Collections.emptySet());
+
         //configure Mocks
-        when(mannschaftsmitgliedComponent.findAllSchuetzeInTeamEingesetzt(anyLong())).thenReturn(mannschaftsmitgliedDOList);
-        when(vereinComponent.findById(anyLong())).thenAnswer((Answer<VereinDO>) invocation -> {
-            VereinDO ret = VereinComponentImplTest.getVereinDO();
-            ret.setName("Verein " + UUID.randomUUID());
-            return ret;
-        });
-        when(matchComponent.findByWettkampfIDMatchNrScheibenNr(anyLong(), anyLong(), anyLong())).thenReturn(MatchComponentImplTest.getMatchDO());
+        when(mannschaftsmitgliedComponent.findAllSchuetzeInTeam(anyLong())).thenReturn(mannschaftsmitgliedDOList);
+        when(matchComponent.findByWettkampfId(anyLong())).thenReturn(matchDOList);
+        when(matchComponent.getMannschaftsNamenByIDs(any())).thenReturn(mannschaftsNamen);
         when(wettkampfComponent.findById(anyLong())).thenReturn(WettkampfComponentImplTest.getWettkampfDO());
         when(veranstaltungComponent.findById(anyLong())).thenReturn(VeranstaltungComponentImplTest.getVeranstaltungDO());
-        when(dsbMannschaftComponent.findById(anyLong())).thenAnswer((Answer<DsbMannschaftDO>) invocation -> {
-            DsbMannschaftDO ret = DsbMannschaftComponentImplTest.getDsbMannschaftDO();
-            ret.setNummer((long)(Math.random() * 2 + 1));
-            return ret;
-        });
-        List<LigaDO> ligen=new ArrayList<LigaDO>();
-        ligen.add(LigaComponentImplTest.getLigaDO());
-        when(ligaComponent.findAll()).thenReturn(ligen);
-
-        when(dsbMitgliedComponent.findById(anyLong())).thenReturn(DsbMitgliedComponentImplTest.getDsbMitgliedDO());
-
+        when(eligibilityComponent.findByWettkampfId(anyLong())).thenReturn(eligibility);
 
         //call test method
         final byte[] actual = underTest.getBogenkontrolllistePDFasByteArray(WETTKAMPFID);
@@ -103,6 +90,10 @@ public class BogenkontrolllisteComponentImplTest {
         Assertions.assertThat(actual).isNotEmpty();
 
         //verify invocations
-        verify(matchComponent, atLeastOnce()).findByWettkampfIDMatchNrScheibenNr(anyLong(), anyLong(), anyLong());
+        verify(matchComponent, times(1)).findByWettkampfId(WETTKAMPFID);
+        verify(matchComponent, times(1)).getMannschaftsNamenByIDs(any());
+        verify(eligibilityComponent, times(1)).findByWettkampfId(WETTKAMPFID);
+        verify(mannschaftsmitgliedComponent, times(8)).findAllSchuetzeInTeam(anyLong());
+        verify(wettkampfComponent, times(1)).findById(WETTKAMPFID);
     }
-}
\ No newline at end of file
+}
@@ -8,11 +8,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.configuration.api.types.ConfigurationDO;
 import de.bogenliga.application.business.configuration.impl.dao.ConfigurationDAO;
 import de.bogenliga.application.business.configuration.impl.entity.ConfigurationBE;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -39,6 +42,8 @@ public class ConfigurationComponentImplTest {
     public MockitoRule mockitoRule = MockitoJUnit.rule();
     @Mock
     private ConfigurationDAO configurationDAO;
+    @Spy
+    private EntityCacheManager entityCacheManager = new EntityCacheManager(new EntityCacheConfiguration());
     @InjectMocks
     private ConfigurationComponentImpl underTest;
     @Captor
@@ -5,11 +5,14 @@ import java.util.List;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import de.bogenliga.application.business.disziplin.api.types.DisziplinDO;
 import de.bogenliga.application.business.disziplin.impl.BaseDisziplinTest;
 import de.bogenliga.application.business.disziplin.impl.dao.DisziplinDAO;
 import de.bogenliga.application.business.disziplin.impl.entity.DisziplinBE;
 import de.bogenliga.application.business.disziplin.impl.mapper.DisziplinMapper;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -23,6 +26,8 @@ public class DisziplinComponentImplTest extends BaseDisziplinTest {
     @Mock
     private DisziplinDAO disziplinDAO;
 
+    @Spy
+    private EntityCacheManager entityCacheManager = new EntityCacheManager(new EntityCacheConfiguration());
     @InjectMocks
     private DisziplinComponentImpl underTest;
 
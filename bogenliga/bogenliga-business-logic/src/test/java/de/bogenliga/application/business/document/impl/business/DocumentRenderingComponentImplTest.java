@@ -0,0 +1,161 @@
+package de.bogenliga.application.business.document.impl.business;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import org.junit.Test;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import de.bogenliga.application.business.document.api.DocumentRenderingComponent;
+import de.bogenliga.application.business.document.api.DocumentWriter;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class DocumentRenderingComponentImplTest {
+
+    private static final BiConsumer<Document, String> PAGE_WRITER =
+            (doc, text) -> doc.add(new Paragraph(text));
+
+
+    /**
+     * @return rendering component with two worker threads for the tests of the pdf documents
+     */
+    public static DocumentRenderingComponent getDocumentRenderingComponent() {
+        return new DocumentRenderingComponentImpl(2);
+    }
+
+
+    @Test
+    public void writePages_shouldMergePagesInOrder() throws IOException {
+        // prepare test data
+        final List<String> pages = Arrays.asList("Seite 1", "Seite 2", "Seite 3", "Seite 4", "Seite 5", "Seite 6");
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final DocumentRenderingComponentImpl underTest = new DocumentRenderingComponentImpl(2);
+
+        // call test method
+        underTest.writePages(pages, PageSize.A4, PAGE_WRITER, result);
+
+        // assert result
+        assertThat(getTextOfPages(result.toByteArray())).isEqualTo(pages);
+
+        underTest.shutdown();
+    }
+
+
+    @Test
+    public void writePages_withoutWorkerThreads_shouldMergePagesInOrder() throws IOException {
+        // prepare test data
+        final List<String> pages = Arrays.asList("Seite 1", "Seite 2", "Seite 3");
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final DocumentRenderingComponentImpl underTest = new DocumentRenderingComponentImpl(1);
+
+        // call test method
+        underTest.writePages(pages, PageSize.A4, PAGE_WRITER, result);
+
+        // assert result
+        assertThat(getTextOfPages(result.toByteArray())).isEqualTo(pages);
+    }
+
+
+    @Test
+    public void writePages_withSinglePage_shouldWritePage() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final DocumentRenderingComponentImpl underTest = new DocumentRenderingComponentImpl(2);
+
+        // call test method
+        underTest.writePages(Collections.singletonList("Seite 1"), PageSize.A4, PAGE_WRITER, result);
+
+        // assert result
+        assertThat(getTextOfPages(result.toByteArray())).containsExactly("Seite 1");
+
+        underTest.shutdown();
+    }
+
+
+    @Test
+    public void writePages_withFailingPage_shouldThrowException() {
+        // prepare test data
+        final List<String> pages = Arrays.asList("Seite 1", "Seite 2", "Seite 3");
+        final DocumentRenderingComponentImpl underTest = new DocumentRenderingComponentImpl(2);
+
+        // call test method
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.writePages(pages, PageSize.A4, (doc, text) -> {
+                    if ("Seite 2".equals(text)) {
+                        throw new IllegalStateException(text);
+                    }
+                    PAGE_WRITER.accept(doc, text);
+                }, new ByteArrayOutputStream()))
+                .withMessage("Seite 2");
+
+        underTest.shutdown();
+    }
+
+
+    @Test
+    public void writePages_withoutPages_shouldThrowException() {
+        // prepare test data
+        final DocumentRenderingComponentImpl underTest = new DocumentRenderingComponentImpl(1);
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.writePages(Collections.<String>emptyList(), PageSize.A4, PAGE_WRITER,
+                        new ByteArrayOutputStream()));
+    }
+
+
+    @Test
+    public void preparePages_withoutPages_shouldThrowExceptionBeforeWriting() {
+        // prepare test data
+        final DocumentRenderingComponentImpl underTest = new DocumentRenderingComponentImpl(1);
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.preparePages(Collections.<String>emptyList(), PageSize.A4, PAGE_WRITER));
+    }
+
+
+    @Test
+    public void preparePages_shouldWritePagesLater() throws IOException {
+        // prepare test data
+        final List<String> pages = Arrays.asList("Seite 1", "Seite 2");
+        final DocumentRenderingComponentImpl underTest = new DocumentRenderingComponentImpl(1);
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        // call test method
+        final DocumentWriter actual = underTest.preparePages(pages, PageSize.A4, PAGE_WRITER);
+
+        // assert result
+        assertThat(result.size()).isZero();
+
+        actual.writeTo(result);
+
+        assertThat(getTextOfPages(result.toByteArray())).containsExactly("Seite 1", "Seite 2");
+    }
+
+
+    private static List<String> getTextOfPages(final byte[] pdf) throws IOException {
+        try (final PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            final String[] pages = new String[pdfDocument.getNumberOfPages()];
+
+            for (int i = 0; i < pages.length; i++) {
+                pages[i] = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i + 1)).trim();
+            }
+            return Arrays.asList(pages);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -140,7 +141,7 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAll();
-        verify(vereinDAO).findById(anyLong());
+        verify(vereinDAO).findByIds(any());
     }
 
     @Test
@@ -179,7 +180,7 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAllByVereinsId(VEREIN_ID);
-        verify(vereinDAO).findById(anyLong());
+        verify(vereinDAO).findByIds(any());
     }
 
     @Test
@@ -218,7 +219,7 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAllByVeranstaltungsId(VERANSTALTUNG_ID);
-        verify(vereinDAO).findById(anyLong());
+        verify(vereinDAO).findByIds(any());
     }
 
     @Test
@@ -603,7 +604,7 @@ public class DsbMannschaftComponentImplTest {
 
         // configure mocks
         when(dsbMannschaftDAO.findAll()).thenReturn(expectedBEList);
-        when(vereinDAO.findById(VEREIN_ID)).thenReturn(expectedVerein);
+        when(vereinDAO.findByIds(any())).thenReturn(Collections.singletonList(expectedVerein));
 
         // call test method
         final List<DsbMannschaftDO> actual = underTest.findAll();
@@ -634,7 +635,60 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAll();
-        verify(vereinDAO).findById(VEREIN_ID);
+        verify(vereinDAO).findByIds(Collections.singleton(VEREIN_ID));
+        verify(vereinDAO, never()).findById(anyLong());
+    }
+
+
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final DsbMannschaftBE expectedBE = getDsbMannschaftBE();
+        final VereinBE expectedVerein = getVereinBE();
+        final List<Long> ids = Collections.singletonList(ID);
+
+        // configure mocks
+        when(dsbMannschaftDAO.findByIds(ids)).thenReturn(Collections.singletonList(expectedBE));
+        when(vereinDAO.findByIds(any())).thenReturn(Collections.singletonList(expectedVerein));
+
+        // call test method
+        final List<DsbMannschaftDO> actual = underTest.findByIds(ids);
+
+        // assert result
+        assertThat(actual)
+                .isNotNull()
+                .hasSize(1);
+
+        assertThat(actual.get(0).getId())
+                .isEqualTo(expectedBE.getId());
+        assertThat(actual.get(0).getVereinId())
+                .isEqualTo(expectedBE.getVereinId());
+        assertThat(actual.get(0).getName())
+                .isEqualTo(MA_NAME);
+
+        // verify invocations
+        verify(dsbMannschaftDAO).findByIds(ids);
+        verify(vereinDAO).findByIds(Collections.singleton(VEREIN_ID));
+    }
+
+
+    @Test
+    public void findByIds_withoutResult() {
+        // prepare test data
+        final List<Long> ids = Collections.singletonList(ID);
+
+        // configure mocks
+        when(dsbMannschaftDAO.findByIds(ids)).thenReturn(Collections.emptyList());
+
+        // call test method
+        final List<DsbMannschaftDO> actual = underTest.findByIds(ids);
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verify(dsbMannschaftDAO).findByIds(ids);
+        verifyZeroInteractions(vereinDAO);
     }
 
     @Test
@@ -9,14 +9,17 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static de.bogenliga.application.business.dsbmannschaft.impl.business.DsbMannschaftComponentImplTest.getDsbMannschaftBE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class DsbMannschaftBasicDAOTest {
@@ -158,6 +161,43 @@ public class DsbMannschaftBasicDAOTest {
     }
 
 
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final DsbMannschaftBE expectedBE = getDsbMannschaftBE();
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<DsbMannschaftBE> actual = underTest.findByIds(Arrays.asList(id, null, id, vereinId));
+
+        // assert result
+        assertThat(actual)
+                .isNotNull()
+                .hasSize(1);
+
+        assertThat(actual.get(0).getId())
+                .isEqualTo(expectedBE.getId());
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("mannschaft_id IN (?, ?)"), eq(id), eq(vereinId));
+    }
+
+
+    @Test
+    public void findByIds_withoutIds_shouldNotQuery() {
+        // call test method
+        final List<DsbMannschaftBE> actual = underTest.findByIds(Collections.emptyList());
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verifyZeroInteractions(basicDao);
+    }
+
+
     @Test
     public void create() {
         // prepare test data
@@ -13,11 +13,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.context.ApplicationEventPublisher;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.dsbmitglied.impl.dao.DsbMitgliedDAO;
 import de.bogenliga.application.business.dsbmitglied.impl.entity.DsbMitgliedBE;
 import de.bogenliga.application.business.lizenz.impl.dao.LizenzDAO;
 import de.bogenliga.application.business.lizenz.impl.entity.LizenzBE;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -56,6 +58,8 @@ public class DsbMitgliedComponentImplTest {
     private DsbMitgliedDAO dsbMitgliedDAO;
     @Mock
     private LizenzDAO lizenzDAO;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private DsbMitgliedComponentImpl underTest;
     @Captor
@@ -387,6 +391,7 @@ public class DsbMitgliedComponentImplTest {
 
         // verify invocations
         verify(dsbMitgliedDAO).delete(dsbMitgliedBEArgumentCaptor.capture(), anyLong());
+        verify(eventPublisher).publishEvent(any(UserOwnershipChangedEvent.class));
 
         final DsbMitgliedBE persistedBE = dsbMitgliedBEArgumentCaptor.getValue();
 
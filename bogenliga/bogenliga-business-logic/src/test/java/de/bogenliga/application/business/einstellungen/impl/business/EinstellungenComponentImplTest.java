@@ -8,11 +8,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.configuration.impl.business.ConfigurationComponentImpl;
 import de.bogenliga.application.business.einstellungen.api.types.EinstellungenDO;
 import de.bogenliga.application.business.einstellungen.impl.dao.EinstellungenDAO;
 import de.bogenliga.application.business.einstellungen.impl.entity.EinstellungenBE;
+import de.bogenliga.application.common.cache.EntityCache;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -29,6 +34,8 @@ public class EinstellungenComponentImplTest {
     public MockitoRule mockitoRule = MockitoJUnit.rule();
     @Mock
     private EinstellungenDAO EinstellungenDAO ;
+    @Spy
+    private EntityCacheManager entityCacheManager = new EntityCacheManager(new EntityCacheConfiguration());
     @InjectMocks
     private EinstellungenComponentImpl underTest;
     @Captor
@@ -153,6 +160,30 @@ public class EinstellungenComponentImplTest {
 
     }
 
+
+    @Test
+    public void update_shouldInvalidateCachedConfiguration() {
+        // prepare test data
+        final EinstellungenDO input = getEinstellungenDO();
+        final EinstellungenBE expectedBE = getEinstellungenBE();
+
+        final EntityCache<String, String> configurationCache =
+                entityCacheManager.getCache(ConfigurationComponentImpl.CACHE_NAME);
+        configurationCache.get(KEY, key -> VALUE);
+
+        // configure mocks
+        when(EinstellungenDAO.update(any(EinstellungenBE.class), anyLong())).thenReturn(expectedBE);
+
+        // call test method
+        underTest.update(input, USER);
+
+        // assert result
+        assertThat(configurationCache.size()).isZero();
+
+        // verify invocations
+        verify(EinstellungenDAO).update(any(EinstellungenBE.class), anyLong());
+    }
+
     @Test
     public void delete() {
         // prepare test data
@@ -0,0 +1,115 @@
+package de.bogenliga.application.business.eligibility.impl.business;
+
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.eligibility.api.types.WettkampfEligibilityDO;
+import de.bogenliga.application.business.eligibility.impl.dao.EligibilityDAO;
+import de.bogenliga.application.business.eligibility.impl.entity.EinsatzBE;
+import de.bogenliga.application.business.eligibility.impl.entity.WettkampfStufeBE;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class EligibilityComponentImplTest {
+
+    private static final long WETTKAMPF_ID = 30;
+    private static final long OTHER_WETTKAMPF_ID = 31;
+    private static final long WETTKAMPF_TAG = 2;
+    private static final long SPORTJAHR = 2019;
+    private static final int LIGA_STUFE = 1;
+
+    private static final long STAMMSCHUETZE_HOEHERE_LIGA = 1;
+    private static final long ERSATZSCHUETZE_HOEHERE_LIGA = 2;
+    private static final long SCHUETZE_GLEICHER_TAG = 3;
+    private static final long SCHUETZE_EIGENER_WETTKAMPF = 4;
+    private static final long STAMMSCHUETZE_NIEDRIGERE_LIGA = 5;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private EligibilityDAO eligibilityDAO;
+    @InjectMocks
+    private EligibilityComponentImpl underTest;
+
+
+    public static WettkampfStufeBE getWettkampfStufeBE() {
+        final WettkampfStufeBE wettkampfStufeBE = new WettkampfStufeBE();
+        wettkampfStufeBE.setWettkampfId(WETTKAMPF_ID);
+        wettkampfStufeBE.setWettkampfTag(WETTKAMPF_TAG);
+        wettkampfStufeBE.setSportjahr(SPORTJAHR);
+        wettkampfStufeBE.setLigaStufe(LIGA_STUFE);
+        return wettkampfStufeBE;
+    }
+
+
+    public static EinsatzBE getEinsatzBE(final long dsbMitgliedId, final int eingesetzt, final long wettkampfId,
+                                         final long wettkampfTag, final int ligaStufe, final boolean geschossen) {
+        final EinsatzBE einsatzBE = new EinsatzBE();
+        einsatzBE.setDsbMitgliedId(dsbMitgliedId);
+        einsatzBE.setMannschaftId(dsbMitgliedId * 10);
+        einsatzBE.setDsbMitgliedEingesetzt(eingesetzt);
+        einsatzBE.setWettkampfId(wettkampfId);
+        einsatzBE.setWettkampfTag(wettkampfTag);
+        einsatzBE.setLigaStufe(ligaStufe);
+        einsatzBE.setGeschossen(geschossen);
+        return einsatzBE;
+    }
+
+
+    @Test
+    public void findByWettkampfId() {
+        // prepare test data
+        final WettkampfStufeBE wettkampfStufeBE = getWettkampfStufeBE();
+
+        // configure mocks
+        when(eligibilityDAO.findWettkampfStufe(WETTKAMPF_ID)).thenReturn(wettkampfStufeBE);
+        when(eligibilityDAO.findEinsaetze(WETTKAMPF_ID, SPORTJAHR)).thenReturn(Arrays.asList(
+                getEinsatzBE(STAMMSCHUETZE_HOEHERE_LIGA, 2, OTHER_WETTKAMPF_ID, 1, 0, true),
+                getEinsatzBE(ERSATZSCHUETZE_HOEHERE_LIGA, 1, OTHER_WETTKAMPF_ID, 1, 0, true),
+                getEinsatzBE(SCHUETZE_GLEICHER_TAG, 0, OTHER_WETTKAMPF_ID, WETTKAMPF_TAG, 2, true),
+                getEinsatzBE(SCHUETZE_EIGENER_WETTKAMPF, 3, WETTKAMPF_ID, WETTKAMPF_TAG, LIGA_STUFE, true),
+                getEinsatzBE(STAMMSCHUETZE_NIEDRIGERE_LIGA, 4, OTHER_WETTKAMPF_ID, WETTKAMPF_TAG, 2, false)));
+
+        // call test method
+        final WettkampfEligibilityDO actual = underTest.findByWettkampfId(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual.getWettkampfId()).isEqualTo(WETTKAMPF_ID);
+        assertThat(actual.getInHoehererLigaEingesetzt()).containsExactly(STAMMSCHUETZE_HOEHERE_LIGA);
+        assertThat(actual.getAmWettkampftagGeschossen()).containsExactly(SCHUETZE_GLEICHER_TAG);
+
+        assertThat(actual.darfSchiessen(STAMMSCHUETZE_HOEHERE_LIGA)).isFalse();
+        assertThat(actual.darfSchiessen(ERSATZSCHUETZE_HOEHERE_LIGA)).isTrue();
+        assertThat(actual.darfSchiessen(SCHUETZE_GLEICHER_TAG)).isFalse();
+        assertThat(actual.darfSchiessen(SCHUETZE_EIGENER_WETTKAMPF)).isTrue();
+        assertThat(actual.darfSchiessen(STAMMSCHUETZE_NIEDRIGERE_LIGA)).isTrue();
+
+        // verify invocations
+        verify(eligibilityDAO, times(1)).findWettkampfStufe(WETTKAMPF_ID);
+        verify(eligibilityDAO, times(1)).findEinsaetze(WETTKAMPF_ID, SPORTJAHR);
+    }
+
+
+    @Test
+    public void findByWettkampfId_withUnknownWettkampf_shouldThrowException() {
+        // configure mocks
+        when(eligibilityDAO.findWettkampfStufe(WETTKAMPF_ID)).thenReturn(null);
+
+        // call test method
+        assertThatThrownBy(() -> underTest.findByWettkampfId(WETTKAMPF_ID))
+                .isInstanceOf(BusinessException.class);
+
+        // verify invocations
+        verify(eligibilityDAO, never()).findEinsaetze(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,75 @@
+package de.bogenliga.application.business.eligibility.impl.dao;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.eligibility.impl.entity.EinsatzBE;
+import de.bogenliga.application.business.eligibility.impl.entity.WettkampfStufeBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+import static de.bogenliga.application.business.eligibility.impl.business.EligibilityComponentImplTest.getEinsatzBE;
+import static de.bogenliga.application.business.eligibility.impl.business.EligibilityComponentImplTest.getWettkampfStufeBE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class EligibilityDAOTest {
+
+    private static final long WETTKAMPF_ID = 30;
+    private static final long SPORTJAHR = 2019;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private BasicDAO basicDao;
+    @InjectMocks
+    private EligibilityDAO underTest;
+
+
+    @Test
+    public void findWettkampfStufe() {
+        // prepare test data
+        final WettkampfStufeBE expectedBE = getWettkampfStufeBE();
+
+        // configure mocks
+        when(basicDao.selectSingleEntity(any(), any(), any())).thenReturn(expectedBE);
+
+        // call test method
+        final WettkampfStufeBE actual = underTest.findWettkampfStufe(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isSameAs(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectSingleEntity(any(), anyString(), eq(WETTKAMPF_ID));
+    }
+
+
+    @Test
+    public void findEinsaetze() {
+        // prepare test data
+        final EinsatzBE expectedBE = getEinsatzBE(1L, 2, WETTKAMPF_ID, 1L, 0, true);
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<EinsatzBE> actual = underTest.findEinsaetze(WETTKAMPF_ID, SPORTJAHR);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), anyString(), eq(WETTKAMPF_ID), eq(SPORTJAHR));
+    }
+}
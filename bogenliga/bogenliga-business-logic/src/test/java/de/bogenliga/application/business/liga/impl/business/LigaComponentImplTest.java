@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.liga.impl.business;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Rule;
@@ -8,6 +9,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.liga.api.types.LigaDO;
@@ -17,12 +19,16 @@ import de.bogenliga.application.business.regionen.impl.dao.RegionenDAO;
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.user.impl.dao.UserDAO;
 import de.bogenliga.application.business.user.impl.entity.UserBE;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static de.bogenliga.application.business.regionen.impl.business.RegionenComponentImplTest.getRegionenBE;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +64,8 @@ public class LigaComponentImplTest {
     @Mock
     private UserDAO userDAO;
 
+    @Spy
+    private EntityCacheManager entityCacheManager = new EntityCacheManager(new EntityCacheConfiguration());
     @InjectMocks
     private LigaComponentImpl underTest;
 
@@ -114,7 +122,6 @@ public class LigaComponentImplTest {
 
         // configure mocks
         when(ligaDao.findAll()).thenReturn(expectedBEList);
-        when(ligaDao.findById(anyLong())).thenReturn(expectedLigaBE);
         when(regionenDAO.findById(anyLong())).thenReturn(expectedRegionBE);
         when(userDAO.findById(anyLong())).thenReturn(expectedUserBE);
 
@@ -141,7 +148,7 @@ public class LigaComponentImplTest {
 
         // verify invocations
         verify(ligaDao).findAll();
-        verify(ligaDao).findById(expectedLigaBE.getLigaUebergeordnetId());
+        verify(ligaDao, never()).findById(anyLong());
         verify(regionenDAO).findById(expectedLigaBE.getLigaRegionId());
         verify(userDAO).findById(expectedLigaBE.getLigaVerantwortlichId());
     }
@@ -195,6 +202,7 @@ public class LigaComponentImplTest {
 
         // configure mocks
         when(ligaDao.findById(anyLong())).thenReturn(expectedLigaBE);
+        when(ligaDao.findAll()).thenReturn(Collections.singletonList(expectedLigaBE));
         when(regionenDAO.findById(anyLong())).thenReturn(expectedRegionBE);
         when(userDAO.findById(anyLong())).thenReturn(expectedUserBE);
 
@@ -278,6 +286,7 @@ public class LigaComponentImplTest {
         // connfigure mocks
         when(ligaDao.create(any(LigaBE.class), anyLong())).thenReturn(expectedLigaBE);
         when(ligaDao.findById(anyLong())).thenReturn(expectedLigaBE);
+        when(ligaDao.findAll()).thenReturn(Collections.singletonList(expectedLigaBE));
         when(regionenDAO.findById(anyLong())).thenReturn(expectedRegionBE);
         when(userDAO.findById(anyLong())).thenReturn(expectedUserBE);
 
@@ -358,6 +367,7 @@ public class LigaComponentImplTest {
         // configure mocks
         when(ligaDao.update(any(LigaBE.class), anyLong())).thenReturn(expectedLigaBE);
         when(ligaDao.findById(anyLong())).thenReturn(expectedLigaBE);
+        when(ligaDao.findAll()).thenReturn(Collections.singletonList(expectedLigaBE));
         when(regionenDAO.findById(anyLong())).thenReturn(expectedRegionBE);
         when(userDAO.findById(anyLong())).thenReturn(expectedUserBE);
 
@@ -441,4 +451,65 @@ public class LigaComponentImplTest {
 
         assertThat(persistedLigaBE.getLigaId()).isEqualTo(input.getId());
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void getLevel_findAncestorIds_findDescendantIds() {
+        // prepare test data
+        final LigaBE bundesliga = getLigaBE(1L, null);
+        final LigaBE landesliga = getLigaBE(2L, 1L);
+        final LigaBE bezirksliga = getLigaBE(3L, 2L);
+        final LigaBE kreisliga = getLigaBE(4L, 3L);
+
+        // configure mocks
+        when(ligaDao.findAll()).thenReturn(Arrays.asList(kreisliga, bezirksliga, landesliga, bundesliga));
+
+        // call test method
+        final int actualLevel = underTest.getLevel(4L);
+        final List<Long> actualAncestorIds = underTest.findAncestorIds(3L);
+        final List<Long> actualDescendantIds = underTest.findDescendantIds(2L);
+
+        // assert result
+        assertThat(actualLevel).isEqualTo(3);
+        assertThat(actualAncestorIds).containsExactly(2L, 1L);
+        assertThat(actualDescendantIds).containsExactly(3L, 4L);
+        assertThat(underTest.findAncestorIds(1L)).isEmpty();
+
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.getLevel(5L));
+
+        // verify invocations
+        verify(ligaDao, times(1)).findAll();
+    }
+
+
+    @Test
+    public void delete_shouldRebuildLigaHierarchy() {
+        // prepare test data
+        final LigaBE bundesliga = getLigaBE(1L, null);
+        final LigaBE landesliga = getLigaBE(2L, 1L);
+
+        // configure mocks
+        when(ligaDao.findAll())
+                .thenReturn(Arrays.asList(bundesliga, landesliga))
+                .thenReturn(Collections.singletonList(bundesliga));
+
+        // call test method
+        assertThat(underTest.findDescendantIds(1L)).containsExactly(2L);
+        underTest.delete(getLigaDO(), USER);
+
+        // assert result
+        assertThat(underTest.findDescendantIds(1L)).isEmpty();
+
+        // verify invocations
+        verify(ligaDao, times(2)).findAll();
+    }
+
+
+    private static LigaBE getLigaBE(final Long ligaId, final Long ligaUebergeordnetId) {
+        final LigaBE ligaBE = getLigaBE();
+        ligaBE.setLigaId(ligaId);
+        ligaBE.setLigaUebergeordnetId(ligaUebergeordnetId);
+        return ligaBE;
+    }
+}
@@ -17,6 +17,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -109,4 +110,14 @@ public class LigatabelleDAOTest {
         // verify invocations
         verify(basicDao).selectEntityList(any(), any(), any());
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void refreshWettkampf() {
+        // call test method
+        underTest.refreshWettkampf(ID);
+
+        // verify invocations
+        verify(basicDao).executeUpdate(any(), any(), eq(ID), eq(ID));
+    }
+}
@@ -0,0 +1,219 @@
+package de.bogenliga.application.business.mail.impl.business;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.mail.impl.businessactivity.MailTransportBA;
+import de.bogenliga.application.business.mail.impl.dao.MailOutboxDAO;
+import de.bogenliga.application.business.mail.impl.entity.MailBE;
+import de.bogenliga.application.common.configuration.MailOutboxConfiguration;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.time.DateProvider;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class MailComponentImplTest {
+
+    private static final long USER = 1L;
+    private static final long INTERVAL = 30000L;
+    private static final long RETRY_DELAY = 60000L;
+    private static final long MAX_RETRY_DELAY = 600000L;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int BATCH_SIZE = 2;
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2018-10-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final Timestamp NOW = DateProvider.convertOffsetDateTime(OffsetDateTime.now(CLOCK));
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private MailOutboxDAO mailOutboxDAO;
+    @Mock
+    private MailTransportBA mailTransportBA;
+    @Mock
+    private ScheduledExecutorService dispatcher;
+    @Captor
+    private ArgumentCaptor<MailBE> mailBEArgumentCaptor;
+
+    private MailComponentImpl underTest;
+
+
+    @Before
+    public void initComponent() {
+        final MailOutboxConfiguration mailOutboxConfiguration = new MailOutboxConfiguration();
+        mailOutboxConfiguration.setInterval(INTERVAL);
+        mailOutboxConfiguration.setBatchSize(BATCH_SIZE);
+        mailOutboxConfiguration.setMaxAttempts(MAX_ATTEMPTS);
+        mailOutboxConfiguration.setRetryDelay(RETRY_DELAY);
+        mailOutboxConfiguration.setMaxRetryDelay(MAX_RETRY_DELAY);
+
+        underTest = new MailComponentImpl(mailOutboxDAO, mailTransportBA, mailOutboxConfiguration, CLOCK,
+                dispatcher);
+    }
+
+
+    private static MailBE getMailBE(final long id, final int attempts) {
+        final MailBE mailBE = new MailBE();
+        mailBE.setMailOutboxId(id);
+        mailBE.setRecipients("admin@bsapp.de");
+        mailBE.setSubject("Feedback");
+        mailBE.setText("Feedback " + id);
+        mailBE.setAttempts(attempts);
+        return mailBE;
+    }
+
+
+    @Test
+    public void start_shouldPollOutboxPeriodically() {
+        // call test method
+        underTest.start();
+        underTest.shutdown();
+
+        // verify invocations
+        verify(dispatcher).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        verify(dispatcher).shutdownNow();
+    }
+
+
+    @Test
+    public void send_shouldStoreMailAndWakeUpDispatcher() {
+        // call test method
+        underTest.send("Feedback", "Feedback text", Arrays.asList("admin@bsapp.de", "other.admin@bsapp.de"), USER);
+        underTest.send("Feedback", "Feedback text", Collections.singletonList("admin@bsapp.de"), USER);
+
+        // verify invocations
+        verify(mailOutboxDAO, times(2)).create(mailBEArgumentCaptor.capture(), anyLong());
+
+        final MailBE persistedBE = mailBEArgumentCaptor.getAllValues().get(0);
+        assertThat(persistedBE.getRecipients()).isEqualTo("admin@bsapp.de, other.admin@bsapp.de");
+        assertThat(persistedBE.getSubject()).isEqualTo("Feedback");
+        assertThat(persistedBE.getText()).isEqualTo("Feedback text");
+        assertThat(persistedBE.getAttempts()).isZero();
+        assertThat(persistedBE.getNextAttemptAtUtc()).isEqualTo(NOW);
+
+        // the second mail is sent by the pending run of the dispatcher
+        verify(dispatcher, times(1)).execute(any(Runnable.class));
+    }
+
+
+    @Test
+    public void send_withTransaction_shouldWakeUpDispatcherAfterCommit() {
+        // prepare test data
+        final List<Runnable> afterCommitCallbacks = new ArrayList<>();
+        underTest.setAfterCommit(afterCommitCallbacks::add);
+
+        // call test method
+        underTest.send("Feedback", "Feedback text", Collections.singletonList("admin@bsapp.de"), USER);
+
+        // assert result
+        assertThat(afterCommitCallbacks).hasSize(1);
+        verify(mailOutboxDAO).create(any(MailBE.class), anyLong());
+        verify(dispatcher, never()).execute(any(Runnable.class));
+
+        afterCommitCallbacks.forEach(Runnable::run);
+
+        // verify invocations
+        verify(dispatcher).execute(any(Runnable.class));
+    }
+
+
+    @Test
+    public void send_withoutRecipients_shouldThrowException() {
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.send("Feedback", "Feedback text", Collections.emptyList(), USER))
+                .withMessageContaining("recipient")
+                .withNoCause();
+
+        // verify invocations
+        verify(mailOutboxDAO, never()).create(any(MailBE.class), anyLong());
+    }
+
+
+    @Test
+    public void dispatch_shouldMarkSentAndFailedMails() {
+        // prepare test data
+        final MailBE sentMail = getMailBE(1L, 1);
+        final MailBE failedMail = getMailBE(2L, 3);
+
+        // configure mocks
+        when(mailOutboxDAO.claimDue(any(Timestamp.class), any(Timestamp.class), anyInt(), anyInt()))
+                .thenReturn(Arrays.asList(sentMail, failedMail))
+                .thenReturn(Collections.emptyList());
+        when(mailTransportBA.send(anyList())).thenReturn(Arrays.asList(null, "Invalid Addresses"));
+
+        // call test method
+        final int actual = underTest.dispatch();
+
+        // assert result
+        assertThat(actual).isEqualTo(1);
+
+        assertThat(sentMail.getSentAtUtc()).isEqualTo(NOW);
+        assertThat(sentMail.getLastError()).isNull();
+
+        assertThat(failedMail.getSentAtUtc()).isNull();
+        assertThat(failedMail.getLastError()).isEqualTo("Invalid Addresses");
+        assertThat(failedMail.getNextAttemptAtUtc()).isEqualTo(new Timestamp(NOW.getTime() + 4 * RETRY_DELAY));
+
+        // verify invocations
+        // the full batch is followed by a second claim
+        verify(mailOutboxDAO, times(2))
+                .claimDue(NOW, new Timestamp(NOW.getTime() + MAX_RETRY_DELAY), MAX_ATTEMPTS, BATCH_SIZE);
+        verify(mailOutboxDAO).update(Arrays.asList(sentMail, failedMail), 0L);
+    }
+
+
+    @Test
+    public void dispatch_withoutDueMails_shouldNotSend() {
+        // configure mocks
+        when(mailOutboxDAO.claimDue(any(Timestamp.class), any(Timestamp.class), anyInt(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // call test method
+        final int actual = underTest.dispatch();
+
+        // assert result
+        assertThat(actual).isZero();
+
+        // verify invocations
+        verify(mailTransportBA, never()).send(anyList());
+        verify(mailOutboxDAO, never()).update(anyList(), anyLong());
+    }
+
+
+    @Test
+    public void getRetryDelay_shouldDoubleUpToMaxRetryDelay() {
+        assertThat(underTest.getRetryDelay(1)).isEqualTo(RETRY_DELAY);
+        assertThat(underTest.getRetryDelay(2)).isEqualTo(2 * RETRY_DELAY);
+        assertThat(underTest.getRetryDelay(4)).isEqualTo(8 * RETRY_DELAY);
+        assertThat(underTest.getRetryDelay(5)).isEqualTo(MAX_RETRY_DELAY);
+        assertThat(underTest.getRetryDelay(100)).isEqualTo(MAX_RETRY_DELAY);
+    }
+}
@@ -0,0 +1,150 @@
+package de.bogenliga.application.business.mail.impl.businessactivity;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.configuration.api.ConfigurationComponent;
+import de.bogenliga.application.business.configuration.api.types.ConfigurationDO;
+import de.bogenliga.application.business.mail.impl.entity.MailBE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class MailTransportBATest {
+
+    private static final String SENDER = "noreply@bsapp.de";
+    private static final String ADMIN = "admin@bsapp.de";
+    private static final String OTHER_ADMIN = "other.admin@bsapp.de";
+    private static final String UNKNOWN = "unknown@bsapp.de";
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private ConfigurationComponent configurationComponent;
+
+    @InjectMocks
+    private MailTransportBA underTest;
+
+    private SmtpServerStub smtpServer;
+
+
+    @Before
+    public void startSmtpServer() throws IOException {
+        smtpServer = new SmtpServerStub(UNKNOWN);
+        configureSmtpPort(smtpServer.getPort());
+    }
+
+
+    @After
+    public void stopSmtpServer() throws IOException {
+        smtpServer.close();
+    }
+
+
+    private void configureSmtpPort(final int port) {
+        when(configurationComponent.findAll()).thenReturn(Arrays.asList(
+                new ConfigurationDO(MailTransportBA.SMTP_HOST, "localhost"),
+                new ConfigurationDO(MailTransportBA.SMTP_PORT, String.valueOf(port)),
+                new ConfigurationDO(MailTransportBA.SMTP_USER, ""),
+                new ConfigurationDO(MailTransportBA.SMTP_PASSWORD, ""),
+                new ConfigurationDO(MailTransportBA.SMTP_EMAIL, SENDER)));
+    }
+
+
+    private static MailBE getMailBE(final long id, final String recipients) {
+        final MailBE mailBE = new MailBE();
+        mailBE.setMailOutboxId(id);
+        mailBE.setRecipients(recipients);
+        mailBE.setSubject("Feedback");
+        mailBE.setText("Feedback " + id);
+        return mailBE;
+    }
+
+
+    @Test
+    public void send_shouldSendAllMailsWithOneConnection() {
+        // prepare test data
+        final List<MailBE> mails = Arrays.asList(
+                getMailBE(1L, ADMIN + ", " + OTHER_ADMIN),
+                getMailBE(2L, ADMIN));
+
+        // call test method
+        final List<String> actual = underTest.send(mails);
+
+        // assert result
+        assertThat(actual).containsExactly(null, null);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+        assertThat(smtpServer.getReceivedMails()).hasSize(2);
+
+        final SmtpServerStub.ReceivedMail firstMail = smtpServer.getReceivedMails().get(0);
+        assertThat(firstMail.getRecipients()).containsExactly(ADMIN, OTHER_ADMIN);
+        assertThat(firstMail.getData())
+                .contains("Subject: Feedback")
+                .contains("From: NoReply-Bogenliga <" + SENDER + ">")
+                .contains("Feedback 1");
+    }
+
+
+    @Test
+    public void send_withRejectedRecipient_shouldReturnErrorOfThisMailOnly() {
+        // prepare test data
+        final List<MailBE> mails = Arrays.asList(
+                getMailBE(1L, UNKNOWN),
+                getMailBE(2L, ADMIN));
+
+        // call test method
+        final List<String> actual = underTest.send(mails);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0)).isNotNull();
+        assertThat(actual.get(1)).isNull();
+        assertThat(smtpServer.getReceivedMails()).hasSize(1);
+        assertThat(smtpServer.getReceivedMails().get(0).getRecipients()).containsExactly(ADMIN);
+    }
+
+
+    @Test
+    public void send_withUnreachableServer_shouldReturnErrorOfAllMails() throws IOException {
+        // prepare test data
+        try (ServerSocket closedSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            configureSmtpPort(closedSocket.getLocalPort());
+        }
+
+        final List<MailBE> mails = Arrays.asList(
+                getMailBE(1L, ADMIN),
+                getMailBE(2L, OTHER_ADMIN));
+
+        // call test method
+        final List<String> actual = underTest.send(mails);
+
+        // assert result
+        assertThat(actual).hasSize(2).doesNotContainNull();
+    }
+
+
+    @Test
+    public void send_withoutMails_shouldNotConnect() {
+        // call test method
+        final List<String> actual = underTest.send(Collections.emptyList());
+
+        // assert result
+        assertThat(actual).isEmpty();
+        assertThat(smtpServer.getConnectionCount()).isZero();
+    }
+}
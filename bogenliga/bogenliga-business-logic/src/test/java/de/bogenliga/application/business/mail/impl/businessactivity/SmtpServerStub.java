@@ -0,0 +1,158 @@
+package de.bogenliga.application.business.mail.impl.businessactivity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * I am a minimal SMTP server for the tests of the mail transport.
+ * <p>
+ * I accept the connections on a free local port, support neither STARTTLS nor authentication and record the received
+ * mails. The recipients with the rejected address are answered with an error.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+class SmtpServerStub implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final String rejectedRecipient;
+    private final List<ReceivedMail> receivedMails = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+
+    SmtpServerStub(final String rejectedRecipient) throws IOException {
+        this.serverSocket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+        this.rejectedRecipient = rejectedRecipient;
+
+        final Thread acceptor = new Thread(this::accept, "smtp-server-stub");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+
+    List<ReceivedMail> getReceivedMails() {
+        return receivedMails;
+    }
+
+
+    int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connectionCount.incrementAndGet();
+                talk(socket);
+            } catch (final IOException e) {
+                // the server socket is closed or the client has disconnected
+            }
+        }
+    }
+
+
+    private void talk(final Socket socket) throws IOException {
+        final BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+        final OutputStream out = socket.getOutputStream();
+
+        List<String> recipients = new ArrayList<>();
+        reply(out, "220 localhost SMTP stub");
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            final String command = line.toUpperCase(Locale.ROOT);
+
+            if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                reply(out, "250 localhost");
+            } else if (command.startsWith("MAIL FROM")) {
+                recipients = new ArrayList<>();
+                reply(out, "250 OK");
+            } else if (command.startsWith("RCPT TO")) {
+                final String recipient = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+
+                if (recipient.equals(rejectedRecipient)) {
+                    reply(out, "550 No such user");
+                } else {
+                    recipients.add(recipient);
+                    reply(out, "250 OK");
+                }
+            } else if (command.startsWith("DATA")) {
+                reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                receivedMails.add(new ReceivedMail(recipients, readData(in)));
+                reply(out, "250 OK");
+            } else if (command.startsWith("QUIT")) {
+                reply(out, "221 Bye");
+                return;
+            } else if (command.startsWith("RSET") || command.startsWith("NOOP")) {
+                reply(out, "250 OK");
+            } else {
+                reply(out, "500 Unknown command");
+            }
+        }
+    }
+
+
+    private static String readData(final BufferedReader in) throws IOException {
+        final StringBuilder data = new StringBuilder();
+
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append('\n');
+        }
+        return data.toString();
+    }
+
+
+    private static void reply(final OutputStream out, final String reply) throws IOException {
+        out.write((reply + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+
+    /**
+     * I am a mail received by the stub.
+     */
+    static final class ReceivedMail {
+        private final List<String> recipients;
+        private final String data;
+
+
+        private ReceivedMail(final List<String> recipients, final String data) {
+            this.recipients = recipients;
+            this.data = data;
+        }
+
+
+        List<String> getRecipients() {
+            return recipients;
+        }
+
+
+        String getData() {
+            return data;
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package de.bogenliga.application.business.match.impl.business;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
+import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
+import de.bogenliga.application.business.ligatabelle.impl.dao.LigatabelleDAO;
 import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.match.api.types.MatchGridDO;
 import de.bogenliga.application.business.match.impl.BaseMatchTest;
 import de.bogenliga.application.business.match.impl.dao.MatchDAO;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.business.match.impl.mapper.MatchMapper;
+import de.bogenliga.application.business.vereine.api.VereinComponent;
+import de.bogenliga.application.business.vereine.api.types.VereinDO;
+import de.bogenliga.application.business.vereine.impl.business.VereinComponentImplTest;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.assertj.core.api.Java6Assertions.assertThatThrownBy;
@@ -22,6 +35,14 @@ public class MatchComponentImplTest extends BaseMatchTest {
 
     @Mock
     private MatchDAO matchDAO;
+    @Mock
+    private LigatabelleDAO ligatabelleDAO;
+    @Mock
+    private DsbMannschaftComponent dsbMannschaftComponent;
+    @Mock
+    private VereinComponent vereinComponent;
+    @Spy
+    private EntityCacheManager entityCacheManager = new EntityCacheManager(new EntityCacheConfiguration());
 
     @InjectMocks
     private MatchComponentImpl underTest;
@@ -207,6 +228,31 @@ public class MatchComponentImplTest extends BaseMatchTest {
     }
 
 
+    @Test
+    public void createAll() {
+        // prepare test data
+        final MatchBE expectedMatchBE = getMatchBE();
+        final MatchDO matchDO = MatchMapper.toMatchDO.apply(getMatchBE());
+        final MatchDO otherMatchDO = MatchMapper.toMatchDO.apply(getMatchBE());
+
+        // configure mocks
+        when(matchDAO.createAll(any(), anyLong())).thenReturn(Arrays.asList(expectedMatchBE, expectedMatchBE));
+
+        // call test method
+        final List<MatchDO> actual = underTest.createAll(Arrays.asList(matchDO, otherMatchDO), CURRENT_USER_ID);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+        assertValid(expectedMatchBE, actual.get(0));
+
+        // verify invocations
+        verify(matchDAO).createAll(argThat(matchBEs -> matchBEs.size() == 2), eq(CURRENT_USER_ID));
+        verify(matchDAO, never()).create(any(MatchBE.class), anyLong());
+        // both matches belong to the same wettkampf
+        verify(ligatabelleDAO, times(1)).refreshWettkampf(MATCH_WETTKAMPF_ID);
+    }
+
+
     @Test
     public void update() {
         MatchBE expectedMatchBE = getMatchBE();
@@ -220,6 +266,69 @@ public class MatchComponentImplTest extends BaseMatchTest {
         assertValid(expectedMatchBE, actual);
 
         // cannot verify invocation as BE is different in component impl method (from mapper)
+        verify(ligatabelleDAO).refreshWettkampf(expectedMatchBE.getWettkampfId());
+    }
+
+
+    @Test
+    public void updateAll() {
+        // prepare test data
+        final MatchDO matchDO = MatchMapper.toMatchDO.apply(getMatchBE());
+        final MatchDO otherMatchDO = MatchMapper.toMatchDO.apply(getMatchBE());
+
+        // configure mocks
+        when(matchDAO.updateAll(any(), anyLong())).thenReturn(2);
+
+        // call test method
+        underTest.updateAll(Arrays.asList(matchDO, otherMatchDO), CURRENT_USER_ID);
+
+        // verify invocations
+        verify(matchDAO).updateAll(argThat(matchBEs -> matchBEs.size() == 2), eq(CURRENT_USER_ID));
+        verify(matchDAO, never()).update(any(MatchBE.class), anyLong());
+        // both matches belong to the same wettkampf
+        verify(ligatabelleDAO, times(1)).refreshWettkampf(MATCH_WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void update_withMovedWettkampf_shouldRefreshBothLigatabellen() {
+        // prepare test data
+        final MatchBE oldMatchBE = getMatchBE();
+        final MatchDO matchDO = MatchMapper.toMatchDO.apply(getMatchBE());
+        matchDO.setWettkampfId(MATCH_WETTKAMPF_ID + 1);
+
+        // configure mocks
+        when(matchDAO.findById(MATCH_ID)).thenReturn(oldMatchBE);
+        when(matchDAO.update(any(MatchBE.class), anyLong())).thenReturn(MatchMapper.toMatchBE.apply(matchDO));
+
+        // call test method
+        underTest.update(matchDO, CURRENT_USER_ID);
+
+        // verify invocations
+        verify(ligatabelleDAO).refreshWettkampf(MATCH_WETTKAMPF_ID + 1);
+        verify(ligatabelleDAO).refreshWettkampf(MATCH_WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void updateAll_withMovedWettkampf_shouldRefreshBothLigatabellen() {
+        // prepare test data
+        final MatchDO matchDO = MatchMapper.toMatchDO.apply(getMatchBE());
+        matchDO.setWettkampfId(MATCH_WETTKAMPF_ID + 1);
+
+        // configure mocks
+        when(matchDAO.findByIds(Collections.singletonList(MATCH_ID)))
+                .thenReturn(Collections.singletonList(getMatchBE()));
+
+        // call test method
+        underTest.updateAll(Collections.singletonList(matchDO), CURRENT_USER_ID);
+
+        // verify invocations
+        final InOrder inOrder = inOrder(matchDAO);
+        inOrder.verify(matchDAO).findByIds(Collections.singletonList(MATCH_ID));
+        inOrder.verify(matchDAO).updateAll(any(), eq(CURRENT_USER_ID));
+        verify(ligatabelleDAO).refreshWettkampf(MATCH_WETTKAMPF_ID + 1);
+        verify(ligatabelleDAO).refreshWettkampf(MATCH_WETTKAMPF_ID);
     }
 
 
@@ -229,4 +338,129 @@ public class MatchComponentImplTest extends BaseMatchTest {
         MatchDO matchDO = MatchMapper.toMatchDO.apply(expectedMatchBE);
         underTest.delete(matchDO, CURRENT_USER_ID);
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void getMannschaftsNamenByIDs() {
+        // prepare test data
+        final DsbMannschaftDO ersteMannschaft = new DsbMannschaftDO(1L, "Bogenverein 1", 10L, 1L, 0L, 0L, 0L);
+        final DsbMannschaftDO zweiteMannschaft = new DsbMannschaftDO(2L, "Bogenverein 2", 10L, 2L, 0L, 0L, 0L);
+        final List<Long> mannschaftIDs = Arrays.asList(1L, 2L);
+
+        // configure mocks
+        when(dsbMannschaftComponent.findByIds(mannschaftIDs)).thenReturn(Arrays.asList(ersteMannschaft, zweiteMannschaft));
+
+        // call test method
+        final Map<Long, String> actual = underTest.getMannschaftsNamenByIDs(mannschaftIDs);
+
+        // assert result
+        assertThat(actual)
+                .hasSize(2)
+                .containsEntry(1L, "Bogenverein")
+                .containsEntry(2L, "Bogenverein 2");
+
+        // verify invocations
+        verify(dsbMannschaftComponent).findByIds(mannschaftIDs);
+        verify(dsbMannschaftComponent, never()).findById(anyLong());
+        verifyZeroInteractions(vereinComponent);
+    }
+
+
+    @Test
+    public void getMannschaftsNamenByIDs_withoutMannschaftOrVerein_shouldReturnEmptyName() {
+        // prepare test data
+        final DsbMannschaftDO mannschaftOhneVerein = new DsbMannschaftDO(1L, null, 10L, 1L, 0L, 0L, 0L);
+        final List<Long> mannschaftIDs = Arrays.asList(1L, 2L);
+
+        // configure mocks
+        when(dsbMannschaftComponent.findByIds(mannschaftIDs)).thenReturn(Collections.singletonList(mannschaftOhneVerein));
+
+        // call test method
+        final Map<Long, String> actual = underTest.getMannschaftsNamenByIDs(mannschaftIDs);
+
+        // assert result
+        assertThat(actual)
+                .hasSize(2)
+                .containsEntry(1L, "")
+                .containsEntry(2L, "");
+    }
+
+
+    private List<MatchBE> getBegegnungMatchBEs() {
+        final MatchBE firstMatchBE = getMatchBE();
+        final MatchBE secondMatchBE = getMatchBE();
+        secondMatchBE.setId(MATCH_ID + 1);
+        secondMatchBE.setScheibenNummer(MATCH_SCHEIBENNUMMER + 1);
+        return Arrays.asList(firstMatchBE, secondMatchBE);
+    }
+
+
+    @Test
+    public void findMatchGridByMatchId() {
+        // configure mocks
+        when(matchDAO.findById(MATCH_ID)).thenReturn(getMatchBE());
+        when(matchDAO.findByWettkampfId(MATCH_WETTKAMPF_ID)).thenReturn(getBegegnungMatchBEs());
+
+        // call test method
+        final MatchGridDO actual = underTest.findMatchGridByMatchId(MATCH_ID);
+        final MatchGridDO cached = underTest.findMatchGridByMatchId(MATCH_ID + 1);
+
+        // assert result
+        assertThat(actual.getWettkampfId()).isEqualTo(MATCH_WETTKAMPF_ID);
+        assertThat(actual.getNr(MATCH_ID)).isEqualTo(MATCH_NR);
+        assertThat(actual.getScheibenNummer(MATCH_ID)).isEqualTo(MATCH_SCHEIBENNUMMER);
+        assertThat(actual.getBegegnungMatchIds(MATCH_NR, MATCH_SCHEIBENNUMMER + 1))
+                .containsExactly(MATCH_ID, MATCH_ID + 1);
+        assertThat(actual.getBegegnungMatchIds(MATCH_NR + 1, MATCH_SCHEIBENNUMMER)).isEmpty();
+        assertThat(cached).isSameAs(actual);
+
+        // verify invocations
+        verify(matchDAO, times(1)).findById(MATCH_ID);
+        verify(matchDAO, times(1)).findByWettkampfId(MATCH_WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void updateAll_withResultsOnly_shouldKeepMatchGrid() {
+        // prepare test data
+        final MatchDO matchDO = getMatchDO();
+        matchDO.setMatchpunkte(MATCH_MATCHPUNKTE + 2);
+
+        // configure mocks
+        when(matchDAO.findByWettkampfId(MATCH_WETTKAMPF_ID)).thenReturn(getBegegnungMatchBEs());
+
+        // call test method
+        final MatchGridDO expected = underTest.findMatchGridByWettkampfId(MATCH_WETTKAMPF_ID);
+        underTest.updateAll(Collections.singletonList(matchDO), CURRENT_USER_ID);
+        final MatchGridDO actual = underTest.findMatchGridByWettkampfId(MATCH_WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isSameAs(expected);
+
+        // verify invocations
+        verify(matchDAO, times(1)).findByWettkampfId(MATCH_WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void update_withMovedMatch_shouldInvalidateMatchGrid() {
+        // prepare test data
+        final MatchDO matchDO = getMatchDO();
+        matchDO.setScheibenNummer(MATCH_SCHEIBENNUMMER + 2);
+
+        // configure mocks
+        when(matchDAO.findByWettkampfId(MATCH_WETTKAMPF_ID)).thenReturn(getBegegnungMatchBEs());
+        when(matchDAO.update(any(MatchBE.class), anyLong())).thenReturn(MatchMapper.toMatchBE.apply(matchDO));
+
+        // call test method
+        final MatchGridDO expected = underTest.findMatchGridByWettkampfId(MATCH_WETTKAMPF_ID);
+        underTest.update(matchDO, CURRENT_USER_ID);
+        final MatchGridDO actual = underTest.findMatchGridByWettkampfId(MATCH_WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isNotSameAs(expected);
+
+        // verify invocations
+        verify(matchDAO, times(2)).findByWettkampfId(MATCH_WETTKAMPF_ID);
+    }
+}
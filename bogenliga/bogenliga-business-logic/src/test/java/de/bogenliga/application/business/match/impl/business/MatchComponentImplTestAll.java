@@ -4,6 +4,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
+import de.bogenliga.application.business.ligatabelle.impl.dao.LigatabelleDAO;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.wettkampf.impl.dao.WettkampfDAO;
 import org.junit.Before;
@@ -19,7 +20,9 @@ import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.match.impl.BaseMatchTest;
 import de.bogenliga.application.business.match.impl.dao.MatchDAO;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
+import de.bogenliga.application.common.cache.EntityCacheManager;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +42,8 @@ public class MatchComponentImplTestAll extends BaseMatchTest {
     private VereinComponent vereinComponent;
     @Mock
     private WettkampfDAO wettkampfDAO;
+    @Mock
+    private LigatabelleDAO ligatabelleDAO;
 
     @InjectMocks
     private MatchDAO matchDAO;
@@ -55,7 +60,8 @@ public class MatchComponentImplTestAll extends BaseMatchTest {
     @Before
     public void testSetup() {
         expectedBE = getMatchBE();
-        underTest = new MatchComponentImpl(matchDAO,dsbMannschaftComponent, vereinComponent,wettkampfDAO );
+        underTest = new MatchComponentImpl(matchDAO,dsbMannschaftComponent, vereinComponent,wettkampfDAO, ligatabelleDAO,
+                new EntityCacheManager(new EntityCacheConfiguration()));
         basicComponentTest = new BasicComponentTest<>(underTest);
         basicTest = new BasicTest<>(expectedBE, getValuesToMethodMap());
     }
@@ -75,7 +81,8 @@ public class MatchComponentImplTestAll extends BaseMatchTest {
     public void testAllMethodsOnCorrectness() throws InvocationTargetException, IllegalAccessException {
         when(basicDAO.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
         when(basicDAO.selectSingleEntity(any(), any(), any())).thenReturn(expectedBE);
-        basicTest.testAllFindMethods(underTest);
+        // the match grids are tested in MatchComponentImplTest
+        basicTest.testAllFindMethods(underTest, "findMatchGridByWettkampfId", "findMatchGridByMatchId");
     }
 
 
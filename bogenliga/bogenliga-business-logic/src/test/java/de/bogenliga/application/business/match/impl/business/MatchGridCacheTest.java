@@ -0,0 +1,139 @@
+package de.bogenliga.application.business.match.impl.business;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongFunction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.match.api.types.MatchGridDO;
+import de.bogenliga.application.business.match.impl.BaseMatchTest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class MatchGridCacheTest {
+
+    private static final long WETTKAMPF_ID = 1L;
+    private static final long NOW = 1000000L;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+    @Mock
+    private LongFunction<MatchGridDO> loader;
+
+    private final List<Runnable> afterCommitCallbacks = new ArrayList<>();
+    private MatchGridCache underTest;
+
+
+    private static MatchGridDO getMatchGridDO(final long wettkampfId) {
+        final MatchDO matchDO = BaseMatchTest.getMatchDO();
+        matchDO.setWettkampfId(wettkampfId);
+        return new MatchGridDO(wettkampfId, Collections.singletonList(matchDO));
+    }
+
+
+    @Before
+    public void initCache() {
+        underTest = new MatchGridCache(afterCommitCallbacks::add, clock);
+
+        when(clock.millis()).thenReturn(NOW);
+        when(loader.apply(anyLong())).thenAnswer(invocation -> getMatchGridDO(invocation.getArgument(0)));
+    }
+
+
+    @Test
+    public void get_shouldLoadOnlyOnce() {
+        // call test method
+        final MatchGridDO actual = underTest.get(WETTKAMPF_ID, loader);
+        underTest.get(WETTKAMPF_ID, loader);
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(underTest.getWettkampfId(BaseMatchTest.getMatchDO().getId())).isEqualTo(WETTKAMPF_ID);
+
+        // verify invocations
+        verify(loader, times(1)).apply(WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void get_withInvalidationWhileLoading_shouldNotCacheOutdatedGrid() {
+        // configure mocks
+        when(loader.apply(WETTKAMPF_ID)).thenAnswer(invocation -> {
+            // another request changes the matches of the Wettkampf
+            underTest.invalidate(WETTKAMPF_ID);
+            return getMatchGridDO(WETTKAMPF_ID);
+        });
+
+        // call test method
+        final MatchGridDO actual = underTest.get(WETTKAMPF_ID, loader);
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(underTest.getIfPresent(WETTKAMPF_ID)).isNull();
+        assertThat(underTest.size()).isZero();
+    }
+
+
+    @Test
+    public void invalidate_shouldInvalidateAgainAfterCommit() {
+        // prepare test data
+        underTest.invalidate(WETTKAMPF_ID);
+
+        // another request loads the old matches before the commit
+        underTest.get(WETTKAMPF_ID, loader);
+        assertThat(underTest.getIfPresent(WETTKAMPF_ID)).isNotNull();
+
+        // call test method
+        afterCommitCallbacks.forEach(Runnable::run);
+
+        // assert result
+        assertThat(underTest.getIfPresent(WETTKAMPF_ID)).isNull();
+        assertThat(underTest.getWettkampfId(BaseMatchTest.getMatchDO().getId())).isNull();
+    }
+
+
+    @Test
+    public void get_withExpiredGrid_shouldLoadAgain() {
+        // prepare test data
+        underTest.get(WETTKAMPF_ID, loader);
+
+        // configure mocks
+        when(clock.millis()).thenReturn(NOW + MatchGridCache.TIME_TO_LIVE);
+
+        // call test method
+        underTest.get(WETTKAMPF_ID, loader);
+
+        // verify invocations
+        verify(loader, times(2)).apply(WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void get_withMaxSize_shouldNotCacheMoreGrids() {
+        // call test method
+        for (long wettkampfId = 1; wettkampfId <= MatchGridCache.MAX_SIZE + 1; wettkampfId++) {
+            underTest.get(wettkampfId, loader);
+        }
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(MatchGridCache.MAX_SIZE);
+        assertThat(underTest.getIfPresent(MatchGridCache.MAX_SIZE + 1L)).isNull();
+    }
+}
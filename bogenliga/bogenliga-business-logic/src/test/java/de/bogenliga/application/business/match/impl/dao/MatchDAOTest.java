@@ -1,7 +1,9 @@
 package de.bogenliga.application.business.match.impl.dao;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -10,6 +12,8 @@ import de.bogenliga.application.business.baseClass.impl.BasicTest;
 import de.bogenliga.application.business.match.impl.BaseMatchTest;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.*;
 
 /**
@@ -48,7 +52,7 @@ public class MatchDAOTest extends BaseMatchTest {
      */
     @Test
     public void testAllFindMethods() throws InvocationTargetException, IllegalAccessException {
-        basicDAOTest.testAllFindMethods(underTest);
+        basicDAOTest.testAllFindMethods(underTest, "findByIds");
     }
 
 
@@ -64,6 +68,32 @@ public class MatchDAOTest extends BaseMatchTest {
     }
 
 
+    @Test
+    public void findByIds() {
+        // call test method
+        final List<MatchBE> actual = underTest.findByIds(Arrays.asList(MATCH_ID, null, MATCH_ID));
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("match_id IN (?)"), eq(MATCH_ID));
+    }
+
+
+    @Test
+    public void findByIds_withoutIds_shouldNotQuery() {
+        // call test method
+        final List<MatchBE> actual = underTest.findByIds(Collections.emptyList());
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verify(basicDao, never()).selectEntityList(any(), any(), any());
+    }
+
+
     @Test
     public void findByPk() {
         try {
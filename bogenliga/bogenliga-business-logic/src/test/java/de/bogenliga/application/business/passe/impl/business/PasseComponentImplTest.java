@@ -1,7 +1,9 @@
 package de.bogenliga.application.business.passe.impl.business;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -16,6 +18,7 @@ import de.bogenliga.application.business.passe.impl.entity.PasseBE;
 import de.bogenliga.application.business.baseClass.impl.BasicComponentTest;
 import de.bogenliga.application.business.baseClass.impl.BasicTest;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -85,6 +88,31 @@ public class PasseComponentImplTest extends PasseBaseDAOTest {
     }
 
 
+    @Test
+    public void testCreateOrUpdateOnCorrectness() {
+        // prepare test data
+        final PasseDO existingPasse = getPasseDO();
+        final PasseDO newPasse = getPasseDO();
+        newPasse.setId(null);
+
+        // configure mocks
+        when(basicDAO.upsertEntityList(any(), any(), any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<PasseDO> actual = underTest.createOrUpdate(Arrays.asList(existingPasse, newPasse), 1L);
+
+        // assert result
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getId()).isEqualTo(expectedBE.getId());
+
+        // verify invocations
+        verify(basicDAO).upsertEntityList(any(), argThat((List<PasseBE> passeBEs) -> passeBEs.size() == 2), any(),
+                any(), any());
+        verify(basicDAO, never()).insertEntity(any(), any());
+        verify(basicDAO, never()).updateEntity(any(), any(), any());
+    }
+
+
     @Test
     public void testDelete() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
         basicComponentTest.testDeleteMethod(getPasseDO());
@@ -2,9 +2,11 @@ package de.bogenliga.application.business.passe.impl.dao;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
+import java.util.function.Predicate;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -12,7 +14,9 @@ import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.passe.impl.entity.PasseBE;
 import de.bogenliga.application.business.baseClass.impl.BasicTest;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,4 +61,26 @@ public class PasseDAOTest extends PasseBaseDAOTest {
     public void findAll() throws InvocationTargetException, IllegalAccessException {
         basicDAOTest.testAllFindMethods(underTest);
     }
-}
\ No newline at end of file
+
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createOrUpdate_withIncompletePrimaryKey_shouldNotInsertMissingPasse() {
+        // prepare test data
+        final PasseBE incompletePasse = getPasseBE();
+        incompletePasse.setPasseLfdnr(null);
+
+        final ArgumentCaptor<Predicate<PasseBE>> isInsertableCaptor = ArgumentCaptor.forClass(Predicate.class);
+
+        // call test method
+        underTest.createOrUpdate(Collections.singletonList(incompletePasse), 1L);
+
+        // verify invocations
+        verify(basicDao).upsertEntityList(any(), eq(Collections.singletonList(incompletePasse)), any(),
+                isInsertableCaptor.capture(), any());
+
+        // assert result
+        assertThat(isInsertableCaptor.getValue().test(incompletePasse)).isFalse();
+        assertThat(isInsertableCaptor.getValue().test(getPasseBE())).isTrue();
+    }
+}
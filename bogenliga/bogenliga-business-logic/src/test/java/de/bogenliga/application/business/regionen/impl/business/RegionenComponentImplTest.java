@@ -1,6 +1,7 @@
 package de.bogenliga.application.business.regionen.impl.business;
 
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -10,6 +11,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.liga.api.LigaComponent;
@@ -21,6 +23,8 @@ import de.bogenliga.application.business.regionen.impl.dao.RegionenDAO;
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -53,6 +57,8 @@ public class RegionenComponentImplTest {
     private LigaComponent ligaComponent;
     @Mock
     private LizenzDAO lizenzDAO;
+    @Spy
+    private EntityCacheManager entityCacheManager = new EntityCacheManager(new EntityCacheConfiguration());
     @InjectMocks
     private RegionenComponentImpl underTest;
     @Captor
@@ -118,7 +124,7 @@ public class RegionenComponentImplTest {
                 .isEqualTo(expectedBE.getRegionUebergeordnet());
 
         // verify invocations
-        verify(regionenDAO, times(2)).findAll();
+        verify(regionenDAO, times(1)).findAll();
     }
 
 
@@ -398,4 +404,65 @@ public class RegionenComponentImplTest {
         verifyZeroInteractions(regionenDAO);
     }
 
-}
\ No newline at end of file
+
+
+    @Test
+    public void getLevel_findAncestorIds_findDescendantIds() {
+        // prepare test data
+        final RegionenBE bundesverband = getRegionenBE(1L, null);
+        final RegionenBE landesverband = getRegionenBE(2L, 1L);
+        final RegionenBE bezirk = getRegionenBE(3L, 2L);
+        final RegionenBE kreis = getRegionenBE(4L, 3L);
+
+        // configure mocks
+        when(regionenDAO.findAll()).thenReturn(Arrays.asList(bundesverband, landesverband, bezirk, kreis));
+
+        // call test method
+        final int actualLevel = underTest.getLevel(3L);
+        final List<Long> actualAncestorIds = underTest.findAncestorIds(4L);
+        final List<Long> actualDescendantIds = underTest.findDescendantIds(1L);
+
+        // assert result
+        assertThat(actualLevel).isEqualTo(2);
+        assertThat(actualAncestorIds).containsExactly(3L, 2L, 1L);
+        assertThat(actualDescendantIds).containsExactly(2L, 3L, 4L);
+
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.findAncestorIds(5L));
+
+        // verify invocations
+        verify(regionenDAO, times(1)).findAll();
+    }
+
+
+    @Test
+    public void findById_shouldResolveUebergeordnetFromHierarchy() {
+        // prepare test data
+        final RegionenBE landesverband = getRegionenBE(2L, null);
+        landesverband.setRegionName("Landesverband");
+        final RegionenBE bezirk = getRegionenBE(3L, 2L);
+
+        // configure mocks
+        when(regionenDAO.findAll()).thenReturn(Arrays.asList(landesverband, bezirk));
+        when(regionenDAO.findById(3L)).thenReturn(bezirk);
+
+        // call test method
+        final RegionenDO actual = underTest.findById(3L);
+        underTest.findById(3L);
+
+        // assert result
+        assertThat(actual.getRegionUebergeordnetAsName()).isEqualTo("Landesverband");
+
+        // verify invocations
+        verify(regionenDAO, times(1)).findAll();
+        verify(regionenDAO, times(1)).findById(3L);
+    }
+
+
+    private static RegionenBE getRegionenBE(final Long regionId, final Long regionUebergeordnet) {
+        final RegionenBE regionenBE = getRegionenBE();
+        regionenBE.setRegionId(regionId);
+        regionenBE.setRegionUebergeordnet(regionUebergeordnet);
+        return regionenBE;
+    }
+}
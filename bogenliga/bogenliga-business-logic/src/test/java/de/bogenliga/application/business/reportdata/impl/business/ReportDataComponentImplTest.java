@@ -0,0 +1,272 @@
+package de.bogenliga.application.business.reportdata.impl.business;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.reportdata.api.types.ReportMitgliedDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportVersionDO;
+import de.bogenliga.application.business.reportdata.api.types.ReportWettkampfDO;
+import de.bogenliga.application.business.reportdata.impl.dao.ReportDataDAO;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportMitgliedBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportVersionBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportWettkampfBE;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class ReportDataComponentImplTest {
+
+    private static final long WETTKAMPF_ID = 30;
+    private static final long WETTKAMPF_TAG = 2;
+    private static final Date WETTKAMPF_DATUM = Date.valueOf("2019-01-01");
+    private static final long MANNSCHAFT_ID = 10;
+    private static final long MANNSCHAFT_NUMMER = 2;
+    private static final long DSB_MITGLIED_ID = 71;
+    private static final long SPORTJAHR = 2019;
+    private static final String VEREIN_NAME = "BSC Stuttgart";
+    private static final String VERANSTALTUNG_NAME = "Württembergliga";
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private ReportDataDAO reportDataDAO;
+    @InjectMocks
+    private ReportDataComponentImpl underTest;
+
+
+    public static ReportWettkampfBE getReportWettkampfBE() {
+        final ReportWettkampfBE reportWettkampfBE = new ReportWettkampfBE();
+        reportWettkampfBE.setWettkampfId(WETTKAMPF_ID);
+        reportWettkampfBE.setWettkampfTag(WETTKAMPF_TAG);
+        reportWettkampfBE.setWettkampfDatum(WETTKAMPF_DATUM);
+        reportWettkampfBE.setVeranstaltungName(VERANSTALTUNG_NAME);
+        reportWettkampfBE.setDisziplinName("Recurve");
+        return reportWettkampfBE;
+    }
+
+
+    public static ReportMitgliedBE getReportMitgliedBE(final Long dsbMitgliedId) {
+        final ReportMitgliedBE reportMitgliedBE = new ReportMitgliedBE();
+        reportMitgliedBE.setMannschaftId(MANNSCHAFT_ID);
+        reportMitgliedBE.setMannschaftNummer(MANNSCHAFT_NUMMER);
+        reportMitgliedBE.setMannschaftVereinName(VEREIN_NAME);
+        reportMitgliedBE.setScheibennummer(1L);
+        reportMitgliedBE.setDsbMitgliedId(dsbMitgliedId);
+        reportMitgliedBE.setVorname("Max");
+        reportMitgliedBE.setNachname("Mustermann");
+        reportMitgliedBE.setVereinName(VEREIN_NAME);
+        reportMitgliedBE.setRueckennummer(1L);
+        reportMitgliedBE.setLizenznummer("WT1234567");
+        reportMitgliedBE.setVeranstaltungName(VERANSTALTUNG_NAME);
+        reportMitgliedBE.setSportjahr(SPORTJAHR);
+        return reportMitgliedBE;
+    }
+
+
+    @Test
+    public void findWettkampf() {
+        // prepare test data
+        final ReportWettkampfBE expectedBE = getReportWettkampfBE();
+
+        // configure mocks
+        when(reportDataDAO.findWettkampf(WETTKAMPF_ID)).thenReturn(expectedBE);
+
+        // call test method
+        final ReportWettkampfDO actual = underTest.findWettkampf(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual.getWettkampfId()).isEqualTo(WETTKAMPF_ID);
+        assertThat(actual.getWettkampfTag()).isEqualTo(WETTKAMPF_TAG);
+        assertThat(actual.getWettkampfDatum()).isEqualTo(WETTKAMPF_DATUM);
+        assertThat(actual.getVeranstaltungName()).isEqualTo(VERANSTALTUNG_NAME);
+        assertThat(actual.getDisziplinName()).isEqualTo("Recurve");
+
+        // verify invocations
+        verify(reportDataDAO).findWettkampf(WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void findWettkampf_withoutResult_shouldThrowException() {
+        // configure mocks
+        when(reportDataDAO.findWettkampf(WETTKAMPF_ID)).thenReturn(null);
+
+        // call test method
+        assertThatThrownBy(() -> underTest.findWettkampf(WETTKAMPF_ID))
+                .isInstanceOf(BusinessException.class);
+    }
+
+
+    @Test
+    public void findMeldezettelMitglieder() {
+        // prepare test data
+        final ReportMitgliedBE mitgliedBE = getReportMitgliedBE(DSB_MITGLIED_ID);
+        final ReportMitgliedBE leereMannschaftBE = getReportMitgliedBE(null);
+        leereMannschaftBE.setMannschaftNummer(1L);
+
+        // configure mocks
+        when(reportDataDAO.findMeldezettelMitglieder(WETTKAMPF_ID)).thenReturn(
+                Arrays.asList(mitgliedBE, leereMannschaftBE));
+
+        // call test method
+        final List<ReportMitgliedDO> actual = underTest.findMeldezettelMitglieder(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).hasMitglied()).isTrue();
+        assertThat(actual.get(0).getMannschaftName()).isEqualTo(VEREIN_NAME + " " + MANNSCHAFT_NUMMER);
+        assertThat(actual.get(1).hasMitglied()).isFalse();
+        assertThat(actual.get(1).getMannschaftName()).isEqualTo(VEREIN_NAME);
+
+        // verify invocations
+        verify(reportDataDAO).findMeldezettelMitglieder(WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void findMannschaftsmitglieder() {
+        // configure mocks
+        when(reportDataDAO.findMannschaftsmitglieder(MANNSCHAFT_ID)).thenReturn(
+                Arrays.asList(getReportMitgliedBE(DSB_MITGLIED_ID), getReportMitgliedBE(DSB_MITGLIED_ID + 1)));
+
+        // call test method
+        final List<ReportMitgliedDO> actual = underTest.findMannschaftsmitglieder(MANNSCHAFT_ID);
+
+        // assert result
+        assertThat(actual).extracting(ReportMitgliedDO::getDsbMitgliedId)
+                .containsExactly(DSB_MITGLIED_ID, DSB_MITGLIED_ID + 1);
+        assertThat(actual.get(0).getLizenznummer()).isEqualTo("WT1234567");
+        assertThat(actual.get(0).getSportjahr()).isEqualTo(SPORTJAHR);
+
+        // verify invocations
+        verify(reportDataDAO).findMannschaftsmitglieder(MANNSCHAFT_ID);
+    }
+
+
+    @Test
+    public void findMannschaftsmitglied_withoutResult_shouldThrowException() {
+        // configure mocks
+        when(reportDataDAO.findMannschaftsmitglied(MANNSCHAFT_ID, DSB_MITGLIED_ID)).thenReturn(null);
+
+        // call test method
+        assertThatThrownBy(() -> underTest.findMannschaftsmitglied(MANNSCHAFT_ID, DSB_MITGLIED_ID))
+                .isInstanceOf(BusinessException.class);
+    }
+
+
+    @Test
+    public void findMannschaftsmitglieder_withNegativeId_shouldThrowException() {
+        // call test method
+        assertThatThrownBy(() -> underTest.findMannschaftsmitglieder(-1))
+                .isInstanceOf(BusinessException.class);
+
+        // verify invocations
+        verifyZeroInteractions(reportDataDAO);
+    }
+
+
+    private static ReportVersionBE getReportVersionBE(final String table, final long rows, final long max,
+                                                      final long idSum, final Timestamp lastModified) {
+        final ReportVersionBE reportVersionBE = new ReportVersionBE();
+        reportVersionBE.setVersionTable(table);
+        reportVersionBE.setVersionRows(rows);
+        reportVersionBE.setVersionMax(max);
+        reportVersionBE.setVersionIdSum(idSum);
+        reportVersionBE.setVersionLastModified(lastModified);
+        return reportVersionBE;
+    }
+
+
+    @Test
+    public void findSetzlisteVersion() {
+        // prepare test data
+        final List<ReportVersionBE> expectedBEList = Arrays.asList(
+                getReportVersionBE("wettkampf", 1, 3, 30, new Timestamp(1546300800000L)),
+                getReportVersionBE("match", 16, 7, 4711, new Timestamp(1546300900000L)));
+
+        // configure mocks
+        when(reportDataDAO.findSetzlisteVersion(WETTKAMPF_ID)).thenReturn(expectedBEList);
+
+        // call test method
+        final ReportVersionDO actual = underTest.findSetzlisteVersion(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual.getStamp()).isEqualTo("match:16.7.4711.1546300900000;wettkampf:1.3.30.1546300800000");
+        assertThat(actual.getLastModifiedMillis()).isEqualTo(1546300900000L);
+
+        // verify invocations
+        verify(reportDataDAO).findSetzlisteVersion(WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void findMeldezettelVersion_withDeletedAndInsertedRow_shouldChangeStamp() {
+        // prepare test data
+        final Timestamp lastModified = new Timestamp(1546300800000L);
+
+        // configure mocks
+        when(reportDataDAO.findMeldezettelVersion(WETTKAMPF_ID))
+                .thenReturn(Collections.singletonList(getReportVersionBE("mannschaftsmitglied", 3, 2, 30, lastModified)))
+                .thenReturn(Collections.singletonList(getReportVersionBE("mannschaftsmitglied", 3, 2, 35, lastModified)));
+
+        // call test method
+        final ReportVersionDO before = underTest.findMeldezettelVersion(WETTKAMPF_ID);
+        final ReportVersionDO actual = underTest.findMeldezettelVersion(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual.getStamp()).isNotEqualTo(before.getStamp());
+    }
+
+
+    @Test
+    public void findSchusszettelVersion_withNegativeId_shouldThrowException() {
+        // call test method
+        assertThatThrownBy(() -> underTest.findSchusszettelVersion(-1))
+                .isInstanceOf(BusinessException.class);
+
+        // verify invocations
+        verifyZeroInteractions(reportDataDAO);
+    }
+
+
+    @Test
+    public void findBogenkontrolllisteVersion() {
+        // configure mocks
+        when(reportDataDAO.findBogenkontrolllisteVersion(WETTKAMPF_ID)).thenReturn(Collections.singletonList(
+                getReportVersionBE("liga", 5, 0, 15, null)));
+
+        // call test method
+        final ReportVersionDO actual = underTest.findBogenkontrolllisteVersion(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual.getStamp()).isEqualTo("liga:5.0.15.-1");
+        assertThat(actual.getLastModifiedMillis()).isEqualTo(-1);
+    }
+
+
+    @Test
+    public void findMannschaftVersion_withoutRows_shouldReturnEmptyVersion() {
+        // configure mocks
+        when(reportDataDAO.findMannschaftVersion(MANNSCHAFT_ID)).thenReturn(Collections.emptyList());
+
+        // call test method
+        final ReportVersionDO actual = underTest.findMannschaftVersion(MANNSCHAFT_ID);
+
+        // assert result
+        assertThat(actual.getStamp()).isEmpty();
+        assertThat(actual.getLastModifiedMillis()).isEqualTo(-1);
+    }
+}
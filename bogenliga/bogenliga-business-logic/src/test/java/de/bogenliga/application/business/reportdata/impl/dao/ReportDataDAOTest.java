@@ -0,0 +1,207 @@
+package de.bogenliga.application.business.reportdata.impl.dao;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportMitgliedBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportVersionBE;
+import de.bogenliga.application.business.reportdata.impl.entity.ReportWettkampfBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+import static de.bogenliga.application.business.reportdata.impl.business.ReportDataComponentImplTest.getReportMitgliedBE;
+import static de.bogenliga.application.business.reportdata.impl.business.ReportDataComponentImplTest.getReportWettkampfBE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class ReportDataDAOTest {
+
+    private static final long WETTKAMPF_ID = 30;
+    private static final long MANNSCHAFT_ID = 10;
+    private static final long DSB_MITGLIED_ID = 71;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private BasicDAO basicDao;
+    @InjectMocks
+    private ReportDataDAO underTest;
+
+
+    @Test
+    public void findWettkampf() {
+        // prepare test data
+        final ReportWettkampfBE expectedBE = getReportWettkampfBE();
+
+        // configure mocks
+        when(basicDao.selectSingleEntity(any(), any(), any())).thenReturn(expectedBE);
+
+        // call test method
+        final ReportWettkampfBE actual = underTest.findWettkampf(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isSameAs(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectSingleEntity(any(), anyString(), eq(WETTKAMPF_ID));
+    }
+
+
+    @Test
+    public void findMeldezettelMitglieder() {
+        // prepare test data
+        final ReportMitgliedBE expectedBE = getReportMitgliedBE(DSB_MITGLIED_ID);
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<ReportMitgliedBE> actual = underTest.findMeldezettelMitglieder(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), anyString(), eq(WETTKAMPF_ID));
+    }
+
+
+    @Test
+    public void findMannschaftsmitglieder() {
+        // prepare test data
+        final ReportMitgliedBE expectedBE = getReportMitgliedBE(DSB_MITGLIED_ID);
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<ReportMitgliedBE> actual = underTest.findMannschaftsmitglieder(MANNSCHAFT_ID);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), anyString(), eq(MANNSCHAFT_ID));
+    }
+
+
+    @Test
+    public void findMannschaftsmitglied() {
+        // prepare test data
+        final ReportMitgliedBE expectedBE = getReportMitgliedBE(DSB_MITGLIED_ID);
+
+        // configure mocks
+        when(basicDao.selectSingleEntity(any(), any(), any(), any())).thenReturn(expectedBE);
+
+        // call test method
+        final ReportMitgliedBE actual = underTest.findMannschaftsmitglied(MANNSCHAFT_ID, DSB_MITGLIED_ID);
+
+        // assert result
+        assertThat(actual).isSameAs(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectSingleEntity(any(), anyString(), eq(MANNSCHAFT_ID), eq(DSB_MITGLIED_ID));
+    }
+
+
+    @Test
+    public void findSetzlisteVersion() {
+        // prepare test data
+        final ReportVersionBE expectedBE = new ReportVersionBE();
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<ReportVersionBE> actual = underTest.findSetzlisteVersion(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("FROM match WHERE"), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), contains("wk.wettkampf_tag - 1"), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), not(contains("FROM passe")), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), not(contains("FROM mannschaftsmitglied WHERE")), eq(WETTKAMPF_ID));
+    }
+
+
+    @Test
+    public void findSchusszettelVersion() {
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.emptyList());
+
+        // call test method
+        final List<ReportVersionBE> actual = underTest.findSchusszettelVersion(WETTKAMPF_ID);
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("FROM verein WHERE"), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), not(contains("FROM veranstaltung WHERE")), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), not(contains("FROM dsb_mitglied WHERE")), eq(WETTKAMPF_ID));
+    }
+
+
+    @Test
+    public void findMeldezettelVersion() {
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.emptyList());
+
+        // call test method
+        underTest.findMeldezettelVersion(WETTKAMPF_ID);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("FROM disziplin WHERE"), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), contains("FROM dsb_mitglied WHERE"), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), not(contains("FROM liga")), eq(WETTKAMPF_ID));
+    }
+
+
+    @Test
+    public void findBogenkontrolllisteVersion() {
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.emptyList());
+
+        // call test method
+        underTest.findBogenkontrolllisteVersion(WETTKAMPF_ID);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("FROM passe WHERE"), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), contains("veranstaltung_sportjahr"), eq(WETTKAMPF_ID));
+        verify(basicDao).selectEntityList(any(), contains("FROM liga"), eq(WETTKAMPF_ID));
+    }
+
+
+    @Test
+    public void findMannschaftVersion() {
+        // prepare test data
+        final ReportVersionBE expectedBE = new ReportVersionBE();
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<ReportVersionBE> actual = underTest.findMannschaftVersion(MANNSCHAFT_ID);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("FROM verein WHERE"), eq(MANNSCHAFT_ID));
+        verify(basicDao).selectEntityList(any(), contains("FROM lizenz WHERE"), eq(MANNSCHAFT_ID));
+    }
+}
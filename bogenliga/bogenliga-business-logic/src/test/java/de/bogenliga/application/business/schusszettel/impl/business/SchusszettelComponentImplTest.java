@@ -1,26 +1,32 @@
 package de.bogenliga.application.business.schusszettel.impl.business;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
-import de.bogenliga.application.business.dsbmannschaft.impl.business.DsbMannschaftComponentImplTest;
+import de.bogenliga.application.business.document.api.DocumentRenderingComponent;
+import de.bogenliga.application.business.document.api.DocumentWriter;
+import de.bogenliga.application.business.document.impl.business.DocumentRenderingComponentImplTest;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
+import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.match.impl.business.MatchComponentImplTest;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
-import de.bogenliga.application.business.vereine.impl.business.VereinComponentImplTest;
+import de.bogenliga.application.business.passe.api.PasseComponent;
+import de.bogenliga.application.business.passe.api.types.PasseDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.business.wettkampf.impl.business.WettkampfComponentImplTest;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -41,10 +47,12 @@ public class SchusszettelComponentImplTest {
     @Mock
     private WettkampfComponent wettkampfComponent;
     @Mock
-    private DsbMannschaftComponent dsbMannschaftComponent;
+    private PasseComponent passeComponent;
     @Mock
-    private VereinComponent vereinComponent;
-
+    private MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
+    @Spy
+    private DocumentRenderingComponent documentRenderingComponent =
+            DocumentRenderingComponentImplTest.getDocumentRenderingComponent();
 
     @InjectMocks
     private SchusszettelComponentImpl underTest;
@@ -54,14 +62,12 @@ public class SchusszettelComponentImplTest {
         final List<MatchDO> matchDOList = getMatchesForWettkampf();
 
         WettkampfDO wettkampfDO = WettkampfComponentImplTest.getWettkampfDO();
-        DsbMannschaftDO dsbMannschaftDO = DsbMannschaftComponentImplTest.getDsbMannschaftDO();
-        VereinDO vereinDO = VereinComponentImplTest.getVereinDO();
+        Map<Long, String> mannschaftsNamen = Collections.singletonMap(MANNSCHAFTSID, "Testverein");
 
         //configure Mocks
         when(matchComponent.findByWettkampfId(anyLong())).thenReturn(matchDOList);
         when(wettkampfComponent.findById(anyLong())).thenReturn(wettkampfDO);
-        when(dsbMannschaftComponent.findById(anyLong())).thenReturn(dsbMannschaftDO);
-        when(vereinComponent.findById(anyLong())).thenReturn(vereinDO);
+        when(matchComponent.getMannschaftsNamenByIDs(any())).thenReturn(mannschaftsNamen);
 
 
         //call test method
@@ -72,8 +78,79 @@ public class SchusszettelComponentImplTest {
 
         //verify invocations
         verify(matchComponent).findByWettkampfId(anyLong());
+        verify(matchComponent).getMannschaftsNamenByIDs(Collections.singleton(MANNSCHAFTSID));
+        verify(wettkampfComponent).findById(WETTKAMPFID);
+        verify(documentRenderingComponent).preparePages(argThat(pages -> pages.size() == 28), any(), any());
+    }
+
+    @Test
+    public void prepareAllSchusszettelPDF_withoutMatches_shouldThrowException() {
+        //configure Mocks
+        when(matchComponent.findByWettkampfId(anyLong())).thenReturn(Collections.emptyList());
+
+        //call test method
+        Assertions.assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.prepareAllSchusszettelPDF(WETTKAMPFID))
+                .withMessageContaining("Matches für den Wettkampf noch nicht erzeugt");
+
+        //verify invocations
+        verify(documentRenderingComponent, never()).preparePages(any(), any(), any());
     }
 
+    @Test
+    public void prepareFilledSchusszettelPDF_shouldLoadMannschaftsmitgliederOncePerTeam() {
+        // prepare test data
+        final MatchDO matchDO = MatchComponentImplTest.getMatchDO();
+        matchDO.setMannschaftId(MANNSCHAFTSID);
+        final List<PasseDO> passen = Arrays.asList(
+                new PasseDO(1L, MANNSCHAFTSID, WETTKAMPFID, 1L, matchDO.getId(), 1L, 11L, 10, 9, null, null, null, null),
+                new PasseDO(2L, MANNSCHAFTSID, WETTKAMPFID, 1L, matchDO.getId(), 1L, 12L, 8, 7, null, null, null, null),
+                new PasseDO(3L, MANNSCHAFTSID, WETTKAMPFID, 1L, matchDO.getId(), 2L, 11L, 10, 10, null, null, null, null));
+        final List<MannschaftsmitgliedDO> mannschaftsmitglieder = Arrays.asList(
+                new MannschaftsmitgliedDO(1L, MANNSCHAFTSID, 11L, 1, "Vorname", "Nachname", 5L),
+                new MannschaftsmitgliedDO(2L, MANNSCHAFTSID, 12L, 1, "Vorname", "Nachname", 6L));
+
+        // configure mocks
+        when(matchComponent.findById(anyLong())).thenReturn(matchDO);
+        when(passeComponent.findByMatchId(anyLong())).thenReturn(passen);
+        when(wettkampfComponent.findById(anyLong())).thenReturn(WettkampfComponentImplTest.getWettkampfDO());
+        when(matchComponent.getMannschaftsNamenByIDs(any()))
+                .thenReturn(Collections.singletonMap(MANNSCHAFTSID, "Mannschaft"));
+        when(mannschaftsmitgliedComponent.findByTeamId(MANNSCHAFTSID)).thenReturn(mannschaftsmitglieder);
+
+        // call test method
+        final DocumentWriter actual = underTest.prepareFilledSchusszettelPDF(1L, 2L);
+
+        // assert result
+        Assertions.assertThat(actual).isNotNull();
+
+        // verify invocations
+        verify(matchComponent).getMannschaftsNamenByIDs(Collections.singleton(MANNSCHAFTSID));
+        verify(mannschaftsmitgliedComponent, times(2)).findByTeamId(MANNSCHAFTSID);
+        verify(mannschaftsmitgliedComponent, never()).findByMemberAndTeamId(anyLong(), anyLong());
+    }
+
+
+    @Test
+    public void prepareFilledSchusszettelPDF_withUnknownSchuetze_shouldThrowException() {
+        // prepare test data
+        final MatchDO matchDO = MatchComponentImplTest.getMatchDO();
+        matchDO.setMannschaftId(MANNSCHAFTSID);
+        final PasseDO passe = new PasseDO(1L, MANNSCHAFTSID, WETTKAMPFID, 1L, matchDO.getId(), 1L, 11L, 10, 9,
+                null, null, null, null);
+
+        // configure mocks
+        when(matchComponent.findById(anyLong())).thenReturn(matchDO);
+        when(passeComponent.findByMatchId(anyLong())).thenReturn(Collections.singletonList(passe));
+        when(wettkampfComponent.findById(anyLong())).thenReturn(WettkampfComponentImplTest.getWettkampfDO());
+        when(mannschaftsmitgliedComponent.findByTeamId(MANNSCHAFTSID)).thenReturn(Collections.emptyList());
+
+        // call test method
+        Assertions.assertThatThrownBy(() -> underTest.prepareFilledSchusszettelPDF(1L, 2L))
+                .isInstanceOf(BusinessException.class);
+    }
+
+
     private static List<MatchDO> getMatchesForWettkampf(){
         List<MatchDO> result = new ArrayList<>();
         //iterate through matches
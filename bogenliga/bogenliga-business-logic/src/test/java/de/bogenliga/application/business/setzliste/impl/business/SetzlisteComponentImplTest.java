@@ -1,7 +1,10 @@
 package de.bogenliga.application.business.setzliste.impl.business;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.assertj.core.api.Assertions;
 import org.junit.Rule;
 import org.junit.Test;
@@ -13,18 +16,13 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.setzliste.impl.dao.SetzlisteDAO;
 import de.bogenliga.application.business.setzliste.impl.entity.SetzlisteBE;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
-import de.bogenliga.application.business.dsbmannschaft.impl.business.DsbMannschaftComponentImplTest;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.match.impl.business.MatchComponentImplTest;
+import de.bogenliga.application.business.tabletsession.api.TabletSessionComponent;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.business.veranstaltung.impl.business.VeranstaltungComponentImplTest;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
-import de.bogenliga.application.business.vereine.impl.business.VereinComponentImplTest;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.business.wettkampf.impl.business.WettkampfComponentImplTest;
@@ -52,9 +50,7 @@ public class SetzlisteComponentImplTest {
     @Mock
     private VeranstaltungComponent veranstaltungComponent;
     @Mock
-    private DsbMannschaftComponent dsbMannschaftComponent;
-    @Mock
-    private VereinComponent vereinComponent;
+    private TabletSessionComponent tabletSessionComponent;
 
 
     @InjectMocks
@@ -70,15 +66,14 @@ public class SetzlisteComponentImplTest {
         final List<SetzlisteBE> setzlisteBEList = getSetzlisteBEList();
         WettkampfDO wettkampfDO = WettkampfComponentImplTest.getWettkampfDO();
         VeranstaltungDO veranstaltungDO =  VeranstaltungComponentImplTest.getVeranstaltungDO();
-        DsbMannschaftDO dsbMannschaftDO = DsbMannschaftComponentImplTest.getDsbMannschaftDO();
-        VereinDO vereinDO = VereinComponentImplTest.getVereinDO();
+        final Map<Long, String> mannschaftsNamen = new HashMap<>();
+        setzlisteBEList.forEach(setzlisteBE -> mannschaftsNamen.put(setzlisteBE.getMannschaftid(), "Testverein"));
 
         //configure Mocks
         when(SetzlisteDAO.getTableByWettkampfID(WETTKAMPFID)).thenReturn(setzlisteBEList);
         when(wettkampfComponent.findById(setzlisteBEList.get(0).getWettkampfid())).thenReturn(wettkampfDO);
         when(veranstaltungComponent.findById(wettkampfDO.getWettkampfVeranstaltungsId())).thenReturn(veranstaltungDO);
-        when(dsbMannschaftComponent.findById(anyLong())).thenReturn(dsbMannschaftDO);
-        when(vereinComponent.findById(anyLong())).thenReturn(vereinDO);
+        when(matchComponent.getMannschaftsNamenByIDs(any())).thenReturn(mannschaftsNamen);
 
         //call test method
         final byte[] actual = underTest.getPDFasByteArray(WETTKAMPFID);
@@ -88,6 +83,7 @@ public class SetzlisteComponentImplTest {
 
         //verify invocations
         verify(SetzlisteDAO).getTableByWettkampfID(WETTKAMPFID);
+        verify(matchComponent).getMannschaftsNamenByIDs(any());
     }
 
     @Test(expected = BusinessException.class)
@@ -120,7 +116,7 @@ public class SetzlisteComponentImplTest {
         //configure Mocks
         when(SetzlisteDAO.getTableByWettkampfID(WETTKAMPFID)).thenReturn(setzlisteBEList);
         when(matchComponent.findByWettkampfId(WETTKAMPFID)).thenReturn(matchDOList);
-        when(matchComponent.create(any(), anyLong())).thenReturn(matchDO);
+        when(matchComponent.createAll(anyList(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
 
         //call test method
         List<MatchDO> actual = underTest.generateMatchesBySetzliste(WETTKAMPFID);
@@ -133,6 +129,9 @@ public class SetzlisteComponentImplTest {
 
         //verify invocations
         verify(SetzlisteDAO).getTableByWettkampfID(WETTKAMPFID);
+        //all matches are created with a single batch
+        verify(matchComponent).createAll(anyList(), anyLong());
+        verify(matchComponent, never()).create(any(), anyLong());
 
     }
 
@@ -185,6 +184,52 @@ public class SetzlisteComponentImplTest {
     }
 
 
+    @Test
+    public void generateMatchesByVeranstaltung() {
+        final long veranstaltungId = 3;
+        final WettkampfDO wettkampfTag0 = getWettkampfDO(10L, 0L);
+        final WettkampfDO wettkampfTag1 = getWettkampfDO(11L, 1L);
+        final WettkampfDO wettkampfTag2 = getWettkampfDO(12L, 2L);
+        final List<MatchDO> matchDOListTag0 = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            matchDOListTag0.add(MatchComponentImplTest.getMatchDO());
+        }
+
+        //configure Mocks
+        when(wettkampfComponent.findAllByVeranstaltungId(veranstaltungId))
+                .thenReturn(Arrays.asList(wettkampfTag2, wettkampfTag0, wettkampfTag1));
+        when(matchComponent.findByWettkampfId(10L)).thenReturn(matchDOListTag0);
+        when(matchComponent.findByWettkampfId(11L)).thenReturn(new ArrayList<>());
+        when(matchComponent.findByWettkampfId(12L)).thenReturn(new ArrayList<>());
+        when(SetzlisteDAO.getTableByWettkampfID(11L)).thenReturn(getSetzlisteBEList());
+        when(matchComponent.createAll(anyList(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tabletSessionComponent.findByWettkampfId(11L)).thenReturn(new ArrayList<>());
+
+        //call test method
+        List<MatchDO> actual = underTest.generateMatchesByVeranstaltung(veranstaltungId, 1L);
+
+        //assert
+        //the matches of the second day depend on the results of the first day
+        Assertions.assertThat(actual).hasSize(56);
+        Assertions.assertThat(actual).allMatch(matchDO -> matchDO.getWettkampfId().equals(11L));
+
+        //verify invocations
+        verify(matchComponent, never()).createInitialMatchesWT0(anyLong(), anyLong());
+        verify(matchComponent).createAll(anyList(), eq(1L));
+        verify(SetzlisteDAO, never()).getTableByWettkampfID(12L);
+        verify(tabletSessionComponent).createInitialForWettkampf(11L, matchComponent, 1L);
+        verify(tabletSessionComponent, never()).createInitialForWettkampf(eq(12L), any(), anyLong());
+    }
+
+
+    private static WettkampfDO getWettkampfDO(long id, long wettkampfTag) {
+        WettkampfDO wettkampfDO = WettkampfComponentImplTest.getWettkampfDO();
+        wettkampfDO.setId(id);
+        wettkampfDO.setWettkampfTag(wettkampfTag);
+        return wettkampfDO;
+    }
+
+
     public static List<SetzlisteBE> getSetzlisteBEList(){
         List<SetzlisteBE> result = new ArrayList<>();
         for (int i = 1; i <= 8; i++){
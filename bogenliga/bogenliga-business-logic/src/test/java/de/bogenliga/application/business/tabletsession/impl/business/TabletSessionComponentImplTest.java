@@ -1,7 +1,9 @@
 package de.bogenliga.application.business.tabletsession.impl.business;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -11,12 +13,16 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.baseClass.impl.BasicComponentTest;
 import de.bogenliga.application.business.baseClass.impl.BasicTest;
+import de.bogenliga.application.business.match.api.MatchComponent;
+import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.tabletsession.api.types.TabletSessionDO;
 import de.bogenliga.application.business.tabletsession.impl.BaseTabletSessionTest;
 import de.bogenliga.application.business.tabletsession.impl.dao.TabletSessionDAO;
 import de.bogenliga.application.business.tabletsession.impl.entity.TabletSessionBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +37,9 @@ public class TabletSessionComponentImplTest extends BaseTabletSessionTest {
     @Mock
     private BasicDAO basicDAO;
 
+    @Mock
+    private MatchComponent matchComponent;
+
     @InjectMocks
     private TabletSessionDAO passeDAO;
 
@@ -84,6 +93,40 @@ public class TabletSessionComponentImplTest extends BaseTabletSessionTest {
     }
 
 
+    @Test
+    public void createInitialForWettkampf_shouldCreateAllSessionsWithOneBatch() {
+        // prepare test data
+        final List<MatchDO> matches = new ArrayList<>();
+        for (long scheibe = 1; scheibe <= 8; scheibe++) {
+            matches.add(new MatchDO(100L + scheibe, 1L, WETTKAMPF_ID, scheibe, (scheibe + 1) / 2, scheibe,
+                    null, null, null, null, null, null, null));
+            matches.add(new MatchDO(200L + scheibe, 2L, WETTKAMPF_ID, scheibe, (scheibe + 1) / 2, scheibe,
+                    null, null, null, null, null, null, null));
+        }
+
+        // configure mocks
+        when(matchComponent.findByWettkampfId(WETTKAMPF_ID)).thenReturn(matches);
+        when(basicDAO.insertEntityList(any(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // call test method
+        final List<TabletSessionDO> actual = underTest.createInitialForWettkampf(WETTKAMPF_ID, matchComponent,
+                CURRENT_USER_ID);
+
+        // assert result
+        assertThat(actual).hasSize(8);
+        assertThat(actual.get(0).getScheibennummer()).isEqualTo(1L);
+        assertThat(actual.get(0).getMatchId()).isEqualTo(101L);
+        assertThat(actual.get(7).getScheibennummer()).isEqualTo(8L);
+        assertThat(actual.get(7).getMatchId()).isEqualTo(108L);
+        assertThat(actual).allMatch(tabletSessionDO -> tabletSessionDO.getSatznummer().equals(1L));
+
+        // verify invocations
+        verify(matchComponent).findByWettkampfId(WETTKAMPF_ID);
+        verify(basicDAO).insertEntityList(any(), anyList());
+        verify(basicDAO, never()).insertEntity(any(), any());
+    }
+
+
     @Test
     public void testDelete() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
         basicComponentTest.testDeleteMethod(getTabletSessionDO());
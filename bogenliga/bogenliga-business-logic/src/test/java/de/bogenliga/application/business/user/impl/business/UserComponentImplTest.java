@@ -13,6 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.context.ApplicationEventPublisher;
+import de.bogenliga.application.business.user.api.types.UserAccessChangedEvent;
 import de.bogenliga.application.business.user.api.types.UserDO;
 import de.bogenliga.application.business.user.impl.businessactivity.SignInBA;
 import de.bogenliga.application.business.user.impl.businessactivity.TechnicalUserBA;
@@ -55,6 +57,8 @@ public class UserComponentImplTest {
     private TechnicalUserBA technicalUserBA;
     @Mock
     private PasswordHashingBA passwordHashingBA;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private UserComponentImpl underTest;
@@ -585,6 +589,10 @@ public class UserComponentImplTest {
         assertThat(actual.getVersion())
                 .isEqualTo(expectedBE.getVersion());
 
+        // verify invocations
+        verify(eventPublisher).publishEvent(argThat((UserAccessChangedEvent event) ->
+                ID.equals(event.getUserId()) && NEWVERSION.equals(event.getVersion())));
+
     }
 
     @Test
@@ -687,6 +695,10 @@ public class UserComponentImplTest {
         assertThat(actual.getVersion())
                 .isEqualTo(expectedBE.getVersion());
 
+        // verify invocations
+        verify(eventPublisher).publishEvent(argThat((UserAccessChangedEvent event) ->
+                ID.equals(event.getUserId()) && NEWVERSION.equals(event.getVersion())));
+
     }
 
     @Test
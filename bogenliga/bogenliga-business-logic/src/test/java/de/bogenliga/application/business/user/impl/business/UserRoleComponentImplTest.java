@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.user.impl.business;
 
+import de.bogenliga.application.business.mail.api.MailComponent;
 import de.bogenliga.application.business.user.api.types.UserRoleDO;
+import de.bogenliga.application.business.user.api.types.UserRolesChangedEvent;
 import de.bogenliga.application.business.user.impl.businessactivity.PasswordHashingBA;
 import de.bogenliga.application.business.user.impl.businessactivity.SignInBA;
 import de.bogenliga.application.business.user.impl.businessactivity.TechnicalUserBA;
@@ -19,10 +21,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -55,6 +59,10 @@ public class UserRoleComponentImplTest {
     private UserRoleExtDAO userRoleExtDAO;
     @Mock
     private RoleDAO roleDAO;
+    @Mock
+    private MailComponent mailComponent;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private UserRoleComponentImpl underTest;
@@ -65,6 +73,9 @@ public class UserRoleComponentImplTest {
     @Captor
     private ArgumentCaptor<UserRoleBE> userRoleBEArgumentCaptor;
 
+    @Captor
+    private ArgumentCaptor<UserRolesChangedEvent> userRolesChangedEventArgumentCaptor;
+
 
     @Test
     public void findAll() {
@@ -416,7 +427,9 @@ public class UserRoleComponentImplTest {
 
         // verify invocations
         verify(userRoleExtDAO).create(userRoleBEArgumentCaptor.capture(), anyLong());
+        verify(eventPublisher).publishEvent(userRolesChangedEventArgumentCaptor.capture());
 
+        assertThat(userRolesChangedEventArgumentCaptor.getValue().getUserIds()).containsExactly(ID);
     }
 
 
@@ -473,8 +486,34 @@ public class UserRoleComponentImplTest {
     }
 
 
+    @Test
+    public void sendFeedback_shouldSendOneMailToAllAdministrators() {
+        // prepare test data
+        final UserRoleExtBE admin = new UserRoleExtBE();
+        admin.setUserEmail(EMAIL);
+        final UserRoleExtBE otherAdmin = new UserRoleExtBE();
+        otherAdmin.setUserEmail("admin@test.net");
+
+        // configure mocks
+        when(userRoleExtDAO.findAdminEmails()).thenReturn(Arrays.asList(admin, otherAdmin));
+
+        // call test method
+        underTest.sendFeedback("Feedback text");
+
+        // verify invocations
+        verify(mailComponent).send("Feedback", "Feedback text", Arrays.asList(EMAIL, "admin@test.net"), 0L);
+    }
 
 
+    @Test
+    public void sendFeedback_withoutAdministrators_shouldNotSendMail() {
+        // configure mocks
+        when(userRoleExtDAO.findAdminEmails()).thenReturn(Collections.emptyList());
 
+        // call test method
+        underTest.sendFeedback("Feedback text");
 
+        // verify invocations
+        verifyZeroInteractions(mailComponent);
+    }
 }
\ No newline at end of file
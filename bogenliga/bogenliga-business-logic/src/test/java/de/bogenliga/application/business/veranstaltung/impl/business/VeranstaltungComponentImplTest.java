@@ -9,9 +9,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.context.ApplicationEventPublisher;
 import de.bogenliga.application.business.liga.impl.entity.LigaBE;
 import de.bogenliga.application.business.regionen.impl.dao.RegionenDAO;
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
 import de.bogenliga.application.business.user.impl.entity.UserBE;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.business.veranstaltung.impl.dao.VeranstaltungDAO;
@@ -71,6 +73,8 @@ public class VeranstaltungComponentImplTest {
     private VeranstaltungDAO veranstaltungDAO;
     @Mock
     private RegionenDAO regionenDAO;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private VeranstaltungComponentImpl underTest;
     @Captor
@@ -305,6 +309,7 @@ public class VeranstaltungComponentImplTest {
 
         // verify invocations
         verify(veranstaltungDAO).delete(veranstaltungBEArgumentCaptor.capture(), anyLong());
+        verify(eventPublisher).publishEvent(any(UserOwnershipChangedEvent.class));
 
         VeranstaltungBE persistedBE = veranstaltungBEArgumentCaptor.getValue();
 
@@ -6,12 +6,15 @@ import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.dao.VereinDAO;
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
+import de.bogenliga.application.common.cache.EntityCacheManager;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.springframework.test.context.TestPropertySource;
@@ -24,6 +27,7 @@ import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +57,8 @@ public class VereinComponentImplTest {
     private VereinDAO vereinDAO;
     @Mock
     private RegionenDAO regionenDAO;
+    @Spy
+    private EntityCacheManager entityCacheManager = new EntityCacheManager(new EntityCacheConfiguration());
     @InjectMocks
     private VereinComponentImpl underTest;
     @Captor
@@ -199,6 +205,39 @@ public class VereinComponentImplTest {
         verify(regionenDAO).findById(expectedBE.getVereinRegionId());
     }
 
+
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final VereinBE expectedBE = getVereinBE();
+        final RegionenBE expectedRegionBE = getRegionenBE();
+        final List<Long> vereinIds = Collections.singletonList(VEREIN_ID);
+
+        // configure mocks
+        when(vereinDAO.findByIds(vereinIds)).thenReturn(Collections.singletonList(expectedBE));
+        when(regionenDAO.findAll()).thenReturn(Collections.singletonList(expectedRegionBE));
+
+        // call test method
+        final List<VereinDO> actual = underTest.findByIds(vereinIds);
+
+        // assert result
+        assertThat(actual)
+                .isNotNull()
+                .hasSize(1);
+
+        assertThat(actual.get(0).getId())
+                .isEqualTo(expectedBE.getVereinId());
+        assertThat(actual.get(0).getName())
+                .isEqualTo(expectedBE.getVereinName());
+        assertThat(actual.get(0).getRegionName())
+                .isEqualTo(expectedRegionBE.getRegionName());
+
+        // verify invocations
+        verify(vereinDAO).findByIds(vereinIds);
+        verify(regionenDAO).findAll();
+        verify(vereinDAO, never()).findById(anyLong());
+    }
+
     @Test
     public void update() {
         // prepare test data
@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -98,6 +99,43 @@ public class VereinDAOTest {
         verify(basicDao).selectSingleEntity(any(), any(), any());
     }
 
+
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final VereinBE expectedBE = getVereinBE();
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<VereinBE> actual = underTest.findByIds(Arrays.asList(VEREIN_ID, VEREIN_REGION_ID, VEREIN_ID));
+
+        // assert result
+        assertThat(actual)
+                .isNotNull()
+                .hasSize(1);
+
+        assertThat(actual.get(0).getVereinId())
+                .isEqualTo(expectedBE.getVereinId());
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("verein_id IN (?, ?)"), eq(VEREIN_ID), eq(VEREIN_REGION_ID));
+    }
+
+
+    @Test
+    public void findByIds_withoutIds_shouldNotQuery() {
+        // call test method
+        final List<VereinBE> actual = underTest.findByIds(Collections.emptyList());
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verifyZeroInteractions(basicDao);
+    }
+
     @Test
     public void create() {
         // prepare test data
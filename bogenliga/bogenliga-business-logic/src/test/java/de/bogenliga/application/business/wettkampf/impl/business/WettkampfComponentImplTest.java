@@ -13,6 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.context.ApplicationEventPublisher;
+import de.bogenliga.application.business.user.api.types.UserOwnershipChangedEvent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.business.wettkampf.impl.dao.WettkampfDAO;
 import de.bogenliga.application.business.wettkampf.impl.entity.WettkampfBE;
@@ -47,6 +49,8 @@ public class WettkampfComponentImplTest {
     public MockitoRule mockitoRule = MockitoJUnit.rule();
     @Mock
     private WettkampfDAO wettkampfDAO;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private WettkampfComponentImpl underTest;
     @Captor
@@ -220,6 +224,7 @@ public class WettkampfComponentImplTest {
 
         // verify invocations
         verify(wettkampfDAO).delete(wettkampfBEArgumentCaptor.capture(), anyLong());
+        verify(eventPublisher).publishEvent(any(UserOwnershipChangedEvent.class));
 
         final WettkampfBE persistedBE = wettkampfBEArgumentCaptor.getValue();
 
@@ -0,0 +1,439 @@
+package de.bogenliga.application.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.configuration.DocumentCacheConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * I am a cache of the generated documents, e.g. the pdf files of the Setzliste or the Meldezettel.
+ * <p>
+ * A document is identified by its id, e.g. "setzliste/30", and the version stamp of its data. I hold only the latest
+ * version of each document. A document with an older version stamp is never returned, so the documents need no
+ * invalidation.
+ * <p>
+ * The documents are held in memory. The least recently used documents are spilled to the local disk, if the memory
+ * size is exceeded, and are removed from the disk, if the disk size is exceeded.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class DocumentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentCache.class);
+
+    private static final String PRECONDITION_MSG_DOCUMENT_ID = "The id of the document must not be null or empty";
+    private static final String PRECONDITION_MSG_VERSION = "The version of the document must not be null";
+    private static final String FILE_SUFFIX = ".document";
+
+    private final long maxMemorySize;
+    private final long maxDiskSize;
+    private final long maxDocumentSize;
+    private final Path directory;
+
+    // access order -> least recently used document first
+    private final Map<String, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Entry> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long memorySize;
+    private long diskSize;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+
+    @Autowired
+    public DocumentCache(final DocumentCacheConfiguration documentCacheConfiguration) {
+        this(documentCacheConfiguration.getMemorySize(),
+                documentCacheConfiguration.getDiskSize(),
+                documentCacheConfiguration.getMaxDocumentSize(),
+                Paths.get(documentCacheConfiguration.getDirectory()));
+    }
+
+
+    /**
+     * @param maxMemorySize   of all documents in memory in bytes
+     * @param maxDiskSize     of all documents on the disk in bytes, 0 disables the disk
+     * @param maxDocumentSize of a single cached document in bytes
+     * @param directory       for the documents on the disk
+     */
+    DocumentCache(final long maxMemorySize, final long maxDiskSize, final long maxDocumentSize,
+                  final Path directory) {
+        this.maxMemorySize = maxMemorySize;
+        this.maxDocumentSize = maxDocumentSize;
+        this.directory = directory;
+        this.maxDiskSize = maxDiskSize > 0 && prepareDirectory(directory) ? maxDiskSize : 0;
+    }
+
+
+    /**
+     * I return the content address of a document version.
+     * <p>
+     * The address is used as file name on the disk and as entity tag of the http responses.
+     *
+     * @param documentId id of the document, e.g. "setzliste/30"
+     * @param version    stamp of the data of the document
+     *
+     * @return SHA-256 hash of the document id and the version as hex string
+     */
+    public static String address(final String documentId, final String version) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            final byte[] hash = messageDigest.digest(
+                    (documentId + "@" + version).getBytes(StandardCharsets.UTF_8));
+
+            final StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (final byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+
+        } catch (final NoSuchAlgorithmException e) {
+            throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, e);
+        }
+    }
+
+
+    /**
+     * I return the cached document.
+     * <p>
+     * A document on the disk is read without holding the lock of the cache, so a slow disk does not block the other
+     * requests.
+     *
+     * @param documentId id of the document, e.g. "setzliste/30"
+     * @param version    stamp of the current data of the document
+     *
+     * @return content of the cached document or null, if the document is not cached with this version
+     */
+    public byte[] get(final String documentId, final String version) {
+        Preconditions.checkNotNullOrEmpty(documentId, PRECONDITION_MSG_DOCUMENT_ID);
+        Preconditions.checkNotNull(version, PRECONDITION_MSG_VERSION);
+
+        final Entry spilled;
+
+        synchronized (this) {
+            final Entry cached = memory.get(documentId);
+
+            if (cached != null) {
+                if (cached.version.equals(version)) {
+                    hitCount.incrementAndGet();
+                    return cached.content;
+                }
+
+                removeFromMemory(documentId);
+            }
+
+            spilled = disk.get(documentId);
+
+            if (spilled == null || !spilled.version.equals(version)) {
+                removeFromDisk(documentId);
+                missCount.incrementAndGet();
+                return null;
+            }
+        }
+
+        final byte[] content = readFile(spilled);
+
+        synchronized (this) {
+            // the document may have been replaced or evicted, while it was read
+            if (disk.get(documentId) == spilled) {
+                removeFromDisk(documentId);
+
+                if (content != null) {
+                    addToMemory(documentId, new Entry(spilled.version, spilled.address, content));
+                }
+            }
+        }
+
+        if (content == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return content;
+    }
+
+
+    /**
+     * I cache the document and replace all older versions of the document.
+     *
+     * @param documentId id of the document, e.g. "setzliste/30"
+     * @param version    stamp of the data, which was used to generate the document
+     * @param content    of the document
+     */
+    public synchronized void put(final String documentId, final String version, final byte[] content) {
+        Preconditions.checkNotNullOrEmpty(documentId, PRECONDITION_MSG_DOCUMENT_ID);
+        Preconditions.checkNotNull(version, PRECONDITION_MSG_VERSION);
+        Preconditions.checkNotNull(content, "The content of the document must not be null");
+
+        removeFromMemory(documentId);
+        removeFromDisk(documentId);
+
+        if (content.length <= maxDocumentSize && content.length <= maxMemorySize) {
+            addToMemory(documentId, new Entry(version, address(documentId, version), content));
+        }
+    }
+
+
+    /**
+     * I return an output stream, which writes the document to the given stream and collects a copy of the document.
+     * <p>
+     * The document is not buffered before it is written, so the client receives the first bytes immediately. The
+     * copy is discarded, if the document exceeds the maximum document size.
+     *
+     * @param documentId id of the document, e.g. "setzliste/30"
+     * @param version    stamp of the data, which is used to generate the document
+     * @param out        to write the document to, e.g. the response body
+     *
+     * @return stream to write the document to, {@link Capture#commit()} caches the written document
+     */
+    public Capture capture(final String documentId, final String version, final OutputStream out) {
+        Preconditions.checkNotNullOrEmpty(documentId, PRECONDITION_MSG_DOCUMENT_ID);
+        Preconditions.checkNotNull(version, PRECONDITION_MSG_VERSION);
+
+        return new Capture(documentId, version, out);
+    }
+
+
+    public synchronized long getMemorySize() {
+        return memorySize;
+    }
+
+
+    public synchronized long getDiskSize() {
+        return diskSize;
+    }
+
+
+    public synchronized int size() {
+        return memory.size() + disk.size();
+    }
+
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+
+    private void addToMemory(final String documentId, final Entry entry) {
+        memory.put(documentId, entry);
+        memorySize += entry.length;
+
+        final Iterator<Map.Entry<String, Entry>> eldest = memory.entrySet().iterator();
+
+        while (memorySize > maxMemorySize && eldest.hasNext()) {
+            final Map.Entry<String, Entry> evicted = eldest.next();
+            eldest.remove();
+            memorySize -= evicted.getValue().length;
+
+            spill(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+
+    private void removeFromMemory(final String documentId) {
+        final Entry removed = memory.remove(documentId);
+
+        if (removed != null) {
+            memorySize -= removed.length;
+        }
+    }
+
+
+    private void spill(final String documentId, final Entry entry) {
+        if (entry.length > maxDiskSize) {
+            return;
+        }
+
+        final Path file = directory.resolve(entry.address + FILE_SUFFIX);
+
+        try {
+            Files.write(file, entry.content);
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot spill the document '{}' to the disk: {}", documentId, e.getMessage());
+            return;
+        }
+
+        disk.put(documentId, new Entry(entry.version, entry.address, file, entry.length));
+        diskSize += entry.length;
+
+        final Iterator<Map.Entry<String, Entry>> eldest = disk.entrySet().iterator();
+
+        while (diskSize > maxDiskSize && eldest.hasNext()) {
+            final Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            diskSize -= evicted.length;
+
+            deleteFile(evicted.file);
+        }
+    }
+
+
+    private void removeFromDisk(final String documentId) {
+        final Entry removed = disk.remove(documentId);
+
+        if (removed != null) {
+            diskSize -= removed.length;
+            deleteFile(removed.file);
+        }
+    }
+
+
+    private static byte[] readFile(final Entry entry) {
+        try {
+            return Files.readAllBytes(entry.file);
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot read the document '{}' from the disk: {}", entry.file, e.getMessage());
+            return null;
+        }
+    }
+
+
+    private static void deleteFile(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot delete the document '{}' from the disk: {}", file, e.getMessage());
+        }
+    }
+
+
+    // the documents of a previous run are unknown and are removed
+    private static boolean prepareDirectory(final Path directory) {
+        try {
+            Files.createDirectories(directory);
+
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+                files.forEach(DocumentCache::deleteFile);
+            }
+            return true;
+
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot use the directory '{}' for the documents, the documents are held only in memory: {}",
+                    directory, e.getMessage());
+            return false;
+        }
+    }
+
+
+    /**
+     * I am a cached document version, either in memory or on the disk.
+     */
+    private static final class Entry {
+        private final String version;
+        private final String address;
+        private final byte[] content;
+        private final Path file;
+        private final long length;
+
+
+        private Entry(final String version, final String address, final byte[] content) {
+            this.version = version;
+            this.address = address;
+            this.content = content;
+            this.file = null;
+            this.length = content.length;
+        }
+
+
+        private Entry(final String version, final String address, final Path file, final long length) {
+            this.version = version;
+            this.address = address;
+            this.content = null;
+            this.file = file;
+            this.length = length;
+        }
+    }
+
+
+    /**
+     * I write a document to the target stream and collect a copy for the cache.
+     * <p>
+     * I do not close the target stream.
+     */
+    public final class Capture extends OutputStream {
+        private final String documentId;
+        private final String version;
+        private final OutputStream out;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+
+        private Capture(final String documentId, final String version, final OutputStream out) {
+            this.documentId = documentId;
+            this.version = version;
+            this.out = out;
+        }
+
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            collect(new byte[] {(byte) b}, 0, 1);
+        }
+
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            collect(b, off, len);
+        }
+
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+
+        /**
+         * I cache the written document, after it has been written completely.
+         */
+        public void commit() {
+            if (copy != null) {
+                put(documentId, version, copy.toByteArray());
+                copy = null;
+            }
+        }
+
+
+        private void collect(final byte[] b, final int off, final int len) {
+            if (copy == null) {
+                return;
+            }
+
+            if (copy.size() + len > maxDocumentSize) {
+                copy = null;
+            } else {
+                copy.write(b, off, len);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package de.bogenliga.application.common.cache;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * I am a bounded read-through cache of the business entities of one table, e.g. the Vereine or the Regionen.
+ * <p>
+ * I hold single entities by their key and the list of all entities. Missing or expired values are loaded with the
+ * given loader. The least recently used entity is evicted, if I exceed my maximum size.
+ * <p>
+ * The owning component invalidates me after each create, update or delete. Values, which were loaded while the
+ * table has been changed, are not used by later requests. The business entities must not be modified by the
+ * callers, because they are shared between the requests.
+ *
+ * @param <K> type of the key, e.g. the id of the entity
+ * @param <V> type of the business entities
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see EntityCacheManager
+ */
+public class EntityCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long timeToLive;
+    private final Clock clock;
+    private final Consumer<Runnable> afterCommit;
+    private final Map<K, Entry<V>> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private Entry<List<V>> all;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+
+    /**
+     * @param name        of the cache
+     * @param maxSize     maximum number of cached entities
+     * @param timeToLive  of a cached value in ms
+     * @param clock       to check the expiration of the cached values
+     * @param afterCommit to run the invalidation again after the commit of the current transaction
+     */
+    EntityCache(final String name, final int maxSize, final long timeToLive, final Clock clock,
+                final Consumer<Runnable> afterCommit) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.afterCommit = afterCommit;
+        // access order -> least recently used entry first
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                final boolean evict = size() > maxSize;
+
+                if (evict) {
+                    evictionCount.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+
+    /**
+     * @param key    of the entity
+     * @param loader to load the entity, if it is not cached
+     *
+     * @return cached or loaded entity or null, if the entity does not exist
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        final long now = clock.millis();
+
+        synchronized (this) {
+            final Entry<V> entry = entries.get(key);
+
+            if (entry != null) {
+                if (entry.isValid(generation.get(), now)) {
+                    hitCount.incrementAndGet();
+                    return entry.value;
+                }
+
+                entries.remove(key);
+            }
+        }
+
+        missCount.incrementAndGet();
+
+        // remember the generation before loading, a concurrent write makes the loaded entity outdated
+        final long loadedGeneration = generation.get();
+        final V value = loader.apply(key);
+
+        // a missing entity is not cached, it may be created by the next request
+        if (value != null) {
+            synchronized (this) {
+                entries.put(key, new Entry<>(value, loadedGeneration, now + timeToLive));
+            }
+        }
+
+        return value;
+    }
+
+
+    /**
+     * @param loader to load all entities, if they are not cached
+     *
+     * @return unmodifiable list of the cached or loaded entities
+     */
+    public List<V> getAll(final Supplier<? extends List<V>> loader) {
+        final long now = clock.millis();
+
+        synchronized (this) {
+            if (all != null && all.isValid(generation.get(), now)) {
+                hitCount.incrementAndGet();
+                return all.value;
+            }
+
+            all = null;
+        }
+
+        missCount.incrementAndGet();
+
+        final long loadedGeneration = generation.get();
+        final List<V> loaded = loader.get();
+        final List<V> values = loaded == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(loaded));
+
+        synchronized (this) {
+            all = new Entry<>(values, loadedGeneration, now + timeToLive);
+        }
+
+        return values;
+    }
+
+
+    /**
+     * I discard all cached values after a change of the table.
+     * <p>
+     * The values are discarded immediately and again after the commit of the current transaction, so a value, which
+     * was loaded by another request before the commit, is not used by later requests.
+     */
+    public void invalidate() {
+        invalidateAll();
+        afterCommit.accept(this::invalidateAll);
+    }
+
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+
+        synchronized (this) {
+            entries.clear();
+            all = null;
+        }
+    }
+
+
+    public String getName() {
+        return name;
+    }
+
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long generation;
+        private final long expiresAt;
+
+
+        private Entry(final T value, final long generation, final long expiresAt) {
+            this.value = value;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+
+
+        private boolean isValid(final long currentGeneration, final long now) {
+            return generation == currentGeneration && now < expiresAt;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package de.bogenliga.application.common.cache;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * I create and hold the {@link EntityCache}s of the business components.
+ * <p>
+ * Each cache is identified by its name and shared by all components, which read the same table. The size and the time
+ * to live of a cache are configured by the {@link EntityCacheConfiguration}.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class EntityCacheManager {
+
+    private static final String PRECONDITION_MSG_NAME = "The name of the entity cache must not be null or empty";
+
+    private final EntityCacheConfiguration entityCacheConfiguration;
+    private final Clock clock;
+    private final Map<String, EntityCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<EntityCache<?, ?>>> listeners = new CopyOnWriteArrayList<>();
+
+    // without a transaction synchronization, the data access objects have already committed their changes
+    private volatile Consumer<Runnable> afterCommit = runnable -> { };
+
+
+    @Autowired
+    public EntityCacheManager(final EntityCacheConfiguration entityCacheConfiguration) {
+        this(entityCacheConfiguration, Clock.systemUTC());
+    }
+
+
+    EntityCacheManager(final EntityCacheConfiguration entityCacheConfiguration, final Clock clock) {
+        this.entityCacheConfiguration = entityCacheConfiguration;
+        this.clock = clock;
+    }
+
+
+    /**
+     * @param name of the cache, e.g. "regionen"
+     * @param <K>  type of the key
+     * @param <V>  type of the business entities
+     *
+     * @return existing or new cache with the given name
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> EntityCache<K, V> getCache(final String name) {
+        Preconditions.checkNotNullOrEmpty(name, PRECONDITION_MSG_NAME);
+
+        final EntityCache<?, ?> cache = caches.computeIfAbsent(name, this::createCache);
+        return (EntityCache<K, V>) cache;
+    }
+
+
+    /**
+     * @return all created caches
+     */
+    public Collection<EntityCache<?, ?>> getCaches() {
+        return new ArrayList<>(caches.values());
+    }
+
+
+    /**
+     * I notify the listener about all existing and all later created caches, e.g. to publish their metrics.
+     *
+     * @param listener to notify
+     */
+    public void addListener(final Consumer<EntityCache<?, ?>> listener) {
+        listeners.add(listener);
+        caches.values().forEach(listener);
+    }
+
+
+    /**
+     * I set the synchronization, which runs a callback after the commit of the current transaction.
+     *
+     * @param afterCommit to run the invalidation of a cache again after the commit
+     */
+    public void setAfterCommit(final Consumer<Runnable> afterCommit) {
+        this.afterCommit = afterCommit;
+    }
+
+
+    /**
+     * I run the callback after the commit of the current transaction, e.g. to invalidate the other caches of a
+     * component again.
+     *
+     * @param callback to run after the commit
+     */
+    public void afterCommit(final Runnable callback) {
+        afterCommit.accept(callback);
+    }
+
+
+    private EntityCache<?, ?> createCache(final String name) {
+        final EntityCache<?, ?> cache = new EntityCache<>(name,
+                entityCacheConfiguration.getSize(name),
+                entityCacheConfiguration.getTtl(name),
+                clock,
+                callback -> afterCommit.accept(callback));
+
+        listeners.forEach(listener -> listener.accept(cache));
+        return cache;
+    }
+}
@@ -4,13 +4,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import org.apache.commons.dbutils.BasicRowProcessor;
-import org.apache.commons.dbutils.BeanProcessor;
 import org.apache.commons.dbutils.handlers.BeanHandler;
 
 /**
  * I´m a generic {@link BeanHandler} class to map the {@link ResultSet} to a java bean.
  *
- * I handle the mapping between table column names and the bean parameter names.
+ * I handle the mapping between table column names and the bean parameter names. The rows are mapped with the
+ * precompiled row mappers of the {@link RowMapperRegistry}.
  *
  * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
  * @see BeanHandler
@@ -22,7 +22,7 @@ public class BasicBeanHandler<T> extends BeanHandler<T> {
      * ResultSet mapping with custom business entity parameter names
      */
     BasicBeanHandler(final Class<T> businessEntityClass, final Map<String, String> columnToFieldMapping) {
-        super(businessEntityClass, new BasicRowProcessor(new BeanProcessor(columnToFieldMapping)));
+        super(businessEntityClass, new BasicRowProcessor(RowMapperRegistry.forMapping(columnToFieldMapping)));
     }
 
 
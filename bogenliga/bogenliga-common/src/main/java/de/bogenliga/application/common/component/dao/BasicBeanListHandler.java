@@ -3,13 +3,13 @@ package de.bogenliga.application.common.component.dao;
 import java.sql.ResultSet;
 import java.util.Map;
 import org.apache.commons.dbutils.BasicRowProcessor;
-import org.apache.commons.dbutils.BeanProcessor;
 import org.apache.commons.dbutils.handlers.BeanListHandler;
 
 /**
  * I map the {@link ResultSet} to a business entity list
  *
- * I handle the mapping between table column names and the bean parameter names.
+ * I handle the mapping between table column names and the bean parameter names. The rows are mapped with the
+ * precompiled row mappers of the {@link RowMapperRegistry}.
  *
  * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
  * @see BeanListHandler
@@ -21,6 +21,6 @@ public class BasicBeanListHandler<T> extends BeanListHandler<T> {
      * ResultSet mapping with custom business entity parameter names
      */
     BasicBeanListHandler(final Class<T> businessEntityClass, final Map<String, String> columnToFieldMapping) {
-        super(businessEntityClass, new BasicRowProcessor(new BeanProcessor(columnToFieldMapping)));
+        super(businessEntityClass, new BasicRowProcessor(RowMapperRegistry.forMapping(columnToFieldMapping)));
     }
 }
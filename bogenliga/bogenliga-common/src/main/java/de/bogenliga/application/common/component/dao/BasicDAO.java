@@ -2,23 +2,36 @@ package de.bogenliga.application.common.component.dao;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
-import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import de.bogenliga.application.common.component.entity.BusinessEntity;
 import de.bogenliga.application.common.component.entity.CommonBusinessEntity;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
 import de.bogenliga.application.common.database.SQL;
+import de.bogenliga.application.common.database.queries.QueryBuilder;
+import de.bogenliga.application.common.database.tracing.SqlTracer;
 import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import de.bogenliga.application.common.time.DateProvider;
+import de.bogenliga.application.common.validation.Preconditions;
 
 
 /**
@@ -41,20 +54,23 @@ public class BasicDAO implements DataAccessObject {
     private static final String DEFAULT_TABLE_MODIFIED_BY = "last_modified_by";
     private static final String DEFAULT_TABLE_VERSION = "version";
     private final TransactionManager transactionManager;
+    private final SqlTracer sqlTracer;
     private QueryRunner run = new QueryRunner();
 
 
     @Autowired
-    public BasicDAO(TransactionManager transactionManager) {
+    public BasicDAO(TransactionManager transactionManager, SqlTracer sqlTracer) {
         this.transactionManager = transactionManager;
+        this.sqlTracer = sqlTracer;
     }
 
 
     /**
      * Package-protected constructor with all dependencies
      */
-    BasicDAO(TransactionManager transactionManager, QueryRunner queryRunner) {
+    BasicDAO(TransactionManager transactionManager, QueryRunner queryRunner, SqlTracer sqlTracer) {
         this.transactionManager = transactionManager;
+        this.sqlTracer = sqlTracer;
         run = queryRunner;
     }
 
@@ -135,9 +151,11 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
-            return run.query(getConnection(), logSQL(businessEntityConfiguration.getLogger(), sqlQuery, params),
-                    new BasicBeanHandler<>(businessEntityConfiguration.getBusinessEntity(),
-                            businessEntityConfiguration.getColumnToFieldMapping()), params);
+            return sqlTracer.trace(businessEntityConfiguration.getLogger(), sqlQuery, params,
+                    () -> run.query(getConnection(), sqlQuery,
+                            new BasicBeanHandler<>(businessEntityConfiguration.getBusinessEntity(),
+                                    businessEntityConfiguration.getColumnToFieldMapping()), params),
+                    businessEntity -> 1);
 
         } catch (SQLException e) {
             error = true;
@@ -190,10 +208,11 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
-            businessEntityList = run.query(getConnection(),
-                    logSQL(businessEntityConfiguration.getLogger(), sqlQuery, params),
-                    new BasicBeanListHandler<>(businessEntityConfiguration.getBusinessEntity(),
-                            businessEntityConfiguration.getColumnToFieldMapping()), params);
+            businessEntityList = sqlTracer.trace(businessEntityConfiguration.getLogger(), sqlQuery, params,
+                    () -> run.query(getConnection(), sqlQuery,
+                            new BasicBeanListHandler<>(businessEntityConfiguration.getBusinessEntity(),
+                                    businessEntityConfiguration.getColumnToFieldMapping()), params),
+                    List::size);
 
             return businessEntityList == null ? Collections.emptyList() : businessEntityList;
 
@@ -220,6 +239,132 @@ public class BasicDAO implements DataAccessObject {
     }
 
 
+    /**
+     * I return a page of {@link BusinessEntity} of the table of the {@code businessEntityConfiguration}.
+     * <p>
+     * The page is selected with a keyset pagination: "WHERE (key) > (afterKey) ORDER BY key ASC LIMIT ?". If the
+     * request contains fields, only these fields and the key columns are selected.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param pageRequest                 with the key of the previous page, the limit and the requested fields
+     * @param keyFunction                 to get the key of a business entity in the order of the key columns
+     * @param keyColumns                  unique columns to order the business entities
+     *
+     * @return page of business entities
+     */
+    public <T> Page<T> selectEntityPage(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                        PageRequest pageRequest,
+                                        Function<T, List<Long>> keyFunction,
+                                        String... keyColumns) {
+        final QueryBuilder selectFromQuery = pageRequest.hasProjection()
+                ? new QueryBuilder().selectFields(getProjectedColumns(businessEntityConfiguration, pageRequest,
+                keyColumns))
+                : new QueryBuilder().selectAll();
+        selectFromQuery.from(businessEntityConfiguration.getTable());
+
+        return selectEntityPage(businessEntityConfiguration, selectFromQuery, pageRequest, keyFunction, keyColumns);
+    }
+
+
+    /**
+     * I return a page of {@link BusinessEntity} for the given SELECT ... FROM ... query without WHERE clause.
+     * <p>
+     * Use me for joined tables. The WHERE, ORDER BY and LIMIT clauses of the keyset pagination are appended to the
+     * query.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param selectFromQuery             uncomposed query with the SELECT, FROM and JOIN clauses
+     * @param pageRequest                 with the key of the previous page and the limit
+     * @param keyFunction                 to get the key of a business entity in the order of the key columns
+     * @param keyColumns                  unique columns to order the business entities
+     *
+     * @return page of business entities
+     */
+    public <T> Page<T> selectEntityPage(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                        QueryBuilder selectFromQuery,
+                                        PageRequest pageRequest,
+                                        Function<T, List<Long>> keyFunction,
+                                        String... keyColumns) {
+        Preconditions.checkArgument(keyColumns.length > 0, "The key of a page must have at least one column");
+
+        final List<Object> params = new ArrayList<>();
+
+        if (!pageRequest.isFirstPage()) {
+            Preconditions.checkArgument(pageRequest.getAfterKey().size() == keyColumns.length,
+                    "The key of the previous page must have " + keyColumns.length + " values");
+
+            selectFromQuery.whereGt(keyColumns);
+            params.addAll(pageRequest.getAfterKey());
+        }
+
+        // select one more entity to check, if a next page exists
+        params.add(pageRequest.getLimit() + 1);
+
+        final String sqlQuery = selectFromQuery
+                .orderByAsc(keyColumns)
+                .limit()
+                .compose().toString();
+
+        final List<T> businessEntityList = selectEntityList(businessEntityConfiguration, sqlQuery, params.toArray());
+
+        if (businessEntityList.size() <= pageRequest.getLimit()) {
+            return new Page<>(businessEntityList, Collections.emptyList());
+        }
+
+        final List<T> content = businessEntityList.subList(0, pageRequest.getLimit());
+        return new Page<>(content, keyFunction.apply(content.get(content.size() - 1)));
+    }
+
+
+    /**
+     * I return the columns of the requested fields of a page.
+     * <p>
+     * The key columns are always selected first, followed by the columns of the requested fields in alphabetical
+     * order. Without requested fields, all mapped columns are selected.
+     *
+     * @param businessEntityConfiguration with the column to field mapping
+     * @param pageRequest                 with the requested field names of the business entity
+     * @param keyColumns                  of the page
+     *
+     * @return column names to select
+     *
+     * @throws BusinessException if a requested field is not mapped to a column
+     */
+    public static String[] getProjectedColumns(BusinessEntityConfiguration<?> businessEntityConfiguration,
+                                               PageRequest pageRequest,
+                                               String... keyColumns) {
+        final Map<String, String> columnToFieldMapping = businessEntityConfiguration.getColumnToFieldMapping();
+        final Map<String, String> fieldToColumnMapping = new HashMap<>();
+        columnToFieldMapping.forEach((column, field) -> fieldToColumnMapping.put(field.trim(), column));
+
+        final Set<String> columns = new LinkedHashSet<>(Arrays.asList(keyColumns));
+
+        if (!pageRequest.hasProjection()) {
+            columns.addAll(columnToFieldMapping.keySet());
+            return columns.toArray(new String[0]);
+        }
+
+        // the order of the requested fields is ignored, so each projection has one row mapper
+        final Set<String> projectedColumns = new TreeSet<>();
+
+        for (final String field : pageRequest.getFields()) {
+            final String column = fieldToColumnMapping.get(field);
+
+            if (column == null) {
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
+                        String.format("The field '%s' cannot be selected", field));
+            }
+            projectedColumns.add(column);
+        }
+        columns.addAll(projectedColumns);
+        return columns.toArray(new String[0]);
+    }
+
+
     /**
      * I persist a single {@link BusinessEntity}
      * <p>
@@ -248,12 +393,14 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
-            businessEntityAfterInsert = run.insert(getConnection(),
-                    logSQL(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter()),
-                    new BasicBeanHandler<>(
-                            businessEntityConfiguration.getBusinessEntity(),
-                            businessEntityConfiguration.getColumnToFieldMapping()),
-                    sql.getParameter());
+            businessEntityAfterInsert = sqlTracer.trace(businessEntityConfiguration.getLogger(),
+                    sql.getSql(), sql.getParameter(),
+                    () -> run.insert(getConnection(), sql.getSql(),
+                            new BasicBeanHandler<>(
+                                    businessEntityConfiguration.getBusinessEntity(),
+                                    businessEntityConfiguration.getColumnToFieldMapping()),
+                            sql.getParameter()),
+                    businessEntity -> 1);
 
         } catch (SQLException e) {
             error = true;
@@ -406,9 +553,7 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
-            int affectedRows = run.update(getConnection(),
-                    logSQL(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter()),
-                    sql.getParameter());
+            int affectedRows = runUpdate(businessEntityConfiguration, sql);
 
             SQL.SQLWithParameter selectSql = SQL.selectSQL(updateBusinessEntity,
                     businessEntityConfiguration.getTable(), fieldSelector,
@@ -516,21 +661,273 @@ public class BasicDAO implements DataAccessObject {
 
 
     /**
-     * I log the sql query with the given logger instance and return the query to the query runner.
+     * I persist a list of {@link BusinessEntity} objects with JDBC batches.
+     * <p>
+     * The INSERT queries are automatically generated. All business entities with the same generated query are sent
+     * to the database in one batch.
+     * <p>
+     * Encapsulate all batches into a transaction.
      *
-     * @param logger            specific {@link DataAccessObject} logger to log the logging message source in the log
-     *                          output
-     * @param sql               query with ?-parameters to log
-     * @param sqlQueryParameter the ?-parameters are replaced with the {@code sqlQueryParameter}
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param insertBusinessEntities      business entities to persist
      *
-     * @return sql query with parameters
+     * @return list of the persisted business entities
      */
-    public final String logSQL(Logger logger, String sql, Object... sqlQueryParameter) {
-        if (logger.isInfoEnabled()) {
-            String formatString = sql.replace("?", "%s");
-            logger.info(String.format(formatString, sqlQueryParameter));
+    public <T> List<T> insertEntityList(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                        List<T> insertBusinessEntities) {
+        if (insertBusinessEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            return runInsertBatch(businessEntityConfiguration, insertBusinessEntities);
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * I update a list of {@link BusinessEntity} objects with JDBC batches.
+     * <p>
+     * The UPDATE queries are automatically generated. All business entities with the same generated query are sent
+     * to the database in one batch. In contrast to {@link #updateEntity(BusinessEntityConfiguration, Object,
+     * String...)} the updated business entities are not selected again.
+     * <p>
+     * Encapsulate all batches into a transaction.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param updateBusinessEntities      business entities to persist
+     * @param fieldSelector               to identify the target table row of each business entity in the WHERE clause
+     *
+     * @return number of modified table rows
+     *
+     * @throws BusinessException if no or more than 1 row is affected by the update of a business entity
+     */
+    public <T> int updateEntityList(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                    List<T> updateBusinessEntities, String... fieldSelector) {
+        if (updateBusinessEntities.isEmpty()) {
+            return 0;
+        }
+
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            int[] affectedRows = runUpdateBatch(businessEntityConfiguration, updateBusinessEntities, fieldSelector);
+
+            for (int i = 0; i < affectedRows.length; i++) {
+                if (!isSingleRowAffected(affectedRows[i])) {
+                    error = true;
+                    throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
+                            String.format("Update of business entity '%s' affected %d rows",
+                                    updateBusinessEntities.get(i).toString(), affectedRows[i]));
+                }
+            }
+
+            return affectedRows.length;
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * I insert or update a list of {@link BusinessEntity} objects with JDBC batches.
+     * <p>
+     * The existing business entities are updated in a batch first. New business entities and business entities
+     * without a table row to update are inserted in a second batch. So the caller has not to check the existence of
+     * each business entity with an additional SELECT query.
+     * <p>
+     * A business entity without a table row to update is only inserted, if it is accepted by {@code isInsertable},
+     * e.g. if all columns of the natural key are set. Otherwise it is skipped.
+     * <p>
+     * Encapsulate all batches into a transaction.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param businessEntities            business entities to persist
+     * @param isNew                       decides, if a business entity has to be inserted without an update attempt
+     * @param isInsertable                decides, if a business entity without a table row to update is inserted
+     * @param fieldSelector               to identify the target table row of each business entity in the WHERE clause
+     *
+     * @return list of the inserted business entities
+     */
+    public <T> List<T> upsertEntityList(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                        List<T> businessEntities, Predicate<T> isNew, Predicate<T> isInsertable,
+                                        String... fieldSelector) {
+        final List<T> insertBusinessEntities = new ArrayList<>();
+        final List<T> updateBusinessEntities = new ArrayList<>();
+
+        for (T businessEntity : businessEntities) {
+            if (isNew.test(businessEntity)) {
+                insertBusinessEntities.add(businessEntity);
+            } else {
+                updateBusinessEntities.add(businessEntity);
+            }
+        }
+
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            if (!updateBusinessEntities.isEmpty()) {
+                int[] affectedRows = runUpdateBatch(businessEntityConfiguration, updateBusinessEntities,
+                        fieldSelector);
+
+                for (int i = 0; i < affectedRows.length; i++) {
+                    if (affectedRows[i] == 0) {
+                        final T businessEntity = updateBusinessEntities.get(i);
+
+                        if (isInsertable.test(businessEntity)) {
+                            insertBusinessEntities.add(businessEntity);
+                        } else {
+                            businessEntityConfiguration.getLogger().debug(
+                                    "Skip business entity without table row to update: {}", businessEntity);
+                        }
+                    }
+                }
+            }
+
+            return insertBusinessEntities.isEmpty()
+                    ? Collections.emptyList()
+                    : runInsertBatch(businessEntityConfiguration, insertBusinessEntities);
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * I execute a custom INSERT, UPDATE or DELETE query.
+     * <p>
+     * Use this method for queries, which can not be generated from a single business entity, e.g. to maintain
+     * derived tables.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} provides the logger of the calling
+     *                                    {@link DataAccessObject}
+     * @param sqlQuery                    to modify the table rows
+     * @param params                      The parameter(s) are used to replace the ?-parameters of the query
+     *
+     * @return number of affected rows
+     */
+    public <T> int executeUpdate(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                 String sqlQuery,
+                                 Object... params) {
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            return sqlTracer.trace(businessEntityConfiguration.getLogger(), sqlQuery, params,
+                    () -> run.update(getConnection(), sqlQuery, params),
+                    Integer::intValue);
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
         }
-        return sql;
     }
 
 
@@ -546,28 +943,95 @@ public class BasicDAO implements DataAccessObject {
 
     private <T> int runUpdate(BusinessEntityConfiguration<T> businessEntityConfiguration,
                               SQL.SQLWithParameter sql) throws SQLException {
-        int affectedRows = 0;
+        return sqlTracer.trace(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter(),
+                () -> run.update(getConnection(), sql.getSql(), sql.getParameter()),
+                Integer::intValue);
+    }
 
-        affectedRows = run.update(getConnection(),
-                logSQL(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter()),
-                sql.getParameter());
+
+    private <T> List<T> runInsertBatch(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                       List<T> insertBusinessEntities) throws SQLException {
+        // the generated query depends on the filled parameters of the business entity
+        final Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+
+        for (T insertBusinessEntity : insertBusinessEntities) {
+            SQL.SQLWithParameter sql = SQL.insertSQL(insertBusinessEntity, businessEntityConfiguration.getTable(),
+                    businessEntityConfiguration.getColumnToFieldMapping());
+            batches.computeIfAbsent(sql.getSql(), key -> new ArrayList<>()).add(sql.getParameter());
+        }
+
+        final List<T> businessEntitiesAfterInsert = new ArrayList<>();
+
+        for (Map.Entry<String, List<Object[]>> batch : batches.entrySet()) {
+            List<T> insertedBusinessEntities = sqlTracer.traceBatch(businessEntityConfiguration.getLogger(),
+                    batch.getKey(), batch.getValue().size(),
+                    () -> run.insertBatch(getConnection(), batch.getKey(),
+                            new BasicBeanListHandler<>(
+                                    businessEntityConfiguration.getBusinessEntity(),
+                                    businessEntityConfiguration.getColumnToFieldMapping()),
+                            batch.getValue().toArray(new Object[0][])),
+                    List::size);
+
+            if (insertedBusinessEntities != null) {
+                businessEntitiesAfterInsert.addAll(insertedBusinessEntities);
+            }
+        }
+
+        return businessEntitiesAfterInsert;
+    }
+
+
+    /**
+     * I return the number of modified table rows for each business entity in the order of the given list.
+     */
+    private <T> int[] runUpdateBatch(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                     List<T> updateBusinessEntities, String... fieldSelector) throws SQLException {
+        final Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+        final Map<String, List<Integer>> batchIndexes = new HashMap<>();
+
+        for (int i = 0; i < updateBusinessEntities.size(); i++) {
+            SQL.SQLWithParameter sql = SQL.updateSQL(updateBusinessEntities.get(i),
+                    businessEntityConfiguration.getTable(), fieldSelector,
+                    businessEntityConfiguration.getColumnToFieldMapping());
+            batches.computeIfAbsent(sql.getSql(), key -> new ArrayList<>()).add(sql.getParameter());
+            batchIndexes.computeIfAbsent(sql.getSql(), key -> new ArrayList<>()).add(i);
+        }
+
+        final int[] affectedRows = new int[updateBusinessEntities.size()];
+
+        for (Map.Entry<String, List<Object[]>> batch : batches.entrySet()) {
+            int[] batchAffectedRows = sqlTracer.traceBatch(businessEntityConfiguration.getLogger(),
+                    batch.getKey(), batch.getValue().size(),
+                    () -> run.batch(getConnection(), batch.getKey(), batch.getValue().toArray(new Object[0][])),
+                    BasicDAO::countAffectedRows);
+
+            List<Integer> indexes = batchIndexes.get(batch.getKey());
+            for (int i = 0; i < indexes.size(); i++) {
+                affectedRows[indexes.get(i)] = batchAffectedRows[i];
+            }
+        }
 
         return affectedRows;
     }
 
 
     /**
-     * I log the sql query with the given logger instance and return the query to the query runner.
-     *
-     * @param logger specific {@link DataAccessObject} logger to log the logging message source in the log output
-     * @param sql    query to log
-     *
-     * @return sql query
+     * The JDBC driver may not report the number of modified rows of a batch statement.
+     */
+    private static boolean isSingleRowAffected(int affectedRows) {
+        return affectedRows == 1 || affectedRows == Statement.SUCCESS_NO_INFO;
+    }
+
+
+    /**
+     * I return the number of modified table rows of a batch. An unknown number counts as single row.
      */
-    final String logSQL(Logger logger, String sql) {
-        if (logger.isInfoEnabled()) {
-            logger.info(sql);
+    private static int countAffectedRows(int[] batchAffectedRows) {
+        int rows = 0;
+
+        for (int affectedRows : batchAffectedRows) {
+            rows += affectedRows == Statement.SUCCESS_NO_INFO ? 1 : Math.max(affectedRows, 0);
         }
-        return sql;
+        return rows;
     }
 }
@@ -0,0 +1,466 @@
+package de.bogenliga.application.common.component.dao;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.dbutils.BeanProcessor;
+
+/**
+ * I map the rows of a {@link ResultSet} to business entities without reflection per row.
+ * <p>
+ * The {@link BeanProcessor} of commons-dbutils introspects the business entity and maps the columns to the bean
+ * properties for every row. I resolve the setters of a business entity class once and store them as
+ * {@link MethodHandle}. The mapping of a column list to the setters is compiled once per business entity and query
+ * result and reused for all following rows and queries.
+ * <p>
+ * I use the same mapping and type conversion rules as the {@link BeanProcessor}:
+ * <ul>
+ * <li>the column label is mapped with the column to field mapping or used as property name</li>
+ * <li>the property name is compared case-insensitive</li>
+ * <li>null values of primitive properties are set to the default value of the primitive type</li>
+ * <li>strings are converted to enums</li>
+ * </ul>
+ * There is one instance per column to field mapping. The number of cached row mappers per instance is limited,
+ * further column lists are compiled for each query.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see BasicBeanHandler
+ * @see BasicBeanListHandler
+ */
+final class RowMapperRegistry extends BeanProcessor {
+
+    private static final Map<Map<String, String>, RowMapperRegistry> REGISTRIES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, BeanProperties> BEAN_PROPERTIES = new ConcurrentHashMap<>();
+
+    static final int MAX_ROW_MAPPERS = 256;
+
+    private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = new HashMap<>();
+    private static final Map<Class<?>, ColumnReader> COLUMN_READERS = new HashMap<>();
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    static {
+        PRIMITIVE_DEFAULTS.put(Integer.TYPE, 0);
+        PRIMITIVE_DEFAULTS.put(Short.TYPE, (short) 0);
+        PRIMITIVE_DEFAULTS.put(Byte.TYPE, (byte) 0);
+        PRIMITIVE_DEFAULTS.put(Float.TYPE, 0f);
+        PRIMITIVE_DEFAULTS.put(Double.TYPE, 0d);
+        PRIMITIVE_DEFAULTS.put(Long.TYPE, 0L);
+        PRIMITIVE_DEFAULTS.put(Boolean.TYPE, Boolean.FALSE);
+        PRIMITIVE_DEFAULTS.put(Character.TYPE, (char) 0);
+
+        COLUMN_READERS.put(String.class, ResultSet::getString);
+        COLUMN_READERS.put(Integer.TYPE, ResultSet::getInt);
+        COLUMN_READERS.put(Integer.class, nullable(ResultSet::getInt));
+        COLUMN_READERS.put(Boolean.TYPE, ResultSet::getBoolean);
+        COLUMN_READERS.put(Boolean.class, nullable(ResultSet::getBoolean));
+        COLUMN_READERS.put(Long.TYPE, ResultSet::getLong);
+        COLUMN_READERS.put(Long.class, nullable(ResultSet::getLong));
+        COLUMN_READERS.put(Double.TYPE, ResultSet::getDouble);
+        COLUMN_READERS.put(Double.class, nullable(ResultSet::getDouble));
+        COLUMN_READERS.put(Float.TYPE, ResultSet::getFloat);
+        COLUMN_READERS.put(Float.class, nullable(ResultSet::getFloat));
+        COLUMN_READERS.put(Short.TYPE, ResultSet::getShort);
+        COLUMN_READERS.put(Short.class, nullable(ResultSet::getShort));
+        COLUMN_READERS.put(Byte.TYPE, ResultSet::getByte);
+        COLUMN_READERS.put(Byte.class, nullable(ResultSet::getByte));
+        COLUMN_READERS.put(Timestamp.class, ResultSet::getTimestamp);
+    }
+
+    private final Map<String, String> columnToFieldMapping;
+    private final Map<RowMapperKey, RowMapper<?>> rowMappers = new ConcurrentHashMap<>();
+
+
+    private RowMapperRegistry(final Map<String, String> columnToFieldMapping) {
+        super(columnToFieldMapping);
+        this.columnToFieldMapping = columnToFieldMapping;
+    }
+
+
+    /**
+     * I return the registry of the column to field mapping.
+     *
+     * @param columnToFieldMapping to map custom column names
+     *
+     * @return registry with the compiled row mappers of the column to field mapping
+     */
+    static RowMapperRegistry forMapping(final Map<String, String> columnToFieldMapping) {
+        final Map<String, String> mapping = columnToFieldMapping == null
+                ? Collections.emptyMap()
+                : columnToFieldMapping;
+
+        final RowMapperRegistry registry = REGISTRIES.get(mapping);
+
+        if (registry != null) {
+            return registry;
+        }
+
+        final Map<String, String> copiedMapping = Collections.unmodifiableMap(new HashMap<>(mapping));
+        return REGISTRIES.computeIfAbsent(copiedMapping, RowMapperRegistry::new);
+    }
+
+
+    @Override
+    public <T> T toBean(final ResultSet rs, final Class<T> type) throws SQLException {
+        return getRowMapper(rs, type).map(rs);
+    }
+
+
+    @Override
+    public <T> List<T> toBeanList(final ResultSet rs, final Class<T> type) throws SQLException {
+        if (!rs.next()) {
+            return Collections.emptyList();
+        }
+
+        final RowMapper<T> rowMapper = getRowMapper(rs, type);
+        final List<T> results = new ArrayList<>();
+
+        do {
+            results.add(rowMapper.map(rs));
+        } while (rs.next());
+
+        return results;
+    }
+
+
+    /**
+     * I return the row mapper of the business entity for the columns of the result set.
+     *
+     * @param rs   to map
+     * @param type of the business entity
+     *
+     * @return the compiled row mapper
+     */
+    @SuppressWarnings("unchecked")
+    <T> RowMapper<T> getRowMapper(final ResultSet rs, final Class<T> type) throws SQLException {
+        final ResultSetMetaData metaData = rs.getMetaData();
+        final String[] columnLabels = new String[metaData.getColumnCount()];
+
+        for (int column = 1; column <= columnLabels.length; column++) {
+            String columnLabel = metaData.getColumnLabel(column);
+            if (columnLabel == null || columnLabel.isEmpty()) {
+                columnLabel = metaData.getColumnName(column);
+            }
+            columnLabels[column - 1] = columnLabel;
+        }
+
+        final RowMapperKey key = new RowMapperKey(type, columnLabels);
+        RowMapper<?> rowMapper = rowMappers.get(key);
+
+        if (rowMapper == null) {
+            if (rowMappers.size() >= MAX_ROW_MAPPERS) {
+                // the columns of a projection are chosen by the client, the row mapper is used for this query only
+                return compile(type, columnLabels);
+            }
+            rowMapper = rowMappers.computeIfAbsent(key, k -> compile(type, columnLabels));
+        }
+
+        return (RowMapper<T>) rowMapper;
+    }
+
+
+    int size() {
+        return rowMappers.size();
+    }
+
+
+    private <T> RowMapper<T> compile(final Class<T> type, final String[] columnLabels) {
+        final BeanProperties beanProperties = getBeanProperties(type);
+        final List<ColumnBinding> bindings = new ArrayList<>();
+
+        for (int column = 1; column <= columnLabels.length; column++) {
+            String propertyName = columnToFieldMapping.get(columnLabels[column - 1]);
+            if (propertyName == null) {
+                propertyName = columnLabels[column - 1];
+            }
+
+            final BeanProperty property = beanProperties.find(propertyName);
+
+            if (property != null && property.setter != null) {
+                bindings.add(new ColumnBinding(column, property));
+            }
+        }
+
+        return new RowMapper<>(beanProperties, bindings);
+    }
+
+
+    private static BeanProperties getBeanProperties(final Class<?> type) {
+        return BEAN_PROPERTIES.computeIfAbsent(type, BeanProperties::new);
+    }
+
+
+    private static ColumnReader nullable(final ColumnReader reader) {
+        return (rs, column) -> {
+            final Object value = reader.read(rs, column);
+            return rs.wasNull() ? null : value;
+        };
+    }
+
+
+    /**
+     * I read the value of a column with the getter of the property type.
+     */
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(ResultSet rs, int column) throws SQLException;
+    }
+
+
+    /**
+     * I contain the constructor and the setters of a business entity class.
+     */
+    private static final class BeanProperties {
+        private final Class<?> type;
+        private final MethodHandle constructor;
+        private final List<BeanProperty> properties = new ArrayList<>();
+        private final String introspectionError;
+
+
+        private BeanProperties(final Class<?> type) {
+            this.type = type;
+
+            MethodHandle defaultConstructor = null;
+            String error = null;
+            try {
+                defaultConstructor = MethodHandles.publicLookup()
+                        .findConstructor(type, MethodType.methodType(void.class))
+                        .asType(CONSTRUCTOR_TYPE);
+
+                final BeanInfo beanInfo = Introspector.getBeanInfo(type);
+                for (final PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+                    properties.add(new BeanProperty(descriptor));
+                }
+            } catch (final NoSuchMethodException | IllegalAccessException e) {
+                error = "Cannot create " + type.getName() + ": " + e.getMessage();
+            } catch (final IntrospectionException e) {
+                error = "Bean introspection failed: " + e.getMessage();
+            }
+
+            this.constructor = defaultConstructor;
+            this.introspectionError = error;
+        }
+
+
+        private BeanProperty find(final String propertyName) {
+            for (final BeanProperty property : properties) {
+                if (propertyName.equalsIgnoreCase(property.name)) {
+                    return property;
+                }
+            }
+            return null;
+        }
+
+
+        private Object newInstance() throws SQLException {
+            if (introspectionError != null) {
+                throw new SQLException(introspectionError);
+            }
+
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (final Error | SQLException e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new SQLException("Cannot create " + type.getName() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+
+    /**
+     * I am a bean property with its precompiled setter.
+     */
+    private static final class BeanProperty {
+        private final String name;
+        private final Class<?> type;
+        private final MethodHandle setter;
+
+
+        private BeanProperty(final PropertyDescriptor descriptor) throws IllegalAccessException {
+            this.name = descriptor.getName();
+
+            final Method writeMethod = descriptor.getWriteMethod();
+
+            if (writeMethod == null || writeMethod.getParameterTypes().length != 1) {
+                this.type = descriptor.getPropertyType();
+                this.setter = null;
+            } else {
+                this.type = writeMethod.getParameterTypes()[0];
+                writeMethod.setAccessible(true);
+                this.setter = MethodHandles.lookup().unreflect(writeMethod).asType(SETTER_TYPE);
+            }
+        }
+    }
+
+
+    /**
+     * I read one column of the result set and set the value with the precompiled setter.
+     */
+    private static final class ColumnBinding {
+        private final int column;
+        private final BeanProperty property;
+        private final ColumnReader reader;
+        private final Object primitiveDefault;
+
+
+        private ColumnBinding(final int column, final BeanProperty property) {
+            this.column = column;
+            this.property = property;
+            this.reader = COLUMN_READERS.getOrDefault(property.type, ResultSet::getObject);
+            this.primitiveDefault = PRIMITIVE_DEFAULTS.get(property.type);
+        }
+
+
+        private void apply(final ResultSet rs, final Object bean) throws SQLException {
+            Object value = reader.read(rs, column);
+
+            if (value == null) {
+                value = primitiveDefault;
+            } else {
+                value = convert(value);
+
+                if (!isCompatibleType(value)) {
+                    throw new SQLException("Cannot set " + property.name
+                            + ": incompatible types, cannot convert " + value.getClass().getName()
+                            + " to " + property.type.getName());
+                }
+            }
+
+            try {
+                property.setter.invokeExact(bean, value);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new SQLException("Cannot set " + property.name + ": " + e.getMessage(), e);
+            }
+        }
+
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object convert(final Object value) {
+            if (value instanceof java.util.Date) {
+                final long time = ((java.util.Date) value).getTime();
+
+                if (property.type == java.sql.Date.class) {
+                    return new java.sql.Date(time);
+                } else if (property.type == java.sql.Time.class) {
+                    return new java.sql.Time(time);
+                } else if (property.type == Timestamp.class) {
+                    final Timestamp timestamp = new Timestamp(time);
+                    if (value instanceof Timestamp) {
+                        timestamp.setNanos(((Timestamp) value).getNanos());
+                    }
+                    return timestamp;
+                }
+            } else if (value instanceof String && property.type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) property.type, (String) value);
+            }
+
+            return value;
+        }
+
+
+        private boolean isCompatibleType(final Object value) {
+            final Class<?> type = property.type;
+
+            if (type.isInstance(value)) {
+                return true;
+            } else if (type == Integer.TYPE) {
+                return value instanceof Integer;
+            } else if (type == Long.TYPE) {
+                return value instanceof Long;
+            } else if (type == Double.TYPE) {
+                return value instanceof Double;
+            } else if (type == Float.TYPE) {
+                return value instanceof Float;
+            } else if (type == Short.TYPE) {
+                return value instanceof Short;
+            } else if (type == Byte.TYPE) {
+                return value instanceof Byte;
+            } else if (type == Character.TYPE) {
+                return value instanceof Character;
+            } else if (type == Boolean.TYPE) {
+                return value instanceof Boolean;
+            }
+            return false;
+        }
+    }
+
+
+    /**
+     * I map a row of the result set to a new business entity.
+     */
+    static final class RowMapper<T> {
+        private final BeanProperties beanProperties;
+        private final ColumnBinding[] bindings;
+
+
+        private RowMapper(final BeanProperties beanProperties, final List<ColumnBinding> bindings) {
+            this.beanProperties = beanProperties;
+            this.bindings = bindings.toArray(new ColumnBinding[0]);
+        }
+
+
+        @SuppressWarnings("unchecked")
+        T map(final ResultSet rs) throws SQLException {
+            final Object bean = beanProperties.newInstance();
+
+            for (final ColumnBinding binding : bindings) {
+                binding.apply(rs, bean);
+            }
+
+            return (T) bean;
+        }
+    }
+
+
+    private static final class RowMapperKey {
+        private final Class<?> type;
+        private final String[] columnLabels;
+        private final int hashCode;
+
+
+        private RowMapperKey(final Class<?> type, final String[] columnLabels) {
+            this.type = type;
+            this.columnLabels = columnLabels;
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(columnLabels);
+        }
+
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final RowMapperKey that = (RowMapperKey) o;
+            return type == that.type && Arrays.equals(columnLabels, that.columnLabels);
+        }
+
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package de.bogenliga.application.common.component.paging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * I contain the entities of a page of a keyset pagination.
+ * <p>
+ * The next key is the key of my last entity. It is empty, if no further page exists.
+ *
+ * @param <T> type of the entities
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see PageRequest
+ */
+public final class Page<T> {
+
+    private final List<T> content;
+    private final List<Long> nextKey;
+
+
+    /**
+     * @param content entities of the page
+     * @param nextKey key of the last entity or an empty list for the last page
+     */
+    public Page(final List<T> content, final List<Long> nextKey) {
+        this.content = content == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(content));
+        this.nextKey = nextKey == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(nextKey));
+    }
+
+
+    /**
+     * @param mapper to convert an entity, e.g. a business entity to a data object
+     * @param <R>    type of the converted entities
+     *
+     * @return page with the converted entities and the same next key
+     */
+    public <R> Page<R> map(final Function<? super T, ? extends R> mapper) {
+        final List<R> mappedContent = content.stream().map(mapper).collect(Collectors.toList());
+        return new Page<>(mappedContent, nextKey);
+    }
+
+
+    public List<T> getContent() {
+        return content;
+    }
+
+
+    public List<Long> getNextKey() {
+        return nextKey;
+    }
+
+
+    public boolean hasNext() {
+        return !nextKey.isEmpty();
+    }
+
+
+    @Override
+    public String toString() {
+        return "Page{" +
+                "size=" + content.size() +
+                ", nextKey=" + nextKey +
+                '}';
+    }
+}
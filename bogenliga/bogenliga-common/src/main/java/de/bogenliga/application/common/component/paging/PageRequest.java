@@ -0,0 +1,97 @@
+package de.bogenliga.application.common.component.paging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * I request a page of a keyset pagination.
+ * <p>
+ * The entities are ordered by their key columns. A page starts after the key of the last entity of the previous page,
+ * so the database seeks to the first entity of the page with the index of the key instead of skipping all entities
+ * of the previous pages.
+ * <p>
+ * Optionally, I contain the field names of the business entity, which are requested. All other fields are not
+ * selected and remain empty.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see Page
+ */
+public final class PageRequest {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final String PRECONDITION_MSG_LIMIT = "The limit of a page must be between 1 and " + MAX_LIMIT;
+
+    private final List<Long> afterKey;
+    private final int limit;
+    private final Set<String> fields;
+
+
+    /**
+     * @param afterKey key of the last entity of the previous page or an empty list for the first page
+     * @param limit    maximum number of entities of the page
+     * @param fields   field names of the business entity to select or an empty collection to select all fields
+     */
+    public PageRequest(final List<Long> afterKey, final int limit, final Collection<String> fields) {
+        Preconditions.checkArgument(limit > 0 && limit <= MAX_LIMIT, PRECONDITION_MSG_LIMIT);
+
+        this.afterKey = afterKey == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(afterKey));
+        this.limit = limit;
+        this.fields = fields == null
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(new LinkedHashSet<>(fields));
+    }
+
+
+    /**
+     * @param limit maximum number of entities of the page
+     *
+     * @return request of the first page with all fields
+     */
+    public static PageRequest first(final int limit) {
+        return new PageRequest(Collections.emptyList(), limit, Collections.emptySet());
+    }
+
+
+    public List<Long> getAfterKey() {
+        return afterKey;
+    }
+
+
+    public boolean isFirstPage() {
+        return afterKey.isEmpty();
+    }
+
+
+    public int getLimit() {
+        return limit;
+    }
+
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+
+    public boolean hasProjection() {
+        return !fields.isEmpty();
+    }
+
+
+    @Override
+    public String toString() {
+        return "PageRequest{" +
+                "afterKey=" + afterKey +
+                ", limit=" + limit +
+                ", fields=" + fields +
+                '}';
+    }
+}
@@ -11,11 +11,25 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties("database")
 public class DatabaseConfiguration {
+
+    static final int DEFAULT_POOL_MAX_SIZE = 10;
+    static final int DEFAULT_POOL_MIN_IDLE = 2;
+    static final long DEFAULT_POOL_CONNECTION_TIMEOUT = 30000; // ms
+    static final int DEFAULT_POOL_VALIDATION_TIMEOUT = 5; // s
+    static final long DEFAULT_POOL_IDLE_TIMEOUT = 600000; // ms
+    static final long DEFAULT_POOL_LEAK_DETECTION_THRESHOLD = 60000; // ms
+
     private String host;
     private int port;
     private String databaseName;
     private String user;
     private String password;
+    private int poolMaxSize;
+    private int poolMinIdle;
+    private long poolConnectionTimeout; // ms
+    private int poolValidationTimeout; // s
+    private long poolIdleTimeout; // ms
+    private long poolLeakDetectionThreshold; // ms
 
 
     /**
@@ -116,4 +130,124 @@ public class DatabaseConfiguration {
     public void setPassword(final String password) {
         this.password = password;
     }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of pooled connections
+     */
+    public int getPoolMaxSize() {
+        return poolMaxSize <= 0 ? DEFAULT_POOL_MAX_SIZE : poolMaxSize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolMaxSize
+     */
+    public void setPoolMaxSize(final int poolMaxSize) {
+        this.poolMaxSize = poolMaxSize;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return number of idle connections which are never evicted
+     */
+    public int getPoolMinIdle() {
+        return poolMinIdle <= 0 ? DEFAULT_POOL_MIN_IDLE : Math.min(poolMinIdle, getPoolMaxSize());
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolMinIdle
+     */
+    public void setPoolMinIdle(final int poolMinIdle) {
+        this.poolMinIdle = poolMinIdle;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum time in ms to wait for a free connection
+     */
+    public long getPoolConnectionTimeout() {
+        return poolConnectionTimeout <= 0 ? DEFAULT_POOL_CONNECTION_TIMEOUT : poolConnectionTimeout;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolConnectionTimeout
+     */
+    public void setPoolConnectionTimeout(final long poolConnectionTimeout) {
+        this.poolConnectionTimeout = poolConnectionTimeout;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum time in s to validate a connection before it is borrowed
+     */
+    public int getPoolValidationTimeout() {
+        return poolValidationTimeout <= 0 ? DEFAULT_POOL_VALIDATION_TIMEOUT : poolValidationTimeout;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolValidationTimeout
+     */
+    public void setPoolValidationTimeout(final int poolValidationTimeout) {
+        this.poolValidationTimeout = poolValidationTimeout;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms after which an unused connection is evicted from the pool
+     */
+    public long getPoolIdleTimeout() {
+        return poolIdleTimeout <= 0 ? DEFAULT_POOL_IDLE_TIMEOUT : poolIdleTimeout;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolIdleTimeout
+     */
+    public void setPoolIdleTimeout(final long poolIdleTimeout) {
+        this.poolIdleTimeout = poolIdleTimeout;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms after which a borrowed connection is reported as possible leak
+     */
+    public long getPoolLeakDetectionThreshold() {
+        return poolLeakDetectionThreshold <= 0 ? DEFAULT_POOL_LEAK_DETECTION_THRESHOLD : poolLeakDetectionThreshold;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolLeakDetectionThreshold
+     */
+    public void setPoolLeakDetectionThreshold(final long poolLeakDetectionThreshold) {
+        this.poolLeakDetectionThreshold = poolLeakDetectionThreshold;
+    }
 }
\ No newline at end of file
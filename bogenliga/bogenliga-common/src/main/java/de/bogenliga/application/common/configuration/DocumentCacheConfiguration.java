@@ -0,0 +1,109 @@
+package de.bogenliga.application.common.configuration;
+
+import java.nio.file.Paths;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "cache.document."
+ * <p>
+ * The generated documents are held in memory. Documents, which are evicted from memory, are spilled to the local
+ * disk. A disk size of 0 disables the disk.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+@ConfigurationProperties("cache.document")
+public class DocumentCacheConfiguration {
+
+    static final long DEFAULT_MEMORY_SIZE = 16777216; // bytes
+    static final long DEFAULT_DISK_SIZE = 268435456; // bytes
+    static final long DEFAULT_MAX_DOCUMENT_SIZE = 4194304; // bytes
+    static final String DEFAULT_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "bogenliga-documents")
+            .toString();
+
+    private long memorySize; // bytes
+    private long diskSize = DEFAULT_DISK_SIZE; // bytes
+    private long maxDocumentSize; // bytes
+    private String directory;
+
+
+    /**
+     * Getter
+     *
+     * @return memorySize
+     */
+    public long getMemorySize() {
+        return memorySize <= 0 ? DEFAULT_MEMORY_SIZE : memorySize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param memorySize
+     */
+    public void setMemorySize(final long memorySize) {
+        this.memorySize = memorySize;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return diskSize
+     */
+    public long getDiskSize() {
+        return diskSize < 0 ? 0 : diskSize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param diskSize
+     */
+    public void setDiskSize(final long diskSize) {
+        this.diskSize = diskSize;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maxDocumentSize
+     */
+    public long getMaxDocumentSize() {
+        return maxDocumentSize <= 0 ? DEFAULT_MAX_DOCUMENT_SIZE : maxDocumentSize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxDocumentSize
+     */
+    public void setMaxDocumentSize(final long maxDocumentSize) {
+        this.maxDocumentSize = maxDocumentSize;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return directory
+     */
+    public String getDirectory() {
+        return directory == null || directory.isEmpty() ? DEFAULT_DIRECTORY : directory;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param directory
+     */
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+}
@@ -0,0 +1,41 @@
+package de.bogenliga.application.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "document.rendering."
+ * <p>
+ * The pages of the multi-page documents are rendered in parallel by a bounded number of threads. A parallelism of 1
+ * renders the pages on the thread of the request.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+@ConfigurationProperties("document.rendering")
+public class DocumentRenderingConfiguration {
+
+    static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors(); // threads
+
+    private int parallelism;
+
+
+    /**
+     * Getter
+     *
+     * @return parallelism
+     */
+    public int getParallelism() {
+        return parallelism <= 0 ? DEFAULT_PARALLELISM : parallelism;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param parallelism
+     */
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+}
@@ -0,0 +1,138 @@
+package de.bogenliga.application.common.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "cache.entity."
+ * <p>
+ * The size and the time to live apply to all entity caches. A single cache can override them, e.g.
+ * "cache.entity.policies.regionen.ttl=3600000".
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+@ConfigurationProperties("cache.entity")
+public class EntityCacheConfiguration {
+
+    static final int DEFAULT_SIZE = 1000; // entities
+    static final long DEFAULT_TTL = 600000; // ms
+
+    private int size;
+    private long ttl; // ms
+    private Map<String, Policy> policies = new HashMap<>();
+
+
+    /**
+     * Getter
+     *
+     * @return size
+     */
+    public int getSize() {
+        return size <= 0 ? DEFAULT_SIZE : size;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param size
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return ttl
+     */
+    public long getTtl() {
+        return ttl <= 0 ? DEFAULT_TTL : ttl;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param ttl
+     */
+    public void setTtl(final long ttl) {
+        this.ttl = ttl;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return policies
+     */
+    public Map<String, Policy> getPolicies() {
+        return policies;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param policies
+     */
+    public void setPolicies(final Map<String, Policy> policies) {
+        this.policies = policies == null ? new HashMap<>() : policies;
+    }
+
+
+    /**
+     * @param cacheName name of the entity cache
+     *
+     * @return size of the cache or the default size
+     */
+    public int getSize(final String cacheName) {
+        final Policy policy = policies.get(cacheName);
+        return policy == null || policy.getSize() <= 0 ? getSize() : policy.getSize();
+    }
+
+
+    /**
+     * @param cacheName name of the entity cache
+     *
+     * @return time to live of the cache or the default time to live
+     */
+    public long getTtl(final String cacheName) {
+        final Policy policy = policies.get(cacheName);
+        return policy == null || policy.getTtl() <= 0 ? getTtl() : policy.getTtl();
+    }
+
+
+    /**
+     * I contain the size and the time to live of a single entity cache.
+     */
+    public static class Policy {
+
+        private int size;
+        private long ttl; // ms
+
+
+        public int getSize() {
+            return size;
+        }
+
+
+        public void setSize(final int size) {
+            this.size = size;
+        }
+
+
+        public long getTtl() {
+            return ttl;
+        }
+
+
+        public void setTtl(final long ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
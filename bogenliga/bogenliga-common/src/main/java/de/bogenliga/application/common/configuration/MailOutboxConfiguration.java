@@ -0,0 +1,129 @@
+package de.bogenliga.application.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "mail.outbox."
+ * <p>
+ * The mails are stored in the outbox table and sent in batches by a background dispatcher. A failed mail is retried
+ * with an exponentially growing delay until the maximum number of attempts is reached.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+@ConfigurationProperties("mail.outbox")
+public class MailOutboxConfiguration {
+
+    static final long DEFAULT_INTERVAL = 30000; // ms
+    static final int DEFAULT_BATCH_SIZE = 20;
+    static final int DEFAULT_MAX_ATTEMPTS = 8;
+    static final long DEFAULT_RETRY_DELAY = 60000; // ms
+    static final long DEFAULT_MAX_RETRY_DELAY = 3600000; // ms
+
+    private long interval; // ms
+    private int batchSize;
+    private int maxAttempts;
+    private long retryDelay; // ms
+    private long maxRetryDelay; // ms
+
+
+    /**
+     * Getter
+     *
+     * @return interval between two polls of the outbox, new mails are sent immediately
+     */
+    public long getInterval() {
+        return interval <= 0 ? DEFAULT_INTERVAL : interval;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param interval
+     */
+    public void setInterval(final long interval) {
+        this.interval = interval;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return batchSize of the mails, which are sent with a single connection to the mail server
+     */
+    public int getBatchSize() {
+        return batchSize <= 0 ? DEFAULT_BATCH_SIZE : batchSize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param batchSize
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maxAttempts to send a mail
+     */
+    public int getMaxAttempts() {
+        return maxAttempts <= 0 ? DEFAULT_MAX_ATTEMPTS : maxAttempts;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxAttempts
+     */
+    public void setMaxAttempts(final int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return retryDelay after the first failed attempt, the delay is doubled after each further attempt
+     */
+    public long getRetryDelay() {
+        return retryDelay <= 0 ? DEFAULT_RETRY_DELAY : retryDelay;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param retryDelay
+     */
+    public void setRetryDelay(final long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maxRetryDelay
+     */
+    public long getMaxRetryDelay() {
+        return maxRetryDelay <= 0 ? DEFAULT_MAX_RETRY_DELAY : maxRetryDelay;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxRetryDelay
+     */
+    public void setMaxRetryDelay(final long maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+}
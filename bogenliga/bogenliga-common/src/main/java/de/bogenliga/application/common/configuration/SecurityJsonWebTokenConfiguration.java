@@ -15,10 +15,18 @@ public class SecurityJsonWebTokenConfiguration {
     static final long DEFAULT_EXPIRATION_TIME = 3600000; // ms
     static final String DEFAULT_SECRET = "default-secret-key";
     static final int DEFAULT_REFRESH_COUNT = 3; // x times
+    static final int DEFAULT_CACHE_SIZE = 1000; // tokens
+    static final long DEFAULT_CACHE_TTL = 300000; // ms
+    static final double DEFAULT_REFRESH_THRESHOLD = 0.5; // part of the lifetime
+    static final long DEFAULT_REFRESH_GRACE_PERIOD = 30000; // ms
 
     private String secret;
     private long expiration; // ms
     private int refresh;
+    private int cacheSize;
+    private long cacheTtl; // ms
+    private double refreshThreshold;
+    private long refreshGracePeriod; // ms
 
 
     /**
@@ -79,4 +87,84 @@ public class SecurityJsonWebTokenConfiguration {
     public void setRefresh(final int refresh) {
         this.refresh = refresh;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of verified tokens in the cache
+     */
+    public int getCacheSize() {
+        return cacheSize <= 0 ? DEFAULT_CACHE_SIZE : cacheSize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param cacheSize
+     */
+    public void setCacheSize(final int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time to live of a cached token in milliseconds
+     */
+    public long getCacheTtl() {
+        return cacheTtl <= 0 ? DEFAULT_CACHE_TTL : cacheTtl;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param cacheTtl
+     */
+    public void setCacheTtl(final long cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return part of the lifetime, after which a token is replaced by a refreshed token, between 0 and 1
+     */
+    public double getRefreshThreshold() {
+        return refreshThreshold <= 0 || refreshThreshold >= 1 ? DEFAULT_REFRESH_THRESHOLD : refreshThreshold;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param refreshThreshold
+     */
+    public void setRefreshThreshold(final double refreshThreshold) {
+        this.refreshThreshold = refreshThreshold;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in milliseconds, in which the requests with a replaced token receive the same refreshed token
+     */
+    public long getRefreshGracePeriod() {
+        return refreshGracePeriod <= 0 ? DEFAULT_REFRESH_GRACE_PERIOD : refreshGracePeriod;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param refreshGracePeriod
+     */
+    public void setRefreshGracePeriod(final long refreshGracePeriod) {
+        this.refreshGracePeriod = refreshGracePeriod;
+    }
+}
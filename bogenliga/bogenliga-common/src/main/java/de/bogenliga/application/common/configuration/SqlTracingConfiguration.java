@@ -0,0 +1,85 @@
+package de.bogenliga.application.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "database.tracing."
+ * <p>
+ * The queries, which take longer than the slow query threshold, are logged. The sample rate limits the logged part of
+ * the slow queries, e.g. 0.1 logs every tenth slow query. The parameters of the queries are never logged.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+@ConfigurationProperties("database.tracing")
+public class SqlTracingConfiguration {
+
+    static final long DEFAULT_SLOW_QUERY_THRESHOLD = 500; // ms
+    static final double DEFAULT_SLOW_QUERY_SAMPLE_RATE = 1.0;
+    static final int DEFAULT_MAX_STATEMENTS = 500;
+
+    private long slowQueryThreshold; // ms
+    private double slowQuerySampleRate = DEFAULT_SLOW_QUERY_SAMPLE_RATE;
+    private int maxStatements;
+
+
+    /**
+     * Getter
+     *
+     * @return slowQueryThreshold
+     */
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold <= 0 ? DEFAULT_SLOW_QUERY_THRESHOLD : slowQueryThreshold;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param slowQueryThreshold
+     */
+    public void setSlowQueryThreshold(final long slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return slowQuerySampleRate between 0 (no slow query is logged) and 1 (all slow queries are logged)
+     */
+    public double getSlowQuerySampleRate() {
+        return Math.max(0, Math.min(1, slowQuerySampleRate));
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param slowQuerySampleRate
+     */
+    public void setSlowQuerySampleRate(final double slowQuerySampleRate) {
+        this.slowQuerySampleRate = slowQuerySampleRate;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maxStatements, which are traced separately
+     */
+    public int getMaxStatements() {
+        return maxStatements <= 0 ? DEFAULT_MAX_STATEMENTS : maxStatements;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxStatements
+     */
+    public void setMaxStatements(final int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+}
@@ -0,0 +1,197 @@
+package de.bogenliga.application.common.database;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import de.bogenliga.application.common.component.entity.CommonBusinessEntity;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+
+/**
+ * I contain the precompiled getters of the mappable fields of an object class.
+ * <p>
+ * The fields and getters are resolved once per class with reflection. The getters are stored as
+ * {@link MethodHandle}, so the {@link SQL} statement builder reads the field values without reflection per call.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+final class EntityAccessor {
+
+    private static final Map<Class<?>, EntityAccessor> ACCESSORS = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final List<Property> declaredProperties;
+    private final List<Property> allProperties;
+
+
+    private EntityAccessor(final Class<?> type) {
+        final List<Property> declared = new ArrayList<>();
+        for (final Field field : type.getDeclaredFields()) {
+            if (isMappableField(field)) {
+                declared.add(new Property(field, resolveGetter(type, field)));
+            }
+        }
+
+        final List<Property> all = new ArrayList<>(declared);
+        final Class<?> superclass = type.getSuperclass();
+        if (superclass == CommonBusinessEntity.class) {
+            for (final Field field : superclass.getDeclaredFields()) {
+                if (isMappableField(field)) {
+                    all.add(new Property(field, resolveGetter(type, field)));
+                }
+            }
+        }
+
+        this.declaredProperties = Collections.unmodifiableList(declared);
+        this.allProperties = Collections.unmodifiableList(all);
+    }
+
+
+    /**
+     * I return the accessor of the class. The accessor is compiled with the first call.
+     *
+     * @param type of the object
+     *
+     * @return accessor with the mappable properties of the class
+     */
+    static EntityAccessor forClass(final Class<?> type) {
+        return ACCESSORS.computeIfAbsent(type, EntityAccessor::new);
+    }
+
+
+    /**
+     * @return mappable properties declared by the class itself
+     */
+    List<Property> getDeclaredProperties() {
+        return declaredProperties;
+    }
+
+
+    /**
+     * @return mappable properties of the class and of the superclass {@link CommonBusinessEntity}
+     */
+    List<Property> getAllProperties() {
+        return allProperties;
+    }
+
+
+    /**
+     * Checks if the given field can be mapped. Only non-transient non-static fields can be mapped types the data base.
+     *
+     * @param field a field
+     *
+     * @return <code>true</code> if the field can be mapped, <code>false</code> otherwise
+     */
+    private static boolean isMappableField(final Field field) {
+        return !Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers());
+    }
+
+
+    /**
+     * searchs for the getter of the field, including the superclass {@link CommonBusinessEntity}
+     *
+     * @param type  the class to look for the method
+     * @param field the field of which the getter is searched
+     *
+     * @return the getter as method handle or null, if the class has no getter for the field
+     */
+    private static MethodHandle resolveGetter(final Class<?> type, final Field field) {
+        final String getterName = retrieveGetterName(field);
+        Method getter;
+        try {
+            getter = type.getDeclaredMethod(getterName);
+        } catch (final NoSuchMethodException e) {
+            if (type.getSuperclass() != CommonBusinessEntity.class) {
+                return null;
+            }
+
+            try {
+                getter = type.getSuperclass().getDeclaredMethod(getterName);
+            } catch (final NoSuchMethodException superclassException) {
+                return null;
+            }
+        }
+
+        try {
+            getter.setAccessible(true);
+            return MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        }
+    }
+
+
+    /**
+     * @param field Das Feld von welchem der Getter gesucht wird
+     *
+     * @return den String des Getters
+     */
+    private static String retrieveGetterName(final Field field) {
+        final String fName = field.getName();
+        final String suffix;
+        if (boolean.class.isAssignableFrom(field.getType())
+                || Boolean.class.isAssignableFrom(field.getType())) {
+            suffix = "is";
+        } else {
+            suffix = "get";
+        }
+
+        return suffix + fName.substring(0, 1).toUpperCase() + fName.substring(1);
+    }
+
+
+    /**
+     * I am a mappable field with its precompiled getter.
+     */
+    static final class Property {
+        private final String name;
+        private final MethodHandle getter;
+
+
+        private Property(final Field field, final MethodHandle getter) {
+            this.name = field.getName();
+            this.getter = getter;
+        }
+
+
+        String getName() {
+            return name;
+        }
+
+
+        /**
+         * @throws TechnicalException if the class has no getter for the field
+         */
+        void requireGetter() {
+            if (getter == null) {
+                throw new TechnicalException(ErrorCode.DATABASE_ERROR,
+                        new NoSuchMethodException("No getter found for field " + name));
+            }
+        }
+
+
+        /**
+         * @param obj to read the value from
+         *
+         * @return value of the field
+         */
+        Object get(final Object obj) {
+            requireGetter();
+            try {
+                return (Object) getter.invokeExact(obj);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+            }
+        }
+    }
+}
@@ -1,23 +1,25 @@
 package de.bogenliga.application.common.database;
 
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import de.bogenliga.application.common.component.entity.CommonBusinessEntity;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import de.bogenliga.application.common.database.EntityAccessor.Property;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 
 /**
  * Helper-Klasse um fuer komplexe SQL Spalten-Eindeutigkeit herzustellen, indem jeder Spalte der zugehoerige
  * Tabellenname mit _ vorangestellt wird.
+ * <p>
+ * Die SQL-Statements werden einmal pro Klasse, Tabelle, Selektor und Mapping kompiliert und wiederverwendet. Die
+ * Werte der Parameter werden ueber die vorkompilierten Getter des {@link EntityAccessor} gelesen.
  *
  * @author Alexander Jost
  */
@@ -25,6 +27,12 @@ public final class SQL {
 
 
     private static final String VERSION = "version";
+    private static final String ID = "id";
+
+    private static final Map<StatementKey, SelectStatement> SELECT_STATEMENTS = new ConcurrentHashMap<>();
+    private static final Map<StatementKey, InsertStatement> INSERT_STATEMENTS = new ConcurrentHashMap<>();
+    private static final Map<StatementKey, UpdateStatement> UPDATE_STATEMENTS = new ConcurrentHashMap<>();
+    private static final Map<StatementKey, DeleteStatement> DELETE_STATEMENTS = new ConcurrentHashMap<>();
 
 
     /**
@@ -41,160 +49,16 @@ public final class SQL {
     public static SQLWithParameter selectSQL(final Object selectObj, final String tableName,
                                              final String[] fieldSelector,
                                              final Map<String, String> columnToFieldMapping) {
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        final StringBuilder sql = new StringBuilder();
-        final List<Object> para = new ArrayList<>();
-
-        sql.append("SELECT *");
-
-        try {
-
-            sql.append(" FROM ");
-
-            final Field[] fields = getAllFields(selectObj);
-            for (String selector : fieldSelector) {
-                para.add(findFieldSelectorValue(selectObj, selector, fields));
-            }
-
-            final String tName = selectObj.getClass().getSimpleName();
-
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
-
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
-        }
-
-        sqlWithParameter.setParameter(para.toArray());
-        return appendWhereStatements(sql, fieldSelector, columnToFieldMapping, sqlWithParameter);
-    }
-
-
-    /**
-     * @param updateObj das objekt in welchem die Felder gesucht werden
-     *
-     * @return alle felder und felder der oberklasse
-     */
-    private static Field[] getAllFields(Object updateObj) {
-        Class startClass = updateObj.getClass();
-        List<Field> currentClassFields = new ArrayList<>();
-        currentClassFields.addAll(Arrays.asList(startClass.getDeclaredFields()));
-
-        Class superclass = startClass.getSuperclass();
-        if (superclass != null && superclass == CommonBusinessEntity.class) {
-            currentClassFields.addAll(Arrays.asList(superclass.getDeclaredFields()));
-        }
-        Field[] fields = new Field[currentClassFields.size()];
-        return currentClassFields.toArray(fields);
-    }
-
-
-    /**
-     * Überprüft ob die Felder der Tabelle geupdatet werden dürfen
-     *
-     * @param fName name des feldes
-     *
-     * @return checkt ob das Feld geupdatet werden darf
-     */
-    private static boolean isUpdatableField(String fName) {
-        return !fName.equals("createdAtUtc")
-                && !fName.equals("createdByUserId")
-                && !fName.equals(VERSION);
-    }
-
-
-    /**
-     * searchs for a method, including the first super class
-     *
-     * @param obj   the object to look for the method
-     * @param field the of which the getter is searched
-     * @param name  the name of the field
-     *
-     * @return
-     *
-     * @throws NoSuchMethodException
-     */
-    private static Method getGetterMethod(Object obj, Field field, String name) throws NoSuchMethodException {
-
-        final String getterName = retrieveGetterName(field, name);
-        Method getter;
-        try {
-            getter = obj.getClass().getDeclaredMethod(getterName);
-        } catch (NoSuchMethodException e) {
-            // if it's a method of the superclass CommonBusinessEntity
-            if (obj.getClass().getSuperclass() == CommonBusinessEntity.class) {
-                getter = obj.getClass().getSuperclass().getDeclaredMethod(getterName);
-            } else {
-                throw new NoSuchMethodException(Arrays.toString(e.getStackTrace()));
-            }
+        final SelectStatement statement = getStatement(SELECT_STATEMENTS,
+                new StatementKey(selectObj.getClass(), tableName, fieldSelector, columnToFieldMapping),
+                SelectStatement::new);
 
+        final List<Object> para = new ArrayList<>(statement.selectorProperties.size());
+        for (final Property property : statement.selectorProperties) {
+            para.add(property.get(selectObj));
         }
 
-        return getter;
-    }
-
-
-    /**
-     * @param selectObj     das Objekt  von welchem der Wert genommen wird
-     * @param fieldSelector das Feld nach welchem die Entität genommen wird
-     * @param fields        Alle Felder die durchsucht werden
-     *
-     * @return der Wert des Feldes
-     *
-     * @throws NoSuchMethodException
-     * @throws InvocationTargetException
-     * @throws IllegalAccessException
-     */
-    private static Object findFieldSelectorValue(final Object selectObj, final String fieldSelector,
-                                                 final Field[] fields) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
-                if (fName.equals("id") || fName.equals(fieldSelector)) {
-                    final Method getter = getGetterMethod(selectObj, field, fName);
-                    final Object value = getter.invoke(selectObj);
-                    return value;
-                }
-            }
-
-        }
-        throw new NoSuchMethodException("fieldSelector doesn't exist");
-    }
-
-
-    private static Object appendFieldsToSelectStatement(final Object selectObj, final String fieldSelector,
-                                                        final Map<String, String> columnToFieldMapping,
-                                                        final StringBuilder sql,
-                                                        final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        boolean first = true;
-        Object idValue = null;
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
-                final Method getter = getGetterMethod(selectObj, field, fName);
-                final Object value = getter.invoke(selectObj);
-
-                if (fName.equals("id") || fName.equals(fieldSelector)) {
-                    idValue = value;
-                }
-
-                if (first) {
-                    first = false;
-                } else {
-                    sql.append(", ");
-                }
-
-                final String columnName = resolveColumName(fName, columnToFieldMapping);
-
-                sql.append(columnName);
-            }
-        }
-        return idValue;
+        return createSQLWithParameter(statement.sql, para);
     }
 
 
@@ -229,40 +93,27 @@ public final class SQL {
      */
     public static SQLWithParameter insertSQL(final Object insertObj, final String tableName,
                                              final Map<String, String> columnToFieldMapping) {
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        final StringBuilder sql = new StringBuilder();
-        final StringBuilder values = new StringBuilder();
-        final List<Object> para = new ArrayList<>();
+        final InsertStatement statement = getStatement(INSERT_STATEMENTS,
+                new StatementKey(insertObj.getClass(), tableName, (String[]) null, columnToFieldMapping),
+                InsertStatement::new);
 
-        sql.append("INSERT INTO ");
-        values.append(") VALUES (");
+        final BitSet usedColumns = new BitSet(statement.properties.size());
+        final List<Object> para = new ArrayList<>(statement.properties.size());
 
-        try {
-            final String tName = insertObj.getClass().getSimpleName();
+        for (int i = 0; i < statement.properties.size(); i++) {
+            final Property property = statement.properties.get(i);
 
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
-
-            sql.append(" (");
-            final Field[] fields = insertObj.getClass().getDeclaredFields();
-
-            appendFieldsToInsertStatement(insertObj, columnToFieldMapping, sql, values, para, fields);
+            if (!ID.equals(property.getName())) {
+                final Object value = property.get(insertObj);
 
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+                if (value != null) {
+                    usedColumns.set(i);
+                    para.add(toParameter(value));
+                }
+            }
         }
 
-        sql.append(values);
-        sql.append(");");
-
-        sqlWithParameter.setSql(sql.toString());
-        sqlWithParameter.setParameter(para.toArray());
-
-        return sqlWithParameter;
+        return createSQLWithParameter(statement.getSql(usedColumns), para);
     }
 
 
@@ -300,62 +151,20 @@ public final class SQL {
     public static SQLWithParameter updateSQL(final Object updateObj, final String tableName,
                                              final String fieldSelector[],
                                              final Map<String, String> columnToFieldMapping) {
-        final StringBuilder sql = new StringBuilder();
-        final List<Object> para = new ArrayList<>();
-        sql.append("UPDATE ");
-
-        try {
-            final String tName = updateObj.getClass().getSimpleName();
-
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
-
-            sql.append(" SET ");
-            final Field[] fields = getAllFields(updateObj);
-
-            return appendFieldsToUpdateStatement(updateObj, fieldSelector, columnToFieldMapping, sql, para, fields);
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        final UpdateStatement statement = getStatement(UPDATE_STATEMENTS,
+                new StatementKey(updateObj.getClass(), tableName, fieldSelector, columnToFieldMapping),
+                UpdateStatement::new);
+
+        final List<Object> para = new ArrayList<>(
+                statement.setProperties.size() + statement.selectorProperties.size());
+        for (final Property property : statement.setProperties) {
+            para.add(toParameter(property.get(updateObj)));
         }
-    }
-
-
-    /**
-     * @param sql der sql string
-     * @param fieldSelector Felder welche beim where statement gesucht werden
-     * @param columnToFieldMapping Felder mapper um auf die Datenbank zu mappen
-     * @param sqlWithParameter der schlussendlicher SQL mit String und Parametern
-     *
-     * @return
-     */
-    private static SQLWithParameter appendWhereStatements(StringBuilder sql, String[] fieldSelector,
-                                                          Map<String, String> columnToFieldMapping,
-                                                          SQLWithParameter sqlWithParameter) {
-        sql.append(" WHERE ");
-        int i = 0;
-        for (String selector : fieldSelector) {
-            if (i > 0) {
-                sql.append(" AND ");
-            }
-
-            if (selector != null) {
-                sql.append(resolveColumName(selector, columnToFieldMapping));
-            } else {
-                throw new TechnicalException(ErrorCode.DATABASE_ERROR, "Field selector specified not found");
-            }
-            sql.append(" = ? ");
-            i++;
+        for (final Property property : statement.selectorProperties) {
+            para.add(property.get(updateObj));
         }
 
-        sql.append(";");
-
-        sqlWithParameter.setSql(sql.toString());
-
-        return sqlWithParameter;
+        return createSQLWithParameter(statement.sql, para);
     }
 
 
@@ -396,102 +205,112 @@ public final class SQL {
     public static SQLWithParameter deleteSQL(final Object updateObj, final String tableName,
                                              final String[] fieldSelector,
                                              final Map<String, String> columnToFieldMapping) {
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        final StringBuilder sql = new StringBuilder();
-        final List<Object> para;
+        final DeleteStatement statement = getStatement(DELETE_STATEMENTS,
+                new StatementKey(updateObj.getClass(), tableName, fieldSelector, columnToFieldMapping),
+                DeleteStatement::new);
 
-        sql.append("DELETE FROM ");
+        final List<Object> para = new ArrayList<>(statement.selectorProperties.size());
+        for (final Property property : statement.selectorProperties) {
+            para.add(toParameter(property.get(updateObj)));
+        }
 
-        try {
-            final String tName = updateObj.getClass().getSimpleName();
+        return createSQLWithParameter(statement.sql, para);
+    }
 
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
 
-            final Field[] fields = updateObj.getClass().getDeclaredFields();
+    /**
+     * Liefert das kompilierte Statement aus dem Cache. Fehlt das Statement, wird es einmalig kompiliert.
+     *
+     * @param statements Cache der Statements
+     * @param key        Klasse, Tabelle, Selektor und Mapping des Statements
+     * @param compiler   kompiliert das Statement
+     *
+     * @return das kompilierte Statement
+     */
+    private static <S> S getStatement(final Map<StatementKey, S> statements, final StatementKey key,
+                                      final Function<StatementKey, S> compiler) {
+        final S statement = statements.get(key);
 
-            para = appendFieldsToDeleteStatement(updateObj, fieldSelector, fields);
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        if (statement != null) {
+            return statement;
         }
 
+        final S compiledStatement = compiler.apply(key);
+        final S existingStatement = statements.putIfAbsent(key.copy(), compiledStatement);
+        return existingStatement != null ? existingStatement : compiledStatement;
+    }
+
+
+    private static SQLWithParameter createSQLWithParameter(final String sql, final List<Object> para) {
+        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
+        sqlWithParameter.setSql(sql);
         sqlWithParameter.setParameter(para.toArray());
-        return appendWhereStatements(sql, fieldSelector, columnToFieldMapping, sqlWithParameter);
+        return sqlWithParameter;
     }
 
 
     /**
-     * Checks if the given field can be mapped. Only non-transient non-static fields can be mapped types the data base.
+     * Enums werden mit ihrem Namen gespeichert.
      *
-     * @param field a field
+     * @param value Wert des Feldes
      *
-     * @return <code>true</code> if the field can be mapped, <code>false</code> otherwise
+     * @return Wert fuer den ?-Parameter
      */
-    private static boolean isMappableField(final Field field) {
-        return !Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers());
+    private static Object toParameter(final Object value) {
+        if (value != null && value.getClass().isEnum()) {
+            return ((Enum) value).name();
+        }
+        return value;
     }
 
 
-    private static void appendFieldsToInsertStatement(final Object insertObj,
-                                                      final Map<String, String> columnToFieldMapping,
-                                                      final StringBuilder sql, final StringBuilder values,
-                                                      final List<Object> para,
-                                                      final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        boolean first = true;
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
-
-                if (!VERSION.equals(fName)) {
-                    final String getterName = retrieveGetterName(field, fName);
-                    final Method getter = insertObj.getClass().getDeclaredMethod(getterName);
-                    Object value = getter.invoke(insertObj);
-
-                    if (fName.equals("id") || Objects.isNull(value)) {
-                        continue;
-                    } else if (value.getClass().isEnum()) {
-                        value = ((Enum) value).name();
-                    }
-
-                    if (first) {
-                        first = false;
-                    } else {
-                        sql.append(", ");
-                        values.append(", ");
-                    }
+    private static String resolveTableName(final StatementKey key) {
+        return key.tableName != null ? key.tableName : key.type.getSimpleName();
+    }
 
-                    final String columnName = resolveColumName(fName, columnToFieldMapping);
 
-                    sql.append(columnName);
-                    values.append("?");
-                    para.add(value);
-                }
-            }
-        }
+    /**
+     * Überprüft ob die Felder der Tabelle geupdatet werden dürfen
+     *
+     * @param fName name des feldes
+     *
+     * @return checkt ob das Feld geupdatet werden darf
+     */
+    private static boolean isUpdatableField(String fName) {
+        return !fName.equals("createdAtUtc")
+                && !fName.equals("createdByUserId")
+                && !fName.equals(VERSION);
     }
 
 
     /**
+     * @param sql der sql string
+     * @param fieldSelector Felder welche beim where statement gesucht werden
+     * @param columnToFieldMapping Felder mapper um auf die Datenbank zu mappen
      *
-     * @param field Das Feld von welchem der Getter gesucht wird
-     * @param fName Name des Attributs
-     * @return den String des Getters
+     * @return der schlussendliche SQL-Text
      */
-    private static String retrieveGetterName(final Field field, final String fName) {
-        final String suffix;
-        if (boolean.class.isAssignableFrom(field.getType())
-                || Boolean.class.isAssignableFrom(field.getType())) {
-            suffix = "is";
-        } else {
-            suffix = "get";
+    private static String appendWhereStatements(StringBuilder sql, List<String> fieldSelector,
+                                                Map<String, String> columnToFieldMapping) {
+        sql.append(" WHERE ");
+        int i = 0;
+        for (String selector : fieldSelector) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+
+            if (selector != null) {
+                sql.append(resolveColumName(selector, columnToFieldMapping));
+            } else {
+                throw new TechnicalException(ErrorCode.DATABASE_ERROR, "Field selector specified not found");
+            }
+            sql.append(" = ? ");
+            i++;
         }
 
-        return suffix + fName.substring(0, 1).toUpperCase() + fName.substring(1);
+        sql.append(";");
+
+        return sql.toString();
     }
 
 
@@ -513,106 +332,242 @@ public final class SQL {
 
 
     /**
-     *
-     * @param updateObj das Objekt in welchem gesucht wird
-     * @param fieldSelector die Felder in welchen gesucht wird
-     * @param columnToFieldMapping das mapping
-     * @param sql der StringBuilder um den SQL aufzubauen
-     * @param para die Parameter welche erweitert werden müssen
-     * @param fields die Felder in welchen gesucht werden soll
-     * @return
-     * @throws NoSuchMethodException
-     * @throws IllegalAccessException
-     * @throws InvocationTargetException
+     * Schluessel eines kompilierten Statements
      */
-    private static SQLWithParameter appendFieldsToUpdateStatement(final Object updateObj, final String[] fieldSelector,
-                                                                  final Map<String, String> columnToFieldMapping,
-                                                                  final StringBuilder sql,
-                                                                  final List<Object> para,
-                                                                  final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        ArrayList<String> fieldselector = new ArrayList<>(Arrays.asList(fieldSelector));
-        ArrayList<Object> params = new ArrayList<>();
-        boolean first = true;
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
-
-                if (!VERSION.equals(fName) && isUpdatableField(fName)) {
-
-                    final Method getter = getGetterMethod(updateObj, field, fName);
-                    Object value = getter.invoke(updateObj);
-
-                    if (fName.equals("id") || fieldselector.contains(fName)) {
-                        params.add(value);
-                        continue;
-                    } else if (value != null && value.getClass().isEnum()) {
-                        value = ((Enum) value).name();
-                    }
+    private static final class StatementKey {
+        private final Class<?> type;
+        private final String tableName;
+        private final List<String> fieldSelector;
+        private final Map<String, String> columnToFieldMapping;
+        private final int hashCode;
+
+
+        private StatementKey(final Class<?> type, final String tableName, final String[] fieldSelector,
+                             final Map<String, String> columnToFieldMapping) {
+            this(type, tableName, fieldSelector == null ? null : Arrays.asList(fieldSelector), columnToFieldMapping);
+        }
+
+
+        private StatementKey(final Class<?> type, final String tableName, final List<String> fieldSelector,
+                             final Map<String, String> columnToFieldMapping) {
+            this.type = type;
+            this.tableName = tableName;
+            this.fieldSelector = fieldSelector;
+            this.columnToFieldMapping = columnToFieldMapping;
+            this.hashCode = Objects.hash(type, tableName, fieldSelector, columnToFieldMapping);
+        }
+
+
+        /**
+         * @return Kopie des Schluessels, die unabhaengig von den uebergebenen Arrays und Maps ist
+         */
+        private StatementKey copy() {
+            return new StatementKey(type, tableName,
+                    fieldSelector == null ? null : new ArrayList<>(fieldSelector),
+                    columnToFieldMapping == null ? null : new HashMap<>(columnToFieldMapping));
+        }
+
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final StatementKey that = (StatementKey) o;
+            return hashCode == that.hashCode
+                    && type == that.type
+                    && Objects.equals(tableName, that.tableName)
+                    && Objects.equals(fieldSelector, that.fieldSelector)
+                    && Objects.equals(columnToFieldMapping, that.columnToFieldMapping);
+        }
+
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 
-                    if (first) {
-                        first = false;
-                    } else {
-                        sql.append(", ");
-                    }
 
-                    final String columnName = resolveColumName(fName, columnToFieldMapping);
+    /**
+     * SELECT * FROM {table_name} WHERE {fieldSelector} = ?;
+     */
+    private static final class SelectStatement {
+        private final String sql;
+        private final List<Property> selectorProperties = new ArrayList<>();
 
-                    sql.append(columnName).append("=").append("?");
-                    para.add(value);
+
+        private SelectStatement(final StatementKey key) {
+            final List<Property> properties = EntityAccessor.forClass(key.type).getAllProperties();
+
+            for (final String selector : key.fieldSelector) {
+                selectorProperties.add(findFieldSelectorProperty(properties, selector));
+            }
+
+            final StringBuilder sql = new StringBuilder();
+            sql.append("SELECT * FROM ").append(resolveTableName(key));
+            this.sql = appendWhereStatements(sql, key.fieldSelector, key.columnToFieldMapping);
+        }
+
+
+        /**
+         * @param properties    Alle Felder die durchsucht werden
+         * @param fieldSelector das Feld nach welchem die Entität genommen wird
+         *
+         * @return das Feld mit dem Wert des Selektors
+         */
+    private static Property findFieldSelectorProperty(final List<Property> properties,
+                                                          final String fieldSelector) {
+            for (final Property property : properties) {
+                final String fName = property.getName();
+                if (fName.equals(ID) || fName.equals(fieldSelector)) {
+                    property.requireGetter();
+                    return property;
                 }
             }
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR,
+                    new NoSuchMethodException("fieldSelector doesn't exist"));
         }
-        para.addAll(params);
+    }
 
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        sqlWithParameter.setSql(sql.toString());
-        sqlWithParameter.setParameter(para.toArray());
-        return appendWhereStatements(sql, fieldSelector, columnToFieldMapping, sqlWithParameter);
+
+    /**
+     * INSERT INTO {table_name} ({column1}, {column2}, {column3},...) VALUES (?, ?, ?,...);
+     * <p>
+     * Felder ohne Wert werden nicht eingefuegt. Der SQL-Text wird deshalb pro Kombination der belegten Spalten
+     * zwischengespeichert.
+     */
+    private static final class InsertStatement {
+        private final String tableName;
+        private final List<Property> properties = new ArrayList<>();
+        private final List<String> columnNames = new ArrayList<>();
+        private final Map<BitSet, String> sqlByUsedColumns = new ConcurrentHashMap<>();
+
+
+        private InsertStatement(final StatementKey key) {
+            this.tableName = resolveTableName(key);
+
+            for (final Property property : EntityAccessor.forClass(key.type).getDeclaredProperties()) {
+                if (!VERSION.equals(property.getName())) {
+                    property.requireGetter();
+                    properties.add(property);
+                    columnNames.add(resolveColumName(property.getName(), key.columnToFieldMapping));
+                }
+            }
+        }
+
+
+        private String getSql(final BitSet usedColumns) {
+            return sqlByUsedColumns.computeIfAbsent(usedColumns, this::buildSql);
+        }
+
+
+        private String buildSql(final BitSet usedColumns) {
+            final StringBuilder sql = new StringBuilder();
+            final StringBuilder values = new StringBuilder();
+
+            sql.append("INSERT INTO ").append(tableName).append(" (");
+            values.append(") VALUES (");
+
+            boolean first = true;
+            for (int i = usedColumns.nextSetBit(0); i >= 0; i = usedColumns.nextSetBit(i + 1)) {
+                if (first) {
+                    first = false;
+                } else {
+                    sql.append(", ");
+                    values.append(", ");
+                }
+
+                sql.append(columnNames.get(i));
+                values.append("?");
+            }
+
+            sql.append(values);
+            sql.append(");");
+            return sql.toString();
+        }
     }
 
 
     /**
-     *
-     * @param updateObj das Objekt das deletet werden soll
-     * @param selectors die Felder nach welchen die Entität gesucht wird
-     * @param fields die Felder welche durchsucht werden
-     * @return Alle Werte welche in den Feldselectoren im Objekt zu finden sind
-     * @throws NoSuchMethodException
-     * @throws IllegalAccessException
-     * @throws InvocationTargetException
+     * UPDATE {table_name} SET {column1}=?, {column2}=?, {column3}=?, ...) WHERE {fieldSelector} = ?;
+     * <p>
+     * Die Werte der Selektor-Felder werden in der Reihenfolge der Felder nach den SET-Parametern angehaengt.
      */
-    private static List<Object> appendFieldsToDeleteStatement(final Object updateObj, final String[] selectors,
-                                                              final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        List<Object> idValue = new ArrayList<>();
-        for (String fieldSelector : selectors) {
-            String identifier = "id";
-            if (fieldSelector != null && !fieldSelector.equals(identifier)) {
-                identifier = fieldSelector;
+    private static final class UpdateStatement {
+        private final String sql;
+        private final List<Property> setProperties = new ArrayList<>();
+        private final List<Property> selectorProperties = new ArrayList<>();
+
+
+        private UpdateStatement(final StatementKey key) {
+            final StringBuilder sql = new StringBuilder();
+            sql.append("UPDATE ").append(resolveTableName(key)).append(" SET ");
+
+            boolean first = true;
+            for (final Property property : EntityAccessor.forClass(key.type).getAllProperties()) {
+                final String fName = property.getName();
+
+                if (!isUpdatableField(fName)) {
+                    continue;
+                }
+
+                property.requireGetter();
+
+                if (fName.equals(ID) || key.fieldSelector.contains(fName)) {
+                    selectorProperties.add(property);
+                    continue;
+                }
+
+                if (first) {
+                    first = false;
+                } else {
+                    sql.append(", ");
+                }
+
+                sql.append(resolveColumName(fName, key.columnToFieldMapping)).append("=").append("?");
+                setProperties.add(property);
             }
 
-            for (final Field field : fields) {
-                if (isMappableField(field)) {
-                    final String fName = field.getName();
+            this.sql = appendWhereStatements(sql, key.fieldSelector, key.columnToFieldMapping);
+        }
+    }
 
-                    if (!VERSION.equals(fName) && fName.equals(identifier)) {
 
-                        final String getterName = retrieveGetterName(field, fName);
-                        final Method getter = updateObj.getClass().getDeclaredMethod(getterName);
+    /**
+     * DELETE FROM {table_name} WHERE {fieldSelector} = ?;
+     */
+    private static final class DeleteStatement {
+        private final String sql;
+        private final List<Property> selectorProperties = new ArrayList<>();
 
-                        Object value = getter.invoke(updateObj);
 
-                        if (value != null && value.getClass().isEnum()) {
-                            value = ((Enum) value).name();
-                        }
+        private DeleteStatement(final StatementKey key) {
+            final List<Property> properties = EntityAccessor.forClass(key.type).getDeclaredProperties();
+
+            for (final String fieldSelector : key.fieldSelector) {
+                String identifier = ID;
+                if (fieldSelector != null && !fieldSelector.equals(identifier)) {
+                    identifier = fieldSelector;
+                }
 
-                        idValue.add(value);
+                for (final Property property : properties) {
+                    final String fName = property.getName();
+
+                    if (!VERSION.equals(fName) && fName.equals(identifier)) {
+                        property.requireGetter();
+                        selectorProperties.add(property);
                     }
                 }
             }
+
+            final StringBuilder sql = new StringBuilder();
+            sql.append("DELETE FROM ").append(resolveTableName(key));
+            this.sql = appendWhereStatements(sql, key.fieldSelector, key.columnToFieldMapping);
         }
-        return idValue;
     }
 
 
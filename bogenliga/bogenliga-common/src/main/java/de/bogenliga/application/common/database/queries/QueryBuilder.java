@@ -9,7 +9,8 @@ import de.bogenliga.application.common.validation.Preconditions;
  * don't want those unhandy raw SQL strings inside your DAO.
  *
  * Does support:
- * Simple queries, subselects, simple joins with equality, aliases for table names and fields, grouping and ordering.
+ * Simple queries, subselects, simple joins with equality, aliases for table names and fields, grouping, ordering and
+ * keyset pagination.
  *
  * Best practice:
  * Define constants for your table, table columns and required aliases and use them in the query builder api. -> DRY
@@ -77,11 +78,13 @@ public class QueryBuilder {
     public static final String SQL_ORDER_BY = " ORDER BY ";
     public static final String SQL_ORDER_ASC = " ASC ";
     public static final String SQL_ORDER_DESC = " DESC ";
+    public static final String SQL_LIMIT = " LIMIT ";
 
     // Comparators
     public static final String SQL_EQUALS = " = ";
     public static final String SQL_GTE = " >= ";
     public static final String SQL_EQUAL_COMPARATOR = String.format(" %s? ", SQL_EQUALS);
+    public static final String SQL_GT = " > ";
     public static final String SQL_GT_COMPARATOR = String.format(" >%s ", SQL_VALUE_PLACEHOLDER);
     public static final String SQL_GTE_COMPARATOR = String.format(" %s%s ", SQL_GTE, SQL_VALUE_PLACEHOLDER);
     public static final String SQL_LT_COMPARATOR = String.format(" <%s ", SQL_VALUE_PLACEHOLDER);
@@ -104,6 +107,9 @@ public class QueryBuilder {
     // t1.column, t2.column -> "ON t1.column = t2.column"
     private static final String SQL_JOIN_ON_TEMPLATE = SQL_ON + "%s" + SQL_EQUALS + "%s";
 
+    // a, b -> "a ASC, b"
+    private static final String SQL_ORDER_ASC_SEPARATOR = " ASC" + SQL_FIELD_SEPARATOR;
+
     // SELECT ... -> (SELECT ...)
     private static final String SQL_SUB_SELECT_TEMPLATE = "(%s)";
 
@@ -449,6 +455,24 @@ public class QueryBuilder {
     }
 
 
+    /**
+     * Compare the row value of the fields, e.g. "WHERE (a, b) > (?, ?)"
+     * <p>
+     * Use it with {@link #orderByAsc(String[])} and {@link #limit()} to request the next page of a keyset pagination.
+     */
+    public QueryBuilder whereGt(final String[] fieldNames) {
+        Preconditions.checkArgument(fieldNames.length > 0, "Number of fields must be greater than 0!");
+
+        if (fieldNames.length == 1) {
+            return whereGt(fieldNames[0]);
+        }
+
+        this.addWhere(asSubSelect(String.join(SQL_FIELD_SEPARATOR, fieldNames)),
+                SQL_GT + getValuePlaceholderList(fieldNames.length));
+        return this;
+    }
+
+
     public QueryBuilder whereGte(final String fieldName) {
         this.addWhere(fieldName, SQL_GTE_COMPARATOR);
         return this;
@@ -599,6 +623,20 @@ public class QueryBuilder {
     }
 
 
+    /**
+     * IN with a list of value placeholders, e.g. "field IN ( ?, ?, ? )"
+     *
+     * @param fieldName
+     * @param valueCount number of values, must be greater than 0
+     *
+     * @return
+     */
+    public QueryBuilder whereIn(final String fieldName, final int valueCount) {
+        addWhere(fieldName, addIn(getValuePlaceholderList(valueCount)));
+        return this;
+    }
+
+
     public QueryBuilder whereIn(final String fieldName, final QueryBuilder subQuery) {
         addWhere(fieldName, addIn(getAsSubSelect(subQuery)));
         return this;
@@ -668,6 +706,17 @@ public class QueryBuilder {
     }
 
 
+    /**
+     * Order ascending by all fields, e.g. "ORDER BY a ASC, b ASC"
+     */
+    public QueryBuilder orderByAsc(final String[] fieldNames) {
+        Preconditions.checkArgument(fieldNames.length > 0, "Number of fields must be greater than 0!");
+
+        addOrdering(String.join(SQL_ORDER_ASC_SEPARATOR, fieldNames), SQL_ORDER_ASC);
+        return this;
+    }
+
+
     private void addOrdering(final String fieldName, final String ordering) {
         this.queryValidator.validateOrdering(fieldName);
 
@@ -675,6 +724,18 @@ public class QueryBuilder {
     }
 
 
+    /**
+     * LIMIT operations
+     */
+
+    public QueryBuilder limit() {
+        this.queryValidator.validateLimit();
+
+        this.queryString += SQL_LIMIT + SQL_VALUE_PLACEHOLDER;
+        return this;
+    }
+
+
     /**
      * Query composition
      */
@@ -751,6 +812,20 @@ public class QueryBuilder {
     }
 
 
+    protected String getValuePlaceholderList(final int valueCount) {
+        Preconditions.checkArgument(valueCount > 0, "Number of values must be greater than 0!");
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < valueCount; i++) {
+            if (i > 0) {
+                builder.append(SQL_FIELD_SEPARATOR);
+            }
+            builder.append(SQL_VALUE_PLACEHOLDER.trim());
+        }
+        return spaceAround(asSubSelect(builder.toString()));
+    }
+
+
     protected String getAsSubSelect(final QueryBuilder subSelect) {
         return spaceAround(asSubSelect(subSelect.compose().toString()));
     }
@@ -20,6 +20,7 @@ public class QueryValidator {
     private static final String SQL_ERROR_DUPLICATE_FROM = "QueryString must not already contain a FROM clause!";
     private static final String SQL_ERROR_MISSING_TABLE_ALIAS = "Missing table alias in querystring!";
     private static final String SQL_ERROR_NO_JOIN = "Missing JOIN clause for used ON!";
+    private static final String SQL_ERROR_DUPLICATE_LIMIT = "QueryString must not already contain a LIMIT clause!";
 
     private QueryBuilder queryBuilder;
 
@@ -77,6 +78,14 @@ public class QueryValidator {
     }
 
 
+    public void validateLimit() {
+        ensureSelect();
+        ensureFrom();
+        ensureNotComposed();
+        Preconditions.checkArgument(!hasLimit(), SQL_ERROR_DUPLICATE_LIMIT);
+    }
+
+
     public void isComposable() {
         ensureNotComposed();
         ensureSelect();
@@ -173,6 +182,11 @@ public class QueryValidator {
     }
 
 
+    private boolean hasLimit() {
+        return getQueryString().contains(QueryBuilder.SQL_LIMIT);
+    }
+
+
     private boolean hasTerminator() {
         return getQueryString().contains(QueryBuilder.SQL_QUERY_TERMINATOR);
     }
@@ -0,0 +1,94 @@
+package de.bogenliga.application.common.database.tracing;
+
+import java.util.Locale;
+
+/**
+ * I am a traced sql statement template of a {@link de.bogenliga.application.common.component.dao.DataAccessObject}.
+ * <p>
+ * The template is the sql query with ?-parameters. All executions of the same template by the same data access object
+ * share me, so the metrics are recorded per template and not per parameter set.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public final class SqlStatement {
+
+    /**
+     * Id of the statements, which exceed the maximum number of traced statements
+     */
+    public static final String OTHER = "other";
+
+    private final String dao;
+    private final String operation;
+    private final String id;
+    private final String sql;
+
+
+    SqlStatement(final String dao, final String sql) {
+        this.dao = dao;
+        this.operation = parseOperation(sql);
+        this.id = Integer.toHexString(sql.hashCode());
+        this.sql = sql;
+    }
+
+
+    private SqlStatement(final String dao) {
+        this.dao = dao;
+        this.operation = OTHER;
+        this.id = OTHER;
+        this.sql = OTHER;
+    }
+
+
+    static SqlStatement other(final String dao) {
+        return new SqlStatement(dao);
+    }
+
+
+    /**
+     * @return simple name of the data access object, e.g. "UserDAO"
+     */
+    public String getDao() {
+        return dao;
+    }
+
+
+    /**
+     * @return first keyword of the query in lower case, e.g. "select"
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+
+    /**
+     * @return short hash of the template to identify the template in the metrics and in the log
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    /**
+     * @return sql query with ?-parameters
+     */
+    public String getSql() {
+        return sql;
+    }
+
+
+    private static String parseOperation(final String sql) {
+        final String trimmed = sql.trim();
+        int end = 0;
+
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? OTHER : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+
+    @Override
+    public String toString() {
+        return dao + "[" + id + "]";
+    }
+}
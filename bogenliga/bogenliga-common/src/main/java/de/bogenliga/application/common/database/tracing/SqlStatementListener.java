@@ -0,0 +1,20 @@
+package de.bogenliga.application.common.database.tracing;
+
+/**
+ * I am notified by the {@link SqlTracer} about each executed sql statement, e.g. to record its metrics.
+ * <p>
+ * I am called on the thread of the query, so I must not block.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@FunctionalInterface
+public interface SqlStatementListener {
+
+    /**
+     * @param statement     executed statement template
+     * @param durationNanos of the execution including the mapping of the result
+     * @param rows          number of selected or modified rows, 0 if the execution failed
+     * @param failed        true, if the execution failed with an {@link java.sql.SQLException}
+     */
+    void onExecuted(SqlStatement statement, long durationNanos, int rows, boolean failed);
+}
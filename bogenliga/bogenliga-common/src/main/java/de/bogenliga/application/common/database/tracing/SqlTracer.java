@@ -0,0 +1,215 @@
+package de.bogenliga.application.common.database.tracing;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.configuration.SqlTracingConfiguration;
+
+/**
+ * I trace the sql statements of the data access objects.
+ * <p>
+ * I measure the duration and the number of rows of each execution and notify the {@link SqlStatementListener}s, e.g.
+ * to record the latency metrics per {@link SqlStatement} template.
+ * <p>
+ * I log only the slow queries, which exceed the configured threshold. The slow queries are sampled with the configured
+ * rate and are logged without the values of their parameters, because the parameters may contain personal data or
+ * passwords. The templates of all queries are logged at TRACE level.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@Component
+public class SqlTracer {
+
+    private final long slowQueryThresholdNanos;
+    private final double slowQuerySampleRate;
+    private final int maxStatements;
+
+    // logger name -> sql query -> statement template
+    private final Map<String, Map<String, SqlStatement>> statements = new ConcurrentHashMap<>();
+    private final Map<String, SqlStatement> otherStatements = new ConcurrentHashMap<>();
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private final List<SqlStatementListener> listeners = new CopyOnWriteArrayList<>();
+
+
+    @Autowired
+    public SqlTracer(final SqlTracingConfiguration sqlTracingConfiguration) {
+        this(sqlTracingConfiguration.getSlowQueryThreshold(),
+                sqlTracingConfiguration.getSlowQuerySampleRate(),
+                sqlTracingConfiguration.getMaxStatements());
+    }
+
+
+    /**
+     * @param slowQueryThreshold  in milliseconds
+     * @param slowQuerySampleRate of the logged slow queries between 0 and 1
+     * @param maxStatements       traced separately, the other statements are traced together per data access object
+     */
+    SqlTracer(final long slowQueryThreshold, final double slowQuerySampleRate, final int maxStatements) {
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThreshold);
+        this.slowQuerySampleRate = slowQuerySampleRate;
+        this.maxStatements = maxStatements;
+    }
+
+
+    /**
+     * I execute and trace a single sql statement.
+     *
+     * @param logger      of the data access object
+     * @param sql         query with ?-parameters
+     * @param params      of the query, only their types are logged
+     * @param call        to execute the query with the query runner
+     * @param rowCounter  to count the rows of the result
+     * @param <R>         type of the result
+     *
+     * @return result of the call
+     *
+     * @throws SQLException of the call
+     */
+    public <R> R trace(final Logger logger, final String sql, final Object[] params,
+                       final SqlCall<R> call, final ToIntFunction<R> rowCounter) throws SQLException {
+        return execute(logger, sql, params, 0, call, rowCounter);
+    }
+
+
+    /**
+     * I execute and trace a batch of sql statements with the same template.
+     *
+     * @param logger     of the data access object
+     * @param sql        query with ?-parameters
+     * @param batchSize  number of parameter sets of the batch
+     * @param call       to execute the batch with the query runner
+     * @param rowCounter to count the rows of the result
+     * @param <R>        type of the result
+     *
+     * @return result of the call
+     *
+     * @throws SQLException of the call
+     */
+    public <R> R traceBatch(final Logger logger, final String sql, final int batchSize,
+                            final SqlCall<R> call, final ToIntFunction<R> rowCounter) throws SQLException {
+        return execute(logger, sql, null, batchSize, call, rowCounter);
+    }
+
+
+    /**
+     * I notify the listener about all later executed statements.
+     *
+     * @param listener to notify
+     */
+    public void addListener(final SqlStatementListener listener) {
+        listeners.add(listener);
+    }
+
+
+    /**
+     * @return number of the separately traced statement templates
+     */
+    public int getStatementCount() {
+        return statementCount.get();
+    }
+
+
+    private <R> R execute(final Logger logger, final String sql, final Object[] params, final int batchSize,
+                          final SqlCall<R> call, final ToIntFunction<R> rowCounter) throws SQLException {
+        final SqlStatement statement = getStatement(logger.getName(), sql);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("Execute sql statement {}: {}", statement, sql);
+        }
+
+        final long start = System.nanoTime();
+        boolean failed = true;
+        int rows = 0;
+
+        try {
+            final R result = call.call();
+            rows = result == null ? 0 : rowCounter.applyAsInt(result);
+            failed = false;
+            return result;
+
+        } finally {
+            final long durationNanos = System.nanoTime() - start;
+
+            for (final SqlStatementListener listener : listeners) {
+                listener.onExecuted(statement, durationNanos, rows, failed);
+            }
+
+            if (durationNanos >= slowQueryThresholdNanos && isSampled()) {
+                logger.warn("Slow sql statement {} took {} ms with {} rows{}: {} with parameters {}",
+                        statement, TimeUnit.NANOSECONDS.toMillis(durationNanos), rows, failed ? " and failed" : "",
+                        sql, batchSize > 0 ? "[batch of " + batchSize + "]" : redact(params));
+            }
+        }
+    }
+
+
+    private SqlStatement getStatement(final String loggerName, final String sql) {
+        final Map<String, SqlStatement> daoStatements = statements.computeIfAbsent(loggerName,
+                key -> new ConcurrentHashMap<>());
+        final SqlStatement statement = daoStatements.get(sql);
+
+        if (statement != null) {
+            return statement;
+        }
+
+        // limit the number of the metrics, e.g. if a query contains literal values instead of parameters
+        if (statementCount.get() >= maxStatements) {
+            return otherStatements.computeIfAbsent(loggerName, key -> SqlStatement.other(getSimpleName(key)));
+        }
+
+        return daoStatements.computeIfAbsent(sql, key -> {
+            statementCount.incrementAndGet();
+            return new SqlStatement(getSimpleName(loggerName), key);
+        });
+    }
+
+
+    private boolean isSampled() {
+        return slowQuerySampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate;
+    }
+
+
+    /**
+     * I replace the parameters with their types, e.g. "[Long, String, null]".
+     */
+    static String redact(final Object[] params) {
+        if (params == null) {
+            return "[]";
+        }
+
+        final StringBuilder redacted = new StringBuilder("[");
+
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                redacted.append(", ");
+            }
+            redacted.append(params[i] == null ? "null" : params[i].getClass().getSimpleName());
+        }
+        return redacted.append(']').toString();
+    }
+
+
+    private static String getSimpleName(final String loggerName) {
+        return loggerName.substring(loggerName.lastIndexOf('.') + 1);
+    }
+
+
+    /**
+     * I am a call of the query runner.
+     *
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    public interface SqlCall<R> {
+        R call() throws SQLException;
+    }
+}
@@ -0,0 +1,501 @@
+package de.bogenliga.application.common.database.tx;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import de.bogenliga.application.common.configuration.DatabaseConfiguration;
+
+/**
+ * I am a bounded pool of physical database connections.
+ *
+ * I wrap the {@link DataSource} of the database driver and hand out logical connections. Closing a logical connection
+ * returns the physical connection to the pool instead of closing the socket.
+ * <p>
+ * Idle connections are validated before they are borrowed, unused connections are evicted after the configured idle
+ * timeout and connections which are not returned within the leak detection threshold are reported.
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ * @see DatabaseConfiguration
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPool.class);
+
+    // connections returned within this time window are not validated again
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+    private static final long HOUSEKEEPING_PERIOD_MILLIS = 30000;
+
+    private final DataSource dataSource;
+    private final int maxSize;
+    private final int minIdle;
+    private final long connectionTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long idleTimeoutMillis;
+    private final long leakDetectionThresholdMillis;
+
+    // LIFO: the most recently returned connection is borrowed first
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowedConnections = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+
+    private volatile boolean closed;
+
+
+    /**
+     * Constructor
+     *
+     * @param dataSource            of the database driver to open physical connections
+     * @param databaseConfiguration with the pool settings
+     */
+    public ConnectionPool(final DataSource dataSource, final DatabaseConfiguration databaseConfiguration) {
+        this.dataSource = dataSource;
+        this.maxSize = databaseConfiguration.getPoolMaxSize();
+        this.minIdle = databaseConfiguration.getPoolMinIdle();
+        this.connectionTimeoutMillis = databaseConfiguration.getPoolConnectionTimeout();
+        this.validationTimeoutSeconds = databaseConfiguration.getPoolValidationTimeout();
+        this.idleTimeoutMillis = databaseConfiguration.getPoolIdleTimeout();
+        this.leakDetectionThresholdMillis = databaseConfiguration.getPoolLeakDetectionThreshold();
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.scheduleAtFixedRate(this::houseKeeping, HOUSEKEEPING_PERIOD_MILLIS,
+                HOUSEKEEPING_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+
+        LOG.info("Connection pool created with max size {}, min idle {}, connection timeout {} ms, "
+                        + "idle timeout {} ms and leak detection threshold {} ms",
+                maxSize, minIdle, connectionTimeoutMillis, idleTimeoutMillis, leakDetectionThresholdMillis);
+    }
+
+
+    /**
+     * I borrow a connection from the pool.
+     * <p>
+     * If all connections are in use, I wait up to the configured connection timeout for a returned connection.
+     *
+     * @return logical connection, {@link Connection#close()} returns it to the pool
+     *
+     * @throws SQLException if the pool is closed or exhausted or no physical connection could be opened
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        final long waitStart = System.nanoTime();
+
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLException(String.format(
+                        "Connection pool exhausted: no connection available within %d ms (active: %d, max: %d)",
+                        connectionTimeoutMillis, getActiveConnections(), maxSize));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", e);
+        }
+
+        final long waitNanos = System.nanoTime() - waitStart;
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+
+        try {
+            PooledConnection pooledConnection = takeValidIdleConnection();
+
+            if (pooledConnection == null) {
+                pooledConnection = new PooledConnection(dataSource.getConnection());
+                createdCount.incrementAndGet();
+                LOG.debug("Opened new physical connection. Pool size: {}", getTotalConnections() + 1);
+            }
+
+            pooledConnection.markBorrowed(leakDetectionThresholdMillis > 0);
+            borrowedConnections.add(pooledConnection);
+            return new LogicalConnection(pooledConnection).createProxy();
+
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("The connection pool uses the configured database user");
+    }
+
+
+    /**
+     * I close all idle connections and stop the housekeeping.
+     * <p>
+     * Borrowed connections are closed as soon as they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            destroy(pooledConnection);
+        }
+
+        LOG.info("Connection pool closed.");
+    }
+
+
+    /**
+     * @return number of connections currently borrowed
+     */
+    public int getActiveConnections() {
+        return borrowedConnections.size();
+    }
+
+
+    /**
+     * @return number of open connections waiting in the pool
+     */
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+
+
+    /**
+     * @return number of open physical connections
+     */
+    public int getTotalConnections() {
+        return getActiveConnections() + getIdleConnections();
+    }
+
+
+    /**
+     * @return number of threads waiting for a connection
+     */
+    public int getPendingThreads() {
+        return permits.getQueueLength();
+    }
+
+
+    /**
+     * @return maximum number of physical connections
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+
+    /**
+     * @return number of successful borrow operations
+     */
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+
+    /**
+     * @return accumulated time in ms the borrowing threads waited for a free connection
+     */
+    public long getTotalWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get());
+    }
+
+
+    /**
+     * @return longest time in ms a borrowing thread waited for a free connection
+     */
+    public long getMaxWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+
+    /**
+     * @return number of borrow operations which failed with the connection timeout
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+
+    /**
+     * @return number of physical connections opened by the pool
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+
+    /**
+     * @return number of idle connections closed by the idle eviction
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+
+    /**
+     * @return number of connections reported as possible leak
+     */
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return dataSource.unwrap(iface);
+    }
+
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || dataSource.isWrapperFor(iface);
+    }
+
+
+    /**
+     * I evict idle connections and report borrowed connections which exceed the leak detection threshold.
+     */
+    void houseKeeping() {
+        final long now = System.currentTimeMillis();
+
+        final Iterator<PooledConnection> idleIterator = idleConnections.descendingIterator();
+        while (idleIterator.hasNext() && idleConnections.size() > minIdle) {
+            final PooledConnection pooledConnection = idleIterator.next();
+
+            if (now - pooledConnection.lastReturnedAt > idleTimeoutMillis
+                    && idleConnections.removeFirstOccurrence(pooledConnection)) {
+                destroy(pooledConnection);
+                evictedCount.incrementAndGet();
+                LOG.debug("Evicted idle connection. Pool size: {}", getTotalConnections());
+            }
+        }
+
+        if (leakDetectionThresholdMillis > 0) {
+            for (final PooledConnection pooledConnection : borrowedConnections) {
+                if (!pooledConnection.leakReported
+                        && now - pooledConnection.borrowedAt > leakDetectionThresholdMillis) {
+                    pooledConnection.leakReported = true;
+                    leakCount.incrementAndGet();
+                    LOG.warn("Connection was not returned to the pool within {} ms, possible connection leak.",
+                            leakDetectionThresholdMillis, pooledConnection.borrowStackTrace);
+                }
+            }
+        }
+    }
+
+
+    private PooledConnection takeValidIdleConnection() {
+        PooledConnection pooledConnection;
+
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            if (isValid(pooledConnection)) {
+                return pooledConnection;
+            }
+
+            LOG.debug("Discard invalid idle connection.");
+            destroy(pooledConnection);
+        }
+
+        return null;
+    }
+
+
+    private boolean isValid(final PooledConnection pooledConnection) {
+        if (System.currentTimeMillis() - pooledConnection.lastReturnedAt < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+
+        try {
+            return pooledConnection.physicalConnection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            LOG.debug("Connection validation failed.", e);
+            return false;
+        }
+    }
+
+
+    private void giveBack(final PooledConnection pooledConnection) {
+        if (!borrowedConnections.remove(pooledConnection)) {
+            return; // already returned
+        }
+
+        try {
+            final Connection physicalConnection = pooledConnection.physicalConnection;
+
+            if (closed || physicalConnection.isClosed()) {
+                destroy(pooledConnection);
+                return;
+            }
+
+            // never hand out a connection with an open transaction
+            if (!physicalConnection.getAutoCommit()) {
+                physicalConnection.rollback();
+            }
+
+            pooledConnection.lastReturnedAt = System.currentTimeMillis();
+            idleConnections.offerFirst(pooledConnection);
+
+        } catch (SQLException e) {
+            LOG.warn("Could not reset returned connection, the connection will be closed.", e);
+            destroy(pooledConnection);
+
+        } finally {
+            permits.release();
+        }
+    }
+
+
+    private static void destroy(final PooledConnection pooledConnection) {
+        try {
+            pooledConnection.physicalConnection.close();
+        } catch (SQLException e) {
+            LOG.debug("Could not close physical connection.", e);
+        }
+    }
+
+
+    /**
+     * I hold a physical connection and its pool state.
+     */
+    private static final class PooledConnection {
+        private final Connection physicalConnection;
+        private volatile long borrowedAt;
+        private volatile long lastReturnedAt;
+        private volatile boolean leakReported;
+        private volatile Throwable borrowStackTrace;
+
+
+        PooledConnection(final Connection physicalConnection) {
+            this.physicalConnection = physicalConnection;
+        }
+
+
+        void markBorrowed(final boolean traceBorrower) {
+            borrowedAt = System.currentTimeMillis();
+            leakReported = false;
+            borrowStackTrace = traceBorrower ? new Throwable("Connection borrowed here") : null;
+        }
+    }
+
+
+    /**
+     * I am the logical connection of a single borrow operation.
+     * <p>
+     * Every borrow gets a new logical connection, so a stale reference cannot use the physical connection after it
+     * has been returned to the pool.
+     */
+    private final class LogicalConnection implements InvocationHandler {
+        private final PooledConnection pooledConnection;
+        private volatile boolean logicallyClosed;
+
+
+        LogicalConnection(final PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+        }
+
+
+        Connection createProxy() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, this);
+        }
+
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!logicallyClosed) {
+                        logicallyClosed = true;
+                        giveBack(pooledConnection);
+                    }
+                    return null;
+                case "isClosed":
+                    return logicallyClosed || pooledConnection.physicalConnection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + pooledConnection.physicalConnection;
+                default:
+                    break;
+            }
+
+            if (logicallyClosed) {
+                throw new SQLException("Connection is already returned to the pool");
+            }
+
+            try {
+                return method.invoke(pooledConnection.physicalConnection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package de.bogenliga.application.common.database.tx;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import javax.annotation.PreDestroy;
 import javax.sql.DataSource;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.slf4j.Logger;
@@ -23,7 +24,7 @@ import de.bogenliga.application.common.errorhandling.exception.TechnicalExceptio
 public class PostgresqlTransactionManager implements TransactionManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(PostgresqlTransactionManager.class);
-    private DataSource ds;
+    private volatile DataSource ds;
     private DatabaseConfiguration databaseConfiguration;
 
 
@@ -148,31 +149,17 @@ public class PostgresqlTransactionManager implements TransactionManager {
     }
 
 
+    /**
+     * I return the pooled data source and create it on first access.
+     *
+     * @return {@link ConnectionPool} for the configured database
+     */
     public DataSource getDataSource() {
         if (ds == null) {
-            try {
-                LOG.debug("Database connection: jdbc:postgresql://{}:{}/{} with user '{}' and password length '{}'",
-                        databaseConfiguration.getHost(), databaseConfiguration.getPort(),
-                        databaseConfiguration.getDatabaseName(), databaseConfiguration.getUser(),
-                        databaseConfiguration.getPassword().length());
-
-                PGSimpleDataSource postgresqlDatasource = new PGSimpleDataSource();  // Empty instance.
-                // The value `localhost` means the Postgres cluster running locally on the same machine.
-                postgresqlDatasource.setServerName(databaseConfiguration.getHost());
-                postgresqlDatasource.setPortNumber(databaseConfiguration.getPort());
-                // A connection to Postgres must be made to a specific database rather than to the server as a whole.
-                // You likely have an initial database created named `public`.
-                postgresqlDatasource.setDatabaseName(databaseConfiguration.getDatabaseName());
-                // Or use the super-user 'postgres' for user name if you installed Postgres with defaults and
-                // have not yet created user(s) for your application.
-                postgresqlDatasource.setUser(databaseConfiguration.getUser());
-                postgresqlDatasource.setPassword(databaseConfiguration.getPassword());
-
-                ds = postgresqlDatasource;
-
-                testConnection();
-            } catch (SQLException | NullPointerException e) {
-                throw new TechnicalException(ErrorCode.DATABASE_CONNECTION_ERROR, e);
+            synchronized (this) {
+                if (ds == null) {
+                    ds = createDataSource();
+                }
             }
         }
 
@@ -180,6 +167,63 @@ public class PostgresqlTransactionManager implements TransactionManager {
     }
 
 
+    /**
+     * I return the pooled data source without creating it, e.g. for the metrics of the pool.
+     *
+     * @return {@link ConnectionPool} for the configured database or null, if no connection was requested yet
+     */
+    public DataSource getCreatedDataSource() {
+        return ds;
+    }
+
+
+    /**
+     * Close all pooled connections on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (ds instanceof ConnectionPool) {
+            ((ConnectionPool) ds).close();
+        }
+    }
+
+
+    private DataSource createDataSource() {
+        try {
+            LOG.debug("Database connection: jdbc:postgresql://{}:{}/{} with user '{}' and password length '{}'",
+                    databaseConfiguration.getHost(), databaseConfiguration.getPort(),
+                    databaseConfiguration.getDatabaseName(), databaseConfiguration.getUser(),
+                    databaseConfiguration.getPassword().length());
+
+            PGSimpleDataSource postgresqlDatasource = new PGSimpleDataSource();  // Empty instance.
+            // The value `localhost` means the Postgres cluster running locally on the same machine.
+            postgresqlDatasource.setServerName(databaseConfiguration.getHost());
+            postgresqlDatasource.setPortNumber(databaseConfiguration.getPort());
+            // A connection to Postgres must be made to a specific database rather than to the server as a whole.
+            // You likely have an initial database created named `public`.
+            postgresqlDatasource.setDatabaseName(databaseConfiguration.getDatabaseName());
+            // Or use the super-user 'postgres' for user name if you installed Postgres with defaults and
+            // have not yet created user(s) for your application.
+            postgresqlDatasource.setUser(databaseConfiguration.getUser());
+            postgresqlDatasource.setPassword(databaseConfiguration.getPassword());
+
+            // reuse the physical connections instead of opening a new connection for each transaction
+            final ConnectionPool connectionPool = new ConnectionPool(postgresqlDatasource, databaseConfiguration);
+
+            try {
+                testConnection(connectionPool);
+            } catch (SQLException e) {
+                connectionPool.close();
+                throw e;
+            }
+
+            return connectionPool;
+        } catch (SQLException | NullPointerException e) {
+            throw new TechnicalException(ErrorCode.DATABASE_CONNECTION_ERROR, e);
+        }
+    }
+
+
     /**
      * Initial database connection check
      *
@@ -188,7 +232,12 @@ public class PostgresqlTransactionManager implements TransactionManager {
      * @throws SQLException if the database information could not be accessed
      */
     void testConnection() throws SQLException {
-        try (Connection connection = getDataSource().getConnection()) {
+        testConnection(getDataSource());
+    }
+
+
+    private static void testConnection(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
             DatabaseMetaData databaseMetaData = connection.getMetaData();
             LOG.info("Datasource {} {} found and registered.", databaseMetaData.getDatabaseProductName(),
                     databaseMetaData.getDatabaseProductVersion());
@@ -0,0 +1,348 @@
+package de.bogenliga.application.common.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * I am an immutable index of a hierarchy, which is stored as parent pointers, e.g. the superior Liga or Region.
+ * <p>
+ * All relations are computed once, when the index is built:
+ * <ul>
+ * <li>the parent, the level and the ancestors of each node</li>
+ * <li>the position of each node in the preorder of the tree, so the descendants of a node are a contiguous
+ * range of the preorder</li>
+ * </ul>
+ * Nodes without parent or with an unknown parent are roots with the level 0. Parent pointers, which form a cycle,
+ * are cut at the first node of the cycle, which is reached.
+ * <p>
+ * I am immutable and can be shared between threads. Changed data requires a new index.
+ *
+ * @param <T> type of the nodes
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public final class TreeIndex<T> {
+
+    private static final String PRECONDITION_MSG_VALUES = "values must not be null";
+    private static final String PRECONDITION_MSG_ID_FUNCTION = "idFunction must not be null";
+    private static final String PRECONDITION_MSG_PARENT_ID_FUNCTION = "parentIdFunction must not be null";
+
+    private final Map<Long, Node<T>> nodesById;
+    private final List<T> values;
+    private final List<T> preorder;
+    private final List<T> roots;
+
+
+    private TreeIndex(final Map<Long, Node<T>> nodesById, final List<T> values, final List<T> preorder,
+                      final List<T> roots) {
+        this.nodesById = nodesById;
+        this.values = Collections.unmodifiableList(values);
+        this.preorder = Collections.unmodifiableList(preorder);
+        this.roots = Collections.unmodifiableList(roots);
+    }
+
+
+    /**
+     * @param <T> type of the nodes
+     *
+     * @return index without nodes
+     */
+    public static <T> TreeIndex<T> empty() {
+        return new TreeIndex<>(Collections.emptyMap(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+
+    /**
+     * I build the index of all nodes.
+     *
+     * @param values           all nodes of the hierarchy, nodes without id and duplicate ids are ignored
+     * @param idFunction       to get the id of a node
+     * @param parentIdFunction to get the id of the parent of a node or null for a root node
+     * @param <T>              type of the nodes
+     *
+     * @return index of the nodes
+     */
+    public static <T> TreeIndex<T> of(final Collection<T> values,
+                                      final Function<T, Long> idFunction,
+                                      final Function<T, Long> parentIdFunction) {
+        Preconditions.checkNotNull(values, PRECONDITION_MSG_VALUES);
+        Preconditions.checkNotNull(idFunction, PRECONDITION_MSG_ID_FUNCTION);
+        Preconditions.checkNotNull(parentIdFunction, PRECONDITION_MSG_PARENT_ID_FUNCTION);
+
+        final Map<Long, Node<T>> nodesById = new HashMap<>(values.size() * 2);
+        final List<Node<T>> nodes = new ArrayList<>(values.size());
+        final List<T> indexedValues = new ArrayList<>(values.size());
+
+        for (final T value : values) {
+            final Long id = value == null ? null : idFunction.apply(value);
+
+            if (id != null && !nodesById.containsKey(id)) {
+                final Node<T> node = new Node<>(id, value, parentIdFunction.apply(value));
+                nodesById.put(id, node);
+                nodes.add(node);
+                indexedValues.add(value);
+            }
+        }
+
+        final List<Node<T>> rootNodes = new ArrayList<>();
+
+        for (final Node<T> node : nodes) {
+            final Node<T> parent = node.parentId == null || node.parentId.equals(node.id)
+                    ? null
+                    : nodesById.get(node.parentId);
+
+            if (parent == null) {
+                rootNodes.add(node);
+            } else {
+                parent.children.add(node);
+            }
+        }
+
+        final List<T> preorder = new ArrayList<>(nodes.size());
+        final List<T> roots = new ArrayList<>();
+
+        for (final Node<T> root : rootNodes) {
+            visit(root, preorder);
+            roots.add(root.value);
+        }
+
+        // nodes of a cycle are not reachable from a root
+        for (final Node<T> node : nodes) {
+            if (node.enter < 0) {
+                visit(node, preorder);
+                roots.add(node.value);
+            }
+        }
+
+        return new TreeIndex<>(Collections.unmodifiableMap(nodesById), indexedValues, preorder, roots);
+    }
+
+
+    /**
+     * I assign the level, the ancestors and the preorder positions to the subtree of the root.
+     * <p>
+     * The tree is traversed without recursion, because the depth of the hierarchy is not limited.
+     */
+    private static <T> void visit(final Node<T> root, final List<T> preorder) {
+        final Deque<Node<T>> path = new ArrayDeque<>();
+        final Deque<Integer> nextChild = new ArrayDeque<>();
+
+        enter(root, null, preorder);
+        path.push(root);
+        nextChild.push(0);
+
+        while (!path.isEmpty()) {
+            final Node<T> node = path.peek();
+            final int childIndex = nextChild.pop();
+
+            if (childIndex < node.children.size()) {
+                nextChild.push(childIndex + 1);
+                final Node<T> child = node.children.get(childIndex);
+
+                if (child.enter < 0) {
+                    enter(child, node, preorder);
+                    path.push(child);
+                    nextChild.push(0);
+                }
+            } else {
+                node.exit = preorder.size();
+                path.pop();
+            }
+        }
+    }
+
+
+    private static <T> void enter(final Node<T> node, final Node<T> parent, final List<T> preorder) {
+        node.enter = preorder.size();
+        preorder.add(node.value);
+
+        if (parent == null) {
+            node.parent = null;
+            node.level = 0;
+            node.ancestors = Collections.emptyList();
+            node.ancestorIds = Collections.emptyList();
+        } else {
+            final List<T> ancestors = new ArrayList<>(parent.ancestors.size() + 1);
+            ancestors.add(parent.value);
+            ancestors.addAll(parent.ancestors);
+
+            final List<Long> ancestorIds = new ArrayList<>(parent.ancestorIds.size() + 1);
+            ancestorIds.add(parent.id);
+            ancestorIds.addAll(parent.ancestorIds);
+
+            node.parent = parent;
+            node.level = parent.level + 1;
+            node.ancestors = Collections.unmodifiableList(ancestors);
+            node.ancestorIds = Collections.unmodifiableList(ancestorIds);
+        }
+    }
+
+
+    /**
+     * @return number of nodes
+     */
+    public int size() {
+        return nodesById.size();
+    }
+
+
+    public boolean contains(final long id) {
+        return nodesById.containsKey(id);
+    }
+
+
+    /**
+     * @param id of the node
+     *
+     * @return node or null, if the node is unknown
+     */
+    public T get(final long id) {
+        final Node<T> node = nodesById.get(id);
+        return node == null ? null : node.value;
+    }
+
+
+    /**
+     * @param id of the node
+     *
+     * @return parent of the node or null, if the node is a root or unknown
+     */
+    public T getParent(final long id) {
+        final Node<T> node = nodesById.get(id);
+        return node == null || node.parent == null ? null : node.parent.value;
+    }
+
+
+    /**
+     * @param id of the node
+     *
+     * @return number of ancestors, e.g. 0 for a root, or -1 if the node is unknown
+     */
+    public int getLevel(final long id) {
+        final Node<T> node = nodesById.get(id);
+        return node == null ? -1 : node.level;
+    }
+
+
+    /**
+     * @param id of the node
+     *
+     * @return ancestors of the node, starting with the parent and ending with the root
+     */
+    public List<T> getAncestors(final long id) {
+        final Node<T> node = nodesById.get(id);
+        return node == null ? Collections.emptyList() : node.ancestors;
+    }
+
+
+    /**
+     * @param id of the node
+     *
+     * @return ids of the ancestors of the node, starting with the parent and ending with the root
+     */
+    public List<Long> getAncestorIds(final long id) {
+        final Node<T> node = nodesById.get(id);
+        return node == null ? Collections.emptyList() : node.ancestorIds;
+    }
+
+
+    /**
+     * @param id of the node
+     *
+     * @return direct children of the node
+     */
+    public List<T> getChildren(final long id) {
+        final Node<T> node = nodesById.get(id);
+        return node == null ? Collections.emptyList() : values(node.children);
+    }
+
+
+    /**
+     * @param id of the node
+     *
+     * @return all nodes below the node in preorder
+     */
+    public List<T> getDescendants(final long id) {
+        final Node<T> node = nodesById.get(id);
+        return node == null ? Collections.emptyList() : preorder.subList(node.enter + 1, node.exit);
+    }
+
+
+    /**
+     * @param ancestorId of the possible ancestor
+     * @param id         of the node
+     *
+     * @return true, if the first node is a direct or indirect parent of the second node
+     */
+    public boolean isAncestor(final long ancestorId, final long id) {
+        final Node<T> ancestor = nodesById.get(ancestorId);
+        final Node<T> node = nodesById.get(id);
+
+        return ancestor != null && node != null
+                && ancestor.enter < node.enter && node.enter < ancestor.exit;
+    }
+
+
+    /**
+     * @return all nodes without parent
+     */
+    public List<T> getRoots() {
+        return roots;
+    }
+
+
+    /**
+     * @return all nodes in the order of the values of the index
+     */
+    public List<T> getAll() {
+        return values;
+    }
+
+
+    private static <T> List<T> values(final List<Node<T>> nodes) {
+        return Collections.unmodifiableList(nodes.stream().map(node -> node.value).collect(Collectors.toList()));
+    }
+
+
+    @Override
+    public String toString() {
+        return "TreeIndex{" +
+                "size=" + size() +
+                ", roots=" + roots.size() +
+                '}';
+    }
+
+
+    /**
+     * Node of the hierarchy, the relations are only changed while the index is built.
+     */
+    private static final class Node<T> {
+        private final Long id;
+        private final T value;
+        private final Long parentId;
+        private final List<Node<T>> children = new ArrayList<>(2);
+        private Node<T> parent;
+        private int level;
+        private List<T> ancestors;
+        private List<Long> ancestorIds;
+        private int enter = -1;
+        private int exit = -1;
+
+
+        private Node(final Long id, final T value, final Long parentId) {
+            this.id = id;
+            this.value = value;
+            this.parentId = parentId;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package de.bogenliga.application.common.tree;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * I hold the current {@link TreeIndex} of a hierarchy.
+ * <p>
+ * The index is built on the first request and replaced as a whole, so readers always see a complete index. After a
+ * write, the owning component invalidates the index and the next request builds a new one. An index, which was
+ * loaded while the hierarchy has been changed, is not used by later requests. Because the change is only visible to
+ * other requests after the commit, the index is invalidated again after the commit.
+ *
+ * @param <T> type of the nodes
+ *
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+public class TreeIndexCache<T> {
+
+    private final Function<T, Long> idFunction;
+    private final Function<T, Long> parentIdFunction;
+    private final Consumer<Runnable> afterCommit;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Entry<T>> current = new AtomicReference<>();
+
+
+    /**
+     * @param idFunction       to get the id of a node
+     * @param parentIdFunction to get the id of the parent of a node or null for a root node
+     */
+    public TreeIndexCache(final Function<T, Long> idFunction, final Function<T, Long> parentIdFunction) {
+        this(idFunction, parentIdFunction, runnable -> { });
+    }
+
+
+    /**
+     * @param idFunction       to get the id of a node
+     * @param parentIdFunction to get the id of the parent of a node or null for a root node
+     * @param afterCommit      to run a callback after the commit of the current transaction
+     */
+    public TreeIndexCache(final Function<T, Long> idFunction, final Function<T, Long> parentIdFunction,
+                          final Consumer<Runnable> afterCommit) {
+        this.idFunction = idFunction;
+        this.parentIdFunction = parentIdFunction;
+        this.afterCommit = afterCommit;
+    }
+
+
+    /**
+     * @param loader to load all nodes of the hierarchy, if no valid index exists
+     *
+     * @return current index
+     */
+    public TreeIndex<T> get(final Supplier<? extends Collection<T>> loader) {
+        final Entry<T> entry = current.get();
+
+        if (entry != null && entry.generation == generation.get()) {
+            return entry.index;
+        }
+
+        return refresh(loader);
+    }
+
+
+    /**
+     * I build a new index, e.g. if all nodes have to be loaded anyway.
+     *
+     * @param loader to load all nodes of the hierarchy
+     *
+     * @return new index
+     */
+    public TreeIndex<T> refresh(final Supplier<? extends Collection<T>> loader) {
+        // remember the generation before loading, a concurrent write makes the loaded index outdated
+        final long loadedGeneration = generation.get();
+        final TreeIndex<T> index = TreeIndex.of(loader.get(), idFunction, parentIdFunction);
+
+        current.set(new Entry<>(loadedGeneration, index));
+        return index;
+    }
+
+
+    /**
+     * I discard the current index after a change of the hierarchy.
+     * <p>
+     * An index loaded by another request before the commit still contains the old hierarchy, so the index is
+     * discarded again after the commit.
+     */
+    public void invalidate() {
+        invalidateNow();
+        afterCommit.accept(this::invalidateNow);
+    }
+
+
+    private void invalidateNow() {
+        generation.incrementAndGet();
+        current.set(null);
+    }
+
+
+    private static final class Entry<T> {
+        private final long generation;
+        private final TreeIndex<T> index;
+
+
+        private Entry(final long generation, final TreeIndex<T> index) {
+            this.generation = generation;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package de.bogenliga.application.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class DocumentCacheTest {
+
+    private static final String SETZLISTE = "setzliste/30";
+    private static final String MELDEZETTEL = "meldezettel/30";
+    private static final String SCHUSSZETTEL = "schusszettel/30";
+    private static final String VERSION = "42.7.1546300800000";
+    private static final String NEW_VERSION = "42.8.1546300900000";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path directory;
+    private DocumentCache underTest;
+
+
+    @Before
+    public void initDocumentCache() throws IOException {
+        directory = temporaryFolder.newFolder("documents").toPath();
+        underTest = new DocumentCache(10, 10, 8, directory);
+    }
+
+
+    @Test
+    public void get_shouldReturnCachedVersion() {
+        // prepare test data
+        underTest.put(SETZLISTE, VERSION, new byte[] {1, 2, 3});
+
+        // call test method
+        final byte[] actual = underTest.get(SETZLISTE, VERSION);
+
+        // assert result
+        assertThat(actual).containsExactly(1, 2, 3);
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void get_withNewVersion_shouldRemoveOldVersion() {
+        // prepare test data
+        underTest.put(SETZLISTE, VERSION, new byte[] {1, 2, 3});
+
+        // call test method
+        final byte[] actual = underTest.get(SETZLISTE, NEW_VERSION);
+
+        // assert result
+        assertThat(actual).isNull();
+        assertThat(underTest.get(SETZLISTE, VERSION)).isNull();
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.getMissCount()).isEqualTo(2);
+    }
+
+
+    @Test
+    public void put_withExceededMemorySize_shouldSpillToDisk() {
+        // prepare test data
+        underTest.put(SETZLISTE, VERSION, new byte[] {1, 2, 3, 4});
+        underTest.put(MELDEZETTEL, VERSION, new byte[] {5, 6, 7, 8});
+
+        // call test method
+        underTest.put(SCHUSSZETTEL, VERSION, new byte[] {9, 10, 11, 12});
+
+        // assert result
+        assertThat(underTest.getMemorySize()).isEqualTo(8);
+        assertThat(underTest.getDiskSize()).isEqualTo(4);
+        assertThat(directory.toFile().list()).containsExactly(
+                DocumentCache.address(SETZLISTE, VERSION) + ".document");
+
+        // the spilled document is moved back to memory
+        assertThat(underTest.get(SETZLISTE, VERSION)).containsExactly(1, 2, 3, 4);
+        assertThat(underTest.getDiskSize()).isEqualTo(4);
+        assertThat(directory.toFile().list()).containsExactly(
+                DocumentCache.address(MELDEZETTEL, VERSION) + ".document");
+    }
+
+
+    @Test
+    public void get_withDeletedFile_shouldReturnNull() {
+        // prepare test data
+        underTest.put(SETZLISTE, VERSION, new byte[] {1, 2, 3, 4});
+        underTest.put(MELDEZETTEL, VERSION, new byte[] {5, 6, 7, 8});
+        underTest.put(SCHUSSZETTEL, VERSION, new byte[] {9, 10, 11, 12});
+
+        // the file is deleted, e.g. by a concurrent eviction, while the document is read without the lock
+        assertThat(directory.resolve(DocumentCache.address(SETZLISTE, VERSION) + ".document").toFile().delete())
+                .isTrue();
+
+        // call test method
+        final byte[] actual = underTest.get(SETZLISTE, VERSION);
+
+        // assert result
+        assertThat(actual).isNull();
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+        assertThat(underTest.getHitCount()).isZero();
+        assertThat(underTest.getDiskSize()).isZero();
+    }
+
+
+    @Test
+    public void put_withExceededDiskSize_shouldDeleteLeastRecentlyUsedDocument() {
+        // call test method
+        underTest.put(SETZLISTE, VERSION, new byte[] {1, 2, 3, 4, 5, 6});
+        underTest.put(MELDEZETTEL, VERSION, new byte[] {1, 2, 3, 4, 5, 6});
+        underTest.put(SCHUSSZETTEL, VERSION, new byte[] {1, 2, 3, 4, 5, 6});
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.get(SETZLISTE, VERSION)).isNull();
+        assertThat(directory.toFile().list()).containsExactly(
+                DocumentCache.address(MELDEZETTEL, VERSION) + ".document");
+    }
+
+
+    @Test
+    public void put_withExceededDocumentSize_shouldNotCacheDocument() {
+        // call test method
+        underTest.put(SETZLISTE, VERSION, new byte[9]);
+
+        // assert result
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.getMemorySize()).isZero();
+    }
+
+
+    @Test
+    public void capture_shouldWriteAndCacheDocument() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // call test method
+        final DocumentCache.Capture capture = underTest.capture(SETZLISTE, VERSION, outputStream);
+        capture.write(new byte[] {1, 2, 3}, 0, 3);
+        capture.write(4);
+
+        // the document is cached after it has been written completely
+        assertThat(underTest.get(SETZLISTE, VERSION)).isNull();
+
+        capture.commit();
+
+        // assert result
+        assertThat(outputStream.toByteArray()).containsExactly(1, 2, 3, 4);
+        assertThat(underTest.get(SETZLISTE, VERSION)).containsExactly(1, 2, 3, 4);
+    }
+
+
+    @Test
+    public void capture_withExceededDocumentSize_shouldOnlyWriteDocument() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // call test method
+        final DocumentCache.Capture capture = underTest.capture(SETZLISTE, VERSION, outputStream);
+        capture.write(new byte[9], 0, 9);
+        capture.commit();
+
+        // assert result
+        assertThat(outputStream.size()).isEqualTo(9);
+        assertThat(underTest.size()).isZero();
+    }
+
+
+    @Test
+    public void new_shouldDeleteDocumentsOfPreviousRun() throws IOException {
+        // prepare test data
+        final File staleDocument = directory.resolve("stale.document").toFile();
+        assertThat(staleDocument.createNewFile()).isTrue();
+
+        // call test method
+        new DocumentCache(10, 10, 8, directory);
+
+        // assert result
+        assertThat(staleDocument).doesNotExist();
+    }
+}
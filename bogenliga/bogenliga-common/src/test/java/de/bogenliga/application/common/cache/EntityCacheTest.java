@@ -0,0 +1,203 @@
+package de.bogenliga.application.common.cache;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.common.configuration.EntityCacheConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class EntityCacheTest {
+
+    private static final String CACHE_NAME = "regionen";
+    private static final long NOW = 1000000L;
+    private static final long TTL = 60000L;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+    @Mock
+    private Function<Long, String> loader;
+    @Mock
+    private Supplier<List<String>> allLoader;
+
+    private EntityCacheConfiguration entityCacheConfiguration;
+    private EntityCacheManager entityCacheManager;
+    private final List<Runnable> afterCommitCallbacks = new ArrayList<>();
+
+
+    @Before
+    public void initCacheManager() {
+        entityCacheConfiguration = new EntityCacheConfiguration();
+        entityCacheConfiguration.setSize(2);
+        entityCacheConfiguration.setTtl(TTL);
+
+        entityCacheManager = new EntityCacheManager(entityCacheConfiguration, clock);
+        entityCacheManager.setAfterCommit(afterCommitCallbacks::add);
+
+        when(clock.millis()).thenReturn(NOW);
+        when(loader.apply(anyLong())).thenAnswer(invocation -> "Region " + invocation.getArgument(0));
+        when(allLoader.get()).thenReturn(Arrays.asList("Region 1", "Region 2"));
+    }
+
+
+    @Test
+    public void get_shouldLoadOnlyOnce() {
+        // prepare test data
+        final EntityCache<Long, String> underTest = entityCacheManager.getCache(CACHE_NAME);
+
+        // call test method
+        final String actual = underTest.get(1L, loader);
+        underTest.get(1L, loader);
+
+        // assert result
+        assertThat(actual).isEqualTo("Region 1");
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+
+        // verify invocations
+        verify(loader, times(1)).apply(1L);
+    }
+
+
+    @Test
+    public void get_withExpiredEntry_shouldLoadAgain() {
+        // prepare test data
+        final EntityCache<Long, String> underTest = entityCacheManager.getCache(CACHE_NAME);
+        underTest.get(1L, loader);
+
+        // configure mocks
+        when(clock.millis()).thenReturn(NOW + TTL);
+
+        // call test method
+        underTest.get(1L, loader);
+
+        // verify invocations
+        verify(loader, times(2)).apply(1L);
+    }
+
+
+    @Test
+    public void get_withMissingEntity_shouldNotCacheNull() {
+        // prepare test data
+        final EntityCache<Long, String> underTest = entityCacheManager.getCache(CACHE_NAME);
+
+        // configure mocks
+        when(loader.apply(3L)).thenReturn(null);
+
+        // call test method
+        final String actual = underTest.get(3L, loader);
+
+        // assert result
+        assertThat(actual).isNull();
+        assertThat(underTest.size()).isZero();
+    }
+
+
+    @Test
+    public void get_withMaxSize_shouldEvictLeastRecentlyUsedEntity() {
+        // prepare test data
+        final EntityCache<Long, String> underTest = entityCacheManager.getCache(CACHE_NAME);
+
+        // call test method
+        underTest.get(1L, loader);
+        underTest.get(2L, loader);
+        underTest.get(1L, loader);
+        underTest.get(3L, loader);
+        underTest.get(1L, loader);
+        underTest.get(2L, loader);
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.getEvictionCount()).isEqualTo(2);
+
+        // verify invocations
+        verify(loader, times(1)).apply(1L);
+        verify(loader, times(2)).apply(2L);
+    }
+
+
+    @Test
+    public void getAll_shouldLoadOnlyOnce() {
+        // prepare test data
+        final EntityCache<Long, String> underTest = entityCacheManager.getCache(CACHE_NAME);
+
+        // call test method
+        final List<String> actual = underTest.getAll(allLoader);
+        underTest.getAll(allLoader);
+
+        // assert result
+        assertThat(actual).containsExactly("Region 1", "Region 2");
+
+        // verify invocations
+        verify(allLoader, times(1)).get();
+    }
+
+
+    @Test
+    public void invalidate_shouldLoadAgainAndInvalidateAfterCommit() {
+        // prepare test data
+        final EntityCache<Long, String> underTest = entityCacheManager.getCache(CACHE_NAME);
+        underTest.get(1L, loader);
+        underTest.getAll(allLoader);
+
+        // call test method
+        underTest.invalidate();
+
+        // an entity loaded by another request before the commit
+        underTest.get(2L, loader);
+        afterCommitCallbacks.forEach(Runnable::run);
+
+        // assert result
+        assertThat(underTest.size()).isZero();
+        assertThat(afterCommitCallbacks).hasSize(1);
+
+        underTest.get(1L, loader);
+        underTest.getAll(allLoader);
+
+        // verify invocations
+        verify(loader, times(2)).apply(1L);
+        verify(allLoader, times(2)).get();
+    }
+
+
+    @Test
+    public void getCache_shouldUsePolicyAndNotifyListeners() {
+        // prepare test data
+        final EntityCacheConfiguration.Policy policy = new EntityCacheConfiguration.Policy();
+        policy.setSize(500);
+        entityCacheConfiguration.getPolicies().put("verein", policy);
+
+        final List<String> notifiedCaches = new ArrayList<>();
+        entityCacheManager.getCache(CACHE_NAME);
+        entityCacheManager.addListener(cache -> notifiedCaches.add(cache.getName()));
+
+        // call test method
+        final EntityCache<Long, String> actual = entityCacheManager.getCache("verein");
+
+        // assert result
+        assertThat(actual).isSameAs(entityCacheManager.getCache("verein"));
+        assertThat(actual.getMaxSize()).isEqualTo(500);
+        assertThat(actual.getTimeToLive()).isEqualTo(TTL);
+        assertThat(entityCacheManager.getCache(CACHE_NAME).getMaxSize()).isEqualTo(2);
+        assertThat(notifiedCaches).containsExactly(CACHE_NAME, "verein");
+    }
+}
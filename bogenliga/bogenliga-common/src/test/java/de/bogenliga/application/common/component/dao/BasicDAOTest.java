@@ -3,6 +3,7 @@ package de.bogenliga.application.common.component.dao;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +21,11 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.slf4j.Logger;
 import de.bogenliga.application.common.component.entity.CommonBusinessEntity;
+import de.bogenliga.application.common.component.paging.Page;
+import de.bogenliga.application.common.component.paging.PageRequest;
+import de.bogenliga.application.common.configuration.SqlTracingConfiguration;
+import de.bogenliga.application.common.database.tracing.SqlStatementListener;
+import de.bogenliga.application.common.database.tracing.SqlTracer;
 import de.bogenliga.application.common.database.tx.PostgresqlTransactionManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
@@ -43,7 +49,6 @@ public class BasicDAOTest {
     private static final String BE_PARAMETER_NAME = "name";
 
     private static final String SQL_QUERY_WITH_PARAMETER = "SELECT * FROM table WHERE table_id = ? ;";
-    private static final String SQL_QUERY = "DUMMY SQL QUERY;";
     private static final String PARAMETER = "parameter";
 
     @Rule
@@ -56,6 +61,8 @@ public class BasicDAOTest {
     private PostgresqlTransactionManager transactionManager;
     @Mock
     private Logger logger;
+    @Mock
+    private SqlStatementListener sqlStatementListener;
     @InjectMocks
     private BasicDAO underTest;
     @Captor
@@ -82,7 +89,12 @@ public class BasicDAOTest {
 
     @Before
     public void initUnderTest() {
-        underTest = new BasicDAO(transactionManager, queryRunner);
+        final SqlTracer sqlTracer = new SqlTracer(new SqlTracingConfiguration());
+        sqlTracer.addListener(sqlStatementListener);
+
+        when(logger.getName()).thenReturn("de.bogenliga.application.TestDAO");
+
+        underTest = new BasicDAO(transactionManager, queryRunner, sqlTracer);
     }
 
 
@@ -205,6 +217,106 @@ public class BasicDAOTest {
     }
 
 
+    @Test
+    public void selectEntityPage() throws SQLException {
+        // prepare test data
+        final TestBE first = new TestBE();
+        first.setId(ID + 1);
+        final TestBE second = new TestBE();
+        second.setId(ID + 2);
+
+        final PageRequest pageRequest = new PageRequest(Collections.singletonList(ID), 1,
+                Collections.singletonList(BE_PARAMETER_NAME));
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.query(
+                eq(connection),
+                anyString(),
+                any(),
+                eq(ID),
+                eq(2)))
+                .thenReturn(Arrays.asList(first, second));
+
+        // call test method
+        final Page<TestBE> actual = underTest.selectEntityPage(createConfig(logger), pageRequest,
+                testBE -> Collections.singletonList(testBE.getId()), TABLE_COLUMN_ID);
+
+        // assert result
+        assertThat(actual.getContent()).containsExactly(first);
+        assertThat(actual.getNextKey()).containsExactly(ID + 1);
+        assertThat(actual.hasNext()).isTrue();
+
+        // verify invocations
+        verify(queryRunner).query(eq(connection), stringArgumentCaptor.capture(), any(BasicBeanListHandler.class),
+                eq(ID), eq(2));
+
+        assertThat(stringArgumentCaptor.getValue())
+                .isEqualTo("SELECT table_id, table_name FROM table WHERE table_id >? ORDER BY table_id ASC LIMIT ? ;");
+    }
+
+
+    @Test
+    public void selectEntityPage_withLastPage_shouldReturnEmptyNextKey() throws SQLException {
+        // prepare test data
+        final TestBE first = new TestBE();
+        first.setId(ID);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.query(
+                eq(connection),
+                anyString(),
+                any(),
+                eq(3)))
+                .thenReturn(Collections.singletonList(first));
+
+        // call test method
+        final Page<TestBE> actual = underTest.selectEntityPage(createConfig(logger), PageRequest.first(2),
+                testBE -> Collections.singletonList(testBE.getId()), TABLE_COLUMN_ID);
+
+        // assert result
+        assertThat(actual.getContent()).containsExactly(first);
+        assertThat(actual.hasNext()).isFalse();
+
+        // verify invocations
+        verify(queryRunner).query(eq(connection),
+                eq("SELECT * FROM table ORDER BY table_id ASC LIMIT ? ;"), any(BasicBeanListHandler.class), eq(3));
+    }
+
+
+    @Test
+    public void getProjectedColumns_shouldIgnoreOrderOfFields() {
+        // prepare test data
+        final PageRequest pageRequest = new PageRequest(Collections.emptyList(), 1,
+                Arrays.asList(BE_PARAMETER_NAME, BE_PARAMETER_ID));
+        final PageRequest otherPageRequest = new PageRequest(Collections.emptyList(), 1,
+                Arrays.asList(BE_PARAMETER_ID, BE_PARAMETER_NAME));
+
+        // call test method
+        final String[] actual = BasicDAO.getProjectedColumns(createConfig(logger), pageRequest, TABLE_COLUMN_NAME);
+        final String[] otherActual = BasicDAO.getProjectedColumns(createConfig(logger), otherPageRequest,
+                TABLE_COLUMN_NAME);
+
+        // assert result
+        assertThat(actual).containsExactly(TABLE_COLUMN_NAME, TABLE_COLUMN_ID);
+        assertThat(otherActual).containsExactly(actual);
+    }
+
+
+    @Test
+    public void getProjectedColumns_withUnknownField_shouldThrowException() {
+        // prepare test data
+        final PageRequest pageRequest = new PageRequest(Collections.emptyList(), 1,
+                Collections.singletonList(PARAMETER));
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> BasicDAO.getProjectedColumns(createConfig(logger), pageRequest, TABLE_COLUMN_ID))
+                .withMessageContaining(PARAMETER);
+    }
+
+
     @Test
     public void selectEntityList_withSQLError_shouldThrowException() throws SQLException {
         // prepare test data
@@ -579,38 +691,302 @@ public class BasicDAOTest {
 
 
     @Test
-    public void logSQL() {
+    public void executeUpdate() throws SQLException {
         // prepare test data
+        final int affectedRows = 3;
+
         // configure mocks
-        when(logger.isInfoEnabled()).thenReturn(true);
+        when(transactionManager.getConnection()).thenReturn(connection);
+        // the parameter array selects the varargs overload, which is called by the executeUpdate method
+        when(queryRunner.update(
+                eq(connection),
+                eq(SQL_QUERY_WITH_PARAMETER),
+                new Object[]{eq(ID)}))
+                .thenReturn(affectedRows);
 
         // call test method
-        final String actual = underTest.logSQL(logger, SQL_QUERY);
+        final int actual = underTest.executeUpdate(createConfig(logger), SQL_QUERY_WITH_PARAMETER, ID);
 
         // assert result
-        assertThat(actual).isEqualTo(SQL_QUERY);
+        assertThat(actual).isEqualTo(affectedRows);
 
         // verify invocations
-        verify(logger).info(SQL_QUERY);
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+
+        verify(sqlStatementListener).onExecuted(argThat(statement -> "TestDAO".equals(statement.getDao())
+                && SQL_QUERY_WITH_PARAMETER.equals(statement.getSql())), anyLong(), eq(affectedRows), eq(false));
     }
 
 
     @Test
-    public void logSQL_withParameter() {
+    public void executeUpdate_withSQLError_shouldThrowException() throws SQLException {
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        doThrow(SQLException.class).when(queryRunner).update(
+                eq(connection),
+                anyString(),
+                any());
+
+        // call test method
+        assertThatExceptionOfType(TechnicalException.class)
+                .isThrownBy(() -> underTest.executeUpdate(createConfig(logger), SQL_QUERY_WITH_PARAMETER, ID));
+
+        // assert result
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+
+        verify(sqlStatementListener).onExecuted(any(), anyLong(), eq(0), eq(true));
+    }
+
+
+    @Test
+    public void insertEntityList() throws SQLException {
         // prepare test data
-        final String expected = SQL_QUERY_WITH_PARAMETER.replace("?", PARAMETER);
+        final TestBE first = new TestBE();
+        first.setName(NAME);
+        final TestBE second = new TestBE();
+        second.setName(NAME + "2");
+
+        final TestBE expected = new TestBE();
+        expected.setId(ID);
+        expected.setName(NAME);
+
+        final ArgumentCaptor<Object[][]> parameterCaptor = ArgumentCaptor.forClass(Object[][].class);
 
         // configure mocks
-        when(logger.isInfoEnabled()).thenReturn(true);
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.insertBatch(
+                eq(connection),
+                anyString(),
+                any(),
+                any(Object[][].class)))
+                .thenReturn(Arrays.asList(expected, expected));
 
         // call test method
-        final String actual = underTest.logSQL(logger, SQL_QUERY_WITH_PARAMETER, PARAMETER);
+        final List<TestBE> actual = underTest.insertEntityList(createConfig(logger), Arrays.asList(first, second));
 
         // assert result
-        assertThat(actual).isEqualTo(SQL_QUERY_WITH_PARAMETER);
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getId()).isEqualTo(ID);
 
         // verify invocations
-        verify(logger).info(expected);
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+
+        verify(queryRunner).insertBatch(eq(connection), stringArgumentCaptor.capture(),
+                any(BasicBeanListHandler.class), parameterCaptor.capture());
+
+        assertThat(stringArgumentCaptor.getValue())
+                .contains("INSERT INTO")
+                .contains(TABLE_NAME)
+                .contains(TABLE_COLUMN_NAME);
+        assertThat(parameterCaptor.getValue()).hasSize(2);
+        assertThat(parameterCaptor.getValue()[0]).containsExactly(NAME);
+        assertThat(parameterCaptor.getValue()[1]).containsExactly(NAME + "2");
+    }
+
+
+    @Test
+    public void insertEntityList_withoutEntities_shouldNotQuery() throws SQLException {
+        // call test method
+        final List<TestBE> actual = underTest.insertEntityList(createConfig(logger), Collections.emptyList());
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verifyZeroInteractions(transactionManager, queryRunner);
+    }
+
+
+    @Test
+    public void updateEntityList() throws SQLException {
+        // prepare test data
+        final TestBE first = new TestBE();
+        first.setId(ID);
+        first.setName(NAME);
+        final TestBE second = new TestBE();
+        second.setId(ID + 1);
+        second.setName(NAME);
+
+        final ArgumentCaptor<Object[][]> parameterCaptor = ArgumentCaptor.forClass(Object[][].class);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.batch(
+                eq(connection),
+                anyString(),
+                any(Object[][].class)))
+                .thenReturn(new int[]{1, 1});
+
+        // call test method
+        final int actual = underTest.updateEntityList(createConfig(logger), Arrays.asList(first, second),
+                BE_PARAMETER_ID);
+
+        // assert result
+        assertThat(actual).isEqualTo(2);
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+
+        verify(queryRunner).batch(eq(connection), stringArgumentCaptor.capture(), parameterCaptor.capture());
+
+        assertThat(stringArgumentCaptor.getValue())
+                .contains("UPDATE")
+                .contains(TABLE_NAME)
+                .contains(TABLE_COLUMN_ID)
+                .contains("WHERE");
+        assertThat(parameterCaptor.getValue()[0]).containsExactly(NAME, ID);
+        assertThat(parameterCaptor.getValue()[1]).containsExactly(NAME, ID + 1);
+    }
+
+
+    @Test
+    public void updateEntityList_withoutAffectedRow_shouldThrowException() throws SQLException {
+        // prepare test data
+        final TestBE first = new TestBE();
+        first.setId(ID);
+        first.setName(NAME);
+        final TestBE second = new TestBE();
+        second.setId(ID + 1);
+        second.setName(NAME);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.batch(
+                eq(connection),
+                anyString(),
+                any(Object[][].class)))
+                .thenReturn(new int[]{1, 0});
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.updateEntityList(createConfig(logger), Arrays.asList(first, second),
+                        BE_PARAMETER_ID))
+                .withMessageContaining("affected 0 rows");
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+        verify(transactionManager, never()).commit();
+    }
+
+
+    @Test
+    public void updateEntityList_withSQLError_shouldThrowException() throws SQLException {
+        // prepare test data
+        final TestBE expected = new TestBE();
+        expected.setId(ID);
+        expected.setName(NAME);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        doThrow(SQLException.class).when(queryRunner).batch(
+                eq(connection),
+                anyString(),
+                any(Object[][].class));
+
+        // call test method
+        assertThatExceptionOfType(TechnicalException.class)
+                .isThrownBy(() -> underTest.updateEntityList(createConfig(logger),
+                        Collections.singletonList(expected), BE_PARAMETER_ID));
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+    }
+
+
+    @Test
+    public void upsertEntityList() throws SQLException {
+        // prepare test data
+        final TestBE existing = new TestBE();
+        existing.setId(ID);
+        existing.setName(NAME);
+        final TestBE deleted = new TestBE();
+        deleted.setId(ID + 1);
+        deleted.setName(NAME);
+        final TestBE created = new TestBE();
+        created.setName(NAME);
+
+        final ArgumentCaptor<Object[][]> parameterCaptor = ArgumentCaptor.forClass(Object[][].class);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.batch(
+                eq(connection),
+                anyString(),
+                any(Object[][].class)))
+                .thenReturn(new int[]{1, 0});
+        when(queryRunner.insertBatch(
+                eq(connection),
+                anyString(),
+                any(),
+                any(Object[][].class)))
+                .thenReturn(Arrays.asList(created, deleted));
+
+        // call test method
+        final List<TestBE> actual = underTest.upsertEntityList(createConfig(logger),
+                Arrays.asList(existing, deleted, created), testBE -> testBE.getId() == 0L, testBE -> true,
+                BE_PARAMETER_ID);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+
+        verify(queryRunner).batch(eq(connection), anyString(), parameterCaptor.capture());
+        assertThat(parameterCaptor.getValue()).hasSize(2);
+
+        verify(queryRunner).insertBatch(eq(connection), anyString(), any(BasicBeanListHandler.class),
+                parameterCaptor.capture());
+        assertThat(parameterCaptor.getValue()).hasSize(2);
+    }
+
+
+    @Test
+    public void upsertEntityList_withoutInsertableEntity_shouldSkipInsert() throws SQLException {
+        // prepare test data
+        final TestBE existing = new TestBE();
+        existing.setId(ID);
+        existing.setName(NAME);
+        final TestBE deleted = new TestBE();
+        deleted.setId(ID + 1);
+        deleted.setName(NAME);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.batch(
+                eq(connection),
+                anyString(),
+                any(Object[][].class)))
+                .thenReturn(new int[]{1, 0});
+
+        // call test method
+        final List<TestBE> actual = underTest.upsertEntityList(createConfig(logger),
+                Arrays.asList(existing, deleted), testBE -> testBE.getId() == 0L, testBE -> false,
+                BE_PARAMETER_ID);
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verify(transactionManager).commit();
+        verify(queryRunner).batch(eq(connection), anyString(), any(Object[][].class));
+        verify(queryRunner, never()).insertBatch(any(Connection.class), anyString(), any(), any(Object[][].class));
     }
 
 
@@ -0,0 +1,141 @@
+package de.bogenliga.application.common.component.dao;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class RowMapperRegistryTest {
+
+    private static final long ID = 1234L;
+    private static final String NAME = "name";
+    private static final String TABLE_FIELD_ID = "test_id";
+    private static final String TABLE_FIELD_NAME = "test_name";
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private ResultSet resultSet;
+    @Mock
+    private ResultSetMetaData metaData;
+
+
+    private static Map<String, String> createFieldMapping() {
+        final Map<String, String> fieldMapping = new HashMap<>();
+        fieldMapping.put(TABLE_FIELD_ID, "id");
+        fieldMapping.put(TABLE_FIELD_NAME, "name");
+        return fieldMapping;
+    }
+
+
+    @Test
+    public void toBeanList() throws SQLException {
+        // prepare test data
+        final RowMapperRegistry underTest = RowMapperRegistry.forMapping(createFieldMapping());
+
+        // configure mocks
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(3);
+        when(metaData.getColumnLabel(1)).thenReturn(TABLE_FIELD_ID);
+        when(metaData.getColumnLabel(2)).thenReturn(TABLE_FIELD_NAME);
+        when(metaData.getColumnLabel(3)).thenReturn("unknown_column");
+        when(resultSet.getLong(1)).thenReturn(ID, ID + 1);
+        when(resultSet.getString(2)).thenReturn(NAME, null);
+
+        // call test method
+        final List<TestBE> actual = underTest.toBeanList(resultSet, TestBE.class);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getId()).isEqualTo(ID);
+        assertThat(actual.get(0).getName()).isEqualTo(NAME);
+        assertThat(actual.get(1).getId()).isEqualTo(ID + 1);
+        assertThat(actual.get(1).getName()).isNull();
+
+        // verify invocations
+        verify(resultSet, times(1)).getMetaData();
+        verify(resultSet, never()).getObject(3);
+    }
+
+
+    @Test
+    public void toBeanList_withoutRows_shouldReturnEmptyList() throws SQLException {
+        // prepare test data
+        final RowMapperRegistry underTest = RowMapperRegistry.forMapping(createFieldMapping());
+
+        // configure mocks
+        when(resultSet.next()).thenReturn(false);
+
+        // call test method
+        final List<TestBE> actual = underTest.toBeanList(resultSet, TestBE.class);
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verify(resultSet, never()).getMetaData();
+    }
+
+
+    @Test
+    public void toBean_withSameColumns_shouldReuseRowMapper() throws SQLException {
+        // prepare test data
+        final RowMapperRegistry underTest = RowMapperRegistry.forMapping(Collections.singletonMap("x_id", "id"));
+
+        // configure mocks
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("x_id");
+        when(resultSet.getLong(1)).thenReturn(ID);
+
+        // call test method
+        final TestBE first = underTest.toBean(resultSet, TestBE.class);
+        final TestBE second = underTest.toBean(resultSet, TestBE.class);
+
+        // assert result
+        assertThat(first.getId()).isEqualTo(ID);
+        assertThat(second).isNotSameAs(first);
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(RowMapperRegistry.forMapping(Collections.singletonMap("x_id", "id"))).isSameAs(underTest);
+    }
+
+
+    @Test
+    public void toBean_withManyColumnLists_shouldLimitCachedRowMappers() throws SQLException {
+        // prepare test data
+        final RowMapperRegistry underTest = RowMapperRegistry.forMapping(Collections.singletonMap("y_id", "id"));
+
+        // configure mocks
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("y_id");
+        when(resultSet.getLong(1)).thenReturn(ID);
+
+        // call test method
+        for (int i = 0; i <= RowMapperRegistry.MAX_ROW_MAPPERS; i++) {
+            when(metaData.getColumnLabel(2)).thenReturn("column_" + i);
+
+            final TestBE actual = underTest.toBean(resultSet, TestBE.class);
+
+            // assert result
+            assertThat(actual.getId()).isEqualTo(ID);
+        }
+
+        assertThat(underTest.size()).isEqualTo(RowMapperRegistry.MAX_ROW_MAPPERS);
+    }
+}
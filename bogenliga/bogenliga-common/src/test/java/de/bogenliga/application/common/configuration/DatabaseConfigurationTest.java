@@ -39,4 +39,40 @@ public class DatabaseConfigurationTest {
         assertThat(underTest.getPassword()).isEqualTo(PASSWORD);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void getPoolSettings_withoutConfiguration_shouldReturnDefaults() {
+        final DatabaseConfiguration underTest = new DatabaseConfiguration();
+
+        assertThat(underTest.getPoolMaxSize()).isEqualTo(DatabaseConfiguration.DEFAULT_POOL_MAX_SIZE);
+        assertThat(underTest.getPoolMinIdle()).isEqualTo(DatabaseConfiguration.DEFAULT_POOL_MIN_IDLE);
+        assertThat(underTest.getPoolConnectionTimeout())
+                .isEqualTo(DatabaseConfiguration.DEFAULT_POOL_CONNECTION_TIMEOUT);
+        assertThat(underTest.getPoolValidationTimeout())
+                .isEqualTo(DatabaseConfiguration.DEFAULT_POOL_VALIDATION_TIMEOUT);
+        assertThat(underTest.getPoolIdleTimeout()).isEqualTo(DatabaseConfiguration.DEFAULT_POOL_IDLE_TIMEOUT);
+        assertThat(underTest.getPoolLeakDetectionThreshold())
+                .isEqualTo(DatabaseConfiguration.DEFAULT_POOL_LEAK_DETECTION_THRESHOLD);
+    }
+
+
+    @Test
+    public void getPoolSettings() {
+        final DatabaseConfiguration underTest = new DatabaseConfiguration();
+
+        underTest.setPoolMaxSize(20);
+        underTest.setPoolMinIdle(30);
+        underTest.setPoolConnectionTimeout(1000);
+        underTest.setPoolValidationTimeout(1);
+        underTest.setPoolIdleTimeout(2000);
+        underTest.setPoolLeakDetectionThreshold(3000);
+
+        assertThat(underTest.getPoolMaxSize()).isEqualTo(20);
+        // min idle is limited by the max size
+        assertThat(underTest.getPoolMinIdle()).isEqualTo(20);
+        assertThat(underTest.getPoolConnectionTimeout()).isEqualTo(1000);
+        assertThat(underTest.getPoolValidationTimeout()).isEqualTo(1);
+        assertThat(underTest.getPoolIdleTimeout()).isEqualTo(2000);
+        assertThat(underTest.getPoolLeakDetectionThreshold()).isEqualTo(3000);
+    }
+}
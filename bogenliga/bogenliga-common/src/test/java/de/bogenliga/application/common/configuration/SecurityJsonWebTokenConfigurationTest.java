@@ -43,4 +43,28 @@ public class SecurityJsonWebTokenConfigurationTest {
 
         assertThat(underTest.getRefresh()).isEqualTo(refresh);
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void getCacheSize() {
+        final SecurityJsonWebTokenConfiguration underTest = new SecurityJsonWebTokenConfiguration();
+        assertThat(underTest.getCacheSize()).isEqualTo(SecurityJsonWebTokenConfiguration.DEFAULT_CACHE_SIZE);
+
+        final int cacheSize = 42;
+        underTest.setCacheSize(cacheSize);
+
+        assertThat(underTest.getCacheSize()).isEqualTo(cacheSize);
+    }
+
+
+    @Test
+    public void getCacheTtl() {
+        final SecurityJsonWebTokenConfiguration underTest = new SecurityJsonWebTokenConfiguration();
+        assertThat(underTest.getCacheTtl()).isEqualTo(SecurityJsonWebTokenConfiguration.DEFAULT_CACHE_TTL);
+
+        final long cacheTtl = 4711;
+        underTest.setCacheTtl(cacheTtl);
+
+        assertThat(underTest.getCacheTtl()).isEqualTo(cacheTtl);
+    }
+}
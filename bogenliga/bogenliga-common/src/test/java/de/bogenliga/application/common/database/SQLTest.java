@@ -294,4 +294,51 @@ public class SQLTest {
 
         // verify invocations
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void insertSQL_withNullValue_shouldIgnoreColumn() {
+        // prepare test data
+        final TestBE input = createBE();
+        input.setName(null);
+
+        // configure mocks
+        // call test method
+        final SQL.SQLWithParameter full = SQL.insertSQL(INPUT, TABLE_NAME, FIELD_MAPPING);
+        final SQL.SQLWithParameter actual = SQL.insertSQL(input, TABLE_NAME, FIELD_MAPPING);
+
+        // assert result
+        assertThat(full.getParameter()).hasSize(5);
+        assertThat(actual.getSql())
+                .isEqualTo(
+                        String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?);",
+                                TABLE_NAME, TABLE_FIELD_ACTIVE, TABLE_FIELD_READY, TABLE_FIELD_NUMBER,
+                                TABLE_FIELD_STATE));
+        assertThat(actual.getParameter())
+                .hasSize(4)
+                .containsExactly(ACTIVE, READY, NUMBER, STATE.name());
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void updateSQL_calledTwice_shouldReuseStatement() {
+        // prepare test data
+        final TestBE input = createBE();
+        input.setNumber(NUMBER + 1);
+
+        // configure mocks
+        // call test method
+        final SQL.SQLWithParameter first = SQL.updateSQL(INPUT, TABLE_NAME, new String[]{"id"}, FIELD_MAPPING);
+        final SQL.SQLWithParameter actual = SQL.updateSQL(input, TABLE_NAME, new String[]{"id"},
+                new HashMap<>(FIELD_MAPPING));
+
+        // assert result
+        assertThat(actual.getSql()).isSameAs(first.getSql());
+        assertThat(actual.getParameter())
+                .containsExactly(NAME, ACTIVE, READY, NUMBER + 1, STATE.name(), ID);
+
+        // verify invocations
+    }
+}
@@ -416,6 +416,18 @@ public class QueryBuilderTest {
     }
 
 
+    @Test
+    public void whereInValueList() {
+        this.queryBuilder.selectAll().from(TABLE_NAME)
+                .whereIn(DEFAULT_FIELD, 3)
+                .compose();
+        String builtQuery = this.queryBuilder.toString();
+        assertThat(builtQuery).contains(TABLE_NAME);
+        assertThat(builtQuery).contains(DEFAULT_FIELD + " IN (?, ?, ?)");
+        assertThat(builtQuery).contains(QueryBuilder.SQL_QUERY_TERMINATOR.trim());
+    }
+
+
     @Test
     public void whereInSubQuery() {
         this.queryBuilder.selectAll().from(TABLE_NAME)
@@ -560,4 +572,27 @@ public class QueryBuilderTest {
         assertThat(builtQuery).contains(QueryBuilder.SQL_FALSE_COMPARATOR.trim());
         assertThat(builtQuery).contains(QueryBuilder.SQL_QUERY_TERMINATOR.trim());
     }
+
+
+    @Test
+    public void keysetPagination() {
+        this.queryBuilder.selectAll()
+                .from(TABLE_NAME)
+                .whereGt(new String[]{DEFAULT_FIELD, "other_field"})
+                .orderByAsc(new String[]{DEFAULT_FIELD, "other_field"})
+                .limit()
+                .compose();
+        String builtQuery = this.queryBuilder.toString();
+        assertThat(builtQuery).isEqualTo(
+                "SELECT * FROM table WHERE (field, other_field) > (?, ?) ORDER BY field ASC, other_field ASC LIMIT ? ;");
+    }
+
+
+    @Test
+    public void testDuplicateLimit() {
+        this.queryBuilder.selectAll().from(TABLE_NAME).limit();
+        assertThatThrownBy(() -> {
+            this.queryBuilder.limit();
+        }).isInstanceOf(BusinessException.class);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package de.bogenliga.application.common.database.tracing;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.slf4j.Logger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class SqlTracerTest {
+    private static final String LOGGER_NAME = "de.bogenliga.application.business.user.impl.dao.UserDAO";
+    private static final String SQL_QUERY = "SELECT * FROM benutzer WHERE benutzer_email = ? AND benutzer_id = ?";
+    private static final String OTHER_SQL_QUERY = "UPDATE benutzer SET benutzer_active = false";
+    private static final Object[] PARAMETERS = {"secret@bogenliga.de", 1L};
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private Logger logger;
+    @Mock
+    private SqlStatementListener listener;
+    @Captor
+    private ArgumentCaptor<SqlStatement> statementCaptor;
+
+
+    @Before
+    public void initLogger() {
+        when(logger.getName()).thenReturn(LOGGER_NAME);
+    }
+
+
+    @Test
+    public void trace() throws SQLException {
+        // prepare test data
+        final SqlTracer underTest = new SqlTracer(1000, 1.0, 10);
+        underTest.addListener(listener);
+
+        // call test method
+        final List<String> actual = underTest.trace(logger, SQL_QUERY, PARAMETERS,
+                () -> Arrays.asList("a", "b"), List::size);
+        underTest.trace(logger, SQL_QUERY, PARAMETERS, () -> Arrays.asList("a", "b"), List::size);
+
+        // assert result
+        assertThat(actual).containsExactly("a", "b");
+        assertThat(underTest.getStatementCount()).isEqualTo(1);
+
+        // verify invocations
+        verify(listener, times(2)).onExecuted(statementCaptor.capture(), anyLong(), eq(2), eq(false));
+        assertThat(statementCaptor.getAllValues().get(0)).isSameAs(statementCaptor.getAllValues().get(1));
+
+        final SqlStatement statement = statementCaptor.getValue();
+        assertThat(statement.getDao()).isEqualTo("UserDAO");
+        assertThat(statement.getOperation()).isEqualTo("select");
+        assertThat(statement.getSql()).isEqualTo(SQL_QUERY);
+
+        verify(logger, never()).warn(anyString(), any(), any(), any(), any(), any(), any());
+    }
+
+
+    @Test
+    public void trace_withSQLException_shouldNotifyFailure() {
+        // prepare test data
+        final SqlTracer underTest = new SqlTracer(1000, 1.0, 10);
+        underTest.addListener(listener);
+
+        // call test method
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> underTest.trace(logger, SQL_QUERY, PARAMETERS, () -> {
+                    throw new SQLException("error");
+                }, result -> 1));
+
+        // verify invocations
+        verify(listener).onExecuted(any(SqlStatement.class), anyLong(), eq(0), eq(true));
+    }
+
+
+    @Test
+    public void trace_withSlowQuery_shouldLogRedactedParameters() throws SQLException {
+        // prepare test data
+        final SqlTracer underTest = new SqlTracer(0, 1.0, 10);
+        final ArgumentCaptor<Object> argumentCaptor = ArgumentCaptor.forClass(Object.class);
+
+        // call test method
+        underTest.trace(logger, SQL_QUERY, PARAMETERS, () -> 1, Integer::intValue);
+
+        // assert result
+
+        // verify invocations
+        verify(logger).warn(anyString(), argumentCaptor.capture(), argumentCaptor.capture(),
+                argumentCaptor.capture(), argumentCaptor.capture(), argumentCaptor.capture(),
+                argumentCaptor.capture());
+
+        assertThat(argumentCaptor.getAllValues())
+                .contains(SQL_QUERY, "[String, Long]")
+                .doesNotContain(PARAMETERS[0]);
+    }
+
+
+    @Test
+    public void trace_withoutSampledSlowQuery_shouldNotLog() throws SQLException {
+        // prepare test data
+        final SqlTracer underTest = new SqlTracer(0, 0.0, 10);
+
+        // call test method
+        underTest.trace(logger, SQL_QUERY, PARAMETERS, () -> 1, Integer::intValue);
+
+        // verify invocations
+        verify(logger, never()).warn(anyString(), any(), any(), any(), any(), any(), any());
+    }
+
+
+    @Test
+    public void trace_withMaxStatements_shouldTraceOtherStatementsTogether() throws SQLException {
+        // prepare test data
+        final SqlTracer underTest = new SqlTracer(1000, 1.0, 1);
+        underTest.addListener(listener);
+
+        // call test method
+        underTest.trace(logger, SQL_QUERY, PARAMETERS, () -> 1, Integer::intValue);
+        underTest.trace(logger, OTHER_SQL_QUERY, new Object[0], () -> 3, Integer::intValue);
+
+        // assert result
+        assertThat(underTest.getStatementCount()).isEqualTo(1);
+
+        // verify invocations
+        verify(listener).onExecuted(statementCaptor.capture(), anyLong(), eq(3), eq(false));
+        assertThat(statementCaptor.getValue().getId()).isEqualTo(SqlStatement.OTHER);
+        assertThat(statementCaptor.getValue().getDao()).isEqualTo("UserDAO");
+    }
+
+
+    @Test
+    public void traceBatch() throws SQLException {
+        // prepare test data
+        final SqlTracer underTest = new SqlTracer(1000, 1.0, 10);
+        underTest.addListener(listener);
+
+        // call test method
+        final int[] actual = underTest.traceBatch(logger, OTHER_SQL_QUERY, 2, () -> new int[] {1, 1},
+                rows -> rows.length);
+
+        // assert result
+        assertThat(actual).containsExactly(1, 1);
+
+        // verify invocations
+        verify(listener).onExecuted(statementCaptor.capture(), anyLong(), eq(2), eq(false));
+        assertThat(statementCaptor.getValue().getOperation()).isEqualTo("update");
+    }
+
+
+    @Test
+    public void redact() {
+        // call test method
+        final String actual = SqlTracer.redact(new Object[] {"secret", 1L, null});
+
+        // assert result
+        assertThat(actual).isEqualTo("[String, Long, null]");
+    }
+}
@@ -0,0 +1,240 @@
+package de.bogenliga.application.common.database.tx;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.common.configuration.DatabaseConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class ConnectionPoolTest {
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Connection otherConnection;
+
+    private DatabaseConfiguration databaseConfiguration;
+    private ConnectionPool underTest;
+
+
+    @Before
+    public void initUnderTest() {
+        databaseConfiguration = new DatabaseConfiguration();
+        databaseConfiguration.setPoolMaxSize(2);
+        databaseConfiguration.setPoolMinIdle(1);
+        databaseConfiguration.setPoolConnectionTimeout(10);
+        databaseConfiguration.setPoolIdleTimeout(1);
+
+        underTest = new ConnectionPool(dataSource, databaseConfiguration);
+    }
+
+
+    @After
+    public void closeUnderTest() {
+        underTest.close();
+    }
+
+
+    @Test
+    public void getConnection() throws SQLException {
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        final Connection actual = underTest.getConnection();
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(actual.isClosed()).isFalse();
+        assertThat(underTest.getActiveConnections()).isEqualTo(1);
+        assertThat(underTest.getIdleConnections()).isEqualTo(0);
+        assertThat(underTest.getBorrowCount()).isEqualTo(1);
+        assertThat(underTest.getCreatedCount()).isEqualTo(1);
+
+        // verify invocations
+        verify(dataSource).getConnection();
+    }
+
+
+    @Test
+    public void close_shouldReturnConnectionToPool() throws SQLException {
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // call test method
+        underTest.getConnection().close();
+        final Connection actual = underTest.getConnection();
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(underTest.getActiveConnections()).isEqualTo(1);
+        assertThat(underTest.getBorrowCount()).isEqualTo(2);
+        assertThat(underTest.getCreatedCount()).isEqualTo(1);
+
+        // verify invocations
+        verify(dataSource, times(1)).getConnection();
+        verify(connection, never()).close();
+    }
+
+
+    @Test
+    public void close_withOpenTransaction_shouldRollback() throws SQLException {
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        // call test method
+        underTest.getConnection().close();
+
+        // assert result
+        assertThat(underTest.getActiveConnections()).isEqualTo(0);
+        assertThat(underTest.getIdleConnections()).isEqualTo(1);
+
+        // verify invocations
+        verify(connection).rollback();
+        verify(connection, never()).close();
+    }
+
+
+    @Test
+    public void close_withReturnedConnection_shouldRejectFurtherUsage() throws SQLException {
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // call test method
+        final Connection actual = underTest.getConnection();
+        actual.close();
+        actual.close();
+
+        // assert result
+        assertThat(actual.isClosed()).isTrue();
+        assertThat(underTest.getIdleConnections()).isEqualTo(1);
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(actual::commit);
+
+        // verify invocations
+        verify(connection, never()).commit();
+    }
+
+
+    @Test
+    public void getConnection_withExhaustedPool_shouldThrowException() throws SQLException {
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection, otherConnection);
+
+        // call test method
+        underTest.getConnection();
+        underTest.getConnection();
+
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> underTest.getConnection())
+                .withMessageContaining("exhausted");
+
+        // assert result
+        assertThat(underTest.getActiveConnections()).isEqualTo(2);
+        assertThat(underTest.getTimeoutCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void getConnection_withConnectionProblem_shouldReleasePermit() throws SQLException {
+        // configure mocks
+        when(dataSource.getConnection()).thenThrow(SQLException.class).thenReturn(connection);
+
+        // call test method
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> underTest.getConnection());
+
+        final Connection actual = underTest.getConnection();
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(underTest.getActiveConnections()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void houseKeeping_shouldEvictIdleConnectionsAboveMinIdle() throws SQLException, InterruptedException {
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection, otherConnection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(otherConnection.getAutoCommit()).thenReturn(true);
+
+        final Connection first = underTest.getConnection();
+        final Connection second = underTest.getConnection();
+        first.close();
+        second.close();
+
+        Thread.sleep(5);
+
+        // call test method
+        underTest.houseKeeping();
+
+        // assert result
+        assertThat(underTest.getIdleConnections()).isEqualTo(1);
+        assertThat(underTest.getEvictedCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void houseKeeping_shouldReportLeakedConnections() throws SQLException, InterruptedException {
+        // prepare test data
+        underTest.close();
+        databaseConfiguration.setPoolLeakDetectionThreshold(1);
+        underTest = new ConnectionPool(dataSource, databaseConfiguration);
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        underTest.getConnection();
+
+        Thread.sleep(5);
+
+        // call test method
+        underTest.houseKeeping();
+        underTest.houseKeeping();
+
+        // assert result
+        assertThat(underTest.getLeakCount()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void close_shouldCloseIdleConnections() throws SQLException {
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        underTest.getConnection().close();
+
+        // call test method
+        underTest.close();
+
+        // assert result
+        assertThat(underTest.getIdleConnections()).isEqualTo(0);
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> underTest.getConnection())
+                .withMessageContaining("closed");
+
+        // verify invocations
+        verify(connection).close();
+    }
+}
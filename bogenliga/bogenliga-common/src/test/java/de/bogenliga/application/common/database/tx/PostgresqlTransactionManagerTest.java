@@ -36,6 +36,19 @@ public class PostgresqlTransactionManagerTest {
     }
 
 
+    @Test
+    public void getCreatedDataSource_withoutDataSource_shouldNotCreateDataSource() {
+        // prepare test data
+        underTest = new PostgresqlTransactionManager((DataSource) null);
+
+        // call test method
+        final DataSource actual = underTest.getCreatedDataSource();
+
+        // assert result
+        assertThat(actual).isNull();
+    }
+
+
     @Test
     public void isActive() {
         // prepare test data
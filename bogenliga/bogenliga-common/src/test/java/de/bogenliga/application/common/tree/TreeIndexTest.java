@@ -0,0 +1,130 @@
+package de.bogenliga.application.common.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
+ */
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class TreeIndexTest {
+
+    private static Long[] node(final long id, final Long parentId) {
+        return new Long[]{id, parentId};
+    }
+
+
+    private static TreeIndex<Long[]> index(final Long[]... nodes) {
+        return TreeIndex.of(Arrays.asList(nodes), node -> node[0], node -> node[1]);
+    }
+
+
+    private static Long[] ids(final List<Long[]> nodes) {
+        return nodes.stream().map(node -> node[0]).toArray(Long[]::new);
+    }
+
+
+    @Test
+    public void of() {
+        // prepare test data
+        // 1 -> 2 -> 4
+        //   -> 3
+        // 5
+        final TreeIndex<Long[]> underTest = index(node(4, 2L), node(3, 1L), node(2, 1L), node(1, null), node(5, null));
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(5);
+        assertThat(ids(underTest.getAll())).containsExactly(4L, 3L, 2L, 1L, 5L);
+        assertThat(ids(underTest.getRoots())).containsExactly(1L, 5L);
+
+        assertThat(underTest.getParent(4)[0]).isEqualTo(2L);
+        assertThat(underTest.getParent(1)).isNull();
+        assertThat(underTest.getLevel(1)).isZero();
+        assertThat(underTest.getLevel(4)).isEqualTo(2);
+        assertThat(underTest.getLevel(6)).isEqualTo(-1);
+
+        assertThat(underTest.getAncestorIds(4)).containsExactly(2L, 1L);
+        assertThat(ids(underTest.getAncestors(3))).containsExactly(1L);
+        assertThat(ids(underTest.getChildren(1))).containsExactly(3L, 2L);
+        assertThat(ids(underTest.getDescendants(1))).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(underTest.getDescendants(5)).isEmpty();
+
+        assertThat(underTest.isAncestor(1, 4)).isTrue();
+        assertThat(underTest.isAncestor(3, 4)).isFalse();
+        assertThat(underTest.isAncestor(4, 1)).isFalse();
+        assertThat(underTest.isAncestor(4, 4)).isFalse();
+    }
+
+
+    @Test
+    public void of_withCycleAndUnknownParent_shouldCreateRoots() {
+        // prepare test data
+        final TreeIndex<Long[]> underTest = index(node(1, 2L), node(2, 1L), node(3, 99L), node(4, 4L));
+
+        // assert result
+        assertThat(ids(underTest.getRoots())).containsExactly(3L, 4L, 1L);
+        assertThat(underTest.getAncestorIds(2)).containsExactly(1L);
+        assertThat(underTest.getAncestorIds(1)).isEmpty();
+        assertThat(underTest.getLevel(3)).isZero();
+        assertThat(underTest.getLevel(4)).isZero();
+    }
+
+
+    @Test
+    public void empty() {
+        // prepare test data
+        final TreeIndex<Long[]> underTest = TreeIndex.of(Collections.emptyList(), node -> node[0], node -> node[1]);
+
+        // assert result
+        assertThat(underTest.size()).isZero();
+        assertThat(TreeIndex.empty().getAll()).isEmpty();
+        assertThat(underTest.getAncestorIds(1)).isEmpty();
+        assertThat(underTest.contains(1)).isFalse();
+    }
+
+
+    @Test
+    public void treeIndexCache_invalidate_shouldRebuildIndex() {
+        // prepare test data
+        final TreeIndexCache<Long[]> underTest = new TreeIndexCache<>(node -> node[0], node -> node[1]);
+        final List<Long[]> nodes = Arrays.asList(node(1, null), node(2, 1L));
+
+        // call test method
+        final TreeIndex<Long[]> first = underTest.get(() -> nodes);
+        final TreeIndex<Long[]> cached = underTest.get(Collections::emptyList);
+        underTest.invalidate();
+        final TreeIndex<Long[]> rebuilt = underTest.get(Collections::emptyList);
+
+        // assert result
+        assertThat(cached).isSameAs(first);
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(rebuilt.size()).isZero();
+    }
+
+
+    @Test
+    public void treeIndexCache_invalidate_shouldInvalidateAgainAfterCommit() {
+        // prepare test data
+        final List<Runnable> afterCommitCallbacks = new ArrayList<>();
+        final TreeIndexCache<Long[]> underTest = new TreeIndexCache<>(node -> node[0], node -> node[1],
+                afterCommitCallbacks::add);
+        final List<Long[]> nodes = Arrays.asList(node(1, null), node(2, 1L));
+
+        // call test method
+        underTest.invalidate();
+
+        // another request loads the old hierarchy before the commit
+        final TreeIndex<Long[]> outdated = underTest.get(Collections::emptyList);
+        afterCommitCallbacks.forEach(Runnable::run);
+        final TreeIndex<Long[]> rebuilt = underTest.get(() -> nodes);
+
+        // assert result
+        assertThat(afterCommitCallbacks).hasSize(1);
+        assertThat(outdated.size()).isZero();
+        assertThat(rebuilt.size()).isEqualTo(2);
+    }
+}